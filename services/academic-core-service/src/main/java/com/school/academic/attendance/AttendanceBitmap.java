@@ -0,0 +1,115 @@
+package com.school.academic.attendance;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * One class section's attendance for one day, as three bitmaps indexed by roll number:
+ * who was marked, who was absent and who was late. Everyone marked and neither absent
+ * nor late was present. Counts are popcounts, so a day of any size is summarized
+ * without looking at individual students.
+ */
+public final class AttendanceBitmap {
+
+    /**
+     * Highest roll number a bitmap holds; the columns store up to 128 bytes each.
+     */
+    public static final int MAX_ROLL_NUMBER = 128 * Byte.SIZE - 1;
+
+    private final BitSet marked;
+    private final BitSet absent;
+    private final BitSet late;
+
+    private AttendanceBitmap(BitSet marked, BitSet absent, BitSet late) {
+        this.marked = marked;
+        this.absent = absent;
+        this.late = late;
+    }
+
+    /**
+     * Mark a roster: every roll number is present unless listed as absent or late.
+     *
+     * @throws IllegalArgumentException when a roll number is out of range, absent and late
+     *                                  at once, or not on the roster
+     */
+    public static AttendanceBitmap mark(Collection<Integer> roster, Collection<Integer> absentRollNumbers,
+                                        Collection<Integer> lateRollNumbers) {
+        BitSet marked = toBits(roster, "Roll number");
+        BitSet absent = toBits(absentRollNumbers, "Absent roll number");
+        BitSet late = toBits(lateRollNumbers, "Late roll number");
+        if (absent.intersects(late)) {
+            BitSet both = (BitSet) absent.clone();
+            both.and(late);
+            throw new IllegalArgumentException("Roll number " + both.nextSetBit(0) + " cannot be both absent and late");
+        }
+        BitSet unknown = (BitSet) absent.clone();
+        unknown.or(late);
+        unknown.andNot(marked);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Roll number " + unknown.nextSetBit(0) + " is not on the roster");
+        }
+        return new AttendanceBitmap(marked, absent, late);
+    }
+
+    /**
+     * Rebuild a day from its stored columns.
+     */
+    public static AttendanceBitmap fromBytes(byte[] marked, byte[] absent, byte[] late) {
+        return new AttendanceBitmap(BitSet.valueOf(marked), BitSet.valueOf(absent), BitSet.valueOf(late));
+    }
+
+    /**
+     * Status of a roll number, or null when it was not marked that day.
+     */
+    public AttendanceStatus statusOf(int rollNumber) {
+        if (rollNumber < 0 || !marked.get(rollNumber)) {
+            return null;
+        }
+        if (absent.get(rollNumber)) {
+            return AttendanceStatus.ABSENT;
+        }
+        return late.get(rollNumber) ? AttendanceStatus.LATE : AttendanceStatus.PRESENT;
+    }
+
+    public int markedCount() {
+        return marked.cardinality();
+    }
+
+    public int absentCount() {
+        return absent.cardinality();
+    }
+
+    public int lateCount() {
+        return late.cardinality();
+    }
+
+    public int presentCount() {
+        return markedCount() - absentCount() - lateCount();
+    }
+
+    public byte[] markedBytes() {
+        return marked.toByteArray();
+    }
+
+    public byte[] absentBytes() {
+        return absent.toByteArray();
+    }
+
+    public byte[] lateBytes() {
+        return late.toByteArray();
+    }
+
+    private static BitSet toBits(Collection<Integer> rollNumbers, String label) {
+        BitSet bits = new BitSet();
+        if (rollNumbers == null) {
+            return bits;
+        }
+        for (Integer rollNumber : rollNumbers) {
+            if (rollNumber == null || rollNumber < 1 || rollNumber > MAX_ROLL_NUMBER) {
+                throw new IllegalArgumentException(label + " must be between 1 and " + MAX_ROLL_NUMBER + ": " + rollNumber);
+            }
+            bits.set(rollNumber);
+        }
+        return bits;
+    }
+}
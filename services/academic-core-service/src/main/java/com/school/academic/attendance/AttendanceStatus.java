@@ -0,0 +1,10 @@
+package com.school.academic.attendance;
+
+/**
+ * How a student was marked on a day.
+ */
+public enum AttendanceStatus {
+    PRESENT,
+    ABSENT,
+    LATE
+}
@@ -0,0 +1,58 @@
+package com.school.academic.attendance;
+
+/**
+ * Running totals of marked days by status. A section adds whole days (popcounts);
+ * a student adds their own status per day.
+ */
+public class AttendanceTally {
+
+    private int marked;
+    private int present;
+    private int absent;
+    private int late;
+
+    public void add(AttendanceBitmap day) {
+        marked += day.markedCount();
+        present += day.presentCount();
+        absent += day.absentCount();
+        late += day.lateCount();
+    }
+
+    public void add(AttendanceStatus status) {
+        if (status == null) {
+            return;
+        }
+        marked++;
+        switch (status) {
+            case PRESENT -> present++;
+            case ABSENT -> absent++;
+            case LATE -> late++;
+        }
+    }
+
+    public int getMarked() {
+        return marked;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public int getAbsent() {
+        return absent;
+    }
+
+    public int getLate() {
+        return late;
+    }
+
+    /**
+     * Share of marked days attended (present or late), in percent with one decimal; null when nothing was marked.
+     */
+    public Double attendancePercentage() {
+        if (marked == 0) {
+            return null;
+        }
+        return Math.round((present + late) * 1000.0 / marked) / 10.0;
+    }
+}
@@ -0,0 +1,253 @@
+package com.school.academic.attendance;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Punches parsed from a biometric device export.
+ *
+ * Each line is {@code <staffCode><sep><yyyy-MM-dd HH:mm[:ss]>[<sep>...]} with a tab, comma
+ * or semicolon as separator; {@code /} and {@code T} are accepted in the timestamp, extra
+ * columns (device, direction, ...) are ignored, and blank lines, {@code #} comments and a
+ * header line are skipped. The buffer is read in place: staff codes are looked up from the
+ * bytes and timestamps are decoded from digits, so no String is created per line. A punch is
+ * packed into one long, dense staff index in the high bits and local epoch second in the low
+ * {@value #SECOND_BITS} bits, so sorting the array orders punches by staff, then time.
+ */
+public final class PunchFile {
+
+    private static final int SECOND_BITS = 34;
+    private static final long SECOND_MASK = (1L << SECOND_BITS) - 1;
+    private static final int MAX_REPORTED = 20;
+
+    private final StaffCodeIndex staffCodes;
+    private long[] punches = new long[1024];
+    private int size;
+    private int lines;
+    private int duplicates;
+    private int unknownStaffPunches;
+    private final Set<String> unknownStaffCodes = new LinkedHashSet<>();
+    private final List<Integer> malformedLines = new ArrayList<>();
+    private int malformedCount;
+
+    private PunchFile(StaffCodeIndex staffCodes) {
+        this.staffCodes = staffCodes;
+    }
+
+    /**
+     * Parse every line of {@code buffer} (position 0 to limit).
+     */
+    public static PunchFile parse(ByteBuffer buffer, StaffCodeIndex staffCodes) {
+        PunchFile file = new PunchFile(staffCodes);
+        int limit = buffer.limit();
+        int pos = 0;
+        // UTF-8 byte order mark
+        if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            pos = 3;
+        }
+        while (pos < limit) {
+            int end = pos;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int stop = end > pos && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            file.lines++;
+            file.parseLine(buffer, pos, stop);
+            pos = end + 1;
+        }
+        return file;
+    }
+
+    /**
+     * Sort punches and drop repeats: a punch by the same staff member within {@code debounceSeconds}
+     * of the last one kept (at least the same second) is a duplicate.
+     */
+    public void deduplicate(long debounceSeconds) {
+        Arrays.sort(punches, 0, size);
+        long window = Math.max(debounceSeconds, 1);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            long punch = punches[i];
+            if (kept > 0) {
+                long last = punches[kept - 1];
+                if (staffIndex(last) == staffIndex(punch) && second(punch) - second(last) < window) {
+                    duplicates++;
+                    continue;
+                }
+            }
+            punches[kept++] = punch;
+        }
+        size = kept;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long staffId(int i) {
+        return staffCodes.staffId(staffIndex(punches[i]));
+    }
+
+    public LocalDateTime punchedAt(int i) {
+        return LocalDateTime.ofEpochSecond(second(punches[i]), 0, ZoneOffset.UTC);
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getUnknownStaffPunches() {
+        return unknownStaffPunches;
+    }
+
+    /**
+     * The first {@value #MAX_REPORTED} distinct unknown staff codes.
+     */
+    public List<String> getUnknownStaffCodes() {
+        return List.copyOf(unknownStaffCodes);
+    }
+
+    public int getMalformedCount() {
+        return malformedCount;
+    }
+
+    /**
+     * Line numbers of the first {@value #MAX_REPORTED} malformed lines.
+     */
+    public List<Integer> getMalformedLines() {
+        return List.copyOf(malformedLines);
+    }
+
+    private void parseLine(ByteBuffer buffer, int from, int to) {
+        int start = skipBlanks(buffer, from, to);
+        if (start == to || buffer.get(start) == '#') {
+            return;
+        }
+        int codeEnd = start;
+        while (codeEnd < to && !isSeparator(buffer.get(codeEnd))) {
+            codeEnd++;
+        }
+        int codeStop = codeEnd;
+        while (codeStop > start && buffer.get(codeStop - 1) == ' ') {
+            codeStop--;
+        }
+        long second = codeEnd < to ? parseTimestamp(buffer, skipBlanks(buffer, codeEnd + 1, to), to) : -1;
+        if (second < 0 || codeStop == start) {
+            // A first line that is not a punch is the header
+            if (lines > 1) {
+                malformed();
+            }
+            return;
+        }
+        int staff = staffCodes.indexOf(buffer, start, codeStop);
+        if (staff < 0) {
+            unknownStaffPunches++;
+            if (unknownStaffCodes.size() < MAX_REPORTED) {
+                byte[] code = new byte[codeStop - start];
+                buffer.get(start, code);
+                unknownStaffCodes.add(new String(code, StandardCharsets.US_ASCII));
+            }
+            return;
+        }
+        if (size == punches.length) {
+            punches = Arrays.copyOf(punches, size * 2);
+        }
+        punches[size++] = ((long) staff << SECOND_BITS) | second;
+    }
+
+    private void malformed() {
+        malformedCount++;
+        if (malformedLines.size() < MAX_REPORTED) {
+            malformedLines.add(lines);
+        }
+    }
+
+    /**
+     * Local epoch second of {@code yyyy-MM-dd HH:mm[:ss]} at {@code from}, or -1 when it is not one.
+     */
+    private static long parseTimestamp(ByteBuffer buffer, int from, int to) {
+        if (to - from < 16) {
+            return -1;
+        }
+        int year = digits(buffer, from, 4);
+        int month = digits(buffer, from + 5, 2);
+        int day = digits(buffer, from + 8, 2);
+        int hour = digits(buffer, from + 11, 2);
+        int minute = digits(buffer, from + 14, 2);
+        int second = 0;
+        int end = from + 16;
+        if (end < to && buffer.get(end) == ':') {
+            second = digits(buffer, end + 1, to - end > 2 ? 2 : 0);
+            end += 3;
+        }
+        byte dateSeparator = buffer.get(from + 4);
+        byte timeSeparator = buffer.get(from + 10);
+        if (year < 2000 || year > 2199 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+                || (dateSeparator != '-' && dateSeparator != '/') || buffer.get(from + 7) != dateSeparator
+                || (timeSeparator != ' ' && timeSeparator != 'T') || buffer.get(from + 13) != ':'
+                || (end < to && !isSeparator(buffer.get(end)) && buffer.get(end) != ' ')) {
+            return -1;
+        }
+        return daysFromCivil(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+    }
+
+    private static int digits(ByteBuffer buffer, int from, int count) {
+        if (count == 0) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // Days since 1970-01-01 of a proleptic Gregorian date, without allocating a LocalDate
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    private static int skipBlanks(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) == ' ' || buffer.get(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == '\t' || b == ',' || b == ';';
+    }
+
+    private static int staffIndex(long punch) {
+        return (int) (punch >>> SECOND_BITS);
+    }
+
+    private static long second(long punch) {
+        return punch & SECOND_MASK;
+    }
+}
@@ -0,0 +1,89 @@
+package com.school.academic.attendance;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Staff codes resolved straight from file bytes: an open-addressing table keyed by the
+ * ASCII-uppercased code, so a punch line is matched without decoding it to a String.
+ * Each staff member also gets a dense index, used to pack punches into longs.
+ */
+public final class StaffCodeIndex {
+
+    private final byte[][] keys;
+    private final int[] slots;
+    private final long[] staffIds;
+    private final int mask;
+
+    private StaffCodeIndex(Map<String, Long> staffIdsByCode) {
+        int capacity = Integer.highestOneBit(Math.max(staffIdsByCode.size(), 1) * 4 - 1) << 1;
+        this.keys = new byte[capacity][];
+        this.slots = new int[capacity];
+        this.staffIds = new long[staffIdsByCode.size()];
+        this.mask = capacity - 1;
+        int index = 0;
+        for (Map.Entry<String, Long> entry : staffIdsByCode.entrySet()) {
+            byte[] key = entry.getKey().trim().toUpperCase().getBytes(StandardCharsets.US_ASCII);
+            int slot = hash(ByteBuffer.wrap(key), 0, key.length) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            slots[slot] = index;
+            staffIds[index++] = entry.getValue();
+        }
+    }
+
+    public static StaffCodeIndex of(Map<String, Long> staffIdsByCode) {
+        return new StaffCodeIndex(staffIdsByCode);
+    }
+
+    /**
+     * Dense index of the staff code in {@code buffer[from, to)}, or -1 when unknown.
+     */
+    public int indexOf(ByteBuffer buffer, int from, int to) {
+        int slot = hash(buffer, from, to) & mask;
+        while (keys[slot] != null) {
+            if (matches(keys[slot], buffer, from, to)) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public long staffId(int index) {
+        return staffIds[index];
+    }
+
+    public int size() {
+        return staffIds.length;
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int from, int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != upper(buffer.get(from + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the uppercased bytes
+    private static int hash(ByteBuffer buffer, int from, int to) {
+        int hash = 0x811c9dc5;
+        for (int i = from; i < to; i++) {
+            hash ^= upper(buffer.get(i));
+            hash *= 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static byte upper(byte b) {
+        return b >= 'a' && b <= 'z' ? (byte) (b - ('a' - 'A')) : b;
+    }
+}
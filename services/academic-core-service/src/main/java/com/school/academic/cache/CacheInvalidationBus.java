@@ -0,0 +1,109 @@
+package com.school.academic.cache;
+
+import com.school.academic.domain.CacheVersion;
+import com.school.academic.repository.CacheVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cluster-wide cache invalidation bus backed by the cache_version table.
+ *
+ * Writers call {@link #bump(CacheRegion)} inside their service transaction, so the
+ * version change commits atomically with the data change. Every node polls the
+ * (tiny) cache_version table and clears its local caches for any region whose
+ * version moved since the last poll. No external broker is involved.
+ *
+ * The last version seen per region is kept in {@link RegionVersions}. Region caches
+ * are {@link VersionedCache}s that stamp entries with those versions, so a value loaded
+ * before a clear and put back after it is ignored instead of living until the TTL.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final CacheVersionRepository cacheVersionRepository;
+    private final CacheManager cacheManager;
+    private final RegionVersions regionVersions;
+
+    public CacheInvalidationBus(CacheVersionRepository cacheVersionRepository, CacheManager cacheManager,
+                                RegionVersions regionVersions) {
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.cacheManager = cacheManager;
+        this.regionVersions = regionVersions;
+    }
+
+    /**
+     * Bump the version of a region in the caller's transaction.
+     * Local caches for the region are cleared once the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(CacheRegion region) {
+        cacheVersionRepository.incrementVersion(region.name());
+        long version = cacheVersionRepository.findVersionByRegion(region.name()).orElse(0L);
+        log.debug("Bumped cache region {} to version {}", region, version);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(region, version);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadVersions() {
+        poll();
+    }
+
+    /**
+     * Poll cache_version and clear local caches for regions changed by other nodes.
+     */
+    @Scheduled(fixedDelayString = "${academic.cache.invalidation.poll-interval:PT2S}",
+            initialDelayString = "${academic.cache.invalidation.poll-interval:PT2S}")
+    public void poll() {
+        try {
+            for (CacheVersion row : cacheVersionRepository.findAll()) {
+                CacheRegion region = toRegion(row.getRegion());
+                if (region != null) {
+                    apply(region, row.getVersion());
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Keep serving from the TTL-bounded caches; the next poll retries
+            log.warn("Cache version poll failed: {}", ex.getMessage());
+        }
+    }
+
+    void apply(CacheRegion region, long version) {
+        // Advance first: entries loaded from here on carry the new version, older ones are ignored
+        if (!regionVersions.advance(region, version)) {
+            return;
+        }
+        for (String cacheName : region.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Cache region {} advanced to version {}; local caches cleared", region, version);
+    }
+
+    private CacheRegion toRegion(String name) {
+        try {
+            return CacheRegion.valueOf(name);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
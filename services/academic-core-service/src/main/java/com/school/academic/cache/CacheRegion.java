@@ -0,0 +1,31 @@
+package com.school.academic.cache;
+
+import com.school.academic.config.CacheConfig;
+
+import java.util.List;
+
+/**
+ * Cache regions tracked by the cluster-wide invalidation bus.
+ * Each region has one row in cache_version and maps to the local caches it invalidates.
+ */
+public enum CacheRegion {
+    ACADEMIC_YEARS(CacheConfig.ACADEMIC_YEARS, CacheConfig.ACTIVE_ACADEMIC_YEAR),
+    CLASSES(CacheConfig.CLASSES),
+    SECTIONS(CacheConfig.SECTIONS),
+    CLASS_SECTIONS(CacheConfig.CLASS_SECTIONS, CacheConfig.WORKLOAD_MODELS),
+    SUBJECTS(CacheConfig.SUBJECTS),
+    SUBJECT_ASSIGNMENTS(CacheConfig.WORKLOAD_MODELS),
+    STAFF(CacheConfig.WORKLOAD_MODELS),
+    STAFF_ASSIGNMENTS(CacheConfig.WORKLOAD_MODELS),
+    CLASSROOMS;
+
+    private final List<String> cacheNames;
+
+    CacheRegion(String... cacheNames) {
+        this.cacheNames = List.of(cacheNames);
+    }
+
+    public List<String> getCacheNames() {
+        return cacheNames;
+    }
+}
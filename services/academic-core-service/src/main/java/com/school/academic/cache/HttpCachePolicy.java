@@ -0,0 +1,30 @@
+package com.school.academic.cache;
+
+import org.springframework.http.CacheControl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache-Control policy per resource type for versioned GET endpoints.
+ */
+public enum HttpCachePolicy {
+
+    /** Academic years, classes, sections, subjects: change a few times a year. */
+    REFERENCE_DATA(CacheControl.maxAge(5, TimeUnit.MINUTES).mustRevalidate()),
+
+    /** Class sections, subject assignments, classrooms: change during term setup. */
+    STRUCTURE(CacheControl.maxAge(1, TimeUnit.MINUTES).mustRevalidate()),
+
+    /** Staff profiles and assignments: personal data, always revalidate and never share. */
+    PERSONNEL(CacheControl.noCache().cachePrivate());
+
+    private final CacheControl cacheControl;
+
+    HttpCachePolicy(CacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    public CacheControl getCacheControl() {
+        return cacheControl;
+    }
+}
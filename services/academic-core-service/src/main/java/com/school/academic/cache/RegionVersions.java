@@ -0,0 +1,47 @@
+package com.school.academic.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Last cache_version seen on this node for each region.
+ *
+ * Advanced by {@link CacheInvalidationBus} when it polls or commits a bump, and read by
+ * {@link VersionedCache} to stamp and check cache entries. Kept apart from the bus so the
+ * cache manager can depend on it without depending on the bus.
+ */
+@Component
+public class RegionVersions {
+
+    private final Map<CacheRegion, Long> versions = new EnumMap<>(CacheRegion.class);
+
+    /**
+     * Move a region forward to the given version.
+     *
+     * @return true if the version advanced, false if it was already known
+     */
+    public synchronized boolean advance(CacheRegion region, long version) {
+        Long known = versions.get(region);
+        if (known != null && known >= version) {
+            return false;
+        }
+        versions.put(region, version);
+        return true;
+    }
+
+    /**
+     * Generation of a local cache: the sum of the known versions of every region that clears
+     * it. Versions only grow, so the generation grows whenever any of those regions moves.
+     */
+    public synchronized long generation(String cacheName) {
+        long generation = 0;
+        for (CacheRegion region : CacheRegion.values()) {
+            if (region.getCacheNames().contains(cacheName)) {
+                generation += versions.getOrDefault(region, 0L);
+            }
+        }
+        return generation;
+    }
+}
@@ -0,0 +1,103 @@
+package com.school.academic.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that stamps every entry with the generation of its cache (see
+ * {@link RegionVersions#generation(String)}) and ignores entries stamped before the
+ * current one.
+ *
+ * Clearing a cache alone is not enough: a read that loaded the old rows before another
+ * node committed can put them back after the poll has cleared the cache, and they would
+ * then be served until the TTL expires. Because the generation is taken before the value
+ * is loaded, such an entry carries the old generation and is treated as a miss.
+ *
+ * Region caches are read through {@code @Cacheable(sync = true)}, so Spring calls
+ * {@link #get(Object, Callable)} and the generation is taken before the load. A plain
+ * {@link #put} can only stamp the generation current at the time of the put.
+ */
+public class VersionedCache implements Cache {
+
+    private final Cache delegate;
+    private final RegionVersions regionVersions;
+
+    public VersionedCache(Cache delegate, RegionVersions regionVersions) {
+        this.delegate = delegate;
+        this.regionVersions = regionVersions;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Stamped stamped = lookup(key);
+        return stamped != null ? new SimpleValueWrapper(stamped.value()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long generation = regionVersions.generation(getName());
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        delegate.put(key, new Stamped(value, generation));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Stamped(value, regionVersions.generation(getName())));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private Stamped lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || !(wrapper.get() instanceof Stamped stamped)) {
+            return null;
+        }
+        // Loaded before the regions it depends on last moved
+        return stamped.generation() >= regionVersions.generation(getName()) ? stamped : null;
+    }
+
+    private record Stamped(Object value, long generation) {
+    }
+}
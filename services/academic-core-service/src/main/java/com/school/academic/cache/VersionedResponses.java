@@ -0,0 +1,111 @@
+package com.school.academic.cache;
+
+import com.school.academic.domain.CacheVersion;
+import com.school.academic.repository.CacheVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Builds conditional GET responses from per-aggregate version counters.
+ *
+ * The strong ETag is derived from the cache_version counters of the regions a
+ * response depends on, never from the serialized body. The counters are read from
+ * the database on every request (a primary-key lookup of a few rows), not from this
+ * node's last poll, so every replica returns the same ETag as soon as a write has
+ * committed. A region found ahead of this node's caches is applied before the body
+ * is built, so the body is never older than its ETag. A matching If-None-Match
+ * returns 304 before the body supplier runs.
+ */
+@Component
+public class VersionedResponses {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionedResponses.class);
+
+    private final CacheVersionRepository cacheVersionRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public VersionedResponses(CacheVersionRepository cacheVersionRepository,
+                              CacheInvalidationBus cacheInvalidationBus) {
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    public <T> ResponseEntity<T> ok(String ifNoneMatch, HttpCachePolicy policy,
+                                    Supplier<T> body, CacheRegion... regions) {
+        String etag = entityTag(regions);
+        if (etag == null) {
+            // Versions could not be read: serve uncached rather than risk a false 304
+            return ResponseEntity.ok().cacheControl(policy.getCacheControl()).body(body.get());
+        }
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(policy.getCacheControl())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(policy.getCacheControl())
+                .body(body.get());
+    }
+
+    /**
+     * Strong ETag of the form "v1.v2.vN", one counter per region in argument order.
+     * A region without a row counts as version 0.
+     */
+    String entityTag(CacheRegion... regions) {
+        Map<CacheRegion, Long> versions = new EnumMap<>(CacheRegion.class);
+        try {
+            for (CacheVersion row : cacheVersionRepository.findByRegionIn(
+                    Arrays.stream(regions).map(CacheRegion::name).toList())) {
+                versions.put(CacheRegion.valueOf(row.getRegion()), row.getVersion());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Cache version lookup failed: {}", ex.getMessage());
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder("\"");
+        for (int i = 0; i < regions.length; i++) {
+            long version = versions.getOrDefault(regions[i], 0L);
+            // Clears this node's caches if the poll has not seen the version yet
+            cacheInvalidationBus.apply(regions[i], version);
+            if (i > 0) {
+                tag.append('.');
+            }
+            tag.append(version);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Weak comparison as allowed for If-None-Match on GET (RFC 9110 13.1.2).
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.school.academic.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Executor for every asynchronous MVC request in the application.
+ *
+ * {@code StreamingResponseBody} responses are written on this executor after the
+ * controller returns: today the {@code /export} downloads and the report-card ZIP.
+ * They share a small pool of their own so a burst of large downloads queues up here
+ * instead of sizing or starving the application task executor, and all of them are
+ * bound by {@code spring.mvc.async.request-timeout}. A new async endpoint lands on the
+ * same pool and timeout, so size both for the slowest of them.
+ *
+ * The pool is deliberately not a bean: an {@code Executor} bean would replace Spring
+ * Boot's {@code applicationTaskExecutor}.
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskExecutor asyncRequestExecutor = new ThreadPoolTaskExecutor();
+
+    public AsyncRequestConfig(@Value("${academic.async-requests.max-concurrency:4}") int maxConcurrency,
+                              @Value("${academic.async-requests.queue-capacity:50}") int queueCapacity) {
+        asyncRequestExecutor.setCorePoolSize(maxConcurrency);
+        asyncRequestExecutor.setMaxPoolSize(maxConcurrency);
+        asyncRequestExecutor.setQueueCapacity(queueCapacity);
+        asyncRequestExecutor.setThreadNamePrefix("async-request-");
+        asyncRequestExecutor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncRequestExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        asyncRequestExecutor.shutdown();
+    }
+}
@@ -0,0 +1,115 @@
+package com.school.academic.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.cache.RegionVersions;
+import com.school.academic.cache.VersionedCache;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache configuration for academic reference data.
+ *
+ * Academic years, classes, sections, class sections and subjects are read on
+ * every dropdown render but change only a handful of times a year. They are
+ * served from bounded Caffeine caches and cleared by CacheInvalidationBus once
+ * the transaction that changed them has committed. Only DTOs and ids are cached,
+ * never JPA entities. Caches cleared by a {@link CacheRegion} are wrapped in a
+ * {@link VersionedCache}, so a value loaded before a clear cannot outlive it.
+ *
+ * All caches record statistics, so Spring Boot binds them to Micrometer and the
+ * hit ratio is available on /actuator/prometheus as
+ * cache_gets_total{cache="...",result="hit|miss"}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ACADEMIC_YEARS = "academicYears";
+    public static final String ACTIVE_ACADEMIC_YEAR = "activeAcademicYear";
+    public static final String CLASSES = "classes";
+    public static final String SECTIONS = "sections";
+    public static final String CLASS_SECTIONS = "classSections";
+    public static final String SUBJECTS = "subjects";
+    public static final String FRONT_OFFICE_COUNTS = "frontOfficeCounts";
+    public static final String WORKLOAD_MODELS = "workloadModels";
+
+    @Bean
+    public CacheManager cacheManager(
+            RegionVersions regionVersions,
+            @Value("${academic.cache.reference-data.ttl:PT6H}") Duration ttl,
+            @Value("${academic.cache.reference-data.maximum-size:16}") long maximumSize,
+            @Value("${academic.cache.class-sections.maximum-size:256}") long classSectionsMaximumSize,
+            @Value("${academic.cache.front-office-counts.ttl:PT1M}") Duration frontOfficeCountsTtl,
+            @Value("${academic.cache.front-office-counts.maximum-size:1024}") long frontOfficeCountsMaximumSize) {
+
+        Set<String> regionCaches = Arrays.stream(CacheRegion.values())
+                .flatMap(region -> region.getCacheNames().stream())
+                .collect(Collectors.toSet());
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Cache adapted = super.adaptCaffeineCache(name, cache);
+                return regionCaches.contains(name) ? new VersionedCache(adapted, regionVersions) : adapted;
+            }
+        };
+        cacheManager.setCaffeine(caffeine(ttl, maximumSize));
+
+        // Single-key lookups: one entry per cache is the steady state
+        cacheManager.registerCustomCache(ACADEMIC_YEARS, caffeine(ttl, maximumSize).build());
+        cacheManager.registerCustomCache(ACTIVE_ACADEMIC_YEAR, caffeine(ttl, maximumSize).build());
+        cacheManager.registerCustomCache(CLASSES, caffeine(ttl, maximumSize).build());
+        cacheManager.registerCustomCache(SECTIONS, caffeine(ttl, maximumSize).build());
+        cacheManager.registerCustomCache(SUBJECTS, caffeine(ttl, maximumSize).build());
+
+        // Keyed by (academicYearId, classId): one entry per year/class filter combination
+        cacheManager.registerCustomCache(CLASS_SECTIONS, caffeine(ttl, classSectionsMaximumSize).build());
+
+        // Teaching-load model per academic year, cleared with the regions it is built from
+        cacheManager.registerCustomCache(WORKLOAD_MODELS, caffeine(ttl, maximumSize).build());
+
+        // Approximate front-office list totals, keyed by entity and filter values; short TTL, no eviction
+        cacheManager.registerCustomCache(FRONT_OFFICE_COUNTS,
+                caffeine(frontOfficeCountsTtl, frontOfficeCountsMaximumSize).build());
+
+        return cacheManager;
+    }
+
+    /**
+     * Binds hit/miss metrics for versioned caches, which Spring Boot's Caffeine binder does not
+     * recognise because they wrap the CaffeineCache.
+     */
+    @Bean
+    public CacheMeterBinderProvider<VersionedCache> versionedCacheMeterBinderProvider() {
+        return new CacheMeterBinderProvider<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public MeterBinder getMeterBinder(VersionedCache cache, Iterable<Tag> tags) {
+                return new CaffeineCacheMetrics<>(
+                        (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache(),
+                        cache.getName(), tags);
+            }
+        };
+    }
+
+    private Caffeine<Object, Object> caffeine(Duration ttl, long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats();
+    }
+}
@@ -0,0 +1,12 @@
+package com.school.academic.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. cache version polling).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
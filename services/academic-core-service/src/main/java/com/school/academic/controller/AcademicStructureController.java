@@ -1,17 +1,24 @@
 package com.school.academic.controller;
 
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.cache.HttpCachePolicy;
+import com.school.academic.cache.VersionedResponses;
+import com.school.academic.dto.request.AcademicYearRolloverRequest;
 import com.school.academic.dto.request.CreateAcademicYearRequest;
 import com.school.academic.dto.request.CreateClassRequest;
 import com.school.academic.dto.request.CreateClassSectionRequest;
 import com.school.academic.dto.request.CreateSectionRequest;
 import com.school.academic.dto.request.UpdateClassSectionRequest;
 import com.school.academic.dto.response.AcademicYearResponse;
+import com.school.academic.dto.response.AcademicYearRolloverResponse;
 import com.school.academic.dto.response.ClassResponse;
 import com.school.academic.dto.response.ClassSectionResponse;
 import com.school.academic.dto.response.SectionResponse;
 import com.school.academic.service.AcademicStructureService;
+import com.school.academic.service.AcademicYearRolloverService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,16 +32,24 @@ import java.util.UUID;
 public class AcademicStructureController {
 
     private final AcademicStructureService academicStructureService;
+    private final AcademicYearRolloverService academicYearRolloverService;
+    private final VersionedResponses versionedResponses;
 
-    public AcademicStructureController(AcademicStructureService academicStructureService) {
+    public AcademicStructureController(AcademicStructureService academicStructureService,
+                                       AcademicYearRolloverService academicYearRolloverService,
+                                       VersionedResponses versionedResponses) {
         this.academicStructureService = academicStructureService;
+        this.academicYearRolloverService = academicYearRolloverService;
+        this.versionedResponses = versionedResponses;
     }
 
     // Academic Years
     @GetMapping("/academic-years")
-    public ResponseEntity<List<AcademicYearResponse>> listAcademicYears() {
-        List<AcademicYearResponse> years = academicStructureService.listAcademicYears();
-        return ResponseEntity.ok(years);
+    public ResponseEntity<List<AcademicYearResponse>> listAcademicYears(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.REFERENCE_DATA,
+                academicStructureService::listAcademicYears,
+                CacheRegion.ACADEMIC_YEARS);
     }
 
     @PostMapping("/academic-years")
@@ -43,11 +58,21 @@ public class AcademicStructureController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/academic-years/{targetAcademicYearId}/rollover")
+    public ResponseEntity<AcademicYearRolloverResponse> rolloverAcademicYear(
+            @PathVariable UUID targetAcademicYearId,
+            @Valid @RequestBody AcademicYearRolloverRequest request) {
+        AcademicYearRolloverResponse response = academicYearRolloverService.rollover(targetAcademicYearId, request);
+        return ResponseEntity.ok(response);
+    }
+
     // Classes
     @GetMapping("/classes")
-    public ResponseEntity<List<ClassResponse>> listClasses() {
-        List<ClassResponse> classes = academicStructureService.listClasses();
-        return ResponseEntity.ok(classes);
+    public ResponseEntity<List<ClassResponse>> listClasses(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.REFERENCE_DATA,
+                academicStructureService::listClasses,
+                CacheRegion.CLASSES);
     }
 
     @PostMapping("/classes")
@@ -58,9 +83,11 @@ public class AcademicStructureController {
 
     // Sections
     @GetMapping("/sections")
-    public ResponseEntity<List<SectionResponse>> listSections() {
-        List<SectionResponse> sections = academicStructureService.listSections();
-        return ResponseEntity.ok(sections);
+    public ResponseEntity<List<SectionResponse>> listSections(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.REFERENCE_DATA,
+                academicStructureService::listSections,
+                CacheRegion.SECTIONS);
     }
 
     @PostMapping("/sections")
@@ -73,9 +100,11 @@ public class AcademicStructureController {
     @GetMapping("/class-sections")
     public ResponseEntity<List<ClassSectionResponse>> listClassSections(
             @RequestParam UUID academicYearId,
-            @RequestParam(required = false) UUID classId) {
-        List<ClassSectionResponse> classSections = academicStructureService.listClassSections(academicYearId, classId);
-        return ResponseEntity.ok(classSections);
+            @RequestParam(required = false) UUID classId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.STRUCTURE,
+                () -> academicStructureService.listClassSections(academicYearId, classId),
+                CacheRegion.CLASS_SECTIONS, CacheRegion.CLASSES, CacheRegion.SECTIONS, CacheRegion.ACADEMIC_YEARS);
     }
 
     @PostMapping("/class-sections")
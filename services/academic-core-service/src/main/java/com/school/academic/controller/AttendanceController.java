@@ -0,0 +1,59 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.MarkAttendanceRequest;
+import com.school.academic.dto.response.AttendanceDayResponse;
+import com.school.academic.dto.response.SectionAttendanceSummaryResponse;
+import com.school.academic.dto.response.StudentAttendanceSummaryResponse;
+import com.school.academic.service.AttendanceService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/attendance")
+@Tag(name = "Attendance", description = "Daily student attendance")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    public AttendanceController(AttendanceService attendanceService) {
+        this.attendanceService = attendanceService;
+    }
+
+    @PutMapping("/class-sections/{classSectionId}/days/{date}")
+    public ResponseEntity<AttendanceDayResponse> markAttendance(
+            @PathVariable UUID classSectionId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody MarkAttendanceRequest request) {
+        return ResponseEntity.ok(attendanceService.markAttendance(classSectionId, date, request));
+    }
+
+    @GetMapping("/class-sections/{classSectionId}/days/{date}")
+    public ResponseEntity<AttendanceDayResponse> getAttendance(
+            @PathVariable UUID classSectionId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(attendanceService.getAttendance(classSectionId, date));
+    }
+
+    @GetMapping("/class-sections/{classSectionId}/summary")
+    public ResponseEntity<SectionAttendanceSummaryResponse> getSectionSummary(
+            @PathVariable UUID classSectionId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(attendanceService.getSectionSummary(classSectionId, fromDate, toDate));
+    }
+
+    @GetMapping("/students/{studentId}/summary")
+    public ResponseEntity<StudentAttendanceSummaryResponse> getStudentSummary(
+            @PathVariable UUID studentId,
+            @RequestParam UUID academicYearId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        return ResponseEntity.ok(attendanceService.getStudentSummary(studentId, academicYearId, fromDate, toDate));
+    }
+}
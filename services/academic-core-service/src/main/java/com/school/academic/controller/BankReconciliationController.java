@@ -0,0 +1,69 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.PostReviewItemRequest;
+import com.school.academic.dto.response.BankStatementRunResponse;
+import com.school.academic.dto.response.PaymentReviewItemResponse;
+import com.school.academic.service.BankReconciliationService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/fees")
+@Tag(name = "Bank Reconciliation", description = "Bank statement reconciliation and the payment review queue")
+public class BankReconciliationController {
+
+    private final BankReconciliationService bankReconciliationService;
+
+    public BankReconciliationController(BankReconciliationService bankReconciliationService) {
+        this.bankReconciliationService = bankReconciliationService;
+    }
+
+    /**
+     * Reconcile a bank statement sent as the raw request body.
+     */
+    @PostMapping(value = "/bank-statements",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE, "text/csv"})
+    public ResponseEntity<BankStatementRunResponse> reconcile(
+            @RequestParam(required = false) String fileName,
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bankReconciliationService.reconcile(request.getInputStream(), fileName, format));
+    }
+
+    @GetMapping("/bank-statements")
+    public ResponseEntity<List<BankStatementRunResponse>> getRuns() {
+        return ResponseEntity.ok(bankReconciliationService.getRuns());
+    }
+
+    @GetMapping("/bank-statements/{runId}")
+    public ResponseEntity<BankStatementRunResponse> getRun(@PathVariable UUID runId) {
+        return ResponseEntity.ok(bankReconciliationService.getRun(runId));
+    }
+
+    @GetMapping("/payment-reviews")
+    public ResponseEntity<List<PaymentReviewItemResponse>> getReviewItems(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID statementRunId) {
+        return ResponseEntity.ok(bankReconciliationService.getReviewItems(status, statementRunId));
+    }
+
+    @PostMapping("/payment-reviews/{reviewItemId}/post")
+    public ResponseEntity<PaymentReviewItemResponse> postReviewItem(
+            @PathVariable UUID reviewItemId,
+            @Valid @RequestBody PostReviewItemRequest request) {
+        return ResponseEntity.ok(bankReconciliationService.postReviewItem(reviewItemId, request));
+    }
+
+    @PostMapping("/payment-reviews/{reviewItemId}/dismiss")
+    public ResponseEntity<PaymentReviewItemResponse> dismissReviewItem(@PathVariable UUID reviewItemId) {
+        return ResponseEntity.ok(bankReconciliationService.dismissReviewItem(reviewItemId));
+    }
+}
@@ -1,10 +1,14 @@
 package com.school.academic.controller;
 
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.cache.HttpCachePolicy;
+import com.school.academic.cache.VersionedResponses;
 import com.school.academic.dto.request.CreateClassroomRequest;
 import com.school.academic.dto.response.ClassroomResponse;
 import com.school.academic.service.ClassroomService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,15 +21,20 @@ import java.util.List;
 public class ClassroomController {
 
     private final ClassroomService classroomService;
+    private final VersionedResponses versionedResponses;
 
-    public ClassroomController(ClassroomService classroomService) {
+    public ClassroomController(ClassroomService classroomService,
+                               VersionedResponses versionedResponses) {
         this.classroomService = classroomService;
+        this.versionedResponses = versionedResponses;
     }
 
     @GetMapping
-    public ResponseEntity<List<ClassroomResponse>> listClassrooms() {
-        List<ClassroomResponse> classrooms = classroomService.listClassrooms();
-        return ResponseEntity.ok(classrooms);
+    public ResponseEntity<List<ClassroomResponse>> listClassrooms(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.STRUCTURE,
+                classroomService::listClassrooms,
+                CacheRegion.CLASSROOMS);
     }
 
     @PostMapping
@@ -1,14 +1,19 @@
 package com.school.academic.controller;
 
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.cache.HttpCachePolicy;
+import com.school.academic.cache.VersionedResponses;
 import com.school.academic.dto.request.CreateStaffAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectRequest;
+import com.school.academic.dto.request.UpdateSubjectAssignmentRequest;
 import com.school.academic.dto.response.StaffAssignmentResponse;
 import com.school.academic.dto.response.SubjectAssignmentResponse;
 import com.school.academic.dto.response.SubjectResponse;
 import com.school.academic.service.CurriculumService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,16 +27,21 @@ import java.util.UUID;
 public class CurriculumController {
 
     private final CurriculumService curriculumService;
+    private final VersionedResponses versionedResponses;
 
-    public CurriculumController(CurriculumService curriculumService) {
+    public CurriculumController(CurriculumService curriculumService,
+                                VersionedResponses versionedResponses) {
         this.curriculumService = curriculumService;
+        this.versionedResponses = versionedResponses;
     }
 
     // Subjects
     @GetMapping("/subjects")
-    public ResponseEntity<List<SubjectResponse>> listSubjects() {
-        List<SubjectResponse> subjects = curriculumService.listSubjects();
-        return ResponseEntity.ok(subjects);
+    public ResponseEntity<List<SubjectResponse>> listSubjects(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.REFERENCE_DATA,
+                curriculumService::listSubjects,
+                CacheRegion.SUBJECTS);
     }
 
     @PostMapping("/subjects")
@@ -44,9 +54,11 @@ public class CurriculumController {
     @GetMapping("/curriculum/subject-assignments")
     public ResponseEntity<List<SubjectAssignmentResponse>> listSubjectAssignments(
             @RequestParam UUID academicYearId,
-            @RequestParam UUID classId) {
-        List<SubjectAssignmentResponse> assignments = curriculumService.listSubjectAssignments(academicYearId, classId);
-        return ResponseEntity.ok(assignments);
+            @RequestParam UUID classId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.STRUCTURE,
+                () -> curriculumService.listSubjectAssignments(academicYearId, classId),
+                CacheRegion.SUBJECT_ASSIGNMENTS, CacheRegion.SUBJECTS, CacheRegion.CLASSES, CacheRegion.SECTIONS);
     }
 
     @PostMapping("/curriculum/subject-assignments")
@@ -56,6 +68,14 @@ public class CurriculumController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PutMapping("/curriculum/subject-assignments/{id}")
+    public ResponseEntity<SubjectAssignmentResponse> updateSubjectAssignment(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdateSubjectAssignmentRequest request) {
+        SubjectAssignmentResponse response = curriculumService.updateSubjectAssignment(id, request);
+        return ResponseEntity.ok(response);
+    }
+
     // Staff Assignments
     @PostMapping("/curriculum/staff-assignments")
     public ResponseEntity<StaffAssignmentResponse> createStaffAssignment(
@@ -4,12 +4,16 @@ import com.school.academic.dto.request.BulkPromoteRequest;
 import com.school.academic.dto.request.CreateEnrollmentRequest;
 import com.school.academic.dto.request.UpdateRollNumberRequest;
 import com.school.academic.dto.response.EnrollmentResponse;
+import com.school.academic.export.ExportFormat;
+import com.school.academic.export.ExportResponses;
 import com.school.academic.service.EnrollmentService;
+import com.school.academic.service.ExportService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,9 +25,12 @@ import java.util.UUID;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final ExportService exportService;
 
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    public EnrollmentController(EnrollmentService enrollmentService,
+                                ExportService exportService) {
         this.enrollmentService = enrollmentService;
+        this.exportService = exportService;
     }
 
     @GetMapping
@@ -35,6 +42,17 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollments);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportClassRoster(
+            @RequestParam UUID academicYearId,
+            @RequestParam UUID classSectionId,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        String fileName = exportService.resolveRosterFileName(classSectionId, academicYearId);
+        return ExportResponses.attachment(fileName, exportFormat,
+                out -> exportService.exportClassRoster(classSectionId, academicYearId, exportFormat, out));
+    }
+
     @PostMapping
     public ResponseEntity<EnrollmentResponse> createEnrollment(@Valid @RequestBody CreateEnrollmentRequest request) {
         EnrollmentResponse response = enrollmentService.createEnrollment(request);
@@ -0,0 +1,89 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.CreateFeeStructureRequest;
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.request.RecordPaymentRequest;
+import com.school.academic.dto.response.FeeAccountResponse;
+import com.school.academic.dto.response.FeeInvoiceResponse;
+import com.school.academic.dto.response.FeeInvoiceRunResponse;
+import com.school.academic.dto.response.FeePaymentResponse;
+import com.school.academic.dto.response.FeeStructureResponse;
+import com.school.academic.service.FeeService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/fees")
+@Tag(name = "Fees", description = "Fee structures, invoice runs, payments and balances")
+public class FeeController {
+
+    private final FeeService feeService;
+
+    public FeeController(FeeService feeService) {
+        this.feeService = feeService;
+    }
+
+    @PostMapping("/structures")
+    public ResponseEntity<FeeStructureResponse> createFeeStructure(@Valid @RequestBody CreateFeeStructureRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(feeService.createFeeStructure(request));
+    }
+
+    @GetMapping("/structures")
+    public ResponseEntity<List<FeeStructureResponse>> getFeeStructures(@RequestParam UUID academicYearId) {
+        return ResponseEntity.ok(feeService.getFeeStructures(academicYearId));
+    }
+
+    @PostMapping("/invoice-runs")
+    public ResponseEntity<FeeInvoiceRunResponse> runInvoices(@Valid @RequestBody CreateInvoiceRunRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(feeService.runInvoices(request));
+    }
+
+    @GetMapping("/invoice-runs")
+    public ResponseEntity<List<FeeInvoiceRunResponse>> getInvoiceRuns(@RequestParam UUID academicYearId) {
+        return ResponseEntity.ok(feeService.getInvoiceRuns(academicYearId));
+    }
+
+    @GetMapping("/invoices")
+    public ResponseEntity<List<FeeInvoiceResponse>> getInvoices(
+            @RequestParam UUID studentId,
+            @RequestParam UUID academicYearId) {
+        return ResponseEntity.ok(feeService.getInvoices(studentId, academicYearId));
+    }
+
+    @GetMapping("/invoices/{invoiceId}")
+    public ResponseEntity<FeeInvoiceResponse> getInvoice(@PathVariable UUID invoiceId) {
+        return ResponseEntity.ok(feeService.getInvoice(invoiceId));
+    }
+
+    @PostMapping("/invoices/{invoiceId}/payments")
+    public ResponseEntity<FeeInvoiceResponse> recordPayment(
+            @PathVariable UUID invoiceId,
+            @Valid @RequestBody RecordPaymentRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(feeService.recordPayment(invoiceId, request));
+    }
+
+    @GetMapping("/payments")
+    public ResponseEntity<List<FeePaymentResponse>> getPayments(@RequestParam String admissionNumber) {
+        return ResponseEntity.ok(feeService.getPayments(admissionNumber));
+    }
+
+    @GetMapping("/accounts")
+    public ResponseEntity<FeeAccountResponse> getAccount(
+            @RequestParam UUID studentId,
+            @RequestParam UUID academicYearId) {
+        return ResponseEntity.ok(feeService.getAccount(studentId, academicYearId));
+    }
+
+    @GetMapping("/outstanding")
+    public ResponseEntity<List<FeeAccountResponse>> getOutstanding(
+            @RequestParam UUID academicYearId,
+            @RequestParam(required = false) UUID classSectionId) {
+        return ResponseEntity.ok(feeService.getOutstanding(academicYearId, classSectionId));
+    }
+}
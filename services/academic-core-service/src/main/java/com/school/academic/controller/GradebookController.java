@@ -0,0 +1,62 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.CreateExamRequest;
+import com.school.academic.dto.request.SubmitMarksRequest;
+import com.school.academic.dto.response.ExamResponse;
+import com.school.academic.dto.response.ExamResultsResponse;
+import com.school.academic.dto.response.MarksSheetResponse;
+import com.school.academic.service.GradebookService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/exams")
+@Tag(name = "Gradebook", description = "Exams, marks entry and results")
+public class GradebookController {
+
+    private final GradebookService gradebookService;
+
+    public GradebookController(GradebookService gradebookService) {
+        this.gradebookService = gradebookService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ExamResponse> createExam(@Valid @RequestBody CreateExamRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(gradebookService.createExam(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ExamResponse>> getExams(@RequestParam UUID academicYearId) {
+        return ResponseEntity.ok(gradebookService.getExamsByAcademicYear(academicYearId));
+    }
+
+    @PutMapping("/{examId}/class-sections/{classSectionId}/subjects/{subjectId}/marks")
+    public ResponseEntity<MarksSheetResponse> submitMarks(
+            @PathVariable UUID examId,
+            @PathVariable UUID classSectionId,
+            @PathVariable UUID subjectId,
+            @Valid @RequestBody SubmitMarksRequest request) {
+        return ResponseEntity.ok(gradebookService.submitMarks(examId, classSectionId, subjectId, request));
+    }
+
+    @GetMapping("/{examId}/class-sections/{classSectionId}/subjects/{subjectId}/marks")
+    public ResponseEntity<MarksSheetResponse> getMarks(
+            @PathVariable UUID examId,
+            @PathVariable UUID classSectionId,
+            @PathVariable UUID subjectId) {
+        return ResponseEntity.ok(gradebookService.getMarks(examId, classSectionId, subjectId));
+    }
+
+    @GetMapping("/{examId}/results")
+    public ResponseEntity<ExamResultsResponse> getResults(
+            @PathVariable UUID examId,
+            @RequestParam(required = false) UUID classSectionId) {
+        return ResponseEntity.ok(gradebookService.getResults(examId, classSectionId));
+    }
+}
@@ -2,12 +2,16 @@ package com.school.academic.controller;
 
 import com.school.academic.dto.request.CreateParentRequest;
 import com.school.academic.dto.response.ParentResponse;
+import com.school.academic.export.ExportFormat;
+import com.school.academic.export.ExportResponses;
+import com.school.academic.service.ExportService;
 import com.school.academic.service.ParentService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/parents")
@@ -15,9 +19,19 @@ import org.springframework.web.bind.annotation.*;
 public class ParentController {
 
     private final ParentService parentService;
+    private final ExportService exportService;
 
-    public ParentController(ParentService parentService) {
+    public ParentController(ParentService parentService,
+                            ExportService exportService) {
         this.parentService = parentService;
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportParents(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        return ExportResponses.attachment("parents", exportFormat,
+                out -> exportService.exportParents(exportFormat, out));
     }
 
     @PostMapping
@@ -0,0 +1,68 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.GenerateReportCardsRequest;
+import com.school.academic.dto.response.ReportCardJobResponse;
+import com.school.academic.service.ReportCardService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/report-cards")
+@Tag(name = "Report Cards", description = "Batch printing of student report cards")
+public class ReportCardController {
+
+    private static final String JOB_HEADER = "X-Report-Card-Job";
+
+    private final ReportCardService reportCardService;
+
+    public ReportCardController(ReportCardService reportCardService) {
+        this.reportCardService = reportCardService;
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportCardJobResponse> startJob(@Valid @RequestBody GenerateReportCardsRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportCardService.startDirectoryJob(request));
+    }
+
+    @GetMapping("/jobs")
+    public ResponseEntity<List<ReportCardJobResponse>> getJobs() {
+        return ResponseEntity.ok(reportCardService.getJobs());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportCardJobResponse> getJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(reportCardService.getJob(jobId));
+    }
+
+    @GetMapping("/zip")
+    public ResponseEntity<StreamingResponseBody> downloadZip(
+            @RequestParam UUID academicYearId,
+            @RequestParam(required = false) List<UUID> classSectionIds) {
+        GenerateReportCardsRequest request = new GenerateReportCardsRequest();
+        request.setAcademicYearId(academicYearId);
+        request.setClassSectionIds(classSectionIds != null ? classSectionIds : new ArrayList<>());
+        ReportCardJobResponse job = reportCardService.prepareZip(request);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("report-cards-" + job.getAcademicYearName().replaceAll("[^A-Za-z0-9._-]+", "_") + ".zip")
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .header(JOB_HEADER, job.getJobId().toString())
+                .cacheControl(CacheControl.noStore())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(out -> reportCardService.writeZip(job.getJobId(), out));
+    }
+}
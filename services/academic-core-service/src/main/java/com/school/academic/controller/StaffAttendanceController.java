@@ -0,0 +1,47 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.response.PunchFileIngestResponse;
+import com.school.academic.dto.response.StaffAttendanceDayResponse;
+import com.school.academic.service.StaffAttendanceService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/staff-attendance")
+@Tag(name = "Staff Attendance", description = "Biometric punch ingestion and daily staff attendance")
+public class StaffAttendanceController {
+
+    private final StaffAttendanceService staffAttendanceService;
+
+    public StaffAttendanceController(StaffAttendanceService staffAttendanceService) {
+        this.staffAttendanceService = staffAttendanceService;
+    }
+
+    /**
+     * Load a device export sent as the raw request body.
+     */
+    @PostMapping(value = "/punch-files",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE, "text/csv"})
+    public ResponseEntity<PunchFileIngestResponse> ingestPunchFile(
+            @RequestParam(required = false) String fileName,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(staffAttendanceService.ingestPunchFile(request.getInputStream(), fileName));
+    }
+
+    @GetMapping("/days")
+    public ResponseEntity<List<StaffAttendanceDayResponse>> getStaffAttendance(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) UUID staffId) {
+        return ResponseEntity.ok(staffAttendanceService.getStaffAttendance(fromDate, toDate, staffId));
+    }
+}
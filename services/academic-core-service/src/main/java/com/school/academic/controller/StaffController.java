@@ -1,14 +1,26 @@
 package com.school.academic.controller;
 
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.cache.HttpCachePolicy;
+import com.school.academic.cache.VersionedResponses;
 import com.school.academic.dto.request.CreateStaffRequest;
 import com.school.academic.dto.response.StaffAssignmentResponse;
+import com.school.academic.dto.response.StaffPageResponse;
 import com.school.academic.dto.response.StaffResponse;
+import com.school.academic.export.ExportFormat;
+import com.school.academic.export.ExportResponses;
+import com.school.academic.service.ExportService;
 import com.school.academic.service.StaffService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,15 +31,48 @@ import java.util.UUID;
 public class StaffController {
 
     private final StaffService staffService;
+    private final VersionedResponses versionedResponses;
+    private final ExportService exportService;
 
-    public StaffController(StaffService staffService) {
+    public StaffController(StaffService staffService,
+                           VersionedResponses versionedResponses,
+                           ExportService exportService) {
         this.staffService = staffService;
+        this.versionedResponses = versionedResponses;
+        this.exportService = exportService;
     }
 
+    /**
+     * Full staff list, unpaged. Kept for existing clients: it is only chosen when none of
+     * {@code fields}, {@code page} or {@code size} is given.
+     */
+    @GetMapping(params = {"!fields", "!page", "!size"})
+    public ResponseEntity<List<StaffResponse>> listStaff(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.PERSONNEL,
+                staffService::listStaff,
+                CacheRegion.STAFF);
+    }
+
+    /**
+     * Paginated staff list with sparse fieldsets, chosen as soon as any of {@code fields},
+     * {@code page} or {@code size} is given.
+     */
     @GetMapping
-    public ResponseEntity<List<StaffResponse>> listStaff() {
-        List<StaffResponse> staff = staffService.listStaff();
-        return ResponseEntity.ok(staff);
+    public ResponseEntity<StaffPageResponse> listStaffPage(
+            @RequestParam(required = false) String fields,
+            @PageableDefault(size = 50, sort = {"firstName", "lastName"}, direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.PERSONNEL,
+                () -> staffService.listStaffPage(fields, pageable),
+                CacheRegion.STAFF);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStaff(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        return ExportResponses.attachment("staff", exportFormat,
+                out -> exportService.exportStaff(exportFormat, out));
     }
 
     @PostMapping
@@ -39,9 +84,11 @@ public class StaffController {
     @GetMapping("/{id}/assignments")
     public ResponseEntity<List<StaffAssignmentResponse>> getStaffAssignments(
             @PathVariable UUID id,
-            @RequestParam UUID academicYearId) {
-        List<StaffAssignmentResponse> assignments = staffService.getStaffAssignments(id, academicYearId);
-        return ResponseEntity.ok(assignments);
+            @RequestParam UUID academicYearId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return versionedResponses.ok(ifNoneMatch, HttpCachePolicy.PERSONNEL,
+                () -> staffService.getStaffAssignments(id, academicYearId),
+                CacheRegion.STAFF_ASSIGNMENTS, CacheRegion.STAFF, CacheRegion.SUBJECTS, CacheRegion.CLASS_SECTIONS);
     }
 }
 
@@ -2,13 +2,19 @@ package com.school.academic.controller;
 
 import com.school.academic.dto.request.CreateStudentRequest;
 import com.school.academic.dto.request.LinkGuardianRequest;
+import com.school.academic.dto.request.StudentProfileBatchRequest;
+import com.school.academic.dto.response.StudentProfileResponse;
 import com.school.academic.dto.response.StudentResponse;
+import com.school.academic.export.ExportFormat;
+import com.school.academic.export.ExportResponses;
+import com.school.academic.service.ExportService;
 import com.school.academic.service.StudentService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -20,9 +26,12 @@ import java.util.UUID;
 public class StudentController {
 
     private final StudentService studentService;
+    private final ExportService exportService;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService,
+                             ExportService exportService) {
         this.studentService = studentService;
+        this.exportService = exportService;
     }
 
     @GetMapping
@@ -35,6 +44,13 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        return ExportResponses.attachment("students", exportFormat,
+                out -> exportService.exportStudents(exportFormat, out));
+    }
+
     @PostMapping
     public ResponseEntity<StudentResponse> createStudent(@Valid @RequestBody CreateStudentRequest request) {
         StudentResponse response = studentService.createStudent(request);
@@ -47,6 +63,19 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<StudentProfileResponse> getStudentProfile(@PathVariable UUID id) {
+        StudentProfileResponse response = studentService.getStudentProfile(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/profiles/batch")
+    public ResponseEntity<List<StudentProfileResponse>> getStudentProfiles(
+            @Valid @RequestBody StudentProfileBatchRequest request) {
+        List<StudentProfileResponse> profiles = studentService.getStudentProfiles(request);
+        return ResponseEntity.ok(profiles);
+    }
+
     @PostMapping("/{id}/guardians")
     public ResponseEntity<Map<String, String>> linkGuardian(
             @PathVariable UUID id,
@@ -0,0 +1,46 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.request.GenerateTimetableRequest;
+import com.school.academic.dto.response.TimetableEntryResponse;
+import com.school.academic.dto.response.TimetableResponse;
+import com.school.academic.service.TimetableService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Timetable", description = "Weekly timetable generation")
+public class TimetableController {
+
+    private final TimetableService timetableService;
+
+    public TimetableController(TimetableService timetableService) {
+        this.timetableService = timetableService;
+    }
+
+    @PostMapping("/timetables")
+    public ResponseEntity<TimetableResponse> generateTimetable(@Valid @RequestBody GenerateTimetableRequest request) {
+        TimetableResponse response = timetableService.generateTimetable(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/timetables/{academicYearId}/resolve")
+    public ResponseEntity<TimetableResponse> resolveTimetable(@PathVariable UUID academicYearId) {
+        TimetableResponse response = timetableService.resolveTimetable(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/timetables/{academicYearId}/entries")
+    public ResponseEntity<List<TimetableEntryResponse>> listTimetableEntries(
+            @PathVariable UUID academicYearId,
+            @RequestParam(required = false) UUID classSectionId,
+            @RequestParam(required = false) UUID staffId,
+            @RequestParam(required = false) UUID classroomId) {
+        return ResponseEntity.ok(timetableService.listTimetableEntries(academicYearId, classSectionId, staffId, classroomId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.school.academic.controller;
+
+import com.school.academic.dto.response.StaffWorkloadResponse;
+import com.school.academic.dto.response.WorkloadReportResponse;
+import com.school.academic.service.WorkloadService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/workload")
+@Tag(name = "Workload", description = "Teaching load, coverage gaps and class teacher checks")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    public WorkloadController(WorkloadService workloadService) {
+        this.workloadService = workloadService;
+    }
+
+    @GetMapping("/{academicYearId}")
+    public ResponseEntity<WorkloadReportResponse> getWorkloadReport(@PathVariable UUID academicYearId) {
+        return ResponseEntity.ok(workloadService.getWorkloadReport(academicYearId));
+    }
+
+    @GetMapping("/{academicYearId}/staff")
+    public ResponseEntity<List<StaffWorkloadResponse>> getStaffWorkloads(@PathVariable UUID academicYearId) {
+        return ResponseEntity.ok(workloadService.getStaffWorkloads(academicYearId));
+    }
+}
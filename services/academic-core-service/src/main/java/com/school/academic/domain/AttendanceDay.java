@@ -0,0 +1,101 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * AttendanceDay entity - The attendance of one ClassSection on one date, as bitmaps
+ * indexed by Enrollment roll number (see AttendanceBitmap).
+ */
+@Entity
+@Table(name = "attendance_day", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_att_section_date",
+                columnNames = {"class_section_id", "attendance_date"}))
+public class AttendanceDay extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_section_id", nullable = false)
+    private ClassSection classSection;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false)
+    private AcademicYear academicYear;
+
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
+    @Column(name = "marked_bits", nullable = false, length = 128)
+    private byte[] markedBits;
+
+    @Column(name = "absent_bits", nullable = false, length = 128)
+    private byte[] absentBits;
+
+    @Column(name = "late_bits", nullable = false, length = 128)
+    private byte[] lateBits;
+
+    // Default constructor
+    public AttendanceDay() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ClassSection getClassSection() {
+        return classSection;
+    }
+
+    public void setClassSection(ClassSection classSection) {
+        this.classSection = classSection;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public LocalDate getAttendanceDate() {
+        return attendanceDate;
+    }
+
+    public void setAttendanceDate(LocalDate attendanceDate) {
+        this.attendanceDate = attendanceDate;
+    }
+
+    public byte[] getMarkedBits() {
+        return markedBits;
+    }
+
+    public void setMarkedBits(byte[] markedBits) {
+        this.markedBits = markedBits;
+    }
+
+    public byte[] getAbsentBits() {
+        return absentBits;
+    }
+
+    public void setAbsentBits(byte[] absentBits) {
+        this.absentBits = absentBits;
+    }
+
+    public byte[] getLateBits() {
+        return lateBits;
+    }
+
+    public void setLateBits(byte[] lateBits) {
+        this.lateBits = lateBits;
+    }
+}
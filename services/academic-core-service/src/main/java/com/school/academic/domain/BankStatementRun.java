@@ -0,0 +1,175 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * BankStatementRun entity - Reconciliation of one bank statement file against open
+ * invoices. linesProcessed is the checkpoint a restarted run resumes from.
+ */
+@Entity
+@Table(name = "bank_statement_run", schema = "academic_core")
+public class BankStatementRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "file_sha256", nullable = false, unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String fileSha256;
+
+    @Column(name = "format", nullable = false, length = 8)
+    private String format;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status; // RUNNING, COMPLETED, FAILED
+
+    @Column(name = "lines_processed", nullable = false)
+    private Integer linesProcessed;
+
+    @Column(name = "matched", nullable = false)
+    private Integer matched;
+
+    @Column(name = "duplicates", nullable = false)
+    private Integer duplicates;
+
+    @Column(name = "skipped", nullable = false)
+    private Integer skipped;
+
+    @Column(name = "sent_to_review", nullable = false)
+    private Integer sentToReview;
+
+    @Column(name = "amount_posted", nullable = false, precision = 14, scale = 2)
+    private BigDecimal amountPosted;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error", length = 512)
+    private String error;
+
+    // Default constructor
+    public BankStatementRun() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileSha256() {
+        return fileSha256;
+    }
+
+    public void setFileSha256(String fileSha256) {
+        this.fileSha256 = fileSha256;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getLinesProcessed() {
+        return linesProcessed;
+    }
+
+    public void setLinesProcessed(Integer linesProcessed) {
+        this.linesProcessed = linesProcessed;
+    }
+
+    public Integer getMatched() {
+        return matched;
+    }
+
+    public void setMatched(Integer matched) {
+        this.matched = matched;
+    }
+
+    public Integer getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(Integer duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public Integer getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(Integer skipped) {
+        this.skipped = skipped;
+    }
+
+    public Integer getSentToReview() {
+        return sentToReview;
+    }
+
+    public void setSentToReview(Integer sentToReview) {
+        this.sentToReview = sentToReview;
+    }
+
+    public BigDecimal getAmountPosted() {
+        return amountPosted;
+    }
+
+    public void setAmountPosted(BigDecimal amountPosted) {
+        this.amountPosted = amountPosted;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
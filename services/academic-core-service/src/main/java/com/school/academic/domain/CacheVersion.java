@@ -0,0 +1,53 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * CacheVersion entity - Monotonic version counter per cache region.
+ * Bumped by writers in the same transaction as the data change and polled by every node.
+ */
+@Entity
+@Table(name = "cache_version", schema = "academic_core")
+public class CacheVersion {
+
+    @Id
+    @Column(name = "region", length = 64)
+    private String region;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor
+    public CacheVersion() {
+    }
+
+    // Getters and Setters
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,89 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * ExamMarks entity - One Subject's marks for a whole ClassSection in an Exam, as a
+ * column indexed by Enrollment roll number (see MarksColumn).
+ */
+@Entity
+@Table(name = "exam_marks", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_em_exam_section_subject",
+                columnNames = {"exam_id", "class_section_id", "subject_id"}))
+public class ExamMarks extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exam_id", nullable = false)
+    private Exam exam;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_section_id", nullable = false)
+    private ClassSection classSection;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subject_id", nullable = false)
+    private Subject subject;
+
+    @Column(name = "max_marks", nullable = false)
+    private Integer maxMarks;
+
+    @Column(name = "marks_tenths", nullable = false, length = 2048)
+    private byte[] marksTenths;
+
+    // Default constructor
+    public ExamMarks() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Exam getExam() {
+        return exam;
+    }
+
+    public void setExam(Exam exam) {
+        this.exam = exam;
+    }
+
+    public ClassSection getClassSection() {
+        return classSection;
+    }
+
+    public void setClassSection(ClassSection classSection) {
+        this.classSection = classSection;
+    }
+
+    public Subject getSubject() {
+        return subject;
+    }
+
+    public void setSubject(Subject subject) {
+        this.subject = subject;
+    }
+
+    public Integer getMaxMarks() {
+        return maxMarks;
+    }
+
+    public void setMaxMarks(Integer maxMarks) {
+        this.maxMarks = maxMarks;
+    }
+
+    public byte[] getMarksTenths() {
+        return marksTenths;
+    }
+
+    public void setMarksTenths(byte[] marksTenths) {
+        this.marksTenths = marksTenths;
+    }
+}
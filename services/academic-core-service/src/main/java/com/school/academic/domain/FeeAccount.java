@@ -0,0 +1,114 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+/**
+ * FeeAccount entity - Running fee totals of one Enrollment: billed, paid and the
+ * outstanding balance, updated by each invoice and payment as it is written.
+ */
+@Entity
+@Table(name = "fee_account", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_fa_enrollment",
+                columnNames = {"enrollment_id"}))
+public class FeeAccount extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "enrollment_id", nullable = false)
+    private Enrollment enrollment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false)
+    private AcademicYear academicYear;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_section_id", nullable = false)
+    private ClassSection classSection;
+
+    @Column(name = "billed", nullable = false, precision = 14, scale = 2)
+    private BigDecimal billed;
+
+    @Column(name = "paid", nullable = false, precision = 14, scale = 2)
+    private BigDecimal paid;
+
+    @Column(name = "balance", nullable = false, precision = 14, scale = 2)
+    private BigDecimal balance;
+
+    // Default constructor
+    public FeeAccount() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Enrollment getEnrollment() {
+        return enrollment;
+    }
+
+    public void setEnrollment(Enrollment enrollment) {
+        this.enrollment = enrollment;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public void setStudent(Student student) {
+        this.student = student;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public ClassSection getClassSection() {
+        return classSection;
+    }
+
+    public void setClassSection(ClassSection classSection) {
+        this.classSection = classSection;
+    }
+
+    public BigDecimal getBilled() {
+        return billed;
+    }
+
+    public void setBilled(BigDecimal billed) {
+        this.billed = billed;
+    }
+
+    public BigDecimal getPaid() {
+        return paid;
+    }
+
+    public void setPaid(BigDecimal paid) {
+        this.paid = paid;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
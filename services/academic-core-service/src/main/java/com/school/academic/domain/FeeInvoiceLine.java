@@ -0,0 +1,64 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+/**
+ * FeeInvoiceLine entity - One fee head of a FeeInvoice.
+ */
+@Entity
+@Table(name = "fee_invoice_line", schema = "academic_core")
+public class FeeInvoiceLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invoice_id", nullable = false)
+    private FeeInvoice invoice;
+
+    @Column(name = "fee_head", nullable = false, length = 64)
+    private String feeHead;
+
+    @Column(name = "amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    // Default constructor
+    public FeeInvoiceLine() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public FeeInvoice getInvoice() {
+        return invoice;
+    }
+
+    public void setInvoice(FeeInvoice invoice) {
+        this.invoice = invoice;
+    }
+
+    public String getFeeHead() {
+        return feeHead;
+    }
+
+    public void setFeeHead(String feeHead) {
+        this.feeHead = feeHead;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
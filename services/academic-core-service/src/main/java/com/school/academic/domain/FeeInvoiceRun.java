@@ -0,0 +1,133 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * FeeInvoiceRun entity - One execution of invoicing a billing period of an AcademicYear.
+ * Invoices it created point back to it; a re-run only creates the invoices still missing.
+ */
+@Entity
+@Table(name = "fee_invoice_run", schema = "academic_core")
+public class FeeInvoiceRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false)
+    private AcademicYear academicYear;
+
+    @Column(name = "billing_period", nullable = false, length = 16)
+    private String billingPeriod;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status; // RUNNING, COMPLETED, FAILED
+
+    @Column(name = "invoices_created", nullable = false)
+    private Integer invoicesCreated;
+
+    @Column(name = "amount_invoiced", nullable = false, precision = 14, scale = 2)
+    private BigDecimal amountInvoiced;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error", length = 512)
+    private String error;
+
+    // Default constructor
+    public FeeInvoiceRun() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getInvoicesCreated() {
+        return invoicesCreated;
+    }
+
+    public void setInvoicesCreated(Integer invoicesCreated) {
+        this.invoicesCreated = invoicesCreated;
+    }
+
+    public BigDecimal getAmountInvoiced() {
+        return amountInvoiced;
+    }
+
+    public void setAmountInvoiced(BigDecimal amountInvoiced) {
+        this.amountInvoiced = amountInvoiced;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,90 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+/**
+ * FeeStructure entity - One fee head charged to every student of a GradeClass in an
+ * AcademicYear, billed in the given billing period (e.g. Q1, TERM-2, ANNUAL).
+ */
+@Entity
+@Table(name = "fee_structure", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_fs_year_class_period_head",
+                columnNames = {"academic_year_id", "class_id", "billing_period", "fee_head"}))
+public class FeeStructure extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false)
+    private AcademicYear academicYear;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "class_id", nullable = false)
+    private GradeClass gradeClass;
+
+    @Column(name = "fee_head", nullable = false, length = 64)
+    private String feeHead;
+
+    @Column(name = "billing_period", nullable = false, length = 16)
+    private String billingPeriod;
+
+    @Column(name = "amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    // Default constructor
+    public FeeStructure() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public GradeClass getGradeClass() {
+        return gradeClass;
+    }
+
+    public void setGradeClass(GradeClass gradeClass) {
+        this.gradeClass = gradeClass;
+    }
+
+    public String getFeeHead() {
+        return feeHead;
+    }
+
+    public void setFeeHead(String feeHead) {
+        this.feeHead = feeHead;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
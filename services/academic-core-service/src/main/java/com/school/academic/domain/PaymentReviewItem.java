@@ -0,0 +1,135 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * PaymentReviewItem entity - A bank statement line reconciliation could not match,
+ * waiting to be posted to an invoice by hand or dismissed.
+ */
+@Entity
+@Table(name = "payment_review_item", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_pri_statement_line",
+                columnNames = {"statement_run_id", "line_number"}))
+public class PaymentReviewItem extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "statement_run_id", nullable = false)
+    private BankStatementRun statementRun;
+
+    @Column(name = "line_number", nullable = false)
+    private Integer lineNumber;
+
+    @Column(name = "value_date")
+    private LocalDate valueDate;
+
+    @Column(name = "amount", precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "bank_reference", length = 128)
+    private String bankReference;
+
+    @Column(name = "narrative", length = 512)
+    private String narrative;
+
+    @Column(name = "reason", nullable = false, length = 32)
+    private String reason;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status; // PENDING, POSTED, DISMISSED
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invoice_id")
+    private FeeInvoice invoice;
+
+    // Default constructor
+    public PaymentReviewItem() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BankStatementRun getStatementRun() {
+        return statementRun;
+    }
+
+    public void setStatementRun(BankStatementRun statementRun) {
+        this.statementRun = statementRun;
+    }
+
+    public Integer getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(Integer lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public LocalDate getValueDate() {
+        return valueDate;
+    }
+
+    public void setValueDate(LocalDate valueDate) {
+        this.valueDate = valueDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getBankReference() {
+        return bankReference;
+    }
+
+    public void setBankReference(String bankReference) {
+        this.bankReference = bankReference;
+    }
+
+    public String getNarrative() {
+        return narrative;
+    }
+
+    public void setNarrative(String narrative) {
+        this.narrative = narrative;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public FeeInvoice getInvoice() {
+        return invoice;
+    }
+
+    public void setInvoice(FeeInvoice invoice) {
+        this.invoice = invoice;
+    }
+}
@@ -0,0 +1,164 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReportCardRun entity - Status and progress of one report-card job, written by the
+ * node running it so that any node can report on it.
+ */
+@Entity
+@Table(name = "report_card_run", schema = "academic_core")
+public class ReportCardRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false)
+    private AcademicYear academicYear;
+
+    @Column(name = "class_section_ids", columnDefinition = "TEXT")
+    private String classSectionIds; // comma-separated, null for the whole year
+
+    @Column(name = "output", nullable = false, length = 16)
+    private String output; // DIRECTORY, ZIP
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status; // QUEUED, LOADING, RENDERING, COMPLETED, FAILED
+
+    @Column(name = "total", nullable = false)
+    private Integer total;
+
+    @Column(name = "rendered", nullable = false)
+    private Integer rendered;
+
+    @Column(name = "failed", nullable = false)
+    private Integer failed;
+
+    @Column(name = "output_dir", length = 512)
+    private String outputDir;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "rendering_at")
+    private LocalDateTime renderingAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error", length = 512)
+    private String error;
+
+    // Default constructor
+    public ReportCardRun() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public String getClassSectionIds() {
+        return classSectionIds;
+    }
+
+    public void setClassSectionIds(String classSectionIds) {
+        this.classSectionIds = classSectionIds;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public Integer getRendered() {
+        return rendered;
+    }
+
+    public void setRendered(Integer rendered) {
+        this.rendered = rendered;
+    }
+
+    public Integer getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(String outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getRenderingAt() {
+        return renderingAt;
+    }
+
+    public void setRenderingAt(LocalDateTime renderingAt) {
+        this.renderingAt = renderingAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,89 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * StaffAttendanceDay entity - A Staff member's first and last biometric punch on one date.
+ * Maintained from the staff_punch log; never edited directly.
+ */
+@Entity
+@Table(name = "staff_attendance_day", schema = "academic_core",
+        uniqueConstraints = @UniqueConstraint(name = "ux_sad_staff_date", columnNames = {"staff_id", "attendance_date"}))
+public class StaffAttendanceDay extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "staff_id", nullable = false)
+    private Staff staff;
+
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
+    @Column(name = "first_punch_at", nullable = false)
+    private LocalDateTime firstPunchAt;
+
+    @Column(name = "last_punch_at", nullable = false)
+    private LocalDateTime lastPunchAt;
+
+    @Column(name = "punch_count", nullable = false)
+    private Integer punchCount;
+
+    // Default constructor
+    public StaffAttendanceDay() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Staff getStaff() {
+        return staff;
+    }
+
+    public void setStaff(Staff staff) {
+        this.staff = staff;
+    }
+
+    public LocalDate getAttendanceDate() {
+        return attendanceDate;
+    }
+
+    public void setAttendanceDate(LocalDate attendanceDate) {
+        this.attendanceDate = attendanceDate;
+    }
+
+    public LocalDateTime getFirstPunchAt() {
+        return firstPunchAt;
+    }
+
+    public void setFirstPunchAt(LocalDateTime firstPunchAt) {
+        this.firstPunchAt = firstPunchAt;
+    }
+
+    public LocalDateTime getLastPunchAt() {
+        return lastPunchAt;
+    }
+
+    public void setLastPunchAt(LocalDateTime lastPunchAt) {
+        this.lastPunchAt = lastPunchAt;
+    }
+
+    public Integer getPunchCount() {
+        return punchCount;
+    }
+
+    public void setPunchCount(Integer punchCount) {
+        this.punchCount = punchCount;
+    }
+}
@@ -32,6 +32,12 @@ public class SubjectAssignment extends BaseEntity {
     @JoinColumn(name = "section_id")
     private Section section; // Optional - if null, applies to all sections
 
+    @Column(name = "periods_per_week")
+    private Integer periodsPerWeek; // Timetable load; null keeps the subject off the timetable
+
+    @Column(name = "room_type", length = 32)
+    private String roomType; // Lecture, Lab, Hall; null uses the class section's own room
+
     // Default constructor
     public SubjectAssignment() {
     }
@@ -84,4 +90,20 @@ public class SubjectAssignment extends BaseEntity {
     public void setSection(Section section) {
         this.section = section;
     }
+
+    public Integer getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(Integer periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
 }
@@ -0,0 +1,87 @@
+package com.school.academic.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Timetable entity - The generated weekly schedule of one AcademicYear.
+ * The week has daysPerWeek days of periodsPerDay periods; revision moves on every regeneration.
+ */
+@Entity
+@Table(name = "timetable", schema = "academic_core")
+public class Timetable extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "academic_year_id", nullable = false, unique = true)
+    private AcademicYear academicYear;
+
+    @Column(name = "days_per_week", nullable = false)
+    private Integer daysPerWeek;
+
+    @Column(name = "periods_per_day", nullable = false)
+    private Integer periodsPerDay;
+
+    @Column(name = "revision", nullable = false)
+    private Integer revision = 0;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    // Default constructor
+    public Timetable() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AcademicYear getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(AcademicYear academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public Integer getDaysPerWeek() {
+        return daysPerWeek;
+    }
+
+    public void setDaysPerWeek(Integer daysPerWeek) {
+        this.daysPerWeek = daysPerWeek;
+    }
+
+    public Integer getPeriodsPerDay() {
+        return periodsPerDay;
+    }
+
+    public void setPeriodsPerDay(Integer periodsPerDay) {
+        this.periodsPerDay = periodsPerDay;
+    }
+
+    public Integer getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Integer revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
@@ -0,0 +1,77 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class AcademicYearRolloverRequest {
+
+    @NotNull(message = "Source academic year ID is required")
+    private UUID sourceAcademicYearId;
+
+    private boolean dryRun;
+    private boolean includeStaffAssignments = true;
+
+    // Applied to class teachers and staff assignments
+    @Valid
+    private List<RolloverMappingRequest> staffMappings = new ArrayList<>();
+
+    @Valid
+    private List<RolloverMappingRequest> classroomMappings = new ArrayList<>();
+
+    public AcademicYearRolloverRequest() {
+    }
+
+    public AcademicYearRolloverRequest(UUID sourceAcademicYearId, boolean dryRun, boolean includeStaffAssignments,
+                                       List<RolloverMappingRequest> staffMappings,
+                                       List<RolloverMappingRequest> classroomMappings) {
+        this.sourceAcademicYearId = sourceAcademicYearId;
+        this.dryRun = dryRun;
+        this.includeStaffAssignments = includeStaffAssignments;
+        this.staffMappings = staffMappings;
+        this.classroomMappings = classroomMappings;
+    }
+
+    public UUID getSourceAcademicYearId() {
+        return sourceAcademicYearId;
+    }
+
+    public void setSourceAcademicYearId(UUID sourceAcademicYearId) {
+        this.sourceAcademicYearId = sourceAcademicYearId;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public boolean isIncludeStaffAssignments() {
+        return includeStaffAssignments;
+    }
+
+    public void setIncludeStaffAssignments(boolean includeStaffAssignments) {
+        this.includeStaffAssignments = includeStaffAssignments;
+    }
+
+    public List<RolloverMappingRequest> getStaffMappings() {
+        return staffMappings;
+    }
+
+    public void setStaffMappings(List<RolloverMappingRequest> staffMappings) {
+        this.staffMappings = staffMappings;
+    }
+
+    public List<RolloverMappingRequest> getClassroomMappings() {
+        return classroomMappings;
+    }
+
+    public void setClassroomMappings(List<RolloverMappingRequest> classroomMappings) {
+        this.classroomMappings = classroomMappings;
+    }
+}
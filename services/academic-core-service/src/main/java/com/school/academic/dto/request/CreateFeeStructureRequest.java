@@ -0,0 +1,79 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One fee head charged to every student of a class in a billing period of an academic year.
+ */
+public class CreateFeeStructureRequest {
+
+    @NotNull(message = "Academic year ID is required")
+    private UUID academicYearId;
+
+    @NotNull(message = "Class ID is required")
+    private UUID classId;
+
+    @NotBlank(message = "Fee head is required")
+    @Size(max = 64, message = "Fee head cannot exceed 64 characters")
+    private String feeHead;
+
+    @NotBlank(message = "Billing period is required")
+    @Pattern(regexp = "[A-Za-z0-9-]{1,16}", message = "Billing period must be up to 16 letters, digits or hyphens")
+    private String billingPeriod;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 10, fraction = 2, message = "Amount must have at most 2 decimal places")
+    private BigDecimal amount;
+
+    public CreateFeeStructureRequest() {
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public UUID getClassId() {
+        return classId;
+    }
+
+    public void setClassId(UUID classId) {
+        this.classId = classId;
+    }
+
+    public String getFeeHead() {
+        return feeHead;
+    }
+
+    public void setFeeHead(String feeHead) {
+        this.feeHead = feeHead;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,51 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Invoice every active enrollment of an academic year for one billing period.
+ */
+public class CreateInvoiceRunRequest {
+
+    @NotNull(message = "Academic year ID is required")
+    private UUID academicYearId;
+
+    @NotBlank(message = "Billing period is required")
+    @Pattern(regexp = "[A-Za-z0-9-]{1,16}", message = "Billing period must be up to 16 letters, digits or hyphens")
+    private String billingPeriod;
+
+    @NotNull(message = "Due date is required")
+    private LocalDate dueDate;
+
+    public CreateInvoiceRunRequest() {
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+}
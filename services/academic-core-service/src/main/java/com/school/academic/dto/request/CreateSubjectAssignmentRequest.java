@@ -1,6 +1,9 @@
 package com.school.academic.dto.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
 import java.util.UUID;
 
@@ -17,6 +20,13 @@ public class CreateSubjectAssignmentRequest {
 
     private UUID sectionId;
 
+    @Min(value = 0, message = "Periods per week cannot be negative")
+    @Max(value = 64, message = "Periods per week cannot exceed 64")
+    private Integer periodsPerWeek;
+
+    @Pattern(regexp = "Lecture|Lab|Hall", message = "Room type must be Lecture, Lab or Hall")
+    private String roomType;
+
     public CreateSubjectAssignmentRequest() {
     }
 
@@ -58,5 +68,20 @@ public class CreateSubjectAssignmentRequest {
     public void setSectionId(UUID sectionId) {
         this.sectionId = sectionId;
     }
-}
 
+    public Integer getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(Integer periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+}
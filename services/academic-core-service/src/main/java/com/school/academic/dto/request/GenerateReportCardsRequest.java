@@ -0,0 +1,37 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Report cards for an academic year; every class section unless some are listed.
+ */
+public class GenerateReportCardsRequest {
+
+    @NotNull(message = "Academic year ID is required")
+    private UUID academicYearId;
+
+    private List<UUID> classSectionIds = new ArrayList<>();
+
+    public GenerateReportCardsRequest() {
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public List<UUID> getClassSectionIds() {
+        return classSectionIds;
+    }
+
+    public void setClassSectionIds(List<UUID> classSectionIds) {
+        this.classSectionIds = classSectionIds;
+    }
+}
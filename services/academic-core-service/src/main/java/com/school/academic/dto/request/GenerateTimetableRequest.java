@@ -0,0 +1,55 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public class GenerateTimetableRequest {
+
+    @NotNull(message = "Academic year ID is required")
+    private UUID academicYearId;
+
+    // Defaults to the configured week when absent
+    @Min(value = 1, message = "Days per week must be at least 1")
+    @Max(value = 7, message = "Days per week cannot exceed 7")
+    private Integer daysPerWeek;
+
+    @Min(value = 1, message = "Periods per day must be at least 1")
+    @Max(value = 12, message = "Periods per day cannot exceed 12")
+    private Integer periodsPerDay;
+
+    public GenerateTimetableRequest() {
+    }
+
+    public GenerateTimetableRequest(UUID academicYearId, Integer daysPerWeek, Integer periodsPerDay) {
+        this.academicYearId = academicYearId;
+        this.daysPerWeek = daysPerWeek;
+        this.periodsPerDay = periodsPerDay;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public Integer getDaysPerWeek() {
+        return daysPerWeek;
+    }
+
+    public void setDaysPerWeek(Integer daysPerWeek) {
+        this.daysPerWeek = daysPerWeek;
+    }
+
+    public Integer getPeriodsPerDay() {
+        return periodsPerDay;
+    }
+
+    public void setPeriodsPerDay(Integer periodsPerDay) {
+        this.periodsPerDay = periodsPerDay;
+    }
+}
@@ -0,0 +1,32 @@
+package com.school.academic.dto.request;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A whole section's attendance for a day: every active roll number not listed is present.
+ */
+public class MarkAttendanceRequest {
+
+    private Set<Integer> absentRollNumbers = new HashSet<>();
+    private Set<Integer> lateRollNumbers = new HashSet<>();
+
+    public MarkAttendanceRequest() {
+    }
+
+    public Set<Integer> getAbsentRollNumbers() {
+        return absentRollNumbers;
+    }
+
+    public void setAbsentRollNumbers(Set<Integer> absentRollNumbers) {
+        this.absentRollNumbers = absentRollNumbers;
+    }
+
+    public Set<Integer> getLateRollNumbers() {
+        return lateRollNumbers;
+    }
+
+    public void setLateRollNumbers(Set<Integer> lateRollNumbers) {
+        this.lateRollNumbers = lateRollNumbers;
+    }
+}
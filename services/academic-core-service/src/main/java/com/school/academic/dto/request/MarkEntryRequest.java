@@ -0,0 +1,45 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Marks of one roll number: either marks or absent.
+ */
+public class MarkEntryRequest {
+
+    @NotNull(message = "Roll number is required")
+    private Integer rollNumber;
+
+    private BigDecimal marks;
+
+    private Boolean absent = false;
+
+    public MarkEntryRequest() {
+    }
+
+    public Integer getRollNumber() {
+        return rollNumber;
+    }
+
+    public void setRollNumber(Integer rollNumber) {
+        this.rollNumber = rollNumber;
+    }
+
+    public BigDecimal getMarks() {
+        return marks;
+    }
+
+    public void setMarks(BigDecimal marks) {
+        this.marks = marks;
+    }
+
+    public Boolean getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(Boolean absent) {
+        this.absent = absent;
+    }
+}
@@ -0,0 +1,25 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Post a statement line waiting in review as a payment against the given invoice.
+ */
+public class PostReviewItemRequest {
+
+    @NotNull(message = "Invoice ID is required")
+    private UUID invoiceId;
+
+    public PostReviewItemRequest() {
+    }
+
+    public UUID getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(UUID invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+}
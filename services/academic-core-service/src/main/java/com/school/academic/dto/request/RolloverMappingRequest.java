@@ -0,0 +1,38 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public class RolloverMappingRequest {
+
+    @NotNull(message = "Source ID is required")
+    private UUID fromId;
+
+    // Null drops the reference instead of replacing it
+    private UUID toId;
+
+    public RolloverMappingRequest() {
+    }
+
+    public RolloverMappingRequest(UUID fromId, UUID toId) {
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    public UUID getFromId() {
+        return fromId;
+    }
+
+    public void setFromId(UUID fromId) {
+        this.fromId = fromId;
+    }
+
+    public UUID getToId() {
+        return toId;
+    }
+
+    public void setToId(UUID toId) {
+        this.toId = toId;
+    }
+}
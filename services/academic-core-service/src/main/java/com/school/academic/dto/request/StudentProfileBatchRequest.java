@@ -0,0 +1,25 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class StudentProfileBatchRequest {
+
+    @NotEmpty(message = "Student IDs are required")
+    @Size(max = 500, message = "At most 500 student IDs per request")
+    private List<UUID> studentIds;
+
+    public StudentProfileBatchRequest() {
+    }
+
+    public List<UUID> getStudentIds() {
+        return studentIds;
+    }
+
+    public void setStudentIds(List<UUID> studentIds) {
+        this.studentIds = studentIds;
+    }
+}
@@ -0,0 +1,44 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One subject's marks for a whole class section; replaces anything entered before.
+ */
+public class SubmitMarksRequest {
+
+    @NotNull(message = "Max marks is required")
+    @Min(value = 1, message = "Max marks must be at least 1")
+    @Max(value = 1000, message = "Max marks cannot exceed 1000")
+    private Integer maxMarks;
+
+    @NotEmpty(message = "Marks are required")
+    @Valid
+    private List<MarkEntryRequest> marks = new ArrayList<>();
+
+    public SubmitMarksRequest() {
+    }
+
+    public Integer getMaxMarks() {
+        return maxMarks;
+    }
+
+    public void setMaxMarks(Integer maxMarks) {
+        this.maxMarks = maxMarks;
+    }
+
+    public List<MarkEntryRequest> getMarks() {
+        return marks;
+    }
+
+    public void setMarks(List<MarkEntryRequest> marks) {
+        this.marks = marks;
+    }
+}
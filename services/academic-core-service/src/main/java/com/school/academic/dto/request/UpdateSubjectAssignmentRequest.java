@@ -0,0 +1,39 @@
+package com.school.academic.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+public class UpdateSubjectAssignmentRequest {
+
+    @Min(value = 0, message = "Periods per week cannot be negative")
+    @Max(value = 64, message = "Periods per week cannot exceed 64")
+    private Integer periodsPerWeek;
+
+    @Pattern(regexp = "Lecture|Lab|Hall", message = "Room type must be Lecture, Lab or Hall")
+    private String roomType;
+
+    public UpdateSubjectAssignmentRequest() {
+    }
+
+    public UpdateSubjectAssignmentRequest(Integer periodsPerWeek, String roomType) {
+        this.periodsPerWeek = periodsPerWeek;
+        this.roomType = roomType;
+    }
+
+    public Integer getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(Integer periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+}
@@ -0,0 +1,73 @@
+package com.school.academic.dto.response;
+
+import java.util.UUID;
+
+public class AcademicYearRolloverResponse {
+
+    private UUID sourceAcademicYearId;
+    private UUID targetAcademicYearId;
+    private boolean dryRun;
+    private RolloverTableResponse classSections;
+    private RolloverTableResponse subjectAssignments;
+    private RolloverTableResponse staffAssignments;
+    private long durationMillis;
+
+    public AcademicYearRolloverResponse() {
+    }
+
+    public UUID getSourceAcademicYearId() {
+        return sourceAcademicYearId;
+    }
+
+    public void setSourceAcademicYearId(UUID sourceAcademicYearId) {
+        this.sourceAcademicYearId = sourceAcademicYearId;
+    }
+
+    public UUID getTargetAcademicYearId() {
+        return targetAcademicYearId;
+    }
+
+    public void setTargetAcademicYearId(UUID targetAcademicYearId) {
+        this.targetAcademicYearId = targetAcademicYearId;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public RolloverTableResponse getClassSections() {
+        return classSections;
+    }
+
+    public void setClassSections(RolloverTableResponse classSections) {
+        this.classSections = classSections;
+    }
+
+    public RolloverTableResponse getSubjectAssignments() {
+        return subjectAssignments;
+    }
+
+    public void setSubjectAssignments(RolloverTableResponse subjectAssignments) {
+        this.subjectAssignments = subjectAssignments;
+    }
+
+    public RolloverTableResponse getStaffAssignments() {
+        return staffAssignments;
+    }
+
+    public void setStaffAssignments(RolloverTableResponse staffAssignments) {
+        this.staffAssignments = staffAssignments;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
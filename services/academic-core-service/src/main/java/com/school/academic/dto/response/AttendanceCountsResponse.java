@@ -0,0 +1,65 @@
+package com.school.academic.dto.response;
+
+/**
+ * Marked student-days by status; month (yyyy-MM) is absent on totals.
+ */
+public class AttendanceCountsResponse {
+
+    private String month;
+    private int marked;
+    private int present;
+    private int absent;
+    private int late;
+    private Double attendancePercentage;
+
+    public AttendanceCountsResponse() {
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public int getMarked() {
+        return marked;
+    }
+
+    public void setMarked(int marked) {
+        this.marked = marked;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public void setPresent(int present) {
+        this.present = present;
+    }
+
+    public int getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(int absent) {
+        this.absent = absent;
+    }
+
+    public int getLate() {
+        return late;
+    }
+
+    public void setLate(int late) {
+        this.late = late;
+    }
+
+    public Double getAttendancePercentage() {
+        return attendancePercentage;
+    }
+
+    public void setAttendancePercentage(Double attendancePercentage) {
+        this.attendancePercentage = attendancePercentage;
+    }
+}
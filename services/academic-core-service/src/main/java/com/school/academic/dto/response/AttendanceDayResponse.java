@@ -0,0 +1,84 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class AttendanceDayResponse {
+
+    private UUID classSectionId;
+    private String classSectionName;
+    private LocalDate date;
+    private int marked;
+    private int present;
+    private int absent;
+    private int late;
+    private List<AttendanceMarkResponse> students;
+
+    public AttendanceDayResponse() {
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public int getMarked() {
+        return marked;
+    }
+
+    public void setMarked(int marked) {
+        this.marked = marked;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public void setPresent(int present) {
+        this.present = present;
+    }
+
+    public int getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(int absent) {
+        this.absent = absent;
+    }
+
+    public int getLate() {
+        return late;
+    }
+
+    public void setLate(int late) {
+        this.late = late;
+    }
+
+    public List<AttendanceMarkResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<AttendanceMarkResponse> students) {
+        this.students = students;
+    }
+}
@@ -0,0 +1,47 @@
+package com.school.academic.dto.response;
+
+import com.school.academic.attendance.AttendanceStatus;
+import java.util.UUID;
+
+public class AttendanceMarkResponse {
+
+    private UUID studentId;
+    private String studentName;
+    private Integer rollNumber;
+    private AttendanceStatus status;
+
+    public AttendanceMarkResponse() {
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public Integer getRollNumber() {
+        return rollNumber;
+    }
+
+    public void setRollNumber(Integer rollNumber) {
+        this.rollNumber = rollNumber;
+    }
+
+    public AttendanceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AttendanceStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,159 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A bank statement reconciliation; resumed and elapsedMillis describe the call that returned it.
+ */
+public class BankStatementRunResponse {
+
+    private UUID id;
+    private String fileName;
+    private String fileSha256;
+    private String format;
+    private String status;
+    private Integer linesProcessed;
+    private Integer matched;
+    private Integer duplicates;
+    private Integer skipped;
+    private Integer sentToReview;
+    private BigDecimal amountPosted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    private Boolean resumed;
+    private Long elapsedMillis;
+
+    public BankStatementRunResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileSha256() {
+        return fileSha256;
+    }
+
+    public void setFileSha256(String fileSha256) {
+        this.fileSha256 = fileSha256;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getLinesProcessed() {
+        return linesProcessed;
+    }
+
+    public void setLinesProcessed(Integer linesProcessed) {
+        this.linesProcessed = linesProcessed;
+    }
+
+    public Integer getMatched() {
+        return matched;
+    }
+
+    public void setMatched(Integer matched) {
+        this.matched = matched;
+    }
+
+    public Integer getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(Integer duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public Integer getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(Integer skipped) {
+        this.skipped = skipped;
+    }
+
+    public Integer getSentToReview() {
+        return sentToReview;
+    }
+
+    public void setSentToReview(Integer sentToReview) {
+        this.sentToReview = sentToReview;
+    }
+
+    public BigDecimal getAmountPosted() {
+        return amountPosted;
+    }
+
+    public void setAmountPosted(BigDecimal amountPosted) {
+        this.amountPosted = amountPosted;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Boolean getResumed() {
+        return resumed;
+    }
+
+    public void setResumed(Boolean resumed) {
+        this.resumed = resumed;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
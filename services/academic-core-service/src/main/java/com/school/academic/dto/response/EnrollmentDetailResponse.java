@@ -0,0 +1,146 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class EnrollmentDetailResponse {
+
+    private UUID id;
+    private UUID academicYearId;
+    private String academicYear;
+    private UUID classSectionId;
+    private String className;
+    private String sectionName;
+    private String medium;
+    private String rollNumber;
+    private String status;
+    private LocalDate enrollmentDate;
+    private LocalDate endDate;
+    private UUID classTeacherId;
+    private String classTeacherName;
+    private UUID classroomId;
+    private String classroomNumber;
+
+    public EnrollmentDetailResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(String academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public String getSectionName() {
+        return sectionName;
+    }
+
+    public void setSectionName(String sectionName) {
+        this.sectionName = sectionName;
+    }
+
+    public String getMedium() {
+        return medium;
+    }
+
+    public void setMedium(String medium) {
+        this.medium = medium;
+    }
+
+    public String getRollNumber() {
+        return rollNumber;
+    }
+
+    public void setRollNumber(String rollNumber) {
+        this.rollNumber = rollNumber;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getEnrollmentDate() {
+        return enrollmentDate;
+    }
+
+    public void setEnrollmentDate(LocalDate enrollmentDate) {
+        this.enrollmentDate = enrollmentDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public UUID getClassTeacherId() {
+        return classTeacherId;
+    }
+
+    public void setClassTeacherId(UUID classTeacherId) {
+        this.classTeacherId = classTeacherId;
+    }
+
+    public String getClassTeacherName() {
+        return classTeacherName;
+    }
+
+    public void setClassTeacherName(String classTeacherName) {
+        this.classTeacherName = classTeacherName;
+    }
+
+    public UUID getClassroomId() {
+        return classroomId;
+    }
+
+    public void setClassroomId(UUID classroomId) {
+        this.classroomId = classroomId;
+    }
+
+    public String getClassroomNumber() {
+        return classroomNumber;
+    }
+
+    public void setClassroomNumber(String classroomNumber) {
+        this.classroomNumber = classroomNumber;
+    }
+}
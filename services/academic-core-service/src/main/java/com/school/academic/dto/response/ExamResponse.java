@@ -0,0 +1,65 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class ExamResponse {
+
+    private UUID id;
+    private UUID academicYearId;
+    private String academicYearName;
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public ExamResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public String getAcademicYearName() {
+        return academicYearName;
+    }
+
+    public void setAcademicYearName(String academicYearName) {
+        this.academicYearName = academicYearName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+}
@@ -0,0 +1,47 @@
+package com.school.academic.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ExamResultsResponse {
+
+    private UUID examId;
+    private String examName;
+    private UUID academicYearId;
+    private List<SectionResultResponse> sections;
+
+    public ExamResultsResponse() {
+    }
+
+    public UUID getExamId() {
+        return examId;
+    }
+
+    public void setExamId(UUID examId) {
+        this.examId = examId;
+    }
+
+    public String getExamName() {
+        return examName;
+    }
+
+    public void setExamName(String examName) {
+        this.examName = examName;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public List<SectionResultResponse> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<SectionResultResponse> sections) {
+        this.sections = sections;
+    }
+}
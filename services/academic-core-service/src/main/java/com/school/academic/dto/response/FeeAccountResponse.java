@@ -0,0 +1,105 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An enrollment's fee totals; entries are only filled in when a single student's account is fetched.
+ */
+public class FeeAccountResponse {
+
+    private UUID enrollmentId;
+    private UUID studentId;
+    private String admissionNumber;
+    private String studentName;
+    private UUID classSectionId;
+    private String classSectionName;
+    private BigDecimal billed;
+    private BigDecimal paid;
+    private BigDecimal balance;
+    private List<FeeLedgerEntryResponse> entries;
+
+    public FeeAccountResponse() {
+    }
+
+    public UUID getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(UUID enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getAdmissionNumber() {
+        return admissionNumber;
+    }
+
+    public void setAdmissionNumber(String admissionNumber) {
+        this.admissionNumber = admissionNumber;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public BigDecimal getBilled() {
+        return billed;
+    }
+
+    public void setBilled(BigDecimal billed) {
+        this.billed = billed;
+    }
+
+    public BigDecimal getPaid() {
+        return paid;
+    }
+
+    public void setPaid(BigDecimal paid) {
+        this.paid = paid;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public List<FeeLedgerEntryResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<FeeLedgerEntryResponse> entries) {
+        this.entries = entries;
+    }
+}
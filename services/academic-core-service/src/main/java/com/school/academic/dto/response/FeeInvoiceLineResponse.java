@@ -0,0 +1,28 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+
+public class FeeInvoiceLineResponse {
+
+    private String feeHead;
+    private BigDecimal amount;
+
+    public FeeInvoiceLineResponse() {
+    }
+
+    public String getFeeHead() {
+        return feeHead;
+    }
+
+    public void setFeeHead(String feeHead) {
+        this.feeHead = feeHead;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
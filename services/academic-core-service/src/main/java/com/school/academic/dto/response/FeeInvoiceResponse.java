@@ -0,0 +1,160 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An invoice; lines are only filled in when a single invoice is fetched.
+ */
+public class FeeInvoiceResponse {
+
+    private UUID id;
+    private String invoiceNumber;
+    private UUID invoiceRunId;
+    private UUID enrollmentId;
+    private UUID studentId;
+    private String admissionNumber;
+    private String studentName;
+    private UUID classSectionId;
+    private String classSectionName;
+    private String billingPeriod;
+    private BigDecimal amount;
+    private BigDecimal paidAmount;
+    private BigDecimal balance;
+    private String status;
+    private LocalDate dueDate;
+    private List<FeeInvoiceLineResponse> lines;
+
+    public FeeInvoiceResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getInvoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public void setInvoiceNumber(String invoiceNumber) {
+        this.invoiceNumber = invoiceNumber;
+    }
+
+    public UUID getInvoiceRunId() {
+        return invoiceRunId;
+    }
+
+    public void setInvoiceRunId(UUID invoiceRunId) {
+        this.invoiceRunId = invoiceRunId;
+    }
+
+    public UUID getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(UUID enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getAdmissionNumber() {
+        return admissionNumber;
+    }
+
+    public void setAdmissionNumber(String admissionNumber) {
+        this.admissionNumber = admissionNumber;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getPaidAmount() {
+        return paidAmount;
+    }
+
+    public void setPaidAmount(BigDecimal paidAmount) {
+        this.paidAmount = paidAmount;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public List<FeeInvoiceLineResponse> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<FeeInvoiceLineResponse> lines) {
+        this.lines = lines;
+    }
+}
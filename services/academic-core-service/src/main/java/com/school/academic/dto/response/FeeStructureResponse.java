@@ -0,0 +1,74 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class FeeStructureResponse {
+
+    private UUID id;
+    private UUID academicYearId;
+    private UUID classId;
+    private String className;
+    private String feeHead;
+    private String billingPeriod;
+    private BigDecimal amount;
+
+    public FeeStructureResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public UUID getClassId() {
+        return classId;
+    }
+
+    public void setClassId(UUID classId) {
+        this.classId = classId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public String getFeeHead() {
+        return feeHead;
+    }
+
+    public void setFeeHead(String feeHead) {
+        this.feeHead = feeHead;
+    }
+
+    public String getBillingPeriod() {
+        return billingPeriod;
+    }
+
+    public void setBillingPeriod(String billingPeriod) {
+        this.billingPeriod = billingPeriod;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
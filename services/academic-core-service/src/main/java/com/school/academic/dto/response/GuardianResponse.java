@@ -0,0 +1,73 @@
+package com.school.academic.dto.response;
+
+import java.util.UUID;
+
+public class GuardianResponse {
+
+    private UUID parentId;
+    private String firstName;
+    private String lastName;
+    private String mobile;
+    private String email;
+    private String relationship;
+    private Boolean isPrimaryContact;
+
+    public GuardianResponse() {
+    }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getMobile() {
+        return mobile;
+    }
+
+    public void setMobile(String mobile) {
+        this.mobile = mobile;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getRelationship() {
+        return relationship;
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+
+    public Boolean getIsPrimaryContact() {
+        return isPrimaryContact;
+    }
+
+    public void setIsPrimaryContact(Boolean isPrimaryContact) {
+        this.isPrimaryContact = isPrimaryContact;
+    }
+}
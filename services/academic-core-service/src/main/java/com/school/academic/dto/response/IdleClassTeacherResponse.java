@@ -0,0 +1,49 @@
+package com.school.academic.dto.response;
+
+import java.util.UUID;
+
+/**
+ * A class section whose class teacher teaches nothing in it.
+ */
+public class IdleClassTeacherResponse {
+
+    private UUID classSectionId;
+    private String classSectionName;
+    private UUID staffId;
+    private String staffName;
+
+    public IdleClassTeacherResponse() {
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public UUID getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(UUID staffId) {
+        this.staffId = staffId;
+    }
+
+    public String getStaffName() {
+        return staffName;
+    }
+
+    public void setStaffName(String staffName) {
+        this.staffName = staffName;
+    }
+}
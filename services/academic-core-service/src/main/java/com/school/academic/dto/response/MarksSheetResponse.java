@@ -0,0 +1,111 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class MarksSheetResponse {
+
+    private UUID examId;
+    private String examName;
+    private UUID classSectionId;
+    private String classSectionName;
+    private UUID subjectId;
+    private String subjectName;
+    private Integer maxMarks;
+    private Integer entered;
+    private Integer absent;
+    private BigDecimal highestMarks;
+    private List<StudentMarkResponse> students;
+
+    public MarksSheetResponse() {
+    }
+
+    public UUID getExamId() {
+        return examId;
+    }
+
+    public void setExamId(UUID examId) {
+        this.examId = examId;
+    }
+
+    public String getExamName() {
+        return examName;
+    }
+
+    public void setExamName(String examName) {
+        this.examName = examName;
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public UUID getSubjectId() {
+        return subjectId;
+    }
+
+    public void setSubjectId(UUID subjectId) {
+        this.subjectId = subjectId;
+    }
+
+    public String getSubjectName() {
+        return subjectName;
+    }
+
+    public void setSubjectName(String subjectName) {
+        this.subjectName = subjectName;
+    }
+
+    public Integer getMaxMarks() {
+        return maxMarks;
+    }
+
+    public void setMaxMarks(Integer maxMarks) {
+        this.maxMarks = maxMarks;
+    }
+
+    public Integer getEntered() {
+        return entered;
+    }
+
+    public void setEntered(Integer entered) {
+        this.entered = entered;
+    }
+
+    public Integer getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(Integer absent) {
+        this.absent = absent;
+    }
+
+    public BigDecimal getHighestMarks() {
+        return highestMarks;
+    }
+
+    public void setHighestMarks(BigDecimal highestMarks) {
+        this.highestMarks = highestMarks;
+    }
+
+    public List<StudentMarkResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentMarkResponse> students) {
+        this.students = students;
+    }
+}
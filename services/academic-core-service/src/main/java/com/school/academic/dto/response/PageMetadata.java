@@ -0,0 +1,105 @@
+package com.school.academic.dto.response;
+
+/**
+ * Pagination metadata for paginated responses.
+ *
+ * Offset pages (e.g. the staff list) use {@link #of(org.springframework.data.domain.Page)}.
+ * Front-office lists are fetched as slices: {@code hasNext} is always set, while
+ * {@code totalElements}/{@code totalPages} are only present when a total was
+ * requested and may lag recent writes by the count cache TTL. {@code nextCursor}
+ * continues after the last row in {@code (createdAt, id)} order.
+ */
+public class PageMetadata {
+
+    private int page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    public PageMetadata() {
+    }
+
+    public PageMetadata(int page, int size, long totalElements, int totalPages) {
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    // Static factory method for convenience
+    public static PageMetadata of(org.springframework.data.domain.Page<?> page) {
+        return new PageMetadata(
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+
+    /**
+     * Metadata for a count-free slice. {@code total} may be null when not requested.
+     */
+    public static PageMetadata ofSlice(int page, int size, boolean hasNext, Long total, String nextCursor) {
+        PageMetadata metadata = new PageMetadata();
+        metadata.setPage(page);
+        metadata.setSize(size);
+        metadata.setHasNext(hasNext);
+        metadata.setNextCursor(nextCursor);
+        if (total != null) {
+            metadata.setTotalElements(total);
+            metadata.setTotalPages(size > 0 ? (int) ((total + size - 1) / size) : 1);
+        }
+        return metadata;
+    }
+
+    // Getters and Setters
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public Integer getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(Integer totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public Boolean getHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(Boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
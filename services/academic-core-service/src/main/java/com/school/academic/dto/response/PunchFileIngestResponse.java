@@ -0,0 +1,140 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outcome of loading one biometric punch file.
+ */
+public class PunchFileIngestResponse {
+
+    private String fileName;
+    private int lines;
+    private int punches;
+    private int duplicates;
+    private int inserted;
+    private int alreadyLoaded;
+    private int unknownStaffPunches;
+    private List<String> unknownStaffCodes;
+    private int malformedLines;
+    private List<Integer> malformedLineNumbers;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private int staffDays;
+    private long elapsedMillis;
+
+    public PunchFileIngestResponse() {
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public void setLines(int lines) {
+        this.lines = lines;
+    }
+
+    public int getPunches() {
+        return punches;
+    }
+
+    public void setPunches(int punches) {
+        this.punches = punches;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getAlreadyLoaded() {
+        return alreadyLoaded;
+    }
+
+    public void setAlreadyLoaded(int alreadyLoaded) {
+        this.alreadyLoaded = alreadyLoaded;
+    }
+
+    public int getUnknownStaffPunches() {
+        return unknownStaffPunches;
+    }
+
+    public void setUnknownStaffPunches(int unknownStaffPunches) {
+        this.unknownStaffPunches = unknownStaffPunches;
+    }
+
+    public List<String> getUnknownStaffCodes() {
+        return unknownStaffCodes;
+    }
+
+    public void setUnknownStaffCodes(List<String> unknownStaffCodes) {
+        this.unknownStaffCodes = unknownStaffCodes;
+    }
+
+    public int getMalformedLines() {
+        return malformedLines;
+    }
+
+    public void setMalformedLines(int malformedLines) {
+        this.malformedLines = malformedLines;
+    }
+
+    public List<Integer> getMalformedLineNumbers() {
+        return malformedLineNumbers;
+    }
+
+    public void setMalformedLineNumbers(List<Integer> malformedLineNumbers) {
+        this.malformedLineNumbers = malformedLineNumbers;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public int getStaffDays() {
+        return staffDays;
+    }
+
+    public void setStaffDays(int staffDays) {
+        this.staffDays = staffDays;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
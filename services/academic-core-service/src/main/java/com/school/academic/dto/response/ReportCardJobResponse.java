@@ -0,0 +1,137 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class ReportCardJobResponse {
+
+    private UUID jobId;
+    private UUID academicYearId;
+    private String academicYearName;
+    private String output;
+    private String status;
+    private Integer total;
+    private Integer rendered;
+    private Integer failed;
+    private Double cardsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String outputDir;
+    private String error;
+
+    public ReportCardJobResponse() {
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(UUID jobId) {
+        this.jobId = jobId;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public String getAcademicYearName() {
+        return academicYearName;
+    }
+
+    public void setAcademicYearName(String academicYearName) {
+        this.academicYearName = academicYearName;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public Integer getRendered() {
+        return rendered;
+    }
+
+    public void setRendered(Integer rendered) {
+        this.rendered = rendered;
+    }
+
+    public Integer getFailed() {
+        return failed;
+    }
+
+    public void setFailed(Integer failed) {
+        this.failed = failed;
+    }
+
+    public Double getCardsPerSecond() {
+        return cardsPerSecond;
+    }
+
+    public void setCardsPerSecond(Double cardsPerSecond) {
+        this.cardsPerSecond = cardsPerSecond;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(String outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
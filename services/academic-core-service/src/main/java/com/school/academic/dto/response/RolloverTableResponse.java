@@ -0,0 +1,53 @@
+package com.school.academic.dto.response;
+
+import java.util.List;
+
+public class RolloverTableResponse {
+
+    private long sourceCount;
+    private long createdCount;
+    private long skippedCount;
+    private List<String> created;
+
+    public RolloverTableResponse() {
+    }
+
+    public RolloverTableResponse(long sourceCount, long createdCount, long skippedCount, List<String> created) {
+        this.sourceCount = sourceCount;
+        this.createdCount = createdCount;
+        this.skippedCount = skippedCount;
+        this.created = created;
+    }
+
+    public long getSourceCount() {
+        return sourceCount;
+    }
+
+    public void setSourceCount(long sourceCount) {
+        this.sourceCount = sourceCount;
+    }
+
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(long createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public List<String> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<String> created) {
+        this.created = created;
+    }
+}
@@ -0,0 +1,84 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class SectionAttendanceSummaryResponse {
+
+    private UUID classSectionId;
+    private String classSectionName;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private int daysMarked;
+    private AttendanceCountsResponse total;
+    private List<AttendanceCountsResponse> months;
+    private List<StudentAttendanceSummaryResponse> students;
+
+    public SectionAttendanceSummaryResponse() {
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public int getDaysMarked() {
+        return daysMarked;
+    }
+
+    public void setDaysMarked(int daysMarked) {
+        this.daysMarked = daysMarked;
+    }
+
+    public AttendanceCountsResponse getTotal() {
+        return total;
+    }
+
+    public void setTotal(AttendanceCountsResponse total) {
+        this.total = total;
+    }
+
+    public List<AttendanceCountsResponse> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<AttendanceCountsResponse> months) {
+        this.months = months;
+    }
+
+    public List<StudentAttendanceSummaryResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentAttendanceSummaryResponse> students) {
+        this.students = students;
+    }
+}
@@ -0,0 +1,84 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public class SectionResultResponse {
+
+    private UUID classSectionId;
+    private String classSectionName;
+    private BigDecimal maxTotal;
+    private BigDecimal highestTotal;
+    private Double averagePercentage;
+    private List<SubjectResultResponse> subjects;
+    private List<String> pendingSubjects;
+    private List<StudentResultResponse> students;
+
+    public SectionResultResponse() {
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public BigDecimal getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal(BigDecimal maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    public BigDecimal getHighestTotal() {
+        return highestTotal;
+    }
+
+    public void setHighestTotal(BigDecimal highestTotal) {
+        this.highestTotal = highestTotal;
+    }
+
+    public Double getAveragePercentage() {
+        return averagePercentage;
+    }
+
+    public void setAveragePercentage(Double averagePercentage) {
+        this.averagePercentage = averagePercentage;
+    }
+
+    public List<SubjectResultResponse> getSubjects() {
+        return subjects;
+    }
+
+    public void setSubjects(List<SubjectResultResponse> subjects) {
+        this.subjects = subjects;
+    }
+
+    public List<String> getPendingSubjects() {
+        return pendingSubjects;
+    }
+
+    public void setPendingSubjects(List<String> pendingSubjects) {
+        this.pendingSubjects = pendingSubjects;
+    }
+
+    public List<StudentResultResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentResultResponse> students) {
+        this.students = students;
+    }
+}
@@ -0,0 +1,84 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public class StaffAttendanceDayResponse {
+
+    private UUID staffId;
+    private String staffCode;
+    private String staffName;
+    private LocalDate date;
+    private LocalTime firstIn;
+    private LocalTime lastOut;
+    private int punchCount;
+    private Long workedMinutes;
+
+    public StaffAttendanceDayResponse() {
+    }
+
+    public UUID getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(UUID staffId) {
+        this.staffId = staffId;
+    }
+
+    public String getStaffCode() {
+        return staffCode;
+    }
+
+    public void setStaffCode(String staffCode) {
+        this.staffCode = staffCode;
+    }
+
+    public String getStaffName() {
+        return staffName;
+    }
+
+    public void setStaffName(String staffName) {
+        this.staffName = staffName;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalTime getFirstIn() {
+        return firstIn;
+    }
+
+    public void setFirstIn(LocalTime firstIn) {
+        this.firstIn = firstIn;
+    }
+
+    public LocalTime getLastOut() {
+        return lastOut;
+    }
+
+    public void setLastOut(LocalTime lastOut) {
+        this.lastOut = lastOut;
+    }
+
+    public int getPunchCount() {
+        return punchCount;
+    }
+
+    public void setPunchCount(int punchCount) {
+        this.punchCount = punchCount;
+    }
+
+    public Long getWorkedMinutes() {
+        return workedMinutes;
+    }
+
+    public void setWorkedMinutes(Long workedMinutes) {
+        this.workedMinutes = workedMinutes;
+    }
+}
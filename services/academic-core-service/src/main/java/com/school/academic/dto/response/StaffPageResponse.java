@@ -0,0 +1,34 @@
+package com.school.academic.dto.response;
+
+import java.util.List;
+
+public class StaffPageResponse {
+
+    private List<StaffResponse> content;
+    private PageMetadata page;
+
+    public StaffPageResponse() {
+    }
+
+    public StaffPageResponse(List<StaffResponse> content, PageMetadata page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    // Getters and Setters
+    public List<StaffResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<StaffResponse> content) {
+        this.content = content;
+    }
+
+    public PageMetadata getPage() {
+        return page;
+    }
+
+    public void setPage(PageMetadata page) {
+        this.page = page;
+    }
+}
@@ -0,0 +1,65 @@
+package com.school.academic.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public class StaffWorkloadResponse {
+
+    private UUID staffId;
+    private String staffName;
+    private String staffCode;
+    private int periodsPerWeek;
+    private boolean overloaded;
+    private List<WorkloadAssignmentResponse> assignments;
+
+    public StaffWorkloadResponse() {
+    }
+
+    public UUID getStaffId() {
+        return staffId;
+    }
+
+    public void setStaffId(UUID staffId) {
+        this.staffId = staffId;
+    }
+
+    public String getStaffName() {
+        return staffName;
+    }
+
+    public void setStaffName(String staffName) {
+        this.staffName = staffName;
+    }
+
+    public String getStaffCode() {
+        return staffCode;
+    }
+
+    public void setStaffCode(String staffCode) {
+        this.staffCode = staffCode;
+    }
+
+    public int getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(int periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public boolean getOverloaded() {
+        return overloaded;
+    }
+
+    public void setOverloaded(boolean overloaded) {
+        this.overloaded = overloaded;
+    }
+
+    public List<WorkloadAssignmentResponse> getAssignments() {
+        return assignments;
+    }
+
+    public void setAssignments(List<WorkloadAssignmentResponse> assignments) {
+        this.assignments = assignments;
+    }
+}
@@ -0,0 +1,93 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class StudentAttendanceSummaryResponse {
+
+    private UUID studentId;
+    private String studentName;
+    private Integer rollNumber;
+    private UUID classSectionId;
+    private String classSectionName;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private AttendanceCountsResponse total;
+    private List<AttendanceCountsResponse> months;
+
+    public StudentAttendanceSummaryResponse() {
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public Integer getRollNumber() {
+        return rollNumber;
+    }
+
+    public void setRollNumber(Integer rollNumber) {
+        this.rollNumber = rollNumber;
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public AttendanceCountsResponse getTotal() {
+        return total;
+    }
+
+    public void setTotal(AttendanceCountsResponse total) {
+        this.total = total;
+    }
+
+    public List<AttendanceCountsResponse> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<AttendanceCountsResponse> months) {
+        this.months = months;
+    }
+}
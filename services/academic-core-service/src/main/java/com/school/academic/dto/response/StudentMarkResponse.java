@@ -0,0 +1,56 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class StudentMarkResponse {
+
+    private UUID studentId;
+    private String studentName;
+    private Integer rollNumber;
+    private BigDecimal marks;
+    private Boolean absent;
+
+    public StudentMarkResponse() {
+    }
+
+    public UUID getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(UUID studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public Integer getRollNumber() {
+        return rollNumber;
+    }
+
+    public void setRollNumber(Integer rollNumber) {
+        this.rollNumber = rollNumber;
+    }
+
+    public BigDecimal getMarks() {
+        return marks;
+    }
+
+    public void setMarks(BigDecimal marks) {
+        this.marks = marks;
+    }
+
+    public Boolean getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(Boolean absent) {
+        this.absent = absent;
+    }
+}
@@ -0,0 +1,46 @@
+package com.school.academic.dto.response;
+
+import java.util.List;
+
+public class StudentProfileResponse {
+
+    private StudentResponse student;
+    private List<GuardianResponse> guardians;
+    private EnrollmentDetailResponse currentEnrollment;
+    private List<EnrollmentDetailResponse> enrollmentHistory;
+
+    public StudentProfileResponse() {
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+
+    public List<GuardianResponse> getGuardians() {
+        return guardians;
+    }
+
+    public void setGuardians(List<GuardianResponse> guardians) {
+        this.guardians = guardians;
+    }
+
+    public EnrollmentDetailResponse getCurrentEnrollment() {
+        return currentEnrollment;
+    }
+
+    public void setCurrentEnrollment(EnrollmentDetailResponse currentEnrollment) {
+        this.currentEnrollment = currentEnrollment;
+    }
+
+    public List<EnrollmentDetailResponse> getEnrollmentHistory() {
+        return enrollmentHistory;
+    }
+
+    public void setEnrollmentHistory(List<EnrollmentDetailResponse> enrollmentHistory) {
+        this.enrollmentHistory = enrollmentHistory;
+    }
+}
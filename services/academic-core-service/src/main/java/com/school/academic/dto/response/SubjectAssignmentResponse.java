@@ -8,6 +8,8 @@ public class SubjectAssignmentResponse {
     private String subjectName;
     private String className;
     private String sectionName;
+    private Integer periodsPerWeek;
+    private String roomType;
 
     public SubjectAssignmentResponse() {
     }
@@ -50,5 +52,20 @@ public class SubjectAssignmentResponse {
     public void setSectionName(String sectionName) {
         this.sectionName = sectionName;
     }
-}
 
+    public Integer getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(Integer periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public String getRoomType() {
+        return roomType;
+    }
+
+    public void setRoomType(String roomType) {
+        this.roomType = roomType;
+    }
+}
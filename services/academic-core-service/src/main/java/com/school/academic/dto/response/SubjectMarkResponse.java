@@ -0,0 +1,38 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class SubjectMarkResponse {
+
+    private UUID subjectId;
+    private BigDecimal marks;
+    private Boolean absent;
+
+    public SubjectMarkResponse() {
+    }
+
+    public UUID getSubjectId() {
+        return subjectId;
+    }
+
+    public void setSubjectId(UUID subjectId) {
+        this.subjectId = subjectId;
+    }
+
+    public BigDecimal getMarks() {
+        return marks;
+    }
+
+    public void setMarks(BigDecimal marks) {
+        this.marks = marks;
+    }
+
+    public Boolean getAbsent() {
+        return absent;
+    }
+
+    public void setAbsent(Boolean absent) {
+        this.absent = absent;
+    }
+}
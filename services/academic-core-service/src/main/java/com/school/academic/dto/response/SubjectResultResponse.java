@@ -0,0 +1,56 @@
+package com.school.academic.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class SubjectResultResponse {
+
+    private UUID subjectId;
+    private String subjectName;
+    private Integer maxMarks;
+    private Integer entered;
+    private BigDecimal highestMarks;
+
+    public SubjectResultResponse() {
+    }
+
+    public UUID getSubjectId() {
+        return subjectId;
+    }
+
+    public void setSubjectId(UUID subjectId) {
+        this.subjectId = subjectId;
+    }
+
+    public String getSubjectName() {
+        return subjectName;
+    }
+
+    public void setSubjectName(String subjectName) {
+        this.subjectName = subjectName;
+    }
+
+    public Integer getMaxMarks() {
+        return maxMarks;
+    }
+
+    public void setMaxMarks(Integer maxMarks) {
+        this.maxMarks = maxMarks;
+    }
+
+    public Integer getEntered() {
+        return entered;
+    }
+
+    public void setEntered(Integer entered) {
+        this.entered = entered;
+    }
+
+    public BigDecimal getHighestMarks() {
+        return highestMarks;
+    }
+
+    public void setHighestMarks(BigDecimal highestMarks) {
+        this.highestMarks = highestMarks;
+    }
+}
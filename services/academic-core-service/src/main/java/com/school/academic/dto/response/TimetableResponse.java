@@ -0,0 +1,129 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class TimetableResponse {
+
+    private UUID id;
+    private UUID academicYearId;
+    private int daysPerWeek;
+    private int periodsPerDay;
+    private int revision;
+    private LocalDateTime generatedAt;
+    private int entryCount;
+    private int unchangedCount;
+    private int addedCount;
+    private int removedCount;
+    private List<String> unscheduled;
+    private long solveMillis;
+    private int restarts;
+
+    public TimetableResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public int getDaysPerWeek() {
+        return daysPerWeek;
+    }
+
+    public void setDaysPerWeek(int daysPerWeek) {
+        this.daysPerWeek = daysPerWeek;
+    }
+
+    public int getPeriodsPerDay() {
+        return periodsPerDay;
+    }
+
+    public void setPeriodsPerDay(int periodsPerDay) {
+        this.periodsPerDay = periodsPerDay;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public void setRevision(int revision) {
+        this.revision = revision;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public void setEntryCount(int entryCount) {
+        this.entryCount = entryCount;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public void setUnchangedCount(int unchangedCount) {
+        this.unchangedCount = unchangedCount;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public void setAddedCount(int addedCount) {
+        this.addedCount = addedCount;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public void setRemovedCount(int removedCount) {
+        this.removedCount = removedCount;
+    }
+
+    public List<String> getUnscheduled() {
+        return unscheduled;
+    }
+
+    public void setUnscheduled(List<String> unscheduled) {
+        this.unscheduled = unscheduled;
+    }
+
+    public long getSolveMillis() {
+        return solveMillis;
+    }
+
+    public void setSolveMillis(long solveMillis) {
+        this.solveMillis = solveMillis;
+    }
+
+    public int getRestarts() {
+        return restarts;
+    }
+
+    public void setRestarts(int restarts) {
+        this.restarts = restarts;
+    }
+}
@@ -0,0 +1,64 @@
+package com.school.academic.dto.response;
+
+import java.util.UUID;
+
+public class WorkloadAssignmentResponse {
+
+    private UUID classSectionId;
+    private String classSectionName;
+    private UUID subjectId;
+    private String subjectName;
+    private int periodsPerWeek;
+    private boolean inCurriculum;
+
+    public WorkloadAssignmentResponse() {
+    }
+
+    public UUID getClassSectionId() {
+        return classSectionId;
+    }
+
+    public void setClassSectionId(UUID classSectionId) {
+        this.classSectionId = classSectionId;
+    }
+
+    public String getClassSectionName() {
+        return classSectionName;
+    }
+
+    public void setClassSectionName(String classSectionName) {
+        this.classSectionName = classSectionName;
+    }
+
+    public UUID getSubjectId() {
+        return subjectId;
+    }
+
+    public void setSubjectId(UUID subjectId) {
+        this.subjectId = subjectId;
+    }
+
+    public String getSubjectName() {
+        return subjectName;
+    }
+
+    public void setSubjectName(String subjectName) {
+        this.subjectName = subjectName;
+    }
+
+    public int getPeriodsPerWeek() {
+        return periodsPerWeek;
+    }
+
+    public void setPeriodsPerWeek(int periodsPerWeek) {
+        this.periodsPerWeek = periodsPerWeek;
+    }
+
+    public boolean getInCurriculum() {
+        return inCurriculum;
+    }
+
+    public void setInCurriculum(boolean inCurriculum) {
+        this.inCurriculum = inCurriculum;
+    }
+}
@@ -0,0 +1,84 @@
+package com.school.academic.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class WorkloadReportResponse {
+
+    private UUID academicYearId;
+    private int maxPeriodsPerWeek;
+    private LocalDateTime builtAt;
+    private int staffCount;
+    private int sectionCount;
+    private List<StaffWorkloadResponse> overloadedStaff;
+    private List<CoverageGapResponse> coverageGaps;
+    private List<IdleClassTeacherResponse> idleClassTeachers;
+
+    public WorkloadReportResponse() {
+    }
+
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public int getMaxPeriodsPerWeek() {
+        return maxPeriodsPerWeek;
+    }
+
+    public void setMaxPeriodsPerWeek(int maxPeriodsPerWeek) {
+        this.maxPeriodsPerWeek = maxPeriodsPerWeek;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public void setBuiltAt(LocalDateTime builtAt) {
+        this.builtAt = builtAt;
+    }
+
+    public int getStaffCount() {
+        return staffCount;
+    }
+
+    public void setStaffCount(int staffCount) {
+        this.staffCount = staffCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    public void setSectionCount(int sectionCount) {
+        this.sectionCount = sectionCount;
+    }
+
+    public List<StaffWorkloadResponse> getOverloadedStaff() {
+        return overloadedStaff;
+    }
+
+    public void setOverloadedStaff(List<StaffWorkloadResponse> overloadedStaff) {
+        this.overloadedStaff = overloadedStaff;
+    }
+
+    public List<CoverageGapResponse> getCoverageGaps() {
+        return coverageGaps;
+    }
+
+    public void setCoverageGaps(List<CoverageGapResponse> coverageGaps) {
+        this.coverageGaps = coverageGaps;
+    }
+
+    public List<IdleClassTeacherResponse> getIdleClassTeachers() {
+        return idleClassTeachers;
+    }
+
+    public void setIdleClassTeachers(List<IdleClassTeacherResponse> idleClassTeachers) {
+        this.idleClassTeachers = idleClassTeachers;
+    }
+}
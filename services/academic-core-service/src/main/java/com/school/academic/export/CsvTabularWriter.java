@@ -0,0 +1,76 @@
+package com.school.academic.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV writer. Emits a UTF-8 byte order mark so spreadsheet tools pick
+ * the right encoding for non-ASCII names.
+ *
+ * Text that a spreadsheet would evaluate as a formula (starting with {@code =}, {@code +},
+ * {@code -}, {@code @}, tab or carriage return) is prefixed with an apostrophe so that a
+ * name or address typed into the school's records cannot run as a formula on a desk PC.
+ * Numbers and dates are written as they are.
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Writer writer;
+
+    public CsvTabularWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            writer.write(BYTE_ORDER_MARK);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to start CSV export", ex);
+        }
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof CharSequence text) {
+                writeField(neutralize(text.toString()));
+            } else if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flush only; the servlet container owns the response stream
+        writer.flush();
+    }
+
+    private String neutralize(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
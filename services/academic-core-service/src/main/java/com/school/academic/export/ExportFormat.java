@@ -0,0 +1,57 @@
+package com.school.academic.export;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Supported tabular export formats.
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv") {
+        @Override
+        public TabularWriter open(OutputStream out, String sheetName) {
+            return new CsvTabularWriter(out);
+        }
+    },
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") {
+        @Override
+        public TabularWriter open(OutputStream out, String sheetName) {
+            return new XlsxTabularWriter(out, sheetName);
+        }
+    };
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, String mediaType) {
+        this.extension = extension;
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Open a row writer on the given stream. Closing the writer flushes it but
+     * leaves the underlying stream open.
+     */
+    public abstract TabularWriter open(OutputStream out, String sheetName) throws IOException;
+
+    public static ExportFormat fromValue(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value + ". Use csv or xlsx");
+    }
+}
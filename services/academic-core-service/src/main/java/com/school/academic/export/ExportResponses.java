@@ -0,0 +1,32 @@
+package com.school.academic.export;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Builds attachment responses for streamed exports.
+ *
+ * The body is written on the async request executor (see AsyncRequestConfig) after the controller returns,
+ * so request threads are not held for the duration of a large export.
+ */
+public final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportFormat format,
+                                                                   StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(baseName + "." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .cacheControl(CacheControl.noStore())
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+}
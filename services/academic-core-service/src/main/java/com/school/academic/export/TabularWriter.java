@@ -0,0 +1,16 @@
+package com.school.academic.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Row-at-a-time writer for exports. Implementations keep at most a small, fixed
+ * window of rows in memory, so export size does not affect heap usage.
+ */
+public interface TabularWriter extends Closeable {
+
+    /**
+     * Write one row. Values may be null, strings, numbers or dates.
+     */
+    void writeRow(Object... values) throws IOException;
+}
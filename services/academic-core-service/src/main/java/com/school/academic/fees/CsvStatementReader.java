@@ -0,0 +1,187 @@
+package com.school.academic.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reads a CSV bank export. The first non-blank row is the header; columns are found by
+ * name, so exports with extra columns or a different column order read the same way.
+ * A statement either has an amount column or separate credit and debit columns.
+ * Quoted fields may contain commas and doubled quotes but not line breaks. A header
+ * without those columns fails with IllegalArgumentException.
+ */
+public final class CsvStatementReader implements StatementReader {
+
+    private static final Set<String> DATE = Set.of("date", "value date", "value_date", "txn date",
+            "transaction date", "posting date");
+    private static final Set<String> AMOUNT = Set.of("amount", "transaction amount");
+    private static final Set<String> CREDIT = Set.of("credit", "credit amount", "deposit", "deposits");
+    private static final Set<String> DEBIT = Set.of("debit", "debit amount", "withdrawal", "withdrawals");
+    private static final Set<String> REFERENCE = Set.of("reference", "ref", "ref no", "reference no",
+            "utr", "transaction id", "cheque no");
+    private static final Set<String> NARRATIVE = Set.of("narrative", "description", "particulars",
+            "remarks", "details", "narration");
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+            DateTimeFormatter.ofPattern("dd.MM.yyyy"),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("dd-MMM-yyyy").toFormatter(Locale.ENGLISH),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("dd MMM yyyy").toFormatter(Locale.ENGLISH));
+
+    private final BufferedReader in;
+    private int dateColumn = -1;
+    private int amountColumn = -1;
+    private int creditColumn = -1;
+    private int debitColumn = -1;
+    private int referenceColumn = -1;
+    private int narrativeColumn = -1;
+    private boolean headerRead;
+    private int sequence;
+
+    CsvStatementReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        String row;
+        while ((row = in.readLine()) != null && row.isBlank()) {
+            // skip blank rows
+        }
+        if (row == null) {
+            return null;
+        }
+        if (!headerRead) {
+            readHeader(split(row));
+            return next();
+        }
+
+        sequence++;
+        List<String> fields = split(row);
+        try {
+            LocalDate date = parseDate(field(fields, dateColumn));
+            BigDecimal amount;
+            if (amountColumn >= 0) {
+                amount = parseAmount(field(fields, amountColumn));
+            } else {
+                BigDecimal credit = parseAmount(field(fields, creditColumn));
+                BigDecimal debit = parseAmount(field(fields, debitColumn));
+                amount = credit != null && credit.signum() != 0 ? credit : debit != null ? debit.abs().negate() : null;
+            }
+            if (amount == null) {
+                return StatementLine.malformed(sequence, row, "No amount");
+            }
+            if (amount.stripTrailingZeros().scale() > 2) {
+                return StatementLine.malformed(sequence, row, "Amount has more than 2 decimal places");
+            }
+            return new StatementLine(sequence, date, amount, blankToNull(field(fields, referenceColumn)),
+                    blankToNull(field(fields, narrativeColumn)), null);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return StatementLine.malformed(sequence, row, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readHeader(List<String> header) {
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip().toLowerCase(Locale.ROOT);
+            if (DATE.contains(name) && dateColumn < 0) {
+                dateColumn = i;
+            } else if (AMOUNT.contains(name) && amountColumn < 0) {
+                amountColumn = i;
+            } else if (CREDIT.contains(name) && creditColumn < 0) {
+                creditColumn = i;
+            } else if (DEBIT.contains(name) && debitColumn < 0) {
+                debitColumn = i;
+            } else if (REFERENCE.contains(name) && referenceColumn < 0) {
+                referenceColumn = i;
+            } else if (NARRATIVE.contains(name) && narrativeColumn < 0) {
+                narrativeColumn = i;
+            }
+        }
+        if (dateColumn < 0 || (amountColumn < 0 && creditColumn < 0)) {
+            throw new IllegalArgumentException("CSV statement header must name a date column and an amount "
+                    + "or credit column: " + String.join(",", header));
+        }
+        headerRead = true;
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column).strip() : "";
+    }
+
+    private static LocalDate parseDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        throw new DateTimeParseException("Unreadable date '" + value + "'", value, 0);
+    }
+
+    /**
+     * Amount with thousands separators, currency symbols and a trailing CR/DR allowed.
+     */
+    static BigDecimal parseAmount(String value) {
+        String upper = value.toUpperCase(Locale.ROOT);
+        boolean debit = upper.endsWith("DR") || (upper.startsWith("(") && upper.endsWith(")"));
+        String digits = upper.replaceAll("[^0-9.\\-]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal amount = new BigDecimal(digits);
+            return debit ? amount.abs().negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Unreadable amount '" + value + "'");
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> split(String row) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,26 @@
+package com.school.academic.fees;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An inclusive range of ids covering {@code count} rows. Set-based statements take a
+ * range instead of an id list, so a chunk of any size binds two parameters.
+ */
+public record IdRange(long fromId, long toId, int count) {
+
+    /**
+     * Split ascending ids into consecutive ranges of at most {@code chunkSize} ids each.
+     */
+    public static List<IdRange> chunk(List<Long> sortedIds, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        List<IdRange> ranges = new ArrayList<>((sortedIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, sortedIds.size());
+            ranges.add(new IdRange(sortedIds.get(from), sortedIds.get(to - 1), to - from));
+        }
+        return ranges;
+    }
+}
@@ -0,0 +1,101 @@
+package com.school.academic.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the statement lines of an MT940 file. Each {@code :61:} tag starts a transaction;
+ * the {@code :86:} tag after it, which may run over several lines, is its narrative.
+ * Balances, headers and other tags are skipped. The customer reference of the
+ * {@code :61:} line is added to the narrative unless it is NONREF, and the bank's
+ * reference after {@code //} becomes the transaction reference.
+ */
+public final class Mt940StatementReader implements StatementReader {
+
+    private static final Pattern STATEMENT_LINE = Pattern.compile(
+            "(\\d{6})(\\d{4})?(R?[CD])([A-Z])?(\\d{1,15},\\d{0,2})([A-Z][A-Z0-9]{3})([^/]*)(?://(.*))?");
+
+    private final BufferedReader in;
+    private String pending;
+    private int sequence;
+
+    Mt940StatementReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        String line = pending != null ? pending : in.readLine();
+        pending = null;
+        while (line != null && !line.startsWith(":61:")) {
+            line = in.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        sequence++;
+        String statementLine = line.substring(4).strip();
+        StringBuilder narrative = new StringBuilder();
+        boolean inNarrative = false;
+        for (String next = in.readLine(); next != null; next = in.readLine()) {
+            if (next.startsWith(":86:")) {
+                inNarrative = true;
+                narrative.append(next.substring(4).strip());
+            } else if (next.startsWith(":") || next.startsWith("{") || next.strip().equals("-")
+                    || next.startsWith("-}")) {
+                pending = next;
+                break;
+            } else if (inNarrative && !next.isBlank()) {
+                narrative.append(' ').append(next.strip());
+            }
+        }
+        return parse(sequence, statementLine, narrative.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private static StatementLine parse(int sequence, String statementLine, String narrative) {
+        Matcher m = STATEMENT_LINE.matcher(statementLine);
+        if (!m.matches()) {
+            return StatementLine.malformed(sequence, ":61:" + statementLine, "Unreadable :61: statement line");
+        }
+        LocalDate valueDate;
+        try {
+            String date = m.group(1);
+            valueDate = LocalDate.of(2000 + Integer.parseInt(date.substring(0, 2)),
+                    Integer.parseInt(date.substring(2, 4)), Integer.parseInt(date.substring(4, 6)));
+        } catch (DateTimeException e) {
+            return StatementLine.malformed(sequence, ":61:" + statementLine, "Unreadable value date");
+        }
+
+        BigDecimal amount = new BigDecimal(m.group(5).replace(',', '.'));
+        String mark = m.group(3);
+        // C credit, D debit, RC reversal of a credit, RD reversal of a debit
+        if (mark.equals("D") || mark.equals("RC")) {
+            amount = amount.negate();
+        }
+
+        String customerReference = m.group(7).strip();
+        String bankReference = m.group(8) != null ? m.group(8).strip() : "";
+        StringBuilder text = new StringBuilder();
+        if (!customerReference.isEmpty() && !customerReference.equalsIgnoreCase("NONREF")) {
+            text.append(customerReference);
+        }
+        if (!narrative.isEmpty()) {
+            text.append(text.isEmpty() ? "" : " ").append(narrative);
+        }
+        String reference = !bankReference.isEmpty() ? bankReference
+                : !customerReference.isEmpty() && !customerReference.equalsIgnoreCase("NONREF") ? customerReference
+                : null;
+        return new StatementLine(sequence, valueDate, amount, reference, text.isEmpty() ? null : text.toString(), null);
+    }
+}
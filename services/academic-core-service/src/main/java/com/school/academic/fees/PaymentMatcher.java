@@ -0,0 +1,244 @@
+package com.school.academic.fees;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Matches bank statement lines to open invoices using hash indexes built once per
+ * reconciliation run: invoices by invoice number, each student's open invoices by
+ * admission number, and the bank references already posted. Matching a line is a
+ * handful of hash lookups on the words of its reference and narrative, so the cost of
+ * a statement grows with its length only.
+ * <p>
+ * A line matches when
+ * <ol>
+ *     <li>it names one open invoice by number, of the student it names if it names one, and
+ *     does not exceed what is outstanding on it; or</li>
+ *     <li>it names no invoice but one admission number, and either equals what is
+ *     outstanding on one of that student's invoices (the earliest due wins) or fits within
+ *     the earliest due invoice.</li>
+ * </ol>
+ * Anything else goes to review with the reason. A matched line is applied to the
+ * in-memory outstanding amount straight away, so two lines never pay the same amount twice.
+ * Not thread-safe; a run matches its lines in file order on one thread.
+ */
+public final class PaymentMatcher {
+
+    public enum Outcome {
+        MATCHED,
+        DUPLICATE,
+        SKIPPED,
+        REVIEW
+    }
+
+    public static final String MALFORMED_LINE = "MALFORMED_LINE";
+    public static final String NO_MATCH = "NO_MATCH";
+    public static final String AMBIGUOUS = "AMBIGUOUS";
+    public static final String CONFLICTING_REFERENCE = "CONFLICTING_REFERENCE";
+    public static final String NO_OPEN_DUES = "NO_OPEN_DUES";
+    public static final String AMOUNT_EXCEEDS_DUE = "AMOUNT_EXCEEDS_DUE";
+
+    private final Map<String, Due> byInvoiceNumber;
+    private final Map<String, List<Due>> byAdmissionNumber;
+    private final Map<Long, Due> byInvoiceId;
+    private final Set<String> postedReferences;
+
+    public PaymentMatcher(Collection<Due> dues, Collection<String> postedReferences) {
+        this.byInvoiceNumber = new HashMap<>(dues.size() * 2);
+        this.byAdmissionNumber = new HashMap<>(dues.size());
+        this.byInvoiceId = new HashMap<>(dues.size() * 2);
+        for (Due due : dues) {
+            byInvoiceNumber.put(normalize(due.invoiceNumber), due);
+            byAdmissionNumber.computeIfAbsent(normalize(due.admissionNumber), key -> new ArrayList<>()).add(due);
+            byInvoiceId.put(due.invoiceId, due);
+        }
+        Comparator<Due> earliestFirst = Comparator.comparing((Due due) -> due.dueDate).thenComparing(due -> due.invoiceId);
+        byAdmissionNumber.values().forEach(list -> list.sort(earliestFirst));
+        this.postedReferences = new HashSet<>(postedReferences.size() * 2);
+        postedReferences.forEach(reference -> this.postedReferences.add(normalize(reference)));
+    }
+
+    /**
+     * Ids of the invoices a line could be matched to, so they can be locked and refreshed
+     * before {@link #match} decides.
+     */
+    public void collectCandidates(StatementLine line, Set<Long> invoiceIds) {
+        if (line.isMalformed() || !line.isCredit()) {
+            return;
+        }
+        for (String word : words(line)) {
+            Due due = byInvoiceNumber.get(word);
+            if (due != null) {
+                invoiceIds.add(due.invoiceId);
+            }
+            List<Due> dues = byAdmissionNumber.get(word);
+            if (dues != null) {
+                dues.forEach(d -> invoiceIds.add(d.invoiceId));
+            }
+        }
+    }
+
+    /**
+     * Replace the paid amount of an invoice with the one just read from the database.
+     */
+    public void refresh(long invoiceId, BigDecimal paidAmount) {
+        Due due = byInvoiceId.get(invoiceId);
+        if (due != null) {
+            due.paidAmount = paidAmount;
+        }
+    }
+
+    public Match match(StatementLine line) {
+        if (line.isMalformed()) {
+            return Match.review(line, MALFORMED_LINE);
+        }
+        if (!line.isCredit()) {
+            return new Match(line, Outcome.SKIPPED, null, null);
+        }
+        if (line.reference() != null && postedReferences.contains(normalize(line.reference()))) {
+            return new Match(line, Outcome.DUPLICATE, null, null);
+        }
+
+        Set<Due> invoices = new LinkedHashSet<>();
+        Set<String> admissionNumbers = new LinkedHashSet<>();
+        for (String word : words(line)) {
+            Due due = byInvoiceNumber.get(word);
+            if (due != null) {
+                invoices.add(due);
+            }
+            if (byAdmissionNumber.containsKey(word)) {
+                admissionNumbers.add(word);
+            }
+        }
+
+        BigDecimal amount = line.amount();
+        Due target;
+        if (invoices.size() > 1 || admissionNumbers.size() > 1) {
+            return Match.review(line, AMBIGUOUS);
+        } else if (invoices.size() == 1) {
+            target = invoices.iterator().next();
+            if (!admissionNumbers.isEmpty() && !admissionNumbers.contains(normalize(target.admissionNumber))) {
+                return Match.review(line, CONFLICTING_REFERENCE);
+            }
+            if (amount.compareTo(target.outstanding()) > 0) {
+                return Match.review(line, AMOUNT_EXCEEDS_DUE);
+            }
+        } else if (admissionNumbers.size() == 1) {
+            List<Due> open = byAdmissionNumber.get(admissionNumbers.iterator().next()).stream()
+                    .filter(due -> due.outstanding().signum() > 0)
+                    .toList();
+            if (open.isEmpty()) {
+                return Match.review(line, NO_OPEN_DUES);
+            }
+            target = open.stream()
+                    .filter(due -> due.outstanding().compareTo(amount) == 0)
+                    .findFirst()
+                    .orElse(open.get(0));
+            if (amount.compareTo(target.outstanding()) > 0) {
+                return Match.review(line, AMOUNT_EXCEEDS_DUE);
+            }
+        } else {
+            return Match.review(line, NO_MATCH);
+        }
+
+        target.paidAmount = target.paidAmount.add(amount);
+        if (line.reference() != null) {
+            postedReferences.add(normalize(line.reference()));
+        }
+        return new Match(line, Outcome.MATCHED, target, null);
+    }
+
+    /**
+     * Upper-cased words of the reference and narrative, split on whitespace and punctuation
+     * other than the '/', '-' and '.' used inside admission and invoice numbers.
+     */
+    private static Set<String> words(StatementLine line) {
+        Set<String> words = new LinkedHashSet<>();
+        addWords(line.reference(), words);
+        addWords(line.narrative(), words);
+        return words;
+    }
+
+    private static void addWords(String text, Set<String> words) {
+        if (text == null) {
+            return;
+        }
+        for (String word : text.toUpperCase(Locale.ROOT).split("[\\s,;:|\"'()\\[\\]#=]+")) {
+            // Trailing sentence punctuation is not part of a number
+            while (!word.isEmpty() && ".-/".indexOf(word.charAt(word.length() - 1)) >= 0) {
+                word = word.substring(0, word.length() - 1);
+            }
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * An open invoice as the matcher sees it; the paid amount moves as lines are matched.
+     */
+    public static final class Due {
+
+        private final long invoiceId;
+        private final String invoiceNumber;
+        private final long enrollmentId;
+        private final String admissionNumber;
+        private final LocalDate dueDate;
+        private final BigDecimal amount;
+        private BigDecimal paidAmount;
+
+        public Due(long invoiceId, String invoiceNumber, long enrollmentId, String admissionNumber,
+                   LocalDate dueDate, BigDecimal amount, BigDecimal paidAmount) {
+            this.invoiceId = invoiceId;
+            this.invoiceNumber = invoiceNumber;
+            this.enrollmentId = enrollmentId;
+            this.admissionNumber = admissionNumber;
+            this.dueDate = dueDate;
+            this.amount = amount;
+            this.paidAmount = paidAmount;
+        }
+
+        public long invoiceId() {
+            return invoiceId;
+        }
+
+        public String invoiceNumber() {
+            return invoiceNumber;
+        }
+
+        public long enrollmentId() {
+            return enrollmentId;
+        }
+
+        public String admissionNumber() {
+            return admissionNumber;
+        }
+
+        public BigDecimal amount() {
+            return amount;
+        }
+
+        public BigDecimal paidAmount() {
+            return paidAmount;
+        }
+
+        public BigDecimal outstanding() {
+            return amount.subtract(paidAmount);
+        }
+    }
+
+    /**
+     * What became of a line: the invoice it pays, or why it needs review.
+     */
+    public record Match(StatementLine line, Outcome outcome, Due due, String reason) {
+
+        static Match review(StatementLine line, String reason) {
+            return new Match(line, Outcome.REVIEW, null, reason);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.school.academic.fees;
+
+/**
+ * Bank statement file layouts the reconciliation reads.
+ */
+public enum StatementFormat {
+
+    /**
+     * Comma-separated export with a header row naming the date, amount, reference and
+     * narrative columns.
+     */
+    CSV,
+
+    /**
+     * SWIFT MT940 customer statement: {@code :61:} statement lines, each followed by an
+     * optional {@code :86:} narrative.
+     */
+    MT940;
+
+    /**
+     * Guess the layout from the first non-blank line of the file.
+     */
+    public static StatementFormat detect(String firstLine) {
+        String line = firstLine != null ? firstLine.strip() : "";
+        return line.startsWith(":") || line.startsWith("{1:") ? MT940 : CSV;
+    }
+}
@@ -0,0 +1,30 @@
+package com.school.academic.fees;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One transaction of a bank statement. {@code sequence} is its 1-based position in the
+ * file; credits have a positive amount and debits a negative one. {@code reference} is
+ * the bank's own reference for the transaction and {@code narrative} everything the
+ * payer wrote. A line that could not be read has an {@code error} and the raw text as narrative.
+ */
+public record StatementLine(int sequence,
+                            LocalDate valueDate,
+                            BigDecimal amount,
+                            String reference,
+                            String narrative,
+                            String error) {
+
+    public static StatementLine malformed(int sequence, String raw, String error) {
+        return new StatementLine(sequence, null, null, null, raw, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+
+    public boolean isCredit() {
+        return amount != null && amount.signum() > 0;
+    }
+}
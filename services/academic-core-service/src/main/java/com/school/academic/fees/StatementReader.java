@@ -0,0 +1,21 @@
+package com.school.academic.fees;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streams the transactions of a bank statement one at a time, so a file of any size is
+ * read in constant memory.
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * The next transaction, or null at the end of the statement.
+     */
+    StatementLine next() throws IOException;
+
+    static StatementReader open(BufferedReader in, StatementFormat format) {
+        return format == StatementFormat.MT940 ? new Mt940StatementReader(in) : new CsvStatementReader(in);
+    }
+}
@@ -0,0 +1,182 @@
+package com.school.academic.frontoffice.archive;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.school.academic.frontoffice.repository.FrontOfficePartitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archived academic years of the front-office registers, kept as gzip-compressed
+ * NDJSON files ({@code <dir>/<academicYearId>/<table>.ndjson.gz}, one entity per line).
+ *
+ * Files are written newest first in the keyset list order, so the default list
+ * order reads them front to back and can stop after one page. Which years are
+ * archived is pushed in from {@code front_office_archived_years}; the entity
+ * listeners consult it too, which is why this class keeps clear of JPA.
+ *
+ * The directory must be storage shared by every node (a network file system or
+ * a mounted volume): the node that archives a year writes its files and then
+ * drops the year's rows, and every other node serves that year's lists from the
+ * same files. A year recorded as archived whose file is missing is an error,
+ * never an empty list.
+ */
+@Component
+public class FrontOfficeArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontOfficeArchive.class);
+
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    private volatile Set<UUID> archivedYears = Set.of();
+
+    public FrontOfficeArchive(@Value("${academic.front-office.archive.dir:./data/front-office-archive}") String directory,
+                              ObjectMapper objectMapper) {
+        this.directory = Path.of(directory);
+        this.objectMapper = objectMapper;
+    }
+
+    public void setArchivedYears(Collection<UUID> academicYearIds) {
+        Set<UUID> previous = archivedYears;
+        archivedYears = Set.copyOf(academicYearIds);
+        for (UUID academicYearId : archivedYears) {
+            if (!previous.contains(academicYearId) && !Files.isDirectory(directory.resolve(academicYearId.toString()))) {
+                log.error("Academic year {} is archived but {} has no files for it; the archive directory must be "
+                        + "shared by every node", academicYearId, directory.toAbsolutePath());
+            }
+        }
+    }
+
+    public boolean isArchived(UUID academicYearId) {
+        return academicYearId != null && archivedYears.contains(academicYearId);
+    }
+
+    /**
+     * Record a year this node has just archived, ahead of the next refresh.
+     */
+    public void markArchived(UUID academicYearId) {
+        Set<UUID> years = new HashSet<>(archivedYears);
+        years.add(academicYearId);
+        archivedYears = Set.copyOf(years);
+    }
+
+    /**
+     * Archived rows of one register and year, newest first. The stream must be closed.
+     *
+     * @throws UncheckedIOException if the file is missing, which means this node does not see
+     *                              the archive directory the year was archived to
+     */
+    public <T> Stream<T> read(Class<T> entityType, UUID academicYearId) {
+        Path file = file(entityType, academicYearId);
+        if (!Files.exists(file)) {
+            throw new UncheckedIOException("Archive file " + file.toAbsolutePath() + " of academic year " + academicYearId
+                    + " is missing; the archive directory must be shared by every node",
+                    new NoSuchFileException(file.toString()));
+        }
+        try {
+            InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE);
+            MappingIterator<T> rows = objectMapper.readerFor(entityType).readValues(in);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> closeQuietly(rows));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read archive file " + file, ex);
+        }
+    }
+
+    /**
+     * Open a writer for one register and year. Nothing is visible until {@link ArchiveWriter#commit()}.
+     */
+    public <T> ArchiveWriter<T> writer(Class<T> entityType, UUID academicYearId) throws IOException {
+        Path file = file(entityType, academicYearId);
+        Files.createDirectories(file.getParent());
+        return new ArchiveWriter<>(objectMapper.writerFor(entityType), file);
+    }
+
+    private Path file(Class<?> entityType, UUID academicYearId) {
+        return directory.resolve(academicYearId.toString()).resolve(FrontOfficePartitions.tableOf(entityType) + SUFFIX);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ex) {
+            log.debug("Could not close archive file: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes one archive file through a temporary file that replaces the target on commit.
+     */
+    public static final class ArchiveWriter<T> implements Closeable {
+
+        private final ObjectWriter objectWriter;
+        private final Path target;
+        private final Path temporary;
+        private final Writer out;
+        private long count;
+        private boolean committed;
+
+        private ArchiveWriter(ObjectWriter objectWriter, Path target) throws IOException {
+            this.objectWriter = objectWriter;
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            this.out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        public void write(T entity) throws IOException {
+            out.write(objectWriter.writeValueAsString(entity));
+            out.write('\n');
+            count++;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public void commit() throws IOException {
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.school.academic.frontoffice.archive;
+
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener that refuses to insert, change or delete front-office records of an
+ * archived academic year.
+ *
+ * The year's lists come from the archive files, so a write to a row still in the
+ * database would not be listed and would be lost when the row is removed. The
+ * archive run drops the rows with a bulk statement, which skips this listener.
+ */
+@Component
+public class FrontOfficeArchiveGuard {
+
+    private final FrontOfficeArchive frontOfficeArchive;
+
+    public FrontOfficeArchiveGuard(FrontOfficeArchive frontOfficeArchive) {
+        this.frontOfficeArchive = frontOfficeArchive;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void beforeWrite(FrontOfficeBaseEntity entity) {
+        if (frontOfficeArchive.isArchived(entity.getAcademicYearId())) {
+            throw new BusinessRuleException("ACADEMIC_YEAR_ARCHIVED",
+                    "Academic year " + entity.getAcademicYearId() + " is archived; its front-office registers are read-only");
+        }
+    }
+}
@@ -53,10 +53,14 @@ public class AdmissionEnquiryController {
             @RequestParam(required = false) Boolean hasFollowUp,
             @Parameter(description = "Search by enquirer name or phone number")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         AdmissionEnquiryPageResponse response = admissionEnquiryService.listAdmissionEnquiries(
-                academicYearId, status, source, enquiryType, fromDate, toDate, hasFollowUp, search, pageable);
+                academicYearId, status, source, enquiryType, fromDate, toDate, hasFollowUp, search, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
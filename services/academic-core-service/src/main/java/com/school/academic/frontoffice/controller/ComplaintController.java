@@ -52,10 +52,14 @@ public class ComplaintController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @Parameter(description = "Search by complainant name")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         ComplaintPageResponse response = complaintService.listComplaints(
-                academicYearId, status, complaintType, category, assignedToStaffId, fromDate, toDate, search, pageable);
+                academicYearId, status, complaintType, category, assignedToStaffId, fromDate, toDate, search, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
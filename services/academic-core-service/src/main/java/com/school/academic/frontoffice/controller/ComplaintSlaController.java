@@ -0,0 +1,60 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaBreachResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaSummaryResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintStaffBacklogResponse;
+import com.school.academic.frontoffice.service.ComplaintSlaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller for complaint SLA aging.
+ * Matches OpenAPI: /front-office/complaints/sla
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/complaints/sla")
+@Tag(name = "Complaint SLA", description = "Aging of open and in-progress complaints")
+public class ComplaintSlaController {
+
+    private final ComplaintSlaService complaintSlaService;
+
+    public ComplaintSlaController(ComplaintSlaService complaintSlaService) {
+        this.complaintSlaService = complaintSlaService;
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get SLA aging summary", description = "Active complaint counts by status and time-in-status bucket.")
+    public ResponseEntity<ComplaintSlaSummaryResponse> getSummary(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId) {
+
+        ComplaintSlaSummaryResponse response = complaintSlaService.getSummary(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/breaches")
+    @Operation(summary = "List SLA breaches", description = "Active complaints past their SLA, oldest first.")
+    public ResponseEntity<List<ComplaintSlaBreachResponse>> getBreaches(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId) {
+
+        List<ComplaintSlaBreachResponse> response = complaintSlaService.getBreaches(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/backlog")
+    @Operation(summary = "Get backlog per staff", description = "Open, in-progress and breached complaint counts per assigned staff member.")
+    public ResponseEntity<List<ComplaintStaffBacklogResponse>> getStaffBacklog(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId) {
+
+        List<ComplaintStaffBacklogResponse> response = complaintSlaService.getStaffBacklog(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,51 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.followup.FollowUpQueueResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpStaffSummaryResponse;
+import com.school.academic.frontoffice.service.FollowUpReminderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller for follow-up reminders across admission enquiries and phone calls.
+ * Matches OpenAPI: /front-office/follow-ups
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/follow-ups")
+@Tag(name = "Follow-ups", description = "Due and overdue follow-up reminders")
+public class FollowUpController {
+
+    private final FollowUpReminderService followUpReminderService;
+
+    public FollowUpController(FollowUpReminderService followUpReminderService) {
+        this.followUpReminderService = followUpReminderService;
+    }
+
+    @GetMapping("/due")
+    @Operation(summary = "Get follow-up queues", description = "Follow-ups due today and overdue, served from memory.")
+    public ResponseEntity<FollowUpQueueResponse> getQueue(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId,
+            @Parameter(description = "Only follow-ups owned by this staff member (the X-User-Id that logged the record)")
+            @RequestParam(required = false) String staff) {
+
+        FollowUpQueueResponse response = followUpReminderService.getQueue(academicYearId, staff);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get follow-up counts per staff", description = "Due-today and overdue counts for each staff member.")
+    public ResponseEntity<List<FollowUpStaffSummaryResponse>> getStaffSummary(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId) {
+
+        List<FollowUpStaffSummaryResponse> response = followUpReminderService.getStaffSummary(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+}
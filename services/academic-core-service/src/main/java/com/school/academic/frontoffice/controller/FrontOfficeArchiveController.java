@@ -0,0 +1,42 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.archive.FrontOfficeArchiveResponse;
+import com.school.academic.frontoffice.service.FrontOfficeArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller for archiving closed academic years of the front-office registers.
+ * Matches OpenAPI: /front-office/archives
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/archives")
+@Tag(name = "Front Office Archive", description = "Move closed academic years out of the database")
+public class FrontOfficeArchiveController {
+
+    private final FrontOfficeArchiveService frontOfficeArchiveService;
+
+    public FrontOfficeArchiveController(FrontOfficeArchiveService frontOfficeArchiveService) {
+        this.frontOfficeArchiveService = frontOfficeArchiveService;
+    }
+
+    @GetMapping
+    @Operation(summary = "List archived academic years")
+    public ResponseEntity<List<FrontOfficeArchiveResponse>> listArchives() {
+        return ResponseEntity.ok(frontOfficeArchiveService.listArchives());
+    }
+
+    @PostMapping("/{academicYearId}")
+    @Operation(summary = "Archive an academic year",
+            description = "Writes the year's front-office records to compressed archive files and removes them from the database. "
+                    + "The year must be inactive and past its end date by the configured grace period. "
+                    + "Lists for the year are served from the archive afterwards; new records for it are refused.")
+    public ResponseEntity<FrontOfficeArchiveResponse> archiveYear(@PathVariable UUID academicYearId) {
+        return ResponseEntity.ok(frontOfficeArchiveService.archiveYear(academicYearId));
+    }
+}
@@ -0,0 +1,38 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.dashboard.FrontOfficeDashboardResponse;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller for the reception dashboard.
+ * Matches OpenAPI: /front-office/dashboard
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/dashboard")
+@Tag(name = "Front Office Dashboard", description = "Today's reception counters")
+public class FrontOfficeDashboardController {
+
+    private final FrontOfficeDashboardService frontOfficeDashboardService;
+
+    public FrontOfficeDashboardController(FrontOfficeDashboardService frontOfficeDashboardService) {
+        this.frontOfficeDashboardService = frontOfficeDashboardService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get dashboard counters",
+            description = "Visitors on campus, half-day exits, pending enquiry follow-ups and enquiry/complaint counts by status, served from memory.")
+    public ResponseEntity<FrontOfficeDashboardResponse> getDashboard(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId) {
+
+        FrontOfficeDashboardResponse response = frontOfficeDashboardService.getDashboard(academicYearId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,55 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.search.FrontOfficeSearchResponse;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.service.FrontOfficeSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Controller for full-text search across visitors, phone calls, postal records,
+ * admission enquiries, complaints and half-day notices.
+ * Matches OpenAPI: /front-office/search
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/search")
+@Tag(name = "Front Office Search", description = "Ranked full-text search across the front-office registers")
+public class FrontOfficeSearchController {
+
+    private final FrontOfficeSearchService frontOfficeSearchService;
+
+    public FrontOfficeSearchController(FrontOfficeSearchService frontOfficeSearchService) {
+        this.frontOfficeSearchService = frontOfficeSearchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search front-office records",
+            description = "Every term must match a name, phone number or free-text field. The last word may be partial. "
+                    + "Titles and snippets are HTML-escaped with matches wrapped in <mark>.")
+    public ResponseEntity<FrontOfficeSearchResponse> search(
+            @Parameter(description = "The academic year context for the request", required = true)
+            @RequestHeader("X-Academic-Year-Id") UUID academicYearId,
+            @Parameter(description = "Search text", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Only these registers (repeatable)")
+            @RequestParam(required = false) Set<FrontOfficeRecordType> type,
+            @Parameter(description = "Maximum number of results (1-50)")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        FrontOfficeSearchResponse response = frontOfficeSearchService.search(academicYearId, q, type, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild the search index", description = "Re-reads every register from the database in the background.")
+    public ResponseEntity<Void> rebuild() {
+        frontOfficeSearchService.rebuild();
+        return ResponseEntity.accepted().build();
+    }
+}
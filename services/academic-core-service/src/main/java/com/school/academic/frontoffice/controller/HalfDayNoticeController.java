@@ -46,10 +46,14 @@ public class HalfDayNoticeController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @Parameter(description = "Filter by specific student")
             @RequestParam(required = false) UUID studentId,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         HalfDayNoticePageResponse response = halfDayNoticeService.listHalfDayNotices(
-                academicYearId, classId, sectionId, fromDate, toDate, studentId, pageable);
+                academicYearId, classId, sectionId, fromDate, toDate, studentId, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
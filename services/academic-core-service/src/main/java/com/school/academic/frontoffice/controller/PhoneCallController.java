@@ -47,10 +47,14 @@ public class PhoneCallController {
             @RequestParam(required = false) Boolean hasFollowUp,
             @Parameter(description = "Search by caller name or phone number")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         PhoneCallPageResponse response = phoneCallService.listPhoneCalls(
-                academicYearId, callType, fromDate, toDate, hasFollowUp, search, pageable);
+                academicYearId, callType, fromDate, toDate, hasFollowUp, search, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
@@ -73,4 +77,14 @@ public class PhoneCallController {
         PhoneCallResponse response = phoneCallService.getPhoneCallById(id);
         return ResponseEntity.ok(response);
     }
+
+    @PatchMapping("/{id}/follow-up")
+    @Operation(summary = "Update phone call follow-up", description = "Reschedule a phone call follow-up, or clear the date to mark it done.")
+    public ResponseEntity<PhoneCallResponse> updatePhoneCallFollowUp(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdatePhoneCallFollowUpRequest request) {
+
+        PhoneCallResponse response = phoneCallService.updatePhoneCallFollowUp(id, request);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,37 @@
+package com.school.academic.frontoffice.controller;
+
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupResponse;
+import com.school.academic.frontoffice.service.PhoneLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for recognizing callers and visitors by phone number.
+ * Matches OpenAPI: /front-office/lookup
+ */
+@RestController
+@RequestMapping("/api/v1/front-office/lookup")
+@Tag(name = "Phone Lookup", description = "Parents, students, records and open complaints linked to a phone number")
+public class PhoneLookupController {
+
+    private final PhoneLookupService phoneLookupService;
+
+    public PhoneLookupController(PhoneLookupService phoneLookupService) {
+        this.phoneLookupService = phoneLookupService;
+    }
+
+    @GetMapping("/phone/{number}")
+    @Operation(summary = "Look up a phone number",
+            description = "Numbers in any common format are matched in E.164 form, served from memory. "
+                    + "An unknown number returns known=false.")
+    public ResponseEntity<PhoneLookupResponse> lookup(
+            @Parameter(description = "Phone number, e.g. +919845012345 or 098450 12345", required = true)
+            @PathVariable String number) {
+
+        PhoneLookupResponse response = phoneLookupService.lookup(number);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -48,10 +48,14 @@ public class PostalController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @Parameter(description = "Search by reference number, sender, or receiver")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         PostalRecordPageResponse response = postalRecordService.listPostalRecords(
-                academicYearId, direction, postalType, fromDate, toDate, search, pageable);
+                academicYearId, direction, postalType, fromDate, toDate, search, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
@@ -1,6 +1,7 @@
 package com.school.academic.frontoffice.controller;
 
 import com.school.academic.frontoffice.dto.visitor.*;
+import com.school.academic.frontoffice.service.VisitorPresenceService;
 import com.school.academic.frontoffice.service.VisitorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,8 +11,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -26,9 +29,11 @@ import java.util.UUID;
 public class VisitorController {
 
     private final VisitorService visitorService;
+    private final VisitorPresenceService visitorPresenceService;
 
-    public VisitorController(VisitorService visitorService) {
+    public VisitorController(VisitorService visitorService, VisitorPresenceService visitorPresenceService) {
         this.visitorService = visitorService;
+        this.visitorPresenceService = visitorPresenceService;
     }
 
     @GetMapping
@@ -46,10 +51,14 @@ public class VisitorController {
             @RequestParam(required = false) String search,
             @Parameter(description = "Filter by checkout status")
             @RequestParam(required = false) Boolean checkedOut,
+            @Parameter(description = "Cursor from page.nextCursor; continues after the last row of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Include an approximate total count (cached briefly)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20) Pageable pageable) {
 
         VisitorPageResponse response = visitorService.listVisitors(
-                academicYearId, purpose, fromDate, toDate, search, checkedOut, pageable);
+                academicYearId, purpose, fromDate, toDate, search, checkedOut, pageable, cursor, includeTotal);
         return ResponseEntity.ok(response);
     }
 
@@ -64,6 +73,22 @@ public class VisitorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream visitors on campus",
+            description = "Server-Sent Events: a snapshot of open visits, then check-in and check-out events as they happen.")
+    public SseEmitter streamLiveVisitors(
+            @Parameter(description = "The academic year context for the request")
+            @RequestHeader(value = "X-Academic-Year-Id", required = false) UUID academicYearId,
+            @Parameter(description = "Academic year as a query parameter, for EventSource clients that cannot set headers")
+            @RequestParam(value = "academicYearId", required = false) UUID academicYearParam) {
+
+        UUID yearId = academicYearId != null ? academicYearId : academicYearParam;
+        if (yearId == null) {
+            throw new IllegalArgumentException("X-Academic-Year-Id header or academicYearId parameter is required");
+        }
+        return visitorPresenceService.subscribe(yearId);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get visitor details", description = "Retrieve details of a specific visitor entry.")
     public ResponseEntity<VisitorResponse> getVisitorById(
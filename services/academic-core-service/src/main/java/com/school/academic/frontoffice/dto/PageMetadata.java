@@ -1,65 +0,0 @@
-package com.school.academic.frontoffice.dto;
-
-/**
- * Pagination metadata for paginated responses.
- */
-public class PageMetadata {
-
-    private int page;
-    private int size;
-    private long totalElements;
-    private int totalPages;
-
-    public PageMetadata() {
-    }
-
-    public PageMetadata(int page, int size, long totalElements, int totalPages) {
-        this.page = page;
-        this.size = size;
-        this.totalElements = totalElements;
-        this.totalPages = totalPages;
-    }
-
-    // Static factory method for convenience
-    public static PageMetadata of(org.springframework.data.domain.Page<?> page) {
-        return new PageMetadata(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
-    }
-
-    // Getters and Setters
-    public int getPage() {
-        return page;
-    }
-
-    public void setPage(int page) {
-        this.page = page;
-    }
-
-    public int getSize() {
-        return size;
-    }
-
-    public void setSize(int size) {
-        this.size = size;
-    }
-
-    public long getTotalElements() {
-        return totalElements;
-    }
-
-    public void setTotalElements(long totalElements) {
-        this.totalElements = totalElements;
-    }
-
-    public int getTotalPages() {
-        return totalPages;
-    }
-
-    public void setTotalPages(int totalPages) {
-        this.totalPages = totalPages;
-    }
-}
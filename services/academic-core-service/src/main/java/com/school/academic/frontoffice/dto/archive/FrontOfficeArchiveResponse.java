@@ -0,0 +1,42 @@
+package com.school.academic.frontoffice.dto.archive;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An academic year whose front-office records are served from archive files.
+ */
+public class FrontOfficeArchiveResponse {
+
+    private UUID academicYearId;
+    private long rowCount;
+    private LocalDateTime archivedAt;
+
+    public FrontOfficeArchiveResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -23,6 +23,9 @@ public class ComplaintResponse {
     private String assignedToStaffName;
     private String internalNote;
     private ComplaintStatus status;
+    private LocalDateTime inProgressAt;
+    private LocalDateTime resolvedAt;
+    private LocalDateTime closedAt;
     private String remarks;
     private LocalDateTime createdAt;
     private String createdBy;
@@ -160,4 +163,28 @@ public class ComplaintResponse {
     public void setUpdatedBy(String updatedBy) {
         this.updatedBy = updatedBy;
     }
+
+    public LocalDateTime getInProgressAt() {
+        return inProgressAt;
+    }
+
+    public void setInProgressAt(LocalDateTime inProgressAt) {
+        this.inProgressAt = inProgressAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
 }
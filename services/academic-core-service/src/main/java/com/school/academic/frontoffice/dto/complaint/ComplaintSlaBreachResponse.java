@@ -0,0 +1,89 @@
+package com.school.academic.frontoffice.dto.complaint;
+
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An active complaint that has been in its status longer than the SLA allows.
+ */
+public class ComplaintSlaBreachResponse {
+
+    private UUID id;
+    private String complainantName;
+    private String category;
+    private ComplaintStatus status;
+    private UUID assignedToStaffId;
+    private String assignedToStaffName;
+    private LocalDateTime statusEnteredAt;
+    private long hoursInStatus;
+
+    public ComplaintSlaBreachResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getComplainantName() {
+        return complainantName;
+    }
+
+    public void setComplainantName(String complainantName) {
+        this.complainantName = complainantName;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public UUID getAssignedToStaffId() {
+        return assignedToStaffId;
+    }
+
+    public void setAssignedToStaffId(UUID assignedToStaffId) {
+        this.assignedToStaffId = assignedToStaffId;
+    }
+
+    public String getAssignedToStaffName() {
+        return assignedToStaffName;
+    }
+
+    public void setAssignedToStaffName(String assignedToStaffName) {
+        this.assignedToStaffName = assignedToStaffName;
+    }
+
+    public LocalDateTime getStatusEnteredAt() {
+        return statusEnteredAt;
+    }
+
+    public void setStatusEnteredAt(LocalDateTime statusEnteredAt) {
+        this.statusEnteredAt = statusEnteredAt;
+    }
+
+    public long getHoursInStatus() {
+        return hoursInStatus;
+    }
+
+    public void setHoursInStatus(long hoursInStatus) {
+        this.hoursInStatus = hoursInStatus;
+    }
+}
@@ -0,0 +1,46 @@
+package com.school.academic.frontoffice.dto.complaint;
+
+import com.school.academic.frontoffice.enums.ComplaintAgeBucket;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Active complaint counts by status and age bucket for one academic year.
+ * Age is time in the current status; {@code breached} is the BREACHED count across statuses.
+ */
+public class ComplaintSlaSummaryResponse {
+
+    private LocalDateTime asOf;
+    private Map<ComplaintStatus, Map<ComplaintAgeBucket, Long>> buckets;
+    private long breached;
+
+    public ComplaintSlaSummaryResponse() {
+    }
+
+    // Getters and Setters
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public Map<ComplaintStatus, Map<ComplaintAgeBucket, Long>> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Map<ComplaintStatus, Map<ComplaintAgeBucket, Long>> buckets) {
+        this.buckets = buckets;
+    }
+
+    public long getBreached() {
+        return breached;
+    }
+
+    public void setBreached(long breached) {
+        this.breached = breached;
+    }
+}
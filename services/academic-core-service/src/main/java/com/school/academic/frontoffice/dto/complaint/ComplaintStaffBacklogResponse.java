@@ -0,0 +1,59 @@
+package com.school.academic.frontoffice.dto.complaint;
+
+import java.util.UUID;
+
+/**
+ * Active complaint counts for one assigned staff member; a null staff id is the unassigned pool.
+ */
+public class ComplaintStaffBacklogResponse {
+
+    private UUID assignedToStaffId;
+    private String assignedToStaffName;
+    private long open;
+    private long inProgress;
+    private long breached;
+
+    public ComplaintStaffBacklogResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getAssignedToStaffId() {
+        return assignedToStaffId;
+    }
+
+    public void setAssignedToStaffId(UUID assignedToStaffId) {
+        this.assignedToStaffId = assignedToStaffId;
+    }
+
+    public String getAssignedToStaffName() {
+        return assignedToStaffName;
+    }
+
+    public void setAssignedToStaffName(String assignedToStaffName) {
+        this.assignedToStaffName = assignedToStaffName;
+    }
+
+    public long getOpen() {
+        return open;
+    }
+
+    public void setOpen(long open) {
+        this.open = open;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public void setInProgress(long inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    public long getBreached() {
+        return breached;
+    }
+
+    public void setBreached(long breached) {
+        this.breached = breached;
+    }
+}
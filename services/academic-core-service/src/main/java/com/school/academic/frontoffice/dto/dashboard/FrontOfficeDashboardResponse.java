@@ -0,0 +1,104 @@
+package com.school.academic.frontoffice.dto.dashboard;
+
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reception dashboard counters for one academic year and day.
+ *
+ * Served from memory; {@code asOf} is when the counters were last recomputed
+ * from the database. Changes made since then are already applied incrementally.
+ */
+public class FrontOfficeDashboardResponse {
+
+    private UUID academicYearId;
+    private LocalDate date;
+    private long visitorsCheckedInToday;
+    private long visitorsOnCampus;
+    private long halfDayExitsToday;
+    private long pendingEnquiryFollowUps;
+    private Map<EnquiryStatus, Long> enquiriesByStatus;
+    private Map<ComplaintStatus, Long> complaintsByStatus;
+    private LocalDateTime asOf;
+
+    public FrontOfficeDashboardResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getVisitorsCheckedInToday() {
+        return visitorsCheckedInToday;
+    }
+
+    public void setVisitorsCheckedInToday(long visitorsCheckedInToday) {
+        this.visitorsCheckedInToday = visitorsCheckedInToday;
+    }
+
+    public long getVisitorsOnCampus() {
+        return visitorsOnCampus;
+    }
+
+    public void setVisitorsOnCampus(long visitorsOnCampus) {
+        this.visitorsOnCampus = visitorsOnCampus;
+    }
+
+    public long getHalfDayExitsToday() {
+        return halfDayExitsToday;
+    }
+
+    public void setHalfDayExitsToday(long halfDayExitsToday) {
+        this.halfDayExitsToday = halfDayExitsToday;
+    }
+
+    public long getPendingEnquiryFollowUps() {
+        return pendingEnquiryFollowUps;
+    }
+
+    public void setPendingEnquiryFollowUps(long pendingEnquiryFollowUps) {
+        this.pendingEnquiryFollowUps = pendingEnquiryFollowUps;
+    }
+
+    public Map<EnquiryStatus, Long> getEnquiriesByStatus() {
+        return enquiriesByStatus;
+    }
+
+    public void setEnquiriesByStatus(Map<EnquiryStatus, Long> enquiriesByStatus) {
+        this.enquiriesByStatus = enquiriesByStatus;
+    }
+
+    public Map<ComplaintStatus, Long> getComplaintsByStatus() {
+        return complaintsByStatus;
+    }
+
+    public void setComplaintsByStatus(Map<ComplaintStatus, Long> complaintsByStatus) {
+        this.complaintsByStatus = complaintsByStatus;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+}
@@ -23,6 +23,7 @@ public class AdmissionEnquiryResponse {
     private LocalDate lastFollowUpDate;
     private LocalDate nextFollowUpDate;
     private EnquiryStatus status;
+    private UUID duplicateOfId;
     private String remarks;
     private LocalDateTime createdAt;
     private String createdBy;
@@ -113,6 +114,14 @@ public class AdmissionEnquiryResponse {
         this.status = status;
     }
 
+    public UUID getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(UUID duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+
     public String getRemarks() {
         return remarks;
     }
@@ -0,0 +1,71 @@
+package com.school.academic.frontoffice.dto.followup;
+
+import com.school.academic.frontoffice.enums.FollowUpType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A single due or overdue follow-up.
+ */
+public class FollowUpItemResponse {
+
+    private FollowUpType type;
+    private UUID id;
+    private String name;
+    private String phoneNumber;
+    private LocalDate dueDate;
+    private String staff;
+
+    public FollowUpItemResponse() {
+    }
+
+    // Getters and Setters
+    public FollowUpType getType() {
+        return type;
+    }
+
+    public void setType(FollowUpType type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public String getStaff() {
+        return staff;
+    }
+
+    public void setStaff(String staff) {
+        this.staff = staff;
+    }
+}
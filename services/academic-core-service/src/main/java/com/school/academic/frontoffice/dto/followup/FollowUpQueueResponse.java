@@ -0,0 +1,52 @@
+package com.school.academic.frontoffice.dto.followup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Follow-up queues for one academic year, optionally narrowed to one staff member.
+ * Overdue items are oldest first and limited to the configured lookback.
+ */
+public class FollowUpQueueResponse {
+
+    private LocalDate date;
+    private String staff;
+    private List<FollowUpItemResponse> dueToday;
+    private List<FollowUpItemResponse> overdue;
+
+    public FollowUpQueueResponse() {
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getStaff() {
+        return staff;
+    }
+
+    public void setStaff(String staff) {
+        this.staff = staff;
+    }
+
+    public List<FollowUpItemResponse> getDueToday() {
+        return dueToday;
+    }
+
+    public void setDueToday(List<FollowUpItemResponse> dueToday) {
+        this.dueToday = dueToday;
+    }
+
+    public List<FollowUpItemResponse> getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(List<FollowUpItemResponse> overdue) {
+        this.overdue = overdue;
+    }
+}
@@ -0,0 +1,39 @@
+package com.school.academic.frontoffice.dto.followup;
+
+/**
+ * Due-today and overdue follow-up counts for one staff member.
+ */
+public class FollowUpStaffSummaryResponse {
+
+    private String staff;
+    private long dueToday;
+    private long overdue;
+
+    public FollowUpStaffSummaryResponse() {
+    }
+
+    // Getters and Setters
+    public String getStaff() {
+        return staff;
+    }
+
+    public void setStaff(String staff) {
+        this.staff = staff;
+    }
+
+    public long getDueToday() {
+        return dueToday;
+    }
+
+    public void setDueToday(long dueToday) {
+        this.dueToday = dueToday;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+}
@@ -1,6 +1,6 @@
 package com.school.academic.frontoffice.dto.halfday;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
+import com.school.academic.dto.response.PageMetadata;
 
 import java.util.List;
 
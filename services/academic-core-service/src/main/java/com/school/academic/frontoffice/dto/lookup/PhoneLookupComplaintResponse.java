@@ -0,0 +1,63 @@
+package com.school.academic.frontoffice.dto.lookup;
+
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * An open or in-progress complaint raised under the name of a parent registered with the number
+ * or one of their children.
+ */
+public class PhoneLookupComplaintResponse {
+
+    private UUID id;
+    private String complainantName;
+    private String category;
+    private ComplaintStatus status;
+    private LocalDate complaintDate;
+
+    public PhoneLookupComplaintResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getComplainantName() {
+        return complainantName;
+    }
+
+    public void setComplainantName(String complainantName) {
+        this.complainantName = complainantName;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
+    public LocalDate getComplaintDate() {
+        return complaintDate;
+    }
+
+    public void setComplaintDate(LocalDate complaintDate) {
+        this.complaintDate = complaintDate;
+    }
+}
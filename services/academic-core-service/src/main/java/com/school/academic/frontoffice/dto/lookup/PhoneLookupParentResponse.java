@@ -0,0 +1,51 @@
+package com.school.academic.frontoffice.dto.lookup;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A parent registered with the number, with their children.
+ */
+public class PhoneLookupParentResponse {
+
+    private UUID id;
+    private String name;
+    private String relationship;
+    private List<PhoneLookupStudentResponse> students;
+
+    public PhoneLookupParentResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRelationship() {
+        return relationship;
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+
+    public List<PhoneLookupStudentResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<PhoneLookupStudentResponse> students) {
+        this.students = students;
+    }
+}
@@ -0,0 +1,71 @@
+package com.school.academic.frontoffice.dto.lookup;
+
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A front-office record made with the number.
+ */
+public class PhoneLookupRecordResponse {
+
+    private FrontOfficeRecordType type;
+    private UUID id;
+    private String name;
+    private String detail;
+    private String status;
+    private LocalDateTime createdAt;
+
+    public PhoneLookupRecordResponse() {
+    }
+
+    // Getters and Setters
+    public FrontOfficeRecordType getType() {
+        return type;
+    }
+
+    public void setType(FrontOfficeRecordType type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
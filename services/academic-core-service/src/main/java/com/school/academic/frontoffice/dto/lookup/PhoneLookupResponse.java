@@ -0,0 +1,74 @@
+package com.school.academic.frontoffice.dto.lookup;
+
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everyone and everything linked to one phone number across the registers.
+ * Records are the latest few per register, newest first; {@code counts} has the totals
+ * within the history window. Open complaints are matched on the names of the linked parents
+ * and their children.
+ */
+public class PhoneLookupResponse {
+
+    private String number;
+    private boolean known;
+    private List<PhoneLookupParentResponse> parents;
+    private List<PhoneLookupComplaintResponse> openComplaints;
+    private List<PhoneLookupRecordResponse> records;
+    private Map<FrontOfficeRecordType, Integer> counts;
+
+    public PhoneLookupResponse() {
+    }
+
+    // Getters and Setters
+    public String getNumber() {
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public boolean isKnown() {
+        return known;
+    }
+
+    public void setKnown(boolean known) {
+        this.known = known;
+    }
+
+    public List<PhoneLookupParentResponse> getParents() {
+        return parents;
+    }
+
+    public void setParents(List<PhoneLookupParentResponse> parents) {
+        this.parents = parents;
+    }
+
+    public List<PhoneLookupComplaintResponse> getOpenComplaints() {
+        return openComplaints;
+    }
+
+    public void setOpenComplaints(List<PhoneLookupComplaintResponse> openComplaints) {
+        this.openComplaints = openComplaints;
+    }
+
+    public List<PhoneLookupRecordResponse> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<PhoneLookupRecordResponse> records) {
+        this.records = records;
+    }
+
+    public Map<FrontOfficeRecordType, Integer> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<FrontOfficeRecordType, Integer> counts) {
+        this.counts = counts;
+    }
+}
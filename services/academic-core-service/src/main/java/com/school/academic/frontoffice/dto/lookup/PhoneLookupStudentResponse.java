@@ -0,0 +1,50 @@
+package com.school.academic.frontoffice.dto.lookup;
+
+import java.util.UUID;
+
+/**
+ * A child of a parent registered with the number; {@code classSection} is the current class, e.g. 7-B.
+ */
+public class PhoneLookupStudentResponse {
+
+    private UUID id;
+    private String name;
+    private String admissionNumber;
+    private String classSection;
+
+    public PhoneLookupStudentResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAdmissionNumber() {
+        return admissionNumber;
+    }
+
+    public void setAdmissionNumber(String admissionNumber) {
+        this.admissionNumber = admissionNumber;
+    }
+
+    public String getClassSection() {
+        return classSection;
+    }
+
+    public void setClassSection(String classSection) {
+        this.classSection = classSection;
+    }
+}
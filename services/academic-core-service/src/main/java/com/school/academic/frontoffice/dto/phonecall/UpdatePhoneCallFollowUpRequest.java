@@ -0,0 +1,37 @@
+package com.school.academic.frontoffice.dto.phonecall;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * Request DTO for rescheduling or completing a phone call follow-up.
+ * A null nextFollowUpDate marks the follow-up as done.
+ */
+public class UpdatePhoneCallFollowUpRequest {
+
+    private LocalDate nextFollowUpDate;
+
+    @Size(max = 500, message = "Remarks cannot exceed 500 characters")
+    private String remarks;
+
+    public UpdatePhoneCallFollowUpRequest() {
+    }
+
+    // Getters and Setters
+    public LocalDate getNextFollowUpDate() {
+        return nextFollowUpDate;
+    }
+
+    public void setNextFollowUpDate(LocalDate nextFollowUpDate) {
+        this.nextFollowUpDate = nextFollowUpDate;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public void setRemarks(String remarks) {
+        this.remarks = remarks;
+    }
+}
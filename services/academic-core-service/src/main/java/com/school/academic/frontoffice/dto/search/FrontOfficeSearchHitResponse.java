@@ -0,0 +1,82 @@
+package com.school.academic.frontoffice.dto.search;
+
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A front-office record matching a search.
+ * Title and snippet are HTML-escaped with matched terms wrapped in {@code <mark>}.
+ */
+public class FrontOfficeSearchHitResponse {
+
+    private FrontOfficeRecordType type;
+    private UUID id;
+    private FrontOfficeStatus status;
+    private String title;
+    private String snippet;
+    private float score;
+    private LocalDateTime createdAt;
+
+    public FrontOfficeSearchHitResponse() {
+    }
+
+    // Getters and Setters
+    public FrontOfficeRecordType getType() {
+        return type;
+    }
+
+    public void setType(FrontOfficeRecordType type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public FrontOfficeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(FrontOfficeStatus status) {
+        this.status = status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
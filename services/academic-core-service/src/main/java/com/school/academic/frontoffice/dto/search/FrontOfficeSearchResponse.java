@@ -0,0 +1,50 @@
+package com.school.academic.frontoffice.dto.search;
+
+import java.util.List;
+
+/**
+ * Ranked search results across the front-office registers of one academic year.
+ */
+public class FrontOfficeSearchResponse {
+
+    private String query;
+    private long total;
+    private long tookMillis;
+    private List<FrontOfficeSearchHitResponse> results;
+
+    public FrontOfficeSearchResponse() {
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getTookMillis() {
+        return tookMillis;
+    }
+
+    public void setTookMillis(long tookMillis) {
+        this.tookMillis = tookMillis;
+    }
+
+    public List<FrontOfficeSearchHitResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FrontOfficeSearchHitResponse> results) {
+        this.results = results;
+    }
+}
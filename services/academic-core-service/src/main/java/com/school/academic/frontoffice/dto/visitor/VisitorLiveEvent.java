@@ -0,0 +1,41 @@
+package com.school.academic.frontoffice.dto.visitor;
+
+import java.util.List;
+
+/**
+ * Payload of a visitor live-stream event.
+ *
+ * A {@code snapshot} event lists every open visit; {@code check-in} and
+ * {@code check-out} events carry the single visitor that changed. Clients apply
+ * events by visitor id, so a repeated event is harmless.
+ */
+public class VisitorLiveEvent {
+
+    private long onCampus;
+    private List<VisitorResponse> visitors;
+
+    public VisitorLiveEvent() {
+    }
+
+    public VisitorLiveEvent(long onCampus, List<VisitorResponse> visitors) {
+        this.onCampus = onCampus;
+        this.visitors = visitors;
+    }
+
+    // Getters and Setters
+    public long getOnCampus() {
+        return onCampus;
+    }
+
+    public void setOnCampus(long onCampus) {
+        this.onCampus = onCampus;
+    }
+
+    public List<VisitorResponse> getVisitors() {
+        return visitors;
+    }
+
+    public void setVisitors(List<VisitorResponse> visitors) {
+        this.visitors = visitors;
+    }
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 public class AdmissionEnquiry extends FrontOfficeBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -50,6 +50,9 @@ public class AdmissionEnquiry extends FrontOfficeBaseEntity {
     @Column(name = "enquiry_status", nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
     private EnquiryStatus enquiryStatus = EnquiryStatus.NEW;
 
+    @Column(name = "duplicate_of_id")
+    private UUID duplicateOfId; // Earliest open enquiry of the year with the same phone number
+
     // Constructors
     public AdmissionEnquiry() {
     }
@@ -134,4 +137,12 @@ public class AdmissionEnquiry extends FrontOfficeBaseEntity {
     public void setEnquiryStatus(EnquiryStatus enquiryStatus) {
         this.enquiryStatus = enquiryStatus;
     }
+
+    public UUID getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(UUID duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
 }
@@ -5,6 +5,7 @@ import com.school.academic.frontoffice.enums.ComplaintType;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -15,7 +16,7 @@ import java.util.UUID;
 public class Complaint extends FrontOfficeBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -51,6 +52,15 @@ public class Complaint extends FrontOfficeBaseEntity {
     @Column(name = "complaint_status", nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
     private ComplaintStatus complaintStatus = ComplaintStatus.OPEN;
 
+    @Column(name = "in_progress_at")
+    private LocalDateTime inProgressAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
     // Constructors
     public Complaint() {
     }
@@ -143,4 +153,28 @@ public class Complaint extends FrontOfficeBaseEntity {
     public void setComplaintStatus(ComplaintStatus complaintStatus) {
         this.complaintStatus = complaintStatus;
     }
+
+    public LocalDateTime getInProgressAt() {
+        return inProgressAt;
+    }
+
+    public void setInProgressAt(LocalDateTime inProgressAt) {
+        this.inProgressAt = inProgressAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
 }
@@ -0,0 +1,55 @@
+package com.school.academic.frontoffice.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * FrontOfficeArchivedYear entity - An academic year whose front-office records
+ * have been moved out of the database into archive files.
+ * Lists for the year are served from the files; new records for it are refused.
+ */
+@Entity
+@Table(name = "front_office_archived_years", schema = "academic_core")
+public class FrontOfficeArchivedYear {
+
+    @Id
+    @Column(name = "academic_year_id", updatable = false, nullable = false)
+    private UUID academicYearId;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Default constructor
+    public FrontOfficeArchivedYear() {
+    }
+
+    // Getters and Setters
+    public UUID getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public void setAcademicYearId(UUID academicYearId) {
+        this.academicYearId = academicYearId;
+    }
+
+    public Long getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(Long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
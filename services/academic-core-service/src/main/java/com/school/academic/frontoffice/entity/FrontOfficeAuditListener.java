@@ -0,0 +1,57 @@
+package com.school.academic.frontoffice.entity;
+
+import com.school.academic.exception.BusinessRuleException;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * JPA listener that fills {@code createdBy}/{@code updatedBy} on front-office records.
+ *
+ * This service has no security context of its own: the gateway forwards the signed-in
+ * user's id in the {@value #USER_HEADER} header, next to {@code X-Academic-Year-Id}. The
+ * follow-up queues group reminders by {@code createdBy}, so this is what puts a record
+ * in a staff member's queue. Writes outside a request (scheduled jobs) or without the
+ * header leave the fields as they are.
+ */
+public class FrontOfficeAuditListener {
+
+    public static final String USER_HEADER = "X-User-Id";
+
+    private static final int MAX_USER_LENGTH = 64;
+
+    @PrePersist
+    public void beforeInsert(FrontOfficeBaseEntity entity) {
+        String user = currentUser();
+        if (user != null && entity.getCreatedBy() == null) {
+            entity.setCreatedBy(user);
+        }
+    }
+
+    @PreUpdate
+    public void beforeUpdate(FrontOfficeBaseEntity entity) {
+        String user = currentUser();
+        if (user != null) {
+            entity.setUpdatedBy(user);
+        }
+    }
+
+    private String currentUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        String user = servletAttributes.getRequest().getHeader(USER_HEADER);
+        if (user == null || user.isBlank()) {
+            return null;
+        }
+        user = user.trim();
+        if (user.length() > MAX_USER_LENGTH) {
+            throw new BusinessRuleException("INVALID_USER_ID",
+                    USER_HEADER + " must be at most " + MAX_USER_LENGTH + " characters");
+        }
+        return user;
+    }
+}
@@ -1,6 +1,8 @@
 package com.school.academic.frontoffice.entity;
 
+import com.school.academic.frontoffice.archive.FrontOfficeArchiveGuard;
 import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+import com.school.academic.frontoffice.search.FrontOfficeIndexListener;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -10,8 +12,12 @@ import java.util.UUID;
  * Base entity for all Front Office entities.
  * Contains common fields: academicYearId, status, remarks, and audit fields.
  * Note: This is a single-school deployment - no schoolId required.
+ * createdBy/updatedBy come from the X-User-Id request header (see FrontOfficeAuditListener).
+ * Every write is mirrored into the front-office search index, and archived
+ * academic years accept no new records.
  */
 @MappedSuperclass
+@EntityListeners({FrontOfficeAuditListener.class, FrontOfficeArchiveGuard.class, FrontOfficeIndexListener.class})
 public abstract class FrontOfficeBaseEntity {
 
 
@@ -50,6 +56,11 @@ public abstract class FrontOfficeBaseEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Primary key of the concrete front-office entity.
+     */
+    public abstract UUID getId();
+
     // Getters and Setters
 
     public UUID getAcademicYearId() {
@@ -13,7 +13,7 @@ import java.util.UUID;
 public class HalfDayNotice extends FrontOfficeBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -14,7 +14,7 @@ import java.util.UUID;
 public class PhoneCall extends FrontOfficeBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -15,7 +15,7 @@ import java.util.UUID;
 public class PostalRecord extends FrontOfficeBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,21 @@
+package com.school.academic.frontoffice.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID primary key that is generated as a time-ordered UUIDv7.
+ *
+ * New ids sort after the ids issued before them, so inserts append to the
+ * right-hand edge of the BINARY(16) primary key instead of landing on random
+ * index pages.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
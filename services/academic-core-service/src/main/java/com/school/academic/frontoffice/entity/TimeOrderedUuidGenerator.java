@@ -0,0 +1,77 @@
+package com.school.academic.frontoffice.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs for {@link TimeOrderedUuid} keys.
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version, a 12-bit counter, variant
+ * and 62 random bits. The counter starts at a random value in its lower half
+ * each millisecond and is incremented for ids issued within the same
+ * millisecond, so ids from one generator are strictly increasing even under
+ * bursts or a clock that steps back; on counter overflow the timestamp is
+ * advanced by one millisecond. Hibernate keeps one generator per entity, so
+ * ordering holds per table within a node; ids from different nodes interleave
+ * by millisecond.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MAX = (1 << COUNTER_BITS) - 1;
+    private static final long MILLIS_MASK = (1L << 48) - 1;
+
+    private final LongSupplier clock;
+    private final Random random;
+
+    private long lastMillis = -1;
+    private int counter;
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    synchronized UUID next() {
+        long now = clock.getAsLong();
+        if (now > lastMillis) {
+            lastMillis = now;
+            counter = random.nextInt(COUNTER_MAX / 2 + 1);
+        } else if (counter < COUNTER_MAX) {
+            counter++;
+        } else {
+            lastMillis++;
+            counter = random.nextInt(COUNTER_MAX / 2 + 1);
+        }
+
+        long msb = ((lastMillis & MILLIS_MASK) << 16) | (0x7L << 12) | counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
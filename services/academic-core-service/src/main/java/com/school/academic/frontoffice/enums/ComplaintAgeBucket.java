@@ -0,0 +1,11 @@
+package com.school.academic.frontoffice.enums;
+
+/**
+ * How long an active complaint has been in its current status.
+ */
+public enum ComplaintAgeBucket {
+    UNDER_24H,
+    ONE_TO_THREE_DAYS,
+    OVER_3_DAYS,
+    BREACHED
+}
@@ -0,0 +1,9 @@
+package com.school.academic.frontoffice.enums;
+
+/**
+ * Source register of a follow-up reminder.
+ */
+public enum FollowUpType {
+    ADMISSION_ENQUIRY,
+    PHONE_CALL
+}
@@ -0,0 +1,13 @@
+package com.school.academic.frontoffice.enums;
+
+/**
+ * Front-office register a record belongs to.
+ */
+public enum FrontOfficeRecordType {
+    VISITOR,
+    PHONE_CALL,
+    POSTAL_RECORD,
+    ADMISSION_ENQUIRY,
+    COMPLAINT,
+    HALF_DAY_NOTICE
+}
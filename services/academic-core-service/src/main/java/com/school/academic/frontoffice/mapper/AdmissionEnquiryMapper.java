@@ -39,6 +39,7 @@ public class AdmissionEnquiryMapper {
         response.setLastFollowUpDate(entity.getLastFollowUpDate());
         response.setNextFollowUpDate(entity.getNextFollowUpDate());
         response.setStatus(entity.getEnquiryStatus());
+        response.setDuplicateOfId(entity.getDuplicateOfId());
         response.setRemarks(entity.getRemarks());
         response.setCreatedAt(entity.getCreatedAt());
         response.setCreatedBy(entity.getCreatedBy());
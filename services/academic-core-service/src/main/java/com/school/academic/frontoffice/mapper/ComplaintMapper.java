@@ -42,6 +42,9 @@ public class ComplaintMapper {
         }
         response.setInternalNote(entity.getInternalNote());
         response.setStatus(entity.getComplaintStatus());
+        response.setInProgressAt(entity.getInProgressAt());
+        response.setResolvedAt(entity.getResolvedAt());
+        response.setClosedAt(entity.getClosedAt());
         response.setRemarks(entity.getRemarks());
         response.setCreatedAt(entity.getCreatedAt());
         response.setCreatedBy(entity.getCreatedBy());
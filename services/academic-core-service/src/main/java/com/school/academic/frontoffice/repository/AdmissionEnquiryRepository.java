@@ -4,38 +4,81 @@ import com.school.academic.frontoffice.entity.AdmissionEnquiry;
 import com.school.academic.frontoffice.enums.EnquirySource;
 import com.school.academic.frontoffice.enums.EnquiryStatus;
 import com.school.academic.frontoffice.enums.EnquiryType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.school.academic.repository.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Collection;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for AdmissionEnquiry entity.
  */
 @Repository
-public interface AdmissionEnquiryRepository extends JpaRepository<AdmissionEnquiry, UUID> {
-
-    @Query("SELECT e FROM AdmissionEnquiry e WHERE e.academicYearId = :academicYearId " +
-            "AND (:status IS NULL OR e.enquiryStatus = :status) " +
-            "AND (:source IS NULL OR e.source = :source) " +
-            "AND (:enquiryType IS NULL OR e.enquiryType = :enquiryType) " +
-            "AND (:fromDate IS NULL OR e.enquiryDate >= :fromDate) " +
-            "AND (:toDate IS NULL OR e.enquiryDate <= :toDate) " +
-            "AND (:hasFollowUp IS NULL OR (:hasFollowUp = true AND e.nextFollowUpDate IS NOT NULL) OR (:hasFollowUp = false AND e.nextFollowUpDate IS NULL)) " +
-            "AND (:search IS NULL OR e.enquirerName LIKE %:search% OR e.phoneNumber LIKE %:search%)")
-    Page<AdmissionEnquiry> findAllWithFilters(
+public interface AdmissionEnquiryRepository extends JpaRepository<AdmissionEnquiry, UUID>, JpaSpecificationExecutor<AdmissionEnquiry> {
+
+    /**
+     * Optional list filters. Only supplied filters become predicates.
+     */
+    default FrontOfficeFilter<AdmissionEnquiry> withFilters(
+            UUID academicYearId,
+            EnquiryStatus status,
+            EnquirySource source,
+            EnquiryType enquiryType,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Boolean hasFollowUp,
+            String search) {
+        return FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("enquiryStatus", status),
+                FrontOfficeSpecifications.equalTo("source", source),
+                FrontOfficeSpecifications.equalTo("enquiryType", enquiryType),
+                FrontOfficeSpecifications.onDates("enquiryDate", fromDate, toDate),
+                FrontOfficeSpecifications.isPresent("nextFollowUpDate", hasFollowUp),
+                FrontOfficeSpecifications.containsAny(search, "enquirerName", "phoneNumber"));
+    }
+
+    /**
+     * Enquiry counts per status as [EnquiryStatus, Long] rows.
+     */
+    @Query("SELECT e.enquiryStatus, COUNT(e) FROM AdmissionEnquiry e WHERE e.academicYearId = :academicYearId " +
+            "GROUP BY e.enquiryStatus")
+    List<Object[]> countByStatus(@Param("academicYearId") UUID academicYearId);
+
+    /**
+     * Count enquiries in the given statuses whose next follow-up is due on or before the date.
+     */
+    @Query("SELECT COUNT(e) FROM AdmissionEnquiry e WHERE e.academicYearId = :academicYearId " +
+            "AND e.enquiryStatus IN :statuses AND e.nextFollowUpDate <= :date")
+    long countFollowUpsDueBy(
             @Param("academicYearId") UUID academicYearId,
-            @Param("status") EnquiryStatus status,
-            @Param("source") EnquirySource source,
-            @Param("enquiryType") EnquiryType enquiryType,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("hasFollowUp") Boolean hasFollowUp,
-            @Param("search") String search,
-            Pageable pageable);
+            @Param("statuses") Collection<EnquiryStatus> statuses,
+            @Param("date") LocalDate date);
+
+    /**
+     * Open follow-ups due within [from, to], used to fill the reminder wheel.
+     */
+    List<AdmissionEnquiry> findByNextFollowUpDateBetweenAndEnquiryStatusIn(
+            LocalDate from, LocalDate to, Collection<EnquiryStatus> statuses);
+
+    /**
+     * Stream records created at or after {@code since} for the phone directory.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AdmissionEnquiry> streamByCreatedAtGreaterThanEqual(LocalDateTime since);
 }
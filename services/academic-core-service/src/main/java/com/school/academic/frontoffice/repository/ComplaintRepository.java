@@ -3,13 +3,14 @@ package com.school.academic.frontoffice.repository;
 import com.school.academic.frontoffice.entity.Complaint;
 import com.school.academic.frontoffice.enums.ComplaintStatus;
 import com.school.academic.frontoffice.enums.ComplaintType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Collection;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -17,24 +18,39 @@ import java.util.UUID;
  * Repository for Complaint entity.
  */
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, UUID> {
+public interface ComplaintRepository extends JpaRepository<Complaint, UUID>, JpaSpecificationExecutor<Complaint> {
 
-    @Query("SELECT c FROM Complaint c WHERE c.academicYearId = :academicYearId " +
-            "AND (:status IS NULL OR c.complaintStatus = :status) " +
-            "AND (:complaintType IS NULL OR c.complaintType = :complaintType) " +
-            "AND (:category IS NULL OR c.category LIKE %:category%) " +
-            "AND (:assignedToStaffId IS NULL OR c.assignedToStaffId = :assignedToStaffId) " +
-            "AND (:fromDate IS NULL OR c.complaintDate >= :fromDate) " +
-            "AND (:toDate IS NULL OR c.complaintDate <= :toDate) " +
-            "AND (:search IS NULL OR c.complainantName LIKE %:search%)")
-    Page<Complaint> findAllWithFilters(
-            @Param("academicYearId") UUID academicYearId,
-            @Param("status") ComplaintStatus status,
-            @Param("complaintType") ComplaintType complaintType,
-            @Param("category") String category,
-            @Param("assignedToStaffId") Long assignedToStaffId,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("search") String search,
-            Pageable pageable);
+    /**
+     * Optional list filters. Only supplied filters become predicates.
+     */
+    default FrontOfficeFilter<Complaint> withFilters(
+            UUID academicYearId,
+            ComplaintStatus status,
+            ComplaintType complaintType,
+            String category,
+            Long assignedToStaffId,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String search) {
+        return FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("complaintStatus", status),
+                FrontOfficeSpecifications.equalTo("complaintType", complaintType),
+                FrontOfficeSpecifications.containsAny(category, "category"),
+                FrontOfficeSpecifications.equalTo("assignedToStaffId", assignedToStaffId),
+                FrontOfficeSpecifications.onDates("complaintDate", fromDate, toDate),
+                FrontOfficeSpecifications.containsAny(search, "complainantName"));
+    }
+
+    /**
+     * Complaint counts per status as [ComplaintStatus, Long] rows.
+     */
+    @Query("SELECT c.complaintStatus, COUNT(c) FROM Complaint c WHERE c.academicYearId = :academicYearId " +
+            "GROUP BY c.complaintStatus")
+    List<Object[]> countByStatus(@Param("academicYearId") UUID academicYearId);
+
+    /**
+     * Complaints in the given statuses across academic years, used to seed SLA aging.
+     */
+    List<Complaint> findByComplaintStatusIn(Collection<ComplaintStatus> statuses);
 }
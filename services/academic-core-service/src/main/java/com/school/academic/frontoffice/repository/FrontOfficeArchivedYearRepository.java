@@ -0,0 +1,22 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.frontoffice.entity.FrontOfficeArchivedYear;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for FrontOfficeArchivedYear entity.
+ */
+@Repository
+public interface FrontOfficeArchivedYearRepository extends JpaRepository<FrontOfficeArchivedYear, UUID> {
+
+    /**
+     * Ids of all archived academic years.
+     */
+    @Query("SELECT a.academicYearId FROM FrontOfficeArchivedYear a")
+    List<UUID> findAllAcademicYearIds();
+}
@@ -0,0 +1,24 @@
+package com.school.academic.frontoffice.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+/**
+ * A front-office list filter that runs either as a JPA predicate or against
+ * entities already in memory, such as rows read back from an archived year.
+ */
+public interface FrontOfficeFilter<T> extends Specification<T> {
+
+    /**
+     * Same outcome as the SQL predicate for {@code entity}.
+     */
+    boolean matches(T entity);
+
+    /**
+     * Academic year the filter is confined to, or null if it spans years.
+     */
+    default UUID academicYearId() {
+        return null;
+    }
+}
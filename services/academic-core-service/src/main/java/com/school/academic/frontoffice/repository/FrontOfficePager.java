@@ -0,0 +1,238 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.config.CacheConfig;
+import com.school.academic.dto.response.PageMetadata;
+import com.school.academic.frontoffice.archive.FrontOfficeArchive;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Count-free pagination for front-office lists.
+ *
+ * Each call runs a single query for page size + 1 rows; the extra row only tells
+ * whether there is a next page, so no COUNT query is issued. Without an explicit
+ * sort, lists are ordered newest first on {@code (createdAt, id)} and every page
+ * carries a keyset cursor; passing it back continues with an index range seek
+ * instead of an ever-growing OFFSET. A total is only computed when asked for and
+ * is served from a short-lived cache keyed by the filter values, so it is
+ * approximate under concurrent writes.
+ *
+ * Archived academic years are no longer in the database; their lists are read
+ * from the archive files with the same filters, order, cursors and totals.
+ */
+@Component
+public class FrontOfficePager {
+
+    private final EntityManager entityManager;
+    private final Cache countCache;
+    private final FrontOfficeArchive frontOfficeArchive;
+
+    public FrontOfficePager(EntityManager entityManager, CacheManager cacheManager, FrontOfficeArchive frontOfficeArchive) {
+        this.entityManager = entityManager;
+        this.countCache = cacheManager.getCache(CacheConfig.FRONT_OFFICE_COUNTS);
+        this.frontOfficeArchive = frontOfficeArchive;
+    }
+
+    /**
+     * @param filterValues filter arguments identifying the cached total
+     * @param cursor       cursor from a previous page, or null to start from {@code pageable}'s offset
+     * @param includeTotal whether to attach the (cached) total
+     */
+    public <T extends FrontOfficeBaseEntity> FrontOfficeSlice<T> list(Class<T> entityType,
+                                                                      JpaSpecificationExecutor<T> repository,
+                                                                      Specification<T> filters,
+                                                                      List<?> filterValues,
+                                                                      Pageable pageable,
+                                                                      String cursor,
+                                                                      boolean includeTotal) {
+        boolean keysetOrder = pageable.getSort().isUnsorted();
+        FrontOfficeCursor after = cursor != null && !cursor.isBlank() ? FrontOfficeCursor.decode(cursor) : null;
+        if (after != null && !keysetOrder) {
+            throw new IllegalArgumentException("cursor cannot be combined with sort");
+        }
+        if (filters instanceof FrontOfficeFilter<T> filter && frontOfficeArchive.isArchived(filter.academicYearId())) {
+            return listArchived(entityType, filter, filterValues, pageable, after, includeTotal);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = filters.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (after != null) {
+            // created_at < :createdAt OR (created_at = :createdAt AND id < :id)
+            predicates.add(cb.or(
+                    cb.lessThan(root.<LocalDateTime>get("createdAt"), after.getCreatedAt()),
+                    cb.and(cb.equal(root.get("createdAt"), after.getCreatedAt()),
+                            cb.lessThan(root.<UUID>get("id"), after.getId()))));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        List<Order> orders = new ArrayList<>();
+        if (keysetOrder) {
+            orders.add(cb.desc(root.get("createdAt")));
+            orders.add(cb.desc(root.get("id")));
+        } else {
+            orders.addAll(QueryUtils.toOrders(pageable.getSort(), root, cb));
+            orders.add(cb.asc(root.get("id")));
+        }
+        query.orderBy(orders);
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (after == null) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+        }
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<T> rows = typedQuery.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        String nextCursor = keysetOrder && hasNext ? FrontOfficeCursor.encode(content.get(content.size() - 1)) : null;
+        Long total = includeTotal ? countTotal(entityType.getSimpleName(), filterValues, () -> repository.count(filters)) : null;
+
+        return new FrontOfficeSlice<>(content,
+                PageMetadata.ofSlice(pageable.getPageNumber(), pageable.getPageSize(), hasNext, total, nextCursor));
+    }
+
+    private <T extends FrontOfficeBaseEntity> FrontOfficeSlice<T> listArchived(Class<T> entityType,
+                                                                               FrontOfficeFilter<T> filter,
+                                                                               List<?> filterValues,
+                                                                               Pageable pageable,
+                                                                               FrontOfficeCursor after,
+                                                                               boolean includeTotal) {
+        UUID academicYearId = filter.academicYearId();
+        int limit = pageable.getPageSize() + 1;
+        List<T> rows;
+        try (Stream<T> archived = frontOfficeArchive.read(entityType, academicYearId)) {
+            Stream<T> matching = archived.filter(filter::matches);
+            if (pageable.getSort().isUnsorted()) {
+                // Archive files are written in keyset order, so the first matches are the page
+                matching = after != null ? matching.filter(row -> isAfter(row, after)) : matching.skip(pageable.getOffset());
+                rows = matching.limit(limit).toList();
+            } else {
+                rows = firstSorted(matching, sortComparator(entityType, pageable.getSort()), pageable.getOffset(), limit);
+            }
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        String nextCursor = pageable.getSort().isUnsorted() && hasNext ? FrontOfficeCursor.encode(content.get(content.size() - 1)) : null;
+        Long total = includeTotal ? countTotal(entityType.getSimpleName() + ":archive", filterValues, () -> {
+            try (Stream<T> archived = frontOfficeArchive.read(entityType, academicYearId)) {
+                return archived.filter(filter::matches).count();
+            }
+        }) : null;
+
+        return new FrontOfficeSlice<>(content,
+                PageMetadata.ofSlice(pageable.getPageNumber(), pageable.getPageSize(), hasNext, total, nextCursor));
+    }
+
+    private Long countTotal(String source, List<?> filterValues, Supplier<Long> count) {
+        List<Object> key = new ArrayList<>(filterValues.size() + 1);
+        key.add(source);
+        key.addAll(filterValues);
+        return countCache.get(key, count::get);
+    }
+
+    /**
+     * Rows {@code offset} to {@code offset + limit} in {@code order}, keeping at most that many rows in memory.
+     */
+    private static <T> List<T> firstSorted(Stream<T> rows, Comparator<T> order, long offset, int limit) {
+        long keep = offset + limit;
+        PriorityQueue<T> kept = new PriorityQueue<>(order.reversed());
+        rows.forEach(row -> {
+            kept.add(row);
+            if (kept.size() > keep) {
+                kept.poll();
+            }
+        });
+        List<T> sorted = new ArrayList<>(kept);
+        sorted.sort(order);
+        return sorted.subList((int) Math.min(offset, sorted.size()), sorted.size());
+    }
+
+    /**
+     * In-memory equivalent of ORDER BY the requested properties, then id.
+     */
+    private static <T extends FrontOfficeBaseEntity> Comparator<T> sortComparator(Class<T> entityType, Sort sort) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            if (BeanUtils.getPropertyDescriptor(entityType, property) == null) {
+                throw new IllegalArgumentException("Unknown sort property: " + property);
+            }
+            Comparator<T> next = (a, b) -> compareValues(
+                    FrontOfficeSpecifications.valueOf(a, property), FrontOfficeSpecifications.valueOf(b, property));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<T> byId = (a, b) -> compareIds(a.getId(), b.getId());
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    /**
+     * Column order as MySQL applies it: nulls first, strings ignoring case, enums by name, ids by bytes.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        if (a instanceof String left && b instanceof String right) {
+            return left.compareToIgnoreCase(right);
+        }
+        if (a instanceof Enum<?> left && b instanceof Enum<?> right) {
+            return left.name().compareTo(right.name());
+        }
+        if (a instanceof UUID left && b instanceof UUID right) {
+            return compareIds(left, right);
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    /**
+     * Whether {@code row} comes after the cursor in {@code (createdAt DESC, id DESC)} order.
+     */
+    private static boolean isAfter(FrontOfficeBaseEntity row, FrontOfficeCursor after) {
+        int byCreatedAt = row.getCreatedAt().compareTo(after.getCreatedAt());
+        return byCreatedAt < 0 || (byCreatedAt == 0 && compareIds(row.getId(), after.getId()) < 0);
+    }
+
+    /**
+     * UUIDs in the byte order of their BINARY(16) column.
+     */
+    private static int compareIds(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,135 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Academic-year partitions of the front-office tables (V0029).
+ *
+ * Each table is {@code PARTITION BY RANGE COLUMNS (academic_year_id)}. Academic
+ * year ids are {@code UUID(0, <academic_year.id>)}, so their BINARY(16) form
+ * sorts by year and partition {@code p_y<id>} holds the values below
+ * {@code UUID(0, id + 1)}; {@code p_future} takes everything above the newest
+ * year. Year partitions are split off by Flyway (V0036 and the repeatable
+ * migration after it), never by the running application; this class only
+ * drops the partition of an archived year.
+ *
+ * Partitioning is MySQL-only; elsewhere the year's rows are deleted instead.
+ * DDL commits implicitly, so callers run each method in its own transaction.
+ */
+@Component
+public class FrontOfficePartitions {
+
+    private static final String SCHEMA = "academic_core";
+
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+
+    private volatile Boolean supported;
+
+    public FrontOfficePartitions(EntityManager entityManager, DataSource dataSource) {
+        this.entityManager = entityManager;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Whether the database can hold partitioned tables.
+     */
+    public boolean isSupported() {
+        if (supported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                supported = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException ex) {
+                return false;
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * Remove every row of one academic year: drop its partition when the partition
+     * holds nothing else, otherwise delete the rows.
+     */
+    public void dropYear(Class<? extends FrontOfficeBaseEntity> entityType, UUID academicYearId) {
+        String table = tableOf(entityType);
+        if (academicYearId.getMostSignificantBits() == 0 && isSupported()) {
+            String partition = partitionName(academicYearId.getLeastSignificantBits());
+            if (partitionNames(table).contains(partition)) {
+                Number others = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM `" + SCHEMA + "`.`" + table
+                                + "` PARTITION (`" + partition + "`) WHERE `academic_year_id` <> :academicYearId")
+                        .setParameter("academicYearId", bytes(academicYearId))
+                        .getSingleResult();
+                if (others.longValue() == 0) {
+                    execute("ALTER TABLE `" + SCHEMA + "`.`" + table + "` DROP PARTITION `" + partition + "`");
+                    return;
+                }
+            }
+        }
+        entityManager.createQuery("DELETE FROM " + entityType.getSimpleName() + " e WHERE e.academicYearId = :academicYearId")
+                .setParameter("academicYearId", academicYearId)
+                .executeUpdate();
+    }
+
+    /**
+     * Row count and latest change of one academic year, to detect writes during an archive run.
+     */
+    public YearSnapshot snapshot(Class<? extends FrontOfficeBaseEntity> entityType, UUID academicYearId) {
+        Object[] row = (Object[]) entityManager.createQuery("SELECT COUNT(e), MAX(COALESCE(e.updatedAt, e.createdAt)) FROM "
+                        + entityType.getSimpleName() + " e WHERE e.academicYearId = :academicYearId")
+                .setParameter("academicYearId", academicYearId)
+                .getSingleResult();
+        return new YearSnapshot(((Number) row[0]).longValue(), (LocalDateTime) row[1]);
+    }
+
+    public static String tableOf(Class<?> entityType) {
+        return entityType.getAnnotation(Table.class).name();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> partitionNames(String table) {
+        if (!isSupported()) {
+            return List.of();
+        }
+        return entityManager.createNativeQuery("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = :schema AND TABLE_NAME = :table AND PARTITION_NAME IS NOT NULL")
+                .setParameter("schema", SCHEMA)
+                .setParameter("table", table)
+                .getResultList();
+    }
+
+    private void execute(String ddl) {
+        entityManager.createNativeQuery(ddl).executeUpdate();
+    }
+
+    /**
+     * Name of an academic year's partition.
+     */
+    public static String partitionName(long academicYear) {
+        return "p_y" + academicYear;
+    }
+
+    /**
+     * Exclusive upper bound of an academic year's partition: the BINARY(16) form of {@code UUID(0, year + 1)}.
+     */
+    public static String upperBound(long academicYear) {
+        return "X'" + HexFormat.of().formatHex(bytes(new UUID(0L, academicYear + 1))) + "'";
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    public record YearSnapshot(long rows, LocalDateTime lastChange) {
+    }
+}
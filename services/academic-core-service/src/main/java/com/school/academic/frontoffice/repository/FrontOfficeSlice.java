@@ -0,0 +1,27 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.dto.response.PageMetadata;
+
+import java.util.List;
+
+/**
+ * One slice of a front-office list together with its pagination metadata.
+ */
+public class FrontOfficeSlice<T> {
+
+    private final List<T> content;
+    private final PageMetadata page;
+
+    public FrontOfficeSlice(List<T> content, PageMetadata page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public PageMetadata getPage() {
+        return page;
+    }
+}
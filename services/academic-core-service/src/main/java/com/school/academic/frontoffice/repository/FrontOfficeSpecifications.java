@@ -0,0 +1,197 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Reusable predicates for front-office list queries.
+ *
+ * Every factory returns {@code null} when its filter value is absent, and
+ * {@link Specification#allOf} skips nulls, so the generated SQL contains only
+ * the predicates the caller actually supplied. Date filters are expressed as
+ * half-open ranges on the raw column ({@code col >= from AND col < to + 1 day})
+ * so they stay index-friendly for both DATE and DATETIME columns.
+ *
+ * Each filter also evaluates the same condition against an entity in memory
+ * (substring matches ignore case, as the column collation does), which is how
+ * lists of archived academic years are filtered.
+ */
+public final class FrontOfficeSpecifications {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private FrontOfficeSpecifications() {
+    }
+
+    /**
+     * All of the given filters; null entries are skipped.
+     */
+    @SafeVarargs
+    public static <T> FrontOfficeFilter<T> allOf(FrontOfficeFilter<T>... filters) {
+        // Copied element by element: handing the varargs array itself to another method is what makes it unsafe
+        List<FrontOfficeFilter<T>> present = new ArrayList<>(filters.length);
+        for (FrontOfficeFilter<T> filter : filters) {
+            if (filter != null) {
+                present.add(filter);
+            }
+        }
+        UUID academicYearId = present.stream()
+                .map(FrontOfficeFilter::academicYearId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        return new SimpleFilter<>(Specification.allOf(new ArrayList<Specification<T>>(present)),
+                entity -> present.stream().allMatch(filter -> filter.matches(entity)),
+                academicYearId);
+    }
+
+    public static <T extends FrontOfficeBaseEntity> FrontOfficeFilter<T> inAcademicYear(UUID academicYearId) {
+        return new SimpleFilter<>((root, query, cb) -> cb.equal(root.get("academicYearId"), academicYearId),
+                entity -> academicYearId.equals(entity.getAcademicYearId()),
+                academicYearId);
+    }
+
+    public static <T> FrontOfficeFilter<T> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return filter((root, query, cb) -> cb.equal(root.get(attribute), value),
+                entity -> value.equals(valueOf(entity, attribute)));
+    }
+
+    /**
+     * Inclusive day range on a DATE column.
+     */
+    public static <T> FrontOfficeFilter<T> onDates(String attribute, LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null && toDate == null) {
+            return null;
+        }
+        return filter((root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (fromDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get(attribute), fromDate));
+            }
+            if (toDate != null) {
+                predicates.add(cb.lessThan(root.get(attribute), toDate.plusDays(1)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        }, entity -> {
+            LocalDate value = (LocalDate) valueOf(entity, attribute);
+            return value != null
+                    && (fromDate == null || !value.isBefore(fromDate))
+                    && (toDate == null || value.isBefore(toDate.plusDays(1)));
+        });
+    }
+
+    /**
+     * Inclusive day range on a DATETIME column, without casting the column to a date.
+     */
+    public static <T> FrontOfficeFilter<T> onDays(String attribute, LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null && toDate == null) {
+            return null;
+        }
+        return filter((root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (fromDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get(attribute), fromDate.atStartOfDay()));
+            }
+            if (toDate != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get(attribute), toDate.plusDays(1).atStartOfDay()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        }, entity -> {
+            LocalDateTime value = (LocalDateTime) valueOf(entity, attribute);
+            return value != null
+                    && (fromDate == null || !value.isBefore(fromDate.atStartOfDay()))
+                    && (toDate == null || value.isBefore(toDate.plusDays(1).atStartOfDay()));
+        });
+    }
+
+    /**
+     * Values at or after {@code from} on a DATETIME column; nulls never match.
+     */
+    public static <T> FrontOfficeFilter<T> atOrAfter(String attribute, LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return filter((root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get(attribute), from),
+                entity -> {
+                    LocalDateTime value = (LocalDateTime) valueOf(entity, attribute);
+                    return value != null && !value.isBefore(from);
+                });
+    }
+
+    /**
+     * {@code present = true} matches non-null values, {@code false} matches nulls.
+     */
+    public static <T> FrontOfficeFilter<T> isPresent(String attribute, Boolean present) {
+        if (present == null) {
+            return null;
+        }
+        return filter((root, query, cb) -> present ? cb.isNotNull(root.get(attribute)) : cb.isNull(root.get(attribute)),
+                entity -> (valueOf(entity, attribute) != null) == present);
+    }
+
+    /**
+     * Substring match on any of the given attributes. LIKE wildcards in the term are escaped
+     * with {@code !}, which needs no quoting in MySQL string literals.
+     */
+    public static <T> FrontOfficeFilter<T> containsAny(String term, String... attributes) {
+        if (term == null || term.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(term.trim()) + "%";
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        return filter((root, query, cb) -> cb.or(Arrays.stream(attributes)
+                        .map(attribute -> cb.like(root.get(attribute), pattern, LIKE_ESCAPE))
+                        .toArray(Predicate[]::new)),
+                entity -> Arrays.stream(attributes)
+                        .map(attribute -> (String) valueOf(entity, attribute))
+                        .anyMatch(value -> value != null && value.toLowerCase(Locale.ROOT).contains(needle)));
+    }
+
+    /**
+     * Value of a bean property of {@code entity}, as the in-memory side of a filter or sort reads it.
+     */
+    static Object valueOf(Object entity, String attribute) {
+        return PropertyAccessorFactory.forBeanPropertyAccess(entity).getPropertyValue(attribute);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static <T> FrontOfficeFilter<T> filter(Specification<T> specification,
+                                                   java.util.function.Predicate<T> matcher) {
+        return new SimpleFilter<>(specification, matcher, null);
+    }
+
+    private record SimpleFilter<T>(Specification<T> specification,
+                                   java.util.function.Predicate<T> matcher,
+                                   UUID academicYearId) implements FrontOfficeFilter<T> {
+
+        @Override
+        public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+            return specification.toPredicate(root, query, cb);
+        }
+
+        @Override
+        public boolean matches(T entity) {
+            return matcher.test(entity);
+        }
+    }
+}
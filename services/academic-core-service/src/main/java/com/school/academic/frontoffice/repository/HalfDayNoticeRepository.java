@@ -1,34 +1,62 @@
 package com.school.academic.frontoffice.repository;
 
 import com.school.academic.frontoffice.entity.HalfDayNotice;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.school.academic.repository.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for HalfDayNotice entity.
  */
 @Repository
-public interface HalfDayNoticeRepository extends JpaRepository<HalfDayNotice, UUID> {
+public interface HalfDayNoticeRepository extends JpaRepository<HalfDayNotice, UUID>, JpaSpecificationExecutor<HalfDayNotice> {
 
-    @Query("SELECT h FROM HalfDayNotice h WHERE h.academicYearId = :academicYearId " +
-            "AND (:classId IS NULL OR h.classId = :classId) " +
-            "AND (:sectionId IS NULL OR h.sectionId = :sectionId) " +
-            "AND (:fromDate IS NULL OR CAST(h.outTime AS LocalDate) >= :fromDate) " +
-            "AND (:toDate IS NULL OR CAST(h.outTime AS LocalDate) <= :toDate) " +
-            "AND (:studentId IS NULL OR h.studentId = :studentId)")
-    Page<HalfDayNotice> findAllWithFilters(
+    /**
+     * Optional list filters. Only supplied filters become predicates.
+     */
+    default FrontOfficeFilter<HalfDayNotice> withFilters(
+            UUID academicYearId,
+            Long classId,
+            Long sectionId,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Long studentId) {
+        return FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("classId", classId),
+                FrontOfficeSpecifications.equalTo("sectionId", sectionId),
+                FrontOfficeSpecifications.onDays("outTime", fromDate, toDate),
+                FrontOfficeSpecifications.equalTo("studentId", studentId));
+    }
+
+    /**
+     * Count half-day exits within [from, to).
+     */
+    @Query("SELECT COUNT(h) FROM HalfDayNotice h WHERE h.academicYearId = :academicYearId " +
+            "AND h.outTime >= :from AND h.outTime < :to")
+    long countOutBetween(
             @Param("academicYearId") UUID academicYearId,
-            @Param("classId") Long classId,
-            @Param("sectionId") Long sectionId,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("studentId") Long studentId,
-            Pageable pageable);
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Stream records created at or after {@code since} for the phone directory.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<HalfDayNotice> streamByCreatedAtGreaterThanEqual(LocalDateTime since);
 }
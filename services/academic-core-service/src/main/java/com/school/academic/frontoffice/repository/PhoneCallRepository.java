@@ -2,34 +2,56 @@ package com.school.academic.frontoffice.repository;
 
 import com.school.academic.frontoffice.entity.PhoneCall;
 import com.school.academic.frontoffice.enums.CallType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.school.academic.repository.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for PhoneCall entity.
  */
 @Repository
-public interface PhoneCallRepository extends JpaRepository<PhoneCall, UUID> {
+public interface PhoneCallRepository extends JpaRepository<PhoneCall, UUID>, JpaSpecificationExecutor<PhoneCall> {
 
-    @Query("SELECT p FROM PhoneCall p WHERE p.academicYearId = :academicYearId " +
-            "AND (:callType IS NULL OR p.callType = :callType) " +
-            "AND (:fromDate IS NULL OR p.callDate >= :fromDate) " +
-            "AND (:toDate IS NULL OR p.callDate <= :toDate) " +
-            "AND (:hasFollowUp IS NULL OR (:hasFollowUp = true AND p.nextFollowUpDate IS NOT NULL) OR (:hasFollowUp = false AND p.nextFollowUpDate IS NULL)) " +
-            "AND (:search IS NULL OR p.callerName LIKE %:search% OR p.phoneNumber LIKE %:search%)")
-    Page<PhoneCall> findAllWithFilters(
-            @Param("academicYearId") UUID academicYearId,
-            @Param("callType") CallType callType,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("hasFollowUp") Boolean hasFollowUp,
-            @Param("search") String search,
-            Pageable pageable);
+    /**
+     * Optional list filters. Only supplied filters become predicates.
+     */
+    default FrontOfficeFilter<PhoneCall> withFilters(
+            UUID academicYearId,
+            CallType callType,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Boolean hasFollowUp,
+            String search) {
+        return FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("callType", callType),
+                FrontOfficeSpecifications.onDates("callDate", fromDate, toDate),
+                FrontOfficeSpecifications.isPresent("nextFollowUpDate", hasFollowUp),
+                FrontOfficeSpecifications.containsAny(search, "callerName", "phoneNumber"));
+    }
+
+    /**
+     * Follow-ups due within [from, to], used to fill the reminder wheel.
+     */
+    List<PhoneCall> findByNextFollowUpDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Stream records created at or after {@code since} for the phone directory.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PhoneCall> streamByCreatedAtGreaterThanEqual(LocalDateTime since);
 }
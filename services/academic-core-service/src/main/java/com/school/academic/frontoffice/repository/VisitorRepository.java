@@ -1,34 +1,80 @@
 package com.school.academic.frontoffice.repository;
 
 import com.school.academic.frontoffice.entity.Visitor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+import com.school.academic.repository.StreamingQueries;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Visitor entity.
  */
 @Repository
-public interface VisitorRepository extends JpaRepository<Visitor, UUID> {
-
-    @Query("SELECT v FROM Visitor v WHERE v.academicYearId = :academicYearId " +
-            "AND (:purpose IS NULL OR v.purpose LIKE %:purpose%) " +
-            "AND (:fromDate IS NULL OR CAST(v.checkInTime AS LocalDate) >= :fromDate) " +
-            "AND (:toDate IS NULL OR CAST(v.checkInTime AS LocalDate) <= :toDate) " +
-            "AND (:search IS NULL OR v.visitorName LIKE %:search% OR v.phoneNumber LIKE %:search%) " +
-            "AND (:checkedOut IS NULL OR (:checkedOut = true AND v.checkOutTime IS NOT NULL) OR (:checkedOut = false AND v.checkOutTime IS NULL))")
-    Page<Visitor> findAllWithFilters(
+public interface VisitorRepository extends JpaRepository<Visitor, UUID>, JpaSpecificationExecutor<Visitor> {
+
+    /**
+     * Optional list filters. Only supplied filters become predicates.
+     */
+    default FrontOfficeFilter<Visitor> withFilters(
+            UUID academicYearId,
+            String purpose,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String search,
+            Boolean checkedOut) {
+        return FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.containsAny(purpose, "purpose"),
+                FrontOfficeSpecifications.onDays("checkInTime", fromDate, toDate),
+                FrontOfficeSpecifications.containsAny(search, "visitorName", "phoneNumber"),
+                FrontOfficeSpecifications.isPresent("checkOutTime", checkedOut));
+    }
+
+    /**
+     * Count visitors checked in within [from, to).
+     */
+    @Query("SELECT COUNT(v) FROM Visitor v WHERE v.academicYearId = :academicYearId " +
+            "AND v.checkInTime >= :from AND v.checkInTime < :to")
+    long countCheckedInBetween(
+            @Param("academicYearId") UUID academicYearId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Count visitors checked in within [from, to) who have not checked out yet.
+     */
+    @Query("SELECT COUNT(v) FROM Visitor v WHERE v.academicYearId = :academicYearId " +
+            "AND v.checkInTime >= :from AND v.checkInTime < :to AND v.checkOutTime IS NULL")
+    long countOnCampusBetween(
             @Param("academicYearId") UUID academicYearId,
-            @Param("purpose") String purpose,
-            @Param("fromDate") LocalDate fromDate,
-            @Param("toDate") LocalDate toDate,
-            @Param("search") String search,
-            @Param("checkedOut") Boolean checkedOut,
-            Pageable pageable);
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Visits not yet checked out that started at or after {@code since}, across academic years.
+     */
+    List<Visitor> findByCheckOutTimeIsNullAndStatusAndCheckInTimeGreaterThanEqual(
+            FrontOfficeStatus status, LocalDateTime since);
+
+    /**
+     * Stream records created at or after {@code since} for the phone directory.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Visitor> streamByCreatedAtGreaterThanEqual(LocalDateTime since);
 }
@@ -0,0 +1,57 @@
+package com.school.academic.frontoffice.search;
+
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener that keeps the search index in step with every front-office write.
+ *
+ * The searchable fields are captured when Hibernate flushes the entity, and the
+ * index update is queued only once the transaction commits, so rolled-back
+ * writes never reach the index. Hibernate obtains this listener from the Spring
+ * context, which is what lets it take the index as a constructor argument.
+ */
+@Component
+public class FrontOfficeIndexListener {
+
+    private final FrontOfficeSearchIndex searchIndex;
+
+    public FrontOfficeIndexListener(FrontOfficeSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(FrontOfficeBaseEntity entity) {
+        FrontOfficeSearchDocument document = FrontOfficeSearchDocument.of(entity);
+        if (document != null) {
+            afterCommit(() -> searchIndex.upsert(document));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(FrontOfficeBaseEntity entity) {
+        FrontOfficeSearchDocument document = FrontOfficeSearchDocument.of(entity);
+        if (document != null) {
+            afterCommit(() -> searchIndex.delete(document.type(), document.id()));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
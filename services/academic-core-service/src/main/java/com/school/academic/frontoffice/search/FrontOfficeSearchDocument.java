@@ -0,0 +1,80 @@
+package com.school.academic.frontoffice.search;
+
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import com.school.academic.frontoffice.entity.HalfDayNotice;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.entity.PostalRecord;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The searchable text of one front-office record, captured when it is saved.
+ *
+ * {@code title} is the person or party the record is about and ranks above
+ * {@code body}, which joins the free-text fields. Internal complaint notes are
+ * left out so they never surface in a reception snippet.
+ */
+public record FrontOfficeSearchDocument(
+        FrontOfficeRecordType type,
+        UUID id,
+        UUID academicYearId,
+        FrontOfficeStatus status,
+        String title,
+        String body,
+        String phoneNumber,
+        LocalDateTime createdAt) {
+
+    /**
+     * Document for a front-office entity, or null for an entity that is not indexed.
+     */
+    public static FrontOfficeSearchDocument of(FrontOfficeBaseEntity entity) {
+        if (entity instanceof Visitor visitor) {
+            return of(FrontOfficeRecordType.VISITOR, entity, visitor.getVisitorName(), visitor.getPhoneNumber(),
+                    visitor.getPurpose(), visitor.getIdProofNumber());
+        }
+        if (entity instanceof PhoneCall phoneCall) {
+            return of(FrontOfficeRecordType.PHONE_CALL, entity, phoneCall.getCallerName(), phoneCall.getPhoneNumber(),
+                    phoneCall.getDescription());
+        }
+        if (entity instanceof PostalRecord postal) {
+            return of(FrontOfficeRecordType.POSTAL_RECORD, entity, join(" / ", postal.getFromTitle(), postal.getToTitle()),
+                    null, postal.getReferenceNumber(), postal.getCourierName(), postal.getNotes());
+        }
+        if (entity instanceof AdmissionEnquiry enquiry) {
+            return of(FrontOfficeRecordType.ADMISSION_ENQUIRY, entity, enquiry.getEnquirerName(), enquiry.getPhoneNumber(),
+                    enquiry.getDescription());
+        }
+        if (entity instanceof Complaint complaint) {
+            return of(FrontOfficeRecordType.COMPLAINT, entity, complaint.getComplainantName(), null,
+                    complaint.getCategory(), complaint.getDescription(), complaint.getActionTaken());
+        }
+        if (entity instanceof HalfDayNotice notice) {
+            return of(FrontOfficeRecordType.HALF_DAY_NOTICE, entity, notice.getStudentName(), notice.getGuardianPhone(),
+                    notice.getGuardianName(), join(" ", notice.getClassName(), notice.getSectionName()), notice.getReason());
+        }
+        return null;
+    }
+
+    private static FrontOfficeSearchDocument of(FrontOfficeRecordType type, FrontOfficeBaseEntity entity,
+                                                String title, String phoneNumber, String... text) {
+        String body = join("\n", Stream.concat(Stream.of(text), Stream.of(entity.getRemarks())).toArray(String[]::new));
+        return new FrontOfficeSearchDocument(type, entity.getId(), entity.getAcademicYearId(), entity.getStatus(),
+                title, body, phoneNumber, entity.getCreatedAt());
+    }
+
+    private static String join(String separator, String... parts) {
+        return Stream.of(parts)
+                .filter(Objects::nonNull)
+                .filter(part -> !part.isBlank())
+                .collect(Collectors.joining(separator));
+    }
+}
@@ -0,0 +1,483 @@
+package com.school.academic.frontoffice.search;
+
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.IndexFormatTooNewException;
+import org.apache.lucene.index.IndexFormatTooOldException;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.search.highlight.Encoder;
+import org.apache.lucene.search.highlight.Formatter;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.NullFragmenter;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Embedded Lucene index over the front-office registers.
+ *
+ * Writes are queued and applied by a single indexer thread, which drains the
+ * queue in batches and commits and refreshes the searcher once per batch, so a
+ * burst of saves costs one commit. Searches run against the latest refreshed
+ * searcher and never wait on the indexer. Every queued write returns a future
+ * that completes once its batch is committed and searchable.
+ *
+ * A rebuild re-adds every record under a new generation and then deletes the
+ * documents it did not see. It runs on the indexer thread like any other write,
+ * so searches keep seeing the previous contents until it commits and live
+ * updates queued behind it are applied on top.
+ *
+ * If the index directory cannot be opened (locked by another process, or not
+ * writable) the index falls back to memory and is filled by the startup rebuild.
+ */
+@Component
+public class FrontOfficeSearchIndex implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontOfficeSearchIndex.class);
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String YEAR = "year";
+    private static final String STATUS = "status";
+    private static final String TITLE = "title";
+    private static final String BODY = "body";
+    private static final String PHONE = "phone";
+    private static final String CREATED = "created";
+    private static final String CREATED_AT = "createdAt";
+    private static final String GENERATION = "generation";
+
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MIN_PHONE_DIGITS = 4;
+    private static final int FRAGMENT_SIZE = 160;
+    private static final Sort BY_SCORE_THEN_NEWEST = new Sort(SortField.FIELD_SCORE,
+            new SortField(CREATED, SortField.Type.LONG, true));
+    private static final Formatter FORMATTER = new SimpleHTMLFormatter("<mark>", "</mark>");
+    private static final Encoder ENCODER = new SimpleHTMLEncoder();
+
+    private static final Queued STOP = new Queued(() -> {
+    }, new CompletableFuture<>());
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final int batchSize;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final BlockingQueue<Queued> queue = new LinkedBlockingQueue<>();
+    private final Thread indexer;
+
+    // Only read and written on the indexer thread
+    private long generation;
+
+    public FrontOfficeSearchIndex(@Value("${academic.front-office.search.index-dir:${java.io.tmpdir}/academic-core/front-office-index}") String indexDir,
+                                  @Value("${academic.front-office.search.batch-size:500}") int batchSize,
+                                  @Value("${academic.front-office.search.ram-buffer-mb:8}") double ramBufferMb) throws IOException {
+        this.batchSize = batchSize;
+
+        Directory opened;
+        IndexWriter openedWriter;
+        try {
+            Path path = Path.of(indexDir);
+            Files.createDirectories(path);
+            opened = FSDirectory.open(path);
+            openedWriter = openWriter(opened, ramBufferMb);
+        } catch (IOException ex) {
+            log.warn("Front-office search index at {} unavailable ({}); using an in-memory index", indexDir, ex.getMessage());
+            opened = new ByteBuffersDirectory();
+            openedWriter = openWriter(opened, ramBufferMb);
+        }
+        this.directory = opened;
+        this.writer = openedWriter;
+        this.searcherManager = new SearcherManager(writer, null);
+
+        this.indexer = new Thread(this::run, "front-office-indexer");
+        this.indexer.setDaemon(true);
+        this.indexer.start();
+    }
+
+    /**
+     * Queue a record to be added or replaced.
+     *
+     * @return completes when the record is searchable
+     */
+    public CompletableFuture<Void> upsert(FrontOfficeSearchDocument document) {
+        return submit(() -> writer.updateDocument(key(document.type(), document.id()), toDocument(document)));
+    }
+
+    /**
+     * Queue a record to be removed.
+     *
+     * @return completes when the record no longer matches searches
+     */
+    public CompletableFuture<Void> delete(FrontOfficeRecordType type, UUID id) {
+        return submit(() -> writer.deleteDocuments(key(type, id)));
+    }
+
+    /**
+     * Queue a full rebuild from {@code source}, which is read on the indexer thread.
+     *
+     * @return completes when the rebuilt contents are searchable
+     */
+    public CompletableFuture<Void> rebuild(DocumentSource source) {
+        return submit(() -> {
+            generation = Math.max(generation + 1, System.currentTimeMillis());
+            long[] count = {0};
+            source.forEach(document -> {
+                try {
+                    writer.updateDocument(key(document.type(), document.id()), toDocument(document));
+                    count[0]++;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(GENERATION, Long.toString(generation))), BooleanClause.Occur.MUST_NOT)
+                    .build());
+            log.info("Rebuilt front-office search index with {} records", count[0]);
+        });
+    }
+
+    /**
+     * Records of an academic year matching every term of {@code text}, best match first.
+     * Titles and snippets are HTML-escaped with matches wrapped in {@code <mark>}.
+     */
+    public Hits search(UUID academicYearId, String text, Set<FrontOfficeRecordType> types, int limit) {
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        BooleanQuery.Builder match = new BooleanQuery.Builder();
+        terms.forEach(term -> match.add(termQuery(term), BooleanClause.Occur.MUST));
+        Query matchQuery = match.build();
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(matchQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(YEAR, academicYearId.toString())), BooleanClause.Occur.FILTER);
+        if (types != null && !types.isEmpty()) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            types.forEach(type -> typeFilter.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.SHOULD));
+            query.add(typeFilter.build(), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit, BY_SCORE_THEN_NEWEST, true);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc scoreDoc : top.scoreDocs) {
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score, matchQuery));
+                }
+                return new Hits(top.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Front-office search failed", ex);
+        }
+    }
+
+    /**
+     * Number of records in the latest refreshed searcher.
+     */
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to read front-office search index", ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        // No interrupt: Lucene closes the channels of an interrupted thread
+        queue.add(STOP);
+        indexer.join(Duration.ofSeconds(10).toMillis());
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private CompletableFuture<Void> submit(Operation operation) {
+        Queued queued = new Queued(operation, new CompletableFuture<>());
+        queue.add(queued);
+        return queued.done();
+    }
+
+    private void run() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            stopping = batch.remove(STOP);
+            apply(batch);
+            batch.clear();
+        }
+    }
+
+    private void apply(List<Queued> batch) {
+        List<Queued> applied = new ArrayList<>(batch.size());
+        for (Queued queued : batch) {
+            try {
+                queued.operation().apply();
+                applied.add(queued);
+            } catch (IOException | RuntimeException ex) {
+                // The nightly rebuild repairs anything skipped here
+                log.warn("Front-office search index update failed: {}", ex.getMessage());
+                queued.done().completeExceptionally(ex);
+            }
+        }
+        try {
+            writer.commit();
+            searcherManager.maybeRefresh();
+            applied.forEach(queued -> queued.done().complete(null));
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Front-office search index commit failed: {}", ex.getMessage());
+            applied.forEach(queued -> queued.done().completeExceptionally(ex));
+        }
+    }
+
+    private Document toDocument(FrontOfficeSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, keyValue(source.type(), source.id()), Field.Store.NO));
+        document.add(new StringField(TYPE, source.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, source.id().toString()));
+        document.add(new StringField(YEAR, source.academicYearId().toString(), Field.Store.NO));
+        document.add(new StringField(GENERATION, Long.toString(generation), Field.Store.NO));
+        if (source.status() != null) {
+            document.add(new StoredField(STATUS, source.status().name()));
+        }
+        if (source.title() != null) {
+            document.add(new TextField(TITLE, source.title(), Field.Store.YES));
+        }
+        if (source.body() != null) {
+            document.add(new TextField(BODY, source.body(), Field.Store.YES));
+        }
+        String digits = source.phoneNumber() != null ? source.phoneNumber().replaceAll("\\D", "") : "";
+        if (!digits.isEmpty()) {
+            document.add(new StringField(PHONE, digits, Field.Store.NO));
+        }
+        if (source.createdAt() != null) {
+            document.add(new NumericDocValuesField(CREATED, source.createdAt().toEpochSecond(ZoneOffset.UTC)));
+            document.add(new StoredField(CREATED_AT, source.createdAt().toString()));
+        }
+        return document;
+    }
+
+    /**
+     * Clause for one query term: the term itself ranks highest in the title, then
+     * as a title prefix (type-ahead) or a close misspelling of a name, then in
+     * the body. Runs of digits also match anywhere in a phone number.
+     */
+    private Query termQuery(String term) {
+        BooleanQuery.Builder clause = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), 4f), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(BODY, term)), BooleanClause.Occur.SHOULD);
+        if (term.length() >= 2) {
+            clause.add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), 2f), BooleanClause.Occur.SHOULD);
+        }
+        if (term.length() >= 3) {
+            clause.add(new BoostQuery(new PrefixQuery(new Term(BODY, term)), 0.5f), BooleanClause.Occur.SHOULD);
+        }
+        if (term.length() >= 5) {
+            clause.add(new FuzzyQuery(new Term(TITLE, term), 1), BooleanClause.Occur.SHOULD);
+        }
+        if (term.length() >= MIN_PHONE_DIGITS && term.chars().allMatch(Character::isDigit)) {
+            clause.add(new BoostQuery(new WildcardQuery(new Term(PHONE, "*" + term + "*")), 4f), BooleanClause.Occur.SHOULD);
+        }
+        return clause.build();
+    }
+
+    private List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(BODY, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to analyze search text", ex);
+        }
+        return terms;
+    }
+
+    private Hit toHit(Document document, float score, Query matchQuery) {
+        String title = document.get(TITLE);
+        String body = document.get(BODY);
+        String createdAt = document.get(CREATED_AT);
+        String status = document.get(STATUS);
+        return new Hit(
+                FrontOfficeRecordType.valueOf(document.get(TYPE)),
+                UUID.fromString(document.get(ID)),
+                status != null ? FrontOfficeStatus.valueOf(status) : null,
+                highlightTitle(matchQuery, title),
+                highlightBody(matchQuery, body),
+                score,
+                createdAt != null ? LocalDateTime.parse(createdAt) : null);
+    }
+
+    private String highlightTitle(Query query, String title) {
+        if (title == null) {
+            return null;
+        }
+        QueryScorer scorer = new QueryScorer(query, TITLE);
+        Highlighter highlighter = new Highlighter(FORMATTER, ENCODER, scorer);
+        highlighter.setTextFragmenter(new NullFragmenter());
+        String highlighted = bestFragment(highlighter, TITLE, title);
+        return highlighted != null ? highlighted : ENCODER.encodeText(title);
+    }
+
+    private String highlightBody(Query query, String body) {
+        if (body == null) {
+            return null;
+        }
+        QueryScorer scorer = new QueryScorer(query, BODY);
+        Highlighter highlighter = new Highlighter(FORMATTER, ENCODER, scorer);
+        highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, FRAGMENT_SIZE));
+        String highlighted = bestFragment(highlighter, BODY, body);
+        if (highlighted != null) {
+            return highlighted;
+        }
+        return ENCODER.encodeText(body.length() > FRAGMENT_SIZE ? body.substring(0, FRAGMENT_SIZE) : body);
+    }
+
+    private String bestFragment(Highlighter highlighter, String field, String text) {
+        try {
+            return highlighter.getBestFragment(analyzer, field, text);
+        } catch (IOException | InvalidTokenOffsetsException ex) {
+            return null;
+        }
+    }
+
+    private static IndexWriter openWriter(Directory directory, double ramBufferMb) throws IOException {
+        try {
+            return new IndexWriter(directory, writerConfig(ramBufferMb, IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
+            // The index is derived data: start empty and let the startup rebuild refill it
+            log.warn("Front-office search index unreadable ({}); recreating", ex.getMessage());
+            return new IndexWriter(directory, writerConfig(ramBufferMb, IndexWriterConfig.OpenMode.CREATE));
+        }
+    }
+
+    private static IndexWriterConfig writerConfig(double ramBufferMb, IndexWriterConfig.OpenMode openMode) {
+        return new IndexWriterConfig(new StandardAnalyzer())
+                .setOpenMode(openMode)
+                .setRAMBufferSizeMB(ramBufferMb);
+    }
+
+    private static Term key(FrontOfficeRecordType type, UUID id) {
+        return new Term(KEY, keyValue(type, id));
+    }
+
+    private static String keyValue(FrontOfficeRecordType type, UUID id) {
+        return type.name() + ':' + id;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void apply() throws IOException;
+    }
+
+    private record Queued(Operation operation, CompletableFuture<Void> done) {
+    }
+
+    /**
+     * Supplies every record to index during a rebuild.
+     */
+    @FunctionalInterface
+    public interface DocumentSource {
+        void forEach(Consumer<FrontOfficeSearchDocument> sink);
+    }
+
+    /**
+     * One matching record with highlighted title and snippet.
+     */
+    public record Hit(
+            FrontOfficeRecordType type,
+            UUID id,
+            FrontOfficeStatus status,
+            String title,
+            String snippet,
+            float score,
+            LocalDateTime createdAt) {
+    }
+
+    /**
+     * The top hits and the total number of matching records.
+     */
+    public record Hits(long total, List<Hit> hits) {
+    }
+}
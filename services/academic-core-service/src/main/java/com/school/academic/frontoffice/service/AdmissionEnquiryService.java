@@ -23,7 +23,9 @@ public interface AdmissionEnquiryService {
             LocalDate toDate,
             Boolean hasFollowUp,
             String search,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     AdmissionEnquiryResponse createAdmissionEnquiry(UUID academicYearId, CreateAdmissionEnquiryRequest request);
 
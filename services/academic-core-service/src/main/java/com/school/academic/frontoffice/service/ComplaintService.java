@@ -22,7 +22,9 @@ public interface ComplaintService {
             LocalDate fromDate,
             LocalDate toDate,
             String search,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     ComplaintResponse createComplaint(UUID academicYearId, CreateComplaintRequest request);
 
@@ -0,0 +1,26 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaBreachResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaSummaryResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintStaffBacklogResponse;
+import com.school.academic.frontoffice.entity.Complaint;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for complaint SLA aging.
+ *
+ * {@link #recordComplaint(Complaint)} is called by the complaint service after a
+ * save; the complaint is re-bucketed once the transaction commits.
+ */
+public interface ComplaintSlaService {
+
+    ComplaintSlaSummaryResponse getSummary(UUID academicYearId);
+
+    List<ComplaintSlaBreachResponse> getBreaches(UUID academicYearId);
+
+    List<ComplaintStaffBacklogResponse> getStaffBacklog(UUID academicYearId);
+
+    void recordComplaint(Complaint complaint);
+}
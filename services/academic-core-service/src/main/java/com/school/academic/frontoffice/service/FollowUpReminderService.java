@@ -0,0 +1,29 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.dto.followup.FollowUpQueueResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpStaffSummaryResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.PhoneCall;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for follow-up reminders on admission enquiries and phone calls.
+ *
+ * The record methods are called after a save, inside the write transaction; the
+ * reminder is slotted, re-slotted or dropped once the transaction commits.
+ */
+public interface FollowUpReminderService {
+
+    /**
+     * Due-today and overdue queues; {@code staff} null means all staff.
+     */
+    FollowUpQueueResponse getQueue(UUID academicYearId, String staff);
+
+    List<FollowUpStaffSummaryResponse> getStaffSummary(UUID academicYearId);
+
+    void recordEnquiry(AdmissionEnquiry enquiry);
+
+    void recordPhoneCall(PhoneCall phoneCall);
+}
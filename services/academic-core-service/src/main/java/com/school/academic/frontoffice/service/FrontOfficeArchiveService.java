@@ -0,0 +1,27 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.dto.archive.FrontOfficeArchiveResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the cold archive of the front-office registers.
+ *
+ * Each academic year has its own partition of every front-office table. A closed
+ * year can be archived: its rows are streamed to compressed files, its
+ * partitions are dropped, and its lists are served from the files from then on.
+ */
+public interface FrontOfficeArchiveService {
+
+    /**
+     * Archived academic years, most recent first.
+     */
+    List<FrontOfficeArchiveResponse> listArchives();
+
+    /**
+     * Archive a closed academic year. Repeating the call for an archived year
+     * finishes removing its rows if an earlier run stopped part way.
+     */
+    FrontOfficeArchiveResponse archiveYear(UUID academicYearId);
+}
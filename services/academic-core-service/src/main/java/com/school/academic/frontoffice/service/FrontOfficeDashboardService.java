@@ -0,0 +1,38 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.dto.dashboard.FrontOfficeDashboardResponse;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for the reception dashboard.
+ *
+ * The record methods are called by the front-office services from inside their
+ * write transactions; the change is applied to the counters only after commit.
+ */
+public interface FrontOfficeDashboardService {
+
+    FrontOfficeDashboardResponse getDashboard(UUID academicYearId);
+
+    void recordVisitorCheckIn(UUID academicYearId, LocalDateTime checkInTime);
+
+    void recordVisitorCheckOut(UUID academicYearId, LocalDateTime checkInTime);
+
+    void recordHalfDayExit(UUID academicYearId, LocalDateTime outTime);
+
+    /**
+     * Record a complaint status change; {@code fromStatus} is null for a new complaint.
+     */
+    void recordComplaintStatus(UUID academicYearId, ComplaintStatus fromStatus, ComplaintStatus toStatus);
+
+    /**
+     * Record an enquiry change; {@code fromStatus} is null for a new enquiry.
+     */
+    void recordEnquiry(UUID academicYearId,
+                       EnquiryStatus fromStatus, LocalDate fromNextFollowUpDate,
+                       EnquiryStatus toStatus, LocalDate toNextFollowUpDate);
+}
@@ -0,0 +1,26 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.dto.search.FrontOfficeSearchResponse;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service interface for full-text search across the front-office registers.
+ *
+ * The index is kept current by a JPA listener on every front-office entity; it
+ * can also be rebuilt from the database at any time.
+ */
+public interface FrontOfficeSearchService {
+
+    /**
+     * Records matching every term of {@code query}; {@code types} null or empty means all registers.
+     */
+    FrontOfficeSearchResponse search(UUID academicYearId, String query, Set<FrontOfficeRecordType> types, int limit);
+
+    /**
+     * Queue a rebuild of the index from the database; searches keep working meanwhile.
+     */
+    void rebuild();
+}
@@ -18,7 +18,9 @@ public interface HalfDayNoticeService {
             LocalDate fromDate,
             LocalDate toDate,
             UUID studentId,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     HalfDayNoticeResponse createHalfDayNotice(UUID academicYearId, CreateHalfDayNoticeRequest request);
 
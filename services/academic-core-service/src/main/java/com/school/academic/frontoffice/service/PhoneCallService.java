@@ -19,9 +19,13 @@ public interface PhoneCallService {
             LocalDate toDate,
             Boolean hasFollowUp,
             String search,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     PhoneCallResponse createPhoneCall(UUID academicYearId, CreatePhoneCallRequest request);
 
     PhoneCallResponse getPhoneCallById(UUID id);
+
+    PhoneCallResponse updatePhoneCallFollowUp(UUID id, UpdatePhoneCallFollowUpRequest request);
 }
@@ -0,0 +1,34 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.domain.Parent;
+import com.school.academic.domain.StudentParent;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupResponse;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+
+import java.util.UUID;
+
+/**
+ * Service interface for recognizing callers and visitors by phone number.
+ *
+ * Numbers from every register are compared in E.164 form. The record methods
+ * are called after a save, inside the write transaction; the directory is
+ * updated once the transaction commits.
+ */
+public interface PhoneLookupService {
+
+    PhoneLookupResponse lookup(String number);
+
+    /**
+     * Earliest open enquiry of the year made with the same number, or null.
+     */
+    UUID findDuplicateEnquiry(UUID academicYearId, String phoneNumber);
+
+    void recordParent(Parent parent);
+
+    void recordGuardianLink(StudentParent link);
+
+    /**
+     * Record a visitor, phone call, admission enquiry, half-day notice or complaint.
+     */
+    void recordFrontOfficeRecord(FrontOfficeBaseEntity record);
+}
@@ -20,7 +20,9 @@ public interface PostalRecordService {
             LocalDate fromDate,
             LocalDate toDate,
             String search,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     PostalRecordResponse createPostalRecord(UUID academicYearId, CreatePostalRecordRequest request);
 
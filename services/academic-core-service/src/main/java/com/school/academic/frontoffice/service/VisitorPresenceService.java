@@ -0,0 +1,25 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.entity.Visitor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Service interface for live visitor presence.
+ *
+ * The record methods are called by the visitor service inside its write
+ * transaction; the open-visit set changes and subscribers are notified once the
+ * transaction commits.
+ */
+public interface VisitorPresenceService {
+
+    /**
+     * Open a live stream for one academic year: a snapshot, then check-in/check-out events.
+     */
+    SseEmitter subscribe(UUID academicYearId);
+
+    void recordCheckIn(Visitor visitor);
+
+    void recordCheckOut(Visitor visitor);
+}
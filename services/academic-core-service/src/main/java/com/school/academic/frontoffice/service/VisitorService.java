@@ -18,7 +18,9 @@ public interface VisitorService {
             LocalDate toDate,
             String search,
             Boolean checkedOut,
-            Pageable pageable);
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal);
 
     VisitorResponse createVisitor(UUID academicYearId, CreateVisitorRequest request);
 
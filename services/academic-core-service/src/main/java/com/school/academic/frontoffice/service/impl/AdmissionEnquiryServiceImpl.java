@@ -1,23 +1,27 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.enquiry.*;
 import com.school.academic.frontoffice.entity.AdmissionEnquiry;
 import com.school.academic.frontoffice.enums.EnquirySource;
 import com.school.academic.frontoffice.enums.EnquiryStatus;
 import com.school.academic.frontoffice.enums.EnquiryType;
 import com.school.academic.frontoffice.mapper.AdmissionEnquiryMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.service.FollowUpReminderService;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
 import com.school.academic.frontoffice.service.AdmissionEnquiryService;
+import com.school.academic.frontoffice.service.PhoneLookupService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.InvalidStateTransitionException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
@@ -32,6 +36,10 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
 
     private final AdmissionEnquiryRepository admissionEnquiryRepository;
     private final AdmissionEnquiryMapper admissionEnquiryMapper;
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeDashboardService frontOfficeDashboardService;
+    private final FollowUpReminderService followUpReminderService;
+    private final PhoneLookupService phoneLookupService;
 
     // Valid status transitions
     private static final java.util.Map<EnquiryStatus, Set<EnquiryStatus>> VALID_TRANSITIONS = java.util.Map.of(
@@ -42,9 +50,17 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
     );
 
     public AdmissionEnquiryServiceImpl(AdmissionEnquiryRepository admissionEnquiryRepository,
-                                       AdmissionEnquiryMapper admissionEnquiryMapper) {
+                                       AdmissionEnquiryMapper admissionEnquiryMapper,
+                                       FrontOfficePager frontOfficePager,
+                                       FrontOfficeDashboardService frontOfficeDashboardService,
+                                       FollowUpReminderService followUpReminderService,
+                                       PhoneLookupService phoneLookupService) {
         this.admissionEnquiryRepository = admissionEnquiryRepository;
         this.admissionEnquiryMapper = admissionEnquiryMapper;
+        this.frontOfficePager = frontOfficePager;
+        this.frontOfficeDashboardService = frontOfficeDashboardService;
+        this.followUpReminderService = followUpReminderService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -58,17 +74,21 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
             LocalDate toDate,
             Boolean hasFollowUp,
             String search,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
 
-        Page<AdmissionEnquiry> page = admissionEnquiryRepository.findAllWithFilters(
-                academicYearId, status, source, enquiryType, fromDate, toDate, hasFollowUp, search, pageable);
+        FrontOfficeSlice<AdmissionEnquiry> slice = frontOfficePager.list(AdmissionEnquiry.class, admissionEnquiryRepository,
+                admissionEnquiryRepository.withFilters(academicYearId, status, source, enquiryType, fromDate, toDate, hasFollowUp, search),
+                Arrays.asList(academicYearId, status, source, enquiryType, fromDate, toDate, hasFollowUp, search),
+                pageable, cursor, includeTotal);
 
         return new AdmissionEnquiryPageResponse(
-                page.getContent().stream().map(admissionEnquiryMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(admissionEnquiryMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -88,8 +108,12 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
         }
 
         AdmissionEnquiry enquiry = admissionEnquiryMapper.toEntity(request, academicYearId);
-        // TODO: Set createdBy from security context
+        enquiry.setDuplicateOfId(phoneLookupService.findDuplicateEnquiry(academicYearId, request.getPhoneNumber()));
         AdmissionEnquiry saved = admissionEnquiryRepository.save(enquiry);
+        frontOfficeDashboardService.recordEnquiry(academicYearId, null, null,
+                saved.getEnquiryStatus(), saved.getNextFollowUpDate());
+        followUpReminderService.recordEnquiry(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return admissionEnquiryMapper.toResponse(saved);
     }
 
@@ -116,9 +140,12 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
         if (request.getRemarks() != null) {
             enquiry.setRemarks(request.getRemarks());
         }
-        // TODO: Set updatedBy from security context
 
         AdmissionEnquiry saved = admissionEnquiryRepository.save(enquiry);
+        frontOfficeDashboardService.recordEnquiry(saved.getAcademicYearId(), currentStatus, saved.getNextFollowUpDate(),
+                newStatus, saved.getNextFollowUpDate());
+        followUpReminderService.recordEnquiry(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return admissionEnquiryMapper.toResponse(saved);
     }
 
@@ -152,6 +179,7 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
             }
         }
 
+        LocalDate previousNextFollowUp = enquiry.getNextFollowUpDate();
         if (request.getLastFollowUpDate() != null) {
             enquiry.setLastFollowUpDate(request.getLastFollowUpDate());
         }
@@ -161,9 +189,12 @@ public class AdmissionEnquiryServiceImpl implements AdmissionEnquiryService {
         if (request.getRemarks() != null) {
             enquiry.setRemarks(request.getRemarks());
         }
-        // TODO: Set updatedBy from security context
 
         AdmissionEnquiry saved = admissionEnquiryRepository.save(enquiry);
+        frontOfficeDashboardService.recordEnquiry(saved.getAcademicYearId(), saved.getEnquiryStatus(), previousNextFollowUp,
+                saved.getEnquiryStatus(), saved.getNextFollowUpDate());
+        followUpReminderService.recordEnquiry(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return admissionEnquiryMapper.toResponse(saved);
     }
 
@@ -0,0 +1,40 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The fields of a complaint that SLA aging needs, captured at save time.
+ */
+record ComplaintAging(
+        UUID id,
+        UUID academicYearId,
+        ComplaintStatus status,
+        LocalDateTime statusEnteredAt,
+        Long assignedToStaffId,
+        String assignedToStaffName,
+        String complainantName,
+        String category) {
+
+    static ComplaintAging of(Complaint complaint) {
+        return new ComplaintAging(complaint.getId(), complaint.getAcademicYearId(), complaint.getComplaintStatus(),
+                statusEnteredAt(complaint), complaint.getAssignedToStaffId(), complaint.getAssignedToStaffName(),
+                complaint.getComplainantName(), complaint.getCategory());
+    }
+
+    private static LocalDateTime statusEnteredAt(Complaint complaint) {
+        LocalDateTime enteredAt = switch (complaint.getComplaintStatus()) {
+            case OPEN -> complaint.getCreatedAt();
+            case IN_PROGRESS -> complaint.getInProgressAt();
+            case RESOLVED -> complaint.getResolvedAt();
+            case CLOSED -> complaint.getClosedAt();
+        };
+        if (enteredAt != null) {
+            return enteredAt;
+        }
+        return complaint.getUpdatedAt() != null ? complaint.getUpdatedAt() : complaint.getCreatedAt();
+    }
+}
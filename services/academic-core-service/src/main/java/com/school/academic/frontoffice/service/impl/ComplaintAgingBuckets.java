@@ -0,0 +1,257 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.enums.ComplaintAgeBucket;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Active complaints (OPEN, IN_PROGRESS) sorted into age buckets by time in status.
+ *
+ * Each complaint is counted in exactly one bucket, and the counts per academic
+ * year, per status and per assigned staff member are adjusted as it moves. A
+ * complaint only needs attention again when its age crosses the next bucket
+ * boundary, so those instants are kept in an ordered set and {@link #advance}
+ * moves just the complaints whose boundary has passed. Counts, backlog and the
+ * breach list are read without scanning.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+final class ComplaintAgingBuckets {
+
+    static final Set<ComplaintStatus> ACTIVE_STATUSES = EnumSet.of(ComplaintStatus.OPEN, ComplaintStatus.IN_PROGRESS);
+
+    private static final Duration ONE_DAY = Duration.ofDays(1);
+    private static final Duration THREE_DAYS = Duration.ofDays(3);
+
+    private final Map<ComplaintStatus, Duration> breachAfter;
+
+    private final Map<UUID, Tracked> tracked = new HashMap<>();
+    private final TreeSet<Tracked> promotions = new TreeSet<>(
+            Comparator.comparing((Tracked t) -> t.promoteAt).thenComparing(t -> t.complaint.id()));
+    private final Map<UUID, YearState> years = new HashMap<>();
+    private final Map<ComplaintStatus, long[]> totals = new EnumMap<>(ComplaintStatus.class);
+
+    ComplaintAgingBuckets(Duration openBreachAfter, Duration inProgressBreachAfter) {
+        this.breachAfter = new EnumMap<>(ComplaintStatus.class);
+        this.breachAfter.put(ComplaintStatus.OPEN, openBreachAfter);
+        this.breachAfter.put(ComplaintStatus.IN_PROGRESS, inProgressBreachAfter);
+        for (ComplaintStatus status : ACTIVE_STATUSES) {
+            totals.put(status, new long[ComplaintAgeBucket.values().length]);
+        }
+    }
+
+    /**
+     * Track or re-bucket a complaint; complaints that are no longer active are dropped.
+     */
+    void upsert(ComplaintAging complaint, LocalDateTime now) {
+        remove(complaint.id());
+        if (!ACTIVE_STATUSES.contains(complaint.status()) || complaint.statusEnteredAt() == null) {
+            return;
+        }
+        Tracked entry = new Tracked(complaint);
+        place(entry, now);
+        tracked.put(complaint.id(), entry);
+    }
+
+    void remove(UUID id) {
+        Tracked entry = tracked.remove(id);
+        if (entry != null) {
+            if (entry.promoteAt != null) {
+                promotions.remove(entry);
+            }
+            count(entry, -1);
+        }
+    }
+
+    /**
+     * Move complaints whose next bucket boundary is at or before {@code now}.
+     */
+    void advance(LocalDateTime now) {
+        while (!promotions.isEmpty() && !promotions.first().promoteAt.isAfter(now)) {
+            Tracked entry = promotions.pollFirst();
+            count(entry, -1);
+            place(entry, now);
+        }
+    }
+
+    long count(UUID academicYearId, ComplaintStatus status, ComplaintAgeBucket bucket) {
+        YearState year = years.get(academicYearId);
+        return year != null ? year.buckets.get(status)[bucket.ordinal()] : 0;
+    }
+
+    long total(ComplaintStatus status, ComplaintAgeBucket bucket) {
+        return totals.get(status)[bucket.ordinal()];
+    }
+
+    /**
+     * Breached complaints of a year with the instant they entered their status, oldest first.
+     */
+    List<ComplaintAging> breaches(UUID academicYearId) {
+        YearState year = years.get(academicYearId);
+        if (year == null) {
+            return List.of();
+        }
+        List<ComplaintAging> breached = new ArrayList<>(year.breached.values());
+        breached.sort(Comparator.comparing(ComplaintAging::statusEnteredAt));
+        return breached;
+    }
+
+    /**
+     * Active complaint counts per assigned staff id (null for unassigned).
+     */
+    List<StaffBacklog> backlog(UUID academicYearId) {
+        YearState year = years.get(academicYearId);
+        if (year == null) {
+            return List.of();
+        }
+        List<StaffBacklog> backlog = new ArrayList<>();
+        year.backlog.values().forEach(staff -> backlog.add(staff.copy()));
+        return backlog;
+    }
+
+    int size() {
+        return tracked.size();
+    }
+
+    private void place(Tracked entry, LocalDateTime now) {
+        ComplaintStatus status = entry.complaint.status();
+        Duration age = Duration.between(entry.complaint.statusEnteredAt(), now);
+        Duration breach = breachAfter.get(status);
+
+        if (age.compareTo(breach) >= 0) {
+            entry.bucket = ComplaintAgeBucket.BREACHED;
+        } else if (age.compareTo(ONE_DAY) < 0) {
+            entry.bucket = ComplaintAgeBucket.UNDER_24H;
+        } else if (age.compareTo(THREE_DAYS) < 0) {
+            entry.bucket = ComplaintAgeBucket.ONE_TO_THREE_DAYS;
+        } else {
+            entry.bucket = ComplaintAgeBucket.OVER_3_DAYS;
+        }
+
+        entry.promoteAt = null;
+        for (Duration boundary : List.of(ONE_DAY, THREE_DAYS, breach)) {
+            if (age.compareTo(boundary) < 0) {
+                LocalDateTime at = entry.complaint.statusEnteredAt().plus(boundary);
+                if (entry.promoteAt == null || at.isBefore(entry.promoteAt)) {
+                    entry.promoteAt = at;
+                }
+            }
+        }
+        if (entry.promoteAt != null) {
+            promotions.add(entry);
+        }
+        count(entry, 1);
+    }
+
+    private void count(Tracked entry, int delta) {
+        ComplaintAging complaint = entry.complaint;
+        YearState year = years.computeIfAbsent(complaint.academicYearId(), id -> new YearState());
+        year.buckets.get(complaint.status())[entry.bucket.ordinal()] += delta;
+        totals.get(complaint.status())[entry.bucket.ordinal()] += delta;
+
+        boolean breached = entry.bucket == ComplaintAgeBucket.BREACHED;
+        if (breached && delta > 0) {
+            year.breached.put(complaint.id(), complaint);
+        } else if (breached) {
+            year.breached.remove(complaint.id());
+        }
+
+        StaffBacklog staff = year.backlog.computeIfAbsent(complaint.assignedToStaffId(),
+                id -> new StaffBacklog(id, complaint.assignedToStaffName()));
+        if (complaint.status() == ComplaintStatus.OPEN) {
+            staff.open += delta;
+        } else {
+            staff.inProgress += delta;
+        }
+        if (breached) {
+            staff.breached += delta;
+        }
+        if (staff.open == 0 && staff.inProgress == 0) {
+            year.backlog.remove(complaint.assignedToStaffId());
+        } else if (delta > 0 && complaint.assignedToStaffName() != null) {
+            staff.staffName = complaint.assignedToStaffName();
+        }
+    }
+
+    private static final class Tracked {
+
+        private final ComplaintAging complaint;
+        private ComplaintAgeBucket bucket;
+        private LocalDateTime promoteAt;
+
+        private Tracked(ComplaintAging complaint) {
+            this.complaint = complaint;
+        }
+    }
+
+    private static final class YearState {
+
+        private final Map<ComplaintStatus, long[]> buckets = new EnumMap<>(ComplaintStatus.class);
+        private final Map<UUID, ComplaintAging> breached = new LinkedHashMap<>();
+        private final Map<Long, StaffBacklog> backlog = new HashMap<>();
+
+        private YearState() {
+            for (ComplaintStatus status : ACTIVE_STATUSES) {
+                buckets.put(status, new long[ComplaintAgeBucket.values().length]);
+            }
+        }
+    }
+
+    /**
+     * Active complaint counts for one assigned staff member.
+     */
+    static final class StaffBacklog {
+
+        private final Long staffId;
+        private String staffName;
+        private long open;
+        private long inProgress;
+        private long breached;
+
+        private StaffBacklog(Long staffId, String staffName) {
+            this.staffId = staffId;
+            this.staffName = staffName;
+        }
+
+        Long staffId() {
+            return staffId;
+        }
+
+        String staffName() {
+            return staffName;
+        }
+
+        long open() {
+            return open;
+        }
+
+        long inProgress() {
+            return inProgress;
+        }
+
+        long breached() {
+            return breached;
+        }
+
+        private StaffBacklog copy() {
+            StaffBacklog copy = new StaffBacklog(staffId, staffName);
+            copy.open = open;
+            copy.inProgress = inProgress;
+            copy.breached = breached;
+            return copy;
+        }
+    }
+}
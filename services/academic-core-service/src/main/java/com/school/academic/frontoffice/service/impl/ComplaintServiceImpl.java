@@ -1,22 +1,27 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.complaint.*;
 import com.school.academic.frontoffice.entity.Complaint;
 import com.school.academic.frontoffice.enums.ComplaintStatus;
 import com.school.academic.frontoffice.enums.ComplaintType;
 import com.school.academic.frontoffice.mapper.ComplaintMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
 import com.school.academic.frontoffice.service.ComplaintService;
+import com.school.academic.frontoffice.service.ComplaintSlaService;
+import com.school.academic.frontoffice.service.PhoneLookupService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.InvalidStateTransitionException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
@@ -31,6 +36,10 @@ public class ComplaintServiceImpl implements ComplaintService {
 
     private final ComplaintRepository complaintRepository;
     private final ComplaintMapper complaintMapper;
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeDashboardService frontOfficeDashboardService;
+    private final ComplaintSlaService complaintSlaService;
+    private final PhoneLookupService phoneLookupService;
 
     // Valid status transitions
     private static final java.util.Map<ComplaintStatus, Set<ComplaintStatus>> VALID_TRANSITIONS = java.util.Map.of(
@@ -40,9 +49,17 @@ public class ComplaintServiceImpl implements ComplaintService {
             ComplaintStatus.CLOSED, EnumSet.noneOf(ComplaintStatus.class) // No transitions from CLOSED
     );
 
-    public ComplaintServiceImpl(ComplaintRepository complaintRepository, ComplaintMapper complaintMapper) {
+    public ComplaintServiceImpl(ComplaintRepository complaintRepository, ComplaintMapper complaintMapper,
+                                FrontOfficePager frontOfficePager,
+                                FrontOfficeDashboardService frontOfficeDashboardService,
+                                ComplaintSlaService complaintSlaService,
+                                PhoneLookupService phoneLookupService) {
         this.complaintRepository = complaintRepository;
         this.complaintMapper = complaintMapper;
+        this.frontOfficePager = frontOfficePager;
+        this.frontOfficeDashboardService = frontOfficeDashboardService;
+        this.complaintSlaService = complaintSlaService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -56,7 +73,9 @@ public class ComplaintServiceImpl implements ComplaintService {
             LocalDate fromDate,
             LocalDate toDate,
             String search,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
@@ -64,12 +83,14 @@ public class ComplaintServiceImpl implements ComplaintService {
         // Note: Converting UUID to Long for repository query
         Long staffIdLong = assignedToStaffId != null ? assignedToStaffId.getMostSignificantBits() : null;
 
-        Page<Complaint> page = complaintRepository.findAllWithFilters(
-                academicYearId, status, complaintType, category, staffIdLong, fromDate, toDate, search, pageable);
+        FrontOfficeSlice<Complaint> slice = frontOfficePager.list(Complaint.class, complaintRepository,
+                complaintRepository.withFilters(academicYearId, status, complaintType, category, staffIdLong, fromDate, toDate, search),
+                Arrays.asList(academicYearId, status, complaintType, category, staffIdLong, fromDate, toDate, search),
+                pageable, cursor, includeTotal);
 
         return new ComplaintPageResponse(
-                page.getContent().stream().map(complaintMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(complaintMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -82,8 +103,10 @@ public class ComplaintServiceImpl implements ComplaintService {
         }
 
         Complaint complaint = complaintMapper.toEntity(request, academicYearId);
-        // TODO: Set createdBy from security context
         Complaint saved = complaintRepository.save(complaint);
+        frontOfficeDashboardService.recordComplaintStatus(academicYearId, null, saved.getComplaintStatus());
+        complaintSlaService.recordComplaint(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return complaintMapper.toResponse(saved);
     }
 
@@ -121,12 +144,15 @@ public class ComplaintServiceImpl implements ComplaintService {
         }
 
         // Auto-set status to IN_PROGRESS when assigned (if currently OPEN)
-        if (complaint.getComplaintStatus() == ComplaintStatus.OPEN) {
-            complaint.setComplaintStatus(ComplaintStatus.IN_PROGRESS);
+        ComplaintStatus previousStatus = complaint.getComplaintStatus();
+        if (previousStatus == ComplaintStatus.OPEN) {
+            enterStatus(complaint, ComplaintStatus.IN_PROGRESS);
         }
-        // TODO: Set updatedBy from security context
 
         Complaint saved = complaintRepository.save(complaint);
+        frontOfficeDashboardService.recordComplaintStatus(saved.getAcademicYearId(), previousStatus, saved.getComplaintStatus());
+        complaintSlaService.recordComplaint(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return complaintMapper.toResponse(saved);
     }
 
@@ -148,7 +174,9 @@ public class ComplaintServiceImpl implements ComplaintService {
                     "Action taken is required when resolving a complaint");
         }
 
-        complaint.setComplaintStatus(newStatus);
+        if (newStatus != currentStatus) {
+            enterStatus(complaint, newStatus);
+        }
 
         if (request.getActionTaken() != null) {
             complaint.setActionTaken(request.getActionTaken());
@@ -159,12 +187,28 @@ public class ComplaintServiceImpl implements ComplaintService {
         if (request.getRemarks() != null) {
             complaint.setRemarks(request.getRemarks());
         }
-        // TODO: Set updatedBy from security context
 
         Complaint saved = complaintRepository.save(complaint);
+        frontOfficeDashboardService.recordComplaintStatus(saved.getAcademicYearId(), currentStatus, newStatus);
+        complaintSlaService.recordComplaint(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return complaintMapper.toResponse(saved);
     }
 
+    // Move to a new status and record when it was entered, for SLA aging
+    private void enterStatus(Complaint complaint, ComplaintStatus newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        switch (newStatus) {
+            case IN_PROGRESS -> complaint.setInProgressAt(now);
+            case RESOLVED -> complaint.setResolvedAt(now);
+            case CLOSED -> complaint.setClosedAt(now);
+            default -> {
+                // OPEN is only entered on creation and uses createdAt
+            }
+        }
+        complaint.setComplaintStatus(newStatus);
+    }
+
     private void validateStatusTransition(ComplaintStatus currentStatus, ComplaintStatus newStatus) {
         if (currentStatus == newStatus) {
             return; // Same status is allowed (idempotent)
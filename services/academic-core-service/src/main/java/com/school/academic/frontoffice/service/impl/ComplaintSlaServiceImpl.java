@@ -0,0 +1,232 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaBreachResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintSlaSummaryResponse;
+import com.school.academic.frontoffice.dto.complaint.ComplaintStaffBacklogResponse;
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.enums.ComplaintAgeBucket;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.service.ComplaintSlaService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Complaint SLA aging served from in-memory buckets.
+ *
+ * Active complaints are loaded at startup and re-bucketed after every committed
+ * create, assignment or status change. A one-minute tick moves complaints whose
+ * age crossed a bucket boundary, and a periodic reload rebuilds the buckets to
+ * pick up changes made on other nodes; local changes committed during a reload
+ * are replayed onto the rebuilt buckets.
+ *
+ * Bucket totals across academic years are published as the
+ * {@code frontoffice_complaints_aging{status,bucket}} gauge.
+ */
+@Service
+public class ComplaintSlaServiceImpl implements ComplaintSlaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintSlaServiceImpl.class);
+
+    private final ComplaintRepository complaintRepository;
+    private final Duration openBreachAfter;
+    private final Duration inProgressBreachAfter;
+
+    private final Object lock = new Object();
+    private ComplaintAgingBuckets buckets;
+    private LocalDateTime loadedAt;
+    private List<ComplaintAging> pending;
+
+    public ComplaintSlaServiceImpl(ComplaintRepository complaintRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${academic.front-office.complaints.sla.open-breach-after:P7D}") Duration openBreachAfter,
+                                   @Value("${academic.front-office.complaints.sla.in-progress-breach-after:P7D}") Duration inProgressBreachAfter) {
+        this.complaintRepository = complaintRepository;
+        this.openBreachAfter = openBreachAfter;
+        this.inProgressBreachAfter = inProgressBreachAfter;
+        this.buckets = new ComplaintAgingBuckets(openBreachAfter, inProgressBreachAfter);
+
+        for (ComplaintStatus status : ComplaintAgingBuckets.ACTIVE_STATUSES) {
+            for (ComplaintAgeBucket bucket : ComplaintAgeBucket.values()) {
+                Gauge.builder("frontoffice.complaints.aging", () -> total(status, bucket))
+                        .description("Active complaints by time in current status")
+                        .tag("status", status.name())
+                        .tag("bucket", bucket.name())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    public ComplaintSlaSummaryResponse getSummary(UUID academicYearId) {
+        Map<ComplaintStatus, Map<ComplaintAgeBucket, Long>> counts = new EnumMap<>(ComplaintStatus.class);
+        long breached = 0;
+        LocalDateTime asOf;
+        synchronized (lock) {
+            buckets.advance(LocalDateTime.now());
+            for (ComplaintStatus status : ComplaintAgingBuckets.ACTIVE_STATUSES) {
+                Map<ComplaintAgeBucket, Long> byBucket = new EnumMap<>(ComplaintAgeBucket.class);
+                for (ComplaintAgeBucket bucket : ComplaintAgeBucket.values()) {
+                    byBucket.put(bucket, buckets.count(academicYearId, status, bucket));
+                }
+                counts.put(status, byBucket);
+                breached += byBucket.get(ComplaintAgeBucket.BREACHED);
+            }
+            asOf = loadedAt;
+        }
+
+        ComplaintSlaSummaryResponse response = new ComplaintSlaSummaryResponse();
+        response.setAsOf(asOf);
+        response.setBuckets(counts);
+        response.setBreached(breached);
+        return response;
+    }
+
+    @Override
+    public List<ComplaintSlaBreachResponse> getBreaches(UUID academicYearId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ComplaintAging> breaches;
+        synchronized (lock) {
+            buckets.advance(now);
+            breaches = buckets.breaches(academicYearId);
+        }
+        return breaches.stream().map(complaint -> toBreach(complaint, now)).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ComplaintStaffBacklogResponse> getStaffBacklog(UUID academicYearId) {
+        List<ComplaintAgingBuckets.StaffBacklog> backlog;
+        synchronized (lock) {
+            buckets.advance(LocalDateTime.now());
+            backlog = buckets.backlog(academicYearId);
+        }
+        return backlog.stream()
+                .sorted(Comparator.comparing(ComplaintAgingBuckets.StaffBacklog::breached).reversed()
+                        .thenComparing(staff -> staff.open() + staff.inProgress(), Comparator.reverseOrder()))
+                .map(this::toBacklog)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void recordComplaint(Complaint complaint) {
+        ComplaintAging aging = ComplaintAging.of(complaint);
+        Runnable apply = () -> {
+            synchronized (lock) {
+                buckets.upsert(aging, LocalDateTime.now());
+                if (pending != null) {
+                    pending.add(aging);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadComplaints() {
+        reload();
+    }
+
+    /**
+     * Rebuild the buckets from the active complaints in the database.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.complaints.sla.reload-interval:PT5M}",
+            initialDelayString = "${academic.front-office.complaints.sla.reload-interval:PT5M}")
+    public synchronized void reload() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        try {
+            List<Complaint> active = complaintRepository.findByComplaintStatusIn(ComplaintAgingBuckets.ACTIVE_STATUSES);
+            LocalDateTime now = LocalDateTime.now();
+            ComplaintAgingBuckets fresh = new ComplaintAgingBuckets(openBreachAfter, inProgressBreachAfter);
+            for (Complaint complaint : active) {
+                fresh.upsert(ComplaintAging.of(complaint), now);
+            }
+            synchronized (lock) {
+                pending.forEach(aging -> fresh.upsert(aging, now));
+                buckets = fresh;
+                loadedAt = now;
+            }
+            log.debug("Loaded {} active complaints for SLA aging", fresh.size());
+        } catch (RuntimeException ex) {
+            // Keep serving the current buckets; the next reload retries
+            log.warn("Complaint SLA reload failed: {}", ex.getMessage());
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+        }
+    }
+
+    /**
+     * Move complaints whose age crossed a bucket boundary, so gauges stay current between requests.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.complaints.sla.tick-interval:PT1M}")
+    public void tick() {
+        synchronized (lock) {
+            buckets.advance(LocalDateTime.now());
+        }
+    }
+
+    private long total(ComplaintStatus status, ComplaintAgeBucket bucket) {
+        synchronized (lock) {
+            return buckets.total(status, bucket);
+        }
+    }
+
+    private ComplaintSlaBreachResponse toBreach(ComplaintAging complaint, LocalDateTime now) {
+        ComplaintSlaBreachResponse response = new ComplaintSlaBreachResponse();
+        response.setId(complaint.id());
+        response.setComplainantName(complaint.complainantName());
+        response.setCategory(complaint.category());
+        response.setStatus(complaint.status());
+        response.setAssignedToStaffId(toStaffUuid(complaint.assignedToStaffId()));
+        response.setAssignedToStaffName(complaint.assignedToStaffName());
+        response.setStatusEnteredAt(complaint.statusEnteredAt());
+        response.setHoursInStatus(Duration.between(complaint.statusEnteredAt(), now).toHours());
+        return response;
+    }
+
+    private ComplaintStaffBacklogResponse toBacklog(ComplaintAgingBuckets.StaffBacklog staff) {
+        ComplaintStaffBacklogResponse response = new ComplaintStaffBacklogResponse();
+        response.setAssignedToStaffId(toStaffUuid(staff.staffId()));
+        response.setAssignedToStaffName(staff.staffName());
+        response.setOpen(staff.open());
+        response.setInProgress(staff.inProgress());
+        response.setBreached(staff.breached());
+        return response;
+    }
+
+    // Inverse of the UUID -> Long conversion used when assigning and filtering by staff
+    private UUID toStaffUuid(Long staffId) {
+        return staffId != null ? new UUID(staffId, 0L) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.enums.FollowUpType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A follow-up held in the timing wheel. The owner is the staff member who logged
+ * the record ({@code createdBy}, taken from the X-User-Id header when it was created).
+ */
+record FollowUpReminder(
+        FollowUpType type,
+        UUID id,
+        UUID academicYearId,
+        String owner,
+        String name,
+        String phoneNumber,
+        LocalDate dueDate) {
+
+    static FollowUpReminder of(AdmissionEnquiry enquiry) {
+        return new FollowUpReminder(FollowUpType.ADMISSION_ENQUIRY, enquiry.getId(), enquiry.getAcademicYearId(),
+                enquiry.getCreatedBy(), enquiry.getEnquirerName(), enquiry.getPhoneNumber(), enquiry.getNextFollowUpDate());
+    }
+
+    static FollowUpReminder of(PhoneCall phoneCall) {
+        return new FollowUpReminder(FollowUpType.PHONE_CALL, phoneCall.getId(), phoneCall.getAcademicYearId(),
+                phoneCall.getCreatedBy(), phoneCall.getCallerName(), phoneCall.getPhoneNumber(), phoneCall.getNextFollowUpDate());
+    }
+}
@@ -0,0 +1,297 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.followup.FollowUpItemResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpQueueResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpStaffSummaryResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import com.school.academic.frontoffice.service.FollowUpReminderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Follow-up reminders served from an in-memory timing wheel.
+ *
+ * At startup the wheel is filled from the due-date index with every open
+ * follow-up from the overdue lookback through the wheel horizon. A daily tick
+ * advances the wheel and loads only the days that newly enter the horizon, and
+ * a periodic reload rebuilds it to pick up writes made on other nodes.
+ *
+ * Local writes re-slot their reminder once the transaction commits. Changes
+ * that commit while a load is in flight are recorded and replayed onto the
+ * loaded wheel, so a load never overwrites a newer local change.
+ */
+@Service
+public class FollowUpReminderServiceImpl implements FollowUpReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowUpReminderServiceImpl.class);
+
+    private static final int DAY_SLOTS = 32;
+    private static final Set<EnquiryStatus> OPEN_STATUSES = EnumSet.of(EnquiryStatus.NEW, EnquiryStatus.FOLLOW_UP);
+    private static final Comparator<FollowUpReminder> BY_DUE_DATE = Comparator
+            .comparing(FollowUpReminder::dueDate)
+            .thenComparing(FollowUpReminder::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final AdmissionEnquiryRepository admissionEnquiryRepository;
+    private final PhoneCallRepository phoneCallRepository;
+    private final int blockSlots;
+    private final int lookbackDays;
+
+    private final Object lock = new Object();
+    private FollowUpTimingWheel wheel;
+    private LocalDate loadedThrough;
+    private List<Change> pending;
+
+    public FollowUpReminderServiceImpl(AdmissionEnquiryRepository admissionEnquiryRepository,
+                                       PhoneCallRepository phoneCallRepository,
+                                       @Value("${academic.front-office.follow-ups.lookahead-days:90}") int lookaheadDays,
+                                       @Value("${academic.front-office.follow-ups.overdue-lookback-days:30}") int lookbackDays) {
+        this.admissionEnquiryRepository = admissionEnquiryRepository;
+        this.phoneCallRepository = phoneCallRepository;
+        // The current block plus enough later blocks to always cover the lookahead
+        this.blockSlots = lookaheadDays / DAY_SLOTS + 2;
+        this.lookbackDays = lookbackDays;
+        this.wheel = newWheel(LocalDate.now());
+    }
+
+    @Override
+    public FollowUpQueueResponse getQueue(UUID academicYearId, String staff) {
+        List<FollowUpReminder> dueToday;
+        List<FollowUpReminder> overdue;
+        LocalDate today;
+        synchronized (lock) {
+            wheel.advanceTo(LocalDate.now());
+            today = wheel.today();
+            dueToday = wheel.dueToday();
+            overdue = wheel.overdue();
+        }
+
+        FollowUpQueueResponse response = new FollowUpQueueResponse();
+        response.setDate(today);
+        response.setStaff(staff);
+        response.setDueToday(toItems(dueToday, academicYearId, staff));
+        response.setOverdue(toItems(overdue, academicYearId, staff));
+        return response;
+    }
+
+    @Override
+    public List<FollowUpStaffSummaryResponse> getStaffSummary(UUID academicYearId) {
+        List<FollowUpReminder> dueToday;
+        List<FollowUpReminder> overdue;
+        synchronized (lock) {
+            wheel.advanceTo(LocalDate.now());
+            dueToday = wheel.dueToday();
+            overdue = wheel.overdue();
+        }
+
+        Map<String, FollowUpStaffSummaryResponse> byStaff = new HashMap<>();
+        for (FollowUpReminder reminder : dueToday) {
+            if (reminder.academicYearId().equals(academicYearId)) {
+                FollowUpStaffSummaryResponse summary = byStaff.computeIfAbsent(reminder.owner(), this::newSummary);
+                summary.setDueToday(summary.getDueToday() + 1);
+            }
+        }
+        for (FollowUpReminder reminder : overdue) {
+            if (reminder.academicYearId().equals(academicYearId)) {
+                FollowUpStaffSummaryResponse summary = byStaff.computeIfAbsent(reminder.owner(), this::newSummary);
+                summary.setOverdue(summary.getOverdue() + 1);
+            }
+        }
+        return byStaff.values().stream()
+                .sorted(Comparator.comparing(FollowUpStaffSummaryResponse::getStaff,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void recordEnquiry(AdmissionEnquiry enquiry) {
+        boolean open = OPEN_STATUSES.contains(enquiry.getEnquiryStatus()) && enquiry.getNextFollowUpDate() != null;
+        record(new Change(enquiry.getId(), open ? FollowUpReminder.of(enquiry) : null));
+    }
+
+    @Override
+    public void recordPhoneCall(PhoneCall phoneCall) {
+        boolean open = phoneCall.getNextFollowUpDate() != null;
+        record(new Change(phoneCall.getId(), open ? FollowUpReminder.of(phoneCall) : null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadReminders() {
+        reload();
+    }
+
+    /**
+     * Rebuild the wheel from the database.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.follow-ups.reload-interval:PT15M}",
+            initialDelayString = "${academic.front-office.follow-ups.reload-interval:PT15M}")
+    public synchronized void reload() {
+        FollowUpTimingWheel fresh = newWheel(LocalDate.now());
+        startRecording();
+        try {
+            List<FollowUpReminder> loaded = load(fresh.lookbackStart(), fresh.horizonEnd());
+            synchronized (lock) {
+                loaded.forEach(fresh::add);
+                pending.forEach(change -> change.applyTo(fresh));
+                wheel = fresh;
+                loadedThrough = fresh.horizonEnd();
+            }
+            log.debug("Loaded {} follow-up reminders through {}", loaded.size(), fresh.horizonEnd());
+        } catch (RuntimeException ex) {
+            // Keep serving the current wheel; the next reload retries
+            log.warn("Follow-up reminder reload failed: {}", ex.getMessage());
+        } finally {
+            stopRecording();
+        }
+    }
+
+    /**
+     * Move the wheel to today and load the days that entered the horizon.
+     */
+    @Scheduled(cron = "${academic.front-office.follow-ups.advance-cron:0 0 0 * * *}")
+    public synchronized void advance() {
+        LocalDate from;
+        LocalDate to;
+        synchronized (lock) {
+            if (loadedThrough == null) {
+                from = null;
+                to = null;
+            } else {
+                wheel.advanceTo(LocalDate.now());
+                if (!wheel.horizonEnd().isAfter(loadedThrough)) {
+                    return;
+                }
+                from = loadedThrough.plusDays(1);
+                to = wheel.horizonEnd();
+            }
+        }
+        if (from == null) {
+            reload();
+            return;
+        }
+
+        startRecording();
+        try {
+            List<FollowUpReminder> loaded = load(from, to);
+            synchronized (lock) {
+                loaded.forEach(wheel::add);
+                pending.forEach(change -> change.applyTo(wheel));
+                loadedThrough = to;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Follow-up reminder horizon load failed: {}", ex.getMessage());
+        } finally {
+            stopRecording();
+        }
+    }
+
+    private List<FollowUpReminder> load(LocalDate from, LocalDate to) {
+        List<FollowUpReminder> reminders = new ArrayList<>();
+        for (AdmissionEnquiry enquiry : admissionEnquiryRepository
+                .findByNextFollowUpDateBetweenAndEnquiryStatusIn(from, to, OPEN_STATUSES)) {
+            reminders.add(FollowUpReminder.of(enquiry));
+        }
+        for (PhoneCall phoneCall : phoneCallRepository.findByNextFollowUpDateBetween(from, to)) {
+            reminders.add(FollowUpReminder.of(phoneCall));
+        }
+        return reminders;
+    }
+
+    private void record(Change change) {
+        Runnable apply = () -> {
+            synchronized (lock) {
+                change.applyTo(wheel);
+                if (pending != null) {
+                    pending.add(change);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void startRecording() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+    }
+
+    private void stopRecording() {
+        synchronized (lock) {
+            pending = null;
+        }
+    }
+
+    private FollowUpTimingWheel newWheel(LocalDate today) {
+        return new FollowUpTimingWheel(today, DAY_SLOTS, blockSlots, lookbackDays);
+    }
+
+    private List<FollowUpItemResponse> toItems(List<FollowUpReminder> reminders, UUID academicYearId, String staff) {
+        return reminders.stream()
+                .filter(reminder -> reminder.academicYearId().equals(academicYearId))
+                .filter(reminder -> staff == null || staff.equals(reminder.owner()))
+                .sorted(BY_DUE_DATE)
+                .map(this::toItem)
+                .collect(Collectors.toList());
+    }
+
+    private FollowUpItemResponse toItem(FollowUpReminder reminder) {
+        FollowUpItemResponse item = new FollowUpItemResponse();
+        item.setType(reminder.type());
+        item.setId(reminder.id());
+        item.setName(reminder.name());
+        item.setPhoneNumber(reminder.phoneNumber());
+        item.setDueDate(reminder.dueDate());
+        item.setStaff(reminder.owner());
+        return item;
+    }
+
+    private FollowUpStaffSummaryResponse newSummary(String staff) {
+        FollowUpStaffSummaryResponse summary = new FollowUpStaffSummaryResponse();
+        summary.setStaff(staff);
+        return summary;
+    }
+
+    /**
+     * Committed state of one record: a reminder to slot, or null to drop it.
+     */
+    private record Change(UUID id, FollowUpReminder reminder) {
+
+        void applyTo(FollowUpTimingWheel target) {
+            if (reminder != null) {
+                target.add(reminder);
+            } else {
+                target.remove(id);
+            }
+        }
+    }
+}
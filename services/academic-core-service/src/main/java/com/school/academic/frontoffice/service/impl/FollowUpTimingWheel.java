@@ -0,0 +1,168 @@
+package com.school.academic.frontoffice.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Two-level timing wheel of follow-up reminders with day resolution.
+ *
+ * Days are grouped into fixed blocks of {@code daySlots} days. Level 0 holds one
+ * slot per day of the current block; level 1 holds one slot per later block, up
+ * to {@code blockSlots - 1} blocks ahead. When the day advances into a new block,
+ * that block's level-1 slot is cascaded into the day slots. Reminders whose day
+ * has passed move to the overdue set, which is trimmed to {@code lookbackDays}.
+ *
+ * Where a reminder sits is a function of its due date and the current day, so
+ * remove and re-slot are O(1) through the id index. Not thread-safe; callers
+ * synchronize.
+ */
+final class FollowUpTimingWheel {
+
+    private final int daySlots;
+    private final int blockSlots;
+    private final int lookbackDays;
+
+    private final List<Map<UUID, FollowUpReminder>> days;
+    private final List<Map<UUID, FollowUpReminder>> blocks;
+    private final Map<UUID, FollowUpReminder> overdue = new HashMap<>();
+    private final Map<UUID, FollowUpReminder> index = new HashMap<>();
+
+    private LocalDate today;
+
+    FollowUpTimingWheel(LocalDate today, int daySlots, int blockSlots, int lookbackDays) {
+        if (daySlots < 1 || blockSlots < 2 || lookbackDays < 0) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.today = today;
+        this.daySlots = daySlots;
+        this.blockSlots = blockSlots;
+        this.lookbackDays = lookbackDays;
+        this.days = newSlots(daySlots);
+        this.blocks = newSlots(blockSlots);
+    }
+
+    LocalDate today() {
+        return today;
+    }
+
+    /**
+     * Oldest due date still kept as overdue.
+     */
+    LocalDate lookbackStart() {
+        return today.minusDays(lookbackDays);
+    }
+
+    /**
+     * Last due date the wheel can hold.
+     */
+    LocalDate horizonEnd() {
+        return LocalDate.ofEpochDay((block(today) + blockSlots) * daySlots - 1);
+    }
+
+    /**
+     * Insert or re-slot a reminder. Returns false if its due date is outside the
+     * lookback/horizon window, in which case any previous entry is removed.
+     */
+    boolean add(FollowUpReminder reminder) {
+        remove(reminder.id());
+        Map<UUID, FollowUpReminder> slot = slotFor(reminder.dueDate());
+        if (slot == null) {
+            return false;
+        }
+        slot.put(reminder.id(), reminder);
+        index.put(reminder.id(), reminder);
+        return true;
+    }
+
+    void remove(UUID id) {
+        FollowUpReminder existing = index.remove(id);
+        if (existing != null) {
+            Map<UUID, FollowUpReminder> slot = slotFor(existing.dueDate());
+            if (slot != null) {
+                slot.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Move the wheel forward one day at a time up to {@code target}.
+     */
+    void advanceTo(LocalDate target) {
+        while (today.isBefore(target)) {
+            Map<UUID, FollowUpReminder> expired = days.get(daySlot(today));
+            overdue.putAll(expired);
+            expired.clear();
+
+            long previousBlock = block(today);
+            today = today.plusDays(1);
+            if (block(today) != previousBlock) {
+                Map<UUID, FollowUpReminder> cascading = blocks.get(blockSlot(block(today)));
+                for (FollowUpReminder reminder : cascading.values()) {
+                    days.get(daySlot(reminder.dueDate())).put(reminder.id(), reminder);
+                }
+                cascading.clear();
+            }
+        }
+        LocalDate cutoff = lookbackStart();
+        overdue.values().removeIf(reminder -> {
+            if (reminder.dueDate().isBefore(cutoff)) {
+                index.remove(reminder.id());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    List<FollowUpReminder> dueToday() {
+        return new ArrayList<>(days.get(daySlot(today)).values());
+    }
+
+    List<FollowUpReminder> overdue() {
+        return new ArrayList<>(overdue.values());
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    private Map<UUID, FollowUpReminder> slotFor(LocalDate dueDate) {
+        if (dueDate == null || dueDate.isBefore(lookbackStart())) {
+            return null;
+        }
+        if (dueDate.isBefore(today)) {
+            return overdue;
+        }
+        long ahead = block(dueDate) - block(today);
+        if (ahead == 0) {
+            return days.get(daySlot(dueDate));
+        }
+        if (ahead < blockSlots) {
+            return blocks.get(blockSlot(block(dueDate)));
+        }
+        return null;
+    }
+
+    private long block(LocalDate date) {
+        return Math.floorDiv(date.toEpochDay(), daySlots);
+    }
+
+    private int daySlot(LocalDate date) {
+        return Math.floorMod(date.toEpochDay(), daySlots);
+    }
+
+    private int blockSlot(long block) {
+        return Math.floorMod(block, blockSlots);
+    }
+
+    private static List<Map<UUID, FollowUpReminder>> newSlots(int count) {
+        List<Map<UUID, FollowUpReminder>> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slots.add(new HashMap<>());
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,292 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.domain.AcademicYear;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.frontoffice.archive.FrontOfficeArchive;
+import com.school.academic.frontoffice.dto.archive.FrontOfficeArchiveResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.entity.FrontOfficeArchivedYear;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import com.school.academic.frontoffice.entity.HalfDayNotice;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.entity.PostalRecord;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.repository.FrontOfficeArchivedYearRepository;
+import com.school.academic.frontoffice.repository.FrontOfficeFilter;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficePartitions;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
+import com.school.academic.frontoffice.repository.FrontOfficeSpecifications;
+import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import com.school.academic.frontoffice.repository.PostalRecordRepository;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.service.FrontOfficeArchiveService;
+import com.school.academic.repository.AcademicYearRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cold archive of the front-office registers.
+ *
+ * Archiving a year streams each register to its archive file in keyset order,
+ * one page at a time, then checks the year's row count and latest change are
+ * unchanged before recording the year as archived. Each register's rows are
+ * dropped only if that snapshot still holds at drop time, so a record written
+ * during the run, or by a node that has not yet seen the year as archived,
+ * aborts it instead of being lost. The academic year's row stays locked for
+ * the whole run, so only one node archives a year at a time. Which years are
+ * archived is refreshed every minute so other nodes switch their lists to the
+ * archive files, which they read from the same shared archive directory; a
+ * node that cannot see a year's files fails its lists instead of serving them
+ * empty.
+ */
+@Service
+public class FrontOfficeArchiveServiceImpl implements FrontOfficeArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontOfficeArchiveServiceImpl.class);
+
+    private final FrontOfficeArchive frontOfficeArchive;
+    private final FrontOfficePartitions frontOfficePartitions;
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeArchivedYearRepository archivedYearRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate lockTransaction;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final List<Register<?>> registers;
+    private final Duration closedGrace;
+    private final int pageSize;
+
+    public FrontOfficeArchiveServiceImpl(FrontOfficeArchive frontOfficeArchive,
+                                         FrontOfficePartitions frontOfficePartitions,
+                                         FrontOfficePager frontOfficePager,
+                                         FrontOfficeArchivedYearRepository archivedYearRepository,
+                                         AcademicYearRepository academicYearRepository,
+                                         VisitorRepository visitorRepository,
+                                         PhoneCallRepository phoneCallRepository,
+                                         PostalRecordRepository postalRecordRepository,
+                                         AdmissionEnquiryRepository admissionEnquiryRepository,
+                                         ComplaintRepository complaintRepository,
+                                         HalfDayNoticeRepository halfDayNoticeRepository,
+                                         EntityManager entityManager,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${academic.front-office.archive.closed-grace:P90D}") Duration closedGrace,
+                                         @Value("${academic.front-office.archive.page-size:1000}") int pageSize) {
+        this.frontOfficeArchive = frontOfficeArchive;
+        this.frontOfficePartitions = frontOfficePartitions;
+        this.frontOfficePager = frontOfficePager;
+        this.archivedYearRepository = archivedYearRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.entityManager = entityManager;
+        // The run's steps commit on their own while the lock transaction stays open
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.registers = List.of(
+                new Register<>(Visitor.class, visitorRepository),
+                new Register<>(PhoneCall.class, phoneCallRepository),
+                new Register<>(PostalRecord.class, postalRecordRepository),
+                new Register<>(AdmissionEnquiry.class, admissionEnquiryRepository),
+                new Register<>(Complaint.class, complaintRepository),
+                new Register<>(HalfDayNotice.class, halfDayNoticeRepository));
+        this.closedGrace = closedGrace;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public List<FrontOfficeArchiveResponse> listArchives() {
+        return archivedYearRepository.findAll(Sort.by(Sort.Direction.DESC, "archivedAt")).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public FrontOfficeArchiveResponse archiveYear(UUID academicYearId) {
+        return lockTransaction.execute(status -> {
+            AcademicYear year = lockAcademicYear(academicYearId);
+            FrontOfficeArchivedYear archived = archivedYearRepository.findById(academicYearId).orElse(null);
+            if (archived == null && !isClosed(year)) {
+                throw new BusinessRuleException("ACADEMIC_YEAR_NOT_CLOSED",
+                        "Academic year " + year.getCode() + " can be archived once it is inactive and ended more than "
+                                + closedGrace.toDays() + " days ago");
+            }
+
+            // A repeated run re-exports the registers that still have rows, so a late write ends up in the file
+            Map<Register<?>, FrontOfficePartitions.YearSnapshot> exported = new LinkedHashMap<>();
+            for (Register<?> register : registers) {
+                if (archived == null || hasRows(register, academicYearId)) {
+                    exported.put(register, export(register, academicYearId));
+                }
+            }
+
+            if (archived == null) {
+                FrontOfficeArchivedYear marker = new FrontOfficeArchivedYear();
+                marker.setAcademicYearId(academicYearId);
+                marker.setRowCount(exported.values().stream().mapToLong(FrontOfficePartitions.YearSnapshot::rows).sum());
+                marker.setArchivedAt(LocalDateTime.now());
+                archived = transaction.execute(inner -> archivedYearRepository.save(marker));
+                frontOfficeArchive.markArchived(academicYearId);
+                log.info("Archived {} front-office records of academic year {}", marker.getRowCount(), academicYearId);
+            }
+
+            // Rows leave the database only once the archive is complete and recorded
+            exported.forEach((register, snapshot) -> drop(register, academicYearId, snapshot));
+            return toResponse(archived);
+        });
+    }
+
+    /**
+     * Archive every closed year that is not archived yet. Disabled unless a cron is configured.
+     */
+    @Scheduled(cron = "${academic.front-office.archive.cron:-}")
+    public void archiveClosedYears() {
+        Set<UUID> archived = new HashSet<>(archivedYearRepository.findAllAcademicYearIds());
+        for (AcademicYear year : academicYearRepository.findAll()) {
+            UUID academicYearId = new UUID(0L, year.getId());
+            if (isClosed(year) && !archived.contains(academicYearId)) {
+                try {
+                    archiveYear(academicYearId);
+                } catch (RuntimeException ex) {
+                    log.warn("Could not archive academic year {}: {}", year.getCode(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${academic.front-office.archive.refresh-interval:PT1M}",
+            initialDelayString = "${academic.front-office.archive.refresh-interval:PT1M}")
+    public void refreshArchivedYears() {
+        try {
+            frontOfficeArchive.setArchivedYears(archivedYearRepository.findAllAcademicYearIds());
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh archived front-office years: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Write one register's rows of the year to its archive file.
+     *
+     * @return the year's row count and latest change as archived
+     */
+    private <T extends FrontOfficeBaseEntity> FrontOfficePartitions.YearSnapshot export(Register<T> register, UUID academicYearId) {
+        FrontOfficePartitions.YearSnapshot before = readOnlyTransaction.execute(status ->
+                frontOfficePartitions.snapshot(register.type(), academicYearId));
+        FrontOfficeFilter<T> inYear = FrontOfficeSpecifications.inAcademicYear(academicYearId);
+
+        try (FrontOfficeArchive.ArchiveWriter<T> writer = frontOfficeArchive.writer(register.type(), academicYearId)) {
+            String cursor = null;
+            do {
+                String after = cursor;
+                FrontOfficeSlice<T> slice = readOnlyTransaction.execute(status -> frontOfficePager.list(register.type(),
+                        register.repository(), inYear, List.of(), PageRequest.of(0, pageSize), after, false));
+                for (T entity : slice.getContent()) {
+                    writer.write(entity);
+                }
+                entityManager.clear();
+                cursor = slice.getPage().getNextCursor();
+            } while (cursor != null);
+
+            FrontOfficePartitions.YearSnapshot after = readOnlyTransaction.execute(status ->
+                    frontOfficePartitions.snapshot(register.type(), academicYearId));
+            if (!before.equals(after) || writer.count() != after.rows()) {
+                throw new BusinessRuleException("ARCHIVE_SOURCE_CHANGED",
+                        register.type().getSimpleName() + " records of academic year " + academicYearId
+                                + " changed while being archived; nothing was removed, retry the archive");
+            }
+            writer.commit();
+            return after;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write the " + register.type().getSimpleName()
+                    + " archive of academic year " + academicYearId, ex);
+        }
+    }
+
+    /**
+     * Remove one register's rows of the year, unless they changed since they were archived.
+     */
+    private void drop(Register<?> register, UUID academicYearId, FrontOfficePartitions.YearSnapshot archived) {
+        transaction.executeWithoutResult(status -> {
+            if (!frontOfficePartitions.snapshot(register.type(), academicYearId).equals(archived)) {
+                throw new BusinessRuleException("ARCHIVE_SOURCE_CHANGED",
+                        register.type().getSimpleName() + " records of academic year " + academicYearId
+                                + " changed after being archived; they were kept, retry the archive to include the change");
+            }
+            frontOfficePartitions.dropYear(register.type(), academicYearId);
+        });
+    }
+
+    private boolean hasRows(Register<?> register, UUID academicYearId) {
+        FrontOfficePartitions.YearSnapshot snapshot = readOnlyTransaction.execute(status ->
+                frontOfficePartitions.snapshot(register.type(), academicYearId));
+        return snapshot != null && snapshot.rows() > 0;
+    }
+
+    /**
+     * Lock the academic year's row for the run; a second run fails at once instead of waiting.
+     */
+    private AcademicYear lockAcademicYear(UUID academicYearId) {
+        Optional<AcademicYear> year;
+        try {
+            year = academicYearId.getMostSignificantBits() == 0
+                    ? academicYearRepository.findByIdForUpdateNoWait(academicYearId.getLeastSignificantBits())
+                    : Optional.empty();
+        } catch (PessimisticLockingFailureException ex) {
+            throw new BusinessRuleException("ARCHIVE_IN_PROGRESS",
+                    "Academic year " + academicYearId + " is being archived by another run; try again later");
+        }
+        return year.orElseThrow(() -> new ResourceNotFoundException("Academic year not found with id: " + academicYearId));
+    }
+
+    private boolean isClosed(AcademicYear year) {
+        return !Boolean.TRUE.equals(year.getIsActive())
+                && year.getEndDate() != null
+                && year.getEndDate().atStartOfDay().plus(closedGrace).isBefore(LocalDateTime.now());
+    }
+
+    private FrontOfficeArchiveResponse toResponse(FrontOfficeArchivedYear archived) {
+        FrontOfficeArchiveResponse response = new FrontOfficeArchiveResponse();
+        response.setAcademicYearId(archived.getAcademicYearId());
+        response.setRowCount(archived.getRowCount());
+        response.setArchivedAt(archived.getArchivedAt());
+        return response;
+    }
+
+    private record Register<T extends FrontOfficeBaseEntity>(Class<T> type, JpaSpecificationExecutor<T> repository) {
+    }
+}
@@ -0,0 +1,243 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.dashboard.FrontOfficeDashboardResponse;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory reception dashboard counters, keyed by academic year and day.
+ *
+ * Counters for a key are loaded from the database on first read and then kept
+ * current by the record methods, which apply a +1/-1 delta once the writing
+ * transaction commits. Deltas for keys that are not loaded are dropped - the
+ * next load counts them anyway.
+ *
+ * Writes from other nodes, and any race between a load and a concurrent commit,
+ * are corrected by a periodic reconcile that recomputes every loaded key for
+ * today and drops keys for earlier days.
+ */
+@Service
+public class FrontOfficeDashboardServiceImpl implements FrontOfficeDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontOfficeDashboardServiceImpl.class);
+
+    private static final Set<EnquiryStatus> FOLLOW_UP_STATUSES = EnumSet.of(EnquiryStatus.NEW, EnquiryStatus.FOLLOW_UP);
+
+    private final VisitorRepository visitorRepository;
+    private final HalfDayNoticeRepository halfDayNoticeRepository;
+    private final ComplaintRepository complaintRepository;
+    private final AdmissionEnquiryRepository admissionEnquiryRepository;
+
+    private final Map<DashboardKey, Counters> counters = new ConcurrentHashMap<>();
+
+    public FrontOfficeDashboardServiceImpl(VisitorRepository visitorRepository,
+                                           HalfDayNoticeRepository halfDayNoticeRepository,
+                                           ComplaintRepository complaintRepository,
+                                           AdmissionEnquiryRepository admissionEnquiryRepository) {
+        this.visitorRepository = visitorRepository;
+        this.halfDayNoticeRepository = halfDayNoticeRepository;
+        this.complaintRepository = complaintRepository;
+        this.admissionEnquiryRepository = admissionEnquiryRepository;
+    }
+
+    @Override
+    public FrontOfficeDashboardResponse getDashboard(UUID academicYearId) {
+        DashboardKey key = new DashboardKey(academicYearId, LocalDate.now());
+        Counters current = counters.computeIfAbsent(key, this::load);
+
+        FrontOfficeDashboardResponse response = new FrontOfficeDashboardResponse();
+        response.setAcademicYearId(academicYearId);
+        response.setDate(key.date());
+        response.setVisitorsCheckedInToday(current.visitorsCheckedIn.get());
+        response.setVisitorsOnCampus(current.visitorsOnCampus.get());
+        response.setHalfDayExitsToday(current.halfDayExits.get());
+        response.setPendingEnquiryFollowUps(current.pendingFollowUps.get());
+        response.setEnquiriesByStatus(snapshot(current.enquiriesByStatus, EnquiryStatus.class));
+        response.setComplaintsByStatus(snapshot(current.complaintsByStatus, ComplaintStatus.class));
+        response.setAsOf(current.loadedAt);
+        return response;
+    }
+
+    @Override
+    public void recordVisitorCheckIn(UUID academicYearId, LocalDateTime checkInTime) {
+        afterCommit(() -> forEachLoaded(academicYearId, (date, c) -> {
+            if (checkInTime.toLocalDate().equals(date)) {
+                c.visitorsCheckedIn.incrementAndGet();
+                c.visitorsOnCampus.incrementAndGet();
+            }
+        }));
+    }
+
+    @Override
+    public void recordVisitorCheckOut(UUID academicYearId, LocalDateTime checkInTime) {
+        afterCommit(() -> forEachLoaded(academicYearId, (date, c) -> {
+            if (checkInTime.toLocalDate().equals(date)) {
+                c.visitorsOnCampus.decrementAndGet();
+            }
+        }));
+    }
+
+    @Override
+    public void recordHalfDayExit(UUID academicYearId, LocalDateTime outTime) {
+        afterCommit(() -> forEachLoaded(academicYearId, (date, c) -> {
+            if (outTime != null && outTime.toLocalDate().equals(date)) {
+                c.halfDayExits.incrementAndGet();
+            }
+        }));
+    }
+
+    @Override
+    public void recordComplaintStatus(UUID academicYearId, ComplaintStatus fromStatus, ComplaintStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        afterCommit(() -> forEachLoaded(academicYearId, (date, c) -> {
+            if (fromStatus != null) {
+                c.complaintsByStatus.get(fromStatus).decrementAndGet();
+            }
+            c.complaintsByStatus.get(toStatus).incrementAndGet();
+        }));
+    }
+
+    @Override
+    public void recordEnquiry(UUID academicYearId,
+                              EnquiryStatus fromStatus, LocalDate fromNextFollowUpDate,
+                              EnquiryStatus toStatus, LocalDate toNextFollowUpDate) {
+        if (fromStatus == toStatus && Objects.equals(fromNextFollowUpDate, toNextFollowUpDate)) {
+            return;
+        }
+        afterCommit(() -> forEachLoaded(academicYearId, (date, c) -> {
+            if (fromStatus != toStatus) {
+                if (fromStatus != null) {
+                    c.enquiriesByStatus.get(fromStatus).decrementAndGet();
+                }
+                c.enquiriesByStatus.get(toStatus).incrementAndGet();
+            }
+            long delta = (isFollowUpDue(toStatus, toNextFollowUpDate, date) ? 1 : 0)
+                    - (isFollowUpDue(fromStatus, fromNextFollowUpDate, date) ? 1 : 0);
+            if (delta != 0) {
+                c.pendingFollowUps.addAndGet(delta);
+            }
+        }));
+    }
+
+    /**
+     * Recompute loaded counters for today and drop counters for other days.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.dashboard.reconcile-interval:PT5M}",
+            initialDelayString = "${academic.front-office.dashboard.reconcile-interval:PT5M}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        counters.keySet().removeIf(key -> !key.date().equals(today));
+        for (DashboardKey key : List.copyOf(counters.keySet())) {
+            try {
+                counters.put(key, load(key));
+            } catch (RuntimeException ex) {
+                // Keep serving the incrementally maintained values; the next run retries
+                log.warn("Dashboard reconcile failed for academic year {}: {}", key.academicYearId(), ex.getMessage());
+            }
+        }
+    }
+
+    private Counters load(DashboardKey key) {
+        UUID academicYearId = key.academicYearId();
+        LocalDateTime from = key.date().atStartOfDay();
+        LocalDateTime to = key.date().plusDays(1).atStartOfDay();
+
+        Counters loaded = new Counters();
+        loaded.visitorsCheckedIn.set(visitorRepository.countCheckedInBetween(academicYearId, from, to));
+        loaded.visitorsOnCampus.set(visitorRepository.countOnCampusBetween(academicYearId, from, to));
+        loaded.halfDayExits.set(halfDayNoticeRepository.countOutBetween(academicYearId, from, to));
+        loaded.pendingFollowUps.set(
+                admissionEnquiryRepository.countFollowUpsDueBy(academicYearId, FOLLOW_UP_STATUSES, key.date()));
+        for (Object[] row : complaintRepository.countByStatus(academicYearId)) {
+            loaded.complaintsByStatus.get((ComplaintStatus) row[0]).set((Long) row[1]);
+        }
+        for (Object[] row : admissionEnquiryRepository.countByStatus(academicYearId)) {
+            loaded.enquiriesByStatus.get((EnquiryStatus) row[0]).set((Long) row[1]);
+        }
+        return loaded;
+    }
+
+    private void forEachLoaded(UUID academicYearId, BiConsumer<LocalDate, Counters> action) {
+        counters.forEach((key, c) -> {
+            if (key.academicYearId().equals(academicYearId)) {
+                action.accept(key.date(), c);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static boolean isFollowUpDue(EnquiryStatus status, LocalDate nextFollowUpDate, LocalDate date) {
+        return status != null && FOLLOW_UP_STATUSES.contains(status)
+                && nextFollowUpDate != null && !nextFollowUpDate.isAfter(date);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> snapshot(Map<E, AtomicLong> source, Class<E> type) {
+        Map<E, Long> copy = new EnumMap<>(type);
+        source.forEach((status, count) -> copy.put(status, count.get()));
+        return copy;
+    }
+
+    private record DashboardKey(UUID academicYearId, LocalDate date) {
+    }
+
+    /**
+     * Counter set for one key. Status maps are pre-populated and never change
+     * shape, so concurrent reads and increments need no further locking.
+     */
+    private static final class Counters {
+
+        private final AtomicLong visitorsCheckedIn = new AtomicLong();
+        private final AtomicLong visitorsOnCampus = new AtomicLong();
+        private final AtomicLong halfDayExits = new AtomicLong();
+        private final AtomicLong pendingFollowUps = new AtomicLong();
+        private final Map<EnquiryStatus, AtomicLong> enquiriesByStatus = counterMap(EnquiryStatus.class);
+        private final Map<ComplaintStatus, AtomicLong> complaintsByStatus = counterMap(ComplaintStatus.class);
+        private final LocalDateTime loadedAt = LocalDateTime.now();
+
+        private static <E extends Enum<E>> Map<E, AtomicLong> counterMap(Class<E> type) {
+            Map<E, AtomicLong> map = new EnumMap<>(type);
+            for (E value : type.getEnumConstants()) {
+                map.put(value, new AtomicLong());
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.archive.FrontOfficeArchive;
+import com.school.academic.frontoffice.dto.search.FrontOfficeSearchHitResponse;
+import com.school.academic.frontoffice.dto.search.FrontOfficeSearchResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import com.school.academic.frontoffice.entity.HalfDayNotice;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.entity.PostalRecord;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.repository.FrontOfficeFilter;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
+import com.school.academic.frontoffice.repository.FrontOfficeSpecifications;
+import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import com.school.academic.frontoffice.repository.PostalRecordRepository;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.search.FrontOfficeSearchDocument;
+import com.school.academic.frontoffice.search.FrontOfficeSearchIndex;
+import com.school.academic.frontoffice.service.FrontOfficeSearchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Front-office search served from the embedded index.
+ *
+ * The index is rebuilt at startup when it is empty (first start, or an
+ * in-memory fallback) and nightly. A rebuild walks each register one academic
+ * year at a time, in the keyset order of the list pages, so every page is a
+ * range seek on the register's (academic_year_id, created_at, id) index and
+ * memory stays flat however large the registers grow. Archived years are not
+ * in the database and are not indexed.
+ *
+ * The JPA listener only sees this node's writes. Every few minutes a catch-up
+ * re-reads the rows created or updated since the previous catch-up (or
+ * rebuild), which brings in what other nodes wrote. Each catch-up reaches back
+ * {@link #CATCH_UP_OVERLAP} before that watermark to cover clock skew between
+ * nodes and transactions that committed after the previous catch-up read;
+ * re-indexing a row is idempotent. The first catch-up after startup reads the
+ * previous day, so an index kept on disk across a restart misses nothing
+ * shorter than a day's downtime.
+ */
+@Service
+public class FrontOfficeSearchServiceImpl implements FrontOfficeSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(FrontOfficeSearchServiceImpl.class);
+
+    private static final int MAX_LIMIT = 50;
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(2);
+
+    private final FrontOfficeSearchIndex searchIndex;
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeArchive frontOfficeArchive;
+    private final EntityManager entityManager;
+    private final VisitorRepository visitorRepository;
+    private final PhoneCallRepository phoneCallRepository;
+    private final PostalRecordRepository postalRecordRepository;
+    private final AdmissionEnquiryRepository admissionEnquiryRepository;
+    private final ComplaintRepository complaintRepository;
+    private final HalfDayNoticeRepository halfDayNoticeRepository;
+
+    /**
+     * Start of the last rebuild or catch-up: everything committed before it is in the index.
+     */
+    private volatile LocalDateTime caughtUpTo = LocalDateTime.now().minusDays(1);
+
+    public FrontOfficeSearchServiceImpl(FrontOfficeSearchIndex searchIndex,
+                                        FrontOfficePager frontOfficePager,
+                                        FrontOfficeArchive frontOfficeArchive,
+                                        EntityManager entityManager,
+                                        VisitorRepository visitorRepository,
+                                        PhoneCallRepository phoneCallRepository,
+                                        PostalRecordRepository postalRecordRepository,
+                                        AdmissionEnquiryRepository admissionEnquiryRepository,
+                                        ComplaintRepository complaintRepository,
+                                        HalfDayNoticeRepository halfDayNoticeRepository) {
+        this.searchIndex = searchIndex;
+        this.frontOfficePager = frontOfficePager;
+        this.frontOfficeArchive = frontOfficeArchive;
+        this.entityManager = entityManager;
+        this.visitorRepository = visitorRepository;
+        this.phoneCallRepository = phoneCallRepository;
+        this.postalRecordRepository = postalRecordRepository;
+        this.admissionEnquiryRepository = admissionEnquiryRepository;
+        this.complaintRepository = complaintRepository;
+        this.halfDayNoticeRepository = halfDayNoticeRepository;
+    }
+
+    @Override
+    public FrontOfficeSearchResponse search(UUID academicYearId, String query, Set<FrontOfficeRecordType> types, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        long started = System.nanoTime();
+        FrontOfficeSearchIndex.Hits hits = searchIndex.search(academicYearId, query, types, limit);
+
+        FrontOfficeSearchResponse response = new FrontOfficeSearchResponse();
+        response.setQuery(query);
+        response.setTotal(hits.total());
+        response.setResults(hits.hits().stream().map(this::toResponse).collect(Collectors.toList()));
+        response.setTookMillis(Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return response;
+    }
+
+    @Override
+    public void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        searchIndex.rebuild(sink -> {
+            readAll(Visitor.class, visitorRepository, sink);
+            readAll(PhoneCall.class, phoneCallRepository, sink);
+            readAll(PostalRecord.class, postalRecordRepository, sink);
+            readAll(AdmissionEnquiry.class, admissionEnquiryRepository, sink);
+            readAll(Complaint.class, complaintRepository, sink);
+            readAll(HalfDayNotice.class, halfDayNoticeRepository, sink);
+        });
+        caughtUpTo = started;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (searchIndex.size() == 0) {
+            log.info("Front-office search index is empty; rebuilding from the database");
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${academic.front-office.search.rebuild-cron:0 30 2 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Re-index the rows of every register created or updated since the last catch-up or rebuild.
+     *
+     * @return completes once the re-indexed rows are searchable
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.search.catch-up-interval:PT5M}",
+            initialDelayString = "${academic.front-office.search.catch-up-interval:PT5M}")
+    public CompletableFuture<Void> catchUp() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = caughtUpTo.minus(CATCH_UP_OVERLAP);
+        List<CompletableFuture<Void>> upserts = new ArrayList<>();
+        Consumer<FrontOfficeSearchDocument> sink = document -> upserts.add(searchIndex.upsert(document));
+        readChanged(Visitor.class, visitorRepository, since, sink);
+        readChanged(PhoneCall.class, phoneCallRepository, since, sink);
+        readChanged(PostalRecord.class, postalRecordRepository, since, sink);
+        readChanged(AdmissionEnquiry.class, admissionEnquiryRepository, since, sink);
+        readChanged(Complaint.class, complaintRepository, since, sink);
+        readChanged(HalfDayNotice.class, halfDayNoticeRepository, since, sink);
+        caughtUpTo = started;
+        log.debug("Front-office search caught up {} records changed since {}", upserts.size(), since);
+        return CompletableFuture.allOf(upserts.toArray(CompletableFuture[]::new));
+    }
+
+    private <T extends FrontOfficeBaseEntity> void readAll(Class<T> entityType,
+                                                           JpaSpecificationExecutor<T> repository,
+                                                           Consumer<FrontOfficeSearchDocument> sink) {
+        read(entityType, repository, FrontOfficeSpecifications::inAcademicYear, sink);
+    }
+
+    /**
+     * Rows created since {@code since} are found through the (academic_year_id, created_at, id)
+     * index and rows updated since then through (academic_year_id, updated_at); a row in both is
+     * indexed twice, which is harmless.
+     */
+    private <T extends FrontOfficeBaseEntity> void readChanged(Class<T> entityType,
+                                                               JpaSpecificationExecutor<T> repository,
+                                                               LocalDateTime since,
+                                                               Consumer<FrontOfficeSearchDocument> sink) {
+        for (String attribute : List.of("createdAt", "updatedAt")) {
+            read(entityType, repository, academicYearId -> FrontOfficeSpecifications.allOf(
+                    FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                    FrontOfficeSpecifications.atOrAfter(attribute, since)), sink);
+        }
+    }
+
+    private <T extends FrontOfficeBaseEntity> void read(Class<T> entityType,
+                                                        JpaSpecificationExecutor<T> repository,
+                                                        Function<UUID, FrontOfficeFilter<T>> filterForYear,
+                                                        Consumer<FrontOfficeSearchDocument> sink) {
+        for (UUID academicYearId : academicYears(entityType)) {
+            if (frontOfficeArchive.isArchived(academicYearId)) {
+                continue;
+            }
+            FrontOfficeFilter<T> filter = filterForYear.apply(academicYearId);
+            String cursor = null;
+            do {
+                FrontOfficeSlice<T> slice = frontOfficePager.list(entityType, repository, filter, List.of(academicYearId),
+                        PageRequest.of(0, REBUILD_PAGE_SIZE), cursor, false);
+                for (T entity : slice.getContent()) {
+                    sink.accept(FrontOfficeSearchDocument.of(entity));
+                }
+                cursor = slice.getPage().getNextCursor();
+            } while (cursor != null);
+        }
+    }
+
+    /**
+     * Academic years with rows in a register, read from the leading column of its
+     * (academic_year_id, created_at, id) index.
+     */
+    private <T extends FrontOfficeBaseEntity> List<UUID> academicYears(Class<T> entityType) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get("academicYearId")).distinct(true);
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private FrontOfficeSearchHitResponse toResponse(FrontOfficeSearchIndex.Hit hit) {
+        FrontOfficeSearchHitResponse response = new FrontOfficeSearchHitResponse();
+        response.setType(hit.type());
+        response.setId(hit.id());
+        response.setStatus(hit.status());
+        response.setTitle(hit.title());
+        response.setSnippet(hit.snippet());
+        response.setScore(hit.score());
+        response.setCreatedAt(hit.createdAt());
+        return response;
+    }
+}
@@ -1,20 +1,23 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.halfday.*;
 import com.school.academic.frontoffice.entity.HalfDayNotice;
 import com.school.academic.frontoffice.mapper.HalfDayNoticeMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
 import com.school.academic.frontoffice.service.HalfDayNoticeService;
+import com.school.academic.frontoffice.service.PhoneLookupService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,10 +30,19 @@ public class HalfDayNoticeServiceImpl implements HalfDayNoticeService {
 
     private final HalfDayNoticeRepository halfDayNoticeRepository;
     private final HalfDayNoticeMapper halfDayNoticeMapper;
-
-    public HalfDayNoticeServiceImpl(HalfDayNoticeRepository halfDayNoticeRepository, HalfDayNoticeMapper halfDayNoticeMapper) {
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeDashboardService frontOfficeDashboardService;
+    private final PhoneLookupService phoneLookupService;
+
+    public HalfDayNoticeServiceImpl(HalfDayNoticeRepository halfDayNoticeRepository, HalfDayNoticeMapper halfDayNoticeMapper,
+                                    FrontOfficePager frontOfficePager,
+                                    FrontOfficeDashboardService frontOfficeDashboardService,
+                                    PhoneLookupService phoneLookupService) {
         this.halfDayNoticeRepository = halfDayNoticeRepository;
         this.halfDayNoticeMapper = halfDayNoticeMapper;
+        this.frontOfficePager = frontOfficePager;
+        this.frontOfficeDashboardService = frontOfficeDashboardService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -42,7 +54,9 @@ public class HalfDayNoticeServiceImpl implements HalfDayNoticeService {
             LocalDate fromDate,
             LocalDate toDate,
             UUID studentId,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
@@ -53,12 +67,14 @@ public class HalfDayNoticeServiceImpl implements HalfDayNoticeService {
         Long sectionIdLong = sectionId != null ? sectionId.getMostSignificantBits() : null;
         Long studentIdLong = studentId != null ? studentId.getMostSignificantBits() : null;
 
-        Page<HalfDayNotice> page = halfDayNoticeRepository.findAllWithFilters(
-                academicYearId, classIdLong, sectionIdLong, fromDate, toDate, studentIdLong, pageable);
+        FrontOfficeSlice<HalfDayNotice> slice = frontOfficePager.list(HalfDayNotice.class, halfDayNoticeRepository,
+                halfDayNoticeRepository.withFilters(academicYearId, classIdLong, sectionIdLong, fromDate, toDate, studentIdLong),
+                Arrays.asList(academicYearId, classIdLong, sectionIdLong, fromDate, toDate, studentIdLong),
+                pageable, cursor, includeTotal);
 
         return new HalfDayNoticePageResponse(
-                page.getContent().stream().map(halfDayNoticeMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(halfDayNoticeMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -82,9 +98,10 @@ public class HalfDayNoticeServiceImpl implements HalfDayNoticeService {
         // TODO: Lookup student, class, section by UUID and set Long IDs
         // TODO: Validate student exists and belongs to the specified class/section
         // TODO: Denormalize student name, class name, section name
-        // TODO: Set createdBy from security context
 
         HalfDayNotice saved = halfDayNoticeRepository.save(notice);
+        frontOfficeDashboardService.recordHalfDayExit(academicYearId, saved.getOutTime());
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return halfDayNoticeMapper.toResponse(saved);
     }
 
@@ -1,20 +1,23 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.phonecall.*;
 import com.school.academic.frontoffice.entity.PhoneCall;
 import com.school.academic.frontoffice.enums.CallType;
 import com.school.academic.frontoffice.mapper.PhoneCallMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import com.school.academic.frontoffice.service.FollowUpReminderService;
 import com.school.academic.frontoffice.service.PhoneCallService;
+import com.school.academic.frontoffice.service.PhoneLookupService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,10 +30,19 @@ public class PhoneCallServiceImpl implements PhoneCallService {
 
     private final PhoneCallRepository phoneCallRepository;
     private final PhoneCallMapper phoneCallMapper;
+    private final FrontOfficePager frontOfficePager;
+    private final FollowUpReminderService followUpReminderService;
+    private final PhoneLookupService phoneLookupService;
 
-    public PhoneCallServiceImpl(PhoneCallRepository phoneCallRepository, PhoneCallMapper phoneCallMapper) {
+    public PhoneCallServiceImpl(PhoneCallRepository phoneCallRepository, PhoneCallMapper phoneCallMapper,
+                                FrontOfficePager frontOfficePager,
+                                FollowUpReminderService followUpReminderService,
+                                PhoneLookupService phoneLookupService) {
         this.phoneCallRepository = phoneCallRepository;
         this.phoneCallMapper = phoneCallMapper;
+        this.frontOfficePager = frontOfficePager;
+        this.followUpReminderService = followUpReminderService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -42,17 +54,21 @@ public class PhoneCallServiceImpl implements PhoneCallService {
             LocalDate toDate,
             Boolean hasFollowUp,
             String search,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
 
-        Page<PhoneCall> page = phoneCallRepository.findAllWithFilters(
-                academicYearId, callType, fromDate, toDate, hasFollowUp, search, pageable);
+        FrontOfficeSlice<PhoneCall> slice = frontOfficePager.list(PhoneCall.class, phoneCallRepository,
+                phoneCallRepository.withFilters(academicYearId, callType, fromDate, toDate, hasFollowUp, search),
+                Arrays.asList(academicYearId, callType, fromDate, toDate, hasFollowUp, search),
+                pageable, cursor, includeTotal);
 
         return new PhoneCallPageResponse(
-                page.getContent().stream().map(phoneCallMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(phoneCallMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -78,8 +94,9 @@ public class PhoneCallServiceImpl implements PhoneCallService {
         }
 
         PhoneCall phoneCall = phoneCallMapper.toEntity(request, academicYearId);
-        // TODO: Set createdBy from security context
         PhoneCall saved = phoneCallRepository.save(phoneCall);
+        followUpReminderService.recordPhoneCall(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return phoneCallMapper.toResponse(saved);
     }
 
@@ -91,6 +108,30 @@ public class PhoneCallServiceImpl implements PhoneCallService {
         return phoneCallMapper.toResponse(phoneCall);
     }
 
+    @Override
+    public PhoneCallResponse updatePhoneCallFollowUp(UUID id, UpdatePhoneCallFollowUpRequest request) {
+        PhoneCall phoneCall = phoneCallRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Phone call not found with id: " + id));
+
+        // Validate follow-up date is on or after call date
+        if (request.getNextFollowUpDate() != null &&
+            request.getNextFollowUpDate().isBefore(phoneCall.getCallDate())) {
+            throw new BusinessRuleException("INVALID_FOLLOW_UP_DATE",
+                    "Follow-up date must be on or after the call date");
+        }
+
+        // A null date completes the follow-up
+        phoneCall.setNextFollowUpDate(request.getNextFollowUpDate());
+        if (request.getRemarks() != null) {
+            phoneCall.setRemarks(request.getRemarks());
+        }
+
+        PhoneCall saved = phoneCallRepository.save(phoneCall);
+        followUpReminderService.recordPhoneCall(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
+        return phoneCallMapper.toResponse(saved);
+    }
+
     private void validateDateRange(LocalDate fromDate, LocalDate toDate) {
         if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
             throw new BusinessRuleException("INVALID_DATE_RANGE",
@@ -0,0 +1,257 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Everything the school knows about a phone number, keyed by its E.164 form.
+ *
+ * Each number points at the parents registered with it and at the latest
+ * front-office records made with it, with a count per register; parents lead
+ * on to their children and each child's current class. Open complaints carry
+ * no phone number, so they are matched on the names of those parents and
+ * children. Names typed into visitor, call and other records are not used:
+ * they are unverified, and a common name would pull in strangers' complaints.
+ * A lookup is a hash probe plus assembly of a bounded result.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+final class PhoneDirectory {
+
+    private static final Comparator<RecordRef> NEWEST_FIRST = Comparator
+            .comparing(RecordRef::at, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(RecordRef::id);
+
+    private final int recentPerType;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Long, ParentInfo> parents = new HashMap<>();
+    private final Map<Long, Set<Long>> childrenByParent = new HashMap<>();
+    private final Map<Long, StudentInfo> students = new HashMap<>();
+    private final Map<UUID, ComplaintRef> openComplaints = new HashMap<>();
+    private final Map<String, Set<UUID>> openComplaintsByName = new HashMap<>();
+
+    PhoneDirectory(int recentPerType) {
+        this.recentPerType = recentPerType;
+    }
+
+    void putParent(ParentInfo parent) {
+        ParentInfo previous = parents.put(parent.id(), parent);
+        if (previous != null && previous.number() != null) {
+            Entry entry = entries.get(previous.number());
+            if (entry != null) {
+                entry.parentIds.remove(previous.id());
+            }
+        }
+        if (parent.number() != null) {
+            entry(parent.number()).parentIds.add(parent.id());
+        }
+    }
+
+    /**
+     * Add or replace a student; a null class keeps the class already known.
+     */
+    void putStudent(StudentInfo student) {
+        StudentInfo previous = students.get(student.id());
+        if (student.classSection() == null && previous != null) {
+            student = new StudentInfo(student.id(), student.name(), student.admissionNumber(), previous.classSection());
+        }
+        students.put(student.id(), student);
+    }
+
+    void setClassSection(long studentId, String classSection) {
+        StudentInfo student = students.get(studentId);
+        if (student != null) {
+            students.put(studentId, new StudentInfo(studentId, student.name(), student.admissionNumber(), classSection));
+        }
+    }
+
+    void linkGuardian(long parentId, long studentId) {
+        childrenByParent.computeIfAbsent(parentId, id -> new LinkedHashSet<>()).add(studentId);
+    }
+
+    /**
+     * Add a record made with {@code number}, or replace it if it is among the latest kept.
+     */
+    void putRecord(String number, RecordRef record) {
+        if (number != null) {
+            entry(number).records.computeIfAbsent(record.type(), type -> new Recent()).put(record);
+        }
+    }
+
+    /**
+     * Track an open complaint, or drop one that is no longer open.
+     */
+    void putComplaint(ComplaintRef complaint) {
+        ComplaintRef previous = openComplaints.remove(complaint.id());
+        if (previous != null) {
+            Set<UUID> ids = openComplaintsByName.get(nameKey(previous.complainantName()));
+            if (ids != null) {
+                ids.remove(previous.id());
+                if (ids.isEmpty()) {
+                    openComplaintsByName.remove(nameKey(previous.complainantName()));
+                }
+            }
+        }
+        String name = nameKey(complaint.complainantName());
+        if (ComplaintAgingBuckets.ACTIVE_STATUSES.contains(complaint.status()) && name != null) {
+            openComplaints.put(complaint.id(), complaint);
+            openComplaintsByName.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(complaint.id());
+        }
+    }
+
+    /**
+     * The people and records linked to {@code number}, or null if the number is unknown.
+     */
+    Lookup lookup(String number) {
+        Entry entry = entries.get(number);
+        if (entry == null) {
+            return null;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        List<ParentInfo> linkedParents = new ArrayList<>();
+        Map<Long, List<StudentInfo>> children = new LinkedHashMap<>();
+        for (Long parentId : entry.parentIds) {
+            ParentInfo parent = parents.get(parentId);
+            linkedParents.add(parent);
+            addName(names, parent.name());
+            List<StudentInfo> linkedStudents = new ArrayList<>();
+            for (Long studentId : childrenByParent.getOrDefault(parentId, Set.of())) {
+                StudentInfo student = students.get(studentId);
+                if (student != null) {
+                    linkedStudents.add(student);
+                    addName(names, student.name());
+                }
+            }
+            children.put(parentId, linkedStudents);
+        }
+
+        List<RecordRef> records = new ArrayList<>();
+        Map<FrontOfficeRecordType, Integer> counts = new EnumMap<>(FrontOfficeRecordType.class);
+        entry.records.forEach((type, recent) -> {
+            records.addAll(recent.latest);
+            counts.put(type, recent.count);
+        });
+        records.sort(NEWEST_FIRST);
+
+        List<ComplaintRef> complaints = new ArrayList<>();
+        for (String name : names) {
+            for (UUID id : openComplaintsByName.getOrDefault(name, Set.of())) {
+                complaints.add(openComplaints.get(id));
+            }
+        }
+        complaints.sort(Comparator.comparing(ComplaintRef::complaintDate, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        return new Lookup(number, linkedParents, children, records, counts, complaints);
+    }
+
+    /**
+     * Earliest open enquiry of a year made with {@code number}, other than {@code excludeId}.
+     */
+    UUID openEnquiry(UUID academicYearId, String number, Set<String> openStatuses, UUID excludeId) {
+        Entry entry = entries.get(number);
+        Recent enquiries = entry != null ? entry.records.get(FrontOfficeRecordType.ADMISSION_ENQUIRY) : null;
+        if (enquiries == null) {
+            return null;
+        }
+        return enquiries.latest.stream()
+                .filter(record -> academicYearId.equals(record.academicYearId()))
+                .filter(record -> openStatuses.contains(record.status()))
+                .filter(record -> !record.id().equals(excludeId))
+                .min(Comparator.comparing(RecordRef::at, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(RecordRef::id)
+                .orElse(null);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Entry entry(String number) {
+        return entries.computeIfAbsent(number, key -> new Entry());
+    }
+
+    private static void addName(Set<String> names, String name) {
+        String key = nameKey(name);
+        if (key != null) {
+            names.add(key);
+        }
+    }
+
+    private static String nameKey(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static final class Entry {
+
+        private final Set<Long> parentIds = new LinkedHashSet<>();
+        private final Map<FrontOfficeRecordType, Recent> records = new EnumMap<>(FrontOfficeRecordType.class);
+    }
+
+    /**
+     * Count of records in one register and the latest few of them, newest first.
+     */
+    private final class Recent {
+
+        private final List<RecordRef> latest = new ArrayList<>();
+        private int count;
+
+        private void put(RecordRef record) {
+            boolean replaced = latest.removeIf(existing -> existing.id().equals(record.id()));
+            if (!replaced) {
+                count++;
+            }
+            latest.add(record);
+            latest.sort(NEWEST_FIRST);
+            if (latest.size() > recentPerType) {
+                latest.remove(latest.size() - 1);
+            }
+        }
+    }
+
+    record ParentInfo(long id, String name, String relationship, String number) {
+    }
+
+    record StudentInfo(long id, String name, String admissionNumber, String classSection) {
+    }
+
+    record RecordRef(
+            FrontOfficeRecordType type,
+            UUID id,
+            UUID academicYearId,
+            String name,
+            String detail,
+            String status,
+            LocalDateTime at) {
+    }
+
+    record ComplaintRef(UUID id, String complainantName, String category, ComplaintStatus status, LocalDate complaintDate) {
+    }
+
+    record Lookup(
+            String number,
+            List<ParentInfo> parents,
+            Map<Long, List<StudentInfo>> children,
+            List<RecordRef> records,
+            Map<FrontOfficeRecordType, Integer> counts,
+            List<ComplaintRef> openComplaints) {
+    }
+}
@@ -0,0 +1,382 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.domain.Parent;
+import com.school.academic.domain.Student;
+import com.school.academic.domain.StudentParent;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupComplaintResponse;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupParentResponse;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupRecordResponse;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupResponse;
+import com.school.academic.frontoffice.dto.lookup.PhoneLookupStudentResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import com.school.academic.frontoffice.entity.HalfDayNotice;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.service.PhoneLookupService;
+import com.school.academic.repository.EnrollmentRepository;
+import com.school.academic.repository.ParentRepository;
+import com.school.academic.repository.StudentParentRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caller and visitor recognition served from an in-memory phone directory.
+ *
+ * At startup the directory is filled with every parent phone and guardian link,
+ * each student's current class, open complaints, and the visitors, phone calls,
+ * admission enquiries and half-day notices of the history window. Create paths
+ * add their record once the transaction commits, and a periodic reload picks up
+ * writes made on other nodes; changes committed while a reload is in flight are
+ * replayed onto the reloaded directory.
+ */
+@Service
+public class PhoneLookupServiceImpl implements PhoneLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(PhoneLookupServiceImpl.class);
+
+    private static final int CLEAR_INTERVAL = 500;
+    private static final Set<String> OPEN_ENQUIRY_STATUSES = Set.of(EnquiryStatus.NEW.name(), EnquiryStatus.FOLLOW_UP.name());
+
+    private final ParentRepository parentRepository;
+    private final StudentParentRepository studentParentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final VisitorRepository visitorRepository;
+    private final PhoneCallRepository phoneCallRepository;
+    private final AdmissionEnquiryRepository admissionEnquiryRepository;
+    private final HalfDayNoticeRepository halfDayNoticeRepository;
+    private final ComplaintRepository complaintRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PhoneNumbers phoneNumbers;
+    private final Duration historyWindow;
+    private final int recentPerType;
+
+    private final Object lock = new Object();
+    private PhoneDirectory directory;
+    private List<Consumer<PhoneDirectory>> pending;
+
+    public PhoneLookupServiceImpl(ParentRepository parentRepository,
+                                  StudentParentRepository studentParentRepository,
+                                  EnrollmentRepository enrollmentRepository,
+                                  VisitorRepository visitorRepository,
+                                  PhoneCallRepository phoneCallRepository,
+                                  AdmissionEnquiryRepository admissionEnquiryRepository,
+                                  HalfDayNoticeRepository halfDayNoticeRepository,
+                                  ComplaintRepository complaintRepository,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${academic.front-office.phone-lookup.default-country-code:91}") String defaultCountryCode,
+                                  @Value("${academic.front-office.phone-lookup.national-number-length:10}") int nationalNumberLength,
+                                  @Value("${academic.front-office.phone-lookup.history-window:P365D}") Duration historyWindow,
+                                  @Value("${academic.front-office.phone-lookup.recent-per-register:5}") int recentPerType) {
+        this.parentRepository = parentRepository;
+        this.studentParentRepository = studentParentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.visitorRepository = visitorRepository;
+        this.phoneCallRepository = phoneCallRepository;
+        this.admissionEnquiryRepository = admissionEnquiryRepository;
+        this.halfDayNoticeRepository = halfDayNoticeRepository;
+        this.complaintRepository = complaintRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.phoneNumbers = new PhoneNumbers(defaultCountryCode, nationalNumberLength);
+        this.historyWindow = historyWindow;
+        this.recentPerType = recentPerType;
+        this.directory = new PhoneDirectory(recentPerType);
+    }
+
+    @Override
+    public PhoneLookupResponse lookup(String number) {
+        String e164 = phoneNumbers.toE164(number);
+        if (e164 == null) {
+            throw new IllegalArgumentException("Not a phone number: " + number);
+        }
+        PhoneDirectory.Lookup lookup;
+        synchronized (lock) {
+            lookup = directory.lookup(e164);
+        }
+
+        PhoneLookupResponse response = new PhoneLookupResponse();
+        response.setNumber(e164);
+        response.setKnown(lookup != null);
+        if (lookup == null) {
+            response.setParents(List.of());
+            response.setOpenComplaints(List.of());
+            response.setRecords(List.of());
+            return response;
+        }
+        response.setParents(lookup.parents().stream()
+                .map(parent -> toParent(parent, lookup.children().get(parent.id())))
+                .collect(Collectors.toList()));
+        response.setOpenComplaints(lookup.openComplaints().stream().map(this::toComplaint).collect(Collectors.toList()));
+        response.setRecords(lookup.records().stream().map(this::toRecord).collect(Collectors.toList()));
+        response.setCounts(lookup.counts());
+        return response;
+    }
+
+    @Override
+    public UUID findDuplicateEnquiry(UUID academicYearId, String phoneNumber) {
+        String e164 = phoneNumbers.toE164(phoneNumber);
+        if (e164 == null) {
+            return null;
+        }
+        synchronized (lock) {
+            return directory.openEnquiry(academicYearId, e164, OPEN_ENQUIRY_STATUSES, null);
+        }
+    }
+
+    @Override
+    public void recordParent(Parent parent) {
+        PhoneDirectory.ParentInfo info = toParentInfo(parent.getId(), parent.getFirstName(), parent.getLastName(),
+                parent.getRelationship(), parent.getPhone());
+        record(target -> target.putParent(info));
+    }
+
+    @Override
+    public void recordGuardianLink(StudentParent link) {
+        Student student = link.getStudent();
+        Long parentId = link.getParent().getId();
+        PhoneDirectory.StudentInfo info = new PhoneDirectory.StudentInfo(student.getId(),
+                fullName(student.getFirstName(), student.getLastName()), student.getAdmissionNumber(), null);
+        record(target -> {
+            target.putStudent(info);
+            target.linkGuardian(parentId, info.id());
+        });
+    }
+
+    @Override
+    public void recordFrontOfficeRecord(FrontOfficeBaseEntity record) {
+        if (record instanceof Complaint complaint) {
+            PhoneDirectory.ComplaintRef ref = toComplaintRef(complaint);
+            record(target -> target.putComplaint(ref));
+            return;
+        }
+        String number = numberOf(record);
+        PhoneDirectory.RecordRef ref = toRecordRef(record);
+        if (number != null && ref != null) {
+            record(target -> target.putRecord(number, ref));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDirectory() {
+        reload();
+    }
+
+    /**
+     * Rebuild the directory from the database.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.phone-lookup.reload-interval:PT30M}",
+            initialDelayString = "${academic.front-office.phone-lookup.reload-interval:PT30M}")
+    public synchronized void reload() {
+        PhoneDirectory fresh = new PhoneDirectory(recentPerType);
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> load(fresh));
+            synchronized (lock) {
+                pending.forEach(change -> change.accept(fresh));
+                directory = fresh;
+            }
+            log.debug("Loaded {} phone numbers into the phone directory", fresh.size());
+        } catch (RuntimeException ex) {
+            // Keep serving the current directory; the next reload retries
+            log.warn("Phone directory reload failed: {}", ex.getMessage());
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+        }
+    }
+
+    private void load(PhoneDirectory target) {
+        for (Object[] row : parentRepository.findPhoneDirectoryRows()) {
+            target.putParent(toParentInfo((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4]));
+        }
+        for (Object[] row : studentParentRepository.findGuardianRows()) {
+            long studentId = (Long) row[1];
+            target.putStudent(new PhoneDirectory.StudentInfo(studentId,
+                    fullName((String) row[2], (String) row[3]), (String) row[4], null));
+            target.linkGuardian((Long) row[0], studentId);
+        }
+        for (Object[] row : enrollmentRepository.findActiveClassRows()) {
+            target.setClassSection((Long) row[0], row[1] + "-" + row[2]);
+        }
+        for (Complaint complaint : complaintRepository.findByComplaintStatusIn(ComplaintAgingBuckets.ACTIVE_STATUSES)) {
+            target.putComplaint(toComplaintRef(complaint));
+        }
+
+        LocalDateTime since = LocalDateTime.now().minus(historyWindow);
+        loadRecords(target, visitorRepository.streamByCreatedAtGreaterThanEqual(since));
+        loadRecords(target, phoneCallRepository.streamByCreatedAtGreaterThanEqual(since));
+        loadRecords(target, admissionEnquiryRepository.streamByCreatedAtGreaterThanEqual(since));
+        loadRecords(target, halfDayNoticeRepository.streamByCreatedAtGreaterThanEqual(since));
+    }
+
+    private void loadRecords(PhoneDirectory target, Stream<? extends FrontOfficeBaseEntity> rows) {
+        try (rows) {
+            int count = 0;
+            Iterator<? extends FrontOfficeBaseEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                FrontOfficeBaseEntity record = iterator.next();
+                String number = numberOf(record);
+                if (number != null) {
+                    target.putRecord(number, toRecordRef(record));
+                }
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private void record(Consumer<PhoneDirectory> change) {
+        Runnable apply = () -> {
+            synchronized (lock) {
+                change.accept(directory);
+                if (pending != null) {
+                    pending.add(change);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private String numberOf(FrontOfficeBaseEntity record) {
+        if (record instanceof Visitor visitor) {
+            return phoneNumbers.toE164(visitor.getPhoneNumber());
+        }
+        if (record instanceof PhoneCall phoneCall) {
+            return phoneNumbers.toE164(phoneCall.getPhoneNumber());
+        }
+        if (record instanceof AdmissionEnquiry enquiry) {
+            return phoneNumbers.toE164(enquiry.getPhoneNumber());
+        }
+        if (record instanceof HalfDayNotice notice) {
+            return phoneNumbers.toE164(notice.getGuardianPhone());
+        }
+        return null;
+    }
+
+    private PhoneDirectory.RecordRef toRecordRef(FrontOfficeBaseEntity record) {
+        String status = record.getStatus() != null ? record.getStatus().name() : null;
+        if (record instanceof Visitor visitor) {
+            return new PhoneDirectory.RecordRef(FrontOfficeRecordType.VISITOR, visitor.getId(), visitor.getAcademicYearId(),
+                    visitor.getVisitorName(), visitor.getPurpose(), status, visitor.getCreatedAt());
+        }
+        if (record instanceof PhoneCall phoneCall) {
+            return new PhoneDirectory.RecordRef(FrontOfficeRecordType.PHONE_CALL, phoneCall.getId(), phoneCall.getAcademicYearId(),
+                    phoneCall.getCallerName(), phoneCall.getDescription(), status, phoneCall.getCreatedAt());
+        }
+        if (record instanceof AdmissionEnquiry enquiry) {
+            return new PhoneDirectory.RecordRef(FrontOfficeRecordType.ADMISSION_ENQUIRY, enquiry.getId(), enquiry.getAcademicYearId(),
+                    enquiry.getEnquirerName(), enquiry.getDescription(), enquiry.getEnquiryStatus().name(), enquiry.getCreatedAt());
+        }
+        if (record instanceof HalfDayNotice notice) {
+            String detail = notice.getStudentName() != null
+                    ? notice.getStudentName() + " (" + notice.getClassName() + "-" + notice.getSectionName() + ")"
+                    : notice.getReason();
+            return new PhoneDirectory.RecordRef(FrontOfficeRecordType.HALF_DAY_NOTICE, notice.getId(), notice.getAcademicYearId(),
+                    notice.getGuardianName(), detail, status, notice.getCreatedAt());
+        }
+        return null;
+    }
+
+    private PhoneDirectory.ComplaintRef toComplaintRef(Complaint complaint) {
+        return new PhoneDirectory.ComplaintRef(complaint.getId(), complaint.getComplainantName(), complaint.getCategory(),
+                complaint.getComplaintStatus(), complaint.getComplaintDate());
+    }
+
+    private PhoneDirectory.ParentInfo toParentInfo(Long id, String firstName, String lastName, String relationship, String phone) {
+        return new PhoneDirectory.ParentInfo(id, fullName(firstName, lastName), relationship, phoneNumbers.toE164(phone));
+    }
+
+    private PhoneLookupParentResponse toParent(PhoneDirectory.ParentInfo parent, List<PhoneDirectory.StudentInfo> students) {
+        PhoneLookupParentResponse response = new PhoneLookupParentResponse();
+        response.setId(longToUuid(parent.id()));
+        response.setName(parent.name());
+        response.setRelationship(parent.relationship());
+        response.setStudents(students.stream().map(this::toStudent).collect(Collectors.toList()));
+        return response;
+    }
+
+    private PhoneLookupStudentResponse toStudent(PhoneDirectory.StudentInfo student) {
+        PhoneLookupStudentResponse response = new PhoneLookupStudentResponse();
+        response.setId(longToUuid(student.id()));
+        response.setName(student.name());
+        response.setAdmissionNumber(student.admissionNumber());
+        response.setClassSection(student.classSection());
+        return response;
+    }
+
+    private PhoneLookupRecordResponse toRecord(PhoneDirectory.RecordRef record) {
+        PhoneLookupRecordResponse response = new PhoneLookupRecordResponse();
+        response.setType(record.type());
+        response.setId(record.id());
+        response.setName(record.name());
+        response.setDetail(record.detail());
+        response.setStatus(record.status());
+        response.setCreatedAt(record.at());
+        return response;
+    }
+
+    private PhoneLookupComplaintResponse toComplaint(PhoneDirectory.ComplaintRef complaint) {
+        PhoneLookupComplaintResponse response = new PhoneLookupComplaintResponse();
+        response.setId(complaint.id());
+        response.setComplainantName(complaint.complainantName());
+        response.setCategory(complaint.category());
+        response.setStatus(complaint.status());
+        response.setComplaintDate(complaint.complaintDate());
+        return response;
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        return lastName != null && !lastName.isBlank() ? firstName + " " + lastName : firstName;
+    }
+
+    // Same Long -> UUID encoding as the parent and student APIs
+    private static UUID longToUuid(long id) {
+        return new UUID(0L, id);
+    }
+}
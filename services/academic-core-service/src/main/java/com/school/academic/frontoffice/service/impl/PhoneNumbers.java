@@ -0,0 +1,59 @@
+package com.school.academic.frontoffice.service.impl;
+
+/**
+ * Normalizes the free-form phone numbers typed into the registers to E.164.
+ *
+ * Numbers are reduced to digits and completed with the school's country code
+ * when they are written in national form: the bare national number, the number
+ * behind a trunk prefix {@code 0}, or the country code without {@code +}.
+ * {@code 00} is read as the international prefix. This covers the formats the
+ * desk actually records; it does not validate number ranges per country.
+ */
+final class PhoneNumbers {
+
+    private static final int MIN_E164_DIGITS = 8;
+    private static final int MAX_E164_DIGITS = 15;
+
+    private final String countryCode;
+    private final int nationalLength;
+
+    PhoneNumbers(String countryCode, int nationalLength) {
+        this.countryCode = countryCode;
+        this.nationalLength = nationalLength;
+    }
+
+    /**
+     * E.164 form ({@code +<digits>}) of {@code raw}, or null if it cannot be a phone number.
+     */
+    String toE164(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.strip();
+        String digits = trimmed.replaceAll("\\D", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+
+        String international;
+        if (trimmed.startsWith("+")) {
+            international = digits;
+        } else if (digits.startsWith("00")) {
+            international = digits.substring(2);
+        } else if (digits.length() == nationalLength) {
+            international = countryCode + digits;
+        } else if (digits.length() == nationalLength + 1 && digits.startsWith("0")) {
+            international = countryCode + digits.substring(1);
+        } else if (digits.length() == countryCode.length() + nationalLength && digits.startsWith(countryCode)) {
+            international = digits;
+        } else {
+            return null;
+        }
+
+        if (international.length() < MIN_E164_DIGITS || international.length() > MAX_E164_DIGITS
+                || international.startsWith("0")) {
+            return null;
+        }
+        return "+" + international;
+    }
+}
@@ -1,21 +1,22 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.postal.*;
 import com.school.academic.frontoffice.entity.PostalRecord;
 import com.school.academic.frontoffice.enums.PostalDirection;
 import com.school.academic.frontoffice.enums.PostalType;
 import com.school.academic.frontoffice.mapper.PostalRecordMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.PostalRecordRepository;
 import com.school.academic.frontoffice.service.PostalRecordService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,10 +29,13 @@ public class PostalRecordServiceImpl implements PostalRecordService {
 
     private final PostalRecordRepository postalRecordRepository;
     private final PostalRecordMapper postalRecordMapper;
+    private final FrontOfficePager frontOfficePager;
 
-    public PostalRecordServiceImpl(PostalRecordRepository postalRecordRepository, PostalRecordMapper postalRecordMapper) {
+    public PostalRecordServiceImpl(PostalRecordRepository postalRecordRepository, PostalRecordMapper postalRecordMapper,
+                                   FrontOfficePager frontOfficePager) {
         this.postalRecordRepository = postalRecordRepository;
         this.postalRecordMapper = postalRecordMapper;
+        this.frontOfficePager = frontOfficePager;
     }
 
     @Override
@@ -43,17 +47,21 @@ public class PostalRecordServiceImpl implements PostalRecordService {
             LocalDate fromDate,
             LocalDate toDate,
             String search,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
 
-        Page<PostalRecord> page = postalRecordRepository.findAllWithFilters(
-                academicYearId, direction, postalType, fromDate, toDate, search, pageable);
+        FrontOfficeSlice<PostalRecord> slice = frontOfficePager.list(PostalRecord.class, postalRecordRepository,
+                postalRecordRepository.withFilters(academicYearId, direction, postalType, fromDate, toDate, search),
+                Arrays.asList(academicYearId, direction, postalType, fromDate, toDate, search),
+                pageable, cursor, includeTotal);
 
         return new PostalRecordPageResponse(
-                page.getContent().stream().map(postalRecordMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(postalRecordMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -75,7 +83,6 @@ public class PostalRecordServiceImpl implements PostalRecordService {
         }
 
         PostalRecord record = postalRecordMapper.toEntity(request, academicYearId);
-        // TODO: Set createdBy from security context
         PostalRecord saved = postalRecordRepository.save(record);
         return postalRecordMapper.toResponse(saved);
     }
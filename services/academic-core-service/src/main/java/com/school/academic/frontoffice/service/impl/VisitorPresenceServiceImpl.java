@@ -0,0 +1,353 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.visitor.VisitorLiveEvent;
+import com.school.academic.frontoffice.dto.visitor.VisitorResponse;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+import com.school.academic.frontoffice.mapper.VisitorMapper;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.service.VisitorPresenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory set of open visits with a Server-Sent Events fan-out.
+ *
+ * The set is seeded at startup with visits that have no checkout and started
+ * within the open-visit window, and is kept current by the visitor service after
+ * each commit. All changes run on one broadcaster thread, so every subscriber sees
+ * events in the same order as the set changed and a write request never waits
+ * for a desk.
+ *
+ * The broadcaster only queues events. Each subscriber has its own outbox, drained
+ * by a small sender pool one subscriber at a time, so a slow desk delays only its
+ * own events. A desk that falls more than {@code live-max-pending} events behind
+ * is disconnected; its EventSource reconnects and starts again from a snapshot.
+ *
+ * A periodic reseed picks up visits recorded on other nodes and drops visits
+ * older than the window; the difference is pushed as ordinary events.
+ */
+@Service
+public class VisitorPresenceServiceImpl implements VisitorPresenceService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VisitorPresenceServiceImpl.class);
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_CHECK_IN = "check-in";
+    private static final String EVENT_CHECK_OUT = "check-out";
+
+    private static final Comparator<VisitorResponse> BY_CHECK_IN = Comparator.comparing(VisitorResponse::getCheckInTime);
+
+    private final VisitorRepository visitorRepository;
+    private final VisitorMapper visitorMapper;
+    private final Duration openVisitWindow;
+    private final long liveTimeoutMillis;
+    private final int maxPending;
+
+    private final Map<UUID, OpenVisit> openVisits = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong localChanges = new AtomicLong();
+    private final ExecutorService broadcaster = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "visitor-live");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService sender;
+
+    public VisitorPresenceServiceImpl(VisitorRepository visitorRepository,
+                                      VisitorMapper visitorMapper,
+                                      @Value("${academic.front-office.visitors.open-visit-window:PT24H}") Duration openVisitWindow,
+                                      @Value("${academic.front-office.visitors.live-timeout:PT30M}") Duration liveTimeout,
+                                      @Value("${academic.front-office.visitors.live-send-threads:4}") int sendThreads,
+                                      @Value("${academic.front-office.visitors.live-max-pending:256}") int maxPending) {
+        this.visitorRepository = visitorRepository;
+        this.visitorMapper = visitorMapper;
+        this.openVisitWindow = openVisitWindow;
+        this.liveTimeoutMillis = liveTimeout.toMillis();
+        this.maxPending = maxPending;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "visitor-live-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID academicYearId) {
+        return subscribe(academicYearId, new SseEmitter(liveTimeoutMillis));
+    }
+
+    SseEmitter subscribe(UUID academicYearId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(academicYearId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> remove(subscriber));
+
+        // Joined on the broadcaster thread so the snapshot precedes every event it receives
+        broadcaster.execute(() -> {
+            if (subscriber.isOpen()) {
+                subscribers.add(subscriber);
+                send(subscriber, EVENT_SNAPSHOT,
+                        new VisitorLiveEvent(countOnCampus(academicYearId), openVisitsIn(academicYearId)));
+            }
+        });
+        return emitter;
+    }
+
+    @Override
+    public void recordCheckIn(Visitor visitor) {
+        if (visitor.getCheckOutTime() != null) {
+            return;
+        }
+        OpenVisit visit = new OpenVisit(visitor.getAcademicYearId(), visitorMapper.toResponse(visitor));
+        afterCommit(() -> {
+            localChanges.incrementAndGet();
+            broadcaster.execute(() -> checkIn(visitor.getId(), visit));
+        });
+    }
+
+    @Override
+    public void recordCheckOut(Visitor visitor) {
+        OpenVisit visit = new OpenVisit(visitor.getAcademicYearId(), visitorMapper.toResponse(visitor));
+        afterCommit(() -> {
+            localChanges.incrementAndGet();
+            broadcaster.execute(() -> checkOut(visitor.getId(), visit));
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOpenVisits() {
+        reseed();
+    }
+
+    /**
+     * Re-read open visits and push the difference. Skipped if a local change
+     * committed while the query ran; the next run catches up.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.visitors.reseed-interval:PT5M}",
+            initialDelayString = "${academic.front-office.visitors.reseed-interval:PT5M}")
+    public void reseed() {
+        long changesBefore = localChanges.get();
+        Map<UUID, OpenVisit> loaded = new HashMap<>();
+        try {
+            for (Visitor visitor : visitorRepository.findByCheckOutTimeIsNullAndStatusAndCheckInTimeGreaterThanEqual(
+                    FrontOfficeStatus.ACTIVE, LocalDateTime.now().minus(openVisitWindow))) {
+                loaded.put(visitor.getId(), new OpenVisit(visitor.getAcademicYearId(), visitorMapper.toResponse(visitor)));
+            }
+        } catch (RuntimeException ex) {
+            // Keep serving the current set; the next run retries
+            log.warn("Open visit reseed failed: {}", ex.getMessage());
+            return;
+        }
+
+        broadcaster.execute(() -> {
+            if (localChanges.get() != changesBefore) {
+                log.debug("Open visit reseed skipped; local changes committed during the query");
+                return;
+            }
+            for (Map.Entry<UUID, OpenVisit> entry : Map.copyOf(openVisits).entrySet()) {
+                if (!loaded.containsKey(entry.getKey())) {
+                    checkOut(entry.getKey(), entry.getValue());
+                }
+            }
+            loaded.forEach((id, visit) -> {
+                if (!openVisits.containsKey(id)) {
+                    checkIn(id, visit);
+                }
+            });
+        });
+    }
+
+    /**
+     * Keep idle streams alive through proxies and detect disconnected desks.
+     */
+    @Scheduled(fixedDelayString = "${academic.front-office.visitors.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        broadcaster.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(SseEmitter.event().comment("keep-alive"));
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        broadcaster.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    private void checkIn(UUID id, OpenVisit visit) {
+        openVisits.put(id, visit);
+        broadcast(visit, EVENT_CHECK_IN);
+    }
+
+    private void checkOut(UUID id, OpenVisit visit) {
+        if (openVisits.remove(id) != null) {
+            broadcast(visit, EVENT_CHECK_OUT);
+        }
+    }
+
+    private void broadcast(OpenVisit visit, String eventName) {
+        VisitorLiveEvent event = new VisitorLiveEvent(countOnCampus(visit.academicYearId()), List.of(visit.visitor()));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.academicYearId().equals(visit.academicYearId())) {
+                send(subscriber, eventName, event);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, String eventName, VisitorLiveEvent event) {
+        subscriber.enqueue(SseEmitter.event().name(eventName).data(event));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    private void drop(Subscriber subscriber, Exception ex) {
+        if (subscriber.close()) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(ex);
+            log.debug("Dropped visitor live subscriber: {}", ex.getMessage());
+        }
+    }
+
+    private long countOnCampus(UUID academicYearId) {
+        return openVisits.values().stream()
+                .filter(visit -> visit.academicYearId().equals(academicYearId))
+                .count();
+    }
+
+    private List<VisitorResponse> openVisitsIn(UUID academicYearId) {
+        return openVisits.values().stream()
+                .filter(visit -> visit.academicYearId().equals(academicYearId))
+                .map(OpenVisit::visitor)
+                .sorted(BY_CHECK_IN)
+                .collect(Collectors.toList());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record OpenVisit(UUID academicYearId, VisitorResponse visitor) {
+    }
+
+    /**
+     * One open stream and the events queued for it. At most one sender thread drains
+     * an outbox at a time, so a subscriber's events are sent in the order queued.
+     */
+    private final class Subscriber {
+
+        private final UUID academicYearId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(UUID academicYearId, SseEmitter emitter) {
+            this.academicYearId = academicYearId;
+            this.emitter = emitter;
+        }
+
+        UUID academicYearId() {
+            return academicYearId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.incrementAndGet() > maxPending) {
+                drop(this, new IOException("Subscriber fell more than " + maxPending + " events behind"));
+                return;
+            }
+            outbox.add(event);
+            scheduleDrain();
+        }
+
+        boolean isOpen() {
+            return !closed.get();
+        }
+
+        boolean close() {
+            return closed.compareAndSet(false, true);
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    // Shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = outbox.poll()) != null) {
+                    pending.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                drop(this, ex);
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before draining was cleared
+            if (!closed.get() && !outbox.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package com.school.academic.frontoffice.service.impl;
 
-import com.school.academic.frontoffice.dto.PageMetadata;
 import com.school.academic.frontoffice.dto.visitor.*;
 import com.school.academic.frontoffice.entity.Visitor;
 import com.school.academic.frontoffice.enums.FrontOfficeStatus;
 import com.school.academic.frontoffice.mapper.VisitorMapper;
+import com.school.academic.frontoffice.repository.FrontOfficePager;
+import com.school.academic.frontoffice.repository.FrontOfficeSlice;
 import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.frontoffice.service.FrontOfficeDashboardService;
+import com.school.academic.frontoffice.service.PhoneLookupService;
+import com.school.academic.frontoffice.service.VisitorPresenceService;
 import com.school.academic.frontoffice.service.VisitorService;
 import com.school.academic.exception.BusinessRuleException;
 import com.school.academic.exception.InvalidStateTransitionException;
 import com.school.academic.exception.ResourceNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,10 +33,22 @@ public class VisitorServiceImpl implements VisitorService {
 
     private final VisitorRepository visitorRepository;
     private final VisitorMapper visitorMapper;
-
-    public VisitorServiceImpl(VisitorRepository visitorRepository, VisitorMapper visitorMapper) {
+    private final FrontOfficePager frontOfficePager;
+    private final FrontOfficeDashboardService frontOfficeDashboardService;
+    private final VisitorPresenceService visitorPresenceService;
+    private final PhoneLookupService phoneLookupService;
+
+    public VisitorServiceImpl(VisitorRepository visitorRepository, VisitorMapper visitorMapper,
+                              FrontOfficePager frontOfficePager,
+                              FrontOfficeDashboardService frontOfficeDashboardService,
+                              VisitorPresenceService visitorPresenceService,
+                              PhoneLookupService phoneLookupService) {
         this.visitorRepository = visitorRepository;
         this.visitorMapper = visitorMapper;
+        this.frontOfficePager = frontOfficePager;
+        this.frontOfficeDashboardService = frontOfficeDashboardService;
+        this.visitorPresenceService = visitorPresenceService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -44,17 +60,21 @@ public class VisitorServiceImpl implements VisitorService {
             LocalDate toDate,
             String search,
             Boolean checkedOut,
-            Pageable pageable) {
+            Pageable pageable,
+            String cursor,
+            boolean includeTotal) {
 
         // Validate date range
         validateDateRange(fromDate, toDate);
 
-        Page<Visitor> page = visitorRepository.findAllWithFilters(
-                academicYearId, purpose, fromDate, toDate, search, checkedOut, pageable);
+        FrontOfficeSlice<Visitor> slice = frontOfficePager.list(Visitor.class, visitorRepository,
+                visitorRepository.withFilters(academicYearId, purpose, fromDate, toDate, search, checkedOut),
+                Arrays.asList(academicYearId, purpose, fromDate, toDate, search, checkedOut),
+                pageable, cursor, includeTotal);
 
         return new VisitorPageResponse(
-                page.getContent().stream().map(visitorMapper::toResponse).collect(Collectors.toList()),
-                PageMetadata.of(page)
+                slice.getContent().stream().map(visitorMapper::toResponse).collect(Collectors.toList()),
+                slice.getPage()
         );
     }
 
@@ -73,8 +93,10 @@ public class VisitorServiceImpl implements VisitorService {
         }
 
         Visitor visitor = visitorMapper.toEntity(request, academicYearId);
-        // TODO: Set createdBy from security context
         Visitor saved = visitorRepository.save(visitor);
+        frontOfficeDashboardService.recordVisitorCheckIn(academicYearId, saved.getCheckInTime());
+        visitorPresenceService.recordCheckIn(saved);
+        phoneLookupService.recordFrontOfficeRecord(saved);
         return visitorMapper.toResponse(saved);
     }
 
@@ -127,9 +149,10 @@ public class VisitorServiceImpl implements VisitorService {
         if (request.getRemarks() != null) {
             visitor.setRemarks(request.getRemarks());
         }
-        // TODO: Set updatedBy from security context
 
         Visitor saved = visitorRepository.save(visitor);
+        frontOfficeDashboardService.recordVisitorCheckOut(saved.getAcademicYearId(), saved.getCheckInTime());
+        visitorPresenceService.recordCheckOut(saved);
         return visitorMapper.toResponse(saved);
     }
 
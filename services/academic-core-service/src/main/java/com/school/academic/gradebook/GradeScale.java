@@ -0,0 +1,59 @@
+package com.school.academic.gradebook;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Grade bands by minimum percentage, highest first, e.g. {@code A1:91,A2:81,...,E:0}.
+ */
+public final class GradeScale {
+
+    private final List<Band> bands;
+
+    private GradeScale(List<Band> bands) {
+        this.bands = bands;
+    }
+
+    /**
+     * Parse {@code grade:minimumPercentage} pairs separated by commas.
+     *
+     * @throws IllegalArgumentException when a band is malformed or no band starts at 0
+     */
+    public static GradeScale parse(String spec) {
+        List<Band> bands = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2 || pair[0].isBlank()) {
+                throw new IllegalArgumentException("Grade band '" + part.trim() + "' must be grade:minimumPercentage");
+            }
+            double minimum;
+            try {
+                minimum = Double.parseDouble(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Grade band '" + part.trim() + "' has no valid minimum percentage");
+            }
+            if (minimum < 0 || minimum > 100) {
+                throw new IllegalArgumentException("Grade band '" + part.trim() + "' must start between 0 and 100");
+            }
+            bands.add(new Band(pair[0].trim(), minimum));
+        }
+        bands.sort(Comparator.comparingDouble(Band::minimum).reversed());
+        if (bands.get(bands.size() - 1).minimum() > 0) {
+            throw new IllegalArgumentException("Grade scale needs a band starting at 0");
+        }
+        return new GradeScale(List.copyOf(bands));
+    }
+
+    public String gradeOf(double percentage) {
+        for (Band band : bands) {
+            if (percentage >= band.minimum()) {
+                return band.grade();
+            }
+        }
+        return bands.get(bands.size() - 1).grade();
+    }
+
+    private record Band(String grade, double minimum) {
+    }
+}
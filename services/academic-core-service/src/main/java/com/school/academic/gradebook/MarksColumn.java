@@ -0,0 +1,156 @@
+package com.school.academic.gradebook;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * One subject's marks for a whole class section in one exam, as a primitive array
+ * indexed by roll number. Marks are kept in tenths so half marks survive, and the
+ * column is stored as little-endian shorts, two bytes per roll number, so a
+ * section's marks for a subject are one row however many students it has.
+ */
+public final class MarksColumn {
+
+    /**
+     * Highest roll number a column holds; the column stores up to 2048 bytes.
+     */
+    public static final int MAX_ROLL_NUMBER = 1023;
+
+    /**
+     * Highest maximum marks an exam subject may have, so tenths fit in a short.
+     */
+    public static final int MAX_MARKS = 1000;
+
+    static final short NOT_ENTERED = Short.MIN_VALUE;
+    static final short ABSENT = -1;
+
+    private final short[] tenths;
+
+    private MarksColumn(short[] tenths) {
+        this.tenths = tenths;
+    }
+
+    /**
+     * An empty column with room for the given highest roll number.
+     */
+    public static MarksColumn empty(int highestRollNumber) {
+        checkRollNumber(highestRollNumber);
+        short[] tenths = new short[highestRollNumber + 1];
+        Arrays.fill(tenths, NOT_ENTERED);
+        return new MarksColumn(tenths);
+    }
+
+    /**
+     * Rebuild a column from its stored bytes.
+     */
+    public static MarksColumn fromBytes(byte[] bytes) {
+        short[] tenths = new short[bytes.length / Short.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(tenths);
+        return new MarksColumn(tenths);
+    }
+
+    /**
+     * Record marks for a roll number.
+     *
+     * @throws IllegalArgumentException when the roll number is out of range, or the marks
+     *                                  are negative or have more than one decimal place
+     */
+    public void set(int rollNumber, BigDecimal marks) {
+        checkRollNumber(rollNumber);
+        if (marks.signum() < 0) {
+            throw new IllegalArgumentException("Marks for roll number " + rollNumber + " cannot be negative");
+        }
+        int value;
+        try {
+            value = marks.movePointRight(1).setScale(0, RoundingMode.UNNECESSARY).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Marks for roll number " + rollNumber + " must have at most one decimal place");
+        }
+        if (value > MAX_MARKS * 10) {
+            throw new IllegalArgumentException("Marks for roll number " + rollNumber + " cannot exceed " + MAX_MARKS);
+        }
+        tenths[rollNumber] = (short) value;
+    }
+
+    /**
+     * Record a roll number as absent for the exam.
+     */
+    public void setAbsent(int rollNumber) {
+        checkRollNumber(rollNumber);
+        tenths[rollNumber] = ABSENT;
+    }
+
+    public boolean isEntered(int rollNumber) {
+        return rollNumber >= 0 && rollNumber < tenths.length && tenths[rollNumber] != NOT_ENTERED;
+    }
+
+    public boolean isAbsent(int rollNumber) {
+        return rollNumber >= 0 && rollNumber < tenths.length && tenths[rollNumber] == ABSENT;
+    }
+
+    /**
+     * Marks in tenths, or 0 for an absent or missing roll number.
+     */
+    public int tenthsOf(int rollNumber) {
+        if (rollNumber < 0 || rollNumber >= tenths.length) {
+            return 0;
+        }
+        return Math.max(tenths[rollNumber], 0);
+    }
+
+    /**
+     * Marks of a roll number, or null when absent or not entered.
+     */
+    public BigDecimal marksOf(int rollNumber) {
+        if (!isEntered(rollNumber) || isAbsent(rollNumber)) {
+            return null;
+        }
+        return BigDecimal.valueOf(tenths[rollNumber], 1);
+    }
+
+    /**
+     * Highest marks in the column, in tenths.
+     */
+    public int maxTenths() {
+        int max = 0;
+        for (short value : tenths) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Number of roll numbers with marks or an absence recorded.
+     */
+    public int enteredCount() {
+        int count = 0;
+        for (short value : tenths) {
+            if (value != NOT_ENTERED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The stored form: two little-endian bytes per roll number up to the last one entered.
+     */
+    public byte[] toBytes() {
+        int length = tenths.length;
+        while (length > 0 && tenths[length - 1] == NOT_ENTERED) {
+            length--;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asShortBuffer().put(tenths, 0, length);
+        return buffer.array();
+    }
+
+    private static void checkRollNumber(int rollNumber) {
+        if (rollNumber < 0 || rollNumber > MAX_ROLL_NUMBER) {
+            throw new IllegalArgumentException("Roll number " + rollNumber + " is outside 0.." + MAX_ROLL_NUMBER);
+        }
+    }
+}
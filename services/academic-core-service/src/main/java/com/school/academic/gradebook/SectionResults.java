@@ -0,0 +1,136 @@
+package com.school.academic.gradebook;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exam results of one class section, computed column by column: each subject's
+ * marks array is added into a totals array, then totals are ranked once. Students
+ * are addressed by their position in the roll numbers the results were computed for.
+ *
+ * Ranks are competition ranks (two students tied first are both 1, the next is 3).
+ * A student's percentile is the share of the rest of the section with a lower total,
+ * so the top student is at 100 and the bottom at 0.
+ */
+public final class SectionResults {
+
+    private final int[] rollNumbers;
+    private final int maxTotalTenths;
+    private final int[] totalTenths;
+    private final double[] percentages;
+    private final String[] grades;
+    private final int[] ranks;
+    private final double[] percentiles;
+
+    private SectionResults(int[] rollNumbers, int maxTotalTenths, int[] totalTenths, double[] percentages,
+                           String[] grades, int[] ranks, double[] percentiles) {
+        this.rollNumbers = rollNumbers;
+        this.maxTotalTenths = maxTotalTenths;
+        this.totalTenths = totalTenths;
+        this.percentages = percentages;
+        this.grades = grades;
+        this.ranks = ranks;
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Compute a section's results. Absent or missing marks count as zero.
+     */
+    public static SectionResults compute(int[] rollNumbers, List<SubjectMarks> subjects, GradeScale scale) {
+        int students = rollNumbers.length;
+        int[] totals = new int[students];
+        int maxTotal = 0;
+        for (SubjectMarks subject : subjects) {
+            maxTotal += subject.maxMarks() * 10;
+            MarksColumn column = subject.column();
+            for (int i = 0; i < students; i++) {
+                totals[i] += column.tenthsOf(rollNumbers[i]);
+            }
+        }
+
+        double[] percentages = new double[students];
+        String[] grades = new String[students];
+        for (int i = 0; i < students; i++) {
+            percentages[i] = maxTotal == 0 ? 0.0 : round(totals[i] * 100.0 / maxTotal, 2);
+            grades[i] = scale.gradeOf(percentages[i]);
+        }
+
+        // Sort totals once; a student's rank and percentile follow from how many scored higher or lower
+        int[] sorted = totals.clone();
+        Arrays.sort(sorted);
+        int[] ranks = new int[students];
+        double[] percentiles = new double[students];
+        for (int i = 0; i < students; i++) {
+            int below = lowerBound(sorted, totals[i]);
+            int notAbove = lowerBound(sorted, totals[i] + 1);
+            ranks[i] = students - notAbove + 1;
+            percentiles[i] = students == 1 ? 100.0 : round(below * 100.0 / (students - 1), 1);
+        }
+        return new SectionResults(rollNumbers, maxTotal, totals, percentages, grades, ranks, percentiles);
+    }
+
+    public int size() {
+        return rollNumbers.length;
+    }
+
+    public int rollNumber(int student) {
+        return rollNumbers[student];
+    }
+
+    public int maxTotalTenths() {
+        return maxTotalTenths;
+    }
+
+    public int totalTenths(int student) {
+        return totalTenths[student];
+    }
+
+    public double percentage(int student) {
+        return percentages[student];
+    }
+
+    public String grade(int student) {
+        return grades[student];
+    }
+
+    public int rank(int student) {
+        return ranks[student];
+    }
+
+    public double percentile(int student) {
+        return percentiles[student];
+    }
+
+    public int highestTotalTenths() {
+        return Arrays.stream(totalTenths).max().orElse(0);
+    }
+
+    public double averagePercentage() {
+        return round(Arrays.stream(percentages).average().orElse(0.0), 2);
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double round(double value, int places) {
+        double scale = Math.pow(10, places);
+        return Math.round(value * scale) / scale;
+    }
+
+    /**
+     * One subject's column with the maximum marks it is out of.
+     */
+    public record SubjectMarks(int maxMarks, MarksColumn column) {
+    }
+}
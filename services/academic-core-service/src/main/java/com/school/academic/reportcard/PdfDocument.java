@@ -0,0 +1,161 @@
+package com.school.academic.reportcard;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * Minimal PDF 1.4 writer for printed reports: A4 pages with text in the standard
+ * Helvetica and Helvetica-Bold fonts (WinAnsi encoding) and ruled lines. The
+ * standard fonts need no embedding, so a page is a few hundred bytes of
+ * Flate-compressed drawing operators. Characters the fonts cannot show print as '?'.
+ * Coordinates are points from the bottom-left corner of the page.
+ */
+public final class PdfDocument {
+
+    public static final float PAGE_WIDTH = 595f;
+    public static final float PAGE_HEIGHT = 842f;
+
+    private final List<byte[]> pages = new ArrayList<>();
+    private StringBuilder content;
+
+    /**
+     * Start a new page; drawing goes to it from now on.
+     */
+    public void newPage() {
+        finishPage();
+        content = new StringBuilder(2048);
+    }
+
+    public void text(float x, float y, float size, boolean bold, String text) {
+        page().append("BT /").append(bold ? "F2 " : "F1 ").append(number(size)).append(" Tf ")
+                .append(number(x)).append(' ').append(number(y)).append(" Td (");
+        escape(text, content);
+        content.append(") Tj ET\n");
+    }
+
+    public void line(float x1, float y1, float x2, float y2) {
+        page().append("0.5 w ").append(number(x1)).append(' ').append(number(y1)).append(" m ")
+                .append(number(x2)).append(' ').append(number(y2)).append(" l S\n");
+    }
+
+    public int pageCount() {
+        return pages.size() + (content != null ? 1 : 0);
+    }
+
+    /**
+     * The finished document. The document is complete after this and cannot be drawn on.
+     */
+    public byte[] toBytes() {
+        finishPage();
+        Out out = new Out();
+        out.latin1("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n");
+
+        int objects = 4 + pages.size() * 2;
+        long[] offsets = new long[objects + 1];
+        offsets[1] = out.object(1, "<< /Type /Catalog /Pages 2 0 R >>");
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < pages.size(); i++) {
+            kids.append(5 + i * 2).append(" 0 R ");
+        }
+        offsets[2] = out.object(2, "<< /Type /Pages /Kids [" + kids.toString().trim() + "] /Count " + pages.size() + " >>");
+        offsets[3] = out.object(3, font("Helvetica"));
+        offsets[4] = out.object(4, font("Helvetica-Bold"));
+        for (int i = 0; i < pages.size(); i++) {
+            int pageObject = 5 + i * 2;
+            offsets[pageObject] = out.object(pageObject, "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 "
+                    + number(PAGE_WIDTH) + " " + number(PAGE_HEIGHT) + "] "
+                    + "/Resources << /Font << /F1 3 0 R /F2 4 0 R >> >> /Contents " + (pageObject + 1) + " 0 R >>");
+            byte[] stream = pages.get(i);
+            offsets[pageObject + 1] = out.size();
+            out.latin1((pageObject + 1) + " 0 obj\n<< /Length " + stream.length + " /Filter /FlateDecode >>\nstream\n");
+            out.write(stream, 0, stream.length);
+            out.latin1("\nendstream\nendobj\n");
+        }
+
+        long xref = out.size();
+        StringBuilder table = new StringBuilder("xref\n0 ").append(objects + 1).append("\n0000000000 65535 f \n");
+        for (int i = 1; i <= objects; i++) {
+            table.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets[i]));
+        }
+        table.append("trailer\n<< /Size ").append(objects + 1).append(" /Root 1 0 R >>\nstartxref\n")
+                .append(xref).append("\n%%EOF\n");
+        out.latin1(table.toString());
+        return out.toByteArray();
+    }
+
+    private StringBuilder page() {
+        if (content == null) {
+            newPage();
+        }
+        return content;
+    }
+
+    private void finishPage() {
+        if (content == null) {
+            return;
+        }
+        byte[] raw = content.toString().getBytes(StandardCharsets.ISO_8859_1);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        pages.add(compressed.toByteArray());
+        content = null;
+    }
+
+    private static String font(String baseFont) {
+        return "<< /Type /Font /Subtype /Type1 /BaseFont /" + baseFont + " /Encoding /WinAnsiEncoding >>";
+    }
+
+    private static void escape(String text, StringBuilder out) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' || c == '(' || c == ')') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(' ');
+            } else if (c > 0xFF || (c >= 0x7F && c < 0xA0)) {
+                out.append('?');
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static String number(float value) {
+        if (value == Math.rint(value)) {
+            return Integer.toString((int) value);
+        }
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static final class Out extends ByteArrayOutputStream {
+
+        Out() {
+            super(8192);
+        }
+
+        void latin1(String text) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            write(bytes, 0, bytes.length);
+        }
+
+        long object(int number, String body) {
+            long offset = size();
+            latin1(number + " 0 obj\n" + body + "\nendobj\n");
+            return offset;
+        }
+    }
+}
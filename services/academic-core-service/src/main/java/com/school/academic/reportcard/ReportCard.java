@@ -0,0 +1,56 @@
+package com.school.academic.reportcard;
+
+import com.school.academic.attendance.AttendanceTally;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Everything printed on one student's report card, detached from the persistence
+ * context so cards can be rendered on any thread.
+ */
+public record ReportCard(String academicYear,
+                         String classSection,
+                         String studentName,
+                         String admissionNumber,
+                         Integer rollNumber,
+                         LocalDate dateOfBirth,
+                         List<Guardian> guardians,
+                         AttendanceTally attendance,
+                         List<ExamResult> exams) {
+
+    /**
+     * Path of the card inside a batch: {@code <class section>/<roll number>-<admission number>.pdf}.
+     */
+    public String fileName() {
+        String roll = rollNumber != null ? String.format(Locale.ROOT, "%03d", rollNumber) : "000";
+        return safe(classSection) + "/" + roll + "-" + safe(admissionNumber) + ".pdf";
+    }
+
+    private static String safe(String value) {
+        String safe = value.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return safe.startsWith(".") ? "_" + safe : safe;
+    }
+
+    public record Guardian(String name, String relationship, String phone) {
+    }
+
+    public record ExamResult(String exam,
+                             List<SubjectMarks> subjects,
+                             BigDecimal total,
+                             BigDecimal maxTotal,
+                             Double percentage,
+                             String grade,
+                             Integer rank,
+                             Double percentile,
+                             int sectionSize) {
+    }
+
+    /**
+     * Marks in one subject; marks is null when absent or not entered.
+     */
+    public record SubjectMarks(String subject, int maxMarks, BigDecimal marks, boolean absent) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.school.academic.reportcard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders report cards on a fork-join pool. The card list is split in halves down to
+ * small runs, so idle workers steal work from busy ones whatever the mix of short and
+ * long cards. Each PDF goes to the sink as soon as it is rendered; a card that fails to
+ * render is counted and skipped, while a sink failure aborts the batch. The calling
+ * thread waits for the batch and reports progress every {@link #PROGRESS_INTERVAL}.
+ */
+public final class ReportCardBatch {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportCardBatch.class);
+    private static final int LEAF_SIZE = 8;
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(1);
+
+    private ReportCardBatch() {
+    }
+
+    /**
+     * Receives rendered cards; called concurrently from the pool's workers.
+     */
+    public interface Sink {
+        void write(String fileName, byte[] pdf) throws IOException;
+    }
+
+    /**
+     * Render every card into the sink, counting progress on the job and calling {@code progress}
+     * while the batch runs.
+     *
+     * @throws IOException when the sink fails, or the calling thread is interrupted
+     */
+    public static void render(ForkJoinPool pool, ReportCardRenderer renderer, List<ReportCard> cards, Sink sink,
+                              ReportCardJob job, Runnable progress) throws IOException {
+        ForkJoinTask<Void> task = pool.submit(new RenderTask(renderer, cards, 0, cards.size(), sink, job));
+        while (true) {
+            try {
+                task.get(PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                progress.run();
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while rendering report cards");
+            } catch (ExecutionException e) {
+                // A failure on another worker arrives wrapped in a copy of the exception
+                Throwable cause = e.getCause();
+                while (cause instanceof UncheckedIOException) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof IOException io) {
+                    throw io;
+                }
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Writes cards as files under a directory, creating a folder per class section.
+     */
+    public static Sink directory(Path root) {
+        return (fileName, pdf) -> {
+            Path file = root.resolve(fileName).normalize();
+            if (!file.startsWith(root)) {
+                throw new IOException("Report card path escapes the output directory: " + fileName);
+            }
+            Files.createDirectories(file.getParent());
+            Files.write(file, pdf);
+        };
+    }
+
+    /**
+     * Writes cards as entries of a ZIP stream. PDF pages are already compressed, so
+     * entries are stored rather than deflated again and the stream lock is held only
+     * for the copy.
+     */
+    public static Sink zip(ZipOutputStream zip) {
+        zip.setMethod(ZipOutputStream.STORED);
+        return (fileName, pdf) -> {
+            CRC32 crc = new CRC32();
+            crc.update(pdf);
+            ZipEntry entry = new ZipEntry(fileName);
+            entry.setSize(pdf.length);
+            entry.setCompressedSize(pdf.length);
+            entry.setCrc(crc.getValue());
+            synchronized (zip) {
+                zip.putNextEntry(entry);
+                zip.write(pdf);
+                zip.closeEntry();
+            }
+        };
+    }
+
+    private static final class RenderTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ReportCardRenderer renderer;
+        private final List<ReportCard> cards;
+        private final int from;
+        private final int to;
+        private final Sink sink;
+        private final ReportCardJob job;
+
+        private RenderTask(ReportCardRenderer renderer, List<ReportCard> cards, int from, int to, Sink sink,
+                           ReportCardJob job) {
+            this.renderer = renderer;
+            this.cards = cards;
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+            this.job = job;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RenderTask(renderer, cards, from, middle, sink, job),
+                        new RenderTask(renderer, cards, middle, to, sink, job));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                ReportCard card = cards.get(i);
+                byte[] pdf;
+                try {
+                    pdf = renderer.render(card);
+                } catch (RuntimeException e) {
+                    log.warn("Could not render report card {}: {}", card.fileName(), e.getMessage());
+                    job.cardFailed();
+                    continue;
+                }
+                try {
+                    sink.write(card.fileName(), pdf);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                job.cardRendered();
+            }
+        }
+    }
+}
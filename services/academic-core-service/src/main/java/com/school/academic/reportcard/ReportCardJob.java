@@ -0,0 +1,167 @@
+package com.school.academic.reportcard;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one report-card batch on the node running it. Worker threads count
+ * cards as they finish; the service copies a snapshot to the job's report_card_run
+ * row, which is what every node reports from.
+ */
+public class ReportCardJob {
+
+    public enum Output {
+        DIRECTORY, ZIP
+    }
+
+    public enum Status {
+        QUEUED, LOADING, RENDERING, COMPLETED, FAILED
+    }
+
+    private final UUID id;
+    private final Long academicYearId;
+    private final String academicYearName;
+    private final Set<Long> classSectionIds;
+    private final Output output;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile Status status = Status.QUEUED;
+    private volatile int total;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime renderingAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String outputDir;
+    private volatile String error;
+
+    /**
+     * @param classSectionIds the sections to print, or empty for every section of the year
+     */
+    public ReportCardJob(UUID id, Long academicYearId, String academicYearName, Set<Long> classSectionIds, Output output) {
+        this.id = id;
+        this.academicYearId = academicYearId;
+        this.academicYearName = academicYearName;
+        this.classSectionIds = Set.copyOf(classSectionIds);
+        this.output = output;
+    }
+
+    public void loading() {
+        startedAt = LocalDateTime.now();
+        status = Status.LOADING;
+    }
+
+    public void rendering(int total) {
+        this.total = total;
+        renderingAt = LocalDateTime.now();
+        status = Status.RENDERING;
+    }
+
+    public void cardRendered() {
+        rendered.incrementAndGet();
+    }
+
+    public void cardFailed() {
+        failed.incrementAndGet();
+    }
+
+    public void completed() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void failed(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    /**
+     * Cards rendered per second since rendering started (up to now while running).
+     */
+    public double cardsPerSecond() {
+        return cardsPerSecond(rendered.get(), renderingAt, finishedAt);
+    }
+
+    /**
+     * Cards rendered per second between {@code renderingAt} and {@code finishedAt}, or now if not finished.
+     */
+    public static double cardsPerSecond(int rendered, LocalDateTime renderingAt, LocalDateTime finishedAt) {
+        if (renderingAt == null) {
+            return 0.0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(Duration.between(renderingAt, end).toMillis(), 1);
+        return Math.round(rendered * 10_000.0 / millis) / 10.0;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Long getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public String getAcademicYearName() {
+        return academicYearName;
+    }
+
+    public Set<Long> getClassSectionIds() {
+        return classSectionIds;
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getRendered() {
+        return rendered.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getRenderingAt() {
+        return renderingAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getOutputDir() {
+        return outputDir;
+    }
+
+    public void setOutputDir(String outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,160 @@
+package com.school.academic.reportcard;
+
+import com.school.academic.attendance.AttendanceTally;
+import com.school.academic.reportcard.ReportCard.ExamResult;
+import com.school.academic.reportcard.ReportCard.Guardian;
+import com.school.academic.reportcard.ReportCard.SubjectMarks;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Lays a report card out on A4 pages: student details, guardians, attendance and one
+ * marks table per exam, continuing on a new page when the current one is full.
+ * Stateless, so one renderer serves every worker thread.
+ */
+public class ReportCardRenderer {
+
+    private static final float LEFT = 50f;
+    private static final float RIGHT = PdfDocument.PAGE_WIDTH - 50f;
+    private static final float TOP = PdfDocument.PAGE_HEIGHT - 50f;
+    private static final float BOTTOM = 60f;
+    private static final float LINE = 15f;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
+
+    private final String schoolName;
+
+    public ReportCardRenderer(String schoolName) {
+        this.schoolName = schoolName;
+    }
+
+    public byte[] render(ReportCard card) {
+        Page page = new Page(new PdfDocument());
+
+        if (schoolName != null && !schoolName.isBlank()) {
+            page.text(LEFT, 16, true, schoolName);
+            page.down(22);
+        }
+        page.text(LEFT, 14, true, "Report Card " + card.academicYear());
+        page.down(10);
+        page.rule();
+        page.down(LINE + 4);
+
+        page.pair("Student", card.studentName(), "Admission No", card.admissionNumber());
+        page.pair("Class", card.classSection(), "Roll No",
+                card.rollNumber() != null ? card.rollNumber().toString() : "-");
+        page.pair("Date of Birth", card.dateOfBirth() != null ? DATE.format(card.dateOfBirth()) : "-", null, null);
+        for (Guardian guardian : card.guardians()) {
+            String label = guardian.relationship() != null ? guardian.relationship() : "Guardian";
+            page.pair(label, guardian.name(), guardian.phone() != null ? "Phone" : null, guardian.phone());
+        }
+
+        AttendanceTally attendance = card.attendance();
+        page.down(8);
+        page.heading("Attendance");
+        if (attendance.getMarked() == 0) {
+            page.text(LEFT, 10, false, "No attendance marked");
+        } else {
+            page.text(LEFT, 10, false, "Days marked " + attendance.getMarked()
+                    + "     Present " + attendance.getPresent()
+                    + "     Late " + attendance.getLate()
+                    + "     Absent " + attendance.getAbsent()
+                    + "     Attendance " + attendance.attendancePercentage() + "%");
+        }
+        page.down(LINE);
+
+        for (ExamResult exam : card.exams()) {
+            page.ensure(LINE * (exam.subjects().size() + 5));
+            page.down(8);
+            page.heading(exam.exam());
+            page.text(LEFT, 10, true, "Subject");
+            page.text(300, 10, true, "Max Marks");
+            page.text(400, 10, true, "Marks Obtained");
+            page.down(6);
+            page.rule();
+            page.down(LINE - 2);
+            for (SubjectMarks subject : exam.subjects()) {
+                page.ensure(LINE);
+                page.text(LEFT, 10, false, subject.subject());
+                page.text(300, 10, false, Integer.toString(subject.maxMarks()));
+                page.text(400, 10, false, subject.absent() ? "Absent" : marks(subject.marks()));
+                page.down(LINE);
+            }
+            page.rule();
+            page.down(LINE - 2);
+            page.text(LEFT, 10, true, "Total");
+            page.text(300, 10, true, marks(exam.maxTotal()));
+            page.text(400, 10, true, marks(exam.total()));
+            page.down(LINE);
+            page.text(LEFT, 10, false, "Percentage " + exam.percentage() + "%"
+                    + "     Grade " + exam.grade()
+                    + "     Rank " + exam.rank() + " of " + exam.sectionSize()
+                    + "     Percentile " + exam.percentile());
+            page.down(LINE);
+        }
+        if (card.exams().isEmpty()) {
+            page.down(8);
+            page.heading("Examinations");
+            page.text(LEFT, 10, false, "No marks entered");
+        }
+        return page.document.toBytes();
+    }
+
+    private static String marks(BigDecimal marks) {
+        return marks != null ? marks.stripTrailingZeros().toPlainString() : "-";
+    }
+
+    /**
+     * Writing position on the current page.
+     */
+    private static final class Page {
+
+        private final PdfDocument document;
+        private float y = TOP;
+
+        private Page(PdfDocument document) {
+            this.document = document;
+            document.newPage();
+        }
+
+        void text(float x, float size, boolean bold, String text) {
+            document.text(x, y, size, bold, text);
+        }
+
+        void heading(String text) {
+            ensure(LINE * 2);
+            text(LEFT, 12, true, text);
+            down(LINE + 3);
+        }
+
+        void pair(String label, String value, String secondLabel, String secondValue) {
+            ensure(LINE);
+            text(LEFT, 10, true, label);
+            text(LEFT + 90, 10, false, value != null ? value : "-");
+            if (secondLabel != null) {
+                text(320, 10, true, secondLabel);
+                text(410, 10, false, secondValue != null ? secondValue : "-");
+            }
+            down(LINE);
+        }
+
+        void rule() {
+            document.line(LEFT, y, RIGHT, y);
+        }
+
+        void down(float points) {
+            y -= points;
+        }
+
+        /**
+         * Start a new page unless the given height still fits on this one.
+         */
+        void ensure(float height) {
+            if (y - height < BOTTOM) {
+                document.newPage();
+                y = TOP;
+            }
+        }
+    }
+}
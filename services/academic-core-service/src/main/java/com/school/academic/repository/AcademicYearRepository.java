@@ -1,7 +1,13 @@
 package com.school.academic.repository;
 
 import com.school.academic.domain.AcademicYear;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -26,4 +32,12 @@ public interface AcademicYearRepository extends JpaRepository<AcademicYear, Long
      * Find the current active academic year.
      */
     Optional<AcademicYear> findByIsActiveTrue();
+
+    /**
+     * Find an academic year locked for update, failing at once if another transaction holds the lock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT y FROM AcademicYear y WHERE y.id = :id")
+    Optional<AcademicYear> findByIdForUpdateNoWait(@Param("id") Long id);
 }
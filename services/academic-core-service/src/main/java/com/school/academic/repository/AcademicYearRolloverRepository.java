@@ -0,0 +1,181 @@
+package com.school.academic.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based copies of a year's structure into another year.
+ *
+ * Each copy is a single {@code INSERT ... SELECT} that skips rows the target
+ * year already has, so a rollover can be re-run after adding missing pieces.
+ * Remappings (old id to new id, or to null to drop) are rendered as a
+ * {@code CASE} over the copied column; ids are {@code Long}s, so they are
+ * written as literals. The surrounding transaction is the caller's.
+ */
+@Repository
+public class AcademicYearRolloverRepository {
+
+    private final EntityManager entityManager;
+
+    public AcademicYearRolloverRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Copy class sections, keeping medium, class teacher and classroom through their remappings.
+     * A null remapping leaves the column empty.
+     */
+    public int copyClassSections(long sourceYearId, long targetYearId, Map<Long, Long> teacherMappings,
+                                 Map<Long, Long> classroomMappings, String createdBy) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.class_section "
+                                + "(class_id, section_id, academic_year_id, medium, class_teacher_staff_id, classroom_id, "
+                                + "created_by, created_at) "
+                                + "SELECT cs.class_id, cs.section_id, :targetYearId, cs.medium, "
+                                + remap("cs.class_teacher_staff_id", teacherMappings) + ", "
+                                + remap("cs.classroom_id", classroomMappings) + ", :createdBy, CURRENT_TIMESTAMP "
+                                + "FROM academic_core.class_section cs "
+                                + "WHERE cs.academic_year_id = :sourceYearId "
+                                + "AND NOT EXISTS (SELECT 1 FROM academic_core.class_section t "
+                                + "WHERE t.academic_year_id = :targetYearId AND t.class_id = cs.class_id "
+                                + "AND t.section_id = cs.section_id)")
+                .setParameter("sourceYearId", sourceYearId)
+                .setParameter("targetYearId", targetYearId)
+                .setParameter("createdBy", createdBy)
+                .executeUpdate();
+    }
+
+    /**
+     * Copy the subject-to-class curriculum, including section-specific entries and timetable load.
+     */
+    public int copySubjectAssignments(long sourceYearId, long targetYearId, String createdBy) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.subject_assignment "
+                                + "(subject_id, class_id, academic_year_id, section_id, periods_per_week, room_type, created_by, created_at) "
+                                + "SELECT sa.subject_id, sa.class_id, :targetYearId, sa.section_id, sa.periods_per_week, sa.room_type, "
+                                + ":createdBy, CURRENT_TIMESTAMP "
+                                + "FROM academic_core.subject_assignment sa "
+                                + "WHERE sa.academic_year_id = :sourceYearId "
+                                + "AND NOT EXISTS (SELECT 1 FROM academic_core.subject_assignment t "
+                                + "WHERE t.academic_year_id = :targetYearId AND t.subject_id = sa.subject_id "
+                                + "AND t.class_id = sa.class_id "
+                                + "AND (t.section_id = sa.section_id OR (t.section_id IS NULL AND sa.section_id IS NULL)))")
+                .setParameter("sourceYearId", sourceYearId)
+                .setParameter("targetYearId", targetYearId)
+                .setParameter("createdBy", createdBy)
+                .executeUpdate();
+    }
+
+    /**
+     * Copy teaching assignments onto the target year's class section of the same class and section.
+     * Staff mapped to null are dropped, and rows whose subject is not in the target year's
+     * curriculum for the class are skipped (the SUBJECT_NOT_IN_CURRICULUM rule).
+     */
+    public int copyStaffAssignments(long sourceYearId, long targetYearId, Map<Long, Long> staffMappings,
+                                    String createdBy) {
+        String staff = remap("sa.staff_id", staffMappings);
+        String dropped = staffMappings.entrySet().stream()
+                .filter(mapping -> mapping.getValue() == null)
+                .map(mapping -> mapping.getKey().toString())
+                .collect(Collectors.joining(", "));
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.staff_assignment "
+                                + "(staff_id, subject_id, class_section_id, academic_year_id, created_by, created_at) "
+                                // Two teachers remapped to the same replacement collapse into one row
+                                + "SELECT DISTINCT " + staff + ", sa.subject_id, tcs.id, :targetYearId, :createdBy, CURRENT_TIMESTAMP "
+                                + "FROM academic_core.staff_assignment sa "
+                                + "JOIN academic_core.class_section scs ON scs.id = sa.class_section_id "
+                                + "JOIN academic_core.class_section tcs ON tcs.academic_year_id = :targetYearId "
+                                + "AND tcs.class_id = scs.class_id AND tcs.section_id = scs.section_id "
+                                + "WHERE sa.academic_year_id = :sourceYearId "
+                                + (dropped.isEmpty() ? "" : "AND sa.staff_id NOT IN (" + dropped + ") ")
+                                + "AND EXISTS (SELECT 1 FROM academic_core.subject_assignment x "
+                                + "WHERE x.academic_year_id = :targetYearId AND x.subject_id = sa.subject_id "
+                                + "AND x.class_id = scs.class_id) "
+                                + "AND NOT EXISTS (SELECT 1 FROM academic_core.staff_assignment t "
+                                + "WHERE t.academic_year_id = :targetYearId AND t.staff_id = " + staff + " "
+                                + "AND t.subject_id = sa.subject_id AND t.class_section_id = tcs.id)")
+                .setParameter("sourceYearId", sourceYearId)
+                .setParameter("targetYearId", targetYearId)
+                .setParameter("createdBy", createdBy)
+                .executeUpdate();
+    }
+
+    /**
+     * Rows of one year in a structure table.
+     */
+    public long countRows(String table, long academicYearId) {
+        Number count = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM academic_core." + table + " WHERE academic_year_id = :academicYearId")
+                .setParameter("academicYearId", academicYearId)
+                .getSingleResult();
+        return count.longValue();
+    }
+
+    /**
+     * Highest id in a structure table, 0 when empty; rows above it were created afterwards.
+     */
+    public long maxId(String table) {
+        Number max = (Number) entityManager.createNativeQuery(
+                        "SELECT COALESCE(MAX(id), 0) FROM academic_core." + table)
+                .getSingleResult();
+        return max.longValue();
+    }
+
+    /**
+     * "Class - Section" of the target year's class sections created after {@code afterId}.
+     */
+    public List<String> describeClassSections(long academicYearId, long afterId) {
+        return entityManager.createQuery(
+                        "SELECT CONCAT(cs.gradeClass.name, ' - ', COALESCE(cs.section.name, '')) FROM ClassSection cs "
+                                + "WHERE cs.academicYear.id = :academicYearId AND cs.id > :afterId "
+                                + "ORDER BY cs.gradeClass.name, cs.section.name", String.class)
+                .setParameter("academicYearId", academicYearId)
+                .setParameter("afterId", afterId)
+                .getResultList();
+    }
+
+    /**
+     * "Subject: Class[ - Section]" of the target year's subject assignments created after {@code afterId}.
+     */
+    public List<String> describeSubjectAssignments(long academicYearId, long afterId) {
+        return entityManager.createQuery(
+                        "SELECT CONCAT(sa.subject.name, ': ', sa.gradeClass.name, "
+                                + "CASE WHEN s.id IS NULL THEN '' ELSE CONCAT(' - ', COALESCE(s.name, '')) END) "
+                                + "FROM SubjectAssignment sa LEFT JOIN sa.section s "
+                                + "WHERE sa.academicYear.id = :academicYearId AND sa.id > :afterId "
+                                + "ORDER BY sa.gradeClass.name, sa.subject.name", String.class)
+                .setParameter("academicYearId", academicYearId)
+                .setParameter("afterId", afterId)
+                .getResultList();
+    }
+
+    /**
+     * "Staff: Subject, Class - Section" of the target year's staff assignments created after {@code afterId}.
+     */
+    public List<String> describeStaffAssignments(long academicYearId, long afterId) {
+        return entityManager.createQuery(
+                        "SELECT CONCAT(TRIM(CONCAT(COALESCE(st.firstName, ''), ' ', COALESCE(st.lastName, ''))), ': ', sub.name, ', ', "
+                                + "g.name, ' - ', COALESCE(sec.name, '')) "
+                                + "FROM StaffAssignment sa JOIN sa.staff st JOIN sa.subject sub "
+                                + "JOIN sa.classSection cs JOIN cs.gradeClass g JOIN cs.section sec "
+                                + "WHERE sa.academicYear.id = :academicYearId AND sa.id > :afterId "
+                                + "ORDER BY g.name, sec.name, sub.name", String.class)
+                .setParameter("academicYearId", academicYearId)
+                .setParameter("afterId", afterId)
+                .getResultList();
+    }
+
+    private static String remap(String column, Map<Long, Long> mappings) {
+        if (mappings.isEmpty()) {
+            return column;
+        }
+        StringBuilder sql = new StringBuilder("CASE ").append(column);
+        mappings.forEach((from, to) -> sql.append(" WHEN ").append(from).append(" THEN ").append(to != null ? to : "NULL"));
+        return sql.append(" ELSE ").append(column).append(" END").toString();
+    }
+}
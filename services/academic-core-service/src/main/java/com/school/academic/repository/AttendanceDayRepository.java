@@ -0,0 +1,67 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.AttendanceDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for AttendanceDay entity.
+ */
+@Repository
+public interface AttendanceDayRepository extends JpaRepository<AttendanceDay, Long> {
+
+    /**
+     * Find the attendance of a class section on a date.
+     */
+    @Query("SELECT a FROM AttendanceDay a WHERE a.classSection.id = :classSectionId AND a.attendanceDate = :date")
+    Optional<AttendanceDay> findByClassSectionIdAndDate(@Param("classSectionId") Long classSectionId,
+                                                        @Param("date") LocalDate date);
+
+    /**
+     * Find the attendance of a class section between two dates (inclusive), oldest first.
+     */
+    @Query("SELECT a FROM AttendanceDay a " +
+            "WHERE a.classSection.id = :classSectionId AND a.attendanceDate BETWEEN :fromDate AND :toDate " +
+            "ORDER BY a.attendanceDate")
+    List<AttendanceDay> findByClassSectionIdBetween(@Param("classSectionId") Long classSectionId,
+                                                    @Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate);
+
+    /**
+     * Find the attendance of every class section in an academic year.
+     */
+    @Query("SELECT a FROM AttendanceDay a WHERE a.academicYear.id = :academicYearId")
+    List<AttendanceDay> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find the attendance of some class sections.
+     */
+    @Query("SELECT a FROM AttendanceDay a WHERE a.classSection.id IN :classSectionIds")
+    List<AttendanceDay> findByClassSectionIds(@Param("classSectionIds") Collection<Long> classSectionIds);
+
+    /**
+     * Insert or replace a section's day in a single statement. The update assigns the bound
+     * bitmaps again instead of reading them back with the deprecated {@code VALUES(col)}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO academic_core.attendance_day " +
+            "(class_section_id, academic_year_id, attendance_date, marked_bits, absent_bits, late_bits, created_at) " +
+            "VALUES (:classSectionId, :academicYearId, :date, :markedBits, :absentBits, :lateBits, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE marked_bits = :markedBits, absent_bits = :absentBits, " +
+            "late_bits = :lateBits, modified_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsert(@Param("classSectionId") Long classSectionId,
+               @Param("academicYearId") Long academicYearId,
+               @Param("date") LocalDate date,
+               @Param("markedBits") byte[] markedBits,
+               @Param("absentBits") byte[] absentBits,
+               @Param("lateBits") byte[] lateBits);
+}
@@ -0,0 +1,44 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.BankStatementRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for BankStatementRun entity.
+ */
+@Repository
+public interface BankStatementRunRepository extends JpaRepository<BankStatementRun, Long> {
+
+    /**
+     * Find the run of a statement file by the file's SHA-256.
+     */
+    Optional<BankStatementRun> findByFileSha256(String fileSha256);
+
+    /**
+     * Find the latest runs.
+     */
+    List<BankStatementRun> findTop50ByOrderByIdDesc();
+
+    /**
+     * Take over a failed run, or a running one whose last checkpoint is older than
+     * {@code staleBefore}, in a single statement so only one caller resumes it.
+     * Returns 1 when this caller now owns the run.
+     */
+    @Modifying
+    @Query(value = "UPDATE academic_core.bank_statement_run " +
+            "SET status = 'RUNNING', started_at = :now, finished_at = NULL, error = NULL, modified_at = :now " +
+            "WHERE id = :id AND (status = 'FAILED' " +
+            "OR (status = 'RUNNING' AND COALESCE(modified_at, created_at) < :staleBefore))",
+            nativeQuery = true)
+    int claimForResume(@Param("id") Long id,
+                       @Param("now") LocalDateTime now,
+                       @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,39 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.CacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for CacheVersion entity.
+ */
+@Repository
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+
+    /**
+     * Increment the version of a region, creating the row if it does not exist yet.
+     * Holds the row lock until the surrounding transaction commits.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO academic_core.cache_version (region, version) VALUES (:region, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int incrementVersion(@Param("region") String region);
+
+    /**
+     * Find the current version of a region.
+     */
+    @Query("SELECT c.version FROM CacheVersion c WHERE c.region = :region")
+    Optional<Long> findVersionByRegion(@Param("region") String region);
+
+    /**
+     * Find the current versions of several regions by primary key.
+     */
+    List<CacheVersion> findByRegionIn(Collection<String> regions);
+}
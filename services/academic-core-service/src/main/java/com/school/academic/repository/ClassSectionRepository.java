@@ -58,4 +58,33 @@ public interface ClassSectionRepository extends JpaRepository<ClassSection, Long
             "LEFT JOIN FETCH cs.classroom " +
             "WHERE cs.id = :id")
     Optional<ClassSection> findByIdWithAssociations(@Param("id") Long id);
+
+    /**
+     * Find class sections by academic year with their classroom.
+     */
+    @Query("SELECT cs FROM ClassSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "LEFT JOIN FETCH cs.classroom " +
+            "WHERE cs.academicYear.id = :academicYearId")
+    List<ClassSection> findWithClassroomByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Every class section of a year with its class teacher and curriculum, one row per applicable
+     * subject assignment (class-wide or for the section): [classSectionId, className, sectionName,
+     * classTeacherId, classTeacherFirstName, classTeacherLastName, subjectId, subjectName,
+     * periodsPerWeek, sectionSpecific]. Sections without curriculum yield one row with a null subject.
+     */
+    @Query("SELECT cs.id, g.name, sec.name, ct.id, ct.firstName, ct.lastName, sub.id, sub.name, sa.periodsPerWeek, " +
+            "CASE WHEN sa.section IS NULL THEN false ELSE true END " +
+            "FROM ClassSection cs " +
+            "JOIN cs.gradeClass g " +
+            "JOIN cs.section sec " +
+            "LEFT JOIN cs.classTeacher ct " +
+            "LEFT JOIN SubjectAssignment sa ON sa.gradeClass = g AND sa.academicYear = cs.academicYear " +
+            "AND (sa.section IS NULL OR sa.section = sec) " +
+            "LEFT JOIN sa.subject sub " +
+            "WHERE cs.academicYear.id = :academicYearId " +
+            "ORDER BY g.name, sec.name, cs.id, sub.name")
+    List<Object[]> findCurriculumRowsByAcademicYearId(@Param("academicYearId") Long academicYearId);
 }
@@ -1,13 +1,18 @@
 package com.school.academic.repository;
 
 import com.school.academic.domain.Enrollment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Enrollment entity.
@@ -27,6 +32,22 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
             "WHERE e.academicYear.id = :academicYearId")
     List<Enrollment> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
 
+    /**
+     * Find the active enrollments of some class sections of an academic year, with the same
+     * associations as {@link #findByAcademicYearId}.
+     */
+    @Query("SELECT e FROM Enrollment e " +
+            "JOIN FETCH e.student " +
+            "JOIN FETCH e.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "JOIN FETCH e.academicYear " +
+            "WHERE e.academicYear.id = :academicYearId " +
+            "AND cs.id IN :classSectionIds " +
+            "AND e.status = 'ACTIVE'")
+    List<Enrollment> findActiveByAcademicYearIdAndClassSectionIds(@Param("academicYearId") Long academicYearId,
+                                                                 @Param("classSectionIds") Collection<Long> classSectionIds);
+
     /**
      * Find enrollments by class section and academic year.
      */
@@ -89,4 +110,64 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     List<Enrollment> findByStudentIdsAndAcademicYearId(
             @Param("studentIds") List<Long> studentIds,
             @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find all enrollments (every year) for multiple students, with class section,
+     * class teacher and classroom loaded. Newest academic year first.
+     */
+    @Query("SELECT e FROM Enrollment e " +
+            "JOIN FETCH e.academicYear ay " +
+            "JOIN FETCH e.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "LEFT JOIN FETCH cs.classTeacher " +
+            "LEFT JOIN FETCH cs.classroom " +
+            "WHERE e.student.id IN :studentIds " +
+            "ORDER BY ay.startDate DESC, e.id DESC")
+    List<Enrollment> findHistoryByStudentIds(@Param("studentIds") List<Long> studentIds);
+
+    /**
+     * Stream the roster of a class section for export, ordered by roll number.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Enrollment e " +
+            "JOIN FETCH e.student s " +
+            "WHERE e.classSection.id = :classSectionId AND e.academicYear.id = :academicYearId " +
+            "ORDER BY e.rollNumber, s.firstName, s.lastName")
+    Stream<Enrollment> streamRosterForExport(
+            @Param("classSectionId") Long classSectionId,
+            @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Student id, class name and section name of every active enrollment, oldest
+     * academic year first so a later row supersedes an earlier one.
+     */
+    @Query("SELECT e.student.id, gc.name, sec.name FROM Enrollment e " +
+            "JOIN e.classSection cs " +
+            "JOIN cs.gradeClass gc " +
+            "JOIN cs.section sec " +
+            "JOIN e.academicYear ay " +
+            "WHERE e.status = 'ACTIVE' " +
+            "ORDER BY ay.startDate, e.id")
+    List<Object[]> findActiveClassRows();
+
+    /**
+     * Count active enrollments per class section for an academic year: [classSectionId, count].
+     */
+    @Query("SELECT e.classSection.id, COUNT(e) FROM Enrollment e " +
+            "WHERE e.academicYear.id = :academicYearId AND e.status = 'ACTIVE' " +
+            "GROUP BY e.classSection.id")
+    List<Object[]> countActiveByClassSection(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Ids of the active enrollments of an academic year in ascending order.
+     */
+    @Query("SELECT e.id FROM Enrollment e " +
+            "WHERE e.academicYear.id = :academicYearId AND e.status = 'ACTIVE' " +
+            "ORDER BY e.id")
+    List<Long> findActiveIdsByAcademicYearId(@Param("academicYearId") Long academicYearId);
 }
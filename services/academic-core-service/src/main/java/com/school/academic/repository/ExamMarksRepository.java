@@ -0,0 +1,67 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.ExamMarks;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for ExamMarks entity.
+ */
+@Repository
+public interface ExamMarksRepository extends JpaRepository<ExamMarks, Long> {
+
+    /**
+     * Find one subject's marks for a class section in an exam.
+     */
+    @Query("SELECT m FROM ExamMarks m JOIN FETCH m.subject " +
+            "WHERE m.exam.id = :examId AND m.classSection.id = :classSectionId AND m.subject.id = :subjectId")
+    Optional<ExamMarks> findByExamIdAndClassSectionIdAndSubjectId(@Param("examId") Long examId,
+                                                                  @Param("classSectionId") Long classSectionId,
+                                                                  @Param("subjectId") Long subjectId);
+
+    /**
+     * Find every subject's marks for an exam, with subjects.
+     */
+    @Query("SELECT m FROM ExamMarks m JOIN FETCH m.subject WHERE m.exam.id = :examId")
+    List<ExamMarks> findByExamId(@Param("examId") Long examId);
+
+    /**
+     * Find every subject's marks for one class section in an exam, with subjects.
+     */
+    @Query("SELECT m FROM ExamMarks m JOIN FETCH m.subject " +
+            "WHERE m.exam.id = :examId AND m.classSection.id = :classSectionId")
+    List<ExamMarks> findByExamIdAndClassSectionId(@Param("examId") Long examId,
+                                                  @Param("classSectionId") Long classSectionId);
+
+    /**
+     * Find every subject's marks for some class sections in an exam, with subjects.
+     */
+    @Query("SELECT m FROM ExamMarks m JOIN FETCH m.subject " +
+            "WHERE m.exam.id = :examId AND m.classSection.id IN :classSectionIds")
+    List<ExamMarks> findByExamIdAndClassSectionIds(@Param("examId") Long examId,
+                                                   @Param("classSectionIds") Collection<Long> classSectionIds);
+
+    /**
+     * Insert or replace a subject's marks for a section in a single statement; the update
+     * re-binds the new values, as {@code VALUES(col)} is deprecated.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO academic_core.exam_marks " +
+            "(exam_id, class_section_id, subject_id, max_marks, marks_tenths, created_at) " +
+            "VALUES (:examId, :classSectionId, :subjectId, :maxMarks, :marksTenths, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE max_marks = :maxMarks, marks_tenths = :marksTenths, " +
+            "modified_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsert(@Param("examId") Long examId,
+               @Param("classSectionId") Long classSectionId,
+               @Param("subjectId") Long subjectId,
+               @Param("maxMarks") Integer maxMarks,
+               @Param("marksTenths") byte[] marksTenths);
+}
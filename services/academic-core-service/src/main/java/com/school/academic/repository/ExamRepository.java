@@ -0,0 +1,36 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.Exam;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Exam entity.
+ */
+@Repository
+public interface ExamRepository extends JpaRepository<Exam, Long> {
+
+    /**
+     * Find an exam with its academic year.
+     */
+    @Query("SELECT e FROM Exam e JOIN FETCH e.academicYear WHERE e.id = :id")
+    Optional<Exam> findByIdWithAcademicYear(@Param("id") Long id);
+
+    /**
+     * Find the exams of an academic year, earliest first.
+     */
+    @Query("SELECT e FROM Exam e JOIN FETCH e.academicYear " +
+            "WHERE e.academicYear.id = :academicYearId ORDER BY e.startDate, e.name")
+    List<Exam> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Check if an exam name is taken in an academic year.
+     */
+    @Query("SELECT COUNT(e) > 0 FROM Exam e WHERE e.academicYear.id = :academicYearId AND e.name = :name")
+    boolean existsByAcademicYearIdAndName(@Param("academicYearId") Long academicYearId, @Param("name") String name);
+}
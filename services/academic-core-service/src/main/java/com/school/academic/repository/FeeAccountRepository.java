@@ -0,0 +1,55 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for FeeAccount entity.
+ */
+@Repository
+public interface FeeAccountRepository extends JpaRepository<FeeAccount, Long> {
+
+    /**
+     * Find the account of a student in an academic year, with student and class section.
+     */
+    @Query("SELECT a FROM FeeAccount a " +
+            "JOIN FETCH a.student " +
+            "JOIN FETCH a.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "WHERE a.student.id = :studentId AND a.academicYear.id = :academicYearId")
+    Optional<FeeAccount> findByStudentIdAndAcademicYearId(@Param("studentId") Long studentId,
+                                                         @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find accounts with an outstanding balance in an academic year, optionally in one class
+     * section, largest balance first.
+     */
+    @Query("SELECT a FROM FeeAccount a " +
+            "JOIN FETCH a.student " +
+            "JOIN FETCH a.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "WHERE a.academicYear.id = :academicYearId AND a.balance > 0 " +
+            "AND (:classSectionId IS NULL OR cs.id = :classSectionId) " +
+            "ORDER BY a.balance DESC, a.id")
+    List<FeeAccount> findOutstanding(@Param("academicYearId") Long academicYearId,
+                                     @Param("classSectionId") Long classSectionId);
+
+    /**
+     * Apply a payment to an enrollment's running totals in place.
+     */
+    @Modifying
+    @Query(value = "UPDATE academic_core.fee_account SET paid = paid + :amount, balance = balance - :amount, " +
+            "modified_at = CURRENT_TIMESTAMP WHERE enrollment_id = :enrollmentId",
+            nativeQuery = true)
+    int applyPayment(@Param("enrollmentId") Long enrollmentId, @Param("amount") BigDecimal amount);
+}
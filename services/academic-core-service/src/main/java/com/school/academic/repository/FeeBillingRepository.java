@@ -0,0 +1,125 @@
+package com.school.academic.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Set-based statements of an invoice run. Each statement works on the active enrollments
+ * with ids in {@code [fromId, toId]}, so a run bills one chunk of enrollments per call
+ * with four statements however many students the chunk holds. The surrounding
+ * transaction is the caller's.
+ */
+@Repository
+public class FeeBillingRepository {
+
+    private final EntityManager entityManager;
+
+    public FeeBillingRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Create one invoice per active enrollment in the range, summing the fee heads of its
+     * class for the period. Enrollments already invoiced for the period are skipped, which
+     * makes re-running a period pick up only what is missing. Returns the number of invoices created.
+     */
+    public int insertInvoices(Long runId, Long academicYearId, String billingPeriod, LocalDate dueDate,
+                              String numberPrefix, Long fromId, Long toId) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.fee_invoice "
+                                + "(invoice_number, invoice_run_id, enrollment_id, student_id, academic_year_id, "
+                                + "class_section_id, billing_period, amount, paid_amount, status, due_date, created_at) "
+                                + "SELECT CONCAT(:prefix, e.id), :runId, e.id, e.student_id, e.academic_year_id, "
+                                + "e.class_section_id, :period, SUM(fs.amount), 0, 'OPEN', :dueDate, CURRENT_TIMESTAMP "
+                                + "FROM academic_core.enrollment e "
+                                + "JOIN academic_core.class_section cs ON cs.id = e.class_section_id "
+                                + "JOIN academic_core.fee_structure fs ON fs.academic_year_id = e.academic_year_id "
+                                + "AND fs.class_id = cs.class_id AND fs.billing_period = :period "
+                                + "WHERE e.academic_year_id = :academicYearId AND e.enrollment_status = 'ACTIVE' "
+                                + "AND e.id BETWEEN :fromId AND :toId "
+                                + "AND NOT EXISTS (SELECT 1 FROM academic_core.fee_invoice i "
+                                + "WHERE i.enrollment_id = e.id AND i.billing_period = :period) "
+                                + "GROUP BY e.id, e.student_id, e.academic_year_id, e.class_section_id")
+                .setParameter("prefix", numberPrefix)
+                .setParameter("runId", runId)
+                .setParameter("period", billingPeriod)
+                .setParameter("dueDate", dueDate)
+                .setParameter("academicYearId", academicYearId)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .executeUpdate();
+    }
+
+    /**
+     * Itemise the run's invoices in the range, one line per fee head.
+     */
+    public int insertInvoiceLines(Long runId, Long fromId, Long toId) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.fee_invoice_line (invoice_id, fee_head, amount) "
+                                + "SELECT i.id, fs.fee_head, fs.amount "
+                                + "FROM academic_core.fee_invoice i "
+                                + "JOIN academic_core.class_section cs ON cs.id = i.class_section_id "
+                                + "JOIN academic_core.fee_structure fs ON fs.academic_year_id = i.academic_year_id "
+                                + "AND fs.class_id = cs.class_id AND fs.billing_period = i.billing_period "
+                                + "WHERE i.invoice_run_id = :runId AND i.enrollment_id BETWEEN :fromId AND :toId")
+                .setParameter("runId", runId)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .executeUpdate();
+    }
+
+    /**
+     * Write an INVOICE ledger entry for each of the run's invoices in the range.
+     */
+    public int insertLedgerEntries(Long runId, LocalDate entryDate, Long fromId, Long toId) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.fee_ledger_entry "
+                                + "(enrollment_id, invoice_id, entry_type, amount, entry_date, reference, created_at) "
+                                + "SELECT i.enrollment_id, i.id, 'INVOICE', i.amount, :entryDate, i.invoice_number, "
+                                + "CURRENT_TIMESTAMP "
+                                + "FROM academic_core.fee_invoice i "
+                                + "WHERE i.invoice_run_id = :runId AND i.enrollment_id BETWEEN :fromId AND :toId")
+                .setParameter("runId", runId)
+                .setParameter("entryDate", entryDate)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .executeUpdate();
+    }
+
+    /**
+     * Add the run's invoices in the range to each enrollment's account, opening the
+     * account on its first invoice. The update adds the selected invoice's amount rather
+     * than {@code VALUES(...)}, which MySQL 8.0.20 deprecated; the row alias that replaces
+     * it there is not understood by MariaDB.
+     */
+    public void applyToAccounts(Long runId, Long fromId, Long toId) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.fee_account "
+                                + "(enrollment_id, student_id, academic_year_id, class_section_id, billed, paid, balance, "
+                                + "created_at) "
+                                + "SELECT i.enrollment_id, i.student_id, i.academic_year_id, i.class_section_id, "
+                                + "i.amount, 0, i.amount, CURRENT_TIMESTAMP "
+                                + "FROM academic_core.fee_invoice i "
+                                + "WHERE i.invoice_run_id = :runId AND i.enrollment_id BETWEEN :fromId AND :toId "
+                                + "ON DUPLICATE KEY UPDATE billed = fee_account.billed + i.amount, "
+                                + "balance = fee_account.balance + i.amount, modified_at = CURRENT_TIMESTAMP")
+                .setParameter("runId", runId)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .executeUpdate();
+    }
+
+    /**
+     * Total amount invoiced by a run.
+     */
+    public BigDecimal sumInvoiced(Long runId) {
+        Object sum = entityManager.createNativeQuery(
+                        "SELECT COALESCE(SUM(amount), 0) FROM academic_core.fee_invoice WHERE invoice_run_id = :runId")
+                .setParameter("runId", runId)
+                .getSingleResult();
+        return sum instanceof BigDecimal decimal ? decimal : new BigDecimal(sum.toString());
+    }
+}
@@ -0,0 +1,19 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeInvoiceLine;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FeeInvoiceLine entity.
+ */
+@Repository
+public interface FeeInvoiceLineRepository extends JpaRepository<FeeInvoiceLine, Long> {
+
+    /**
+     * Find the lines of an invoice.
+     */
+    List<FeeInvoiceLine> findByInvoiceIdOrderByFeeHead(Long invoiceId);
+}
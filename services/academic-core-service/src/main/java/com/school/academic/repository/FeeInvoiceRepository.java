@@ -0,0 +1,50 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeInvoice;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for FeeInvoice entity.
+ */
+@Repository
+public interface FeeInvoiceRepository extends JpaRepository<FeeInvoice, Long> {
+
+    /**
+     * Find an invoice with its student and class section.
+     */
+    @Query("SELECT i FROM FeeInvoice i " +
+            "JOIN FETCH i.student " +
+            "JOIN FETCH i.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "WHERE i.id = :id")
+    Optional<FeeInvoice> findByIdWithDetails(@Param("id") Long id);
+
+    /**
+     * Find an invoice locked for update, so concurrent payments against it apply one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM FeeInvoice i WHERE i.id = :id")
+    Optional<FeeInvoice> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Find a student's invoices in an academic year.
+     */
+    @Query("SELECT i FROM FeeInvoice i " +
+            "JOIN FETCH i.student " +
+            "JOIN FETCH i.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "WHERE i.student.id = :studentId AND i.academicYear.id = :academicYearId " +
+            "ORDER BY i.dueDate, i.id")
+    List<FeeInvoice> findByStudentIdAndAcademicYearId(@Param("studentId") Long studentId,
+                                                     @Param("academicYearId") Long academicYearId);
+}
@@ -0,0 +1,19 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeInvoiceRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FeeInvoiceRun entity.
+ */
+@Repository
+public interface FeeInvoiceRunRepository extends JpaRepository<FeeInvoiceRun, Long> {
+
+    /**
+     * Find the invoice runs of an academic year, latest first.
+     */
+    List<FeeInvoiceRun> findByAcademicYearIdOrderByIdDesc(Long academicYearId);
+}
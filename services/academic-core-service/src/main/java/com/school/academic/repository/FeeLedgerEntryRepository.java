@@ -0,0 +1,23 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FeeLedgerEntry entity.
+ */
+@Repository
+public interface FeeLedgerEntryRepository extends JpaRepository<FeeLedgerEntry, Long> {
+
+    /**
+     * Find an enrollment's ledger in the order it was written, with invoices.
+     */
+    @Query("SELECT l FROM FeeLedgerEntry l JOIN FETCH l.invoice " +
+            "WHERE l.enrollment.id = :enrollmentId ORDER BY l.entryDate, l.id")
+    List<FeeLedgerEntry> findByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
+}
@@ -0,0 +1,23 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeePayment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FeePayment entity.
+ */
+@Repository
+public interface FeePaymentRepository extends JpaRepository<FeePayment, Long> {
+
+    /**
+     * Find the payments of a student by admission number, with invoices, oldest first.
+     */
+    @Query("SELECT p FROM FeePayment p JOIN FETCH p.invoice " +
+            "WHERE p.admissionNumber = :admissionNumber ORDER BY p.paidOn, p.id")
+    List<FeePayment> findByAdmissionNumber(@Param("admissionNumber") String admissionNumber);
+}
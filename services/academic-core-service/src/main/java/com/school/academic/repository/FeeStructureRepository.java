@@ -0,0 +1,35 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.FeeStructure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for FeeStructure entity.
+ */
+@Repository
+public interface FeeStructureRepository extends JpaRepository<FeeStructure, Long> {
+
+    /**
+     * Find the fee heads of an academic year, with classes.
+     */
+    @Query("SELECT fs FROM FeeStructure fs JOIN FETCH fs.gradeClass " +
+            "WHERE fs.academicYear.id = :academicYearId " +
+            "ORDER BY fs.billingPeriod, fs.gradeClass.id, fs.feeHead")
+    List<FeeStructure> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Check if a fee head is already charged to a class in a billing period.
+     */
+    boolean existsByAcademicYearIdAndGradeClassIdAndBillingPeriodAndFeeHead(
+            Long academicYearId, Long gradeClassId, String billingPeriod, String feeHead);
+
+    /**
+     * Check if anything is billed in a billing period of an academic year.
+     */
+    boolean existsByAcademicYearIdAndBillingPeriod(Long academicYearId, String billingPeriod);
+}
@@ -1,10 +1,16 @@
 package com.school.academic.repository;
 
 import com.school.academic.domain.Parent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Parent entity.
@@ -21,4 +27,21 @@ public interface ParentRepository extends JpaRepository<Parent, Long> {
      * Find parent by phone number.
      */
     Optional<Parent> findByPhone(String phone);
+
+    /**
+     * Stream all parents for export, ordered by name.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Parent p ORDER BY p.lastName, p.firstName, p.id")
+    Stream<Parent> streamAllForExport();
+
+    /**
+     * Id, first name, last name, relationship and phone of every parent with a phone number.
+     */
+    @Query("SELECT p.id, p.firstName, p.lastName, p.relationship, p.phone FROM Parent p WHERE p.phone IS NOT NULL")
+    List<Object[]> findPhoneDirectoryRows();
 }
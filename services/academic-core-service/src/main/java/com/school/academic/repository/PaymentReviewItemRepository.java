@@ -0,0 +1,35 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.PaymentReviewItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for PaymentReviewItem entity.
+ */
+@Repository
+public interface PaymentReviewItemRepository extends JpaRepository<PaymentReviewItem, Long> {
+
+    /**
+     * Find review items in a status, optionally of one statement run, in statement order.
+     */
+    @Query("SELECT r FROM PaymentReviewItem r " +
+            "WHERE r.status = :status AND (:statementRunId IS NULL OR r.statementRun.id = :statementRunId) " +
+            "ORDER BY r.statementRun.id, r.lineNumber")
+    List<PaymentReviewItem> findByStatus(@Param("status") String status,
+                                         @Param("statementRunId") Long statementRunId);
+
+    /**
+     * Find a review item locked for update, so it is resolved only once.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM PaymentReviewItem r WHERE r.id = :id")
+    Optional<PaymentReviewItem> findByIdForUpdate(@Param("id") Long id);
+}
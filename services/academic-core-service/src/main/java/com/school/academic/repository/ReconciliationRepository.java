@@ -0,0 +1,159 @@
+package com.school.academic.repository;
+
+import com.school.academic.fees.PaymentMatcher.Due;
+import com.school.academic.fees.PaymentMatcher.Match;
+import com.school.academic.fees.StatementLine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Reads the match indexes of a reconciliation run and writes its outcome: JDBC batches for
+ * the new rows and set-based statements for the totals, so a whole chunk of statement lines
+ * takes a fixed number of round trips. The surrounding transaction is the caller's.
+ */
+@Repository
+public class ReconciliationRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int MAX_NARRATIVE_LENGTH = 512;
+    private static final int MAX_REFERENCE_LENGTH = 128;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconciliationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Every invoice with something outstanding, with the student's admission number.
+     */
+    public List<Due> findOpenDues() {
+        List<Due> dues = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    "SELECT i.id, i.invoice_number, i.enrollment_id, s.admission_no, i.due_date, i.amount, i.paid_amount "
+                            + "FROM academic_core.fee_invoice i "
+                            + "JOIN academic_core.student s ON s.id = i.student_id "
+                            + "WHERE i.status IN ('OPEN', 'PARTIAL')");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            dues.add(new Due(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4),
+                    rs.getDate(5).toLocalDate(), rs.getBigDecimal(6), rs.getBigDecimal(7)));
+        });
+        return dues;
+    }
+
+    /**
+     * Bank references of every payment posted so far.
+     */
+    public List<String> findPostedReferences() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT bank_reference FROM academic_core.fee_payment WHERE bank_reference IS NOT NULL",
+                String.class);
+    }
+
+    /**
+     * Lock the given invoices in id order and return what is paid on each now.
+     */
+    public Map<Long, BigDecimal> lockInvoices(Collection<Long> invoiceIds) {
+        Map<Long, BigDecimal> paid = new HashMap<>(invoiceIds.size() * 2);
+        if (invoiceIds.isEmpty()) {
+            return paid;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(invoiceIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, paid_amount FROM academic_core.fee_invoice WHERE id IN (" + placeholders + ") "
+                        + "ORDER BY id FOR UPDATE",
+                rs -> {
+                    paid.put(rs.getLong(1), rs.getBigDecimal(2));
+                },
+                invoiceIds.toArray());
+        return paid;
+    }
+
+    /**
+     * Post matched lines, given in statement order: write the payments, then copy them to
+     * the ledger, pay the invoices and move the account totals with one set-based statement
+     * each over the chunk's payments, found by their statement line numbers.
+     */
+    public void postPayments(Long runId, List<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        List<Object[]> payments = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            StatementLine line = match.line();
+            Date paidOn = Date.valueOf(line.valueDate() != null ? line.valueDate() : LocalDate.now());
+            String reference = truncate(line.reference(), MAX_REFERENCE_LENGTH);
+            payments.add(new Object[]{match.due().enrollmentId(), match.due().invoiceId(), match.due().admissionNumber(),
+                    line.amount(), paidOn, reference, runId, line.sequence()});
+        }
+        Object[] chunk = {runId, matches.get(0).line().sequence(), matches.get(matches.size() - 1).line().sequence()};
+
+        jdbcTemplate.batchUpdate("INSERT INTO academic_core.fee_payment "
+                + "(enrollment_id, invoice_id, admission_number, amount, paid_on, bank_reference, statement_run_id, "
+                + "line_number, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)", payments);
+        jdbcTemplate.update("INSERT INTO academic_core.fee_ledger_entry "
+                + "(enrollment_id, invoice_id, entry_type, amount, entry_date, reference, created_at) "
+                + "SELECT enrollment_id, invoice_id, 'PAYMENT', amount, paid_on, bank_reference, CURRENT_TIMESTAMP "
+                + "FROM academic_core.fee_payment "
+                + "WHERE statement_run_id = ? AND line_number BETWEEN ? AND ? ORDER BY line_number", chunk);
+        jdbcTemplate.update("UPDATE academic_core.fee_invoice i "
+                + "JOIN (SELECT invoice_id, SUM(amount) AS amount FROM academic_core.fee_payment "
+                + "WHERE statement_run_id = ? AND line_number BETWEEN ? AND ? GROUP BY invoice_id) p "
+                + "ON p.invoice_id = i.id "
+                + "SET i.paid_amount = i.paid_amount + p.amount, i.modified_at = CURRENT_TIMESTAMP", chunk);
+        // A separate statement, as a multi-table UPDATE does not promise to assign left to right
+        jdbcTemplate.update("UPDATE academic_core.fee_invoice i "
+                + "JOIN (SELECT DISTINCT invoice_id FROM academic_core.fee_payment "
+                + "WHERE statement_run_id = ? AND line_number BETWEEN ? AND ?) p ON p.invoice_id = i.id "
+                + "SET i.status = CASE WHEN i.paid_amount >= i.amount THEN 'PAID' ELSE 'PARTIAL' END", chunk);
+        jdbcTemplate.update("UPDATE academic_core.fee_account a "
+                + "JOIN (SELECT enrollment_id, SUM(amount) AS amount FROM academic_core.fee_payment "
+                + "WHERE statement_run_id = ? AND line_number BETWEEN ? AND ? GROUP BY enrollment_id) p "
+                + "ON p.enrollment_id = a.enrollment_id "
+                + "SET a.paid = a.paid + p.amount, a.balance = a.balance - p.amount, "
+                + "a.modified_at = CURRENT_TIMESTAMP", chunk);
+    }
+
+    /**
+     * Queue lines that need a person to look at them.
+     */
+    public void insertReviewItems(Long runId, List<Match> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(reviews.size());
+        for (Match review : reviews) {
+            StatementLine line = review.line();
+            rows.add(new Object[]{runId, line.sequence(), line.valueDate() != null ? Date.valueOf(line.valueDate()) : null,
+                    line.amount(), truncate(line.reference(), MAX_REFERENCE_LENGTH),
+                    truncate(line.narrative(), MAX_NARRATIVE_LENGTH), review.reason()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO academic_core.payment_review_item "
+                + "(statement_run_id, line_number, value_date, amount, bank_reference, narrative, reason, status, "
+                + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', CURRENT_TIMESTAMP)", rows);
+    }
+
+    /**
+     * Record a committed chunk: the lines processed so far and what the chunk added.
+     */
+    public void checkpoint(Long runId, int linesProcessed, int matched, int duplicates, int skipped,
+                           int sentToReview, BigDecimal amountPosted) {
+        jdbcTemplate.update("UPDATE academic_core.bank_statement_run SET lines_processed = ?, "
+                        + "matched = matched + ?, duplicates = duplicates + ?, skipped = skipped + ?, "
+                        + "sent_to_review = sent_to_review + ?, amount_posted = amount_posted + ?, modified_at = ? "
+                        + "WHERE id = ?",
+                linesProcessed, matched, duplicates, skipped, sentToReview, amountPosted, LocalDateTime.now(), runId);
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+}
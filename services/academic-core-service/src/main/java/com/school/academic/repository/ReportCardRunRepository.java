@@ -0,0 +1,19 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.ReportCardRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for ReportCardRun entity.
+ */
+@Repository
+public interface ReportCardRunRepository extends JpaRepository<ReportCardRun, Long> {
+
+    /**
+     * Find the latest runs.
+     */
+    List<ReportCardRun> findTop50ByOrderByIdDesc();
+}
@@ -46,4 +46,25 @@ public interface StaffAssignmentRepository extends JpaRepository<StaffAssignment
      */
     boolean existsByStaffIdAndSubjectIdAndClassSectionIdAndAcademicYearId(
             Long staffId, Long subjectId, Long classSectionId, Long academicYearId);
+
+    /**
+     * Find staff assignments by academic year.
+     */
+    @Query("SELECT sa FROM StaffAssignment sa " +
+            "JOIN FETCH sa.staff " +
+            "JOIN FETCH sa.subject " +
+            "JOIN FETCH sa.classSection " +
+            "WHERE sa.academicYear.id = :academicYearId " +
+            "ORDER BY sa.id")
+    List<StaffAssignment> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Every teaching assignment of a year, oldest first: [staffId, firstName, lastName, staffCode,
+     * classSectionId, subjectId, subjectName].
+     */
+    @Query("SELECT st.id, st.firstName, st.lastName, st.staffCode, sa.classSection.id, sub.id, sub.name " +
+            "FROM StaffAssignment sa JOIN sa.staff st JOIN sa.subject sub " +
+            "WHERE sa.academicYear.id = :academicYearId " +
+            "ORDER BY sa.id")
+    List<Object[]> findWorkloadRowsByAcademicYearId(@Param("academicYearId") Long academicYearId);
 }
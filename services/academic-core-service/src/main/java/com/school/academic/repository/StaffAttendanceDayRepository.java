@@ -0,0 +1,29 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.StaffAttendanceDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for StaffAttendanceDay entity.
+ */
+@Repository
+public interface StaffAttendanceDayRepository extends JpaRepository<StaffAttendanceDay, Long> {
+
+    /**
+     * Find staff attendance days between two dates (inclusive), optionally for one staff member.
+     */
+    @Query("SELECT d FROM StaffAttendanceDay d " +
+            "JOIN FETCH d.staff s " +
+            "WHERE d.attendanceDate BETWEEN :fromDate AND :toDate " +
+            "AND (:staffId IS NULL OR s.id = :staffId) " +
+            "ORDER BY d.attendanceDate, s.staffCode, s.id")
+    List<StaffAttendanceDay> findBetween(@Param("fromDate") LocalDate fromDate,
+                                         @Param("toDate") LocalDate toDate,
+                                         @Param("staffId") Long staffId);
+}
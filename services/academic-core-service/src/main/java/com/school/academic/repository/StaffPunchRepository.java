@@ -0,0 +1,69 @@
+package com.school.academic.repository;
+
+import com.school.academic.attendance.PunchFile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Writes to the append-only staff_punch log and the per-day summaries derived from it.
+ * The surrounding transaction is the caller's.
+ */
+@Repository
+public class StaffPunchRepository {
+
+    private final EntityManager entityManager;
+
+    public StaffPunchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Insert punches {@code [from, to)} of a file as one multi-row statement, skipping punches
+     * already logged. Returns the number of new rows.
+     */
+    public int insertPunches(PunchFile punches, int from, int to) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO academic_core.staff_punch (staff_id, punched_at) VALUES ");
+        for (int i = from; i < to; i++) {
+            sql.append(i == from ? "(?, ?)" : ", (?, ?)");
+        }
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (int i = from; i < to; i++) {
+            query.setParameter(position++, punches.staffId(i));
+            query.setParameter(position++, punches.punchedAt(i));
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Recompute first punch, last punch and punch count of the given staff for every day
+     * from {@code fromDate} to {@code toDate}. The day totals come from a derived table so
+     * the update can assign its columns; an aggregate cannot be referenced there directly,
+     * and {@code VALUES(col)} is deprecated since MySQL 8.0.20.
+     */
+    public void summarizeDays(Collection<Long> staffIds, LocalDate fromDate, LocalDate toDate) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO academic_core.staff_attendance_day "
+                                + "(staff_id, attendance_date, first_punch_at, last_punch_at, punch_count, created_at) "
+                                + "SELECT d.staff_id, d.attendance_date, d.first_punch_at, d.last_punch_at, d.punch_count, "
+                                + "CURRENT_TIMESTAMP "
+                                + "FROM (SELECT p.staff_id, CAST(p.punched_at AS DATE) AS attendance_date, "
+                                + "MIN(p.punched_at) AS first_punch_at, MAX(p.punched_at) AS last_punch_at, "
+                                + "COUNT(*) AS punch_count "
+                                + "FROM academic_core.staff_punch p "
+                                + "WHERE p.staff_id IN (:staffIds) "
+                                + "AND p.punched_at >= :fromDate AND p.punched_at < :toDateExclusive "
+                                + "GROUP BY p.staff_id, CAST(p.punched_at AS DATE)) d "
+                                + "ON DUPLICATE KEY UPDATE first_punch_at = d.first_punch_at, "
+                                + "last_punch_at = d.last_punch_at, punch_count = d.punch_count, "
+                                + "modified_at = CURRENT_TIMESTAMP")
+                .setParameter("staffIds", staffIds)
+                .setParameter("fromDate", fromDate.atStartOfDay())
+                .setParameter("toDateExclusive", toDate.plusDays(1).atStartOfDay())
+                .executeUpdate();
+    }
+}
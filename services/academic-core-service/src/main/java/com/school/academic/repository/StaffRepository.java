@@ -1,16 +1,25 @@
 package com.school.academic.repository;
 
 import com.school.academic.domain.Staff;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Staff entity.
  */
 @Repository
-public interface StaffRepository extends JpaRepository<Staff, Long> {
+public interface StaffRepository extends JpaRepository<Staff, Long>, StaffRepositoryCustom {
 
     /**
      * Find staff by staff code.
@@ -26,4 +35,28 @@ public interface StaffRepository extends JpaRepository<Staff, Long> {
      * Find staff by user ID.
      */
     Optional<Staff> findByUserId(String userId);
+
+    /**
+     * Find a staff member locked for update, so concurrent assignments to them are checked one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Staff s WHERE s.id = :id")
+    Optional<Staff> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Stream all staff for export, ordered by staff code.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Staff s ORDER BY s.staffCode, s.id")
+    Stream<Staff> streamAllForExport();
+
+    /**
+     * Staff code and id of every staff member with a code: [staffCode, id].
+     */
+    @Query("SELECT s.staffCode, s.id FROM Staff s WHERE s.staffCode IS NOT NULL")
+    List<Object[]> findStaffCodes();
 }
@@ -0,0 +1,19 @@
+package com.school.academic.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Custom Staff queries that need a dynamic select list.
+ */
+public interface StaffRepositoryCustom {
+
+    /**
+     * Page through staff selecting only the given attributes. Each tuple element
+     * is aliased by its attribute name. Sort properties must be Staff attributes.
+     */
+    Page<Tuple> findAttributes(List<String> attributes, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.school.academic.repository;
+
+/**
+ * Query hint values for repository methods that return a {@code Stream<>}.
+ */
+public final class StreamingQueries {
+
+    /**
+     * Fetch size that makes MySQL Connector/J stream a result set row by row instead of
+     * reading it into memory ({@code Integer.MIN_VALUE}). Applies only to the query that
+     * carries the hint; the connection must not run other statements until the stream is
+     * closed, so streamed entities must not lazy-load associations.
+     */
+    public static final String ROW_BY_ROW = "-2147483648";
+
+    private StreamingQueries() {
+    }
+}
@@ -2,8 +2,11 @@ package com.school.academic.repository;
 
 import com.school.academic.domain.StudentParent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +20,33 @@ public interface StudentParentRepository extends JpaRepository<StudentParent, St
      */
     List<StudentParent> findByStudentId(Long studentId);
 
+    /**
+     * Find all guardians for multiple students, with the parent loaded.
+     */
+    @Query("SELECT sp FROM StudentParent sp " +
+            "JOIN FETCH sp.parent " +
+            "WHERE sp.student.id IN :studentIds")
+    List<StudentParent> findByStudentIdsWithParent(@Param("studentIds") List<Long> studentIds);
+
+    /**
+     * Find the guardians of every student enrolled in an academic year, with the parent loaded.
+     */
+    @Query("SELECT sp FROM StudentParent sp " +
+            "JOIN FETCH sp.parent " +
+            "WHERE sp.student.id IN (SELECT e.student.id FROM Enrollment e WHERE e.academicYear.id = :academicYearId)")
+    List<StudentParent> findByAcademicYearIdWithParent(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find the guardians of every student enrolled in some class sections of an academic year,
+     * with the parent loaded.
+     */
+    @Query("SELECT sp FROM StudentParent sp " +
+            "JOIN FETCH sp.parent " +
+            "WHERE sp.student.id IN (SELECT e.student.id FROM Enrollment e " +
+            "WHERE e.academicYear.id = :academicYearId AND e.classSection.id IN :classSectionIds)")
+    List<StudentParent> findByClassSectionIdsWithParent(@Param("academicYearId") Long academicYearId,
+                                                        @Param("classSectionIds") Collection<Long> classSectionIds);
+
     /**
      * Find all students for a parent.
      */
@@ -26,4 +56,11 @@ public interface StudentParentRepository extends JpaRepository<StudentParent, St
      * Check if link exists.
      */
     boolean existsByStudentIdAndParentId(Long studentId, Long parentId);
+
+    /**
+     * Parent id, student id, first name, last name and admission number of every guardian link.
+     */
+    @Query("SELECT sp.parent.id, s.id, s.firstName, s.lastName, s.admissionNumber " +
+            "FROM StudentParent sp JOIN sp.student s")
+    List<Object[]> findGuardianRows();
 }
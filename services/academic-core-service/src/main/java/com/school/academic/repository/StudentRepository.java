@@ -1,13 +1,17 @@
 package com.school.academic.repository;
 
 import com.school.academic.domain.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Student entity.
@@ -45,4 +49,15 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByClassSectionAndAcademicYear(
             @Param("classSectionId") Long classSectionId,
             @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Stream all students for export, ordered by admission number.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.ROW_BY_ROW),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s ORDER BY s.admissionNumber")
+    Stream<Student> streamAllForExport();
 }
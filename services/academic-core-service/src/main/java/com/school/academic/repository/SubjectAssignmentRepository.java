@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for SubjectAssignment entity.
@@ -44,4 +45,37 @@ public interface SubjectAssignmentRepository extends JpaRepository<SubjectAssign
             @Param("subjectId") Long subjectId,
             @Param("classId") Long classId,
             @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Check if subject is taught to a section: assigned to its whole class or to the section itself.
+     */
+    @Query("SELECT COUNT(sa) > 0 FROM SubjectAssignment sa " +
+            "WHERE sa.subject.id = :subjectId " +
+            "AND sa.gradeClass.id = :classId " +
+            "AND sa.academicYear.id = :academicYearId " +
+            "AND (sa.section IS NULL OR sa.section.id = :sectionId)")
+    boolean existsSubjectAssignmentForClassSection(
+            @Param("subjectId") Long subjectId,
+            @Param("classId") Long classId,
+            @Param("sectionId") Long sectionId,
+            @Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find subject assignment with all associations loaded.
+     */
+    @Query("SELECT sa FROM SubjectAssignment sa " +
+            "JOIN FETCH sa.subject " +
+            "JOIN FETCH sa.gradeClass " +
+            "LEFT JOIN FETCH sa.section " +
+            "WHERE sa.id = :id")
+    Optional<SubjectAssignment> findByIdWithAssociations(@Param("id") Long id);
+
+    /**
+     * Find subject assignments with a timetable load for an academic year.
+     */
+    @Query("SELECT sa FROM SubjectAssignment sa " +
+            "JOIN FETCH sa.subject " +
+            "LEFT JOIN FETCH sa.section " +
+            "WHERE sa.academicYear.id = :academicYearId AND sa.periodsPerWeek > 0")
+    List<SubjectAssignment> findScheduledByAcademicYearId(@Param("academicYearId") Long academicYearId);
 }
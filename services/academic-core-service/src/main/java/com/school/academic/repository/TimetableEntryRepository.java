@@ -0,0 +1,53 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.TimetableEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for TimetableEntry entity.
+ */
+@Repository
+public interface TimetableEntryRepository extends JpaRepository<TimetableEntry, Long> {
+
+    /**
+     * Find the entries of a timetable as [id, classSectionId, subjectId, staffId, classroomId, dayOfWeek, period].
+     */
+    @Query("SELECT e.id, e.classSection.id, e.subject.id, e.staff.id, e.classroom.id, e.dayOfWeek, e.period " +
+            "FROM TimetableEntry e WHERE e.timetable.id = :timetableId")
+    List<Object[]> findPlacementsByTimetableId(@Param("timetableId") Long timetableId);
+
+    /**
+     * Find the entries of a timetable, optionally narrowed to one class section, staff member or classroom.
+     */
+    @Query("SELECT e FROM TimetableEntry e " +
+            "JOIN FETCH e.classSection cs " +
+            "JOIN FETCH cs.gradeClass " +
+            "JOIN FETCH cs.section " +
+            "JOIN FETCH e.subject " +
+            "JOIN FETCH e.staff " +
+            "JOIN FETCH e.classroom " +
+            "WHERE e.timetable.id = :timetableId " +
+            "AND (:classSectionId IS NULL OR cs.id = :classSectionId) " +
+            "AND (:staffId IS NULL OR e.staff.id = :staffId) " +
+            "AND (:classroomId IS NULL OR e.classroom.id = :classroomId) " +
+            "ORDER BY e.dayOfWeek, e.period, cs.id")
+    List<TimetableEntry> findByTimetableId(
+            @Param("timetableId") Long timetableId,
+            @Param("classSectionId") Long classSectionId,
+            @Param("staffId") Long staffId,
+            @Param("classroomId") Long classroomId);
+
+    /**
+     * Delete entries by id.
+     */
+    @Modifying
+    @Query("DELETE FROM TimetableEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,31 @@
+package com.school.academic.repository;
+
+import com.school.academic.domain.Timetable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for Timetable entity.
+ */
+@Repository
+public interface TimetableRepository extends JpaRepository<Timetable, Long> {
+
+    /**
+     * Find the timetable of an academic year.
+     */
+    @Query("SELECT t FROM Timetable t WHERE t.academicYear.id = :academicYearId")
+    Optional<Timetable> findByAcademicYearId(@Param("academicYearId") Long academicYearId);
+
+    /**
+     * Find the timetable of an academic year, locked until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Timetable t WHERE t.academicYear.id = :academicYearId")
+    Optional<Timetable> findByAcademicYearIdForUpdate(@Param("academicYearId") Long academicYearId);
+}
@@ -11,6 +11,7 @@ import com.school.academic.dto.response.ClassSectionResponse;
 import com.school.academic.dto.response.SectionResponse;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AcademicStructureService {
@@ -20,6 +21,8 @@ public interface AcademicStructureService {
 
     AcademicYearResponse createAcademicYear(CreateAcademicYearRequest request);
 
+    Optional<UUID> getActiveAcademicYearId();
+
     // Classes
     List<ClassResponse> listClasses();
 
@@ -0,0 +1,15 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.AcademicYearRolloverRequest;
+import com.school.academic.dto.response.AcademicYearRolloverResponse;
+
+import java.util.UUID;
+
+public interface AcademicYearRolloverService {
+
+    /**
+     * Copy the source year's class sections, subject assignments and staff assignments
+     * into the target year. A dry run returns the same diff and rolls back.
+     */
+    AcademicYearRolloverResponse rollover(UUID targetAcademicYearId, AcademicYearRolloverRequest request);
+}
@@ -0,0 +1,21 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.MarkAttendanceRequest;
+import com.school.academic.dto.response.AttendanceDayResponse;
+import com.school.academic.dto.response.SectionAttendanceSummaryResponse;
+import com.school.academic.dto.response.StudentAttendanceSummaryResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface AttendanceService {
+
+    AttendanceDayResponse markAttendance(UUID classSectionId, LocalDate date, MarkAttendanceRequest request);
+
+    AttendanceDayResponse getAttendance(UUID classSectionId, LocalDate date);
+
+    SectionAttendanceSummaryResponse getSectionSummary(UUID classSectionId, LocalDate fromDate, LocalDate toDate);
+
+    StudentAttendanceSummaryResponse getStudentSummary(UUID studentId, UUID academicYearId, LocalDate fromDate,
+                                                       LocalDate toDate);
+}
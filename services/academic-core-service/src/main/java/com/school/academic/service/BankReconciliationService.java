@@ -0,0 +1,24 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.PostReviewItemRequest;
+import com.school.academic.dto.response.BankStatementRunResponse;
+import com.school.academic.dto.response.PaymentReviewItemResponse;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface BankReconciliationService {
+
+    BankStatementRunResponse reconcile(InputStream content, String fileName, String format);
+
+    List<BankStatementRunResponse> getRuns();
+
+    BankStatementRunResponse getRun(UUID runId);
+
+    List<PaymentReviewItemResponse> getReviewItems(String status, UUID statementRunId);
+
+    PaymentReviewItemResponse postReviewItem(UUID reviewItemId, PostReviewItemRequest request);
+
+    PaymentReviewItemResponse dismissReviewItem(UUID reviewItemId);
+}
@@ -3,6 +3,7 @@ package com.school.academic.service;
 import com.school.academic.dto.request.CreateStaffAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectRequest;
+import com.school.academic.dto.request.UpdateSubjectAssignmentRequest;
 import com.school.academic.dto.response.StaffAssignmentResponse;
 import com.school.academic.dto.response.SubjectAssignmentResponse;
 import com.school.academic.dto.response.SubjectResponse;
@@ -22,6 +23,8 @@ public interface CurriculumService {
 
     SubjectAssignmentResponse createSubjectAssignment(CreateSubjectAssignmentRequest request);
 
+    SubjectAssignmentResponse updateSubjectAssignment(UUID id, UpdateSubjectAssignmentRequest request);
+
     // Staff Assignments
     StaffAssignmentResponse createStaffAssignment(CreateStaffAssignmentRequest request);
 }
@@ -0,0 +1,24 @@
+package com.school.academic.service;
+
+import com.school.academic.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface ExportService {
+
+    /**
+     * Validate the class section and academic year and return the export file base name.
+     */
+    String resolveRosterFileName(UUID classSectionId, UUID academicYearId);
+
+    void exportClassRoster(UUID classSectionId, UUID academicYearId, ExportFormat format, OutputStream out)
+            throws IOException;
+
+    void exportStudents(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportStaff(ExportFormat format, OutputStream out) throws IOException;
+
+    void exportParents(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.CreateFeeStructureRequest;
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.request.RecordPaymentRequest;
+import com.school.academic.dto.response.FeeAccountResponse;
+import com.school.academic.dto.response.FeeInvoiceResponse;
+import com.school.academic.dto.response.FeeInvoiceRunResponse;
+import com.school.academic.dto.response.FeePaymentResponse;
+import com.school.academic.dto.response.FeeStructureResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface FeeService {
+
+    FeeStructureResponse createFeeStructure(CreateFeeStructureRequest request);
+
+    List<FeeStructureResponse> getFeeStructures(UUID academicYearId);
+
+    FeeInvoiceRunResponse runInvoices(CreateInvoiceRunRequest request);
+
+    List<FeeInvoiceRunResponse> getInvoiceRuns(UUID academicYearId);
+
+    List<FeeInvoiceResponse> getInvoices(UUID studentId, UUID academicYearId);
+
+    FeeInvoiceResponse getInvoice(UUID invoiceId);
+
+    FeeInvoiceResponse recordPayment(UUID invoiceId, RecordPaymentRequest request);
+
+    List<FeePaymentResponse> getPayments(String admissionNumber);
+
+    FeeAccountResponse getAccount(UUID studentId, UUID academicYearId);
+
+    List<FeeAccountResponse> getOutstanding(UUID academicYearId, UUID classSectionId);
+}
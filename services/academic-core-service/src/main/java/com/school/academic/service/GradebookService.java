@@ -0,0 +1,30 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.CreateExamRequest;
+import com.school.academic.dto.request.SubmitMarksRequest;
+import com.school.academic.dto.response.ExamResponse;
+import com.school.academic.dto.response.ExamResultsResponse;
+import com.school.academic.dto.response.MarksSheetResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface GradebookService {
+
+    ExamResponse createExam(CreateExamRequest request);
+
+    List<ExamResponse> getExamsByAcademicYear(UUID academicYearId);
+
+    MarksSheetResponse submitMarks(UUID examId, UUID classSectionId, UUID subjectId, SubmitMarksRequest request);
+
+    MarksSheetResponse getMarks(UUID examId, UUID classSectionId, UUID subjectId);
+
+    ExamResultsResponse getResults(UUID examId, UUID classSectionId);
+
+    /**
+     * Results of some class sections of an exam, or of all of them when {@code classSectionIds} is
+     * empty. Sections outside the exam's academic year are ignored.
+     */
+    ExamResultsResponse getResultsForSections(UUID examId, Collection<UUID> classSectionIds);
+}
@@ -0,0 +1,34 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.GenerateReportCardsRequest;
+import com.school.academic.dto.response.ReportCardJobResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportCardService {
+
+    /**
+     * Validate the request and render the cards into the report-card directory in the background.
+     */
+    ReportCardJobResponse startDirectoryJob(GenerateReportCardsRequest request);
+
+    /**
+     * Validate the request and register a ZIP job; the cards are rendered when the ZIP is written.
+     */
+    ReportCardJobResponse prepareZip(GenerateReportCardsRequest request);
+
+    void writeZip(UUID jobId, OutputStream out) throws IOException;
+
+    /**
+     * Progress of a job, as last recorded by the node running it; any node can answer.
+     */
+    ReportCardJobResponse getJob(UUID jobId);
+
+    /**
+     * The 50 most recent jobs of every node, newest first.
+     */
+    List<ReportCardJobResponse> getJobs();
+}
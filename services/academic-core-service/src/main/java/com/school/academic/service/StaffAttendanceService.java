@@ -0,0 +1,16 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.response.PunchFileIngestResponse;
+import com.school.academic.dto.response.StaffAttendanceDayResponse;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface StaffAttendanceService {
+
+    PunchFileIngestResponse ingestPunchFile(InputStream content, String fileName);
+
+    List<StaffAttendanceDayResponse> getStaffAttendance(LocalDate fromDate, LocalDate toDate, UUID staffId);
+}
@@ -2,8 +2,11 @@ package com.school.academic.service;
 
 import com.school.academic.dto.request.CreateStaffRequest;
 import com.school.academic.dto.response.StaffAssignmentResponse;
+import com.school.academic.dto.response.StaffPageResponse;
 import com.school.academic.dto.response.StaffResponse;
 
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +14,11 @@ public interface StaffService {
 
     List<StaffResponse> listStaff();
 
+    /**
+     * List a page of staff, selecting only the comma-separated {@code fields} (all fields when blank).
+     */
+    StaffPageResponse listStaffPage(String fields, Pageable pageable);
+
     StaffResponse createStaff(CreateStaffRequest request);
 
     List<StaffAssignmentResponse> getStaffAssignments(UUID staffId, UUID academicYearId);
@@ -2,6 +2,8 @@ package com.school.academic.service;
 
 import com.school.academic.dto.request.CreateStudentRequest;
 import com.school.academic.dto.request.LinkGuardianRequest;
+import com.school.academic.dto.request.StudentProfileBatchRequest;
+import com.school.academic.dto.response.StudentProfileResponse;
 import com.school.academic.dto.response.StudentResponse;
 
 import java.util.List;
@@ -16,5 +18,9 @@ public interface StudentService {
     StudentResponse getStudentById(UUID id);
 
     void linkGuardian(UUID studentId, LinkGuardianRequest request);
+
+    StudentProfileResponse getStudentProfile(UUID id);
+
+    List<StudentProfileResponse> getStudentProfiles(StudentProfileBatchRequest request);
 }
 
@@ -0,0 +1,24 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.GenerateTimetableRequest;
+import com.school.academic.dto.response.TimetableEntryResponse;
+import com.school.academic.dto.response.TimetableResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TimetableService {
+
+    /**
+     * Build the year's timetable from scratch.
+     */
+    TimetableResponse generateTimetable(GenerateTimetableRequest request);
+
+    /**
+     * Bring the year's timetable in line with changed assignments, moving as few periods as possible.
+     */
+    TimetableResponse resolveTimetable(UUID academicYearId);
+
+    List<TimetableEntryResponse> listTimetableEntries(UUID academicYearId, UUID classSectionId, UUID staffId,
+                                                      UUID classroomId);
+}
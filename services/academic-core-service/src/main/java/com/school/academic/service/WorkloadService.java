@@ -0,0 +1,14 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.response.StaffWorkloadResponse;
+import com.school.academic.dto.response.WorkloadReportResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WorkloadService {
+
+    WorkloadReportResponse getWorkloadReport(UUID academicYearId);
+
+    List<StaffWorkloadResponse> getStaffWorkloads(UUID academicYearId);
+}
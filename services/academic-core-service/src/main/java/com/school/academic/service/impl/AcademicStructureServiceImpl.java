@@ -1,5 +1,8 @@
 package com.school.academic.service.impl;
 
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.config.CacheConfig;
 import com.school.academic.domain.*;
 import com.school.academic.dto.request.CreateAcademicYearRequest;
 import com.school.academic.dto.request.CreateClassRequest;
@@ -16,10 +19,12 @@ import com.school.academic.repository.*;
 import com.school.academic.service.AcademicStructureService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,25 +40,29 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
     private final ClassSectionRepository classSectionRepository;
     private final StaffRepository staffRepository;
     private final ClassroomRepository classroomRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public AcademicStructureServiceImpl(AcademicYearRepository academicYearRepository,
                                         GradeClassRepository gradeClassRepository,
                                         SectionRepository sectionRepository,
                                         ClassSectionRepository classSectionRepository,
                                         StaffRepository staffRepository,
-                                        ClassroomRepository classroomRepository) {
+                                        ClassroomRepository classroomRepository,
+                                        CacheInvalidationBus cacheInvalidationBus) {
         this.academicYearRepository = academicYearRepository;
         this.gradeClassRepository = gradeClassRepository;
         this.sectionRepository = sectionRepository;
         this.classSectionRepository = classSectionRepository;
         this.staffRepository = staffRepository;
         this.classroomRepository = classroomRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     // ==================== Academic Years ====================
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ACADEMIC_YEARS, sync = true)
     public List<AcademicYearResponse> listAcademicYears() {
         log.debug("Listing all academic years");
         return academicYearRepository.findAll().stream()
@@ -82,14 +91,28 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
         AcademicYear saved = academicYearRepository.save(academicYear);
         log.info("Created academic year with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.ACADEMIC_YEARS);
 
         return toAcademicYearResponse(saved);
     }
 
+    /**
+     * Id of the active academic year. Only the id is cached, never the entity, so no
+     * detached AcademicYear instance is shared between threads or persistence contexts.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_ACADEMIC_YEAR, sync = true)
+    public Optional<UUID> getActiveAcademicYearId() {
+        return academicYearRepository.findByIsActiveTrue()
+                .map(academicYear -> longToUuid(academicYear.getId()));
+    }
+
     // ==================== Classes ====================
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CLASSES, sync = true)
     public List<ClassResponse> listClasses() {
         log.debug("Listing all classes");
         return gradeClassRepository.findAllByOrderByLevelOrderAsc().stream()
@@ -117,6 +140,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
         GradeClass saved = gradeClassRepository.save(gradeClass);
         log.info("Created class with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.CLASSES);
 
         return toClassResponse(saved);
     }
@@ -125,6 +149,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SECTIONS, sync = true)
     public List<SectionResponse> listSections() {
         log.debug("Listing all sections");
         return sectionRepository.findAll().stream()
@@ -149,6 +174,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
         Section saved = sectionRepository.save(section);
         log.info("Created section with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.SECTIONS);
 
         return toSectionResponse(saved);
     }
@@ -157,6 +183,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CLASS_SECTIONS, key = "{#academicYearId, #classId}", sync = true)
     public List<ClassSectionResponse> listClassSections(UUID academicYearId, UUID classId) {
         log.debug("Listing class sections for academicYearId: {}, classId: {}", academicYearId, classId);
 
@@ -208,6 +235,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
         ClassSection saved = classSectionRepository.save(classSection);
         log.info("Created class section with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.CLASS_SECTIONS);
 
         return toClassSectionResponse(saved);
     }
@@ -244,6 +272,7 @@ public class AcademicStructureServiceImpl implements AcademicStructureService {
 
         ClassSection saved = classSectionRepository.save(classSection);
         log.info("Updated class section: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.CLASS_SECTIONS);
 
         return toClassSectionResponse(saved);
     }
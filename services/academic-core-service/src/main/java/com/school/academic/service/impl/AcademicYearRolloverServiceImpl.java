@@ -0,0 +1,185 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.dto.request.AcademicYearRolloverRequest;
+import com.school.academic.dto.request.RolloverMappingRequest;
+import com.school.academic.dto.response.AcademicYearRolloverResponse;
+import com.school.academic.dto.response.RolloverTableResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.AcademicYearRepository;
+import com.school.academic.repository.AcademicYearRolloverRepository;
+import com.school.academic.repository.ClassroomRepository;
+import com.school.academic.repository.StaffRepository;
+import com.school.academic.service.AcademicYearRolloverService;
+import com.school.academic.workload.WorkloadModel;
+import com.school.academic.workload.WorkloadModels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Year rollover: one transaction of three {@code INSERT ... SELECT} statements.
+ *
+ * Class sections go first so staff assignments can find their target class
+ * section by class and section, and subject assignments before staff
+ * assignments so the curriculum rule holds for the copied rows. Rows the
+ * target year already has are left alone. The copies must not take a teacher
+ * over the weekly limit in the target year (remapping two teachers onto one
+ * can), which is checked against workload models built before and after them.
+ * A dry run executes the same statements and rolls back, so its diff is
+ * exactly what a real run creates.
+ */
+@Service
+@Transactional
+public class AcademicYearRolloverServiceImpl implements AcademicYearRolloverService {
+
+    private static final Logger log = LoggerFactory.getLogger(AcademicYearRolloverServiceImpl.class);
+
+    private static final String CREATED_BY = "ROLLOVER";
+
+    private final AcademicYearRepository academicYearRepository;
+    private final StaffRepository staffRepository;
+    private final ClassroomRepository classroomRepository;
+    private final AcademicYearRolloverRepository rolloverRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final WorkloadModels workloadModels;
+
+    public AcademicYearRolloverServiceImpl(AcademicYearRepository academicYearRepository,
+                                           StaffRepository staffRepository,
+                                           ClassroomRepository classroomRepository,
+                                           AcademicYearRolloverRepository rolloverRepository,
+                                           CacheInvalidationBus cacheInvalidationBus,
+                                           WorkloadModels workloadModels) {
+        this.academicYearRepository = academicYearRepository;
+        this.staffRepository = staffRepository;
+        this.classroomRepository = classroomRepository;
+        this.rolloverRepository = rolloverRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.workloadModels = workloadModels;
+    }
+
+    @Override
+    public AcademicYearRolloverResponse rollover(UUID targetAcademicYearId, AcademicYearRolloverRequest request) {
+        long started = System.nanoTime();
+        Long sourceYearId = uuidToLong(request.getSourceAcademicYearId());
+        Long targetYearId = uuidToLong(targetAcademicYearId);
+        log.info("Rolling over academic year {} into {}{}", request.getSourceAcademicYearId(), targetAcademicYearId,
+                request.isDryRun() ? " (dry run)" : "");
+
+        if (sourceYearId.equals(targetYearId)) {
+            throw new BusinessRuleException("INVALID_ROLLOVER", "Source and target academic years must differ");
+        }
+        if (!academicYearRepository.existsById(sourceYearId)) {
+            throw new ResourceNotFoundException("Source academic year not found");
+        }
+        if (!academicYearRepository.existsById(targetYearId)) {
+            throw new ResourceNotFoundException("Target academic year not found");
+        }
+        Map<Long, Long> staffMappings = toMappings(request.getStaffMappings(), staffRepository, "Staff");
+        Map<Long, Long> classroomMappings = toMappings(request.getClassroomMappings(), classroomRepository, "Classroom");
+
+        AcademicYearRolloverResponse response = new AcademicYearRolloverResponse();
+        response.setSourceAcademicYearId(longToUuid(sourceYearId));
+        response.setTargetAcademicYearId(longToUuid(targetYearId));
+        response.setDryRun(request.isDryRun());
+
+        WorkloadModel workloadBefore = workloadModels.build(targetYearId);
+        response.setClassSections(copy("class_section", sourceYearId,
+                () -> rolloverRepository.copyClassSections(sourceYearId, targetYearId, staffMappings, classroomMappings, CREATED_BY),
+                afterId -> rolloverRepository.describeClassSections(targetYearId, afterId)));
+        response.setSubjectAssignments(copy("subject_assignment", sourceYearId,
+                () -> rolloverRepository.copySubjectAssignments(sourceYearId, targetYearId, CREATED_BY),
+                afterId -> rolloverRepository.describeSubjectAssignments(targetYearId, afterId)));
+        if (request.isIncludeStaffAssignments()) {
+            response.setStaffAssignments(copy("staff_assignment", sourceYearId,
+                    () -> rolloverRepository.copyStaffAssignments(sourceYearId, targetYearId, staffMappings, CREATED_BY),
+                    afterId -> rolloverRepository.describeStaffAssignments(targetYearId, afterId)));
+        }
+
+        // INVARIANT: A teacher's share of weekly periods cannot exceed the configured maximum
+        List<WorkloadModel.StaffLoad> overloaded = workloadModels.build(targetYearId).overloadedSince(workloadBefore);
+        if (!overloaded.isEmpty()) {
+            throw new BusinessRuleException("STAFF_OVERLOADED", overloaded.stream()
+                    .map(load -> "Staff '" + load.name() + "' would teach " + load.periodsPerWeek() + " periods a week")
+                    .collect(Collectors.joining("; ")) + " after the rollover; the limit is "
+                    + workloadBefore.getMaxPeriodsPerWeek());
+        }
+
+        if (request.isDryRun()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        } else {
+            cacheInvalidationBus.bump(CacheRegion.CLASS_SECTIONS);
+            cacheInvalidationBus.bump(CacheRegion.SUBJECT_ASSIGNMENTS);
+            cacheInvalidationBus.bump(CacheRegion.STAFF_ASSIGNMENTS);
+        }
+
+        response.setDurationMillis((System.nanoTime() - started) / 1_000_000);
+        log.info("Rollover into {}{}: {} class sections, {} subject assignments, {} staff assignments in {} ms",
+                targetAcademicYearId, request.isDryRun() ? " (dry run)" : "",
+                response.getClassSections().getCreatedCount(), response.getSubjectAssignments().getCreatedCount(),
+                response.getStaffAssignments() != null ? response.getStaffAssignments().getCreatedCount() : 0,
+                response.getDurationMillis());
+        return response;
+    }
+
+    private RolloverTableResponse copy(String table, long sourceYearId, LongSupplier insert,
+                                       LongFunction<List<String>> describe) {
+        long sourceCount = rolloverRepository.countRows(table, sourceYearId);
+        long afterId = rolloverRepository.maxId(table);
+        long created = insert.getAsLong();
+        return new RolloverTableResponse(sourceCount, created, sourceCount - created, describe.apply(afterId));
+    }
+
+    /**
+     * Resolve old-to-new id mappings, checking that each replacement exists.
+     */
+    private Map<Long, Long> toMappings(List<RolloverMappingRequest> mappings, JpaRepository<?, Long> repository,
+                                       String entityName) {
+        Map<Long, Long> resolved = new LinkedHashMap<>();
+        if (mappings == null) {
+            return resolved;
+        }
+        for (RolloverMappingRequest mapping : mappings) {
+            Long from = uuidToLong(mapping.getFromId());
+            if (resolved.containsKey(from)) {
+                throw new BusinessRuleException("INVALID_ROLLOVER",
+                        entityName + " " + mapping.getFromId() + " is mapped more than once");
+            }
+            resolved.put(from, uuidToLong(mapping.getToId()));
+        }
+        Set<Long> replacements = new HashSet<>(resolved.values());
+        replacements.remove(null);
+        if (repository.findAllById(replacements).size() != replacements.size()) {
+            throw new ResourceNotFoundException(entityName + " mapping refers to a " + entityName.toLowerCase()
+                    + " that does not exist");
+        }
+        return resolved;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+}
@@ -0,0 +1,262 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.attendance.AttendanceBitmap;
+import com.school.academic.attendance.AttendanceStatus;
+import com.school.academic.attendance.AttendanceTally;
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.MarkAttendanceRequest;
+import com.school.academic.dto.response.*;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.AttendanceDayRepository;
+import com.school.academic.repository.ClassSectionRepository;
+import com.school.academic.repository.EnrollmentRepository;
+import com.school.academic.service.AttendanceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class AttendanceServiceImpl implements AttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceServiceImpl.class);
+
+    private final AttendanceDayRepository attendanceDayRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    public AttendanceServiceImpl(AttendanceDayRepository attendanceDayRepository,
+                                 ClassSectionRepository classSectionRepository,
+                                 EnrollmentRepository enrollmentRepository) {
+        this.attendanceDayRepository = attendanceDayRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    @Override
+    public AttendanceDayResponse markAttendance(UUID classSectionId, LocalDate date, MarkAttendanceRequest request) {
+        log.info("Marking attendance for classSectionId: {} on {}", classSectionId, date);
+
+        ClassSection classSection = findClassSection(classSectionId);
+        AcademicYear year = classSection.getAcademicYear();
+        if (date.isAfter(LocalDate.now())) {
+            throw new BusinessRuleException("INVALID_ATTENDANCE_DATE", "Attendance cannot be marked for a future date");
+        }
+        if (date.isBefore(year.getStartDate()) || date.isAfter(year.getEndDate())) {
+            throw new BusinessRuleException("INVALID_ATTENDANCE_DATE",
+                    "Date " + date + " is outside academic year " + year.getName());
+        }
+
+        List<Enrollment> roster = enrollmentRepository
+                .findActiveByClassSectionIdAndAcademicYearId(classSection.getId(), year.getId());
+        if (roster.isEmpty()) {
+            throw new BusinessRuleException("EMPTY_ROSTER", "Class section has no active enrollments");
+        }
+        long withoutRollNumber = roster.stream().filter(e -> e.getRollNumber() == null).count();
+        if (withoutRollNumber > 0) {
+            throw new BusinessRuleException("ROLL_NUMBER_MISSING",
+                    withoutRollNumber + " active students have no roll number; assign roll numbers first");
+        }
+
+        AttendanceBitmap bitmap;
+        try {
+            bitmap = AttendanceBitmap.mark(roster.stream().map(Enrollment::getRollNumber).toList(),
+                    request.getAbsentRollNumbers(), request.getLateRollNumbers());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("INVALID_ATTENDANCE", e.getMessage());
+        }
+
+        // The whole section is one row, inserted or replaced in a single statement
+        attendanceDayRepository.upsert(classSection.getId(), year.getId(), date,
+                bitmap.markedBytes(), bitmap.absentBytes(), bitmap.lateBytes());
+
+        log.info("Marked attendance for {} on {}: {} present, {} absent, {} late",
+                classSection.getDisplayName(), date, bitmap.presentCount(), bitmap.absentCount(), bitmap.lateCount());
+        return toAttendanceDayResponse(classSection, date, bitmap, roster);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceDayResponse getAttendance(UUID classSectionId, LocalDate date) {
+        log.debug("Getting attendance for classSectionId: {} on {}", classSectionId, date);
+
+        ClassSection classSection = findClassSection(classSectionId);
+        AttendanceDay day = attendanceDayRepository.findByClassSectionIdAndDate(classSection.getId(), date)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Attendance not marked for class section " + classSectionId + " on " + date));
+        List<Enrollment> enrollments = enrollmentRepository.findByClassSectionIdAndAcademicYearId(
+                classSection.getId(), classSection.getAcademicYear().getId());
+        return toAttendanceDayResponse(classSection, date, toBitmap(day), enrollments);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SectionAttendanceSummaryResponse getSectionSummary(UUID classSectionId, LocalDate fromDate, LocalDate toDate) {
+        log.debug("Getting attendance summary for classSectionId: {} from {} to {}", classSectionId, fromDate, toDate);
+
+        ClassSection classSection = findClassSection(classSectionId);
+        LocalDate from = fromDate != null ? fromDate : classSection.getAcademicYear().getStartDate();
+        LocalDate to = toDate != null ? toDate : classSection.getAcademicYear().getEndDate();
+        List<DayBitmap> days = loadDays(classSection.getId(), from, to);
+
+        // Section totals are popcounts of each day's bitmaps
+        AttendanceTally total = new AttendanceTally();
+        Map<YearMonth, AttendanceTally> months = new TreeMap<>();
+        for (DayBitmap day : days) {
+            total.add(day.bitmap());
+            months.computeIfAbsent(YearMonth.from(day.date()), month -> new AttendanceTally()).add(day.bitmap());
+        }
+
+        List<StudentAttendanceSummaryResponse> students = enrollmentRepository
+                .findByClassSectionIdAndAcademicYearId(classSection.getId(), classSection.getAcademicYear().getId())
+                .stream()
+                .filter(e -> e.getRollNumber() != null)
+                .sorted(Comparator.comparing(Enrollment::getRollNumber))
+                .map(e -> {
+                    AttendanceTally tally = new AttendanceTally();
+                    days.forEach(day -> tally.add(day.bitmap().statusOf(e.getRollNumber())));
+                    StudentAttendanceSummaryResponse response = new StudentAttendanceSummaryResponse();
+                    response.setStudentId(longToUuid(e.getStudent().getId()));
+                    response.setStudentName(e.getStudent().getFullName());
+                    response.setRollNumber(e.getRollNumber());
+                    response.setTotal(toCountsResponse(null, tally));
+                    return response;
+                })
+                .collect(Collectors.toList());
+
+        SectionAttendanceSummaryResponse response = new SectionAttendanceSummaryResponse();
+        response.setClassSectionId(longToUuid(classSection.getId()));
+        response.setClassSectionName(classSection.getDisplayName());
+        response.setFromDate(from);
+        response.setToDate(to);
+        response.setDaysMarked(days.size());
+        response.setTotal(toCountsResponse(null, total));
+        response.setMonths(toCountsResponses(months));
+        response.setStudents(students);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentAttendanceSummaryResponse getStudentSummary(UUID studentId, UUID academicYearId, LocalDate fromDate,
+                                                              LocalDate toDate) {
+        log.debug("Getting attendance summary for studentId: {} in academicYearId: {}", studentId, academicYearId);
+
+        Enrollment enrollment = enrollmentRepository
+                .findByStudentIdAndAcademicYearId(uuidToLong(studentId), uuidToLong(academicYearId))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Enrollment not found for student " + studentId + " in academic year " + academicYearId));
+        ClassSection classSection = classSectionRepository.findByIdWithAssociations(enrollment.getClassSection().getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Class section not found for enrollment"));
+        LocalDate from = fromDate != null ? fromDate : classSection.getAcademicYear().getStartDate();
+        LocalDate to = toDate != null ? toDate : classSection.getAcademicYear().getEndDate();
+
+        AttendanceTally total = new AttendanceTally();
+        Map<YearMonth, AttendanceTally> months = new TreeMap<>();
+        if (enrollment.getRollNumber() != null) {
+            for (DayBitmap day : loadDays(classSection.getId(), from, to)) {
+                AttendanceStatus status = day.bitmap().statusOf(enrollment.getRollNumber());
+                total.add(status);
+                months.computeIfAbsent(YearMonth.from(day.date()), month -> new AttendanceTally()).add(status);
+            }
+        }
+
+        StudentAttendanceSummaryResponse response = new StudentAttendanceSummaryResponse();
+        response.setStudentId(studentId);
+        response.setStudentName(enrollment.getStudent().getFullName());
+        response.setRollNumber(enrollment.getRollNumber());
+        response.setClassSectionId(longToUuid(classSection.getId()));
+        response.setClassSectionName(classSection.getDisplayName());
+        response.setFromDate(from);
+        response.setToDate(to);
+        response.setTotal(toCountsResponse(null, total));
+        response.setMonths(toCountsResponses(months));
+        return response;
+    }
+
+    // ==================== Helpers ====================
+
+    private ClassSection findClassSection(UUID classSectionId) {
+        return classSectionRepository.findByIdWithAssociations(uuidToLong(classSectionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Class section not found with id: " + classSectionId));
+    }
+
+    private List<DayBitmap> loadDays(Long classSectionId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        return attendanceDayRepository.findByClassSectionIdBetween(classSectionId, from, to).stream()
+                .map(day -> new DayBitmap(day.getAttendanceDate(), toBitmap(day)))
+                .toList();
+    }
+
+    private AttendanceBitmap toBitmap(AttendanceDay day) {
+        return AttendanceBitmap.fromBytes(day.getMarkedBits(), day.getAbsentBits(), day.getLateBits());
+    }
+
+    // ==================== Mappers ====================
+
+    private AttendanceDayResponse toAttendanceDayResponse(ClassSection classSection, LocalDate date,
+                                                          AttendanceBitmap bitmap, List<Enrollment> enrollments) {
+        AttendanceDayResponse response = new AttendanceDayResponse();
+        response.setClassSectionId(longToUuid(classSection.getId()));
+        response.setClassSectionName(classSection.getDisplayName());
+        response.setDate(date);
+        response.setMarked(bitmap.markedCount());
+        response.setPresent(bitmap.presentCount());
+        response.setAbsent(bitmap.absentCount());
+        response.setLate(bitmap.lateCount());
+        response.setStudents(enrollments.stream()
+                .filter(e -> e.getRollNumber() != null && bitmap.statusOf(e.getRollNumber()) != null)
+                .sorted(Comparator.comparing(Enrollment::getRollNumber))
+                .map(e -> {
+                    AttendanceMarkResponse mark = new AttendanceMarkResponse();
+                    mark.setStudentId(longToUuid(e.getStudent().getId()));
+                    mark.setStudentName(e.getStudent().getFullName());
+                    mark.setRollNumber(e.getRollNumber());
+                    mark.setStatus(bitmap.statusOf(e.getRollNumber()));
+                    return mark;
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private List<AttendanceCountsResponse> toCountsResponses(Map<YearMonth, AttendanceTally> months) {
+        return months.entrySet().stream()
+                .map(entry -> toCountsResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private AttendanceCountsResponse toCountsResponse(YearMonth month, AttendanceTally tally) {
+        AttendanceCountsResponse response = new AttendanceCountsResponse();
+        response.setMonth(month != null ? month.toString() : null);
+        response.setMarked(tally.getMarked());
+        response.setPresent(tally.getPresent());
+        response.setAbsent(tally.getAbsent());
+        response.setLate(tally.getLate());
+        response.setAttendancePercentage(tally.attendancePercentage());
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+
+    private record DayBitmap(LocalDate date, AttendanceBitmap bitmap) {
+    }
+}
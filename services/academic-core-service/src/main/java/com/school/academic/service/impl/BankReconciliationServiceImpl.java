@@ -0,0 +1,407 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.domain.BankStatementRun;
+import com.school.academic.domain.PaymentReviewItem;
+import com.school.academic.dto.request.PostReviewItemRequest;
+import com.school.academic.dto.request.RecordPaymentRequest;
+import com.school.academic.dto.response.BankStatementRunResponse;
+import com.school.academic.dto.response.PaymentReviewItemResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.fees.PaymentMatcher;
+import com.school.academic.fees.PaymentMatcher.Match;
+import com.school.academic.fees.StatementFormat;
+import com.school.academic.fees.StatementLine;
+import com.school.academic.fees.StatementReader;
+import com.school.academic.repository.BankStatementRunRepository;
+import com.school.academic.repository.FeeInvoiceRepository;
+import com.school.academic.repository.PaymentReviewItemRepository;
+import com.school.academic.repository.ReconciliationRepository;
+import com.school.academic.service.BankReconciliationService;
+import com.school.academic.service.FeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class BankReconciliationServiceImpl implements BankReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BankReconciliationServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final BankStatementRunRepository bankStatementRunRepository;
+    private final PaymentReviewItemRepository paymentReviewItemRepository;
+    private final FeeInvoiceRepository feeInvoiceRepository;
+    private final ReconciliationRepository reconciliationRepository;
+    private final FeeService feeService;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final Duration staleAfter;
+
+    public BankReconciliationServiceImpl(BankStatementRunRepository bankStatementRunRepository,
+                                         PaymentReviewItemRepository paymentReviewItemRepository,
+                                         FeeInvoiceRepository feeInvoiceRepository,
+                                         ReconciliationRepository reconciliationRepository,
+                                         FeeService feeService,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${academic.fees.reconciliation.chunk-size:2000}") int chunkSize,
+                                         @Value("${academic.fees.reconciliation.stale-after:PT5M}") Duration staleAfter) {
+        this.bankStatementRunRepository = bankStatementRunRepository;
+        this.paymentReviewItemRepository = paymentReviewItemRepository;
+        this.feeInvoiceRepository = feeInvoiceRepository;
+        this.reconciliationRepository = reconciliationRepository;
+        this.feeService = feeService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.staleAfter = staleAfter;
+    }
+
+    // ==================== Statement Runs ====================
+
+    /**
+     * Reconcile a statement file. The file is spooled to disk while its SHA-256 is taken;
+     * the hash identifies the run, so sending a file again resumes its failed or abandoned
+     * run from the last committed chunk, and a file already reconciled is not read twice.
+     */
+    @Override
+    public BankStatementRunResponse reconcile(InputStream content, String fileName, String format) {
+        long started = System.nanoTime();
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("bank-statement-", ".txt");
+            String sha256 = spoolWithDigest(content, spool);
+            StatementFormat statementFormat = format != null && !format.isBlank()
+                    ? parseFormat(format) : StatementFormat.detect(firstLine(spool));
+
+            RunStart start = startRun(sha256, fileName, statementFormat);
+            if (start.run.getStatus().equals("COMPLETED")) {
+                log.info("Statement {} was already reconciled by run {}", fileName, start.run.getId());
+                BankStatementRunResponse response = toRunResponse(start.run);
+                response.setResumed(false);
+                response.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+                return response;
+            }
+            return process(start, spool, StatementFormat.valueOf(start.run.getFormat()), started);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not spool bank statement " + fileName, ex);
+        } finally {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException ex) {
+                    log.warn("Could not delete spooled bank statement {}", spool, ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<BankStatementRunResponse> getRuns() {
+        return readOnlyTransaction.execute(status -> bankStatementRunRepository.findTop50ByOrderByIdDesc().stream()
+                .map(this::toRunResponse)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public BankStatementRunResponse getRun(UUID runId) {
+        return readOnlyTransaction.execute(status -> toRunResponse(findRun(uuidToLong(runId))));
+    }
+
+    /**
+     * Create the run of a new file, or take over the unfinished run of a file seen before.
+     */
+    private RunStart startRun(String sha256, String fileName, StatementFormat format) {
+        try {
+            return transaction.execute(status -> {
+                Optional<BankStatementRun> existing = bankStatementRunRepository.findByFileSha256(sha256);
+                if (existing.isEmpty()) {
+                    BankStatementRun run = new BankStatementRun();
+                    run.setFileName(fileName);
+                    run.setFileSha256(sha256);
+                    run.setFormat(format.name());
+                    run.setStatus("RUNNING");
+                    run.setLinesProcessed(0);
+                    run.setMatched(0);
+                    run.setDuplicates(0);
+                    run.setSkipped(0);
+                    run.setSentToReview(0);
+                    run.setAmountPosted(BigDecimal.ZERO);
+                    run.setStartedAt(LocalDateTime.now());
+                    return new RunStart(bankStatementRunRepository.saveAndFlush(run), false);
+                }
+                BankStatementRun run = existing.get();
+                if (run.getStatus().equals("COMPLETED")) {
+                    return new RunStart(run, false);
+                }
+                LocalDateTime now = LocalDateTime.now();
+                if (bankStatementRunRepository.claimForResume(run.getId(), now, now.minus(staleAfter)) == 0) {
+                    throw new BusinessRuleException("STATEMENT_RUN_IN_PROGRESS",
+                            "Statement " + run.getFileName() + " is being reconciled by run " + run.getId());
+                }
+                log.info("Resuming statement run {} after line {}", run.getId(), run.getLinesProcessed());
+                return new RunStart(run, true);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessRuleException("STATEMENT_RUN_IN_PROGRESS",
+                    "Statement " + fileName + " is already being reconciled");
+        }
+    }
+
+    /**
+     * Stream the statement from the run's checkpoint, a chunk of lines per transaction.
+     * Each chunk locks the invoices its lines could pay, refreshes the matcher with what is
+     * paid on them now, matches the lines and writes the outcome as JDBC batches together
+     * with the new checkpoint, so a restart neither skips nor repeats a line.
+     */
+    private BankStatementRunResponse process(RunStart start, Path file, StatementFormat format, long started) {
+        Long runId = start.run.getId();
+        int linesProcessed = start.run.getLinesProcessed();
+        PaymentMatcher matcher = readOnlyTransaction.execute(status ->
+                new PaymentMatcher(reconciliationRepository.findOpenDues(), reconciliationRepository.findPostedReferences()));
+
+        try (StatementReader reader = StatementReader.open(Files.newBufferedReader(file, StandardCharsets.UTF_8), format)) {
+            for (int i = 0; i < linesProcessed; i++) {
+                if (reader.next() == null) {
+                    break;
+                }
+            }
+            List<StatementLine> chunk = new ArrayList<>(chunkSize);
+            for (StatementLine line = reader.next(); line != null; line = reader.next()) {
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    linesProcessed = processChunk(runId, chunk, matcher);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                linesProcessed = processChunk(runId, chunk, matcher);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Statement run {} failed after line {}", runId, linesProcessed, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finishRun(runId, "FAILED", message);
+            if (e instanceof IllegalArgumentException) {
+                throw new BusinessRuleException("INVALID_STATEMENT", message);
+            }
+            throw new BusinessRuleException("STATEMENT_RUN_FAILED", "Reconciliation failed after line "
+                    + linesProcessed + "; send the same file again to resume");
+        }
+
+        BankStatementRunResponse response = finishRun(runId, "COMPLETED", null);
+        response.setResumed(start.resumed);
+        response.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        log.info("Statement run {} reconciled {} lines in {} ms: {} matched, {} duplicates, {} skipped, {} to review",
+                runId, response.getLinesProcessed(), response.getElapsedMillis(), response.getMatched(),
+                response.getDuplicates(), response.getSkipped(), response.getSentToReview());
+        return response;
+    }
+
+    private int processChunk(Long runId, List<StatementLine> chunk, PaymentMatcher matcher) {
+        return transaction.execute(status -> {
+            Set<Long> candidates = new HashSet<>();
+            chunk.forEach(line -> matcher.collectCandidates(line, candidates));
+            reconciliationRepository.lockInvoices(candidates).forEach(matcher::refresh);
+
+            List<Match> matched = new ArrayList<>();
+            List<Match> reviews = new ArrayList<>();
+            int duplicates = 0;
+            int skipped = 0;
+            BigDecimal amountPosted = BigDecimal.ZERO;
+            for (StatementLine line : chunk) {
+                Match match = matcher.match(line);
+                switch (match.outcome()) {
+                    case MATCHED -> {
+                        matched.add(match);
+                        amountPosted = amountPosted.add(line.amount());
+                    }
+                    case REVIEW -> reviews.add(match);
+                    case DUPLICATE -> duplicates++;
+                    case SKIPPED -> skipped++;
+                }
+            }
+            reconciliationRepository.postPayments(runId, matched);
+            reconciliationRepository.insertReviewItems(runId, reviews);
+            int linesProcessed = chunk.get(chunk.size() - 1).sequence();
+            reconciliationRepository.checkpoint(runId, linesProcessed, matched.size(), duplicates, skipped,
+                    reviews.size(), amountPosted);
+            return linesProcessed;
+        });
+    }
+
+    private BankStatementRunResponse finishRun(Long runId, String outcome, String error) {
+        return transaction.execute(status -> {
+            BankStatementRun run = findRun(runId);
+            run.setStatus(outcome);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            return toRunResponse(run);
+        });
+    }
+
+    // ==================== Review Queue ====================
+
+    @Override
+    public List<PaymentReviewItemResponse> getReviewItems(String status, UUID statementRunId) {
+        String reviewStatus = status != null ? status.trim().toUpperCase(Locale.ROOT) : "PENDING";
+        return readOnlyTransaction.execute(tx ->
+                paymentReviewItemRepository.findByStatus(reviewStatus, uuidToLong(statementRunId)).stream()
+                        .map(this::toReviewItemResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Post a line from the review queue against the invoice a person picked, through the
+     * same payment path as a payment recorded by hand.
+     */
+    @Override
+    public PaymentReviewItemResponse postReviewItem(UUID reviewItemId, PostReviewItemRequest request) {
+        log.info("Posting review item {} to invoice {}", reviewItemId, request.getInvoiceId());
+        return transaction.execute(status -> {
+            PaymentReviewItem item = findPendingReviewItem(reviewItemId);
+            if (item.getAmount() == null || item.getAmount().signum() <= 0) {
+                throw new BusinessRuleException("REVIEW_ITEM_NOT_PAYABLE",
+                        "Statement line " + item.getLineNumber() + " has no credit amount to post");
+            }
+            RecordPaymentRequest payment = new RecordPaymentRequest();
+            payment.setAmount(item.getAmount());
+            payment.setPaidOn(item.getValueDate());
+            payment.setReference(item.getBankReference());
+            feeService.recordPayment(request.getInvoiceId(), payment);
+
+            item.setStatus("POSTED");
+            item.setInvoice(feeInvoiceRepository.getReferenceById(uuidToLong(request.getInvoiceId())));
+            return toReviewItemResponse(item);
+        });
+    }
+
+    @Override
+    public PaymentReviewItemResponse dismissReviewItem(UUID reviewItemId) {
+        log.info("Dismissing review item {}", reviewItemId);
+        return transaction.execute(status -> {
+            PaymentReviewItem item = findPendingReviewItem(reviewItemId);
+            item.setStatus("DISMISSED");
+            return toReviewItemResponse(item);
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private BankStatementRun findRun(Long runId) {
+        return bankStatementRunRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Statement run not found with id: " + longToUuid(runId)));
+    }
+
+    private PaymentReviewItem findPendingReviewItem(UUID reviewItemId) {
+        PaymentReviewItem item = paymentReviewItemRepository.findByIdForUpdate(uuidToLong(reviewItemId))
+                .orElseThrow(() -> new ResourceNotFoundException("Review item not found with id: " + reviewItemId));
+        if (!item.getStatus().equals("PENDING")) {
+            throw new BusinessRuleException("REVIEW_ITEM_RESOLVED",
+                    "Review item " + reviewItemId + " is already " + item.getStatus());
+        }
+        return item;
+    }
+
+    private static StatementFormat parseFormat(String format) {
+        try {
+            return StatementFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessRuleException("INVALID_STATEMENT",
+                    "Unknown statement format " + format + "; expected one of " + Arrays.toString(StatementFormat.values()));
+        }
+    }
+
+    private static String spoolWithDigest(InputStream content, Path spool) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        try (InputStream in = new DigestInputStream(content, digest)) {
+            Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String firstLine(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+
+    private BankStatementRunResponse toRunResponse(BankStatementRun run) {
+        BankStatementRunResponse response = new BankStatementRunResponse();
+        response.setId(longToUuid(run.getId()));
+        response.setFileName(run.getFileName());
+        response.setFileSha256(run.getFileSha256());
+        response.setFormat(run.getFormat());
+        response.setStatus(run.getStatus());
+        response.setLinesProcessed(run.getLinesProcessed());
+        response.setMatched(run.getMatched());
+        response.setDuplicates(run.getDuplicates());
+        response.setSkipped(run.getSkipped());
+        response.setSentToReview(run.getSentToReview());
+        response.setAmountPosted(run.getAmountPosted());
+        response.setStartedAt(run.getStartedAt());
+        response.setFinishedAt(run.getFinishedAt());
+        response.setError(run.getError());
+        return response;
+    }
+
+    private PaymentReviewItemResponse toReviewItemResponse(PaymentReviewItem item) {
+        PaymentReviewItemResponse response = new PaymentReviewItemResponse();
+        response.setId(longToUuid(item.getId()));
+        response.setStatementRunId(longToUuid(item.getStatementRun().getId()));
+        response.setLineNumber(item.getLineNumber());
+        response.setValueDate(item.getValueDate());
+        response.setAmount(item.getAmount());
+        response.setBankReference(item.getBankReference());
+        response.setNarrative(item.getNarrative());
+        response.setReason(item.getReason());
+        response.setStatus(item.getStatus());
+        response.setInvoiceId(item.getInvoice() != null ? longToUuid(item.getInvoice().getId()) : null);
+        return response;
+    }
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+
+    private record RunStart(BankStatementRun run, boolean resumed) {
+    }
+}
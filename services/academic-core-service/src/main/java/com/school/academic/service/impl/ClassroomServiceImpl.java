@@ -1,5 +1,7 @@
 package com.school.academic.service.impl;
 
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
 import com.school.academic.domain.Classroom;
 import com.school.academic.dto.request.CreateClassroomRequest;
 import com.school.academic.dto.response.ClassroomResponse;
@@ -22,9 +24,12 @@ public class ClassroomServiceImpl implements ClassroomService {
     private static final Logger log = LoggerFactory.getLogger(ClassroomServiceImpl.class);
 
     private final ClassroomRepository classroomRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public ClassroomServiceImpl(ClassroomRepository classroomRepository) {
+    public ClassroomServiceImpl(ClassroomRepository classroomRepository,
+                                CacheInvalidationBus cacheInvalidationBus) {
         this.classroomRepository = classroomRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     @Override
@@ -55,6 +60,7 @@ public class ClassroomServiceImpl implements ClassroomService {
 
         Classroom saved = classroomRepository.save(classroom);
         log.info("Created classroom with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.CLASSROOMS);
 
         return toClassroomResponse(saved);
     }
@@ -1,9 +1,13 @@
 package com.school.academic.service.impl;
 
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.config.CacheConfig;
 import com.school.academic.domain.*;
 import com.school.academic.dto.request.CreateStaffAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectAssignmentRequest;
 import com.school.academic.dto.request.CreateSubjectRequest;
+import com.school.academic.dto.request.UpdateSubjectAssignmentRequest;
 import com.school.academic.dto.response.StaffAssignmentResponse;
 import com.school.academic.dto.response.SubjectAssignmentResponse;
 import com.school.academic.dto.response.SubjectResponse;
@@ -12,8 +16,11 @@ import com.school.academic.exception.DuplicateResourceException;
 import com.school.academic.exception.ResourceNotFoundException;
 import com.school.academic.repository.*;
 import com.school.academic.service.CurriculumService;
+import com.school.academic.workload.WorkloadModel;
+import com.school.academic.workload.WorkloadModels;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +42,8 @@ public class CurriculumServiceImpl implements CurriculumService {
     private final AcademicYearRepository academicYearRepository;
     private final StaffRepository staffRepository;
     private final ClassSectionRepository classSectionRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final WorkloadModels workloadModels;
 
     public CurriculumServiceImpl(SubjectRepository subjectRepository,
                                  SubjectAssignmentRepository subjectAssignmentRepository,
@@ -43,7 +52,9 @@ public class CurriculumServiceImpl implements CurriculumService {
                                  SectionRepository sectionRepository,
                                  AcademicYearRepository academicYearRepository,
                                  StaffRepository staffRepository,
-                                 ClassSectionRepository classSectionRepository) {
+                                 ClassSectionRepository classSectionRepository,
+                                 CacheInvalidationBus cacheInvalidationBus,
+                                 WorkloadModels workloadModels) {
         this.subjectRepository = subjectRepository;
         this.subjectAssignmentRepository = subjectAssignmentRepository;
         this.staffAssignmentRepository = staffAssignmentRepository;
@@ -52,12 +63,15 @@ public class CurriculumServiceImpl implements CurriculumService {
         this.academicYearRepository = academicYearRepository;
         this.staffRepository = staffRepository;
         this.classSectionRepository = classSectionRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.workloadModels = workloadModels;
     }
 
     // ==================== Subjects ====================
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SUBJECTS, sync = true)
     public List<SubjectResponse> listSubjects() {
         log.debug("Listing all subjects");
         return subjectRepository.findAll().stream()
@@ -82,6 +96,7 @@ public class CurriculumServiceImpl implements CurriculumService {
 
         Subject saved = subjectRepository.save(subject);
         log.info("Created subject with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.SUBJECTS);
 
         return toSubjectResponse(saved);
     }
@@ -142,9 +157,51 @@ public class CurriculumServiceImpl implements CurriculumService {
         assignment.setGradeClass(gradeClass);
         assignment.setAcademicYear(academicYear);
         assignment.setSection(section);
+        assignment.setPeriodsPerWeek(request.getPeriodsPerWeek());
+        assignment.setRoomType(request.getRoomType());
 
         SubjectAssignment saved = subjectAssignmentRepository.save(assignment);
         log.info("Created subject assignment with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.SUBJECT_ASSIGNMENTS);
+
+        return toSubjectAssignmentResponse(saved);
+    }
+
+    @Override
+    public SubjectAssignmentResponse updateSubjectAssignment(UUID id, UpdateSubjectAssignmentRequest request) {
+        log.info("Updating subject assignment: {}", id);
+
+        SubjectAssignment assignment = subjectAssignmentRepository.findByIdWithAssociations(uuidToLong(id))
+                .orElseThrow(() -> new ResourceNotFoundException("Subject assignment not found with id: " + id));
+
+        // Update timetable load if provided; a higher load is checked against the teachers' limit below
+        WorkloadModel workloadBefore = null;
+        if (request.getPeriodsPerWeek() != null) {
+            Integer current = assignment.getPeriodsPerWeek();
+            if (current == null || request.getPeriodsPerWeek() > current) {
+                workloadBefore = workloadModels.build(assignment.getAcademicYear().getId());
+            }
+            assignment.setPeriodsPerWeek(request.getPeriodsPerWeek());
+        }
+
+        // Update room type if provided
+        if (request.getRoomType() != null) {
+            assignment.setRoomType(request.getRoomType());
+        }
+
+        SubjectAssignment saved = subjectAssignmentRepository.saveAndFlush(assignment);
+
+        // INVARIANT: A teacher's share of weekly periods cannot exceed the configured maximum.
+        // Rebuilt with the new load, which every teacher of the subject in the class shares.
+        if (workloadBefore != null) {
+            List<WorkloadModel.StaffLoad> overloaded = workloadModels.build(assignment.getAcademicYear().getId())
+                    .overloadedSince(workloadBefore);
+            if (!overloaded.isEmpty()) {
+                throw new BusinessRuleException("STAFF_OVERLOADED",
+                        describeOverload(overloaded, workloadBefore.getMaxPeriodsPerWeek()));
+            }
+        }
+        cacheInvalidationBus.bump(CacheRegion.SUBJECT_ASSIGNMENTS);
 
         return toSubjectAssignmentResponse(saved);
     }
@@ -161,8 +218,9 @@ public class CurriculumServiceImpl implements CurriculumService {
         Long classSectionIdLong = uuidToLong(request.getClassSectionId());
         Long yearIdLong = uuidToLong(request.getAcademicYearId());
 
-        // Validate references
-        Staff staff = staffRepository.findById(staffIdLong)
+        // Validate references. The staff row is locked first, so concurrent assignments of the same
+        // teacher run one after another and each one's reads start after the previous one committed.
+        Staff staff = staffRepository.findByIdForUpdate(staffIdLong)
                 .orElseThrow(() -> new ResourceNotFoundException("Staff not found with id: " + request.getStaffId()));
 
         Subject subject = subjectRepository.findById(subjectIdLong)
@@ -191,6 +249,16 @@ public class CurriculumServiceImpl implements CurriculumService {
                     "Staff is already assigned to teach this subject in this class section");
         }
 
+        // INVARIANT: A teacher's share of weekly periods cannot exceed the configured maximum.
+        // Checked against the committed assignments, not the cached model, which may predate the last one.
+        WorkloadModel workload = workloadModels.build(yearIdLong);
+        int projectedPeriods = workload.projectedPeriods(staffIdLong, classSectionIdLong, subjectIdLong);
+        if (projectedPeriods > workload.getMaxPeriodsPerWeek()) {
+            throw new BusinessRuleException("STAFF_OVERLOADED",
+                    "Staff '" + staff.getFullName() + "' would teach " + projectedPeriods +
+                    " periods a week; the limit is " + workload.getMaxPeriodsPerWeek());
+        }
+
         StaffAssignment assignment = new StaffAssignment();
         assignment.setStaff(staff);
         assignment.setSubject(subject);
@@ -199,10 +267,17 @@ public class CurriculumServiceImpl implements CurriculumService {
 
         StaffAssignment saved = staffAssignmentRepository.save(assignment);
         log.info("Created staff assignment with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.STAFF_ASSIGNMENTS);
 
         return toStaffAssignmentResponse(saved);
     }
 
+    private static String describeOverload(List<WorkloadModel.StaffLoad> overloaded, int maxPeriodsPerWeek) {
+        return overloaded.stream()
+                .map(load -> "Staff '" + load.name() + "' would teach " + load.periodsPerWeek() + " periods a week")
+                .collect(Collectors.joining("; ")) + "; the limit is " + maxPeriodsPerWeek;
+    }
+
     // ==================== Mappers ====================
 
     private SubjectResponse toSubjectResponse(Subject entity) {
@@ -221,6 +296,8 @@ public class CurriculumServiceImpl implements CurriculumService {
         response.setSubjectName(entity.getSubject().getName());
         response.setClassName(entity.getGradeClass().getName());
         response.setSectionName(entity.getSection() != null ? entity.getSection().getName() : null);
+        response.setPeriodsPerWeek(entity.getPeriodsPerWeek());
+        response.setRoomType(entity.getRoomType());
         return response;
     }
 
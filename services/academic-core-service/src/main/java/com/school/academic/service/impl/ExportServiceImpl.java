@@ -0,0 +1,179 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.domain.AcademicYear;
+import com.school.academic.domain.ClassSection;
+import com.school.academic.domain.Enrollment;
+import com.school.academic.domain.Parent;
+import com.school.academic.domain.Staff;
+import com.school.academic.domain.Student;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.export.ExportFormat;
+import com.school.academic.export.TabularWriter;
+import com.school.academic.repository.AcademicYearRepository;
+import com.school.academic.repository.ClassSectionRepository;
+import com.school.academic.repository.EnrollmentRepository;
+import com.school.academic.repository.ParentRepository;
+import com.school.academic.repository.StaffRepository;
+import com.school.academic.repository.StudentRepository;
+import com.school.academic.service.ExportService;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams exports straight from a forward-only JDBC result set to the response.
+ *
+ * Repository stream queries carry the {@link com.school.academic.repository.StreamingQueries#ROW_BY_ROW}
+ * fetch size, so the driver reads rows as they are consumed instead of materializing the
+ * result set. The persistence context is cleared every {@value #CLEAR_INTERVAL} rows so
+ * managed entities do not pile up.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private static final Object[] ROSTER_HEADER = {
+            "Roll Number", "Admission Number", "First Name", "Last Name", "Gender",
+            "Date of Birth", "Blood Group", "Enrollment Status", "Enrollment Date"
+    };
+    private static final Object[] STUDENT_HEADER = {
+            "Admission Number", "First Name", "Last Name", "Gender", "Date of Birth",
+            "Blood Group", "Joining Date", "Status", "Address"
+    };
+    private static final Object[] STAFF_HEADER = {
+            "Staff Code", "First Name", "Last Name", "Gender", "Designation", "Staff Type",
+            "Mobile", "Email", "Qualification", "Joining Date"
+    };
+    private static final Object[] PARENT_HEADER = {
+            "First Name", "Last Name", "Mobile", "Email", "Relationship", "Address"
+    };
+
+    private final StudentRepository studentRepository;
+    private final StaffRepository staffRepository;
+    private final ParentRepository parentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final EntityManager entityManager;
+
+    public ExportServiceImpl(StudentRepository studentRepository,
+                             StaffRepository staffRepository,
+                             ParentRepository parentRepository,
+                             EnrollmentRepository enrollmentRepository,
+                             ClassSectionRepository classSectionRepository,
+                             AcademicYearRepository academicYearRepository,
+                             EntityManager entityManager) {
+        this.studentRepository = studentRepository;
+        this.staffRepository = staffRepository;
+        this.parentRepository = parentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public String resolveRosterFileName(UUID classSectionId, UUID academicYearId) {
+        ClassSection classSection = classSectionRepository.findById(uuidToLong(classSectionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Class section not found with id: " + classSectionId));
+        AcademicYear academicYear = academicYearRepository.findById(uuidToLong(academicYearId))
+                .orElseThrow(() -> new ResourceNotFoundException("Academic year not found with id: " + academicYearId));
+
+        return toFileName("roster-" + classSection.getGradeClass().getName() + "-"
+                + classSection.getSection().getName() + "-" + academicYear.getName());
+    }
+
+    @Override
+    public void exportClassRoster(UUID classSectionId, UUID academicYearId, ExportFormat format, OutputStream out)
+            throws IOException {
+        try (Stream<Enrollment> rows = enrollmentRepository.streamRosterForExport(
+                uuidToLong(classSectionId), uuidToLong(academicYearId));
+             TabularWriter writer = format.open(out, "Roster")) {
+            int count = writeRows(writer, ROSTER_HEADER, rows, enrollment -> {
+                Student student = enrollment.getStudent();
+                return new Object[]{
+                        enrollment.getRollNumber(), student.getAdmissionNumber(), student.getFirstName(),
+                        student.getLastName(), student.getGender(), student.getDob(), student.getBloodGroup(),
+                        enrollment.getStatus(), enrollment.getEnrollmentDate()
+                };
+            });
+            log.info("Exported {} roster rows for class section {} as {}", count, classSectionId, format);
+        }
+    }
+
+    @Override
+    public void exportStudents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Student> rows = studentRepository.streamAllForExport();
+             TabularWriter writer = format.open(out, "Students")) {
+            int count = writeRows(writer, STUDENT_HEADER, rows, student -> new Object[]{
+                    student.getAdmissionNumber(), student.getFirstName(), student.getLastName(),
+                    student.getGender(), student.getDob(), student.getBloodGroup(), student.getJoiningDate(),
+                    student.getStatus(), student.getAddress()
+            });
+            log.info("Exported {} students as {}", count, format);
+        }
+    }
+
+    @Override
+    public void exportStaff(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Staff> rows = staffRepository.streamAllForExport();
+             TabularWriter writer = format.open(out, "Staff")) {
+            int count = writeRows(writer, STAFF_HEADER, rows, staff -> new Object[]{
+                    staff.getStaffCode(), staff.getFirstName(), staff.getLastName(), staff.getGender(),
+                    staff.getDesignation(), staff.getStaffType(), staff.getMobile(), staff.getEmail(),
+                    staff.getQualification(), staff.getJoiningDate()
+            });
+            log.info("Exported {} staff as {}", count, format);
+        }
+    }
+
+    @Override
+    public void exportParents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Parent> rows = parentRepository.streamAllForExport();
+             TabularWriter writer = format.open(out, "Parents")) {
+            int count = writeRows(writer, PARENT_HEADER, rows, parent -> new Object[]{
+                    parent.getFirstName(), parent.getLastName(), parent.getPhone(), parent.getEmail(),
+                    parent.getRelationship(), parent.getAddress()
+            });
+            log.info("Exported {} parents as {}", count, format);
+        }
+    }
+
+    // ==================== Utility Methods ====================
+
+    private <T> int writeRows(TabularWriter writer, Object[] header, Stream<T> rows,
+                              Function<T, Object[]> mapper) throws IOException {
+        writer.writeRow(header);
+        int count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.writeRow(mapper.apply(iterator.next()));
+            if (++count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+        return count;
+    }
+
+    private String toFileName(String value) {
+        return value.replaceAll("[^A-Za-z0-9_-]+", "_");
+    }
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+}
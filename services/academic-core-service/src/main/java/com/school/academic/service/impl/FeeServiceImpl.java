@@ -0,0 +1,455 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.CreateFeeStructureRequest;
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.request.RecordPaymentRequest;
+import com.school.academic.dto.response.*;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.DuplicateResourceException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.fees.IdRange;
+import com.school.academic.repository.*;
+import com.school.academic.service.FeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class FeeServiceImpl implements FeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeeServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final FeeStructureRepository feeStructureRepository;
+    private final FeeInvoiceRunRepository feeInvoiceRunRepository;
+    private final FeeInvoiceRepository feeInvoiceRepository;
+    private final FeeInvoiceLineRepository feeInvoiceLineRepository;
+    private final FeeAccountRepository feeAccountRepository;
+    private final FeeLedgerEntryRepository feeLedgerEntryRepository;
+    private final FeePaymentRepository feePaymentRepository;
+    private final FeeBillingRepository feeBillingRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final GradeClassRepository gradeClassRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public FeeServiceImpl(FeeStructureRepository feeStructureRepository,
+                          FeeInvoiceRunRepository feeInvoiceRunRepository,
+                          FeeInvoiceRepository feeInvoiceRepository,
+                          FeeInvoiceLineRepository feeInvoiceLineRepository,
+                          FeeAccountRepository feeAccountRepository,
+                          FeeLedgerEntryRepository feeLedgerEntryRepository,
+                          FeePaymentRepository feePaymentRepository,
+                          FeeBillingRepository feeBillingRepository,
+                          AcademicYearRepository academicYearRepository,
+                          GradeClassRepository gradeClassRepository,
+                          ClassSectionRepository classSectionRepository,
+                          EnrollmentRepository enrollmentRepository,
+                          StudentRepository studentRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${academic.fees.batch-size:1000}") int batchSize) {
+        this.feeStructureRepository = feeStructureRepository;
+        this.feeInvoiceRunRepository = feeInvoiceRunRepository;
+        this.feeInvoiceRepository = feeInvoiceRepository;
+        this.feeInvoiceLineRepository = feeInvoiceLineRepository;
+        this.feeAccountRepository = feeAccountRepository;
+        this.feeLedgerEntryRepository = feeLedgerEntryRepository;
+        this.feePaymentRepository = feePaymentRepository;
+        this.feeBillingRepository = feeBillingRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.gradeClassRepository = gradeClassRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentRepository = studentRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    // ==================== Fee Structures ====================
+
+    @Override
+    public FeeStructureResponse createFeeStructure(CreateFeeStructureRequest request) {
+        log.info("Creating fee head {} for classId: {} in academicYearId: {}",
+                request.getFeeHead(), request.getClassId(), request.getAcademicYearId());
+
+        return transaction.execute(status -> {
+            AcademicYear year = findAcademicYear(request.getAcademicYearId());
+            GradeClass gradeClass = gradeClassRepository.findById(uuidToLong(request.getClassId()))
+                    .orElseThrow(() -> new ResourceNotFoundException("Class not found with id: " + request.getClassId()));
+            String feeHead = request.getFeeHead().trim();
+            String period = normalizePeriod(request.getBillingPeriod());
+            if (feeStructureRepository.existsByAcademicYearIdAndGradeClassIdAndBillingPeriodAndFeeHead(
+                    year.getId(), gradeClass.getId(), period, feeHead)) {
+                throw new DuplicateResourceException("DUPLICATE_FEE_STRUCTURE",
+                        "Fee head '" + feeHead + "' is already charged to " + gradeClass.getName()
+                                + " for " + period + " in " + year.getName());
+            }
+
+            FeeStructure structure = new FeeStructure();
+            structure.setAcademicYear(year);
+            structure.setGradeClass(gradeClass);
+            structure.setFeeHead(feeHead);
+            structure.setBillingPeriod(period);
+            structure.setAmount(request.getAmount());
+            structure = feeStructureRepository.save(structure);
+
+            log.info("Created fee structure with id: {}", structure.getId());
+            return toStructureResponse(structure);
+        });
+    }
+
+    @Override
+    public List<FeeStructureResponse> getFeeStructures(UUID academicYearId) {
+        log.debug("Getting fee structures for academicYearId: {}", academicYearId);
+        return readOnlyTransaction.execute(status ->
+                feeStructureRepository.findByAcademicYearId(uuidToLong(academicYearId)).stream()
+                        .map(this::toStructureResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    // ==================== Invoice Runs ====================
+
+    /**
+     * Invoice every active enrollment of the year for the period. Enrollments are billed a
+     * chunk at a time, each chunk in its own transaction with four set-based statements:
+     * invoices, invoice lines, ledger entries and account totals. A failed run keeps the
+     * chunks committed before it; running the period again creates only the missing invoices.
+     */
+    @Override
+    public FeeInvoiceRunResponse runInvoices(CreateInvoiceRunRequest request) {
+        long started = System.nanoTime();
+        String period = normalizePeriod(request.getBillingPeriod());
+
+        FeeInvoiceRun run = transaction.execute(status -> {
+            AcademicYear year = findAcademicYear(request.getAcademicYearId());
+            if (!feeStructureRepository.existsByAcademicYearIdAndBillingPeriod(year.getId(), period)) {
+                throw new BusinessRuleException("NO_FEE_STRUCTURE",
+                        "No fees are defined for " + period + " in " + year.getName());
+            }
+            FeeInvoiceRun created = new FeeInvoiceRun();
+            created.setAcademicYear(year);
+            created.setBillingPeriod(period);
+            created.setDueDate(request.getDueDate());
+            created.setStatus("RUNNING");
+            created.setInvoicesCreated(0);
+            created.setAmountInvoiced(BigDecimal.ZERO);
+            created.setStartedAt(LocalDateTime.now());
+            return feeInvoiceRunRepository.save(created);
+        });
+        Long runId = run.getId();
+        Long yearId = run.getAcademicYear().getId();
+        String numberPrefix = run.getAcademicYear().getCode() + "-" + period + "-";
+        log.info("Started invoice run {} for {} in academic year {}", runId, period, run.getAcademicYear().getCode());
+
+        List<IdRange> chunks = IdRange.chunk(
+                readOnlyTransaction.execute(status -> enrollmentRepository.findActiveIdsByAcademicYearId(yearId)),
+                batchSize);
+        LocalDate today = LocalDate.now();
+        int created = 0;
+        try {
+            for (IdRange chunk : chunks) {
+                created += transaction.execute(status -> {
+                    int invoices = feeBillingRepository.insertInvoices(runId, yearId, period, request.getDueDate(),
+                            numberPrefix, chunk.fromId(), chunk.toId());
+                    if (invoices > 0) {
+                        feeBillingRepository.insertInvoiceLines(runId, chunk.fromId(), chunk.toId());
+                        feeBillingRepository.insertLedgerEntries(runId, today, chunk.fromId(), chunk.toId());
+                        feeBillingRepository.applyToAccounts(runId, chunk.fromId(), chunk.toId());
+                    }
+                    return invoices;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("Invoice run {} failed after {} invoices", runId, created, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finishRun(runId, "FAILED", created, message, started);
+            throw new BusinessRuleException("INVOICE_RUN_FAILED", "Invoice run failed after " + created
+                    + " invoices; run " + period + " again to invoice the rest");
+        }
+
+        FeeInvoiceRunResponse response = finishRun(runId, "COMPLETED", created, null, started);
+        log.info("Invoice run {} created {} invoices for {} enrollments in {} chunks in {} ms",
+                runId, created, chunks.stream().mapToInt(IdRange::count).sum(), chunks.size(),
+                response.getElapsedMillis());
+        return response;
+    }
+
+    @Override
+    public List<FeeInvoiceRunResponse> getInvoiceRuns(UUID academicYearId) {
+        log.debug("Getting invoice runs for academicYearId: {}", academicYearId);
+        return readOnlyTransaction.execute(status ->
+                feeInvoiceRunRepository.findByAcademicYearIdOrderByIdDesc(uuidToLong(academicYearId)).stream()
+                        .map(this::toRunResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    private FeeInvoiceRunResponse finishRun(Long runId, String outcome, int created, String error, long started) {
+        FeeInvoiceRunResponse response = transaction.execute(status -> {
+            FeeInvoiceRun run = feeInvoiceRunRepository.findById(runId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Invoice run not found with id: " + runId));
+            run.setStatus(outcome);
+            run.setInvoicesCreated(created);
+            run.setAmountInvoiced(feeBillingRepository.sumInvoiced(runId));
+            run.setFinishedAt(LocalDateTime.now());
+            run.setError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            return toRunResponse(run);
+        });
+        response.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return response;
+    }
+
+    // ==================== Invoices and Payments ====================
+
+    @Override
+    public List<FeeInvoiceResponse> getInvoices(UUID studentId, UUID academicYearId) {
+        log.debug("Getting invoices for studentId: {} in academicYearId: {}", studentId, academicYearId);
+        return readOnlyTransaction.execute(status ->
+                feeInvoiceRepository.findByStudentIdAndAcademicYearId(uuidToLong(studentId), uuidToLong(academicYearId))
+                        .stream()
+                        .map(this::toInvoiceResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public FeeInvoiceResponse getInvoice(UUID invoiceId) {
+        log.debug("Getting invoice: {}", invoiceId);
+        return readOnlyTransaction.execute(status -> toInvoiceResponseWithLines(findInvoice(invoiceId)));
+    }
+
+    /**
+     * Record a payment against an invoice. The invoice row is locked while its paid amount
+     * changes, and the enrollment's account is adjusted in place rather than re-summed.
+     */
+    @Override
+    public FeeInvoiceResponse recordPayment(UUID invoiceId, RecordPaymentRequest request) {
+        log.info("Recording payment of {} against invoice: {}", request.getAmount(), invoiceId);
+
+        return transaction.execute(status -> {
+            FeeInvoice invoice = feeInvoiceRepository.findByIdForUpdate(uuidToLong(invoiceId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Invoice not found with id: " + invoiceId));
+            BigDecimal amount = request.getAmount();
+            BigDecimal outstanding = invoice.getAmount().subtract(invoice.getPaidAmount());
+            if (amount.compareTo(outstanding) > 0) {
+                throw new BusinessRuleException("OVERPAYMENT", "Payment of " + amount + " exceeds the "
+                        + outstanding + " outstanding on invoice " + invoice.getInvoiceNumber());
+            }
+
+            invoice.setPaidAmount(invoice.getPaidAmount().add(amount));
+            invoice.setStatus(invoice.getPaidAmount().compareTo(invoice.getAmount()) >= 0 ? "PAID" : "PARTIAL");
+
+            LocalDate paidOn = request.getPaidOn() != null ? request.getPaidOn() : LocalDate.now();
+            FeePayment payment = new FeePayment();
+            payment.setEnrollment(invoice.getEnrollment());
+            payment.setInvoice(invoice);
+            payment.setAdmissionNumber(invoice.getStudent().getAdmissionNumber());
+            payment.setAmount(amount);
+            payment.setPaidOn(paidOn);
+            payment.setBankReference(request.getReference());
+            feePaymentRepository.save(payment);
+
+            FeeLedgerEntry entry = new FeeLedgerEntry();
+            entry.setEnrollment(invoice.getEnrollment());
+            entry.setInvoice(invoice);
+            entry.setEntryType("PAYMENT");
+            entry.setAmount(amount);
+            entry.setEntryDate(paidOn);
+            entry.setReference(request.getReference());
+            feeLedgerEntryRepository.save(entry);
+            feeAccountRepository.applyPayment(invoice.getEnrollment().getId(), amount);
+
+            log.info("Invoice {} is {} after payment of {}", invoice.getInvoiceNumber(), invoice.getStatus(), amount);
+            return toInvoiceResponseWithLines(findInvoice(invoiceId));
+        });
+    }
+
+    @Override
+    public List<FeePaymentResponse> getPayments(String admissionNumber) {
+        log.debug("Getting payments for admission number: {}", admissionNumber);
+        return readOnlyTransaction.execute(status ->
+                feePaymentRepository.findByAdmissionNumber(admissionNumber.trim()).stream()
+                        .map(this::toPaymentResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    // ==================== Accounts ====================
+
+    @Override
+    public FeeAccountResponse getAccount(UUID studentId, UUID academicYearId) {
+        log.debug("Getting fee account for studentId: {} in academicYearId: {}", studentId, academicYearId);
+        return readOnlyTransaction.execute(status -> {
+            Long id = uuidToLong(studentId);
+            if (!studentRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Student not found with id: " + studentId);
+            }
+            FeeAccount account = feeAccountRepository.findByStudentIdAndAcademicYearId(id, uuidToLong(academicYearId))
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "No fees invoiced to student " + studentId + " in academic year " + academicYearId));
+            FeeAccountResponse response = toAccountResponse(account);
+            response.setEntries(feeLedgerEntryRepository.findByEnrollmentId(account.getEnrollment().getId()).stream()
+                    .map(this::toLedgerEntryResponse)
+                    .collect(Collectors.toList()));
+            return response;
+        });
+    }
+
+    @Override
+    public List<FeeAccountResponse> getOutstanding(UUID academicYearId, UUID classSectionId) {
+        log.debug("Getting outstanding fees for academicYearId: {}, classSectionId: {}", academicYearId, classSectionId);
+        return readOnlyTransaction.execute(status -> {
+            Long sectionId = uuidToLong(classSectionId);
+            if (sectionId != null && !classSectionRepository.existsById(sectionId)) {
+                throw new ResourceNotFoundException("Class section not found with id: " + classSectionId);
+            }
+            return feeAccountRepository.findOutstanding(uuidToLong(academicYearId), sectionId).stream()
+                    .map(this::toAccountResponse)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private AcademicYear findAcademicYear(UUID academicYearId) {
+        return academicYearRepository.findById(uuidToLong(academicYearId))
+                .orElseThrow(() -> new ResourceNotFoundException("Academic year not found with id: " + academicYearId));
+    }
+
+    private FeeInvoice findInvoice(UUID invoiceId) {
+        return feeInvoiceRepository.findByIdWithDetails(uuidToLong(invoiceId))
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice not found with id: " + invoiceId));
+    }
+
+    private static String normalizePeriod(String billingPeriod) {
+        return billingPeriod.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private FeeStructureResponse toStructureResponse(FeeStructure structure) {
+        FeeStructureResponse response = new FeeStructureResponse();
+        response.setId(longToUuid(structure.getId()));
+        response.setAcademicYearId(longToUuid(structure.getAcademicYear().getId()));
+        response.setClassId(longToUuid(structure.getGradeClass().getId()));
+        response.setClassName(structure.getGradeClass().getName());
+        response.setFeeHead(structure.getFeeHead());
+        response.setBillingPeriod(structure.getBillingPeriod());
+        response.setAmount(structure.getAmount());
+        return response;
+    }
+
+    private FeeInvoiceRunResponse toRunResponse(FeeInvoiceRun run) {
+        FeeInvoiceRunResponse response = new FeeInvoiceRunResponse();
+        response.setId(longToUuid(run.getId()));
+        response.setAcademicYearId(longToUuid(run.getAcademicYear().getId()));
+        response.setBillingPeriod(run.getBillingPeriod());
+        response.setDueDate(run.getDueDate());
+        response.setStatus(run.getStatus());
+        response.setInvoicesCreated(run.getInvoicesCreated());
+        response.setAmountInvoiced(run.getAmountInvoiced());
+        response.setStartedAt(run.getStartedAt());
+        response.setFinishedAt(run.getFinishedAt());
+        response.setError(run.getError());
+        return response;
+    }
+
+    private FeeInvoiceResponse toInvoiceResponse(FeeInvoice invoice) {
+        FeeInvoiceResponse response = new FeeInvoiceResponse();
+        response.setId(longToUuid(invoice.getId()));
+        response.setInvoiceNumber(invoice.getInvoiceNumber());
+        response.setInvoiceRunId(longToUuid(invoice.getInvoiceRun().getId()));
+        response.setEnrollmentId(longToUuid(invoice.getEnrollment().getId()));
+        response.setStudentId(longToUuid(invoice.getStudent().getId()));
+        response.setAdmissionNumber(invoice.getStudent().getAdmissionNumber());
+        response.setStudentName(invoice.getStudent().getFullName());
+        response.setClassSectionId(longToUuid(invoice.getClassSection().getId()));
+        response.setClassSectionName(invoice.getClassSection().getDisplayName());
+        response.setBillingPeriod(invoice.getBillingPeriod());
+        response.setAmount(invoice.getAmount());
+        response.setPaidAmount(invoice.getPaidAmount());
+        response.setBalance(invoice.getAmount().subtract(invoice.getPaidAmount()));
+        response.setStatus(invoice.getStatus());
+        response.setDueDate(invoice.getDueDate());
+        return response;
+    }
+
+    private FeeInvoiceResponse toInvoiceResponseWithLines(FeeInvoice invoice) {
+        FeeInvoiceResponse response = toInvoiceResponse(invoice);
+        response.setLines(feeInvoiceLineRepository.findByInvoiceIdOrderByFeeHead(invoice.getId()).stream()
+                .map(line -> {
+                    FeeInvoiceLineResponse lineResponse = new FeeInvoiceLineResponse();
+                    lineResponse.setFeeHead(line.getFeeHead());
+                    lineResponse.setAmount(line.getAmount());
+                    return lineResponse;
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private FeeAccountResponse toAccountResponse(FeeAccount account) {
+        FeeAccountResponse response = new FeeAccountResponse();
+        response.setEnrollmentId(longToUuid(account.getEnrollment().getId()));
+        response.setStudentId(longToUuid(account.getStudent().getId()));
+        response.setAdmissionNumber(account.getStudent().getAdmissionNumber());
+        response.setStudentName(account.getStudent().getFullName());
+        response.setClassSectionId(longToUuid(account.getClassSection().getId()));
+        response.setClassSectionName(account.getClassSection().getDisplayName());
+        response.setBilled(account.getBilled());
+        response.setPaid(account.getPaid());
+        response.setBalance(account.getBalance());
+        return response;
+    }
+
+    private FeeLedgerEntryResponse toLedgerEntryResponse(FeeLedgerEntry entry) {
+        FeeLedgerEntryResponse response = new FeeLedgerEntryResponse();
+        response.setId(longToUuid(entry.getId()));
+        response.setInvoiceId(longToUuid(entry.getInvoice().getId()));
+        response.setInvoiceNumber(entry.getInvoice().getInvoiceNumber());
+        response.setEntryType(entry.getEntryType());
+        response.setAmount(entry.getAmount());
+        response.setEntryDate(entry.getEntryDate());
+        response.setReference(entry.getReference());
+        return response;
+    }
+
+    private FeePaymentResponse toPaymentResponse(FeePayment payment) {
+        FeePaymentResponse response = new FeePaymentResponse();
+        response.setId(longToUuid(payment.getId()));
+        response.setEnrollmentId(longToUuid(payment.getEnrollment().getId()));
+        response.setInvoiceId(longToUuid(payment.getInvoice().getId()));
+        response.setInvoiceNumber(payment.getInvoice().getInvoiceNumber());
+        response.setAdmissionNumber(payment.getAdmissionNumber());
+        response.setAmount(payment.getAmount());
+        response.setPaidOn(payment.getPaidOn());
+        response.setBankReference(payment.getBankReference());
+        if (payment.getStatementRun() != null) {
+            response.setStatementRunId(longToUuid(payment.getStatementRun().getId()));
+        }
+        response.setLineNumber(payment.getLineNumber());
+        return response;
+    }
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+}
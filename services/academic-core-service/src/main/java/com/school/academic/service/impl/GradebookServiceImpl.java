@@ -0,0 +1,438 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.CreateExamRequest;
+import com.school.academic.dto.request.MarkEntryRequest;
+import com.school.academic.dto.request.SubmitMarksRequest;
+import com.school.academic.dto.response.*;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.DuplicateResourceException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.gradebook.GradeScale;
+import com.school.academic.gradebook.MarksColumn;
+import com.school.academic.gradebook.SectionResults;
+import com.school.academic.gradebook.SectionResults.SubjectMarks;
+import com.school.academic.repository.*;
+import com.school.academic.service.GradebookService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class GradebookServiceImpl implements GradebookService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GradebookServiceImpl.class);
+
+    private final ExamRepository examRepository;
+    private final ExamMarksRepository examMarksRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final SubjectRepository subjectRepository;
+    private final SubjectAssignmentRepository subjectAssignmentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeScale gradeScale;
+    private final ExecutorService calculators;
+
+    public GradebookServiceImpl(ExamRepository examRepository,
+                                ExamMarksRepository examMarksRepository,
+                                AcademicYearRepository academicYearRepository,
+                                ClassSectionRepository classSectionRepository,
+                                SubjectRepository subjectRepository,
+                                SubjectAssignmentRepository subjectAssignmentRepository,
+                                EnrollmentRepository enrollmentRepository,
+                                @Value("${academic.gradebook.grade-scale:A1:91,A2:81,B1:71,B2:61,C1:51,C2:41,D:33,E:0}")
+                                String gradeScale,
+                                @Value("${academic.gradebook.parallelism:0}") int parallelism) {
+        this.examRepository = examRepository;
+        this.examMarksRepository = examMarksRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.subjectRepository = subjectRepository;
+        this.subjectAssignmentRepository = subjectAssignmentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.gradeScale = GradeScale.parse(gradeScale);
+        AtomicInteger sequence = new AtomicInteger();
+        this.calculators = Executors.newFixedThreadPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "gradebook-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void destroy() {
+        calculators.shutdownNow();
+    }
+
+    // ==================== Exams ====================
+
+    @Override
+    public ExamResponse createExam(CreateExamRequest request) {
+        log.info("Creating exam: {} for academicYearId: {}", request.getName(), request.getAcademicYearId());
+
+        AcademicYear year = academicYearRepository.findById(uuidToLong(request.getAcademicYearId()))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Academic year not found with id: " + request.getAcademicYearId()));
+        String name = request.getName().trim();
+        if (examRepository.existsByAcademicYearIdAndName(year.getId(), name)) {
+            throw new DuplicateResourceException("DUPLICATE_EXAM",
+                    "Exam '" + name + "' already exists in academic year " + year.getName());
+        }
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getStartDate().isAfter(request.getEndDate())) {
+            throw new BusinessRuleException("INVALID_EXAM_DATES", "Exam start date must not be after its end date");
+        }
+        for (var date : Arrays.asList(request.getStartDate(), request.getEndDate())) {
+            if (date != null && (date.isBefore(year.getStartDate()) || date.isAfter(year.getEndDate()))) {
+                throw new BusinessRuleException("INVALID_EXAM_DATES",
+                        "Date " + date + " is outside academic year " + year.getName());
+            }
+        }
+
+        Exam exam = new Exam();
+        exam.setAcademicYear(year);
+        exam.setName(name);
+        exam.setStartDate(request.getStartDate());
+        exam.setEndDate(request.getEndDate());
+        exam = examRepository.save(exam);
+
+        log.info("Created exam with id: {}", exam.getId());
+        return toExamResponse(exam);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExamResponse> getExamsByAcademicYear(UUID academicYearId) {
+        log.debug("Getting exams for academicYearId: {}", academicYearId);
+        return examRepository.findByAcademicYearId(uuidToLong(academicYearId)).stream()
+                .map(this::toExamResponse)
+                .collect(Collectors.toList());
+    }
+
+    // ==================== Marks ====================
+
+    @Override
+    public MarksSheetResponse submitMarks(UUID examId, UUID classSectionId, UUID subjectId, SubmitMarksRequest request) {
+        log.info("Submitting marks for examId: {}, classSectionId: {}, subjectId: {}", examId, classSectionId, subjectId);
+
+        Exam exam = findExam(examId);
+        ClassSection classSection = findClassSection(classSectionId, exam);
+        Subject subject = subjectRepository.findById(uuidToLong(subjectId))
+                .orElseThrow(() -> new ResourceNotFoundException("Subject not found with id: " + subjectId));
+        if (!subjectAssignmentRepository.existsSubjectAssignmentForClassSection(subject.getId(),
+                classSection.getGradeClass().getId(), classSection.getSection().getId(), exam.getAcademicYear().getId())) {
+            throw new BusinessRuleException("SUBJECT_NOT_TAUGHT",
+                    "Subject " + subject.getName() + " is not taught to " + classSection.getDisplayName());
+        }
+
+        List<Enrollment> roster = enrollmentRepository
+                .findActiveByClassSectionIdAndAcademicYearId(classSection.getId(), exam.getAcademicYear().getId());
+        if (roster.isEmpty()) {
+            throw new BusinessRuleException("EMPTY_ROSTER", "Class section has no active enrollments");
+        }
+        long withoutRollNumber = roster.stream().filter(e -> e.getRollNumber() == null).count();
+        if (withoutRollNumber > 0) {
+            throw new BusinessRuleException("ROLL_NUMBER_MISSING",
+                    withoutRollNumber + " active students have no roll number; assign roll numbers first");
+        }
+
+        MarksColumn column = toColumn(roster, request);
+
+        // The whole section's marks for the subject are one row, inserted or replaced in a single statement
+        examMarksRepository.upsert(exam.getId(), classSection.getId(), subject.getId(), request.getMaxMarks(),
+                column.toBytes());
+
+        log.info("Submitted {} marks for {} in {} ({})", request.getMarks().size(), subject.getName(),
+                classSection.getDisplayName(), exam.getName());
+        return toMarksSheetResponse(exam, classSection, subject, request.getMaxMarks(), column, roster);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MarksSheetResponse getMarks(UUID examId, UUID classSectionId, UUID subjectId) {
+        log.debug("Getting marks for examId: {}, classSectionId: {}, subjectId: {}", examId, classSectionId, subjectId);
+
+        Exam exam = findExam(examId);
+        ClassSection classSection = findClassSection(classSectionId, exam);
+        ExamMarks marks = examMarksRepository
+                .findByExamIdAndClassSectionIdAndSubjectId(exam.getId(), classSection.getId(), uuidToLong(subjectId))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Marks not entered for subject " + subjectId + " in class section " + classSectionId));
+        List<Enrollment> enrollments = enrollmentRepository
+                .findByClassSectionIdAndAcademicYearId(classSection.getId(), exam.getAcademicYear().getId());
+        return toMarksSheetResponse(exam, classSection, marks.getSubject(), marks.getMaxMarks(),
+                MarksColumn.fromBytes(marks.getMarksTenths()), enrollments);
+    }
+
+    // ==================== Results ====================
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExamResultsResponse getResults(UUID examId, UUID classSectionId) {
+        log.debug("Getting results for examId: {}, classSectionId: {}", examId, classSectionId);
+
+        Exam exam = findExam(examId);
+        Set<Long> sectionIds = classSectionId != null ? Set.of(findClassSection(classSectionId, exam).getId()) : Set.of();
+        return results(exam, sectionIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExamResultsResponse getResultsForSections(UUID examId, Collection<UUID> classSectionIds) {
+        log.debug("Getting results for examId: {}, classSectionIds: {}", examId, classSectionIds);
+
+        Exam exam = findExam(examId);
+        return results(exam, classSectionIds.stream().map(this::uuidToLong).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Results of the given class sections of an exam, or of all of them when {@code sectionIds} is empty.
+     */
+    private ExamResultsResponse results(Exam exam, Set<Long> sectionIds) {
+        Long yearId = exam.getAcademicYear().getId();
+        boolean allSections = sectionIds.isEmpty();
+
+        // One query each for curriculum, marks and rosters; everything after this works on plain arrays
+        Map<Long, SectionInput> sections = new LinkedHashMap<>();
+        for (Object[] row : classSectionRepository.findCurriculumRowsByAcademicYearId(yearId)) {
+            Long sectionId = (Long) row[0];
+            if (!allSections && !sectionIds.contains(sectionId)) {
+                continue;
+            }
+            SectionInput section = sections.computeIfAbsent(sectionId,
+                    id -> new SectionInput(id, row[1] + " - " + row[2]));
+            if (row[6] != null) {
+                section.curriculum.put((Long) row[6], (String) row[7]);
+            }
+        }
+
+        List<ExamMarks> marks = allSections
+                ? examMarksRepository.findByExamId(exam.getId())
+                : examMarksRepository.findByExamIdAndClassSectionIds(exam.getId(), sectionIds);
+        for (ExamMarks sheet : marks) {
+            SectionInput section = sections.get(sheet.getClassSection().getId());
+            if (section != null) {
+                section.subjects.add(new SubjectInput(sheet.getSubject().getId(), sheet.getSubject().getName(),
+                        new SubjectMarks(sheet.getMaxMarks(), MarksColumn.fromBytes(sheet.getMarksTenths()))));
+            }
+        }
+
+        List<Enrollment> enrollments = allSections
+                ? enrollmentRepository.findByAcademicYearId(yearId)
+                : enrollmentRepository.findActiveByAcademicYearIdAndClassSectionIds(yearId, sectionIds);
+        for (Enrollment enrollment : enrollments) {
+            SectionInput section = sections.get(enrollment.getClassSection().getId());
+            if (section != null && "ACTIVE".equals(enrollment.getStatus()) && enrollment.getRollNumber() != null) {
+                section.students.add(new StudentInput(enrollment.getStudent().getId(),
+                        enrollment.getStudent().getFullName(), enrollment.getRollNumber()));
+            }
+        }
+
+        // Sections are independent, so each is totalled, graded and ranked on its own thread
+        List<CompletableFuture<SectionResultResponse>> futures = sections.values().stream()
+                .map(section -> CompletableFuture.supplyAsync(() -> toSectionResultResponse(section), calculators))
+                .toList();
+
+        ExamResultsResponse response = new ExamResultsResponse();
+        response.setExamId(longToUuid(exam.getId()));
+        response.setExamName(exam.getName());
+        response.setAcademicYearId(longToUuid(yearId));
+        response.setSections(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+        return response;
+    }
+
+    private SectionResultResponse toSectionResultResponse(SectionInput section) {
+        section.subjects.sort(Comparator.comparing(SubjectInput::name));
+        section.students.sort(Comparator.comparingInt(StudentInput::rollNumber));
+        int[] rollNumbers = section.students.stream().mapToInt(StudentInput::rollNumber).toArray();
+        SectionResults results = SectionResults.compute(rollNumbers,
+                section.subjects.stream().map(SubjectInput::marks).toList(), gradeScale);
+
+        List<StudentResultResponse> students = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            StudentInput student = section.students.get(i);
+            int rollNumber = results.rollNumber(i);
+            StudentResultResponse result = new StudentResultResponse();
+            result.setStudentId(longToUuid(student.studentId()));
+            result.setStudentName(student.name());
+            result.setRollNumber(rollNumber);
+            result.setMarks(section.subjects.stream().map(subject -> {
+                SubjectMarkResponse mark = new SubjectMarkResponse();
+                mark.setSubjectId(longToUuid(subject.subjectId()));
+                mark.setMarks(subject.marks().column().marksOf(rollNumber));
+                mark.setAbsent(subject.marks().column().isAbsent(rollNumber));
+                return mark;
+            }).collect(Collectors.toList()));
+            result.setTotal(BigDecimal.valueOf(results.totalTenths(i), 1));
+            result.setPercentage(results.percentage(i));
+            result.setGrade(results.grade(i));
+            result.setRank(results.rank(i));
+            result.setPercentile(results.percentile(i));
+            students.add(result);
+        }
+
+        Set<Long> entered = section.subjects.stream().map(SubjectInput::subjectId).collect(Collectors.toSet());
+        SectionResultResponse response = new SectionResultResponse();
+        response.setClassSectionId(longToUuid(section.classSectionId));
+        response.setClassSectionName(section.name);
+        response.setMaxTotal(BigDecimal.valueOf(results.maxTotalTenths(), 1));
+        response.setHighestTotal(BigDecimal.valueOf(results.highestTotalTenths(), 1));
+        response.setAveragePercentage(results.averagePercentage());
+        response.setSubjects(section.subjects.stream().map(subject -> {
+            SubjectResultResponse result = new SubjectResultResponse();
+            result.setSubjectId(longToUuid(subject.subjectId()));
+            result.setSubjectName(subject.name());
+            result.setMaxMarks(subject.marks().maxMarks());
+            result.setEntered(subject.marks().column().enteredCount());
+            result.setHighestMarks(BigDecimal.valueOf(subject.marks().column().maxTenths(), 1));
+            return result;
+        }).collect(Collectors.toList()));
+        response.setPendingSubjects(section.curriculum.entrySet().stream()
+                .filter(subject -> !entered.contains(subject.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList()));
+        response.setStudents(students);
+        return response;
+    }
+
+    // ==================== Helpers ====================
+
+    private Exam findExam(UUID examId) {
+        return examRepository.findByIdWithAcademicYear(uuidToLong(examId))
+                .orElseThrow(() -> new ResourceNotFoundException("Exam not found with id: " + examId));
+    }
+
+    private ClassSection findClassSection(UUID classSectionId, Exam exam) {
+        ClassSection classSection = classSectionRepository.findByIdWithAssociations(uuidToLong(classSectionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Class section not found with id: " + classSectionId));
+        if (!classSection.getAcademicYear().getId().equals(exam.getAcademicYear().getId())) {
+            throw new BusinessRuleException("EXAM_YEAR_MISMATCH",
+                    "Class section " + classSection.getDisplayName() + " is not in the exam's academic year");
+        }
+        return classSection;
+    }
+
+    private MarksColumn toColumn(List<Enrollment> roster, SubmitMarksRequest request) {
+        Set<Integer> rollNumbers = roster.stream().map(Enrollment::getRollNumber).collect(Collectors.toSet());
+        BigDecimal maxMarks = BigDecimal.valueOf(request.getMaxMarks());
+        Set<Integer> seen = new HashSet<>();
+        try {
+            MarksColumn column = MarksColumn.empty(Collections.max(rollNumbers));
+            for (MarkEntryRequest entry : request.getMarks()) {
+                Integer rollNumber = entry.getRollNumber();
+                boolean absent = Boolean.TRUE.equals(entry.getAbsent());
+                if (!rollNumbers.contains(rollNumber)) {
+                    throw new IllegalArgumentException("Roll number " + rollNumber + " is not on the roster");
+                }
+                if (!seen.add(rollNumber)) {
+                    throw new IllegalArgumentException("Roll number " + rollNumber + " is listed more than once");
+                }
+                if (absent == (entry.getMarks() != null)) {
+                    throw new IllegalArgumentException("Roll number " + rollNumber + " needs either marks or absent");
+                }
+                if (absent) {
+                    column.setAbsent(rollNumber);
+                } else if (entry.getMarks().compareTo(maxMarks) > 0) {
+                    throw new IllegalArgumentException("Marks for roll number " + rollNumber
+                            + " exceed the maximum of " + request.getMaxMarks());
+                } else {
+                    column.set(rollNumber, entry.getMarks());
+                }
+            }
+            return column;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("INVALID_MARKS", e.getMessage());
+        }
+    }
+
+    // ==================== Mappers ====================
+
+    private ExamResponse toExamResponse(Exam exam) {
+        ExamResponse response = new ExamResponse();
+        response.setId(longToUuid(exam.getId()));
+        response.setAcademicYearId(longToUuid(exam.getAcademicYear().getId()));
+        response.setAcademicYearName(exam.getAcademicYear().getName());
+        response.setName(exam.getName());
+        response.setStartDate(exam.getStartDate());
+        response.setEndDate(exam.getEndDate());
+        return response;
+    }
+
+    private MarksSheetResponse toMarksSheetResponse(Exam exam, ClassSection classSection, Subject subject,
+                                                    Integer maxMarks, MarksColumn column, List<Enrollment> enrollments) {
+        List<StudentMarkResponse> students = enrollments.stream()
+                .filter(e -> e.getRollNumber() != null && column.isEntered(e.getRollNumber()))
+                .sorted(Comparator.comparing(Enrollment::getRollNumber))
+                .map(e -> {
+                    StudentMarkResponse mark = new StudentMarkResponse();
+                    mark.setStudentId(longToUuid(e.getStudent().getId()));
+                    mark.setStudentName(e.getStudent().getFullName());
+                    mark.setRollNumber(e.getRollNumber());
+                    mark.setMarks(column.marksOf(e.getRollNumber()));
+                    mark.setAbsent(column.isAbsent(e.getRollNumber()));
+                    return mark;
+                })
+                .collect(Collectors.toList());
+
+        MarksSheetResponse response = new MarksSheetResponse();
+        response.setExamId(longToUuid(exam.getId()));
+        response.setExamName(exam.getName());
+        response.setClassSectionId(longToUuid(classSection.getId()));
+        response.setClassSectionName(classSection.getDisplayName());
+        response.setSubjectId(longToUuid(subject.getId()));
+        response.setSubjectName(subject.getName());
+        response.setMaxMarks(maxMarks);
+        response.setEntered(column.enteredCount());
+        response.setAbsent((int) students.stream().filter(StudentMarkResponse::getAbsent).count());
+        response.setHighestMarks(BigDecimal.valueOf(column.maxTenths(), 1));
+        response.setStudents(students);
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+
+    /**
+     * Everything needed to compute one section's results, detached from the persistence context.
+     */
+    private static final class SectionInput {
+        private final Long classSectionId;
+        private final String name;
+        private final Map<Long, String> curriculum = new LinkedHashMap<>();
+        private final List<SubjectInput> subjects = new ArrayList<>();
+        private final List<StudentInput> students = new ArrayList<>();
+
+        private SectionInput(Long classSectionId, String name) {
+            this.classSectionId = classSectionId;
+            this.name = name;
+        }
+    }
+
+    private record SubjectInput(Long subjectId, String name, SubjectMarks marks) {
+    }
+
+    private record StudentInput(Long studentId, String name, int rollNumber) {
+    }
+}
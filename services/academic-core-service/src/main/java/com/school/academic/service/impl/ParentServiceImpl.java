@@ -3,6 +3,7 @@ package com.school.academic.service.impl;
 import com.school.academic.domain.Parent;
 import com.school.academic.dto.request.CreateParentRequest;
 import com.school.academic.dto.response.ParentResponse;
+import com.school.academic.frontoffice.service.PhoneLookupService;
 import com.school.academic.repository.ParentRepository;
 import com.school.academic.service.ParentService;
 import org.slf4j.Logger;
@@ -19,9 +20,12 @@ public class ParentServiceImpl implements ParentService {
     private static final Logger log = LoggerFactory.getLogger(ParentServiceImpl.class);
 
     private final ParentRepository parentRepository;
+    private final PhoneLookupService phoneLookupService;
 
-    public ParentServiceImpl(ParentRepository parentRepository) {
+    public ParentServiceImpl(ParentRepository parentRepository,
+                             PhoneLookupService phoneLookupService) {
         this.parentRepository = parentRepository;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -38,6 +42,7 @@ public class ParentServiceImpl implements ParentService {
         parent.setAddress(request.getAddress());
 
         Parent saved = parentRepository.save(parent);
+        phoneLookupService.recordParent(saved);
         log.info("Created parent with id: {}", saved.getId());
 
         return toParentResponse(saved);
@@ -0,0 +1,390 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.attendance.AttendanceBitmap;
+import com.school.academic.attendance.AttendanceTally;
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.GenerateReportCardsRequest;
+import com.school.academic.dto.response.*;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.reportcard.ReportCard;
+import com.school.academic.reportcard.ReportCardBatch;
+import com.school.academic.reportcard.ReportCardJob;
+import com.school.academic.reportcard.ReportCardRenderer;
+import com.school.academic.repository.*;
+import com.school.academic.service.GradebookService;
+import com.school.academic.service.ReportCardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Report-card jobs. A job is a report_card_run row: the node that accepts it renders
+ * it and writes its status and progress there, and every node reads jobs from the
+ * table, so any of them can report on any job.
+ */
+@Service
+public class ReportCardServiceImpl implements ReportCardService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportCardServiceImpl.class);
+
+    private final AcademicYearRepository academicYearRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentParentRepository studentParentRepository;
+    private final AttendanceDayRepository attendanceDayRepository;
+    private final ExamRepository examRepository;
+    private final GradebookService gradebookService;
+    private final ReportCardRunRepository reportCardRunRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReportCardRenderer renderer;
+    private final Path outputDir;
+    private final ForkJoinPool renderPool;
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-card-jobs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReportCardServiceImpl(AcademicYearRepository academicYearRepository,
+                                 ClassSectionRepository classSectionRepository,
+                                 EnrollmentRepository enrollmentRepository,
+                                 StudentParentRepository studentParentRepository,
+                                 AttendanceDayRepository attendanceDayRepository,
+                                 ExamRepository examRepository,
+                                 GradebookService gradebookService,
+                                 ReportCardRunRepository reportCardRunRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${academic.report-cards.output-dir:./data/report-cards}") String outputDir,
+                                 @Value("${academic.report-cards.parallelism:0}") int parallelism,
+                                 @Value("${academic.report-cards.school-name:}") String schoolName) {
+        this.academicYearRepository = academicYearRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentParentRepository = studentParentRepository;
+        this.attendanceDayRepository = attendanceDayRepository;
+        this.examRepository = examRepository;
+        this.gradebookService = gradebookService;
+        this.reportCardRunRepository = reportCardRunRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.renderer = new ReportCardRenderer(schoolName);
+        this.outputDir = Path.of(outputDir).toAbsolutePath().normalize();
+        this.renderPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Jobs still queued on this node are recorded as failed; the running one fails once interrupted.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        for (Runnable queued : jobRunner.shutdownNow()) {
+            if (queued instanceof QueuedJob queuedJob) {
+                queuedJob.job().failed("The node shut down before the job started");
+                saveProgress(queuedJob.job());
+            }
+        }
+        renderPool.shutdownNow();
+        jobRunner.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public ReportCardJobResponse startDirectoryJob(GenerateReportCardsRequest request) {
+        ReportCardJob job = register(request, ReportCardJob.Output.DIRECTORY);
+        log.info("Queued report cards for academic year {} into {} (job {})",
+                job.getAcademicYearName(), job.getOutputDir(), job.getId());
+
+        Path dir = Path.of(job.getOutputDir());
+        jobRunner.execute(new QueuedJob(job, () -> {
+            try {
+                run(job, ReportCardBatch.directory(dir));
+            } catch (IOException | RuntimeException e) {
+                // Recorded on the job by run()
+            }
+        }));
+        return getJob(job.getId());
+    }
+
+    @Override
+    public ReportCardJobResponse prepareZip(GenerateReportCardsRequest request) {
+        ReportCardJob job = register(request, ReportCardJob.Output.ZIP);
+        log.info("Streaming report cards for academic year {} as ZIP (job {})", job.getAcademicYearName(), job.getId());
+        return getJob(job.getId());
+    }
+
+    @Override
+    public void writeZip(UUID jobId, OutputStream out) throws IOException {
+        ReportCardJob job = readOnlyTransaction.execute(status -> {
+            ReportCardRun run = findRun(jobId);
+            if (!ReportCardJob.Output.ZIP.name().equals(run.getOutput())
+                    || !ReportCardJob.Status.QUEUED.name().equals(run.getStatus())) {
+                throw new BusinessRuleException("REPORT_CARD_JOB_NOT_PENDING",
+                        "Report card job " + jobId + " is not a ZIP job waiting to be streamed");
+            }
+            return toJob(run);
+        });
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            run(job, ReportCardBatch.zip(zip));
+        }
+    }
+
+    @Override
+    public ReportCardJobResponse getJob(UUID jobId) {
+        return readOnlyTransaction.execute(status -> toResponse(findRun(jobId)));
+    }
+
+    @Override
+    public List<ReportCardJobResponse> getJobs() {
+        return readOnlyTransaction.execute(status -> reportCardRunRepository.findTop50ByOrderByIdDesc().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    // ==================== Batch ====================
+
+    private void run(ReportCardJob job, ReportCardBatch.Sink sink) throws IOException {
+        try {
+            job.loading();
+            saveProgress(job);
+            List<ReportCard> cards = readOnlyTransaction.execute(status -> loadCards(job));
+            job.rendering(cards.size());
+            saveProgress(job);
+            ReportCardBatch.render(renderPool, renderer, cards, sink, job, () -> saveProgress(job));
+            job.completed();
+            saveProgress(job);
+            log.info("Rendered {} report cards ({} failed) for job {} at {} cards/s",
+                    job.getRendered(), job.getFailed(), job.getId(), job.cardsPerSecond());
+        } catch (IOException | RuntimeException e) {
+            log.error("Report card job {} failed after {} cards", job.getId(), job.getRendered(), e);
+            job.failed(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            saveProgress(job);
+            throw e;
+        }
+    }
+
+    /**
+     * Copy the job's progress to its report_card_run row. A failed write is logged and left to
+     * the next one, so it never fails the job.
+     */
+    private void saveProgress(ReportCardJob job) {
+        try {
+            transaction.executeWithoutResult(status -> reportCardRunRepository.findById(uuidToLong(job.getId()))
+                    .ifPresent(run -> {
+                        run.setStatus(job.getStatus().name());
+                        run.setTotal(job.getTotal());
+                        run.setRendered(job.getRendered());
+                        run.setFailed(job.getFailed());
+                        run.setStartedAt(job.getStartedAt());
+                        run.setRenderingAt(job.getRenderingAt());
+                        run.setFinishedAt(job.getFinishedAt());
+                        run.setError(truncate(job.getError(), 512));
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("Could not record progress of report card job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Load every card of the job with a handful of bulk queries: enrollments with student and
+     * class section, guardians with parent, attendance bitmaps and each exam's results. A job for
+     * some class sections reads only those sections' rows.
+     */
+    private List<ReportCard> loadCards(ReportCardJob job) {
+        Long yearId = job.getAcademicYearId();
+        Set<Long> sectionIds = job.getClassSectionIds();
+        boolean allSections = sectionIds.isEmpty();
+
+        List<Enrollment> enrollments = (allSections
+                ? enrollmentRepository.findByAcademicYearId(yearId)
+                : enrollmentRepository.findActiveByAcademicYearIdAndClassSectionIds(yearId, sectionIds)).stream()
+                .filter(e -> "ACTIVE".equals(e.getStatus()))
+                .sorted(Comparator.comparing((Enrollment e) -> e.getClassSection().getDisplayName())
+                        .thenComparing(Enrollment::getRollNumber, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        Map<Long, List<ReportCard.Guardian>> guardians = new HashMap<>();
+        (allSections
+                ? studentParentRepository.findByAcademicYearIdWithParent(yearId)
+                : studentParentRepository.findByClassSectionIdsWithParent(yearId, sectionIds)).stream()
+                .sorted(Comparator.comparing((StudentParent sp) -> !Boolean.TRUE.equals(sp.getIsPrimaryContact())))
+                .forEach(sp -> {
+                    Parent parent = sp.getParent();
+                    String relationship = sp.getRelationship() != null ? sp.getRelationship() : parent.getRelationship();
+                    guardians.computeIfAbsent(sp.getId().getStudentId(), id -> new ArrayList<>())
+                            .add(new ReportCard.Guardian(parent.getFullName(), relationship, parent.getPhone()));
+                });
+
+        Map<Long, List<AttendanceBitmap>> attendance = new HashMap<>();
+        for (AttendanceDay day : allSections
+                ? attendanceDayRepository.findByAcademicYearId(yearId)
+                : attendanceDayRepository.findByClassSectionIds(sectionIds)) {
+            attendance.computeIfAbsent(day.getClassSection().getId(), id -> new ArrayList<>())
+                    .add(AttendanceBitmap.fromBytes(day.getMarkedBits(), day.getAbsentBits(), day.getLateBits()));
+        }
+
+        List<UUID> sectionUuids = sectionIds.stream().map(this::longToUuid).toList();
+        Map<UUID, List<ReportCard.ExamResult>> exams = new HashMap<>();
+        for (Exam exam : examRepository.findByAcademicYearId(yearId)) {
+            ExamResultsResponse results = gradebookService.getResultsForSections(longToUuid(exam.getId()), sectionUuids);
+            for (SectionResultResponse section : results.getSections()) {
+                if (section.getSubjects().isEmpty()) {
+                    continue;
+                }
+                Map<UUID, SubjectResultResponse> subjects = section.getSubjects().stream()
+                        .collect(Collectors.toMap(SubjectResultResponse::getSubjectId, s -> s));
+                for (StudentResultResponse student : section.getStudents()) {
+                    List<ReportCard.SubjectMarks> marks = student.getMarks().stream()
+                            .map(mark -> {
+                                SubjectResultResponse subject = subjects.get(mark.getSubjectId());
+                                return new ReportCard.SubjectMarks(subject.getSubjectName(), subject.getMaxMarks(),
+                                        mark.getMarks(), Boolean.TRUE.equals(mark.getAbsent()));
+                            })
+                            .toList();
+                    exams.computeIfAbsent(student.getStudentId(), id -> new ArrayList<>())
+                            .add(new ReportCard.ExamResult(exam.getName(), marks, student.getTotal(),
+                                    section.getMaxTotal(), student.getPercentage(), student.getGrade(),
+                                    student.getRank(), student.getPercentile(), section.getStudents().size()));
+                }
+            }
+        }
+
+        List<ReportCard> cards = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            Student student = enrollment.getStudent();
+            AttendanceTally tally = new AttendanceTally();
+            if (enrollment.getRollNumber() != null) {
+                for (AttendanceBitmap day : attendance.getOrDefault(enrollment.getClassSection().getId(), List.of())) {
+                    tally.add(day.statusOf(enrollment.getRollNumber()));
+                }
+            }
+            cards.add(new ReportCard(enrollment.getAcademicYear().getName(),
+                    enrollment.getClassSection().getDisplayName(),
+                    student.getFullName(),
+                    student.getAdmissionNumber(),
+                    enrollment.getRollNumber(),
+                    student.getDob(),
+                    guardians.getOrDefault(student.getId(), List.of()),
+                    tally,
+                    exams.getOrDefault(longToUuid(student.getId()), List.of())));
+        }
+        return cards;
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Validate the request and record the job as queued.
+     */
+    private ReportCardJob register(GenerateReportCardsRequest request, ReportCardJob.Output output) {
+        return transaction.execute(status -> {
+            Set<Long> sectionIds = new TreeSet<>();
+            AcademicYear found = academicYearRepository.findById(uuidToLong(request.getAcademicYearId()))
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Academic year not found with id: " + request.getAcademicYearId()));
+            for (UUID classSectionId : request.getClassSectionIds()) {
+                ClassSection classSection = classSectionRepository.findById(uuidToLong(classSectionId))
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "Class section not found with id: " + classSectionId));
+                if (!classSection.getAcademicYear().getId().equals(found.getId())) {
+                    throw new BusinessRuleException("CLASS_SECTION_NOT_IN_YEAR",
+                            "Class section " + classSectionId + " is not in academic year " + found.getName());
+                }
+                sectionIds.add(classSection.getId());
+            }
+
+            ReportCardRun run = new ReportCardRun();
+            run.setAcademicYear(found);
+            run.setClassSectionIds(sectionIds.isEmpty() ? null
+                    : sectionIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            run.setOutput(output.name());
+            run.setStatus(ReportCardJob.Status.QUEUED.name());
+            run.setTotal(0);
+            run.setRendered(0);
+            run.setFailed(0);
+            reportCardRunRepository.saveAndFlush(run);
+            if (output == ReportCardJob.Output.DIRECTORY) {
+                run.setOutputDir(outputDir.resolve(longToUuid(run.getId()).toString()).toString());
+            }
+            return toJob(run);
+        });
+    }
+
+    private ReportCardRun findRun(UUID jobId) {
+        return reportCardRunRepository.findById(uuidToLong(jobId))
+                .orElseThrow(() -> new ResourceNotFoundException("Report card job not found with id: " + jobId));
+    }
+
+    // ==================== Mappers ====================
+
+    private ReportCardJob toJob(ReportCardRun run) {
+        Set<Long> sectionIds = run.getClassSectionIds() == null ? Set.of()
+                : Arrays.stream(run.getClassSectionIds().split(",")).map(Long::valueOf).collect(Collectors.toSet());
+        ReportCardJob job = new ReportCardJob(longToUuid(run.getId()), run.getAcademicYear().getId(),
+                run.getAcademicYear().getName(), sectionIds, ReportCardJob.Output.valueOf(run.getOutput()));
+        job.setOutputDir(run.getOutputDir());
+        return job;
+    }
+
+    private ReportCardJobResponse toResponse(ReportCardRun run) {
+        ReportCardJobResponse response = new ReportCardJobResponse();
+        response.setJobId(longToUuid(run.getId()));
+        response.setAcademicYearId(longToUuid(run.getAcademicYear().getId()));
+        response.setAcademicYearName(run.getAcademicYear().getName());
+        response.setOutput(run.getOutput());
+        response.setStatus(run.getStatus());
+        response.setTotal(run.getTotal());
+        response.setRendered(run.getRendered());
+        response.setFailed(run.getFailed());
+        response.setCardsPerSecond(ReportCardJob.cardsPerSecond(run.getRendered(), run.getRenderingAt(), run.getFinishedAt()));
+        response.setCreatedAt(run.getCreatedAt());
+        response.setStartedAt(run.getStartedAt());
+        response.setFinishedAt(run.getFinishedAt());
+        response.setOutputDir(run.getOutputDir());
+        response.setError(run.getError());
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+
+    /**
+     * A directory job waiting for the job runner, kept recognizable so shutdown can record it as failed.
+     */
+    private record QueuedJob(ReportCardJob job, Runnable task) implements Runnable {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
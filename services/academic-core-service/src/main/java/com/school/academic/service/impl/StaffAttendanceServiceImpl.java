@@ -0,0 +1,191 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.attendance.PunchFile;
+import com.school.academic.attendance.StaffCodeIndex;
+import com.school.academic.domain.StaffAttendanceDay;
+import com.school.academic.dto.response.PunchFileIngestResponse;
+import com.school.academic.dto.response.StaffAttendanceDayResponse;
+import com.school.academic.repository.StaffAttendanceDayRepository;
+import com.school.academic.repository.StaffPunchRepository;
+import com.school.academic.repository.StaffRepository;
+import com.school.academic.service.StaffAttendanceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Punch files are spooled to a temporary file and memory-mapped, so the export is parsed
+ * in place rather than read into the heap. Parsed punches are sorted and debounced in a
+ * primitive array, appended to staff_punch in multi-row batches, and only the days the
+ * file covers are re-summarized.
+ */
+@Service
+public class StaffAttendanceServiceImpl implements StaffAttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(StaffAttendanceServiceImpl.class);
+
+    private final StaffRepository staffRepository;
+    private final StaffPunchRepository staffPunchRepository;
+    private final StaffAttendanceDayRepository staffAttendanceDayRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration punchDebounce;
+    private final int batchSize;
+
+    public StaffAttendanceServiceImpl(StaffRepository staffRepository,
+                                      StaffPunchRepository staffPunchRepository,
+                                      StaffAttendanceDayRepository staffAttendanceDayRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${academic.staff-attendance.punch-debounce:PT1M}") Duration punchDebounce,
+                                      @Value("${academic.staff-attendance.batch-size:500}") int batchSize) {
+        this.staffRepository = staffRepository;
+        this.staffPunchRepository = staffPunchRepository;
+        this.staffAttendanceDayRepository = staffAttendanceDayRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.punchDebounce = punchDebounce;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public PunchFileIngestResponse ingestPunchFile(InputStream content, String fileName) {
+        log.info("Loading punch file {}", fileName);
+        long started = System.nanoTime();
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("staff-punches-", ".txt");
+            Files.copy(content, spool, StandardCopyOption.REPLACE_EXISTING);
+            Path file = spool;
+            PunchFileIngestResponse response = transaction.execute(status -> load(file));
+            response.setFileName(fileName);
+            response.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+            log.info("Loaded punch file {}: {} lines, {} new punches, {} duplicates, {} unknown staff, {} malformed in {} ms",
+                    fileName, response.getLines(), response.getInserted(), response.getDuplicates(),
+                    response.getUnknownStaffPunches(), response.getMalformedLines(), response.getElapsedMillis());
+            return response;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not spool punch file " + fileName, ex);
+        } finally {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException ex) {
+                    log.warn("Could not delete spooled punch file {}", spool, ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<StaffAttendanceDayResponse> getStaffAttendance(LocalDate fromDate, LocalDate toDate, UUID staffId) {
+        log.debug("Getting staff attendance from {} to {} for staffId: {}", fromDate, toDate, staffId);
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        return readOnlyTransaction.execute(status ->
+                staffAttendanceDayRepository.findBetween(fromDate, toDate, uuidToLong(staffId)).stream()
+                        .map(this::toStaffAttendanceDayResponse)
+                        .collect(Collectors.toList()));
+    }
+
+    private PunchFileIngestResponse load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Punch file is larger than 2 GB; split it by month");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            Map<String, Long> staffIdsByCode = new HashMap<>();
+            for (Object[] row : staffRepository.findStaffCodes()) {
+                staffIdsByCode.put((String) row[0], (Long) row[1]);
+            }
+            PunchFile punches = PunchFile.parse(buffer, StaffCodeIndex.of(staffIdsByCode));
+            punches.deduplicate(punchDebounce.toSeconds());
+
+            int inserted = 0;
+            for (int from = 0; from < punches.size(); from += batchSize) {
+                inserted += staffPunchRepository.insertPunches(punches, from, Math.min(from + batchSize, punches.size()));
+            }
+
+            // Punches are ordered by staff, then time, so each change of staff or date starts a staff-day
+            Set<Long> staffIds = new HashSet<>();
+            LocalDate fromDate = null;
+            LocalDate toDate = null;
+            int staffDays = 0;
+            for (int i = 0; i < punches.size(); i++) {
+                LocalDate date = punches.punchedAt(i).toLocalDate();
+                if (staffIds.add(punches.staffId(i)) || !date.equals(punches.punchedAt(i - 1).toLocalDate())) {
+                    staffDays++;
+                }
+                fromDate = fromDate == null || date.isBefore(fromDate) ? date : fromDate;
+                toDate = toDate == null || date.isAfter(toDate) ? date : toDate;
+            }
+            if (inserted > 0) {
+                staffPunchRepository.summarizeDays(staffIds, fromDate, toDate);
+            }
+
+            PunchFileIngestResponse response = new PunchFileIngestResponse();
+            response.setLines(punches.getLines());
+            response.setPunches(punches.size() + punches.getDuplicates());
+            response.setDuplicates(punches.getDuplicates());
+            response.setInserted(inserted);
+            response.setAlreadyLoaded(punches.size() - inserted);
+            response.setUnknownStaffPunches(punches.getUnknownStaffPunches());
+            response.setUnknownStaffCodes(punches.getUnknownStaffCodes());
+            response.setMalformedLines(punches.getMalformedCount());
+            response.setMalformedLineNumbers(punches.getMalformedLines());
+            response.setFromDate(fromDate);
+            response.setToDate(toDate);
+            response.setStaffDays(staffDays);
+            return response;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read punch file", ex);
+        }
+    }
+
+    private StaffAttendanceDayResponse toStaffAttendanceDayResponse(StaffAttendanceDay day) {
+        StaffAttendanceDayResponse response = new StaffAttendanceDayResponse();
+        response.setStaffId(longToUuid(day.getStaff().getId()));
+        response.setStaffCode(day.getStaff().getStaffCode());
+        response.setStaffName(day.getStaff().getFullName());
+        response.setDate(day.getAttendanceDate());
+        response.setFirstIn(day.getFirstPunchAt().toLocalTime());
+        response.setPunchCount(day.getPunchCount());
+        // A single punch is an arrival without a recorded departure
+        if (day.getPunchCount() > 1) {
+            response.setLastOut(day.getLastPunchAt().toLocalTime());
+            response.setWorkedMinutes(Duration.between(day.getFirstPunchAt(), day.getLastPunchAt()).toMinutes());
+        }
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+}
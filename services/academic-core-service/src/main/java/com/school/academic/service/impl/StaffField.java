@@ -0,0 +1,110 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.dto.response.StaffResponse;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable staff list fields for sparse fieldsets.
+ *
+ * Each field maps a {@link StaffResponse} property name (as accepted in the
+ * {@code fields} query parameter) to the {@code Staff} attribute it is selected
+ * from, and knows how to copy the selected value onto the response.
+ */
+enum StaffField {
+
+    ID("id", "id", (r, v) -> r.setId(new UUID(0L, (Long) v))),
+    EMPLOYEE_ID("employeeId", "staffCode", (r, v) -> r.setEmployeeId((String) v)),
+    FIRST_NAME("firstName", "firstName", (r, v) -> r.setFirstName((String) v)),
+    LAST_NAME("lastName", "lastName", (r, v) -> r.setLastName((String) v)),
+    GENDER("gender", "gender", (r, v) -> r.setGender((String) v)),
+    DATE_OF_BIRTH("dateOfBirth", "dateOfBirth", (r, v) -> r.setDateOfBirth((LocalDate) v)),
+    DESIGNATION("designation", "designation", (r, v) -> r.setDesignation((String) v)),
+    QUALIFICATION("qualification", "qualification", (r, v) -> r.setQualification((String) v)),
+    PROFESSIONAL_QUALIFICATION("professionalQualification", "professionalQualification",
+            (r, v) -> r.setProfessionalQualification((String) v)),
+    WORK_EXPERIENCE("workExperience", "workExperience", (r, v) -> r.setWorkExperience((String) v)),
+    MOBILE("mobile", "mobile", (r, v) -> r.setMobile((String) v)),
+    EMAIL("email", "email", (r, v) -> r.setEmail((String) v)),
+    JOINING_DATE("joiningDate", "joiningDate", (r, v) -> r.setJoiningDate((LocalDate) v)),
+    AADHAR_NUMBER("aadharNumber", "aadharNumber", (r, v) -> r.setAadharNumber((String) v)),
+    BLOOD_GROUP("bloodGroup", "bloodGroup", (r, v) -> r.setBloodGroup((String) v)),
+    MARITAL_STATUS("maritalStatus", "maritalStatus", (r, v) -> r.setMaritalStatus((String) v)),
+    FATHER_NAME("fatherName", "fatherName", (r, v) -> r.setFatherName((String) v)),
+    MOTHER_NAME("motherName", "motherName", (r, v) -> r.setMotherName((String) v)),
+    STAFF_TYPE("staffType", "staffType", (r, v) -> r.setStaffType((String) v)),
+    PERMANENT_ADDRESS("permanentAddress", "permanentAddress", (r, v) -> r.setPermanentAddress((String) v)),
+    PERMANENT_CITY("permanentCity", "permanentCity", (r, v) -> r.setPermanentCity((String) v)),
+    PERMANENT_STATE("permanentState", "permanentState", (r, v) -> r.setPermanentState((String) v)),
+    PERMANENT_POSTAL_CODE("permanentPostalCode", "permanentPostalCode",
+            (r, v) -> r.setPermanentPostalCode((String) v)),
+    CURRENT_ADDRESS("currentAddress", "currentAddress", (r, v) -> r.setCurrentAddress((String) v)),
+    CURRENT_CITY("currentCity", "currentCity", (r, v) -> r.setCurrentCity((String) v)),
+    CURRENT_STATE("currentState", "currentState", (r, v) -> r.setCurrentState((String) v)),
+    CURRENT_POSTAL_CODE("currentPostalCode", "currentPostalCode", (r, v) -> r.setCurrentPostalCode((String) v)),
+    FACEBOOK_URL("facebookUrl", "facebookUrl", (r, v) -> r.setFacebookUrl((String) v)),
+    TWITTER_URL("twitterUrl", "twitterUrl", (r, v) -> r.setTwitterUrl((String) v)),
+    LINKEDIN_URL("linkedinUrl", "linkedinUrl", (r, v) -> r.setLinkedinUrl((String) v)),
+    INSTAGRAM_URL("instagramUrl", "instagramUrl", (r, v) -> r.setInstagramUrl((String) v)),
+    NOTES("notes", "notes", (r, v) -> r.setNotes((String) v)),
+    PHOTO_URL("photoUrl", "photoUrl", (r, v) -> r.setPhotoUrl((String) v)),
+    RESUME_URL("resumeUrl", "resumeUrl", (r, v) -> r.setResumeUrl((String) v)),
+    STATUS("status", "status", (r, v) -> r.setStatus((String) v));
+
+    private static final Map<String, StaffField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(f -> f.name.toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final String name;
+    private final String attribute;
+    private final BiConsumer<StaffResponse, Object> setter;
+
+    StaffField(String name, String attribute, BiConsumer<StaffResponse, Object> setter) {
+        this.name = name;
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    void apply(StaffResponse response, Object value) {
+        setter.accept(response, value);
+    }
+
+    static StaffField fromName(String name) {
+        StaffField field = BY_NAME.get(name.trim().toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown staff field: " + name);
+        }
+        return field;
+    }
+
+    /**
+     * Parse a comma-separated {@code fields} parameter. Blank selects every field;
+     * {@code id} is always included so clients can key rows.
+     */
+    static Set<StaffField> parse(String fields) {
+        Set<StaffField> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        if (fields == null || fields.isBlank()) {
+            selected.addAll(Arrays.asList(values()));
+            return selected;
+        }
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(fromName(name));
+            }
+        }
+        return selected;
+    }
+}
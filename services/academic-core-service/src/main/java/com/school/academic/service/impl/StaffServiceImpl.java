@@ -1,21 +1,32 @@
 package com.school.academic.service.impl;
 
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
 import com.school.academic.domain.Staff;
 import com.school.academic.domain.StaffAssignment;
 import com.school.academic.dto.request.CreateStaffRequest;
+import com.school.academic.dto.response.PageMetadata;
 import com.school.academic.dto.response.StaffAssignmentResponse;
+import com.school.academic.dto.response.StaffPageResponse;
 import com.school.academic.dto.response.StaffResponse;
 import com.school.academic.exception.DuplicateResourceException;
 import com.school.academic.exception.ResourceNotFoundException;
 import com.school.academic.repository.StaffAssignmentRepository;
 import com.school.academic.repository.StaffRepository;
 import com.school.academic.service.StaffService;
+import jakarta.persistence.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,11 +38,14 @@ public class StaffServiceImpl implements StaffService {
 
     private final StaffRepository staffRepository;
     private final StaffAssignmentRepository staffAssignmentRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public StaffServiceImpl(StaffRepository staffRepository,
-                           StaffAssignmentRepository staffAssignmentRepository) {
+                           StaffAssignmentRepository staffAssignmentRepository,
+                           CacheInvalidationBus cacheInvalidationBus) {
         this.staffRepository = staffRepository;
         this.staffAssignmentRepository = staffAssignmentRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     @Override
@@ -43,6 +57,25 @@ public class StaffServiceImpl implements StaffService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public StaffPageResponse listStaffPage(String fields, Pageable pageable) {
+        log.debug("Listing staff with fields: {}, page: {}", fields, pageable);
+
+        // Only the requested columns are selected; unselected properties stay null and are not serialized
+        Set<StaffField> selected = StaffField.parse(fields);
+        List<String> attributes = selected.stream()
+                .map(StaffField::getAttribute)
+                .collect(Collectors.toList());
+
+        Page<Tuple> page = staffRepository.findAttributes(attributes, toAttributePageable(pageable));
+        List<StaffResponse> content = page.getContent().stream()
+                .map(tuple -> toStaffResponse(tuple, selected))
+                .collect(Collectors.toList());
+
+        return new StaffPageResponse(content, PageMetadata.of(page));
+    }
+
     @Override
     public StaffResponse createStaff(CreateStaffRequest request) {
         log.info("Creating staff with employee ID: {}", request.getEmployeeId());
@@ -102,6 +135,7 @@ public class StaffServiceImpl implements StaffService {
 
         Staff saved = staffRepository.save(staff);
         log.info("Created staff with id: {}", saved.getId());
+        cacheInvalidationBus.bump(CacheRegion.STAFF);
 
         return toStaffResponse(saved);
     }
@@ -180,6 +214,14 @@ public class StaffServiceImpl implements StaffService {
         return response;
     }
 
+    private StaffResponse toStaffResponse(Tuple tuple, Set<StaffField> selected) {
+        StaffResponse response = new StaffResponse();
+        for (StaffField field : selected) {
+            field.apply(response, tuple.get(field.getAttribute()));
+        }
+        return response;
+    }
+
     private StaffAssignmentResponse toStaffAssignmentResponse(StaffAssignment entity) {
         StaffAssignmentResponse response = new StaffAssignmentResponse();
         response.setId(longToUuid(entity.getId()));
@@ -191,6 +233,24 @@ public class StaffServiceImpl implements StaffService {
 
     // ==================== Utility Methods ====================
 
+    /**
+     * Translate API sort properties to Staff attributes and add id as a tie-breaker
+     * so page boundaries are stable.
+     */
+    private Pageable toAttributePageable(Pageable pageable) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add(order.withProperty(StaffField.fromName(order.getProperty()).getAttribute()));
+        }
+        if (orders.stream().noneMatch(order -> order.getProperty().equals("id"))) {
+            orders.add(Sort.Order.asc("id"));
+        }
+        Sort sort = Sort.by(orders);
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
     private Long uuidToLong(UUID uuid) {
         if (uuid == null) return null;
         return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
@@ -1,24 +1,37 @@
 package com.school.academic.service.impl;
 
+import com.school.academic.domain.ClassSection;
+import com.school.academic.domain.Enrollment;
 import com.school.academic.domain.Parent;
 import com.school.academic.domain.Student;
 import com.school.academic.domain.StudentParent;
 import com.school.academic.dto.request.CreateStudentRequest;
 import com.school.academic.dto.request.LinkGuardianRequest;
+import com.school.academic.dto.request.StudentProfileBatchRequest;
+import com.school.academic.dto.response.EnrollmentDetailResponse;
+import com.school.academic.dto.response.GuardianResponse;
+import com.school.academic.dto.response.StudentProfileResponse;
 import com.school.academic.dto.response.StudentResponse;
 import com.school.academic.exception.DuplicateResourceException;
 import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.frontoffice.service.PhoneLookupService;
+import com.school.academic.repository.EnrollmentRepository;
 import com.school.academic.repository.ParentRepository;
 import com.school.academic.repository.StudentParentRepository;
 import com.school.academic.repository.StudentRepository;
+import com.school.academic.service.AcademicStructureService;
 import com.school.academic.service.StudentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,13 +43,22 @@ public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
     private final ParentRepository parentRepository;
     private final StudentParentRepository studentParentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AcademicStructureService academicStructureService;
+    private final PhoneLookupService phoneLookupService;
 
     public StudentServiceImpl(StudentRepository studentRepository,
                              ParentRepository parentRepository,
-                             StudentParentRepository studentParentRepository) {
+                             StudentParentRepository studentParentRepository,
+                             EnrollmentRepository enrollmentRepository,
+                             AcademicStructureService academicStructureService,
+                             PhoneLookupService phoneLookupService) {
         this.studentRepository = studentRepository;
         this.parentRepository = parentRepository;
         this.studentParentRepository = studentParentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.academicStructureService = academicStructureService;
+        this.phoneLookupService = phoneLookupService;
     }
 
     @Override
@@ -126,9 +148,100 @@ public class StudentServiceImpl implements StudentService {
         );
 
         studentParentRepository.save(studentParent);
+        phoneLookupService.recordGuardianLink(studentParent);
         log.info("Successfully linked guardian {} to student {}", parentIdLong, studentIdLong);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public StudentProfileResponse getStudentProfile(UUID id) {
+        log.debug("Getting student profile by id: {}", id);
+
+        List<StudentProfileResponse> profiles = loadProfiles(List.of(uuidToLong(id)));
+        if (profiles.isEmpty()) {
+            throw new ResourceNotFoundException("Student not found with id: " + id);
+        }
+        return profiles.get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentProfileResponse> getStudentProfiles(StudentProfileBatchRequest request) {
+        log.debug("Getting student profiles for {} ids", request.getStudentIds().size());
+
+        List<Long> studentIds = request.getStudentIds().stream()
+                .map(this::uuidToLong)
+                .distinct()
+                .collect(Collectors.toList());
+        return loadProfiles(studentIds);
+    }
+
+    /**
+     * Assemble profiles with a fixed number of queries regardless of how many students:
+     * students, guardians (fetch-joined parents) and enrollment history (fetch-joined
+     * class section, class teacher and classroom). The active academic year is cached.
+     * Unknown ids are skipped; results follow the requested order.
+     */
+    private List<StudentProfileResponse> loadProfiles(List<Long> studentIds) {
+        Map<Long, Student> students = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+        if (students.isEmpty()) {
+            return List.of();
+        }
+        List<Long> foundIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        foundIds.retainAll(students.keySet());
+
+        Map<Long, List<StudentParent>> guardiansByStudent = studentParentRepository.findByStudentIdsWithParent(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(sp -> sp.getId().getStudentId()));
+
+        Map<Long, List<Enrollment>> enrollmentsByStudent = enrollmentRepository.findHistoryByStudentIds(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(e -> e.getStudent().getId()));
+
+        Long activeYearId = academicStructureService.getActiveAcademicYearId()
+                .map(this::uuidToLong)
+                .orElse(null);
+
+        List<StudentProfileResponse> profiles = new ArrayList<>(foundIds.size());
+        for (Long studentId : foundIds) {
+            List<Enrollment> history = enrollmentsByStudent.getOrDefault(studentId, List.of());
+
+            StudentProfileResponse profile = new StudentProfileResponse();
+            profile.setStudent(toStudentResponse(students.get(studentId)));
+            profile.setGuardians(guardiansByStudent.getOrDefault(studentId, List.of()).stream()
+                    .map(this::toGuardianResponse)
+                    .collect(Collectors.toList()));
+            profile.setEnrollmentHistory(history.stream()
+                    .map(this::toEnrollmentDetailResponse)
+                    .collect(Collectors.toList()));
+            Enrollment current = findCurrentEnrollment(history, activeYearId);
+            profile.setCurrentEnrollment(current != null ? toEnrollmentDetailResponse(current) : null);
+            profiles.add(profile);
+        }
+        return profiles;
+    }
+
+    /**
+     * Current enrollment is the active one in the active academic year, falling back to
+     * the most recent active enrollment. History is ordered newest year first.
+     */
+    private Enrollment findCurrentEnrollment(List<Enrollment> history, Long activeYearId) {
+        Enrollment latestActive = null;
+        for (Enrollment enrollment : history) {
+            if (!enrollment.isActive()) {
+                continue;
+            }
+            if (enrollment.getAcademicYear().getId().equals(activeYearId)) {
+                return enrollment;
+            }
+            if (latestActive == null) {
+                latestActive = enrollment;
+            }
+        }
+        return latestActive;
+    }
+
     // ==================== Mappers ====================
 
     private StudentResponse toStudentResponse(Student entity) {
@@ -145,6 +258,45 @@ public class StudentServiceImpl implements StudentService {
         );
     }
 
+    private GuardianResponse toGuardianResponse(StudentParent link) {
+        Parent parent = link.getParent();
+        GuardianResponse response = new GuardianResponse();
+        response.setParentId(longToUuid(parent.getId()));
+        response.setFirstName(parent.getFirstName());
+        response.setLastName(parent.getLastName());
+        response.setMobile(parent.getPhone());
+        response.setEmail(parent.getEmail());
+        response.setRelationship(link.getRelationship() != null ? link.getRelationship() : parent.getRelationship());
+        response.setIsPrimaryContact(link.getIsPrimaryContact());
+        return response;
+    }
+
+    private EnrollmentDetailResponse toEnrollmentDetailResponse(Enrollment entity) {
+        ClassSection classSection = entity.getClassSection();
+        EnrollmentDetailResponse response = new EnrollmentDetailResponse();
+        response.setId(longToUuid(entity.getId()));
+        response.setAcademicYearId(longToUuid(entity.getAcademicYear().getId()));
+        response.setAcademicYear(entity.getAcademicYear().getName());
+        response.setClassSectionId(longToUuid(classSection.getId()));
+        response.setClassName(classSection.getGradeClass().getName());
+        response.setSectionName(classSection.getSection().getName());
+        response.setMedium(classSection.getMedium());
+        response.setRollNumber(entity.getRollNumber() != null ? entity.getRollNumber().toString() : null);
+        response.setStatus(entity.getStatus());
+        response.setEnrollmentDate(entity.getEnrollmentDate());
+        response.setEndDate(entity.getEndDate());
+
+        if (classSection.getClassTeacher() != null) {
+            response.setClassTeacherId(longToUuid(classSection.getClassTeacher().getId()));
+            response.setClassTeacherName(classSection.getClassTeacher().getFullName());
+        }
+        if (classSection.getClassroom() != null) {
+            response.setClassroomId(longToUuid(classSection.getClassroom().getId()));
+            response.setClassroomNumber(classSection.getClassroom().getRoomNumber());
+        }
+        return response;
+    }
+
     // ==================== Utility Methods ====================
 
     private Long uuidToLong(UUID uuid) {
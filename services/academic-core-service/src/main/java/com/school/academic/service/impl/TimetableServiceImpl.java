@@ -0,0 +1,448 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.GenerateTimetableRequest;
+import com.school.academic.dto.response.TimetableEntryResponse;
+import com.school.academic.dto.response.TimetableResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.*;
+import com.school.academic.service.TimetableService;
+import com.school.academic.timetable.TimetableProblem;
+import com.school.academic.timetable.TimetableProblem.Lesson;
+import com.school.academic.timetable.TimetableSolution;
+import com.school.academic.timetable.TimetableSolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Timetables are solved outside any transaction: the year's sections, curriculum,
+ * teachers and rooms are read in one read-only transaction, turned into a
+ * {@link TimetableProblem}, solved on the solver's worker threads, and written in
+ * a second short transaction that only deletes and inserts the entries that
+ * changed. The timetable row's revision guards against two runs overwriting
+ * each other.
+ */
+@Service
+public class TimetableServiceImpl implements TimetableService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimetableServiceImpl.class);
+
+    private static final String LECTURE = "Lecture";
+    private static final int NONE = -1;
+
+    private final AcademicYearRepository academicYearRepository;
+    private final ClassSectionRepository classSectionRepository;
+    private final SubjectAssignmentRepository subjectAssignmentRepository;
+    private final StaffAssignmentRepository staffAssignmentRepository;
+    private final ClassroomRepository classroomRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final SubjectRepository subjectRepository;
+    private final StaffRepository staffRepository;
+    private final TimetableRepository timetableRepository;
+    private final TimetableEntryRepository timetableEntryRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TimetableSolver solver;
+    private final Duration timeLimit;
+    private final int defaultDaysPerWeek;
+    private final int defaultPeriodsPerDay;
+
+    // One solve at a time per node; each already uses every core
+    private final Object solveLock = new Object();
+
+    public TimetableServiceImpl(AcademicYearRepository academicYearRepository,
+                                ClassSectionRepository classSectionRepository,
+                                SubjectAssignmentRepository subjectAssignmentRepository,
+                                StaffAssignmentRepository staffAssignmentRepository,
+                                ClassroomRepository classroomRepository,
+                                EnrollmentRepository enrollmentRepository,
+                                SubjectRepository subjectRepository,
+                                StaffRepository staffRepository,
+                                TimetableRepository timetableRepository,
+                                TimetableEntryRepository timetableEntryRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${academic.timetable.parallelism:0}") int parallelism,
+                                @Value("${academic.timetable.time-limit:PT30S}") Duration timeLimit,
+                                @Value("${academic.timetable.days-per-week:6}") int defaultDaysPerWeek,
+                                @Value("${academic.timetable.periods-per-day:8}") int defaultPeriodsPerDay) {
+        this.academicYearRepository = academicYearRepository;
+        this.classSectionRepository = classSectionRepository;
+        this.subjectAssignmentRepository = subjectAssignmentRepository;
+        this.staffAssignmentRepository = staffAssignmentRepository;
+        this.classroomRepository = classroomRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.subjectRepository = subjectRepository;
+        this.staffRepository = staffRepository;
+        this.timetableRepository = timetableRepository;
+        this.timetableEntryRepository = timetableEntryRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.solver = new TimetableSolver(parallelism, timeLimit);
+        this.timeLimit = timeLimit;
+        this.defaultDaysPerWeek = defaultDaysPerWeek;
+        this.defaultPeriodsPerDay = defaultPeriodsPerDay;
+    }
+
+    @Override
+    public TimetableResponse generateTimetable(GenerateTimetableRequest request) {
+        log.info("Generating timetable for academicYearId: {}", request.getAcademicYearId());
+        Long yearIdLong = uuidToLong(request.getAcademicYearId());
+        synchronized (solveLock) {
+            Plan plan = readOnlyTransaction.execute(status ->
+                    loadPlan(yearIdLong, request.getDaysPerWeek(), request.getPeriodsPerDay(), false));
+            return solveAndSave(plan, false);
+        }
+    }
+
+    @Override
+    public TimetableResponse resolveTimetable(UUID academicYearId) {
+        log.info("Re-solving timetable for academicYearId: {}", academicYearId);
+        Long yearIdLong = uuidToLong(academicYearId);
+        synchronized (solveLock) {
+            Plan plan = readOnlyTransaction.execute(status -> loadPlan(yearIdLong, null, null, true));
+            return solveAndSave(plan, true);
+        }
+    }
+
+    @Override
+    public List<TimetableEntryResponse> listTimetableEntries(UUID academicYearId, UUID classSectionId, UUID staffId,
+                                                             UUID classroomId) {
+        log.debug("Listing timetable entries for academicYearId: {}", academicYearId);
+        return readOnlyTransaction.execute(status -> {
+            Timetable timetable = timetableRepository.findByAcademicYearId(uuidToLong(academicYearId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Timetable not found for academic year: " + academicYearId));
+            return timetableEntryRepository.findByTimetableId(timetable.getId(), uuidToLong(classSectionId),
+                            uuidToLong(staffId), uuidToLong(classroomId)).stream()
+                    .map(this::toTimetableEntryResponse)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    // ==================== Solving ====================
+
+    private TimetableResponse solveAndSave(Plan plan, boolean incremental) {
+        long started = System.nanoTime();
+        Optional<TimetableSolution> solution = incremental
+                ? solver.resolve(plan.problem(), plan.previousSlots(), plan.previousRooms())
+                : solver.solve(plan.problem());
+        long solveMillis = (System.nanoTime() - started) / 1_000_000;
+
+        TimetableSolution solved = solution.orElseThrow(() -> new BusinessRuleException("TIMETABLE_UNSOLVABLE",
+                "No clash-free timetable found within " + timeLimit.toSeconds() + " seconds; "
+                        + "add periods or rooms, or reduce the weekly load"));
+        log.info("Solved timetable for academic year {}: {} periods in {} ms after {} restarts",
+                plan.academicYearId(), plan.keys().size(), solveMillis, solved.restarts());
+
+        TimetableResponse response = transaction.execute(status -> save(plan, solved));
+        response.setUnscheduled(plan.unscheduled());
+        response.setSolveMillis(solveMillis);
+        response.setRestarts(solved.restarts());
+        return response;
+    }
+
+    private TimetableResponse save(Plan plan, TimetableSolution solution) {
+        Optional<Timetable> current = timetableRepository.findByAcademicYearIdForUpdate(plan.academicYearId());
+        int currentRevision = current.map(Timetable::getRevision).orElse(NONE);
+        if (currentRevision != plan.revision()) {
+            throw new BusinessRuleException("TIMETABLE_CHANGED",
+                    "The timetable was regenerated while this run was solving; try again");
+        }
+
+        Timetable timetable = current.orElseGet(() -> {
+            Timetable created = new Timetable();
+            created.setAcademicYear(academicYearRepository.getReferenceById(plan.academicYearId()));
+            return created;
+        });
+        timetable.setDaysPerWeek(plan.problem().days());
+        timetable.setPeriodsPerDay(plan.problem().periodsPerDay());
+        timetable.setRevision(Math.max(currentRevision, 0) + 1);
+        timetable.setGeneratedAt(LocalDateTime.now());
+        Timetable saved = timetableRepository.save(timetable);
+
+        // Keep entries whose period and room did not change; replace the rest
+        int periodsPerDay = plan.problem().periodsPerDay();
+        List<Long> removed = new ArrayList<>(plan.unmatchedEntryIds());
+        List<TimetableEntry> added = new ArrayList<>();
+        int unchanged = 0;
+        for (int i = 0; i < plan.keys().size(); i++) {
+            LessonKey key = plan.keys().get(i);
+            Placement previous = plan.previous().get(i);
+            int dayOfWeek = solution.slots()[i] / periodsPerDay + 1;
+            int period = solution.slots()[i] % periodsPerDay + 1;
+            long classroomId = plan.roomIds()[solution.rooms()[i]];
+            if (previous != null && previous.dayOfWeek() == dayOfWeek && previous.period() == period
+                    && previous.classroomId() == classroomId) {
+                unchanged++;
+                continue;
+            }
+            if (previous != null) {
+                removed.add(previous.entryId());
+            }
+            TimetableEntry entry = new TimetableEntry();
+            entry.setTimetable(saved);
+            entry.setClassSection(classSectionRepository.getReferenceById(key.classSectionId()));
+            entry.setSubject(subjectRepository.getReferenceById(key.subjectId()));
+            entry.setStaff(staffRepository.getReferenceById(key.staffId()));
+            entry.setClassroom(classroomRepository.getReferenceById(classroomId));
+            entry.setDayOfWeek(dayOfWeek);
+            entry.setPeriod(period);
+            added.add(entry);
+        }
+        // Bulk delete runs immediately, before the inserts are flushed
+        if (!removed.isEmpty()) {
+            timetableEntryRepository.deleteByIdIn(removed);
+        }
+        timetableEntryRepository.saveAll(added);
+        log.info("Saved timetable revision {} for academic year {}: {} unchanged, {} added, {} removed",
+                saved.getRevision(), plan.academicYearId(), unchanged, added.size(), removed.size());
+
+        TimetableResponse response = new TimetableResponse();
+        response.setId(longToUuid(saved.getId()));
+        response.setAcademicYearId(longToUuid(plan.academicYearId()));
+        response.setDaysPerWeek(saved.getDaysPerWeek());
+        response.setPeriodsPerDay(saved.getPeriodsPerDay());
+        response.setRevision(saved.getRevision());
+        response.setGeneratedAt(saved.getGeneratedAt());
+        response.setEntryCount(plan.keys().size());
+        response.setUnchangedCount(unchanged);
+        response.setAddedCount(added.size());
+        response.setRemovedCount(removed.size());
+        return response;
+    }
+
+    // ==================== Problem Building ====================
+
+    /**
+     * Read everything the solver needs: one lesson per weekly period of every subject
+     * assignment with a load, taught by the section's staff assignment for the subject
+     * (several teachers take turns), in the section's own room or a room of the
+     * required type large enough for the section.
+     */
+    private Plan loadPlan(Long yearIdLong, Integer requestedDays, Integer requestedPeriods, boolean requireTimetable) {
+        if (!academicYearRepository.existsById(yearIdLong)) {
+            throw new ResourceNotFoundException("Academic year not found with id: " + longToUuid(yearIdLong));
+        }
+        Optional<Timetable> existing = timetableRepository.findByAcademicYearId(yearIdLong);
+        if (requireTimetable && existing.isEmpty()) {
+            throw new ResourceNotFoundException("Timetable not found for academic year: " + longToUuid(yearIdLong));
+        }
+        int days = requestedDays != null ? requestedDays
+                : existing.map(Timetable::getDaysPerWeek).orElse(defaultDaysPerWeek);
+        int periodsPerDay = requestedPeriods != null ? requestedPeriods
+                : existing.map(Timetable::getPeriodsPerDay).orElse(defaultPeriodsPerDay);
+        if (days * periodsPerDay > TimetableProblem.MAX_SLOTS) {
+            throw new BusinessRuleException("INVALID_TIMETABLE_WEEK",
+                    "A week can have at most " + TimetableProblem.MAX_SLOTS + " periods");
+        }
+
+        List<ClassSection> sections = classSectionRepository.findWithClassroomByAcademicYearId(yearIdLong).stream()
+                .sorted(Comparator.comparing(ClassSection::getId))
+                .toList();
+        Map<Long, Long> sizes = new HashMap<>();
+        for (Object[] row : enrollmentRepository.countActiveByClassSection(yearIdLong)) {
+            sizes.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, List<SubjectAssignment>> curriculumByClass = subjectAssignmentRepository
+                .findScheduledByAcademicYearId(yearIdLong).stream()
+                .collect(Collectors.groupingBy(sa -> sa.getGradeClass().getId()));
+        Map<SectionSubject, List<Staff>> teachers = new HashMap<>();
+        for (StaffAssignment assignment : staffAssignmentRepository.findByAcademicYearId(yearIdLong)) {
+            teachers.computeIfAbsent(new SectionSubject(assignment.getClassSection().getId(), assignment.getSubject().getId()),
+                    key -> new ArrayList<>()).add(assignment.getStaff());
+        }
+        List<Classroom> rooms = classroomRepository.findAll().stream()
+                .filter(room -> !"INACTIVE".equalsIgnoreCase(room.getStatus()))
+                .sorted(Comparator.comparing(Classroom::getCapacity, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Classroom::getId))
+                .toList();
+        Map<Long, Integer> roomIndex = new HashMap<>();
+        for (Classroom room : rooms) {
+            roomIndex.put(room.getId(), roomIndex.size());
+        }
+
+        Map<Long, Integer> teacherIndex = new HashMap<>();
+        Map<Integer, String> teacherNames = new HashMap<>();
+        List<Lesson> lessons = new ArrayList<>();
+        List<LessonKey> keys = new ArrayList<>();
+        List<String> unscheduled = new ArrayList<>();
+        int units = 0;
+        for (int s = 0; s < sections.size(); s++) {
+            ClassSection section = sections.get(s);
+            long size = sizes.getOrDefault(section.getId(), 0L);
+
+            // Class-wide subjects, overridden by subjects assigned to this section only
+            Map<Long, SubjectAssignment> curriculum = new TreeMap<>();
+            for (SubjectAssignment sa : curriculumByClass.getOrDefault(section.getGradeClass().getId(), List.of())) {
+                if (sa.getSection() == null) {
+                    curriculum.putIfAbsent(sa.getSubject().getId(), sa);
+                } else if (sa.getSection().getId().equals(section.getSection().getId())) {
+                    curriculum.put(sa.getSubject().getId(), sa);
+                }
+            }
+
+            for (SubjectAssignment sa : curriculum.values()) {
+                String label = section.getDisplayName() + " " + sa.getSubject().getName();
+                List<Staff> staff = teachers.get(new SectionSubject(section.getId(), sa.getSubject().getId()));
+                if (staff == null) {
+                    unscheduled.add(label + ": no teacher assigned");
+                    continue;
+                }
+                int[] candidates = candidateRooms(section, sa.getRoomType(), size, rooms, roomIndex);
+                if (candidates.length == 0) {
+                    String type = sa.getRoomType() != null ? sa.getRoomType() : LECTURE;
+                    unscheduled.add(label + ": no " + type + " room for " + size + " students");
+                    continue;
+                }
+                int unit = units++;
+                for (int p = 0; p < sa.getPeriodsPerWeek(); p++) {
+                    Staff teacher = staff.get(p % staff.size());
+                    int t = teacherIndex.computeIfAbsent(teacher.getId(), id -> teacherIndex.size());
+                    teacherNames.putIfAbsent(t, teacher.getFullName());
+                    lessons.add(new Lesson(t, s, unit, candidates));
+                    keys.add(new LessonKey(section.getId(), sa.getSubject().getId(), teacher.getId()));
+                }
+            }
+        }
+
+        TimetableProblem problem = new TimetableProblem(days, periodsPerDay, teacherIndex.size(), sections.size(),
+                rooms.size(), units, lessons);
+        checkLoad(problem, teacherNames, sections);
+
+        // Match the current entries to the new lessons so unchanged periods can stay put
+        Map<LessonKey, Deque<Object[]>> current = new HashMap<>();
+        existing.ifPresent(timetable -> timetableEntryRepository.findPlacementsByTimetableId(timetable.getId())
+                .forEach(row -> current.computeIfAbsent(new LessonKey((Long) row[1], (Long) row[2], (Long) row[3]),
+                        key -> new ArrayDeque<>()).add(row)));
+        int[] previousSlots = new int[keys.size()];
+        int[] previousRooms = new int[keys.size()];
+        List<Placement> previous = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Deque<Object[]> rows = current.get(keys.get(i));
+            Object[] row = rows != null ? rows.poll() : null;
+            previousSlots[i] = NONE;
+            previousRooms[i] = NONE;
+            if (row == null) {
+                previous.add(null);
+                continue;
+            }
+            Placement placement = new Placement((Long) row[0], (Long) row[4], (Integer) row[5], (Integer) row[6]);
+            previous.add(placement);
+            if (placement.dayOfWeek() <= days && placement.period() <= periodsPerDay) {
+                previousSlots[i] = (placement.dayOfWeek() - 1) * periodsPerDay + placement.period() - 1;
+                previousRooms[i] = roomIndex.getOrDefault(placement.classroomId(), NONE);
+            }
+        }
+        List<Long> unmatched = current.values().stream()
+                .flatMap(Collection::stream)
+                .map(row -> (Long) row[0])
+                .toList();
+
+        long[] roomIds = rooms.stream().mapToLong(Classroom::getId).toArray();
+        return new Plan(yearIdLong, existing.map(Timetable::getRevision).orElse(NONE), problem, keys, roomIds,
+                previous, previousSlots, previousRooms, unmatched, unscheduled);
+    }
+
+    /**
+     * Lecture periods use the section's own room when it has one; otherwise any room of the
+     * required type that holds the section, smallest first.
+     */
+    private int[] candidateRooms(ClassSection section, String roomType, long size, List<Classroom> rooms,
+                                 Map<Long, Integer> roomIndex) {
+        String type = roomType != null ? roomType : LECTURE;
+        Classroom home = section.getClassroom();
+        if (LECTURE.equalsIgnoreCase(type) && home != null && roomIndex.containsKey(home.getId())) {
+            return new int[]{roomIndex.get(home.getId())};
+        }
+        return rooms.stream()
+                .filter(room -> type.equalsIgnoreCase(room.getInfraType())
+                        || (room.getInfraType() == null && LECTURE.equalsIgnoreCase(type)))
+                .filter(room -> room.getCapacity() == null || room.getCapacity() >= size)
+                .mapToInt(room -> roomIndex.get(room.getId()))
+                .toArray();
+    }
+
+    /**
+     * Fail fast when a teacher or class section has more periods than the week.
+     */
+    private void checkLoad(TimetableProblem problem, Map<Integer, String> teacherNames, List<ClassSection> sections) {
+        int[] teacherLoad = new int[problem.teacherCount()];
+        int[] sectionLoad = new int[problem.sectionCount()];
+        for (Lesson lesson : problem.lessons()) {
+            teacherLoad[lesson.teacher()]++;
+            sectionLoad[lesson.section()]++;
+        }
+        List<String> overloaded = new ArrayList<>();
+        for (int t = 0; t < teacherLoad.length; t++) {
+            if (teacherLoad[t] > problem.slotCount()) {
+                overloaded.add(teacherNames.get(t) + " has " + teacherLoad[t] + " periods");
+            }
+        }
+        for (int s = 0; s < sectionLoad.length; s++) {
+            if (sectionLoad[s] > problem.slotCount()) {
+                overloaded.add(sections.get(s).getDisplayName() + " has " + sectionLoad[s] + " periods");
+            }
+        }
+        if (!overloaded.isEmpty()) {
+            throw new BusinessRuleException("TIMETABLE_OVERLOADED", String.join("; ", overloaded)
+                    + " but the week has only " + problem.slotCount());
+        }
+    }
+
+    // ==================== Mappers ====================
+
+    private TimetableEntryResponse toTimetableEntryResponse(TimetableEntry entity) {
+        TimetableEntryResponse response = new TimetableEntryResponse();
+        response.setId(longToUuid(entity.getId()));
+        response.setDayOfWeek(entity.getDayOfWeek());
+        response.setPeriod(entity.getPeriod());
+        response.setClassSectionId(longToUuid(entity.getClassSection().getId()));
+        response.setClassSectionName(entity.getClassSection().getDisplayName());
+        response.setSubjectId(longToUuid(entity.getSubject().getId()));
+        response.setSubjectName(entity.getSubject().getName());
+        response.setStaffId(longToUuid(entity.getStaff().getId()));
+        response.setStaffName(entity.getStaff().getFullName());
+        response.setClassroomId(longToUuid(entity.getClassroom().getId()));
+        response.setRoomNumber(entity.getClassroom().getRoomNumber());
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+
+    private record SectionSubject(long classSectionId, long subjectId) {
+    }
+
+    private record LessonKey(long classSectionId, long subjectId, long staffId) {
+    }
+
+    private record Placement(long entryId, long classroomId, int dayOfWeek, int period) {
+    }
+
+    /**
+     * A loaded problem with the ids behind its dense indexes and the entries it replaces.
+     */
+    private record Plan(long academicYearId, int revision, TimetableProblem problem, List<LessonKey> keys,
+                        long[] roomIds, List<Placement> previous, int[] previousSlots, int[] previousRooms,
+                        List<Long> unmatchedEntryIds, List<String> unscheduled) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.dto.response.*;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.AcademicYearRepository;
+import com.school.academic.service.WorkloadService;
+import com.school.academic.workload.WorkloadModel;
+import com.school.academic.workload.WorkloadModels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadServiceImpl.class);
+
+    private final WorkloadModels workloadModels;
+    private final AcademicYearRepository academicYearRepository;
+
+    public WorkloadServiceImpl(WorkloadModels workloadModels, AcademicYearRepository academicYearRepository) {
+        this.workloadModels = workloadModels;
+        this.academicYearRepository = academicYearRepository;
+    }
+
+    @Override
+    public WorkloadReportResponse getWorkloadReport(UUID academicYearId) {
+        log.debug("Getting workload report for academicYearId: {}", academicYearId);
+        WorkloadModel model = findModel(academicYearId);
+
+        WorkloadReportResponse response = new WorkloadReportResponse();
+        response.setAcademicYearId(academicYearId);
+        response.setMaxPeriodsPerWeek(model.getMaxPeriodsPerWeek());
+        response.setBuiltAt(model.getBuiltAt());
+        response.setStaffCount(model.staffLoads().size());
+        response.setSectionCount(model.sectionCount());
+        response.setOverloadedStaff(model.overloadedStaff().stream()
+                .map(load -> toStaffWorkloadResponse(load, model))
+                .collect(Collectors.toList()));
+        response.setCoverageGaps(model.coverageGaps().stream()
+                .map(this::toCoverageGapResponse)
+                .collect(Collectors.toList()));
+        response.setIdleClassTeachers(model.idleClassTeachers().stream()
+                .map(this::toIdleClassTeacherResponse)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    @Override
+    public List<StaffWorkloadResponse> getStaffWorkloads(UUID academicYearId) {
+        log.debug("Getting staff workloads for academicYearId: {}", academicYearId);
+        WorkloadModel model = findModel(academicYearId);
+        return model.staffLoads().stream()
+                .map(load -> toStaffWorkloadResponse(load, model))
+                .collect(Collectors.toList());
+    }
+
+    private WorkloadModel findModel(UUID academicYearId) {
+        Long yearIdLong = uuidToLong(academicYearId);
+        if (!academicYearRepository.existsById(yearIdLong)) {
+            throw new ResourceNotFoundException("Academic year not found with id: " + academicYearId);
+        }
+        return workloadModels.forAcademicYear(yearIdLong);
+    }
+
+    // ==================== Mappers ====================
+
+    private StaffWorkloadResponse toStaffWorkloadResponse(WorkloadModel.StaffLoad load, WorkloadModel model) {
+        StaffWorkloadResponse response = new StaffWorkloadResponse();
+        response.setStaffId(longToUuid(load.staffId()));
+        response.setStaffName(load.name());
+        response.setStaffCode(load.staffCode());
+        response.setPeriodsPerWeek(load.periodsPerWeek());
+        response.setOverloaded(load.periodsPerWeek() > model.getMaxPeriodsPerWeek());
+        response.setAssignments(load.assignments().stream()
+                .map(assignment -> {
+                    WorkloadAssignmentResponse item = new WorkloadAssignmentResponse();
+                    item.setClassSectionId(longToUuid(assignment.classSectionId()));
+                    item.setClassSectionName(assignment.classSectionName());
+                    item.setSubjectId(longToUuid(assignment.subjectId()));
+                    item.setSubjectName(assignment.subjectName());
+                    item.setPeriodsPerWeek(assignment.periodsPerWeek());
+                    item.setInCurriculum(assignment.inCurriculum());
+                    return item;
+                })
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private CoverageGapResponse toCoverageGapResponse(WorkloadModel.CoverageGap gap) {
+        CoverageGapResponse response = new CoverageGapResponse();
+        response.setClassSectionId(longToUuid(gap.section().id()));
+        response.setClassSectionName(gap.section().name());
+        response.setSubjectId(longToUuid(gap.requirement().subjectId()));
+        response.setSubjectName(gap.requirement().subjectName());
+        response.setPeriodsPerWeek(gap.requirement().periodsPerWeek());
+        return response;
+    }
+
+    private IdleClassTeacherResponse toIdleClassTeacherResponse(WorkloadModel.Section section) {
+        IdleClassTeacherResponse response = new IdleClassTeacherResponse();
+        response.setClassSectionId(longToUuid(section.id()));
+        response.setClassSectionName(section.name());
+        response.setStaffId(longToUuid(section.classTeacherId()));
+        response.setStaffName(section.classTeacherName());
+        return response;
+    }
+
+    // ==================== Utility Methods ====================
+
+    private Long uuidToLong(UUID uuid) {
+        if (uuid == null) return null;
+        return uuid.getLeastSignificantBits() & Long.MAX_VALUE;
+    }
+
+    private UUID longToUuid(Long id) {
+        if (id == null) return null;
+        return new UUID(0L, id);
+    }
+}
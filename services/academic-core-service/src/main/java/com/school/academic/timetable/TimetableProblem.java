@@ -0,0 +1,38 @@
+package com.school.academic.timetable;
+
+import java.util.List;
+
+/**
+ * A weekly timetable to fill, in dense indexes.
+ *
+ * A week has {@code days * periodsPerDay} slots (at most 64, one bit each). Every
+ * lesson is one period of a subject for one class section, with its teacher and
+ * the rooms it may use; lessons of the same unit (class section and subject) are
+ * spread across the week where possible.
+ */
+public record TimetableProblem(int days, int periodsPerDay, int teacherCount, int sectionCount, int roomCount,
+                               int unitCount, List<Lesson> lessons) {
+
+    public static final int MAX_SLOTS = Long.SIZE;
+
+    public TimetableProblem {
+        if (days < 1 || periodsPerDay < 1 || days * periodsPerDay > MAX_SLOTS) {
+            throw new IllegalArgumentException("A week must have between 1 and " + MAX_SLOTS + " slots");
+        }
+        lessons = List.copyOf(lessons);
+    }
+
+    public int slotCount() {
+        return days * periodsPerDay;
+    }
+
+    public int dayOf(int slot) {
+        return slot / periodsPerDay;
+    }
+
+    /**
+     * One period to place; {@code rooms} are the allowed room indexes in order of preference.
+     */
+    public record Lesson(int teacher, int section, int unit, int[] rooms) {
+    }
+}
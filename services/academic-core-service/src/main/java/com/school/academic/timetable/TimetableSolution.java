@@ -0,0 +1,7 @@
+package com.school.academic.timetable;
+
+/**
+ * Slot and room per lesson, in the lesson order of the problem.
+ */
+public record TimetableSolution(int[] slots, int[] rooms, int restarts) {
+}
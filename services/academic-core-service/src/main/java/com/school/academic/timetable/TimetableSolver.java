@@ -0,0 +1,366 @@
+package com.school.academic.timetable;
+
+import com.school.academic.timetable.TimetableProblem.Lesson;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Clash-free timetables by parallel backtracking search.
+ *
+ * Each worker runs a depth-first search that always places the lesson with the
+ * fewest free slots next (a lesson with none fails the branch at once), tries
+ * slots on the days where its unit has the fewest lessons first, and breaks
+ * ties randomly. Teacher, class section and room occupancy are one bit per slot,
+ * so checking a slot is a few ANDs. A search that backtracks more than its
+ * budget restarts with a larger budget; workers use different random streams,
+ * so the portfolio explores different orders on every core and the first
+ * complete timetable wins.
+ *
+ * {@link #resolve} keeps a previous timetable: it first places only the lessons
+ * that lost their slot, then also frees the lessons sharing a teacher or class
+ * section with them, and only then solves from scratch.
+ */
+public class TimetableSolver {
+
+    private static final long INITIAL_BUDGET = 2_000;
+    private static final int NONE = -1;
+
+    private final int parallelism;
+    private final Duration timeLimit;
+
+    public TimetableSolver(int parallelism, Duration timeLimit) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Solve from scratch.
+     */
+    public Optional<TimetableSolution> solve(TimetableProblem problem) {
+        int[] none = new int[problem.lessons().size()];
+        Arrays.fill(none, NONE);
+        return search(problem, none, none, System.nanoTime() + timeLimit.toNanos());
+    }
+
+    /**
+     * Solve again moving as few lessons as possible. {@code previousSlots}/{@code previousRooms}
+     * hold each lesson's earlier placement, or -1 for lessons that are new or changed.
+     */
+    public Optional<TimetableSolution> resolve(TimetableProblem problem, int[] previousSlots, int[] previousRooms) {
+        long start = System.nanoTime();
+        long limit = timeLimit.toNanos();
+
+        int[] pinnedSlots = previousSlots.clone();
+        int[] pinnedRooms = previousRooms.clone();
+        keepConsistent(problem, pinnedSlots, pinnedRooms);
+        Optional<TimetableSolution> solution = search(problem, pinnedSlots, pinnedRooms, start + limit / 4);
+        if (solution.isPresent()) {
+            return solution;
+        }
+
+        releaseNeighbours(problem, pinnedSlots, pinnedRooms);
+        solution = search(problem, pinnedSlots, pinnedRooms, start + limit / 2);
+        if (solution.isPresent()) {
+            return solution;
+        }
+
+        Arrays.fill(pinnedSlots, NONE);
+        Arrays.fill(pinnedRooms, NONE);
+        return search(problem, pinnedSlots, pinnedRooms, start + limit);
+    }
+
+    private Optional<TimetableSolution> search(TimetableProblem problem, int[] pinnedSlots, int[] pinnedRooms,
+                                               long deadline) {
+        List<Callable<TimetableSolution>> workers = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(new Search(problem, pinnedSlots, pinnedRooms, deadline, new SplittableRandom(i * 0x9E3779B97F4A7C15L)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new SolverThreadFactory());
+        try {
+            // First worker to finish wins; the others are interrupted
+            return Optional.of(executor.invokeAny(workers, Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException | TimeoutException ex) {
+            return Optional.empty();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Drop previous placements that no longer fit: out of the week, in a room the lesson
+     * may not use, or clashing with a placement kept before it.
+     */
+    static void keepConsistent(TimetableProblem problem, int[] slots, int[] rooms) {
+        long[] teacherBusy = new long[problem.teacherCount()];
+        long[] sectionBusy = new long[problem.sectionCount()];
+        long[] roomBusy = new long[problem.roomCount()];
+        for (int i = 0; i < slots.length; i++) {
+            Lesson lesson = problem.lessons().get(i);
+            int slot = slots[i];
+            boolean keep = slot >= 0 && slot < problem.slotCount() && contains(lesson.rooms(), rooms[i]);
+            if (keep) {
+                long bit = 1L << slot;
+                keep = (teacherBusy[lesson.teacher()] & bit) == 0 && (sectionBusy[lesson.section()] & bit) == 0
+                        && (roomBusy[rooms[i]] & bit) == 0;
+                if (keep) {
+                    teacherBusy[lesson.teacher()] |= bit;
+                    sectionBusy[lesson.section()] |= bit;
+                    roomBusy[rooms[i]] |= bit;
+                }
+            }
+            if (!keep) {
+                slots[i] = NONE;
+                rooms[i] = NONE;
+            }
+        }
+    }
+
+    /**
+     * Unpin every lesson that shares a teacher or class section with an unplaced lesson.
+     */
+    static void releaseNeighbours(TimetableProblem problem, int[] slots, int[] rooms) {
+        boolean[] teachers = new boolean[problem.teacherCount()];
+        boolean[] sections = new boolean[problem.sectionCount()];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == NONE) {
+                Lesson lesson = problem.lessons().get(i);
+                teachers[lesson.teacher()] = true;
+                sections[lesson.section()] = true;
+            }
+        }
+        for (int i = 0; i < slots.length; i++) {
+            Lesson lesson = problem.lessons().get(i);
+            if (teachers[lesson.teacher()] || sections[lesson.section()]) {
+                slots[i] = NONE;
+                rooms[i] = NONE;
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One worker: randomized restarts of a budgeted depth-first search.
+     */
+    private static final class Search implements Callable<TimetableSolution> {
+
+        private final TimetableProblem problem;
+        private final Lesson[] lessons;
+        private final int[] pinnedSlots;
+        private final int[] pinnedRooms;
+        private final long deadline;
+        private final SplittableRandom random;
+        private final long allSlots;
+
+        private final int[] slots;
+        private final int[] rooms;
+        private final long[] teacherBusy;
+        private final long[] sectionBusy;
+        private final long[] roomBusy;
+        private final int[] unitDayCount;
+        private final int[] open;
+        private int openCount;
+
+        private long budget;
+        private long nodes;
+        private boolean stopped;
+
+        Search(TimetableProblem problem, int[] pinnedSlots, int[] pinnedRooms, long deadline, SplittableRandom random) {
+            this.problem = problem;
+            this.lessons = problem.lessons().toArray(Lesson[]::new);
+            this.pinnedSlots = pinnedSlots;
+            this.pinnedRooms = pinnedRooms;
+            this.deadline = deadline;
+            this.random = random;
+            this.allSlots = problem.slotCount() == Long.SIZE ? -1L : (1L << problem.slotCount()) - 1;
+            this.slots = new int[lessons.length];
+            this.rooms = new int[lessons.length];
+            this.teacherBusy = new long[problem.teacherCount()];
+            this.sectionBusy = new long[problem.sectionCount()];
+            this.roomBusy = new long[problem.roomCount()];
+            this.unitDayCount = new int[problem.unitCount() * problem.days()];
+            this.open = new int[lessons.length];
+        }
+
+        @Override
+        public TimetableSolution call() {
+            long restartBudget = INITIAL_BUDGET;
+            for (int restarts = 0; ; restarts++) {
+                reset();
+                budget = restartBudget;
+                if (place()) {
+                    return new TimetableSolution(slots.clone(), rooms.clone(), restarts);
+                }
+                if (stopped) {
+                    throw new IllegalStateException("No timetable found before the deadline");
+                }
+                restartBudget += restartBudget / 2;
+            }
+        }
+
+        private void reset() {
+            Arrays.fill(teacherBusy, 0);
+            Arrays.fill(sectionBusy, 0);
+            Arrays.fill(roomBusy, 0);
+            Arrays.fill(unitDayCount, 0);
+            openCount = 0;
+            for (int i = 0; i < lessons.length; i++) {
+                if (pinnedSlots[i] != NONE) {
+                    assign(i, pinnedSlots[i], pinnedRooms[i]);
+                } else {
+                    slots[i] = NONE;
+                    rooms[i] = NONE;
+                    open[openCount++] = i;
+                }
+            }
+        }
+
+        private boolean place() {
+            if (openCount == 0) {
+                return true;
+            }
+            if ((++nodes & 0x3FF) == 0 && (System.nanoTime() > deadline || Thread.currentThread().isInterrupted())) {
+                stopped = true;
+                return false;
+            }
+
+            // Most constrained lesson first; random among equals
+            int pick = NONE;
+            int pickCount = Integer.MAX_VALUE;
+            long pickFree = 0;
+            int ties = 0;
+            for (int k = 0; k < openCount; k++) {
+                long free = freeSlots(lessons[open[k]]);
+                int count = Long.bitCount(free);
+                if (count == 0) {
+                    return false;
+                }
+                if (count < pickCount) {
+                    pick = k;
+                    pickCount = count;
+                    pickFree = free;
+                    ties = 1;
+                } else if (count == pickCount && random.nextInt(++ties) == 0) {
+                    pick = k;
+                    pickFree = free;
+                }
+            }
+
+            int lesson = open[pick];
+            open[pick] = open[--openCount];
+            open[openCount] = lesson;
+            try {
+                for (int slot : orderSlots(lessons[lesson], pickFree, pickCount)) {
+                    long bit = 1L << slot;
+                    for (int room : lessons[lesson].rooms()) {
+                        if ((roomBusy[room] & bit) != 0) {
+                            continue;
+                        }
+                        assign(lesson, slot, room);
+                        if (place()) {
+                            return true;
+                        }
+                        unassign(lesson, slot, room);
+                        if (stopped || --budget < 0) {
+                            return false;
+                        }
+                    }
+                }
+                return false;
+            } finally {
+                if (slots[lesson] == NONE) {
+                    open[openCount] = open[pick];
+                    open[pick] = lesson;
+                    openCount++;
+                }
+            }
+        }
+
+        private long freeSlots(Lesson lesson) {
+            long roomFree = 0;
+            for (int room : lesson.rooms()) {
+                roomFree |= ~roomBusy[room];
+            }
+            return allSlots & ~teacherBusy[lesson.teacher()] & ~sectionBusy[lesson.section()] & roomFree;
+        }
+
+        /**
+         * Free slots, days with fewer lessons of the same unit first, shuffled within a day count.
+         */
+        private int[] orderSlots(Lesson lesson, long free, int count) {
+            long[] keys = new long[count];
+            int n = 0;
+            for (long remaining = free; remaining != 0; remaining &= remaining - 1) {
+                int slot = Long.numberOfTrailingZeros(remaining);
+                long load = unitDayCount[lesson.unit() * problem.days() + problem.dayOf(slot)];
+                keys[n++] = (load << 40) | ((long) random.nextInt(1 << 24) << 8) | slot;
+            }
+            Arrays.sort(keys);
+            int[] ordered = new int[count];
+            for (int i = 0; i < count; i++) {
+                ordered[i] = (int) (keys[i] & 0xFF);
+            }
+            return ordered;
+        }
+
+        private void assign(int lesson, int slot, int room) {
+            Lesson l = lessons[lesson];
+            long bit = 1L << slot;
+            teacherBusy[l.teacher()] |= bit;
+            sectionBusy[l.section()] |= bit;
+            roomBusy[room] |= bit;
+            unitDayCount[l.unit() * problem.days() + problem.dayOf(slot)]++;
+            slots[lesson] = slot;
+            rooms[lesson] = room;
+        }
+
+        private void unassign(int lesson, int slot, int room) {
+            Lesson l = lessons[lesson];
+            long bit = ~(1L << slot);
+            teacherBusy[l.teacher()] &= bit;
+            sectionBusy[l.section()] &= bit;
+            roomBusy[room] &= bit;
+            unitDayCount[l.unit() * problem.days() + problem.dayOf(slot)]--;
+            slots[lesson] = NONE;
+            rooms[lesson] = NONE;
+        }
+    }
+
+    /**
+     * Daemon threads with a stack deep enough for one frame per lesson.
+     */
+    private static final class SolverThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(null, runnable, "timetable-solver-" + SEQUENCE.incrementAndGet(), 16L << 20);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
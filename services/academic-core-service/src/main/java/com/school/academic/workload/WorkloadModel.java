@@ -0,0 +1,219 @@
+package com.school.academic.workload;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Immutable teaching-load picture of one academic year: every class section with its class
+ * teacher and curriculum, and every staff assignment, indexed by staff and by class section.
+ *
+ * A subject's weekly periods in a section are shared by the teachers assigned to it the same
+ * way the timetable deals them out: round-robin in assignment order, so the first
+ * {@code periods % teachers} teachers take one period more.
+ */
+public final class WorkloadModel {
+
+    private final long academicYearId;
+    private final int maxPeriodsPerWeek;
+    private final LocalDateTime builtAt;
+    private final Map<Long, Section> sections;
+    private final Map<Long, StaffLoad> staff;
+    private final Map<Long, List<Assignment>> assignmentsBySection;
+
+    private WorkloadModel(long academicYearId, int maxPeriodsPerWeek, Map<Long, Section> sections,
+                          Map<Long, StaffLoad> staff, Map<Long, List<Assignment>> assignmentsBySection) {
+        this.academicYearId = academicYearId;
+        this.maxPeriodsPerWeek = maxPeriodsPerWeek;
+        this.builtAt = LocalDateTime.now();
+        this.sections = sections;
+        this.staff = staff;
+        this.assignmentsBySection = assignmentsBySection;
+    }
+
+    /**
+     * Build the model from the two bulk query results: curriculum rows per class section
+     * (see {@code ClassSectionRepository.findCurriculumRowsByAcademicYearId}) and assignment
+     * rows (see {@code StaffAssignmentRepository.findWorkloadRowsByAcademicYearId}).
+     */
+    public static WorkloadModel build(long academicYearId, int maxPeriodsPerWeek, List<Object[]> curriculumRows,
+                                      List<Object[]> assignmentRows) {
+        Map<Long, Section> sections = new LinkedHashMap<>();
+        for (Object[] row : curriculumRows) {
+            long sectionId = (Long) row[0];
+            Section section = sections.computeIfAbsent(sectionId, id -> new Section(id, row[1] + " - " + row[2],
+                    (Long) row[3], row[3] != null ? fullName((String) row[4], (String) row[5]) : null,
+                    new LinkedHashMap<>()));
+            if (row[6] != null) {
+                Requirement requirement = new Requirement((Long) row[6], (String) row[7],
+                        row[8] != null ? (Integer) row[8] : 0);
+                // A section-specific assignment replaces the class-wide one for the same subject
+                if (Boolean.TRUE.equals(row[9])) {
+                    section.curriculum().put(requirement.subjectId(), requirement);
+                } else {
+                    section.curriculum().putIfAbsent(requirement.subjectId(), requirement);
+                }
+            }
+        }
+
+        // Teachers per (section, subject), in assignment order
+        Map<List<Long>, List<Object[]>> teachers = new LinkedHashMap<>();
+        for (Object[] row : assignmentRows) {
+            teachers.computeIfAbsent(List.of((Long) row[4], (Long) row[5]), key -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, List<Assignment>> byStaff = new LinkedHashMap<>();
+        Map<Long, Object[]> staffRows = new HashMap<>();
+        Map<Long, List<Assignment>> bySection = new HashMap<>();
+        for (Map.Entry<List<Long>, List<Object[]>> entry : teachers.entrySet()) {
+            long sectionId = entry.getKey().get(0);
+            long subjectId = entry.getKey().get(1);
+            Section section = sections.get(sectionId);
+            Requirement requirement = section != null ? section.curriculum().get(subjectId) : null;
+            int periods = requirement != null ? requirement.periodsPerWeek() : 0;
+            List<Object[]> rows = entry.getValue();
+            for (int k = 0; k < rows.size(); k++) {
+                Object[] row = rows.get(k);
+                long staffId = (Long) row[0];
+                Assignment assignment = new Assignment(staffId, sectionId,
+                        section != null ? section.name() : null, subjectId, (String) row[6],
+                        share(periods, rows.size(), k), requirement != null);
+                byStaff.computeIfAbsent(staffId, id -> new ArrayList<>()).add(assignment);
+                bySection.computeIfAbsent(sectionId, id -> new ArrayList<>()).add(assignment);
+                staffRows.putIfAbsent(staffId, row);
+            }
+        }
+
+        Map<Long, StaffLoad> staff = new LinkedHashMap<>();
+        byStaff.forEach((staffId, assignments) -> {
+            Object[] row = staffRows.get(staffId);
+            int total = assignments.stream().mapToInt(Assignment::periodsPerWeek).sum();
+            staff.put(staffId, new StaffLoad(staffId, fullName((String) row[1], (String) row[2]), (String) row[3],
+                    List.copyOf(assignments), total));
+        });
+        bySection.replaceAll((id, assignments) -> List.copyOf(assignments));
+        return new WorkloadModel(academicYearId, maxPeriodsPerWeek, Collections.unmodifiableMap(sections),
+                Collections.unmodifiableMap(staff), bySection);
+    }
+
+    public long getAcademicYearId() {
+        return academicYearId;
+    }
+
+    public int getMaxPeriodsPerWeek() {
+        return maxPeriodsPerWeek;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public int sectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Every staff member with at least one assignment, heaviest load first.
+     */
+    public List<StaffLoad> staffLoads() {
+        return staff.values().stream()
+                .sorted(Comparator.comparingInt(StaffLoad::periodsPerWeek).reversed()
+                        .thenComparing(StaffLoad::name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    public Optional<StaffLoad> staffLoad(long staffId) {
+        return Optional.ofNullable(staff.get(staffId));
+    }
+
+    public List<StaffLoad> overloadedStaff() {
+        return staffLoads().stream().filter(load -> load.periodsPerWeek() > maxPeriodsPerWeek).toList();
+    }
+
+    /**
+     * Staff over the limit whose load is higher than in {@code before}: those a change made
+     * between the two models pushed over, or further over. Staff who were already over and
+     * whose load did not rise are left out.
+     */
+    public List<StaffLoad> overloadedSince(WorkloadModel before) {
+        return overloadedStaff().stream()
+                .filter(load -> load.periodsPerWeek() > before.staffLoad(load.staffId())
+                        .map(StaffLoad::periodsPerWeek).orElse(0))
+                .toList();
+    }
+
+    /**
+     * Curriculum subjects of each class section that nobody is assigned to teach.
+     */
+    public List<CoverageGap> coverageGaps() {
+        List<CoverageGap> gaps = new ArrayList<>();
+        for (Section section : sections.values()) {
+            Set<Long> covered = new HashSet<>();
+            assignmentsBySection.getOrDefault(section.id(), List.of())
+                    .forEach(assignment -> covered.add(assignment.subjectId()));
+            for (Requirement requirement : section.curriculum().values()) {
+                if (!covered.contains(requirement.subjectId())) {
+                    gaps.add(new CoverageGap(section, requirement));
+                }
+            }
+        }
+        return gaps;
+    }
+
+    /**
+     * Class sections whose class teacher has no assignment in that section.
+     */
+    public List<Section> idleClassTeachers() {
+        return sections.values().stream()
+                .filter(section -> section.classTeacherId() != null)
+                .filter(section -> assignmentsBySection.getOrDefault(section.id(), List.of()).stream()
+                        .noneMatch(assignment -> assignment.staffId() == section.classTeacherId()))
+                .toList();
+    }
+
+    /**
+     * Weekly periods a staff member would teach after also taking {@code subjectId} in
+     * {@code classSectionId}, joining any teachers already assigned to it.
+     */
+    public int projectedPeriods(long staffId, long classSectionId, long subjectId) {
+        int current = staffLoad(staffId).map(StaffLoad::periodsPerWeek).orElse(0);
+        Section section = sections.get(classSectionId);
+        Requirement requirement = section != null ? section.curriculum().get(subjectId) : null;
+        if (requirement == null) {
+            return current;
+        }
+        int teachers = (int) assignmentsBySection.getOrDefault(classSectionId, List.of()).stream()
+                .filter(assignment -> assignment.subjectId() == subjectId)
+                .count();
+        return current + share(requirement.periodsPerWeek(), teachers + 1, teachers);
+    }
+
+    private static int share(int periods, int teachers, int index) {
+        return periods / teachers + (index < periods % teachers ? 1 : 0);
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        return firstName + (lastName != null ? " " + lastName : "");
+    }
+
+    public record Section(long id, String name, Long classTeacherId, String classTeacherName,
+                          Map<Long, Requirement> curriculum) {
+    }
+
+    public record Requirement(long subjectId, String subjectName, int periodsPerWeek) {
+    }
+
+    /**
+     * One teaching assignment and the periods it contributes; {@code inCurriculum} is false when
+     * the subject has since been dropped from the class.
+     */
+    public record Assignment(long staffId, long classSectionId, String classSectionName, long subjectId,
+                             String subjectName, int periodsPerWeek, boolean inCurriculum) {
+    }
+
+    public record StaffLoad(long staffId, String name, String staffCode, List<Assignment> assignments,
+                            int periodsPerWeek) {
+    }
+
+    public record CoverageGap(Section section, Requirement requirement) {
+    }
+}
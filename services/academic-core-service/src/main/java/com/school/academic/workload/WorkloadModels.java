@@ -0,0 +1,55 @@
+package com.school.academic.workload;
+
+import com.school.academic.config.CacheConfig;
+import com.school.academic.repository.ClassSectionRepository;
+import com.school.academic.repository.StaffAssignmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds and caches one {@link WorkloadModel} per academic year. The cache is cleared through
+ * the class-section, subject-assignment, staff and staff-assignment cache regions, so the
+ * next read after any of those changes (on any node) rebuilds from two queries.
+ */
+@Component
+public class WorkloadModels {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadModels.class);
+
+    private final ClassSectionRepository classSectionRepository;
+    private final StaffAssignmentRepository staffAssignmentRepository;
+    private final int maxPeriodsPerWeek;
+
+    public WorkloadModels(ClassSectionRepository classSectionRepository,
+                          StaffAssignmentRepository staffAssignmentRepository,
+                          @Value("${academic.workload.max-periods-per-week:30}") int maxPeriodsPerWeek) {
+        this.classSectionRepository = classSectionRepository;
+        this.staffAssignmentRepository = staffAssignmentRepository;
+        this.maxPeriodsPerWeek = maxPeriodsPerWeek;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.WORKLOAD_MODELS, sync = true)
+    @Transactional(readOnly = true)
+    public WorkloadModel forAcademicYear(Long academicYearId) {
+        return build(academicYearId);
+    }
+
+    /**
+     * Build the model from the rows visible to the current transaction, bypassing the cache, for
+     * checks that must not act on a picture older than the rows they have locked.
+     */
+    @Transactional(readOnly = true)
+    public WorkloadModel build(Long academicYearId) {
+        long started = System.nanoTime();
+        WorkloadModel model = WorkloadModel.build(academicYearId, maxPeriodsPerWeek,
+                classSectionRepository.findCurriculumRowsByAcademicYearId(academicYearId),
+                staffAssignmentRepository.findWorkloadRowsByAcademicYearId(academicYearId));
+        log.debug("Built workload model for academic year {} in {} ms", academicYearId,
+                (System.nanoTime() - started) / 1_000_000);
+        return model;
+    }
+}
@@ -0,0 +1,130 @@
+package db.migration;
+
+import com.school.academic.frontoffice.repository.FrontOfficePartitions;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a {@code p_y<academic_year.id>} partition off the front-office tables (V0029)
+ * for every academic year that is not archived and has none yet.
+ *
+ * The split reorganizes the partition that currently covers the year, which keeps its own
+ * upper bound, so it only moves that year's rows. Years already split and archived years
+ * are left alone, which makes the split safe to repeat.
+ */
+final class FrontOfficeYearPartitions {
+
+    private static final String SCHEMA = "academic_core";
+    private static final String FUTURE = "p_future";
+    private static final Pattern YEAR_PARTITION = Pattern.compile("p_y(\\d+)");
+    private static final List<String> TABLES = List.of(
+            "front_office_visitors",
+            "front_office_phone_calls",
+            "front_office_postal_records",
+            "front_office_admission_enquiries",
+            "front_office_complaints",
+            "front_office_half_day_notices");
+
+    private FrontOfficeYearPartitions() {
+    }
+
+    /**
+     * @return number of partitions added across all tables
+     */
+    static int split(Connection connection) throws SQLException {
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        List<Long> academicYears = openAcademicYears(connection);
+        int added = 0;
+        for (String table : TABLES) {
+            added += split(connection, table, academicYears);
+        }
+        return added;
+    }
+
+    private static int split(Connection connection, String table, List<Long> academicYears) throws SQLException {
+        List<String> names = partitionNames(connection, table);
+        if (!names.contains(FUTURE)) {
+            return 0;
+        }
+        NavigableSet<Long> years = new TreeSet<>();
+        for (String name : names) {
+            Matcher matcher = YEAR_PARTITION.matcher(name);
+            if (matcher.matches()) {
+                years.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+
+        int added = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (Long year : academicYears) {
+                if (years.contains(year)) {
+                    continue;
+                }
+                Long covering = years.higher(year);
+                String target = covering != null ? FrontOfficePartitions.partitionName(covering) : FUTURE;
+                String targetBound = covering != null ? FrontOfficePartitions.upperBound(covering) : "MAXVALUE";
+                statement.execute("ALTER TABLE `" + SCHEMA + "`.`" + table + "` REORGANIZE PARTITION `" + target + "` INTO ("
+                        + "PARTITION `" + FrontOfficePartitions.partitionName(year) + "` VALUES LESS THAN ("
+                        + FrontOfficePartitions.upperBound(year) + "), "
+                        + "PARTITION `" + target + "` VALUES LESS THAN (" + targetBound + "))");
+                years.add(year);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Academic year ids in ascending order, without the archived years (their partitions were dropped).
+     */
+    private static List<Long> openAcademicYears(Connection connection) throws SQLException {
+        Set<Long> archived = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT `academic_year_id` FROM `" + SCHEMA
+                     + "`.`front_office_archived_years`")) {
+            while (rows.next()) {
+                archived.add(ByteBuffer.wrap(rows.getBytes(1), 8, 8).getLong());
+            }
+        }
+        List<Long> years = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT `id` FROM `" + SCHEMA + "`.`academic_year` ORDER BY `id`")) {
+            while (rows.next()) {
+                if (!archived.contains(rows.getLong(1))) {
+                    years.add(rows.getLong(1));
+                }
+            }
+        }
+        return years;
+    }
+
+    private static List<String> partitionNames(Connection connection, String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL")) {
+            query.setString(1, SCHEMA);
+            query.setString(2, table);
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    names.add(rows.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Repeatable: Split front-office partitions for new academic years
+ * Module: Front Office
+ * Academic years are data, so a year created after V0036 has no partition and its
+ * front-office rows sit in p_future. This migration splits those years off on every
+ * migrate (the checksum changes each run) and does nothing when every year already
+ * has its partition. Until the next deployment a new year's rows stay in p_future,
+ * which only costs partition pruning; archiving such a year deletes its rows instead
+ * of dropping a partition.
+ */
+public class R__Split_front_office_partitions_for_new_academic_years extends BaseJavaMigration {
+
+    @Override
+    public Integer getChecksum() {
+        return (int) System.currentTimeMillis();
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        FrontOfficeYearPartitions.split(context.getConnection());
+    }
+}
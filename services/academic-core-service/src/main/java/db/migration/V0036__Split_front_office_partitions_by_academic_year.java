@@ -0,0 +1,19 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * V0036: Split front-office partitions by academic year
+ * Module: Front Office
+ * V0029 put every row in p_future. This gives each existing academic year its own
+ * p_y<academic_year.id> partition of the six front-office tables; years created later
+ * are split off by R__Split_front_office_partitions_for_new_academic_years.
+ */
+public class V0036__Split_front_office_partitions_by_academic_year extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        FrontOfficeYearPartitions.split(context.getConnection());
+    }
+}
@@ -0,0 +1,20 @@
+-- V0022__create_cache_version_table.sql
+-- Creates cache_version table (cluster-wide cache invalidation bus)
+-- Writers bump a region's version in the same transaction as the data change;
+-- every node polls this table and clears its local caches for changed regions.
+
+CREATE TABLE academic_core.cache_version (
+    region VARCHAR(64) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+INSERT INTO academic_core.cache_version (region, version) VALUES
+    ('ACADEMIC_YEARS', 0),
+    ('CLASSES', 0),
+    ('SECTIONS', 0),
+    ('CLASS_SECTIONS', 0),
+    ('SUBJECTS', 0),
+    ('SUBJECT_ASSIGNMENTS', 0),
+    ('STAFF', 0),
+    ('STAFF_ASSIGNMENTS', 0);
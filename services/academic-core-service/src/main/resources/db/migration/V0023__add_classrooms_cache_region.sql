@@ -0,0 +1,4 @@
+-- V0023__add_classrooms_cache_region.sql
+-- Seeds the CLASSROOMS region so classroom reads carry a version-based ETag from startup
+
+INSERT INTO academic_core.cache_version (region, version) VALUES ('CLASSROOMS', 0);
@@ -0,0 +1,51 @@
+-- V0024: Composite indexes for front-office list filters
+-- Module: Front Office
+-- List queries always filter by academic_year_id, usually add an equality filter
+-- (status, type, class/section, staff) and then a date range. Each composite index
+-- leads with academic_year_id, then the equality column, then the range column.
+-- The single-column academic_year_id indexes from V0020 become redundant prefixes.
+
+-- ============================================
+-- 1. Front Office Visitors
+-- ============================================
+CREATE INDEX `idx_visitors_year_check_in` ON `academic_core`.`front_office_visitors` (`academic_year_id`, `check_in_time`);
+CREATE INDEX `idx_visitors_year_check_out` ON `academic_core`.`front_office_visitors` (`academic_year_id`, `check_out_time`, `check_in_time`);
+DROP INDEX `idx_visitors_academic_year` ON `academic_core`.`front_office_visitors`;
+
+-- ============================================
+-- 2. Front Office Phone Calls
+-- ============================================
+CREATE INDEX `idx_phone_calls_year_date` ON `academic_core`.`front_office_phone_calls` (`academic_year_id`, `call_date`);
+CREATE INDEX `idx_phone_calls_year_type_date` ON `academic_core`.`front_office_phone_calls` (`academic_year_id`, `call_type`, `call_date`);
+DROP INDEX `idx_phone_calls_academic_year` ON `academic_core`.`front_office_phone_calls`;
+
+-- ============================================
+-- 3. Front Office Half Day Notices
+-- ============================================
+CREATE INDEX `idx_half_day_year_out_time` ON `academic_core`.`front_office_half_day_notices` (`academic_year_id`, `out_time`);
+CREATE INDEX `idx_half_day_year_class_section` ON `academic_core`.`front_office_half_day_notices` (`academic_year_id`, `class_id`, `section_id`, `out_time`);
+CREATE INDEX `idx_half_day_year_student` ON `academic_core`.`front_office_half_day_notices` (`academic_year_id`, `student_id`, `out_time`);
+DROP INDEX `idx_half_day_academic_year` ON `academic_core`.`front_office_half_day_notices`;
+
+-- ============================================
+-- 4. Front Office Postal Records
+-- ============================================
+CREATE INDEX `idx_postal_year_date` ON `academic_core`.`front_office_postal_records` (`academic_year_id`, `postal_date`);
+CREATE INDEX `idx_postal_year_direction_date` ON `academic_core`.`front_office_postal_records` (`academic_year_id`, `direction`, `postal_date`);
+DROP INDEX `idx_postal_academic_year` ON `academic_core`.`front_office_postal_records`;
+
+-- ============================================
+-- 5. Front Office Admission Enquiries
+-- ============================================
+CREATE INDEX `idx_enquiry_year_date` ON `academic_core`.`front_office_admission_enquiries` (`academic_year_id`, `enquiry_date`);
+CREATE INDEX `idx_enquiry_year_status_date` ON `academic_core`.`front_office_admission_enquiries` (`academic_year_id`, `enquiry_status`, `enquiry_date`);
+CREATE INDEX `idx_enquiry_year_follow_up` ON `academic_core`.`front_office_admission_enquiries` (`academic_year_id`, `next_follow_up_date`);
+DROP INDEX `idx_enquiry_academic_year` ON `academic_core`.`front_office_admission_enquiries`;
+
+-- ============================================
+-- 6. Front Office Complaints
+-- ============================================
+CREATE INDEX `idx_complaint_year_date` ON `academic_core`.`front_office_complaints` (`academic_year_id`, `complaint_date`);
+CREATE INDEX `idx_complaint_year_status_date` ON `academic_core`.`front_office_complaints` (`academic_year_id`, `complaint_status`, `complaint_date`);
+CREATE INDEX `idx_complaint_year_staff_status` ON `academic_core`.`front_office_complaints` (`academic_year_id`, `assigned_to_staff_id`, `complaint_status`);
+DROP INDEX `idx_complaint_academic_year` ON `academic_core`.`front_office_complaints`;
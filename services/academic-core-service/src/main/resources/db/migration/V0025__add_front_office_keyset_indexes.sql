@@ -0,0 +1,12 @@
+-- V0025: Keyset pagination indexes for front-office lists
+-- Module: Front Office
+-- Lists without an explicit sort are ordered by (created_at DESC, id DESC) within an
+-- academic year and continue from a (created_at, id) cursor. These indexes serve both
+-- the ORDER BY and the cursor range seek without a filesort.
+
+CREATE INDEX `idx_visitors_year_created` ON `academic_core`.`front_office_visitors` (`academic_year_id`, `created_at`, `id`);
+CREATE INDEX `idx_phone_calls_year_created` ON `academic_core`.`front_office_phone_calls` (`academic_year_id`, `created_at`, `id`);
+CREATE INDEX `idx_half_day_year_created` ON `academic_core`.`front_office_half_day_notices` (`academic_year_id`, `created_at`, `id`);
+CREATE INDEX `idx_postal_year_created` ON `academic_core`.`front_office_postal_records` (`academic_year_id`, `created_at`, `id`);
+CREATE INDEX `idx_enquiry_year_created` ON `academic_core`.`front_office_admission_enquiries` (`academic_year_id`, `created_at`, `id`);
+CREATE INDEX `idx_complaint_year_created` ON `academic_core`.`front_office_complaints` (`academic_year_id`, `created_at`, `id`);
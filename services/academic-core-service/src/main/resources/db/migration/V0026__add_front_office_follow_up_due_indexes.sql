@@ -0,0 +1,9 @@
+-- V0026: Due-date index for follow-up reminders
+-- Module: Front Office
+-- The reminder scheduler loads follow-ups by due-date range across academic years
+-- (overdue lookback through the timing-wheel horizon). Phone calls are served by the
+-- existing idx_phone_calls_follow_up; for enquiries the status is added so closed and
+-- converted enquiries are skipped from the index alone.
+
+CREATE INDEX `idx_enquiry_follow_up_due` ON `academic_core`.`front_office_admission_enquiries` (`next_follow_up_date`, `enquiry_status`);
+DROP INDEX `idx_enquiry_follow_up` ON `academic_core`.`front_office_admission_enquiries`;
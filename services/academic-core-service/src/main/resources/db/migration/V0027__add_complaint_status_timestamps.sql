@@ -0,0 +1,22 @@
+-- V0027: Per-status entered-at timestamps for complaints
+-- Module: Front Office
+-- Complaint SLA aging measures how long a complaint has been in its current status.
+-- OPEN is entered at created_at; the other statuses record when they were last entered.
+-- Existing rows are backfilled from their last update.
+
+ALTER TABLE `academic_core`.`front_office_complaints`
+    ADD COLUMN `in_progress_at` DATETIME NULL AFTER `complaint_status`,
+    ADD COLUMN `resolved_at` DATETIME NULL AFTER `in_progress_at`,
+    ADD COLUMN `closed_at` DATETIME NULL AFTER `resolved_at`;
+
+UPDATE `academic_core`.`front_office_complaints`
+SET `in_progress_at` = COALESCE(`updated_at`, `created_at`)
+WHERE `complaint_status` = 'IN_PROGRESS';
+
+UPDATE `academic_core`.`front_office_complaints`
+SET `resolved_at` = COALESCE(`updated_at`, `created_at`)
+WHERE `complaint_status` = 'RESOLVED';
+
+UPDATE `academic_core`.`front_office_complaints`
+SET `closed_at` = COALESCE(`updated_at`, `created_at`)
+WHERE `complaint_status` = 'CLOSED';
@@ -0,0 +1,7 @@
+-- V0028: Flag repeat admission enquiries
+-- Module: Front Office
+-- An enquiry made with the same phone number (compared in E.164 form) as an open
+-- enquiry of the same academic year records the earliest such enquiry here.
+
+ALTER TABLE `academic_core`.`front_office_admission_enquiries`
+    ADD COLUMN `duplicate_of_id` BINARY(16) NULL AFTER `enquiry_status`;
@@ -0,0 +1,60 @@
+-- V0029: Partition front-office tables by academic year
+-- Module: Front Office
+-- Every front-office query filters on academic_year_id. Partitioning each table by
+-- RANGE COLUMNS (academic_year_id) confines those queries to one year's partition
+-- and lets a closed year be removed by dropping its partition after it is archived.
+-- Academic year ids are UUID(0, academic_year.id), so their BINARY(16) form sorts
+-- by year. MySQL requires the partitioning column in every unique key, so the
+-- primary keys become (id, academic_year_id). All rows start in p_future; the
+-- Java migration V0036 splits off a p_y<academic_year.id> partition per existing
+-- year, and R__Split_front_office_partitions_for_new_academic_years adds one for
+-- each year created since, on every migrate.
+
+CREATE TABLE IF NOT EXISTS `academic_core`.`front_office_archived_years` (
+    `academic_year_id` BINARY(16) NOT NULL,
+    `row_count` BIGINT NOT NULL,
+    `archived_at` DATETIME NOT NULL,
+    PRIMARY KEY (`academic_year_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+ALTER TABLE `academic_core`.`front_office_visitors`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE `academic_core`.`front_office_phone_calls`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE `academic_core`.`front_office_half_day_notices`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE `academic_core`.`front_office_postal_records`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE `academic_core`.`front_office_admission_enquiries`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE `academic_core`.`front_office_complaints`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `academic_year_id`)
+    PARTITION BY RANGE COLUMNS (`academic_year_id`) (
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+    );
@@ -0,0 +1,49 @@
+-- V0030: Timetables
+-- Module: Academic Core - Timetable
+-- A subject assignment now says how many periods a week the subject takes and,
+-- optionally, which kind of room it needs (Lecture, Lab, Hall). The generated
+-- weekly timetable of an academic year is one timetable row plus one entry per
+-- period; the unique keys make a teacher, class section or room impossible to
+-- double-book within a timetable.
+
+ALTER TABLE academic_core.subject_assignment
+    ADD COLUMN periods_per_week INT NULL AFTER section_id,
+    ADD COLUMN room_type VARCHAR(32) NULL AFTER periods_per_week;
+
+CREATE TABLE academic_core.timetable (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    academic_year_id BIGINT NOT NULL,
+    days_per_week INT NOT NULL,
+    periods_per_day INT NOT NULL,
+    revision INT NOT NULL DEFAULT 0,
+    generated_at TIMESTAMP NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_tt_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    UNIQUE KEY ux_tt_year (academic_year_id)
+);
+
+CREATE TABLE academic_core.timetable_entry (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    timetable_id BIGINT NOT NULL,
+    class_section_id BIGINT NOT NULL,
+    subject_id BIGINT NOT NULL,
+    staff_id BIGINT NOT NULL,
+    classroom_id BIGINT NOT NULL,
+    day_of_week INT NOT NULL,
+    period INT NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_tte_timetable FOREIGN KEY (timetable_id) REFERENCES academic_core.timetable(id),
+    CONSTRAINT fk_tte_class_section FOREIGN KEY (class_section_id) REFERENCES academic_core.class_section(id),
+    CONSTRAINT fk_tte_subject FOREIGN KEY (subject_id) REFERENCES academic_core.subject(id),
+    CONSTRAINT fk_tte_staff FOREIGN KEY (staff_id) REFERENCES academic_core.staff(id),
+    CONSTRAINT fk_tte_classroom FOREIGN KEY (classroom_id) REFERENCES academic_core.classroom(id),
+    UNIQUE KEY ux_tte_section_slot (timetable_id, class_section_id, day_of_week, period),
+    UNIQUE KEY ux_tte_staff_slot (timetable_id, staff_id, day_of_week, period),
+    UNIQUE KEY ux_tte_room_slot (timetable_id, classroom_id, day_of_week, period)
+);
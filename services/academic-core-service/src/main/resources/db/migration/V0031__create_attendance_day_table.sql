@@ -0,0 +1,23 @@
+-- V0031: Daily attendance
+-- Module: Academic Core - Attendance
+-- One row per class section and day. Each bitmap column is indexed by roll
+-- number (bit n = roll number n, little-endian bytes as written by
+-- java.util.BitSet): who was marked, who was absent, who was late. Submitting a
+-- section's attendance writes exactly this row; percentages are popcounts.
+
+CREATE TABLE academic_core.attendance_day (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    class_section_id BIGINT NOT NULL,
+    academic_year_id BIGINT NOT NULL,
+    attendance_date DATE NOT NULL,
+    marked_bits VARBINARY(128) NOT NULL,
+    absent_bits VARBINARY(128) NOT NULL,
+    late_bits VARBINARY(128) NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_att_class_section FOREIGN KEY (class_section_id) REFERENCES academic_core.class_section(id),
+    CONSTRAINT fk_att_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    UNIQUE KEY ux_att_section_date (class_section_id, attendance_date)
+);
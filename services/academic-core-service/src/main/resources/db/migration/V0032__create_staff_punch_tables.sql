@@ -0,0 +1,30 @@
+-- V0032: Staff attendance
+-- Module: Academic Core - Attendance
+-- staff_punch is the append-only log of biometric punches, keyed by staff and
+-- time so reloading an overlapping export inserts nothing twice (INSERT IGNORE).
+-- staff_attendance_day holds each staff member's first and last punch per day,
+-- recomputed only for the days a loaded file covers.
+
+CREATE TABLE academic_core.staff_punch (
+    staff_id BIGINT NOT NULL,
+    punched_at DATETIME NOT NULL,
+    ingested_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (staff_id, punched_at),
+    CONSTRAINT fk_sp_staff FOREIGN KEY (staff_id) REFERENCES academic_core.staff(id)
+);
+
+CREATE TABLE academic_core.staff_attendance_day (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    staff_id BIGINT NOT NULL,
+    attendance_date DATE NOT NULL,
+    first_punch_at DATETIME NOT NULL,
+    last_punch_at DATETIME NOT NULL,
+    punch_count INT NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_sad_staff FOREIGN KEY (staff_id) REFERENCES academic_core.staff(id),
+    UNIQUE KEY ux_sad_staff_date (staff_id, attendance_date),
+    KEY ix_sad_date (attendance_date)
+);
@@ -0,0 +1,38 @@
+-- V0033: Exams and marks
+-- Module: Academic Core - Gradebook
+-- An exam belongs to an academic year. Marks are one row per exam, class section
+-- and subject: marks_tenths holds the whole section's marks as little-endian
+-- 16-bit values indexed by roll number (marks x 10, -1 = absent, -32768 = not
+-- entered; see MarksColumn). Submitting a subject's marks for a section writes
+-- exactly this row.
+
+CREATE TABLE academic_core.exam (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    academic_year_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    start_date DATE,
+    end_date DATE,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_exam_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    UNIQUE KEY ux_exam_year_name (academic_year_id, name)
+);
+
+CREATE TABLE academic_core.exam_marks (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exam_id BIGINT NOT NULL,
+    class_section_id BIGINT NOT NULL,
+    subject_id BIGINT NOT NULL,
+    max_marks INT NOT NULL,
+    marks_tenths VARBINARY(2048) NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_em_exam FOREIGN KEY (exam_id) REFERENCES academic_core.exam(id),
+    CONSTRAINT fk_em_class_section FOREIGN KEY (class_section_id) REFERENCES academic_core.class_section(id),
+    CONSTRAINT fk_em_subject FOREIGN KEY (subject_id) REFERENCES academic_core.subject(id),
+    UNIQUE KEY ux_em_exam_section_subject (exam_id, class_section_id, subject_id)
+);
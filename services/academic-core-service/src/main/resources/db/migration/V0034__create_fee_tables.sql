@@ -0,0 +1,117 @@
+-- V0034: Fees and invoicing
+-- Module: Academic Core - Fees
+-- fee_structure holds the fee heads of a class in an academic year, each billed in
+-- a billing period (e.g. Q1, TERM-2, ANNUAL). An invoice run bills every active
+-- enrollment once per period with set-based INSERT ... SELECT statements, a chunk
+-- of enrollments per transaction; the unique (enrollment, period) key makes re-runs
+-- pick up only what is missing. fee_account keeps each enrollment's billed, paid
+-- and outstanding totals, updated by every invoice and payment as it is written;
+-- fee_ledger_entry is the append-only history behind those totals.
+
+CREATE TABLE academic_core.fee_structure (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    academic_year_id BIGINT NOT NULL,
+    class_id BIGINT NOT NULL,
+    fee_head VARCHAR(64) NOT NULL,
+    billing_period VARCHAR(16) NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fs_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    CONSTRAINT fk_fs_class FOREIGN KEY (class_id) REFERENCES academic_core.class(id),
+    UNIQUE KEY ux_fs_year_class_period_head (academic_year_id, class_id, billing_period, fee_head)
+);
+
+CREATE TABLE academic_core.fee_invoice_run (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    academic_year_id BIGINT NOT NULL,
+    billing_period VARCHAR(16) NOT NULL,
+    due_date DATE NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    invoices_created INT NOT NULL DEFAULT 0,
+    amount_invoiced DECIMAL(14,2) NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    error VARCHAR(512),
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fir_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    INDEX ix_fir_year_period (academic_year_id, billing_period)
+);
+
+CREATE TABLE academic_core.fee_invoice (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    invoice_number VARCHAR(64) NOT NULL,
+    invoice_run_id BIGINT NOT NULL,
+    enrollment_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    academic_year_id BIGINT NOT NULL,
+    class_section_id BIGINT NOT NULL,
+    billing_period VARCHAR(16) NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    paid_amount DECIMAL(12,2) NOT NULL DEFAULT 0,
+    status VARCHAR(16) NOT NULL,
+    due_date DATE NOT NULL,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fi_run FOREIGN KEY (invoice_run_id) REFERENCES academic_core.fee_invoice_run(id),
+    CONSTRAINT fk_fi_enrollment FOREIGN KEY (enrollment_id) REFERENCES academic_core.enrollment(id),
+    CONSTRAINT fk_fi_student FOREIGN KEY (student_id) REFERENCES academic_core.student(id),
+    CONSTRAINT fk_fi_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    CONSTRAINT fk_fi_class_section FOREIGN KEY (class_section_id) REFERENCES academic_core.class_section(id),
+    UNIQUE KEY ux_fi_number (invoice_number),
+    UNIQUE KEY ux_fi_enrollment_period (enrollment_id, billing_period),
+    INDEX ix_fi_run_enrollment (invoice_run_id, enrollment_id),
+    INDEX ix_fi_student (student_id)
+);
+
+CREATE TABLE academic_core.fee_invoice_line (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    invoice_id BIGINT NOT NULL,
+    fee_head VARCHAR(64) NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    CONSTRAINT fk_fil_invoice FOREIGN KEY (invoice_id) REFERENCES academic_core.fee_invoice(id),
+    INDEX ix_fil_invoice (invoice_id)
+);
+
+CREATE TABLE academic_core.fee_account (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    enrollment_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    academic_year_id BIGINT NOT NULL,
+    class_section_id BIGINT NOT NULL,
+    billed DECIMAL(14,2) NOT NULL DEFAULT 0,
+    paid DECIMAL(14,2) NOT NULL DEFAULT 0,
+    balance DECIMAL(14,2) NOT NULL DEFAULT 0,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fa_enrollment FOREIGN KEY (enrollment_id) REFERENCES academic_core.enrollment(id),
+    CONSTRAINT fk_fa_student FOREIGN KEY (student_id) REFERENCES academic_core.student(id),
+    CONSTRAINT fk_fa_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id),
+    CONSTRAINT fk_fa_class_section FOREIGN KEY (class_section_id) REFERENCES academic_core.class_section(id),
+    UNIQUE KEY ux_fa_enrollment (enrollment_id),
+    INDEX ix_fa_year_balance (academic_year_id, balance)
+);
+
+CREATE TABLE academic_core.fee_ledger_entry (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    enrollment_id BIGINT NOT NULL,
+    invoice_id BIGINT NOT NULL,
+    entry_type VARCHAR(16) NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    entry_date DATE NOT NULL,
+    reference VARCHAR(128),
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fle_enrollment FOREIGN KEY (enrollment_id) REFERENCES academic_core.enrollment(id),
+    CONSTRAINT fk_fle_invoice FOREIGN KEY (invoice_id) REFERENCES academic_core.fee_invoice(id),
+    INDEX ix_fle_enrollment (enrollment_id, entry_date)
+);
@@ -0,0 +1,72 @@
+-- V0035: Bank statement reconciliation
+-- Module: Academic Core - Fees
+-- A bank_statement_run reads one statement file, identified by its SHA-256, and
+-- matches each credit to an open invoice. Lines are committed a chunk at a time;
+-- lines_processed is the checkpoint a restarted run resumes from. fee_payment is
+-- the payment ledger by admission number and enrollment, written by reconciliation
+-- and by payments recorded by hand. Lines that could not be matched wait in
+-- payment_review_item until someone posts or dismisses them.
+
+CREATE TABLE academic_core.bank_statement_run (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255),
+    file_sha256 CHAR(64) NOT NULL,
+    format VARCHAR(8) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    lines_processed INT NOT NULL DEFAULT 0,
+    matched INT NOT NULL DEFAULT 0,
+    duplicates INT NOT NULL DEFAULT 0,
+    skipped INT NOT NULL DEFAULT 0,
+    sent_to_review INT NOT NULL DEFAULT 0,
+    amount_posted DECIMAL(14,2) NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    error VARCHAR(512),
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY ux_bsr_file_sha256 (file_sha256)
+);
+
+CREATE TABLE academic_core.fee_payment (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    enrollment_id BIGINT NOT NULL,
+    invoice_id BIGINT NOT NULL,
+    admission_number VARCHAR(64) NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    paid_on DATE NOT NULL,
+    bank_reference VARCHAR(128),
+    statement_run_id BIGINT,
+    line_number INT,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_fp_enrollment FOREIGN KEY (enrollment_id) REFERENCES academic_core.enrollment(id),
+    CONSTRAINT fk_fp_invoice FOREIGN KEY (invoice_id) REFERENCES academic_core.fee_invoice(id),
+    CONSTRAINT fk_fp_statement_run FOREIGN KEY (statement_run_id) REFERENCES academic_core.bank_statement_run(id),
+    UNIQUE KEY ux_fp_statement_line (statement_run_id, line_number),
+    INDEX ix_fp_admission (admission_number, paid_on),
+    INDEX ix_fp_enrollment (enrollment_id),
+    INDEX ix_fp_bank_reference (bank_reference)
+);
+
+CREATE TABLE academic_core.payment_review_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    statement_run_id BIGINT NOT NULL,
+    line_number INT NOT NULL,
+    value_date DATE,
+    amount DECIMAL(12,2),
+    bank_reference VARCHAR(128),
+    narrative VARCHAR(512),
+    reason VARCHAR(32) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    invoice_id BIGINT,
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_pri_statement_run FOREIGN KEY (statement_run_id) REFERENCES academic_core.bank_statement_run(id),
+    CONSTRAINT fk_pri_invoice FOREIGN KEY (invoice_id) REFERENCES academic_core.fee_invoice(id),
+    UNIQUE KEY ux_pri_statement_line (statement_run_id, line_number),
+    INDEX ix_pri_status (status, statement_run_id)
+);
@@ -0,0 +1,12 @@
+-- V0037: Change-tracking indexes for the front-office search catch-up
+-- Module: Front Office
+-- Every node re-reads the rows of each academic year created or updated since its last
+-- catch-up, so edits made on other nodes reach its search index within minutes. New rows
+-- are found through idx_*_year_created; these indexes serve the updated_at range seek.
+
+CREATE INDEX `idx_visitors_year_updated` ON `academic_core`.`front_office_visitors` (`academic_year_id`, `updated_at`);
+CREATE INDEX `idx_phone_calls_year_updated` ON `academic_core`.`front_office_phone_calls` (`academic_year_id`, `updated_at`);
+CREATE INDEX `idx_half_day_year_updated` ON `academic_core`.`front_office_half_day_notices` (`academic_year_id`, `updated_at`);
+CREATE INDEX `idx_postal_year_updated` ON `academic_core`.`front_office_postal_records` (`academic_year_id`, `updated_at`);
+CREATE INDEX `idx_enquiry_year_updated` ON `academic_core`.`front_office_admission_enquiries` (`academic_year_id`, `updated_at`);
+CREATE INDEX `idx_complaint_year_updated` ON `academic_core`.`front_office_complaints` (`academic_year_id`, `updated_at`);
@@ -0,0 +1,28 @@
+-- V0038: Report card job progress
+-- Module: Academic Core - Report Cards
+-- Each report-card job is a report_card_run row, so every node can answer for any
+-- job. The node running the job writes its status and card counts as it moves
+-- through loading and rendering, and about once a second while cards render.
+-- class_section_ids lists the printed sections comma-separated, or is NULL for the
+-- whole year. The render timestamps keep milliseconds for the throughput figure.
+
+CREATE TABLE academic_core.report_card_run (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    academic_year_id BIGINT NOT NULL,
+    class_section_ids TEXT,
+    output VARCHAR(16) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    total INT NOT NULL DEFAULT 0,
+    rendered INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    output_dir VARCHAR(512),
+    started_at TIMESTAMP(3) NULL,
+    rendering_at TIMESTAMP(3) NULL,
+    finished_at TIMESTAMP(3) NULL,
+    error VARCHAR(512),
+    created_by VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    modified_by VARCHAR(64),
+    modified_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_rcr_year FOREIGN KEY (academic_year_id) REFERENCES academic_core.academic_year(id)
+);
@@ -0,0 +1,67 @@
+package com.school.academic.attendance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AttendanceBitmap.
+ */
+class AttendanceBitmapTest {
+
+    @Test
+    @DisplayName("Should mark unlisted roll numbers present and survive a round trip through bytes")
+    void mark_RoundTripsThroughBytes() {
+        AttendanceBitmap marked = AttendanceBitmap.mark(List.of(1, 2, 3, 4, 40), Set.of(2), Set.of(40));
+
+        AttendanceBitmap stored = AttendanceBitmap.fromBytes(marked.markedBytes(), marked.absentBytes(), marked.lateBytes());
+
+        assertThat(stored.statusOf(1)).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(stored.statusOf(2)).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(stored.statusOf(40)).isEqualTo(AttendanceStatus.LATE);
+        assertThat(stored.statusOf(5)).isNull();
+        assertThat(stored.markedCount()).isEqualTo(5);
+        assertThat(stored.presentCount()).isEqualTo(3);
+        assertThat(stored.absentCount()).isEqualTo(1);
+        assertThat(stored.lateCount()).isEqualTo(1);
+        assertThat(marked.markedBytes()).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("Should reject roll numbers off the roster or both absent and late")
+    void mark_RejectsInconsistentRollNumbers() {
+        assertThatThrownBy(() -> AttendanceBitmap.mark(List.of(1, 2), Set.of(3), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not on the roster");
+        assertThatThrownBy(() -> AttendanceBitmap.mark(List.of(1, 2), Set.of(2), Set.of(2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("both absent and late");
+        assertThatThrownBy(() -> AttendanceBitmap.mark(List.of(AttendanceBitmap.MAX_ROLL_NUMBER + 1), Set.of(), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should total sections by popcount and students by status")
+    void tally_AddsDaysAndStatuses() {
+        AttendanceBitmap monday = AttendanceBitmap.mark(List.of(1, 2, 3, 4), Set.of(1), Set.of());
+        AttendanceBitmap tuesday = AttendanceBitmap.mark(List.of(1, 2, 3, 4), Set.of(), Set.of(1, 2));
+
+        AttendanceTally section = new AttendanceTally();
+        section.add(monday);
+        section.add(tuesday);
+        AttendanceTally student = new AttendanceTally();
+        student.add(monday.statusOf(1));
+        student.add(tuesday.statusOf(1));
+
+        assertThat(section.getMarked()).isEqualTo(8);
+        assertThat(section.getAbsent()).isEqualTo(1);
+        assertThat(section.getLate()).isEqualTo(2);
+        assertThat(section.attendancePercentage()).isEqualTo(87.5);
+        assertThat(student.attendancePercentage()).isEqualTo(50.0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.school.academic.attendance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PunchFile.
+ */
+class PunchFileTest {
+
+    private final StaffCodeIndex staffCodes = staffCodes();
+
+    @Test
+    @DisplayName("Should parse punches in place, skipping header, comments and blank lines")
+    void parse_ReadsPunchesAndReportsProblems() {
+        PunchFile punches = parse("﻿EmpCode\tDateTime\tDevice\r\n"
+                + "STF001\t2026-07-01 08:02:11\t1\r\n"
+                + "# device 2\n"
+                + "\n"
+                + "stf002,2026/07/01T08:15\n"
+                + "STF009;2026-07-01 08:20:00\n"
+                + "STF001\t2026-02-30 08:00:00\n"
+                + "STF002\t2026-07-01 17:45:09");
+
+        assertThat(punches.getLines()).isEqualTo(8);
+        assertThat(punches.size()).isEqualTo(3);
+        assertThat(punches.staffId(0)).isEqualTo(11L);
+        assertThat(punches.punchedAt(0)).isEqualTo(LocalDateTime.of(2026, 7, 1, 8, 2, 11));
+        assertThat(punches.getUnknownStaffPunches()).isEqualTo(1);
+        assertThat(punches.getUnknownStaffCodes()).containsExactly("STF009");
+        assertThat(punches.getMalformedLines()).containsExactly(7);
+    }
+
+    @Test
+    @DisplayName("Should order punches by staff and time and drop repeats within the debounce window")
+    void deduplicate_DropsRepeatedPunches() {
+        PunchFile punches = parse("STF002,2026-07-01 17:00:00\n"
+                + "STF001,2026-07-01 08:00:30\n"
+                + "STF001,2026-07-01 08:00:00\n"
+                + "STF001,2026-07-01 08:00:00\n"
+                + "STF001,2026-07-01 17:30:00\n");
+
+        punches.deduplicate(60);
+
+        assertThat(punches.size()).isEqualTo(3);
+        assertThat(punches.getDuplicates()).isEqualTo(2);
+        assertThat(punches.staffId(0)).isEqualTo(11L);
+        assertThat(punches.punchedAt(0)).isEqualTo(LocalDateTime.of(2026, 7, 1, 8, 0));
+        assertThat(punches.punchedAt(1)).isEqualTo(LocalDateTime.of(2026, 7, 1, 17, 30));
+        assertThat(punches.staffId(2)).isEqualTo(12L);
+    }
+
+    // Insertion order fixes the dense index, and with it the sort order of staff
+    private static StaffCodeIndex staffCodes() {
+        Map<String, Long> codes = new LinkedHashMap<>();
+        codes.put("STF001", 11L);
+        codes.put("stf002", 12L);
+        return StaffCodeIndex.of(codes);
+    }
+
+    private PunchFile parse(String content) {
+        return PunchFile.parse(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)), staffCodes);
+    }
+}
@@ -0,0 +1,121 @@
+package com.school.academic.cache;
+
+import com.school.academic.config.CacheConfig;
+import com.school.academic.domain.CacheVersion;
+import com.school.academic.repository.CacheVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CacheInvalidationBus and the versioned region caches it clears.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final String KEY = "all";
+
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+
+    private CacheManager cacheManager;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        RegionVersions regionVersions = new RegionVersions();
+        cacheManager = new CacheConfig().cacheManager(regionVersions, Duration.ofHours(6), 16, 256,
+                Duration.ofMinutes(1), 1024);
+        bus = new CacheInvalidationBus(cacheVersionRepository, cacheManager, regionVersions);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached value until its region moves")
+    void get_RegionUnchanged_ServesCachedValue() {
+        pollReturns(CacheRegion.CLASSES, 1);
+        Cache classes = cacheManager.getCache(CacheConfig.CLASSES);
+        AtomicInteger loads = new AtomicInteger();
+
+        classes.get(KEY, () -> "v1-" + loads.incrementAndGet());
+        String second = classes.get(KEY, () -> "v1-" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore a value loaded before a remote commit and put back after the poll cleared the cache")
+    void get_StaleLoadPutAfterClear_IsNotServed() {
+        pollReturns(CacheRegion.CLASSES, 1);
+        Cache classes = cacheManager.getCache(CacheConfig.CLASSES);
+
+        // The read loads the old rows; meanwhile another node commits version 2 and this node polls
+        String stale = classes.get(KEY, () -> {
+            pollReturns(CacheRegion.CLASSES, 2);
+            return "old rows";
+        });
+        String next = classes.get(KEY, () -> "new rows");
+
+        assertThat(stale).isEqualTo("old rows");
+        assertThat(next).isEqualTo("new rows");
+        assertThat(classes.get(KEY, () -> "reloaded")).isEqualTo("new rows");
+    }
+
+    @Test
+    @DisplayName("Should ignore a value put after the cache was cleared by this node's own commit")
+    void get_StaleLoadPutAfterLocalCommit_IsNotServed() {
+        pollReturns(CacheRegion.SUBJECTS, 4);
+        Cache subjects = cacheManager.getCache(CacheConfig.SUBJECTS);
+
+        subjects.get(KEY, () -> {
+            bus.apply(CacheRegion.SUBJECTS, 5);
+            return "old rows";
+        });
+
+        assertThat(subjects.get(KEY, () -> "new rows")).isEqualTo("new rows");
+    }
+
+    @Test
+    @DisplayName("Should leave caches of other regions alone")
+    void poll_OtherRegionMoved_KeepsCachedValue() {
+        pollReturns(CacheRegion.CLASSES, 1);
+        Cache sections = cacheManager.getCache(CacheConfig.SECTIONS);
+        sections.get(KEY, () -> "sections");
+
+        pollReturns(CacheRegion.CLASSES, 2);
+
+        assertThat(sections.get(KEY, () -> "reloaded")).isEqualTo("sections");
+    }
+
+    @Test
+    @DisplayName("Should clear a cache shared by several regions when any of them moves")
+    void poll_AnyRegionOfSharedCacheMoved_ClearsCache() {
+        pollReturns(CacheRegion.STAFF, 3);
+        Cache workloadModels = cacheManager.getCache(CacheConfig.WORKLOAD_MODELS);
+        workloadModels.get(2024L, () -> "model");
+
+        pollReturns(CacheRegion.STAFF_ASSIGNMENTS, 1);
+
+        assertThat(workloadModels.get(2024L, () -> "rebuilt")).isEqualTo("rebuilt");
+    }
+
+    private void pollReturns(CacheRegion region, long version) {
+        CacheVersion row = new CacheVersion();
+        row.setRegion(region.name());
+        row.setVersion(version);
+        when(cacheVersionRepository.findAll()).thenReturn(List.of(row));
+        bus.poll();
+    }
+}
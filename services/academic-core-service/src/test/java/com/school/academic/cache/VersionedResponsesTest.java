@@ -0,0 +1,120 @@
+package com.school.academic.cache;
+
+import com.school.academic.domain.CacheVersion;
+import com.school.academic.repository.CacheVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VersionedResponses.
+ */
+@ExtendWith(MockitoExtension.class)
+class VersionedResponsesTest {
+
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Mock
+    private Supplier<List<String>> body;
+
+    private VersionedResponses versionedResponses;
+
+    @BeforeEach
+    void setUp() {
+        versionedResponses = new VersionedResponses(cacheVersionRepository, cacheInvalidationBus);
+    }
+
+    @Test
+    @DisplayName("Should return body with version-based ETag and Cache-Control")
+    void ok_NoIfNoneMatch_ReturnsBody() {
+        when(cacheVersionRepository.findByRegionIn(List.of("CLASS_SECTIONS", "CLASSES")))
+                .thenReturn(List.of(version("CLASSES", 2), version("CLASS_SECTIONS", 7)));
+        when(body.get()).thenReturn(List.of("Grade 5 - A"));
+
+        ResponseEntity<List<String>> response = versionedResponses.ok(null, HttpCachePolicy.STRUCTURE, body,
+                CacheRegion.CLASS_SECTIONS, CacheRegion.CLASSES);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"7.2\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, must-revalidate");
+        assertThat(response.getBody()).containsExactly("Grade 5 - A");
+    }
+
+    @Test
+    @DisplayName("Should return 304 without building the body when If-None-Match matches")
+    void ok_MatchingIfNoneMatch_ShortCircuits() {
+        when(cacheVersionRepository.findByRegionIn(List.of("STAFF"))).thenReturn(List.of(version("STAFF", 3)));
+
+        ResponseEntity<List<String>> response = versionedResponses.ok("W/\"1\", \"3\"", HttpCachePolicy.PERSONNEL,
+                body, CacheRegion.STAFF);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(response.getBody()).isNull();
+        verifyNoInteractions(body);
+    }
+
+    @Test
+    @DisplayName("Should bring this node's caches up to the database version before building the body")
+    void ok_DatabaseAheadOfPoll_AppliesVersionFirst() {
+        when(cacheVersionRepository.findByRegionIn(List.of("SUBJECTS"))).thenReturn(List.of(version("SUBJECTS", 9)));
+        when(body.get()).thenReturn(List.of("Mathematics"));
+
+        ResponseEntity<List<String>> response = versionedResponses.ok("\"8\"", HttpCachePolicy.REFERENCE_DATA,
+                body, CacheRegion.SUBJECTS);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"9\"");
+        var order = inOrder(cacheInvalidationBus, body);
+        order.verify(cacheInvalidationBus).apply(CacheRegion.SUBJECTS, 9);
+        order.verify(body).get();
+    }
+
+    @Test
+    @DisplayName("Should count a region without a row as version 0")
+    void ok_MissingRow_UsesVersionZero() {
+        when(cacheVersionRepository.findByRegionIn(List.of("CLASSROOMS"))).thenReturn(List.of());
+
+        ResponseEntity<List<String>> response = versionedResponses.ok("\"0\"", HttpCachePolicy.STRUCTURE,
+                body, CacheRegion.CLASSROOMS);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verifyNoInteractions(body);
+    }
+
+    @Test
+    @DisplayName("Should omit ETag when versions cannot be read")
+    void ok_VersionLookupFails_ServesWithoutETag() {
+        when(cacheVersionRepository.findByRegionIn(List.of("SUBJECTS")))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        when(body.get()).thenReturn(List.of());
+
+        ResponseEntity<List<String>> response = versionedResponses.ok("\"0\"", HttpCachePolicy.REFERENCE_DATA,
+                body, CacheRegion.SUBJECTS);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+        verify(body).get();
+    }
+
+    private static CacheVersion version(String region, long version) {
+        CacheVersion row = new CacheVersion();
+        row.setRegion(region);
+        row.setVersion(version);
+        return row;
+    }
+}
@@ -0,0 +1,99 @@
+package com.school.academic.controller;
+
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.VersionedResponses;
+import com.school.academic.dto.response.PageMetadata;
+import com.school.academic.dto.response.StaffPageResponse;
+import com.school.academic.dto.response.StaffResponse;
+import com.school.academic.repository.CacheVersionRepository;
+import com.school.academic.service.ExportService;
+import com.school.academic.service.StaffService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for StaffController list dispatch.
+ */
+@ExtendWith(MockitoExtension.class)
+class StaffControllerTest {
+
+    @Mock
+    private StaffService staffService;
+    @Mock
+    private ExportService exportService;
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        VersionedResponses versionedResponses = new VersionedResponses(cacheVersionRepository, cacheInvalidationBus);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new StaffController(staffService, versionedResponses, exportService))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should keep returning the plain unpaged list when no paging or fields are given")
+    void listStaff_NoParameters_ReturnsPlainList() throws Exception {
+        when(staffService.listStaff()).thenReturn(List.of(staff("Asha"), staff("Ravi")));
+
+        mockMvc.perform(get("/api/v1/staff"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].firstName").value("Asha"));
+
+        verify(staffService, never()).listStaffPage(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return a page when fields, page or size is given")
+    void listStaff_PagingOrFields_ReturnsPage() throws Exception {
+        StaffPageResponse page = new StaffPageResponse(List.of(staff("Asha")), new PageMetadata(1, 10, 11, 2));
+        when(staffService.listStaffPage(any(), any())).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/staff").param("fields", "firstName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].firstName").value("Asha"));
+        mockMvc.perform(get("/api/v1/staff").param("page", "1").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalPages").value(2));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(staffService).listStaffPage(eq(null), pageable.capture());
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(10);
+        verify(staffService, never()).listStaff();
+    }
+
+    private static StaffResponse staff(String firstName) {
+        StaffResponse response = new StaffResponse();
+        response.setFirstName(firstName);
+        return response;
+    }
+}
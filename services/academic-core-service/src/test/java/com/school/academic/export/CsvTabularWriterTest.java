@@ -0,0 +1,51 @@
+package com.school.academic.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CsvTabularWriter.
+ */
+class CsvTabularWriterTest {
+
+    @Test
+    @DisplayName("Should quote fields containing separators, quotes and line breaks")
+    void writeRow_QuotesSpecialCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (TabularWriter writer = new CsvTabularWriter(out)) {
+            writer.writeRow("Name", "Address", "Joined");
+            writer.writeRow("Asha \"Ash\" Rao", "12 Main St,\nPune", LocalDate.of(2024, 6, 1));
+            writer.writeRow("Ravi", null, 7);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFFName,Address,Joined\r\n"
+                        + "\"Asha \"\"Ash\"\" Rao\",\"12 Main St,\nPune\",2024-06-01\r\n"
+                        + "Ravi,,7\r\n");
+    }
+
+    @Test
+    @DisplayName("Should prefix text that a spreadsheet would run as a formula")
+    void writeRow_FormulaLikeText_IsPrefixedWithApostrophe() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (TabularWriter writer = new CsvTabularWriter(out)) {
+            writer.writeRow("=HYPERLINK(\"http://x\",\"y\")", "+91 98765", "-2+3", "@SUM(A1)");
+            writer.writeRow("\tTab", "\rReturn", "Rao-Patil", "a=b");
+            writer.writeRow(-5, "", "+");
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFF\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'+91 98765,'-2+3,'@SUM(A1)\r\n"
+                        + "'\tTab,\"'\rReturn\",Rao-Patil,a=b\r\n"
+                        + "-5,,'+\r\n");
+    }
+}
@@ -0,0 +1,35 @@
+package com.school.academic.fees;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for IdRange.
+ */
+class IdRangeTest {
+
+    @Test
+    @DisplayName("Should cover every id once with ranges of at most the chunk size")
+    void chunk_SplitsSparseIds() {
+        List<Long> ids = List.of(3L, 4L, 9L, 10L, 11L, 40L, 41L);
+
+        List<IdRange> ranges = IdRange.chunk(ids, 3);
+
+        assertThat(ranges).containsExactly(
+                new IdRange(3, 9, 3),
+                new IdRange(10, 40, 3),
+                new IdRange(41, 41, 1));
+    }
+
+    @Test
+    @DisplayName("Should return no ranges for no ids and reject a chunk size below one")
+    void chunk_EdgeCases() {
+        assertThat(IdRange.chunk(List.of(), 100)).isEmpty();
+        assertThatThrownBy(() -> IdRange.chunk(List.of(1L), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.school.academic.fees;
+
+import com.school.academic.fees.PaymentMatcher.Due;
+import com.school.academic.fees.PaymentMatcher.Match;
+import com.school.academic.fees.PaymentMatcher.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PaymentMatcher.
+ */
+class PaymentMatcherTest {
+
+    private PaymentMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new PaymentMatcher(List.of(
+                due(1, "INV-Q1-1", 11, "ADM/1", LocalDate.of(2026, 4, 30), "1500"),
+                due(2, "INV-Q2-1", 11, "ADM/1", LocalDate.of(2026, 7, 31), "1200"),
+                due(3, "INV-Q1-2", 12, "ADM/2", LocalDate.of(2026, 4, 30), "1500")
+        ), List.of("UTR-OLD"));
+    }
+
+    @Test
+    @DisplayName("Should match by invoice number and keep the outstanding amount current across lines")
+    void match_ByInvoiceNumber() {
+        Match first = matcher.match(line(1, "1000", "UTR1", "Fees for inv-q1-1."));
+        Match second = matcher.match(line(2, "1000", "UTR2", "INV-Q1-1 balance"));
+
+        assertThat(first.outcome()).isEqualTo(Outcome.MATCHED);
+        assertThat(first.due().invoiceId()).isEqualTo(1);
+        assertThat(first.due().outstanding()).isEqualByComparingTo("500");
+        assertThat(second.outcome()).isEqualTo(Outcome.REVIEW);
+        assertThat(second.reason()).isEqualTo(PaymentMatcher.AMOUNT_EXCEEDS_DUE);
+    }
+
+    @Test
+    @DisplayName("Should match by admission number to the invoice with the exact amount, else the earliest due")
+    void match_ByAdmissionNumber() {
+        Match exact = matcher.match(line(1, "1200", "UTR1", "ADM/1 fees"));
+        Match partial = matcher.match(line(2, "700", "UTR2", "ADM/1 fees"));
+
+        assertThat(exact.due().invoiceId()).isEqualTo(2);
+        assertThat(partial.outcome()).isEqualTo(Outcome.MATCHED);
+        assertThat(partial.due().invoiceId()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip debits, drop posted references and send everything unclear to review")
+    void match_Outcomes() {
+        assertThat(matcher.match(line(1, "-25", "UTR1", "Charges")).outcome()).isEqualTo(Outcome.SKIPPED);
+        assertThat(matcher.match(line(2, "1500", "utr-old", "ADM/2")).outcome()).isEqualTo(Outcome.DUPLICATE);
+        assertThat(matcher.match(line(3, "100", "UTR3", "Donation")).reason()).isEqualTo(PaymentMatcher.NO_MATCH);
+        assertThat(matcher.match(line(4, "100", "UTR4", "ADM/1 ADM/2")).reason()).isEqualTo(PaymentMatcher.AMBIGUOUS);
+        assertThat(matcher.match(line(5, "100", "UTR5", "INV-Q1-2 ADM/1")).reason())
+                .isEqualTo(PaymentMatcher.CONFLICTING_REFERENCE);
+        assertThat(matcher.match(StatementLine.malformed(6, "garbage", "Unreadable")).reason())
+                .isEqualTo(PaymentMatcher.MALFORMED_LINE);
+
+        assertThat(matcher.match(line(7, "1500", "UTR7", "ADM/2")).outcome()).isEqualTo(Outcome.MATCHED);
+        assertThat(matcher.match(line(8, "1500", "UTR7", "ADM/2")).outcome()).isEqualTo(Outcome.DUPLICATE);
+        assertThat(matcher.match(line(9, "10", "UTR9", "ADM/2")).reason()).isEqualTo(PaymentMatcher.NO_OPEN_DUES);
+    }
+
+    @Test
+    @DisplayName("Should collect the invoices a line could pay and use refreshed paid amounts")
+    void collectCandidates_AndRefresh() {
+        Set<Long> candidates = new HashSet<>();
+        matcher.collectCandidates(line(1, "100", "UTR1", "ADM/1"), candidates);
+        matcher.collectCandidates(line(2, "100", "UTR2", "INV-Q1-2"), candidates);
+        assertThat(candidates).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        matcher.refresh(3, new BigDecimal("1500"));
+        assertThat(matcher.match(line(3, "100", "UTR3", "INV-Q1-2")).reason())
+                .isEqualTo(PaymentMatcher.AMOUNT_EXCEEDS_DUE);
+    }
+
+    private static Due due(long invoiceId, String number, long enrollmentId, String admissionNumber,
+                           LocalDate dueDate, String amount) {
+        return new Due(invoiceId, number, enrollmentId, admissionNumber, dueDate, new BigDecimal(amount), BigDecimal.ZERO);
+    }
+
+    private static StatementLine line(int sequence, String amount, String reference, String narrative) {
+        return new StatementLine(sequence, LocalDate.of(2026, 4, 10), new BigDecimal(amount), reference, narrative, null);
+    }
+}
@@ -0,0 +1,91 @@
+package com.school.academic.fees;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the CSV and MT940 statement readers.
+ */
+class StatementReaderTest {
+
+    @Test
+    @DisplayName("Should read CSV credits and debits by header name and keep unreadable rows as malformed")
+    void csv_ReadsByHeaderName() throws IOException {
+        String csv = """
+                Txn Date,Narration,Ref No,Debit,Credit,Balance
+                01/04/2026,"FEES ADM-104, Q1",UTR001,,"1,500.00",10000
+                02-Apr-2026,Bank charges,UTR002,25.00,,9975
+
+                03/04/2026,Unknown,UTR003,,abc,9975
+                """;
+
+        List<StatementLine> lines = readAll(csv, StatementFormat.CSV);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(new StatementLine(1, LocalDate.of(2026, 4, 1), new BigDecimal("1500.00"),
+                "UTR001", "FEES ADM-104, Q1", null));
+        assertThat(lines.get(1).amount()).isEqualByComparingTo("-25.00");
+        assertThat(lines.get(1).isCredit()).isFalse();
+        assertThat(lines.get(2).isMalformed()).isTrue();
+        assertThat(lines.get(2).sequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV header without date and amount columns")
+    void csv_RejectsUnknownHeader() {
+        assertThatThrownBy(() -> readAll("When,How much\n2026-04-01,10\n", StatementFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should read MT940 statement lines with multi-line narratives and skip other tags")
+    void mt940_ReadsStatementLines() throws IOException {
+        String mt940 = """
+                :20:STMT0401
+                :25:12345678
+                :28C:00001/001
+                :60F:C260331INR10000,00
+                :61:2604010401C1500,00NTRF2026-27-Q1-17//BNK0001
+                :86:SCHOOL FEES
+                ADM-104 TERM 1
+                :61:260402D25,NCHGNONREF//BNK0002
+                :86:CHARGES
+                :61:260402RC100,NTRFNONREF
+                :62F:C260402INR11475,00
+                -
+                """;
+
+        List<StatementLine> lines = readAll(mt940, StatementFormat.MT940);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(new StatementLine(1, LocalDate.of(2026, 4, 1), new BigDecimal("1500.00"),
+                "BNK0001", "2026-27-Q1-17 SCHOOL FEES ADM-104 TERM 1", null));
+        assertThat(lines.get(1).amount()).isEqualByComparingTo("-25");
+        assertThat(lines.get(1).reference()).isEqualTo("BNK0002");
+        assertThat(lines.get(2).amount()).isEqualByComparingTo("-100");
+        assertThat(lines.get(2).reference()).isNull();
+        assertThat(StatementFormat.detect(":20:STMT0401")).isEqualTo(StatementFormat.MT940);
+        assertThat(StatementFormat.detect("Date,Amount")).isEqualTo(StatementFormat.CSV);
+    }
+
+    private static List<StatementLine> readAll(String text, StatementFormat format) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        try (StatementReader reader = StatementReader.open(new BufferedReader(new StringReader(text)), format)) {
+            for (StatementLine line = reader.next(); line != null; line = reader.next()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
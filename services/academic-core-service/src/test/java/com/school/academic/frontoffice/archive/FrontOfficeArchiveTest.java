@@ -0,0 +1,66 @@
+package com.school.academic.frontoffice.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.school.academic.frontoffice.entity.Visitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for FrontOfficeArchive files.
+ */
+class FrontOfficeArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private final UUID academicYearId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Reads back what was committed, newest first as written")
+    void readsCommittedFile() throws Exception {
+        try (FrontOfficeArchive.ArchiveWriter<Visitor> writer = archive(directory).writer(Visitor.class, academicYearId)) {
+            writer.write(visitor("Second"));
+            writer.write(visitor("First"));
+            writer.commit();
+        }
+
+        try (Stream<Visitor> rows = archive(directory).read(Visitor.class, academicYearId)) {
+            assertThat(rows.map(Visitor::getVisitorName).toList()).isEqualTo(List.of("Second", "First"));
+        }
+    }
+
+    @Test
+    @DisplayName("A missing file fails instead of reading as an empty year")
+    void missingFileFails() {
+        FrontOfficeArchive archive = archive(directory);
+        archive.setArchivedYears(List.of(academicYearId));
+
+        assertThatThrownBy(() -> archive.read(Visitor.class, academicYearId))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(NoSuchFileException.class)
+                .hasMessageContaining("shared by every node");
+    }
+
+    private static FrontOfficeArchive archive(Path directory) {
+        return new FrontOfficeArchive(directory.toString(), new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private Visitor visitor(String name) {
+        Visitor visitor = new Visitor();
+        visitor.setAcademicYearId(academicYearId);
+        visitor.setVisitorName(name);
+        return visitor;
+    }
+}
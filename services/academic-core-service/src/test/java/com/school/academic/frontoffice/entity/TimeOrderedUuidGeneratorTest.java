@@ -0,0 +1,69 @@
+package com.school.academic.frontoffice.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TimeOrderedUuidGenerator layout and ordering.
+ */
+class TimeOrderedUuidGeneratorTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get, new Random(7));
+
+    @Test
+    @DisplayName("Ids carry version 7, the RFC variant and the millisecond timestamp")
+    void layout() {
+        UUID id = generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Ids increase in stored byte order within a millisecond, across milliseconds and when the clock steps back")
+    void strictlyIncreasing() {
+        List<byte[]> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 3000 == 0) {
+                clock.addAndGet(1);
+            }
+            if (i == 5000) {
+                clock.addAndGet(-10);
+            }
+            ids.add(bytes(generator.next()));
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(ids.get(i - 1), ids.get(i))).as("id %d", i).isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("Counter overflow moves the timestamp forward instead of repeating")
+    void counterOverflow() {
+        UUID last = null;
+        for (int i = 0; i < 4097; i++) {
+            last = generator.next();
+        }
+
+        assertThat(last.getMostSignificantBits() >>> 16).isEqualTo(NOW + 1);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
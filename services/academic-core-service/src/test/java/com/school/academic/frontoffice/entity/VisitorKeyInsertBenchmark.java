@@ -0,0 +1,166 @@
+package com.school.academic.frontoffice.entity;
+
+import com.school.academic.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput and index size of a visitor log keyed by random v4 UUIDs versus
+ * {@link TimeOrderedUuidGenerator} v7 UUIDs.
+ *
+ * Not part of the regular build (the class name does not match the Surefire includes).
+ * Each generator loads the same rows into its own copy of {@code front_office_visitors}
+ * ({@code CREATE TABLE ... LIKE}, so the real indexes and partitioning), in JDBC batches
+ * of 1,000 committed one at a time, like the register's single-row writes but faster to load.
+ * The difference shows once the table outgrows the buffer pool, so run it against a server
+ * whose {@code innodb_buffer_pool_size} is well below the table size:
+ *
+ * <pre>
+ * mvn test -Dtest=VisitorKeyInsertBenchmark -Dbench.rows=5000000 \
+ *     -Dit.db.url=jdbc:mysql://127.0.0.1:3306/academic_core
+ * </pre>
+ *
+ * Without {@code it.db.url} it runs on the Testcontainers MySQL used by the other
+ * integration tests.
+ */
+class VisitorKeyInsertBenchmark extends MySqlIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VisitorKeyInsertBenchmark.class);
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 2_000_000);
+    private static final int WARM_UP_ROWS = 50_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SLICES = 10;
+    private static final UUID ACADEMIC_YEAR_ID = new UUID(0L, 1L);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should load the visitor log faster and smaller with time-ordered keys")
+    void randomVersusTimeOrderedKeys() throws SQLException {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        // Lets the JIT and the connection pool settle before either measured run
+        load("bench_visitors_warm_up", UUID::randomUUID, WARM_UP_ROWS);
+
+        Result random = load("bench_visitors_v4", UUID::randomUUID, ROWS);
+        Result timeOrdered = load("bench_visitors_v7", generator::next, ROWS);
+
+        log.info("Visitor log of {} rows, batches of {}", ROWS, BATCH_SIZE);
+        log.info("{}", random);
+        log.info("{}", timeOrdered);
+
+        assertThat(random.rows()).isEqualTo(ROWS);
+        assertThat(timeOrdered.rows()).isEqualTo(ROWS);
+        assertThat(timeOrdered.dataLength()).isLessThanOrEqualTo(random.dataLength());
+    }
+
+    private Result load(String table, Supplier<UUID> ids, int rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " LIKE front_office_visitors");
+            try {
+                return insert(connection, table, ids, rows);
+            } finally {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+            }
+        }
+    }
+
+    private Result insert(Connection connection, String table, Supplier<UUID> ids, int rows) throws SQLException {
+        String sql = "INSERT INTO " + table + " (id, academic_year_id, visitor_name, phone_number, purpose,"
+                + " number_of_persons, check_in_time, check_out_time, status, created_at, created_by)"
+                + " VALUES (?, ?, ?, ?, ?, 1, ?, ?, 'ACTIVE', ?, 'bench')";
+        LocalDateTime start = LocalDateTime.of(2025, 4, 1, 8, 0);
+        long[] sliceNanos = new long[SLICES];
+        int sliceSize = Math.max(rows / SLICES, 1);
+
+        connection.setAutoCommit(false);
+        long began = System.nanoTime();
+        long sliceBegan = began;
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                LocalDateTime checkIn = start.plusSeconds(i * 20L);
+                insert.setBytes(1, bytes(ids.get()));
+                insert.setBytes(2, bytes(ACADEMIC_YEAR_ID));
+                insert.setString(3, "Visitor " + i);
+                insert.setString(4, "98450" + String.format("%05d", i % 100_000));
+                insert.setString(5, "Meeting with class teacher");
+                insert.setTimestamp(6, Timestamp.valueOf(checkIn));
+                insert.setTimestamp(7, Timestamp.valueOf(checkIn.plusMinutes(30)));
+                insert.setTimestamp(8, Timestamp.valueOf(checkIn));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1) % sliceSize == 0 && (i + 1) / sliceSize <= SLICES) {
+                    long now = System.nanoTime();
+                    sliceNanos[(i + 1) / sliceSize - 1] = now - sliceBegan;
+                    sliceBegan = now;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        long elapsed = System.nanoTime() - began;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            long loaded = single(statement, "SELECT COUNT(*) FROM " + table)[0];
+            long[] sizes = single(statement, "SELECT data_length, index_length FROM information_schema.tables"
+                    + " WHERE table_schema = DATABASE() AND table_name = '" + table + "'");
+            return new Result(table, loaded, elapsed, sliceNanos[0], sliceNanos[SLICES - 1], sliceSize,
+                    sizes[0], sizes[1]);
+        }
+    }
+
+    private static long[] single(Statement statement, String sql) throws SQLException {
+        try (ResultSet row = statement.executeQuery(sql)) {
+            row.next();
+            long[] values = new long[row.getMetaData().getColumnCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.getLong(i + 1);
+            }
+            return values;
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private record Result(String table, long rows, long elapsedNanos, long firstSliceNanos, long lastSliceNanos,
+                          int sliceSize, long dataLength, long indexLength) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f s, %,.0f rows/s overall, first tenth %,.0f rows/s, last tenth %,.0f rows/s,"
+                            + " primary key %,d MB, secondary indexes %,d MB",
+                    table, elapsedNanos / 1e9, rows / (elapsedNanos / 1e9),
+                    sliceSize / (firstSliceNanos / 1e9), sliceSize / (lastSliceNanos / 1e9),
+                    dataLength >> 20, indexLength >> 20);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.school.academic.frontoffice.repository;
+
+import com.school.academic.frontoffice.entity.Complaint;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the in-memory side of FrontOfficeSpecifications, used for archived years.
+ */
+class FrontOfficeSpecificationsTest {
+
+    private final UUID academicYearId = new UUID(0L, 4L);
+
+    @Test
+    @DisplayName("Substring filters ignore case and match any of the attributes")
+    void containsAnyIgnoresCase() {
+        Visitor visitor = visitor("Ravi Sharma", "98450 12345", LocalDateTime.of(2021, 1, 10, 9, 0));
+
+        assertThat(FrontOfficeSpecifications.<Visitor>containsAny("SHARMA", "visitorName", "phoneNumber").matches(visitor)).isTrue();
+        assertThat(FrontOfficeSpecifications.<Visitor>containsAny("12345", "visitorName", "phoneNumber").matches(visitor)).isTrue();
+        assertThat(FrontOfficeSpecifications.<Visitor>containsAny("kumar", "visitorName", "phoneNumber").matches(visitor)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Day ranges include the whole last day and exclude the next")
+    void dayRangesAreInclusive() {
+        LocalDate day = LocalDate.of(2021, 1, 10);
+        FrontOfficeFilter<Visitor> onDay = FrontOfficeSpecifications.onDays("checkInTime", day, day);
+
+        assertThat(onDay.matches(visitor("A", "1", day.atTime(23, 59)))).isTrue();
+        assertThat(onDay.matches(visitor("A", "1", day.plusDays(1).atStartOfDay()))).isFalse();
+        assertThat(onDay.matches(visitor("A", "1", day.minusDays(1).atTime(23, 59)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("allOf skips absent filters, requires every present one and carries the academic year")
+    void allOfCombines() {
+        Complaint complaint = new Complaint();
+        complaint.setAcademicYearId(academicYearId);
+        complaint.setComplaintStatus(ComplaintStatus.OPEN);
+        complaint.setAssignedToStaffId(null);
+
+        FrontOfficeFilter<Complaint> open = FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("complaintStatus", ComplaintStatus.OPEN),
+                FrontOfficeSpecifications.equalTo("assignedToStaffId", null),
+                FrontOfficeSpecifications.isPresent("assignedToStaffId", false));
+        FrontOfficeFilter<Complaint> closed = FrontOfficeSpecifications.allOf(
+                FrontOfficeSpecifications.inAcademicYear(academicYearId),
+                FrontOfficeSpecifications.equalTo("complaintStatus", ComplaintStatus.CLOSED));
+
+        assertThat(open.academicYearId()).isEqualTo(academicYearId);
+        assertThat(open.matches(complaint)).isTrue();
+        assertThat(closed.matches(complaint)).isFalse();
+        assertThat(FrontOfficeSpecifications.<Complaint>allOf().academicYearId()).isNull();
+    }
+
+    private Visitor visitor(String name, String phoneNumber, LocalDateTime checkInTime) {
+        Visitor visitor = new Visitor();
+        visitor.setAcademicYearId(academicYearId);
+        visitor.setVisitorName(name);
+        visitor.setPhoneNumber(phoneNumber);
+        visitor.setCheckInTime(checkInTime);
+        return visitor;
+    }
+}
@@ -0,0 +1,119 @@
+package com.school.academic.frontoffice.search;
+
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import com.school.academic.frontoffice.enums.FrontOfficeStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FrontOfficeSearchIndex ranking, highlighting, filters and rebuild.
+ */
+class FrontOfficeSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    @TempDir
+    Path indexDir;
+
+    private final UUID academicYearId = UUID.randomUUID();
+    private FrontOfficeSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new FrontOfficeSearchIndex(indexDir.toString(), 100, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.destroy();
+    }
+
+    @Test
+    @DisplayName("Name matches rank above body matches and are highlighted")
+    void ranksAndHighlights() throws Exception {
+        FrontOfficeSearchDocument visitor = document(FrontOfficeRecordType.VISITOR, "Ravi Sharma", "Meeting <principal>", "+91 98450 12345");
+        FrontOfficeSearchDocument complaint = document(FrontOfficeRecordType.COMPLAINT, "Anita Rao", "Bus driver Sharma was late", null);
+        index.upsert(complaint);
+        await(index.upsert(visitor));
+
+        List<FrontOfficeSearchIndex.Hit> hits = index.search(academicYearId, "sharma", null, 10).hits();
+
+        assertThat(hits).extracting(FrontOfficeSearchIndex.Hit::id).containsExactly(visitor.id(), complaint.id());
+        assertThat(hits.get(0).title()).isEqualTo("Ravi <mark>Sharma</mark>");
+        assertThat(hits.get(0).snippet()).isEqualTo("Meeting &lt;principal&gt;");
+        assertThat(hits.get(1).snippet()).contains("<mark>Sharma</mark>");
+    }
+
+    @Test
+    @DisplayName("Partial last words, phone digits and type filters narrow the results")
+    void prefixPhoneAndTypeFilter() throws Exception {
+        FrontOfficeSearchDocument visitor = document(FrontOfficeRecordType.VISITOR, "Ravi Sharma", "Meeting", "+91 98450 12345");
+        FrontOfficeSearchDocument call = document(FrontOfficeRecordType.PHONE_CALL, "Ravindra Kumar", "Fee query", "080-2222 3333");
+        index.upsert(visitor);
+        await(index.upsert(call));
+
+        assertThat(index.search(academicYearId, "rav", null, 10).total()).isEqualTo(2);
+        assertThat(index.search(academicYearId, "rav", Set.of(FrontOfficeRecordType.PHONE_CALL), 10).hits())
+                .extracting(FrontOfficeSearchIndex.Hit::id).containsExactly(call.id());
+        assertThat(index.search(academicYearId, "9845012345", null, 10).hits())
+                .extracting(FrontOfficeSearchIndex.Hit::id).containsExactly(visitor.id());
+        assertThat(index.search(UUID.randomUUID(), "rav", null, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rebuild replaces the contents and updates and deletes apply on top")
+    void rebuildUpdateAndDelete() throws Exception {
+        FrontOfficeSearchDocument stale = document(FrontOfficeRecordType.VISITOR, "Old Visitor", "Gone", null);
+        await(index.upsert(stale));
+
+        FrontOfficeSearchDocument kept = document(FrontOfficeRecordType.ADMISSION_ENQUIRY, "Meera Iyer", "Grade 5 admission", null);
+        CompletableFuture<Void> rebuilt = index.rebuild(sink -> sink.accept(kept));
+        await(index.upsert(new FrontOfficeSearchDocument(kept.type(), kept.id(), academicYearId, FrontOfficeStatus.CLOSED,
+                "Meera Iyer", "Grade 6 admission", null, NOW)));
+        assertThat(rebuilt).isCompleted();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search(academicYearId, "visitor", null, 10).total()).isZero();
+        assertThat(index.search(academicYearId, "grade 6", null, 10).hits()).singleElement()
+                .satisfies(hit -> assertThat(hit.status()).isEqualTo(FrontOfficeStatus.CLOSED));
+
+        await(index.delete(kept.type(), kept.id()));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("A write that fails completes its future exceptionally")
+    void failedWriteCompletesExceptionally() {
+        CompletableFuture<Void> rebuilt = index.rebuild(sink -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThat(rebuilt).failsWithin(Duration.ofSeconds(10))
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("database unavailable");
+    }
+
+    private static void await(CompletableFuture<Void> write) throws Exception {
+        write.get(10, TimeUnit.SECONDS);
+    }
+
+    private FrontOfficeSearchDocument document(FrontOfficeRecordType type, String title, String body, String phoneNumber) {
+        return new FrontOfficeSearchDocument(type, UUID.randomUUID(), academicYearId, FrontOfficeStatus.ACTIVE,
+                title, body, phoneNumber, NOW);
+    }
+}
@@ -0,0 +1,136 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.domain.AcademicYear;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.frontoffice.dto.archive.FrontOfficeArchiveResponse;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import com.school.academic.repository.AcademicYearRepository;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Academic-year partitions and archiving against the real schema: Flyway splits a
+ * partition off for each year, and one run at a time archives a closed year and
+ * drops its partitions.
+ */
+@TestPropertySource(properties = "academic.front-office.archive.dir=${java.io.tmpdir}/front-office-archive-test")
+class FrontOfficeArchiveServiceTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private FrontOfficeArchiveService frontOfficeArchiveService;
+    @Autowired
+    private AcademicYearRepository academicYearRepository;
+    @Autowired
+    private VisitorRepository visitorRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("Should split off a partition for an academic year created since the last migrate")
+    void migrate_NewAcademicYear_GetsPartition() {
+        AcademicYear year = closedYear();
+        assertThat(partitions()).doesNotContain("p_y" + year.getId());
+
+        flyway.migrate();
+
+        assertThat(partitions()).contains("p_y" + year.getId(), "p_future");
+    }
+
+    @Test
+    @DisplayName("Should refuse a second run while a year is being archived, then archive it and drop its partition")
+    void archiveYear_ClosedYear_ArchivesOneRunAtATime() throws Exception {
+        AcademicYear year = closedYear();
+        flyway.migrate();
+        UUID academicYearId = new UUID(0L, year.getId());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                visitorRepository.save(visitor(academicYearId, "Visitor " + i));
+            }
+        });
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherRun = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            academicYearRepository.findByIdForUpdateNoWait(year.getId());
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        try {
+            assertThatThrownBy(() -> frontOfficeArchiveService.archiveYear(academicYearId))
+                    .isInstanceOf(BusinessRuleException.class)
+                    .hasMessageContaining("being archived");
+        } finally {
+            release.countDown();
+            otherRun.get(10, TimeUnit.SECONDS);
+        }
+
+        FrontOfficeArchiveResponse archived = frontOfficeArchiveService.archiveYear(academicYearId);
+
+        assertThat(archived.getRowCount()).isEqualTo(3);
+        assertThat(partitions()).doesNotContain("p_y" + year.getId());
+        Long remaining = transaction.execute(status -> entityManager
+                .createQuery("SELECT COUNT(v) FROM Visitor v WHERE v.academicYearId = :academicYearId", Long.class)
+                .setParameter("academicYearId", academicYearId)
+                .getSingleResult());
+        assertThat(remaining).isZero();
+        // A repeated call finds nothing left to remove
+        assertThat(frontOfficeArchiveService.archiveYear(academicYearId).getRowCount()).isEqualTo(3);
+    }
+
+    private AcademicYear closedYear() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        return new TransactionTemplate(transactionManager).execute(status -> academicYearRepository.save(
+                new AcademicYear("A-" + run, "Archived " + run, LocalDate.of(2020, 4, 1), LocalDate.of(2021, 3, 31), false)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> partitions() {
+        return new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createNativeQuery("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + "WHERE TABLE_SCHEMA = 'academic_core' AND TABLE_NAME = 'front_office_visitors'")
+                .getResultList());
+    }
+
+    private static Visitor visitor(UUID academicYearId, String name) {
+        Visitor visitor = new Visitor();
+        visitor.setAcademicYearId(academicYearId);
+        visitor.setVisitorName(name);
+        visitor.setPhoneNumber("9845012345");
+        visitor.setPurpose("Meeting");
+        visitor.setCheckInTime(LocalDateTime.of(2020, 6, 1, 10, 0));
+        return visitor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
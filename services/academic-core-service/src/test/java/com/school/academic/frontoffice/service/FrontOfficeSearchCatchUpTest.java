@@ -0,0 +1,87 @@
+package com.school.academic.frontoffice.service;
+
+import com.school.academic.frontoffice.service.impl.FrontOfficeSearchServiceImpl;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search catch-up against the real schema: rows written straight to the tables, as another
+ * node's writes look to this one, become searchable on the next catch-up.
+ */
+@TestPropertySource(properties = {
+        "academic.front-office.search.index-dir=${java.io.tmpdir}/front-office-search-catch-up-test",
+        "academic.front-office.search.catch-up-interval=PT24H"
+})
+class FrontOfficeSearchCatchUpTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private FrontOfficeSearchServiceImpl frontOfficeSearchService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should index rows created and updated elsewhere since the last catch-up and skip older ones")
+    void catchUp_OtherNodeWrites_BecomeSearchable() throws Exception {
+        UUID academicYearId = UUID.randomUUID();
+        UUID recentId = UUID.randomUUID();
+        UUID oldId = UUID.randomUUID();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            insertVisitor(recentId, academicYearId, "Kavya Menon", LocalDateTime.now());
+            insertVisitor(oldId, academicYearId, "Arjun Pillai", LocalDateTime.now().minusDays(3));
+        });
+        assertThat(hits(academicYearId, "kavya")).isZero();
+
+        frontOfficeSearchService.catchUp().get(30, TimeUnit.SECONDS);
+
+        assertThat(hits(academicYearId, "kavya")).isEqualTo(1);
+        assertThat(hits(academicYearId, "arjun")).isZero();
+
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery(
+                        "UPDATE academic_core.front_office_visitors SET visitor_name = 'Arjun Nair', updated_at = :now "
+                                + "WHERE id = :id AND academic_year_id = :yearId")
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("id", bytes(oldId))
+                .setParameter("yearId", bytes(academicYearId))
+                .executeUpdate());
+
+        frontOfficeSearchService.catchUp().get(30, TimeUnit.SECONDS);
+
+        assertThat(hits(academicYearId, "nair")).isEqualTo(1);
+        assertThat(hits(academicYearId, "kavya")).isEqualTo(1);
+    }
+
+    private long hits(UUID academicYearId, String query) {
+        return frontOfficeSearchService.search(academicYearId, query, null, 10).getTotal();
+    }
+
+    private void insertVisitor(UUID id, UUID academicYearId, String name, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("INSERT INTO academic_core.front_office_visitors (id, academic_year_id, "
+                        + "visitor_name, phone_number, purpose, check_in_time, status, created_at) "
+                        + "VALUES (:id, :yearId, :name, '9845012345', 'Meeting', :createdAt, 'ACTIVE', :createdAt)")
+                .setParameter("id", bytes(id))
+                .setParameter("yearId", bytes(academicYearId))
+                .setParameter("name", name)
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
@@ -0,0 +1,73 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.enums.ComplaintAgeBucket;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ComplaintAgingBuckets bucket moves, breach list and staff backlog.
+ */
+class ComplaintAgingBucketsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    private final UUID academicYearId = UUID.randomUUID();
+    private final ComplaintAgingBuckets buckets = new ComplaintAgingBuckets(Duration.ofDays(5), Duration.ofDays(5));
+
+    @Test
+    @DisplayName("Complaints move through buckets as time passes and appear in breaches")
+    void movesThroughBuckets() {
+        ComplaintAging complaint = complaint(ComplaintStatus.OPEN, NOW.minusHours(2), 7L);
+        buckets.upsert(complaint, NOW);
+        assertThat(buckets.count(academicYearId, ComplaintStatus.OPEN, ComplaintAgeBucket.UNDER_24H)).isEqualTo(1);
+
+        buckets.advance(NOW.plusDays(2));
+        assertThat(buckets.count(academicYearId, ComplaintStatus.OPEN, ComplaintAgeBucket.UNDER_24H)).isZero();
+        assertThat(buckets.count(academicYearId, ComplaintStatus.OPEN, ComplaintAgeBucket.ONE_TO_THREE_DAYS)).isEqualTo(1);
+
+        buckets.advance(NOW.plusDays(6));
+        assertThat(buckets.count(academicYearId, ComplaintStatus.OPEN, ComplaintAgeBucket.BREACHED)).isEqualTo(1);
+        assertThat(buckets.total(ComplaintStatus.OPEN, ComplaintAgeBucket.BREACHED)).isEqualTo(1);
+        assertThat(buckets.breaches(academicYearId)).extracting(ComplaintAging::id).containsExactly(complaint.id());
+        assertThat(buckets.backlog(academicYearId)).singleElement()
+                .satisfies(staff -> {
+                    assertThat(staff.staffId()).isEqualTo(7L);
+                    assertThat(staff.open()).isEqualTo(1);
+                    assertThat(staff.breached()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("A status change restarts aging and resolving drops the complaint")
+    void transitionsRebucketAndRemove() {
+        ComplaintAging open = complaint(ComplaintStatus.OPEN, NOW.minusDays(6), null);
+        buckets.upsert(open, NOW);
+        assertThat(buckets.breaches(academicYearId)).hasSize(1);
+
+        ComplaintAging inProgress = new ComplaintAging(open.id(), academicYearId, ComplaintStatus.IN_PROGRESS,
+                NOW, 3L, "Asha", open.complainantName(), open.category());
+        buckets.upsert(inProgress, NOW);
+        assertThat(buckets.breaches(academicYearId)).isEmpty();
+        assertThat(buckets.count(academicYearId, ComplaintStatus.IN_PROGRESS, ComplaintAgeBucket.UNDER_24H)).isEqualTo(1);
+        assertThat(buckets.backlog(academicYearId)).singleElement()
+                .satisfies(staff -> assertThat(staff.staffName()).isEqualTo("Asha"));
+
+        buckets.upsert(new ComplaintAging(open.id(), academicYearId, ComplaintStatus.RESOLVED,
+                NOW, 3L, "Asha", open.complainantName(), open.category()), NOW);
+        assertThat(buckets.size()).isZero();
+        assertThat(buckets.backlog(academicYearId)).isEmpty();
+        assertThat(buckets.total(ComplaintStatus.IN_PROGRESS, ComplaintAgeBucket.UNDER_24H)).isZero();
+    }
+
+    private ComplaintAging complaint(ComplaintStatus status, LocalDateTime enteredAt, Long staffId) {
+        return new ComplaintAging(UUID.randomUUID(), academicYearId, status, enteredAt, staffId, null,
+                "Parent", "Transport");
+    }
+}
@@ -0,0 +1,143 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.followup.FollowUpItemResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpQueueResponse;
+import com.school.academic.frontoffice.dto.followup.FollowUpStaffSummaryResponse;
+import com.school.academic.frontoffice.entity.AdmissionEnquiry;
+import com.school.academic.frontoffice.entity.FrontOfficeAuditListener;
+import com.school.academic.frontoffice.entity.FrontOfficeBaseEntity;
+import com.school.academic.frontoffice.entity.PhoneCall;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.PhoneCallRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FollowUpReminderServiceImpl per-staff queues, with owners stamped by
+ * FrontOfficeAuditListener from the X-User-Id header.
+ */
+@ExtendWith(MockitoExtension.class)
+class FollowUpReminderServiceImplTest {
+
+    private static final UUID YEAR = UUID.randomUUID();
+
+    @Mock
+    private AdmissionEnquiryRepository admissionEnquiryRepository;
+    @Mock
+    private PhoneCallRepository phoneCallRepository;
+
+    private final FrontOfficeAuditListener auditListener = new FrontOfficeAuditListener();
+    private FollowUpReminderServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FollowUpReminderServiceImpl(admissionEnquiryRepository, phoneCallRepository, 90, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should stamp the X-User-Id on create and update, and leave it alone outside a request")
+    void auditListener_StampsUserFromHeader() {
+        AdmissionEnquiry enquiry = enquiry("Asha", LocalDate.now());
+        auditListener.beforeInsert(enquiry);
+        assertThat(enquiry.getCreatedBy()).isNull();
+
+        actingAs("user-7");
+        auditListener.beforeInsert(enquiry);
+        actingAs("user-9");
+        auditListener.beforeInsert(enquiry);
+        auditListener.beforeUpdate(enquiry);
+
+        assertThat(enquiry.getCreatedBy()).isEqualTo("user-7");
+        assertThat(enquiry.getUpdatedBy()).isEqualTo("user-9");
+    }
+
+    @Test
+    @DisplayName("Should give each staff member a queue of the follow-ups they logged")
+    void getQueue_ByStaff_ReturnsOnlyTheirFollowUps() {
+        LocalDate today = LocalDate.now();
+        AdmissionEnquiry ashaEnquiry = created("user-1", enquiry("Asha", today));
+        AdmissionEnquiry raviEnquiry = created("user-2", enquiry("Ravi", today.minusDays(3)));
+        PhoneCall meeraCall = created("user-1", phoneCall("Meera", today.minusDays(1)));
+        PhoneCall anonymousCall = created(null, phoneCall("Walk-in", today));
+        when(admissionEnquiryRepository.findByNextFollowUpDateBetweenAndEnquiryStatusIn(any(), any(), any()))
+                .thenReturn(List.of(ashaEnquiry, raviEnquiry));
+        when(phoneCallRepository.findByNextFollowUpDateBetween(any(), any()))
+                .thenReturn(List.of(meeraCall, anonymousCall));
+
+        service.reload();
+
+        FollowUpQueueResponse first = service.getQueue(YEAR, "user-1");
+        assertThat(first.getDueToday()).extracting(FollowUpItemResponse::getName).containsExactly("Asha");
+        assertThat(first.getOverdue()).extracting(FollowUpItemResponse::getName).containsExactly("Meera");
+
+        FollowUpQueueResponse second = service.getQueue(YEAR, "user-2");
+        assertThat(second.getDueToday()).isEmpty();
+        assertThat(second.getOverdue()).extracting(FollowUpItemResponse::getName).containsExactly("Ravi");
+
+        assertThat(service.getQueue(YEAR, null).getDueToday()).hasSize(2);
+
+        List<FollowUpStaffSummaryResponse> summary = service.getStaffSummary(YEAR);
+        assertThat(summary).extracting(FollowUpStaffSummaryResponse::getStaff)
+                .containsExactly(null, "user-1", "user-2");
+        assertThat(summary.get(1).getDueToday()).isEqualTo(1);
+        assertThat(summary.get(1).getOverdue()).isEqualTo(1);
+        assertThat(summary.get(2).getOverdue()).isEqualTo(1);
+    }
+
+    private <T extends FrontOfficeBaseEntity> T created(String user, T entity) {
+        if (user != null) {
+            actingAs(user);
+        } else {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        auditListener.beforeInsert(entity);
+        return entity;
+    }
+
+    private static void actingAs(String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(FrontOfficeAuditListener.USER_HEADER, user);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static AdmissionEnquiry enquiry(String name, LocalDate nextFollowUpDate) {
+        AdmissionEnquiry enquiry = new AdmissionEnquiry();
+        enquiry.setId(UUID.randomUUID());
+        enquiry.setAcademicYearId(YEAR);
+        enquiry.setEnquirerName(name);
+        enquiry.setEnquiryStatus(EnquiryStatus.FOLLOW_UP);
+        enquiry.setNextFollowUpDate(nextFollowUpDate);
+        return enquiry;
+    }
+
+    private static PhoneCall phoneCall(String name, LocalDate nextFollowUpDate) {
+        PhoneCall phoneCall = new PhoneCall();
+        phoneCall.setId(UUID.randomUUID());
+        phoneCall.setAcademicYearId(YEAR);
+        phoneCall.setCallerName(name);
+        phoneCall.setNextFollowUpDate(nextFollowUpDate);
+        return phoneCall;
+    }
+}
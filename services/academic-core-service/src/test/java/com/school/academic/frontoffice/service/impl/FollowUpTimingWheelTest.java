@@ -0,0 +1,71 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.enums.FollowUpType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FollowUpTimingWheel slotting, cascading and re-slotting.
+ */
+class FollowUpTimingWheelTest {
+
+    // 4-day blocks, 3 block slots: current block plus two later blocks
+    private static final LocalDate START = LocalDate.ofEpochDay(400);
+
+    @Test
+    @DisplayName("Reminders cascade from block slots into day slots and then go overdue")
+    void cascadesAndExpires() {
+        FollowUpTimingWheel wheel = new FollowUpTimingWheel(START, 4, 3, 2);
+        FollowUpReminder later = reminder(START.plusDays(6));
+
+        assertThat(wheel.add(later)).isTrue();
+        assertThat(wheel.dueToday()).isEmpty();
+
+        wheel.advanceTo(START.plusDays(6));
+        assertThat(wheel.dueToday()).containsExactly(later);
+
+        wheel.advanceTo(START.plusDays(7));
+        assertThat(wheel.dueToday()).isEmpty();
+        assertThat(wheel.overdue()).containsExactly(later);
+
+        wheel.advanceTo(START.plusDays(9));
+        assertThat(wheel.overdue()).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Re-slotting moves a reminder and out-of-window dates are dropped")
+    void reslotsAndRejectsOutsideWindow() {
+        FollowUpTimingWheel wheel = new FollowUpTimingWheel(START, 4, 3, 2);
+        FollowUpReminder original = reminder(START);
+
+        wheel.add(original);
+        assertThat(wheel.dueToday()).containsExactly(original);
+
+        FollowUpReminder moved = withDueDate(original, START.plusDays(5));
+        assertThat(wheel.add(moved)).isTrue();
+        assertThat(wheel.dueToday()).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.add(withDueDate(original, wheel.horizonEnd().plusDays(1)))).isFalse();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.add(reminder(START.minusDays(3)))).isFalse();
+        assertThat(wheel.add(reminder(START.minusDays(1)))).isTrue();
+        assertThat(wheel.overdue()).hasSize(1);
+    }
+
+    private FollowUpReminder reminder(LocalDate dueDate) {
+        return new FollowUpReminder(FollowUpType.PHONE_CALL, UUID.randomUUID(), UUID.randomUUID(),
+                "reception", "Caller", "9876543210", dueDate);
+    }
+
+    private FollowUpReminder withDueDate(FollowUpReminder reminder, LocalDate dueDate) {
+        return new FollowUpReminder(reminder.type(), reminder.id(), reminder.academicYearId(),
+                reminder.owner(), reminder.name(), reminder.phoneNumber(), dueDate);
+    }
+}
@@ -0,0 +1,101 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.dashboard.FrontOfficeDashboardResponse;
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.EnquiryStatus;
+import com.school.academic.frontoffice.repository.AdmissionEnquiryRepository;
+import com.school.academic.frontoffice.repository.ComplaintRepository;
+import com.school.academic.frontoffice.repository.HalfDayNoticeRepository;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-memory dashboard counters: a key is loaded once from
+ * the database and then moved by the record methods without further queries.
+ */
+@ExtendWith(MockitoExtension.class)
+class FrontOfficeDashboardServiceImplTest {
+
+    @Mock
+    private VisitorRepository visitorRepository;
+    @Mock
+    private HalfDayNoticeRepository halfDayNoticeRepository;
+    @Mock
+    private ComplaintRepository complaintRepository;
+    @Mock
+    private AdmissionEnquiryRepository admissionEnquiryRepository;
+
+    private FrontOfficeDashboardServiceImpl dashboardService;
+
+    private final UUID academicYearId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new FrontOfficeDashboardServiceImpl(
+                visitorRepository, halfDayNoticeRepository, complaintRepository, admissionEnquiryRepository);
+
+        when(visitorRepository.countCheckedInBetween(eq(academicYearId), any(), any())).thenReturn(5L);
+        when(visitorRepository.countOnCampusBetween(eq(academicYearId), any(), any())).thenReturn(2L);
+        when(halfDayNoticeRepository.countOutBetween(eq(academicYearId), any(), any())).thenReturn(1L);
+        when(admissionEnquiryRepository.countFollowUpsDueBy(eq(academicYearId), any(), any())).thenReturn(3L);
+        when(complaintRepository.countByStatus(academicYearId))
+                .thenReturn(List.<Object[]>of(new Object[]{ComplaintStatus.OPEN, 4L}));
+        when(admissionEnquiryRepository.countByStatus(academicYearId))
+                .thenReturn(List.<Object[]>of(new Object[]{EnquiryStatus.NEW, 3L}));
+    }
+
+    @Test
+    @DisplayName("Loads counters once and applies deltas in memory")
+    void appliesDeltasToLoadedCounters() {
+        dashboardService.getDashboard(academicYearId);
+
+        LocalDateTime now = LocalDateTime.now();
+        dashboardService.recordVisitorCheckIn(academicYearId, now);
+        dashboardService.recordVisitorCheckOut(academicYearId, now);
+        dashboardService.recordVisitorCheckOut(academicYearId, now);
+        dashboardService.recordHalfDayExit(academicYearId, now);
+        dashboardService.recordComplaintStatus(academicYearId, ComplaintStatus.OPEN, ComplaintStatus.IN_PROGRESS);
+        dashboardService.recordEnquiry(academicYearId, EnquiryStatus.NEW, LocalDate.now(),
+                EnquiryStatus.CONVERTED, LocalDate.now());
+
+        FrontOfficeDashboardResponse response = dashboardService.getDashboard(academicYearId);
+
+        assertThat(response.getVisitorsCheckedInToday()).isEqualTo(6);
+        assertThat(response.getVisitorsOnCampus()).isEqualTo(1);
+        assertThat(response.getHalfDayExitsToday()).isEqualTo(2);
+        assertThat(response.getPendingEnquiryFollowUps()).isEqualTo(2);
+        assertThat(response.getComplaintsByStatus())
+                .containsEntry(ComplaintStatus.OPEN, 3L)
+                .containsEntry(ComplaintStatus.IN_PROGRESS, 1L);
+        assertThat(response.getEnquiriesByStatus())
+                .containsEntry(EnquiryStatus.NEW, 2L)
+                .containsEntry(EnquiryStatus.CONVERTED, 1L);
+        verify(complaintRepository, times(1)).countByStatus(academicYearId);
+    }
+
+    @Test
+    @DisplayName("Moving a follow-up into the future clears it from pending")
+    void followUpRescheduleLeavesPending() {
+        dashboardService.getDashboard(academicYearId);
+
+        dashboardService.recordEnquiry(academicYearId, EnquiryStatus.FOLLOW_UP, LocalDate.now(),
+                EnquiryStatus.FOLLOW_UP, LocalDate.now().plusDays(3));
+
+        assertThat(dashboardService.getDashboard(academicYearId).getPendingEnquiryFollowUps()).isEqualTo(2);
+    }
+}
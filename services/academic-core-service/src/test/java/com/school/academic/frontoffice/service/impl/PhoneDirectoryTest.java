@@ -0,0 +1,101 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.enums.ComplaintStatus;
+import com.school.academic.frontoffice.enums.FrontOfficeRecordType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PhoneDirectory links, recent-record limits, complaint matching and duplicate enquiries.
+ */
+class PhoneDirectoryTest {
+
+    private static final String NUMBER = "+919845012345";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 10, 0);
+    private static final Set<String> OPEN = Set.of("NEW", "FOLLOW_UP");
+
+    private final UUID academicYearId = UUID.randomUUID();
+    private final PhoneDirectory directory = new PhoneDirectory(2);
+
+    @Test
+    @DisplayName("A number leads to its parent, their child's class and open complaints under the parent's name")
+    void linksParentChildAndComplaints() {
+        directory.putParent(new PhoneDirectory.ParentInfo(1L, "Lakshmi Rao", "Mother", NUMBER));
+        directory.putStudent(new PhoneDirectory.StudentInfo(10L, "Arjun Rao", "ADM-10", null));
+        directory.linkGuardian(1L, 10L);
+        directory.setClassSection(10L, "7-B");
+        directory.putRecord(NUMBER, record(FrontOfficeRecordType.VISITOR, "L. Rao", "NEW", NOW));
+
+        UUID open = UUID.randomUUID();
+        UUID resolved = UUID.randomUUID();
+        directory.putComplaint(new PhoneDirectory.ComplaintRef(open, "lakshmi  RAO", "Transport", ComplaintStatus.OPEN, LocalDate.of(2025, 6, 1)));
+        directory.putComplaint(new PhoneDirectory.ComplaintRef(resolved, "L. Rao", "Fees", ComplaintStatus.OPEN, LocalDate.of(2025, 5, 1)));
+        directory.putComplaint(new PhoneDirectory.ComplaintRef(resolved, "L. Rao", "Fees", ComplaintStatus.RESOLVED, LocalDate.of(2025, 5, 1)));
+
+        PhoneDirectory.Lookup lookup = directory.lookup(NUMBER);
+
+        assertThat(lookup.parents()).extracting(PhoneDirectory.ParentInfo::name).containsExactly("Lakshmi Rao");
+        assertThat(lookup.children().get(1L)).singleElement()
+                .satisfies(student -> assertThat(student.classSection()).isEqualTo("7-B"));
+        assertThat(lookup.openComplaints()).extracting(PhoneDirectory.ComplaintRef::id).containsExactly(open);
+        assertThat(directory.lookup("+919800000000")).isNull();
+    }
+
+    @Test
+    @DisplayName("Complaints match the linked parents and children, not names typed into records with the number")
+    void matchesComplaintsOnLinkedNamesOnly() {
+        directory.putParent(new PhoneDirectory.ParentInfo(1L, "Lakshmi Rao", "Mother", NUMBER));
+        directory.putStudent(new PhoneDirectory.StudentInfo(10L, "Arjun Rao", "ADM-10", "7-B"));
+        directory.linkGuardian(1L, 10L);
+        directory.putRecord(NUMBER, record(FrontOfficeRecordType.PHONE_CALL, "Ravi Kumar", "ACTIVE", NOW));
+
+        UUID child = UUID.randomUUID();
+        directory.putComplaint(new PhoneDirectory.ComplaintRef(child, "Arjun Rao", "Bullying", ComplaintStatus.OPEN, LocalDate.of(2025, 6, 1)));
+        directory.putComplaint(new PhoneDirectory.ComplaintRef(UUID.randomUUID(), "Ravi Kumar", "Fees", ComplaintStatus.OPEN, LocalDate.of(2025, 6, 1)));
+
+        assertThat(directory.lookup(NUMBER).openComplaints()).extracting(PhoneDirectory.ComplaintRef::id)
+                .containsExactly(child);
+    }
+
+    @Test
+    @DisplayName("Only the latest records per register are kept, counts cover all, updates replace in place")
+    void keepsLatestRecordsAndCounts() {
+        PhoneDirectory.RecordRef first = record(FrontOfficeRecordType.PHONE_CALL, "Caller", "ACTIVE", NOW.minusDays(3));
+        directory.putRecord(NUMBER, first);
+        directory.putRecord(NUMBER, record(FrontOfficeRecordType.PHONE_CALL, "Caller", "ACTIVE", NOW.minusDays(2)));
+        PhoneDirectory.RecordRef latest = record(FrontOfficeRecordType.PHONE_CALL, "Caller", "ACTIVE", NOW.minusDays(1));
+        directory.putRecord(NUMBER, latest);
+        directory.putRecord(NUMBER, new PhoneDirectory.RecordRef(latest.type(), latest.id(), academicYearId,
+                "Caller", "Called back", "ACTIVE", latest.at()));
+
+        PhoneDirectory.Lookup lookup = directory.lookup(NUMBER);
+
+        assertThat(lookup.counts()).containsEntry(FrontOfficeRecordType.PHONE_CALL, 3);
+        assertThat(lookup.records()).hasSize(2).first()
+                .satisfies(record -> assertThat(record.detail()).isEqualTo("Called back"));
+        assertThat(lookup.records()).extracting(PhoneDirectory.RecordRef::id).doesNotContain(first.id());
+    }
+
+    @Test
+    @DisplayName("The earliest open enquiry of the same year is reported as the duplicate")
+    void findsOpenEnquiry() {
+        PhoneDirectory.RecordRef earliest = record(FrontOfficeRecordType.ADMISSION_ENQUIRY, "Parent", "FOLLOW_UP", NOW.minusDays(5));
+        directory.putRecord(NUMBER, earliest);
+        directory.putRecord(NUMBER, record(FrontOfficeRecordType.ADMISSION_ENQUIRY, "Parent", "NEW", NOW.minusDays(1)));
+        directory.putRecord(NUMBER, record(FrontOfficeRecordType.ADMISSION_ENQUIRY, "Parent", "CLOSED", NOW.minusDays(9)));
+
+        assertThat(directory.openEnquiry(academicYearId, NUMBER, OPEN, null)).isEqualTo(earliest.id());
+        assertThat(directory.openEnquiry(UUID.randomUUID(), NUMBER, OPEN, null)).isNull();
+    }
+
+    private PhoneDirectory.RecordRef record(FrontOfficeRecordType type, String name, String status, LocalDateTime at) {
+        return new PhoneDirectory.RecordRef(type, UUID.randomUUID(), academicYearId, name, null, status, at);
+    }
+}
@@ -0,0 +1,35 @@
+package com.school.academic.frontoffice.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PhoneNumbers E.164 normalization.
+ */
+class PhoneNumbersTest {
+
+    private final PhoneNumbers phoneNumbers = new PhoneNumbers("91", 10);
+
+    @Test
+    @DisplayName("National, trunk-prefixed and international formats normalize to the same number")
+    void normalizesCommonFormats() {
+        assertThat(phoneNumbers.toE164("98450 12345")).isEqualTo("+919845012345");
+        assertThat(phoneNumbers.toE164("098450-12345")).isEqualTo("+919845012345");
+        assertThat(phoneNumbers.toE164("+91 (98450) 12345")).isEqualTo("+919845012345");
+        assertThat(phoneNumbers.toE164("919845012345")).isEqualTo("+919845012345");
+        assertThat(phoneNumbers.toE164("0091 98450 12345")).isEqualTo("+919845012345");
+        assertThat(phoneNumbers.toE164("080 2222 3333")).isEqualTo("+918022223333");
+        assertThat(phoneNumbers.toE164("+44 20 7946 0958")).isEqualTo("+442079460958");
+    }
+
+    @Test
+    @DisplayName("Text and numbers of implausible length are rejected")
+    void rejectsNonNumbers() {
+        assertThat(phoneNumbers.toE164(null)).isNull();
+        assertThat(phoneNumbers.toE164("n/a")).isNull();
+        assertThat(phoneNumbers.toE164("12345")).isNull();
+        assertThat(phoneNumbers.toE164("+1234567890123456")).isNull();
+    }
+}
@@ -0,0 +1,260 @@
+package com.school.academic.frontoffice.service.impl;
+
+import com.school.academic.frontoffice.dto.visitor.VisitorLiveEvent;
+import com.school.academic.frontoffice.dto.visitor.VisitorResponse;
+import com.school.academic.frontoffice.entity.Visitor;
+import com.school.academic.frontoffice.mapper.VisitorMapper;
+import com.school.academic.frontoffice.repository.VisitorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for VisitorPresenceServiceImpl seeding, check-in/check-out deltas and
+ * per-subscriber delivery.
+ */
+@ExtendWith(MockitoExtension.class)
+class VisitorPresenceServiceImplTest {
+
+    private static final UUID YEAR = UUID.randomUUID();
+    private static final UUID OTHER_YEAR = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private VisitorRepository visitorRepository;
+
+    private VisitorPresenceServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("Should seed open visits and send each new desk a snapshot of its year")
+    void subscribe_AfterSeed_SendsSnapshot() throws InterruptedException {
+        service = newService(256);
+        Visitor later = visitor(YEAR, "Ravi", NOW.minusMinutes(5));
+        Visitor earlier = visitor(YEAR, "Asha", NOW.minusHours(2));
+        openVisits(later, earlier, visitor(OTHER_YEAR, "Meera", NOW.minusHours(1)));
+        service.seedOpenVisits();
+
+        RecordingEmitter desk = new RecordingEmitter();
+        service.subscribe(YEAR, desk);
+
+        Sent snapshot = desk.next();
+        assertThat(snapshot.name()).isEqualTo("snapshot");
+        assertThat(snapshot.event().getOnCampus()).isEqualTo(2);
+        assertThat(snapshot.event().getVisitors()).extracting(VisitorResponse::getVisitorName)
+                .containsExactly("Asha", "Ravi");
+    }
+
+    @Test
+    @DisplayName("Should push check-ins and check-outs with the on-campus count to desks of the same year")
+    void recordCheckInAndOut_PushesDeltas() throws InterruptedException {
+        service = newService(256);
+        openVisits();
+        service.seedOpenVisits();
+        RecordingEmitter desk = new RecordingEmitter();
+        RecordingEmitter otherYearDesk = new RecordingEmitter();
+        service.subscribe(YEAR, desk);
+        service.subscribe(OTHER_YEAR, otherYearDesk);
+        desk.next();
+        otherYearDesk.next();
+
+        Visitor visitor = visitor(YEAR, "Asha", NOW);
+        service.recordCheckIn(visitor);
+        Sent checkIn = desk.next();
+        assertThat(checkIn.name()).isEqualTo("check-in");
+        assertThat(checkIn.event().getOnCampus()).isEqualTo(1);
+        assertThat(checkIn.event().getVisitors()).extracting(VisitorResponse::getId).containsExactly(visitor.getId());
+
+        visitor.setCheckOutTime(NOW.plusMinutes(20));
+        service.recordCheckOut(visitor);
+        Sent checkOut = desk.next();
+        assertThat(checkOut.name()).isEqualTo("check-out");
+        assertThat(checkOut.event().getOnCampus()).isZero();
+
+        // A second checkout of the same visit is not an event
+        service.recordCheckOut(visitor);
+        service.recordCheckIn(visitor(YEAR, "Ravi", NOW));
+        assertThat(desk.next().event().getVisitors()).extracting(VisitorResponse::getVisitorName)
+                .containsExactly("Ravi");
+        assertThat(otherYearDesk.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should push the difference found by a reseed as ordinary events")
+    void reseed_PushesDifference() throws InterruptedException {
+        service = newService(256);
+        Visitor stale = visitor(YEAR, "Asha", NOW.minusHours(3));
+        openVisits(stale);
+        service.seedOpenVisits();
+        RecordingEmitter desk = new RecordingEmitter();
+        service.subscribe(YEAR, desk);
+        assertThat(desk.next().event().getOnCampus()).isEqualTo(1);
+
+        // Another node checked Asha out and checked Ravi in
+        Visitor remote = visitor(YEAR, "Ravi", NOW);
+        openVisits(remote);
+        service.reseed();
+
+        Sent checkOut = desk.next();
+        Sent checkIn = desk.next();
+        assertThat(checkOut.name()).isEqualTo("check-out");
+        assertThat(checkOut.event().getVisitors()).extracting(VisitorResponse::getId).containsExactly(stale.getId());
+        assertThat(checkIn.name()).isEqualTo("check-in");
+        assertThat(checkIn.event().getVisitors()).extracting(VisitorResponse::getId).containsExactly(remote.getId());
+        assertThat(checkIn.event().getOnCampus()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a desk whose connection failed and keep serving the others")
+    void send_Failure_DropsSubscriber() throws InterruptedException {
+        service = newService(256);
+        openVisits();
+        service.seedOpenVisits();
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failure = new IOException("Broken pipe");
+        RecordingEmitter desk = new RecordingEmitter();
+        service.subscribe(YEAR, broken);
+        service.subscribe(YEAR, desk);
+        desk.next();
+        assertThat(broken.attempted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.recordCheckIn(visitor(YEAR, "Asha", NOW));
+        service.heartbeat();
+        service.recordCheckIn(visitor(YEAR, "Ravi", NOW));
+
+        assertThat(desk.next().event().getOnCampus()).isEqualTo(1);
+        assertThat(desk.next().event().getOnCampus()).isEqualTo(2);
+        assertThat(broken.attempts).hasValue(1);
+        assertThat(broken.error).isSameAs(broken.failure);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to other desks while one desk is slow, and drop it once it falls behind")
+    void send_SlowDesk_DoesNotBlockOthers() throws InterruptedException {
+        service = newService(3);
+        openVisits();
+        service.seedOpenVisits();
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.blocked = new CountDownLatch(1);
+        RecordingEmitter desk = new RecordingEmitter();
+        service.subscribe(YEAR, slow);
+        service.subscribe(YEAR, desk);
+        desk.next();
+        assertThat(slow.attempted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i <= 5; i++) {
+            service.recordCheckIn(visitor(YEAR, "Visitor " + i, NOW));
+            assertThat(desk.next().event().getOnCampus()).isEqualTo(i);
+        }
+        assertThat(slow.error).isInstanceOf(IOException.class);
+
+        slow.blocked.countDown();
+        service.recordCheckIn(visitor(YEAR, "Late", NOW));
+        assertThat(desk.next().event().getOnCampus()).isEqualTo(6);
+        // Only the snapshot it was stuck on ever went out
+        assertThat(slow.attempts).hasValue(1);
+    }
+
+    private VisitorPresenceServiceImpl newService(int maxPending) {
+        return new VisitorPresenceServiceImpl(visitorRepository, new VisitorMapper(),
+                Duration.ofHours(24), Duration.ofMinutes(30), 2, maxPending);
+    }
+
+    private void openVisits(Visitor... visitors) {
+        when(visitorRepository.findByCheckOutTimeIsNullAndStatusAndCheckInTimeGreaterThanEqual(any(), any()))
+                .thenReturn(List.of(visitors));
+    }
+
+    private static Visitor visitor(UUID academicYearId, String name, LocalDateTime checkInTime) {
+        Visitor visitor = new Visitor();
+        visitor.setId(UUID.randomUUID());
+        visitor.setAcademicYearId(academicYearId);
+        visitor.setVisitorName(name);
+        visitor.setCheckInTime(checkInTime);
+        return visitor;
+    }
+
+    private record Sent(String name, VisitorLiveEvent event) {
+    }
+
+    /**
+     * Emitter that records named events instead of writing a response. It can be made to
+     * fail or to block, to stand in for a broken or slow desk.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch attempted = new CountDownLatch(1);
+        volatile IOException failure;
+        volatile CountDownLatch blocked;
+        volatile Throwable error;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            Set<DataWithMediaType> parts = builder.build();
+            String name = null;
+            VisitorLiveEvent event = null;
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                } else if (part.getData() instanceof VisitorLiveEvent payload) {
+                    event = payload;
+                }
+            }
+            if (event == null) {
+                // Heartbeat comment
+                return;
+            }
+            attempts.incrementAndGet();
+            attempted.countDown();
+            if (failure != null) {
+                throw failure;
+            }
+            if (blocked != null) {
+                try {
+                    blocked.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(new Sent(name, event));
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+            super.completeWithError(ex);
+        }
+
+        Sent next() throws InterruptedException {
+            Sent next = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(next).as("event within 5 seconds").isNotNull();
+            return next;
+        }
+    }
+}
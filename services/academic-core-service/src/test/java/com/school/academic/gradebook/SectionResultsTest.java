@@ -0,0 +1,94 @@
+package com.school.academic.gradebook;
+
+import com.school.academic.gradebook.SectionResults.SubjectMarks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MarksColumn and SectionResults.
+ */
+class SectionResultsTest {
+
+    private static final GradeScale SCALE = GradeScale.parse("A1:91,A2:81,B1:71,B2:61,C1:51,C2:41,D:33,E:0");
+
+    @Test
+    @DisplayName("Should keep half marks and absences through a round trip through bytes")
+    void marksColumn_RoundTripsThroughBytes() {
+        MarksColumn column = MarksColumn.empty(40);
+        column.set(1, new BigDecimal("72.5"));
+        column.setAbsent(2);
+        column.set(3, BigDecimal.ZERO);
+
+        MarksColumn stored = MarksColumn.fromBytes(column.toBytes());
+
+        assertThat(stored.marksOf(1)).isEqualByComparingTo("72.5");
+        assertThat(stored.isAbsent(2)).isTrue();
+        assertThat(stored.marksOf(2)).isNull();
+        assertThat(stored.marksOf(3)).isEqualByComparingTo("0");
+        assertThat(stored.isEntered(4)).isFalse();
+        assertThat(stored.isEntered(400)).isFalse();
+        assertThat(stored.enteredCount()).isEqualTo(3);
+        assertThat(column.toBytes()).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("Should reject negative marks and more than one decimal place")
+    void marksColumn_RejectsInvalidMarks() {
+        MarksColumn column = MarksColumn.empty(10);
+
+        assertThatThrownBy(() -> column.set(1, new BigDecimal("-1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("negative");
+        assertThatThrownBy(() -> column.set(1, new BigDecimal("10.25")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("one decimal");
+        assertThatThrownBy(() -> column.set(MarksColumn.MAX_ROLL_NUMBER + 1, BigDecimal.ONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should total subjects, grade, share ranks on ties and compute percentiles")
+    void compute_RanksAndPercentiles() {
+        MarksColumn maths = MarksColumn.empty(4);
+        maths.set(1, new BigDecimal("90"));
+        maths.set(2, new BigDecimal("60"));
+        maths.set(3, new BigDecimal("60"));
+        maths.setAbsent(4);
+        MarksColumn science = MarksColumn.empty(4);
+        science.set(1, new BigDecimal("95.5"));
+        science.set(2, new BigDecimal("70"));
+        science.set(3, new BigDecimal("70"));
+        science.set(4, new BigDecimal("20"));
+
+        SectionResults results = SectionResults.compute(new int[]{1, 2, 3, 4},
+                List.of(new SubjectMarks(100, maths), new SubjectMarks(100, science)), SCALE);
+
+        assertThat(results.maxTotalTenths()).isEqualTo(2000);
+        assertThat(results.totalTenths(0)).isEqualTo(1855);
+        assertThat(results.totalTenths(3)).isEqualTo(200);
+        assertThat(results.percentage(0)).isEqualTo(92.75);
+        assertThat(results.grade(0)).isEqualTo("A1");
+        assertThat(results.grade(1)).isEqualTo("B2");
+        assertThat(results.grade(3)).isEqualTo("E");
+        assertThat(new int[]{results.rank(0), results.rank(1), results.rank(2), results.rank(3)})
+                .containsExactly(1, 2, 2, 4);
+        assertThat(results.percentile(0)).isEqualTo(100.0);
+        assertThat(results.percentile(1)).isEqualTo(33.3);
+        assertThat(results.percentile(3)).isEqualTo(0.0);
+        assertThat(results.highestTotalTenths()).isEqualTo(1855);
+    }
+
+    @Test
+    @DisplayName("Should reject a grade scale without a band starting at zero")
+    void gradeScale_NeedsZeroBand() {
+        assertThatThrownBy(() -> GradeScale.parse("A:50,B:33"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("starting at 0");
+    }
+}
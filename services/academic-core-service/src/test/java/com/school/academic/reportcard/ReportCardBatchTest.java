@@ -0,0 +1,98 @@
+package com.school.academic.reportcard;
+
+import com.school.academic.attendance.AttendanceTally;
+import com.school.academic.reportcard.ReportCard.ExamResult;
+import com.school.academic.reportcard.ReportCard.Guardian;
+import com.school.academic.reportcard.ReportCard.SubjectMarks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReportCardBatch and the PDF it renders.
+ */
+class ReportCardBatchTest {
+
+    private final ReportCardRenderer renderer = new ReportCardRenderer("Springfield School");
+
+    @Test
+    @DisplayName("Should render every card into the ZIP as a well-formed PDF and count progress")
+    void render_WritesEveryCardToZip() throws Exception {
+        List<ReportCard> cards = IntStream.rangeClosed(1, 40)
+                .mapToObj(roll -> card(roll % 2 == 0 ? "Grade 5 - A" : "Grade 5 - B", roll, 1))
+                .toList();
+        ReportCardJob job = new ReportCardJob(UUID.randomUUID(), 1L, "2026-27", Set.of(), ReportCardJob.Output.ZIP);
+        job.rendering(cards.size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            ReportCardBatch.render(pool, renderer, cards, ReportCardBatch.zip(zip), job, () -> { });
+        } finally {
+            pool.shutdown();
+        }
+
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        assertThat(entries).hasSize(40).containsKey("Grade_5_-_A/002-ADM2.pdf");
+        assertThat(job.getRendered()).isEqualTo(40);
+        assertThat(job.getFailed()).isZero();
+        entries.values().forEach(ReportCardBatchTest::assertWellFormed);
+    }
+
+    @Test
+    @DisplayName("Should continue on a new page when the exams do not fit on one")
+    void render_BreaksPages() {
+        byte[] pdf = renderer.render(card("Grade 5 - A", 1, 6));
+
+        assertWellFormed(pdf);
+        assertThat(new String(pdf, StandardCharsets.ISO_8859_1)).contains("/Count 2");
+    }
+
+    private static ReportCard card(String section, int roll, int exams) {
+        List<SubjectMarks> subjects = List.of(
+                new SubjectMarks("Mathematics", 100, new BigDecimal("87.5"), false),
+                new SubjectMarks("Science", 100, null, true),
+                new SubjectMarks("English (Core)", 50, new BigDecimal("41"), false));
+        List<ExamResult> results = IntStream.rangeClosed(1, exams)
+                .mapToObj(i -> new ExamResult("Exam " + i, subjects, new BigDecimal("128.5"), new BigDecimal("250.0"),
+                        51.4, "C1", 3, 66.7, 4))
+                .toList();
+        AttendanceTally attendance = new AttendanceTally();
+        return new ReportCard("2026-27", section, "Student " + roll, "ADM" + roll, roll, LocalDate.of(2015, 6, 1),
+                List.of(new Guardian("Parent " + roll, "Mother", "9876543210")), attendance, results);
+    }
+
+    private static void assertWellFormed(byte[] pdf) {
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+        assertThat(text).startsWith("%PDF-1.4").endsWith("%%EOF\n");
+        int startxref = text.lastIndexOf("startxref\n");
+        int xref = Integer.parseInt(text.substring(startxref + 10, text.indexOf('\n', startxref + 10)));
+        assertThat(text.substring(xref)).startsWith("xref\n");
+
+        // Every object offset in the cross-reference table points at that object
+        String[] table = text.substring(xref).split("\n");
+        int objects = Integer.parseInt(table[1].split(" ")[1]);
+        for (int i = 1; i < objects; i++) {
+            int offset = Integer.parseInt(table[2 + i].substring(0, 10));
+            assertThat(text.substring(offset)).startsWith(i + " 0 obj");
+        }
+    }
+}
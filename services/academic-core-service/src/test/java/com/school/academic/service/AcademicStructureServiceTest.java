@@ -1,5 +1,7 @@
 package com.school.academic.service;
 
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
 import com.school.academic.domain.AcademicYear;
 import com.school.academic.domain.GradeClass;
 import com.school.academic.domain.Section;
@@ -49,6 +51,8 @@ class AcademicStructureServiceTest {
     private StaffRepository staffRepository;
     @Mock
     private ClassroomRepository classroomRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
 
     private AcademicStructureService academicStructureService;
 
@@ -60,7 +64,8 @@ class AcademicStructureServiceTest {
                 sectionRepository,
                 classSectionRepository,
                 staffRepository,
-                classroomRepository
+                classroomRepository,
+                cacheInvalidationBus
         );
     }
 
@@ -98,6 +103,7 @@ class AcademicStructureServiceTest {
             assertThat(response.getName()).isEqualTo("2025-2026");
             assertThat(response.getIsCurrent()).isTrue();
             verify(academicYearRepository).save(any(AcademicYear.class));
+            verify(cacheInvalidationBus).bump(CacheRegion.ACADEMIC_YEARS);
         }
 
         @Test
@@ -119,6 +125,7 @@ class AcademicStructureServiceTest {
                     .hasMessageContaining("already exists");
 
             verify(academicYearRepository, never()).save(any());
+            verify(cacheInvalidationBus, never()).bump(any());
         }
 
         @Test
@@ -0,0 +1,231 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.AcademicYearRolloverRequest;
+import com.school.academic.dto.request.RolloverMappingRequest;
+import com.school.academic.dto.response.AcademicYearRolloverResponse;
+import com.school.academic.dto.response.RolloverTableResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Year rollover against the real schema, where the copies are native {@code INSERT ... SELECT}
+ * statements.
+ *
+ * The source year has classes 1 and 2, each with section A; the target year already has class 2
+ * section A and the class's mathematics curriculum. Teachers one and two are both replaced by
+ * teacher three, and a fourth teacher is dropped.
+ */
+class AcademicYearRolloverTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private AcademicYearRolloverService rolloverService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Fixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TransactionTemplate(transactionManager).execute(status -> createFixture());
+    }
+
+    @Test
+    @DisplayName("Should copy only what the target year lacks, remapping staff, and create nothing when run again")
+    void rollover_RunTwice_SecondRunCreatesNothing() {
+        AcademicYearRolloverResponse first = rolloverService.rollover(uuid(fixture.targetYearId()), request(false));
+        AcademicYearRolloverResponse second = rolloverService.rollover(uuid(fixture.targetYearId()), request(false));
+
+        assertCounts(first.getClassSections(), 2, 1);
+        assertCounts(first.getSubjectAssignments(), 3, 2);
+        // Both mathematics teachers of 1-A collapse into teacher three, the dropped teacher's art
+        // class is not copied, and music is not in the curriculum
+        assertCounts(first.getStaffAssignments(), 5, 2);
+        assertCounts(second.getClassSections(), 2, 0);
+        assertCounts(second.getSubjectAssignments(), 3, 0);
+        assertCounts(second.getStaffAssignments(), 5, 0);
+
+        Long classOneSection = classSectionId(fixture.classOneId());
+        assertThat(entityManager.createQuery("SELECT cs.classTeacher.id, cs.classroom.id FROM ClassSection cs "
+                        + "LEFT JOIN cs.classTeacher LEFT JOIN cs.classroom WHERE cs.id = :id", Object[].class)
+                .setParameter("id", classOneSection)
+                .getSingleResult())
+                .containsExactly(fixture.replacementId(), null);
+        assertThat(entityManager.createQuery("SELECT sa.subject.id, sa.gradeClass.id, sa.periodsPerWeek "
+                        + "FROM SubjectAssignment sa WHERE sa.academicYear.id = :yearId", Object[].class)
+                .setParameter("yearId", fixture.targetYearId())
+                .getResultList())
+                .extracting(row -> tuple(row[0], row[1], row[2]))
+                .containsExactlyInAnyOrder(
+                        tuple(fixture.mathsId(), fixture.classOneId(), 5),
+                        tuple(fixture.artId(), fixture.classOneId(), 2),
+                        tuple(fixture.mathsId(), fixture.classTwoId(), 4));
+        assertThat(targetStaffAssignments())
+                .containsExactlyInAnyOrder(
+                        tuple(fixture.replacementId(), fixture.mathsId(), classOneSection),
+                        tuple(fixture.replacementId(), fixture.mathsId(), classSectionId(fixture.classTwoId())));
+    }
+
+    @Test
+    @DisplayName("Should report what a real run would create and leave the target year unchanged on a dry run")
+    void rollover_DryRun_RollsBack() {
+        AcademicYearRolloverResponse dryRun = rolloverService.rollover(uuid(fixture.targetYearId()), request(true));
+
+        assertThat(dryRun.isDryRun()).isTrue();
+        assertCounts(dryRun.getClassSections(), 2, 1);
+        assertCounts(dryRun.getSubjectAssignments(), 3, 2);
+        assertCounts(dryRun.getStaffAssignments(), 5, 2);
+        assertThat(dryRun.getClassSections().getCreated()).containsExactly("Grade 1 - A");
+        assertThat(count("ClassSection", fixture.targetYearId())).isEqualTo(1);
+        assertThat(count("SubjectAssignment", fixture.targetYearId())).isEqualTo(1);
+        assertThat(count("StaffAssignment", fixture.targetYearId())).isZero();
+
+        AcademicYearRolloverResponse real = rolloverService.rollover(uuid(fixture.targetYearId()), request(false));
+        assertCounts(real.getStaffAssignments(), 5, 2);
+        assertThat(real.getStaffAssignments().getCreated()).isEqualTo(dryRun.getStaffAssignments().getCreated());
+    }
+
+    @Test
+    @DisplayName("Should copy nothing when remapping two teachers onto one takes the replacement over the limit")
+    void rollover_ReplacementOverloaded_Rejected() {
+        // Mathematics becomes 20 periods in both classes; the replacement would teach both, 40 of a 30 limit
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.createQuery(
+                        "UPDATE SubjectAssignment sa SET sa.periodsPerWeek = 20 WHERE sa.subject.id = :subjectId")
+                .setParameter("subjectId", fixture.mathsId())
+                .executeUpdate());
+
+        assertThatThrownBy(() -> rolloverService.rollover(uuid(fixture.targetYearId()), request(false)))
+                .isInstanceOfSatisfying(BusinessRuleException.class, ex -> {
+                    assertThat(ex.getCode()).isEqualTo("STAFF_OVERLOADED");
+                    assertThat(ex.getMessage()).contains("40 periods");
+                });
+        assertThat(count("ClassSection", fixture.targetYearId())).isEqualTo(1);
+        assertThat(count("SubjectAssignment", fixture.targetYearId())).isEqualTo(1);
+        assertThat(count("StaffAssignment", fixture.targetYearId())).isZero();
+    }
+
+    private static void assertCounts(RolloverTableResponse table, long sourceCount, long createdCount) {
+        assertThat(table.getSourceCount()).isEqualTo(sourceCount);
+        assertThat(table.getCreatedCount()).isEqualTo(createdCount);
+        assertThat(table.getSkippedCount()).isEqualTo(sourceCount - createdCount);
+        assertThat(table.getCreated()).hasSize((int) createdCount);
+    }
+
+    private AcademicYearRolloverRequest request(boolean dryRun) {
+        return new AcademicYearRolloverRequest(uuid(fixture.sourceYearId()), dryRun, true,
+                List.of(new RolloverMappingRequest(uuid(fixture.teacherOneId()), uuid(fixture.replacementId())),
+                        new RolloverMappingRequest(uuid(fixture.teacherTwoId()), uuid(fixture.replacementId())),
+                        new RolloverMappingRequest(uuid(fixture.leaverId()), null)),
+                List.of(new RolloverMappingRequest(uuid(fixture.classroomId()), null)));
+    }
+
+    private Long classSectionId(Long gradeClassId) {
+        return entityManager.createQuery("SELECT cs.id FROM ClassSection cs "
+                        + "WHERE cs.academicYear.id = :yearId AND cs.gradeClass.id = :classId", Long.class)
+                .setParameter("yearId", fixture.targetYearId())
+                .setParameter("classId", gradeClassId)
+                .getSingleResult();
+    }
+
+    private List<Tuple> targetStaffAssignments() {
+        return entityManager.createQuery("SELECT sa.staff.id, sa.subject.id, sa.classSection.id "
+                        + "FROM StaffAssignment sa WHERE sa.academicYear.id = :yearId", Object[].class)
+                .setParameter("yearId", fixture.targetYearId())
+                .getResultList().stream()
+                .map(row -> tuple(row[0], row[1], row[2]))
+                .toList();
+    }
+
+    private long count(String entity, Long yearId) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entity + " e WHERE e.academicYear.id = :yearId",
+                        Long.class)
+                .setParameter("yearId", yearId)
+                .getSingleResult();
+    }
+
+    private Fixture createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear source = persist(new AcademicYear("S-" + run, "Source " + run,
+                LocalDate.of(2024, 4, 1), LocalDate.of(2025, 3, 31), false));
+        AcademicYear target = persist(new AcademicYear("T-" + run, "Target " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass classOne = persist(new GradeClass("G1-" + run, "Grade 1", 1, null));
+        GradeClass classTwo = persist(new GradeClass("G2-" + run, "Grade 2", 2, null));
+        Section sectionA = persist(new Section("A-" + run, "A", null));
+        Subject maths = persist(new Subject("M-" + run, "Mathematics " + run, "CORE", false));
+        Subject art = persist(new Subject("AR-" + run, "Art " + run, "CORE", false));
+        Subject music = persist(new Subject("MU-" + run, "Music " + run, "CORE", false));
+        Staff teacherOne = staff("T1-" + run);
+        Staff teacherTwo = staff("T2-" + run);
+        Staff replacement = staff("T3-" + run);
+        Staff leaver = staff("T4-" + run);
+        Classroom classroom = persist(new Classroom("R-" + run, "Room", 40, null, null));
+
+        ClassSection oneA = persist(new ClassSection(classOne, sectionA, source, "English"));
+        oneA.setClassTeacher(teacherOne);
+        oneA.setClassroom(classroom);
+        ClassSection twoA = persist(new ClassSection(classTwo, sectionA, source, "English"));
+        twoA.setClassTeacher(teacherTwo);
+        curriculum(maths, classOne, source, 5);
+        curriculum(art, classOne, source, 2);
+        curriculum(maths, classTwo, source, 4);
+        persist(new StaffAssignment(teacherOne, maths, oneA, source));
+        persist(new StaffAssignment(teacherTwo, maths, oneA, source));
+        persist(new StaffAssignment(leaver, art, oneA, source));
+        persist(new StaffAssignment(teacherTwo, maths, twoA, source));
+        // Predates the curriculum rule: music has no curriculum entry in either year
+        persist(new StaffAssignment(teacherOne, music, oneA, source));
+
+        persist(new ClassSection(classTwo, sectionA, target, "English"));
+        curriculum(maths, classTwo, target, 4);
+
+        return new Fixture(source.getId(), target.getId(), classOne.getId(), classTwo.getId(), maths.getId(),
+                art.getId(), teacherOne.getId(), teacherTwo.getId(), replacement.getId(), leaver.getId(),
+                classroom.getId());
+    }
+
+    private void curriculum(Subject subject, GradeClass gradeClass, AcademicYear year, int periodsPerWeek) {
+        SubjectAssignment assignment = new SubjectAssignment(subject, gradeClass, year, null);
+        assignment.setPeriodsPerWeek(periodsPerWeek);
+        persist(assignment);
+    }
+
+    private Staff staff(String code) {
+        Staff staff = new Staff();
+        staff.setStaffCode(code);
+        staff.setFirstName("Teacher " + code);
+        return persist(staff);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static UUID uuid(Long id) {
+        return new UUID(0L, id);
+    }
+
+    private record Fixture(Long sourceYearId, Long targetYearId, Long classOneId, Long classTwoId, Long mathsId,
+                           Long artId, Long teacherOneId, Long teacherTwoId, Long replacementId, Long leaverId,
+                           Long classroomId) {
+    }
+}
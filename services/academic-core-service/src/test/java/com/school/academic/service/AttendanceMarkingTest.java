@@ -0,0 +1,85 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.MarkAttendanceRequest;
+import com.school.academic.dto.response.AttendanceDayResponse;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Attendance marking against the real schema, where a section's day is one upserted row.
+ */
+class AttendanceMarkingTest extends MySqlIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+    @Autowired
+    private AttendanceService attendanceService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should replace a section's day when it is marked again")
+    void markAttendance_MarkedAgain_ReplacesDay() {
+        UUID classSectionId = new TransactionTemplate(transactionManager).execute(status -> createSection());
+
+        attendanceService.markAttendance(classSectionId, DAY, request(Set.of(2), Set.of()));
+        attendanceService.markAttendance(classSectionId, DAY, request(Set.of(), Set.of(3)));
+
+        AttendanceDayResponse day = attendanceService.getAttendance(classSectionId, DAY);
+        assertThat(day.getMarked()).isEqualTo(3);
+        assertThat(day.getAbsent()).isZero();
+        assertThat(day.getLate()).isEqualTo(1);
+        assertThat(day.getPresent()).isEqualTo(2);
+        Number rows = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM academic_core.attendance_day WHERE class_section_id = :id AND attendance_date = :day")
+                .setParameter("id", classSectionId.getLeastSignificantBits())
+                .setParameter("day", DAY)
+                .getSingleResult();
+        assertThat(rows.intValue()).isEqualTo(1);
+    }
+
+    private static MarkAttendanceRequest request(Set<Integer> absent, Set<Integer> late) {
+        MarkAttendanceRequest request = new MarkAttendanceRequest();
+        request.setAbsentRollNumbers(absent);
+        request.setLateRollNumbers(late);
+        return request;
+    }
+
+    /**
+     * A section of three students with roll numbers 1 to 3.
+     */
+    private UUID createSection() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("A-" + run, "Attendance " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 3, null));
+        ClassSection section = persist(new ClassSection(gradeClass, persist(new Section("A-" + run, "A", null)), year, "English"));
+        for (int roll = 1; roll <= 3; roll++) {
+            Student student = new Student();
+            student.setAdmissionNumber("ADM-" + run + "-" + roll);
+            student.setFirstName("Student " + roll);
+            persist(student);
+            persist(new Enrollment(student, section, year, roll, "ACTIVE", LocalDate.of(2025, 4, 1)));
+        }
+        return new UUID(0L, section.getId());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,269 @@
+package com.school.academic.service;
+
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.response.BankStatementRunResponse;
+import com.school.academic.dto.response.FeeInvoiceRunResponse;
+import com.school.academic.fees.PaymentMatcher;
+import com.school.academic.fees.StatementFormat;
+import com.school.academic.fees.StatementLine;
+import com.school.academic.fees.StatementReader;
+import com.school.academic.repository.BankStatementRunRepository;
+import com.school.academic.repository.FeeInvoiceRepository;
+import com.school.academic.repository.PaymentReviewItemRepository;
+import com.school.academic.repository.ReconciliationRepository;
+import com.school.academic.service.impl.BankReconciliationServiceImpl;
+import com.school.academic.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Time to reconcile a large CSV statement, for a range of chunk sizes.
+ *
+ * Not part of the regular build (the class name does not match the Surefire includes).
+ * It enrols one student per statement line, invoices them with the regular invoice run,
+ * then reconciles the same statement once per chunk size, resetting the payments in
+ * between, and deletes what it created at the end. The statement is 70% payments naming an invoice, 15% part payments naming an
+ * admission number, and 5% each of debits, repeated references and unmatched lines. Each
+ * result also gives the time to load the match indexes and match every line without
+ * posting, so the rest is the cost of writing the outcome. Batch rewriting is on as in
+ * the application; {@code -Dbench.rewrite=false} turns it off to measure its effect:
+ *
+ * <pre>
+ * mvn test -Dtest=BankReconciliationBenchmark -Dbench.lines=100000 -Dbench.chunk-sizes=500,2000,5000 \
+ *     -Dit.db.url=jdbc:mysql://127.0.0.1:3306/academic_core
+ * </pre>
+ *
+ * Without {@code it.db.url} it runs on the Testcontainers MySQL used by the other
+ * integration tests.
+ */
+class BankReconciliationBenchmark extends MySqlIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BankReconciliationBenchmark.class);
+
+    private static final int LINES = Integer.getInteger("bench.lines", 100_000);
+    private static final String CHUNK_SIZES = System.getProperty("bench.chunk-sizes", "500,2000,5000");
+    private static final String PERIOD = "Q1";
+    private static final int SEED_BATCH = 5_000;
+
+    @Autowired
+    private FeeService feeService;
+    @Autowired
+    private BankStatementRunRepository bankStatementRunRepository;
+    @Autowired
+    private PaymentReviewItemRepository paymentReviewItemRepository;
+    @Autowired
+    private FeeInvoiceRepository feeInvoiceRepository;
+    @Autowired
+    private ReconciliationRepository reconciliationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void batchRewrite(DynamicPropertyRegistry registry) {
+        // Driver properties take precedence over the same setting in the URL
+        registry.add("spring.datasource.hikari.data-source-properties.rewriteBatchedStatements",
+                () -> System.getProperty("bench.rewrite", "true"));
+    }
+
+    @Test
+    @DisplayName("Should reconcile a large statement in seconds")
+    void reconcileLargeStatement() throws IOException {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        Year year = seed(run);
+        try {
+            String statement = statement(run, year);
+            log.info("Statement of {} lines, {} KB; batch rewrite {}", LINES, statement.length() >> 10,
+                    System.getProperty("bench.rewrite", "true"));
+
+            long matchOnly = matchOnly(statement);
+            List<String> results = new ArrayList<>();
+            for (int chunkSize : Arrays.stream(CHUNK_SIZES.split(",")).mapToInt(size -> Integer.parseInt(size.trim())).toArray()) {
+                BankReconciliationService service = new BankReconciliationServiceImpl(bankStatementRunRepository,
+                        paymentReviewItemRepository, feeInvoiceRepository, reconciliationRepository, feeService,
+                        transactionManager, chunkSize, Duration.ofMinutes(5));
+                BankStatementRunResponse response = service.reconcile(
+                        new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8)), "bench.csv", "CSV");
+
+                assertThat(response.getStatus()).isEqualTo("COMPLETED");
+                assertThat(response.getLinesProcessed()).isEqualTo(LINES);
+                assertThat(response.getMatched()).isEqualTo(LINES - LINES / 20 * 3);
+                results.add(String.format("chunks of %,d: %,d ms (%,.0f lines/s); %d matched, %d duplicates,"
+                                + " %d skipped, %d to review", chunkSize, response.getElapsedMillis(),
+                        LINES / (response.getElapsedMillis() / 1e3), response.getMatched(), response.getDuplicates(),
+                        response.getSkipped(), response.getSentToReview()));
+                reset(response.getId().getLeastSignificantBits(), year);
+            }
+
+            log.info("Reconciling {} lines, loading the match indexes and matching without posting: {} ms",
+                    LINES, matchOnly);
+            results.forEach(result -> log.info("{}", result));
+        } finally {
+            drop(run, year);
+        }
+    }
+
+    /**
+     * One class section of {@link #LINES} students, each invoiced 1,000.00 for the period.
+     */
+    private Year seed(String run) {
+        jdbcTemplate.update("INSERT INTO academic_core.academic_year (code, name, start_date, end_date, is_active) "
+                + "VALUES (?, ?, '2025-04-01', '2026-03-31', FALSE)", "B-" + run, "Bench " + run);
+        long yearId = id("SELECT id FROM academic_core.academic_year WHERE code = ?", "B-" + run);
+        jdbcTemplate.update("INSERT INTO academic_core.class (code, name, level_order) VALUES (?, ?, 4)",
+                "G-" + run, "Grade " + run);
+        long classId = id("SELECT id FROM academic_core.class WHERE code = ?", "G-" + run);
+        jdbcTemplate.update("INSERT INTO academic_core.section (code, name) VALUES (?, 'A')", "A-" + run);
+        long sectionId = id("SELECT id FROM academic_core.section WHERE code = ?", "A-" + run);
+        jdbcTemplate.update("INSERT INTO academic_core.class_section (class_id, section_id, academic_year_id, medium) "
+                + "VALUES (?, ?, ?, 'English')", classId, sectionId, yearId);
+        long classSectionId = id("SELECT id FROM academic_core.class_section WHERE class_id = ? AND section_id = ?",
+                classId, sectionId);
+        jdbcTemplate.update("INSERT INTO academic_core.fee_structure (academic_year_id, class_id, fee_head, "
+                + "billing_period, amount) VALUES (?, ?, 'Tuition', ?, 1000.00)", yearId, classId, PERIOD);
+
+        long started = System.nanoTime();
+        for (int from = 0; from < LINES; from += SEED_BATCH) {
+            List<Object[]> students = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(from + SEED_BATCH, LINES); i++) {
+                students.add(new Object[]{admissionNumber(run, i), "Student " + i});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO academic_core.student (admission_no, first_name) VALUES (?, ?)",
+                    students);
+        }
+        jdbcTemplate.update("INSERT INTO academic_core.enrollment (student_id, class_section_id, academic_year_id, "
+                        + "roll_number, enrollment_status, enrollment_date) "
+                        + "SELECT s.id, ?, ?, s.id, 'ACTIVE', ? FROM academic_core.student s WHERE s.admission_no LIKE ?",
+                classSectionId, yearId, Date.valueOf(LocalDate.of(2025, 4, 1)), "BENCH-" + run + "-%");
+        log.info("Enrolled {} students in {} ms", LINES, (System.nanoTime() - started) / 1_000_000);
+
+        CreateInvoiceRunRequest request = new CreateInvoiceRunRequest();
+        request.setAcademicYearId(new UUID(0L, yearId));
+        request.setBillingPeriod(PERIOD);
+        request.setDueDate(LocalDate.of(2025, 4, 30));
+        FeeInvoiceRunResponse invoiced = feeService.runInvoices(request);
+        log.info("Invoiced {} enrollments in {} ms", invoiced.getInvoicesCreated(), invoiced.getElapsedMillis());
+        assertThat(invoiced.getInvoicesCreated()).isEqualTo(LINES);
+        return new Year(yearId, "B-" + run);
+    }
+
+    /**
+     * Line {@code i} concerns student {@code i}; every twentieth line of each kind keeps the mix fixed.
+     */
+    private String statement(String run, Year year) {
+        List<Long> enrollmentIds = jdbcTemplate.queryForList("SELECT id FROM academic_core.enrollment "
+                + "WHERE academic_year_id = ? ORDER BY student_id", Long.class, year.id());
+        StringBuilder csv = new StringBuilder(LINES * 64).append("Date,Amount,Reference,Narrative\n");
+        for (int i = 0; i < LINES; i++) {
+            String reference = "UTR" + run.toUpperCase() + i;
+            int kind = i % 20;
+            if (kind < 14) {
+                csv.append("2025-04-10,1000.00,").append(reference).append(",Fees ")
+                        .append(year.code()).append('-').append(PERIOD).append('-').append(enrollmentIds.get(i));
+            } else if (kind < 17) {
+                csv.append("2025-04-10,500.00,").append(reference).append(",School fee ").append(admissionNumber(run, i));
+            } else if (kind == 17) {
+                csv.append("2025-04-10,-25.00,").append(reference).append(",Bank charges");
+            } else if (kind == 18) {
+                // Repeats the reference of the invoice payment five lines up
+                csv.append("2025-04-11,1000.00,UTR").append(run.toUpperCase()).append(i - 5).append(",Fees");
+            } else {
+                csv.append("2025-04-11,750.00,").append(reference).append(",Donation");
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    private long matchOnly(String statement) throws IOException {
+        long started = System.nanoTime();
+        PaymentMatcher matcher = new PaymentMatcher(reconciliationRepository.findOpenDues(),
+                reconciliationRepository.findPostedReferences());
+        int matched = 0;
+        try (StatementReader reader = StatementReader.open(new BufferedReader(new StringReader(statement)),
+                StatementFormat.CSV)) {
+            for (StatementLine line = reader.next(); line != null; line = reader.next()) {
+                if (matcher.match(line).outcome() == PaymentMatcher.Outcome.MATCHED) {
+                    matched++;
+                }
+            }
+        }
+        assertThat(matched).isEqualTo(LINES - LINES / 20 * 3);
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    /**
+     * Undo a run, so the next chunk size reconciles the same statement against the same dues.
+     */
+    private void reset(long runId, Year year) {
+        jdbcTemplate.update("DELETE l FROM academic_core.fee_ledger_entry l "
+                + "JOIN academic_core.fee_invoice i ON i.id = l.invoice_id "
+                + "WHERE i.academic_year_id = ? AND l.entry_type = 'PAYMENT'", year.id());
+        jdbcTemplate.update("DELETE FROM academic_core.fee_payment WHERE statement_run_id = ?", runId);
+        jdbcTemplate.update("DELETE FROM academic_core.payment_review_item WHERE statement_run_id = ?", runId);
+        jdbcTemplate.update("DELETE FROM academic_core.bank_statement_run WHERE id = ?", runId);
+        jdbcTemplate.update("UPDATE academic_core.fee_invoice SET paid_amount = 0, status = 'OPEN' "
+                + "WHERE academic_year_id = ?", year.id());
+        jdbcTemplate.update("UPDATE academic_core.fee_account SET paid = 0, balance = billed "
+                + "WHERE academic_year_id = ?", year.id());
+    }
+
+    /**
+     * Delete everything {@link #seed} created, so repeated runs start from the same table sizes.
+     */
+    private void drop(String run, Year year) {
+        for (String sql : List.of(
+                "DELETE l FROM academic_core.fee_ledger_entry l JOIN academic_core.fee_invoice i ON i.id = l.invoice_id "
+                        + "WHERE i.academic_year_id = ?",
+                "DELETE p FROM academic_core.fee_payment p JOIN academic_core.fee_invoice i ON i.id = p.invoice_id "
+                        + "WHERE i.academic_year_id = ?",
+                "DELETE l FROM academic_core.fee_invoice_line l JOIN academic_core.fee_invoice i ON i.id = l.invoice_id "
+                        + "WHERE i.academic_year_id = ?",
+                "DELETE FROM academic_core.fee_account WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.fee_invoice WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.fee_invoice_run WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.fee_structure WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.enrollment WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.class_section WHERE academic_year_id = ?",
+                "DELETE FROM academic_core.academic_year WHERE id = ?")) {
+            jdbcTemplate.update(sql, year.id());
+        }
+        jdbcTemplate.update("DELETE FROM academic_core.student WHERE admission_no LIKE ?", "BENCH-" + run + "-%");
+        jdbcTemplate.update("DELETE FROM academic_core.class WHERE code = ?", "G-" + run);
+        jdbcTemplate.update("DELETE FROM academic_core.section WHERE code = ?", "A-" + run);
+    }
+
+    private long id(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private static String admissionNumber(String run, int student) {
+        return "BENCH-" + run + "-" + student;
+    }
+
+    private record Year(long id, String code) {
+    }
+}
@@ -0,0 +1,277 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.request.PostReviewItemRequest;
+import com.school.academic.dto.response.BankStatementRunResponse;
+import com.school.academic.dto.response.FeeAccountResponse;
+import com.school.academic.dto.response.FeeInvoiceResponse;
+import com.school.academic.dto.response.FeePaymentResponse;
+import com.school.academic.dto.response.PaymentReviewItemResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.fees.PaymentMatcher;
+import com.school.academic.repository.ReconciliationRepository;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * Bank statement reconciliation against the real schema, posting three statement lines per
+ * chunk so the seven-line statement below takes three chunks.
+ */
+@TestPropertySource(properties = "academic.fees.reconciliation.chunk-size=3")
+class BankReconciliationTest extends MySqlIntegrationTest {
+
+    private static final String PERIOD = "Q1";
+
+    @Autowired
+    private BankReconciliationService bankReconciliationService;
+    @Autowired
+    private FeeService feeService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @SpyBean
+    private ReconciliationRepository reconciliationRepository;
+
+    private Fixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TransactionTemplate(transactionManager).execute(status -> createFixture());
+        CreateInvoiceRunRequest request = new CreateInvoiceRunRequest();
+        request.setAcademicYearId(uuid(fixture.academicYearId()));
+        request.setBillingPeriod(PERIOD);
+        request.setDueDate(LocalDate.of(2025, 4, 30));
+        feeService.runInvoices(request);
+    }
+
+    @Test
+    @DisplayName("Should post matched lines chunk by chunk and not read a reconciled statement twice")
+    void reconcile_PostsChunksAndCountsEveryLine() {
+        BankStatementRunResponse run = reconcile(statement());
+
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getResumed()).isFalse();
+        assertReconciled(run);
+
+        BankStatementRunResponse again = reconcile(statement());
+        assertThat(again.getId()).isEqualTo(run.getId());
+        assertThat(again.getStatus()).isEqualTo("COMPLETED");
+        assertThat(feeService.getPayments(admissionNumber(0))).hasSize(1);
+        assertThat(feeService.getPayments(admissionNumber(1))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should roll back the failed chunk and resume after the last committed one when the file is sent again")
+    void reconcile_FailureThenResend_ResumesFromCheckpoint() {
+        // The second chunk has posted its payments when its checkpoint fails
+        doCallRealMethod()
+                .doThrow(new DataAccessResourceFailureException("Communications link failure"))
+                .doCallRealMethod()
+                .when(reconciliationRepository)
+                .checkpoint(any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any());
+
+        assertThatThrownBy(() -> reconcile(statement()))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("STATEMENT_RUN_FAILED"));
+        BankStatementRunResponse failed = bankReconciliationService.getRuns().get(0);
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getLinesProcessed()).isEqualTo(3);
+        assertThat(failed.getMatched()).isEqualTo(2);
+        assertThat(failed.getAmountPosted()).isEqualByComparingTo("1400.00");
+        assertThat(bankReconciliationService.getReviewItems("PENDING", failed.getId())).isEmpty();
+
+        BankStatementRunResponse resumed = reconcile(statement());
+
+        assertThat(resumed.getId()).isEqualTo(failed.getId());
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getResumed()).isTrue();
+        assertReconciled(resumed);
+    }
+
+    @Test
+    @DisplayName("Should post a review item to the invoice picked for it once, and reject one that overpays")
+    void postReviewItem_PostsOnceAndRejectsOverpayment() {
+        BankStatementRunResponse run = reconcile(statement());
+        List<PaymentReviewItemResponse> pending = bankReconciliationService.getReviewItems("PENDING", run.getId());
+        assertThat(pending).extracting(PaymentReviewItemResponse::getReason)
+                .containsExactly(PaymentMatcher.NO_MATCH, PaymentMatcher.AMOUNT_EXCEEDS_DUE);
+        PaymentReviewItemResponse donation = pending.get(0);
+        PaymentReviewItemResponse tooMuch = pending.get(1);
+        UUID thirdInvoiceId = invoice(2).getId();
+
+        PaymentReviewItemResponse posted = bankReconciliationService.postReviewItem(donation.getId(),
+                postTo(thirdInvoiceId));
+
+        assertThat(posted.getStatus()).isEqualTo("POSTED");
+        assertThat(posted.getInvoiceId()).isEqualTo(thirdInvoiceId);
+        assertThat(invoice(2).getStatus()).isEqualTo("PARTIAL");
+        assertThat(invoice(2).getPaidAmount()).isEqualByComparingTo("300.00");
+        assertThat(account(2).getBalance()).isEqualByComparingTo("700.00");
+        assertThat(feeService.getPayments(admissionNumber(2))).singleElement()
+                .satisfies(payment -> assertThat(payment.getBankReference()).isEqualTo(reference(5)));
+        assertThatThrownBy(() -> bankReconciliationService.postReviewItem(donation.getId(), postTo(thirdInvoiceId)))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("REVIEW_ITEM_RESOLVED"));
+
+        assertThatThrownBy(() -> bankReconciliationService.postReviewItem(tooMuch.getId(), postTo(invoice(3).getId())))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("OVERPAYMENT"));
+        assertThat(bankReconciliationService.getReviewItems("PENDING", run.getId()))
+                .extracting(PaymentReviewItemResponse::getId).containsExactly(tooMuch.getId());
+        assertThat(account(3).getPaid()).isEqualByComparingTo(BigDecimal.ZERO);
+
+        assertThat(bankReconciliationService.dismissReviewItem(tooMuch.getId()).getStatus()).isEqualTo("DISMISSED");
+        assertThat(bankReconciliationService.getReviewItems("PENDING", run.getId())).isEmpty();
+    }
+
+    /**
+     * The outcome of {@link #statement()} however many runs it took: the first two students
+     * paid in full, the last two untouched, every line counted once.
+     */
+    private void assertReconciled(BankStatementRunResponse run) {
+        assertThat(run.getLinesProcessed()).isEqualTo(7);
+        assertThat(run.getMatched()).isEqualTo(3);
+        assertThat(run.getDuplicates()).isEqualTo(1);
+        assertThat(run.getSkipped()).isEqualTo(1);
+        assertThat(run.getSentToReview()).isEqualTo(2);
+        assertThat(run.getAmountPosted()).isEqualByComparingTo("2000.00");
+
+        assertThat(feeService.getPayments(admissionNumber(0))).extracting(FeePaymentResponse::getLineNumber)
+                .containsExactly(1);
+        assertThat(feeService.getPayments(admissionNumber(1))).extracting(FeePaymentResponse::getLineNumber)
+                .containsExactlyInAnyOrder(2, 7);
+        assertThat(feeService.getPayments(admissionNumber(1)))
+                .allSatisfy(payment -> assertThat(payment.getStatementRunId()).isEqualTo(run.getId()));
+        for (int student = 0; student < 2; student++) {
+            assertThat(invoice(student).getStatus()).isEqualTo("PAID");
+            FeeAccountResponse account = account(student);
+            assertThat(account.getPaid()).isEqualByComparingTo("1000.00");
+            assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(account.getEntries()).extracting(entry -> entry.getEntryType())
+                    .containsOnly("INVOICE", "PAYMENT");
+        }
+        for (int student = 2; student < 4; student++) {
+            assertThat(invoice(student).getStatus()).isEqualTo("OPEN");
+            assertThat(account(student).getBalance()).isEqualByComparingTo("1000.00");
+        }
+        assertThat(bankReconciliationService.getReviewItems("PENDING", run.getId()))
+                .extracting(PaymentReviewItemResponse::getLineNumber).containsExactly(5, 6);
+    }
+
+    /**
+     * Seven lines against four invoices of 1,000.00: chunk one pays the first invoice by number
+     * and part of the second by admission number and skips a bank charge; chunk two repeats a
+     * reference and sends two lines to review; chunk three pays the rest of the second invoice.
+     */
+    private String statement() {
+        return "Date,Amount,Reference,Narrative\n"
+                + "2025-04-10,1000.00," + reference(1) + ",Fees " + invoiceNumber(0) + "\n"
+                + "2025-04-10,400.00," + reference(2) + ",School fee " + admissionNumber(1) + "\n"
+                + "2025-04-11,-50.00," + reference(3) + ",Bank charges\n"
+                + "2025-04-11,1000.00," + reference(1) + ",Fees " + invoiceNumber(0) + "\n"
+                + "2025-04-12,300.00," + reference(5) + ",Donation\n"
+                + "2025-04-12,1200.00," + reference(6) + ",Fees " + invoiceNumber(3) + "\n"
+                + "2025-04-14,600.00," + reference(7) + ",Balance fee " + admissionNumber(1) + "\n";
+    }
+
+    private BankStatementRunResponse reconcile(String statement) {
+        return bankReconciliationService.reconcile(
+                new ByteArrayInputStream(statement.getBytes(StandardCharsets.UTF_8)), "statement.csv", "CSV");
+    }
+
+    private static PostReviewItemRequest postTo(UUID invoiceId) {
+        PostReviewItemRequest request = new PostReviewItemRequest();
+        request.setInvoiceId(invoiceId);
+        return request;
+    }
+
+    private FeeInvoiceResponse invoice(int student) {
+        return feeService.getInvoices(uuid(fixture.studentIds().get(student)), uuid(fixture.academicYearId())).get(0);
+    }
+
+    private FeeAccountResponse account(int student) {
+        return feeService.getAccount(uuid(fixture.studentIds().get(student)), uuid(fixture.academicYearId()));
+    }
+
+    private String invoiceNumber(int student) {
+        return fixture.academicYearCode() + "-" + PERIOD + "-" + fixture.enrollmentIds().get(student);
+    }
+
+    private String admissionNumber(int student) {
+        return "ADM-" + fixture.run() + "-" + (student + 1);
+    }
+
+    private String reference(int line) {
+        return "UTR" + fixture.run().toUpperCase() + line;
+    }
+
+    /**
+     * Four students in one section, each charged 1,000.00 tuition for the period.
+     */
+    private Fixture createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("R-" + run, "Reconciliation " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 4, null));
+        Section section = persist(new Section("A-" + run, "A", null));
+        ClassSection classSection = persist(new ClassSection(gradeClass, section, year, "English"));
+        FeeStructure tuition = new FeeStructure();
+        tuition.setAcademicYear(year);
+        tuition.setGradeClass(gradeClass);
+        tuition.setFeeHead("Tuition");
+        tuition.setBillingPeriod(PERIOD);
+        tuition.setAmount(new BigDecimal("1000.00"));
+        persist(tuition);
+
+        List<Long> studentIds = new ArrayList<>();
+        List<Long> enrollmentIds = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Student student = new Student();
+            student.setAdmissionNumber("ADM-" + run + "-" + i);
+            student.setFirstName("Student " + i);
+            persist(student);
+            studentIds.add(student.getId());
+            enrollmentIds.add(persist(new Enrollment(student, classSection, year, i, "ACTIVE",
+                    LocalDate.of(2025, 4, 1))).getId());
+        }
+        return new Fixture(run, year.getId(), year.getCode(), studentIds, enrollmentIds);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static UUID uuid(Long id) {
+        return new UUID(0L, id);
+    }
+
+    private record Fixture(String run, Long academicYearId, String academicYearCode, List<Long> studentIds,
+                           List<Long> enrollmentIds) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.CreateInvoiceRunRequest;
+import com.school.academic.dto.request.RecordPaymentRequest;
+import com.school.academic.dto.response.FeeAccountResponse;
+import com.school.academic.dto.response.FeeInvoiceResponse;
+import com.school.academic.dto.response.FeeInvoiceRunResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Invoice runs and payments against the real schema, billing two enrollments per chunk so a
+ * six-student year takes three chunks.
+ */
+@TestPropertySource(properties = "academic.fees.batch-size=2")
+class FeeInvoiceRunTest extends MySqlIntegrationTest {
+
+    private static final String PERIOD = "Q1";
+    private static final BigDecimal FEE = new BigDecimal("1750.50");
+
+    @Autowired
+    private FeeService feeService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Fixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        fixture = transaction.execute(status -> createFixture());
+    }
+
+    @Test
+    @DisplayName("Should invoice every enrollment once and create nothing when the period is run again")
+    void runInvoices_Rerun_CreatesNothing() {
+        FeeInvoiceRunResponse first = feeService.runInvoices(request());
+        FeeInvoiceRunResponse second = feeService.runInvoices(request());
+
+        assertThat(first.getStatus()).isEqualTo("COMPLETED");
+        assertThat(first.getInvoicesCreated()).isEqualTo(6);
+        assertThat(first.getAmountInvoiced()).isEqualByComparingTo(FEE.multiply(BigDecimal.valueOf(6)));
+        assertThat(second.getStatus()).isEqualTo("COMPLETED");
+        assertThat(second.getInvoicesCreated()).isZero();
+        assertThat(second.getAmountInvoiced()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertBilledOnce();
+    }
+
+    @Test
+    @DisplayName("Should keep the chunks billed before a failure and complete the period on the next run")
+    void runInvoices_PartialFailureThenRerun_CompletesPeriod() {
+        // An older invoice already holds the number the fifth enrollment would get, so the third chunk fails
+        Long blockerRunId = transaction.execute(status -> insertBlockingInvoice(fixture.enrollmentIds().get(4)));
+
+        assertThatThrownBy(() -> feeService.runInvoices(request()))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("INVOICE_RUN_FAILED"));
+        FeeInvoiceRunResponse failed = feeService.getInvoiceRuns(uuid(fixture.academicYearId())).get(0);
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getInvoicesCreated()).isEqualTo(4);
+        assertThat(failed.getError()).isNotBlank();
+
+        transaction.executeWithoutResult(status -> deleteBlockingInvoice(blockerRunId));
+        FeeInvoiceRunResponse rerun = feeService.runInvoices(request());
+
+        assertThat(rerun.getStatus()).isEqualTo("COMPLETED");
+        assertThat(rerun.getInvoicesCreated()).isEqualTo(2);
+        assertBilledOnce();
+    }
+
+    @Test
+    @DisplayName("Should keep invoice and account totals in step with payments and reject an overpayment")
+    void recordPayment_TotalsMatchAndOverpaymentRejected() {
+        feeService.runInvoices(request());
+        UUID studentId = uuid(fixture.studentIds().get(0));
+        UUID yearId = uuid(fixture.academicYearId());
+        FeeInvoiceResponse invoice = feeService.getInvoices(studentId, yearId).get(0);
+
+        FeeInvoiceResponse partial = feeService.recordPayment(invoice.getId(), payment("1000.00"));
+        assertThat(partial.getStatus()).isEqualTo("PARTIAL");
+        assertThat(partial.getBalance()).isEqualByComparingTo("750.50");
+
+        assertThatThrownBy(() -> feeService.recordPayment(invoice.getId(), payment("750.51")))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("OVERPAYMENT"));
+        FeeAccountResponse account = feeService.getAccount(studentId, yearId);
+        assertThat(account.getBilled()).isEqualByComparingTo(FEE);
+        assertThat(account.getPaid()).isEqualByComparingTo("1000.00");
+        assertThat(account.getBalance()).isEqualByComparingTo("750.50");
+        assertThat(account.getEntries()).extracting(entry -> entry.getEntryType())
+                .containsExactlyInAnyOrder("INVOICE", "PAYMENT");
+
+        FeeInvoiceResponse paid = feeService.recordPayment(invoice.getId(), payment("750.50"));
+        assertThat(paid.getStatus()).isEqualTo("PAID");
+        assertThat(paid.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        account = feeService.getAccount(studentId, yearId);
+        assertThat(account.getPaid()).isEqualByComparingTo(FEE);
+        assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(feeService.getOutstanding(yearId, null)).hasSize(5);
+    }
+
+    /**
+     * Every student has exactly one invoice for the period, itemised and on the ledger once,
+     * and an account whose totals are that invoice.
+     */
+    private void assertBilledOnce() {
+        UUID yearId = uuid(fixture.academicYearId());
+        for (Long studentId : fixture.studentIds()) {
+            List<FeeInvoiceResponse> invoices = feeService.getInvoices(uuid(studentId), yearId);
+            assertThat(invoices).singleElement().satisfies(invoice -> {
+                assertThat(invoice.getAmount()).isEqualByComparingTo(FEE);
+                assertThat(feeService.getInvoice(invoice.getId()).getLines()).hasSize(2);
+            });
+            FeeAccountResponse account = feeService.getAccount(uuid(studentId), yearId);
+            assertThat(account.getBilled()).isEqualByComparingTo(FEE);
+            assertThat(account.getPaid()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(account.getBalance()).isEqualByComparingTo(FEE);
+            assertThat(account.getEntries()).singleElement()
+                    .satisfies(entry -> assertThat(entry.getEntryType()).isEqualTo("INVOICE"));
+        }
+    }
+
+    private CreateInvoiceRunRequest request() {
+        CreateInvoiceRunRequest request = new CreateInvoiceRunRequest();
+        request.setAcademicYearId(uuid(fixture.academicYearId()));
+        request.setBillingPeriod(PERIOD);
+        request.setDueDate(LocalDate.of(2025, 4, 30));
+        return request;
+    }
+
+    private static RecordPaymentRequest payment(String amount) {
+        RecordPaymentRequest request = new RecordPaymentRequest();
+        request.setAmount(new BigDecimal(amount));
+        request.setPaidOn(LocalDate.of(2025, 4, 20));
+        request.setReference("UTR-" + amount);
+        return request;
+    }
+
+    /**
+     * Six students in one section of a class charged tuition and transport for the period.
+     */
+    private Fixture createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("F-" + run, "Fees " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 4, null));
+        Section section = persist(new Section("A-" + run, "A", null));
+        ClassSection classSection = persist(new ClassSection(gradeClass, section, year, "English"));
+        persist(feeHead(year, gradeClass, "Tuition", "1500.00"));
+        persist(feeHead(year, gradeClass, "Transport", "250.50"));
+
+        List<Long> studentIds = new ArrayList<>();
+        List<Long> enrollmentIds = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Student student = new Student();
+            student.setAdmissionNumber("ADM-" + run + "-" + i);
+            student.setFirstName("Student " + i);
+            persist(student);
+            studentIds.add(student.getId());
+            enrollmentIds.add(persist(new Enrollment(student, classSection, year, i, "ACTIVE",
+                    LocalDate.of(2025, 4, 1))).getId());
+        }
+        return new Fixture(year.getId(), year.getCode(), studentIds, enrollmentIds);
+    }
+
+    private static FeeStructure feeHead(AcademicYear year, GradeClass gradeClass, String name, String amount) {
+        FeeStructure structure = new FeeStructure();
+        structure.setAcademicYear(year);
+        structure.setGradeClass(gradeClass);
+        structure.setFeeHead(name);
+        structure.setBillingPeriod(PERIOD);
+        structure.setAmount(new BigDecimal(amount));
+        return structure;
+    }
+
+    private Long insertBlockingInvoice(Long enrollmentId) {
+        entityManager.createNativeQuery("INSERT INTO academic_core.fee_invoice_run "
+                        + "(academic_year_id, billing_period, due_date, status) VALUES (:yearId, 'OLD', :dueDate, 'COMPLETED')")
+                .setParameter("yearId", fixture.academicYearId())
+                .setParameter("dueDate", LocalDate.of(2025, 3, 31))
+                .executeUpdate();
+        Long runId = ((Number) entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult()).longValue();
+        entityManager.createNativeQuery("INSERT INTO academic_core.fee_invoice (invoice_number, invoice_run_id, "
+                        + "enrollment_id, student_id, academic_year_id, class_section_id, billing_period, amount, status, "
+                        + "due_date) SELECT :number, :runId, e.id, e.student_id, e.academic_year_id, e.class_section_id, "
+                        + "'OLD', 1, 'OPEN', :dueDate FROM academic_core.enrollment e WHERE e.id = :enrollmentId")
+                .setParameter("number", fixture.academicYearCode() + "-" + PERIOD + "-" + enrollmentId)
+                .setParameter("runId", runId)
+                .setParameter("dueDate", LocalDate.of(2025, 3, 31))
+                .setParameter("enrollmentId", fixture.enrollmentIds().get(0))
+                .executeUpdate();
+        return runId;
+    }
+
+    private void deleteBlockingInvoice(Long runId) {
+        entityManager.createNativeQuery("DELETE FROM academic_core.fee_invoice WHERE invoice_run_id = :runId")
+                .setParameter("runId", runId)
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM academic_core.fee_invoice_run WHERE id = :runId")
+                .setParameter("runId", runId)
+                .executeUpdate();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static UUID uuid(Long id) {
+        return new UUID(0L, id);
+    }
+
+    private record Fixture(Long academicYearId, String academicYearCode, List<Long> studentIds,
+                           List<Long> enrollmentIds) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.MarkEntryRequest;
+import com.school.academic.dto.request.SubmitMarksRequest;
+import com.school.academic.dto.response.MarksSheetResponse;
+import com.school.academic.dto.response.StudentMarkResponse;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Marks submission against the real schema, where a subject's marks for a section are one
+ * upserted row.
+ */
+class MarksSubmissionTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private GradebookService gradebookService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should replace the marks and maximum when a subject's sheet is submitted again")
+    void submitMarks_SubmittedAgain_ReplacesSheet() {
+        Fixture fixture = new TransactionTemplate(transactionManager).execute(status -> createFixture());
+
+        gradebookService.submitMarks(fixture.examId(), fixture.classSectionId(), fixture.subjectId(),
+                request(50, entry(1, "41.5"), entry(2, "38")));
+        gradebookService.submitMarks(fixture.examId(), fixture.classSectionId(), fixture.subjectId(),
+                request(100, entry(1, "88"), absent(2)));
+
+        MarksSheetResponse sheet = gradebookService.getMarks(fixture.examId(), fixture.classSectionId(), fixture.subjectId());
+        assertThat(sheet.getMaxMarks()).isEqualTo(100);
+        assertThat(sheet.getStudents()).extracting(StudentMarkResponse::getRollNumber, StudentMarkResponse::getMarks,
+                        StudentMarkResponse::getAbsent)
+                .containsExactly(tuple(1, new BigDecimal("88.0"), false),
+                        tuple(2, null, true));
+    }
+
+    private static SubmitMarksRequest request(int maxMarks, MarkEntryRequest... entries) {
+        SubmitMarksRequest request = new SubmitMarksRequest();
+        request.setMaxMarks(maxMarks);
+        request.setMarks(List.of(entries));
+        return request;
+    }
+
+    private static MarkEntryRequest entry(int rollNumber, String marks) {
+        MarkEntryRequest entry = new MarkEntryRequest();
+        entry.setRollNumber(rollNumber);
+        entry.setMarks(new BigDecimal(marks));
+        return entry;
+    }
+
+    private static MarkEntryRequest absent(int rollNumber) {
+        MarkEntryRequest entry = new MarkEntryRequest();
+        entry.setRollNumber(rollNumber);
+        entry.setAbsent(true);
+        return entry;
+    }
+
+    /**
+     * Two students in a section whose class is taught the subject, and an exam of the year.
+     */
+    private Fixture createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("E-" + run, "Exams " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 7, null));
+        Subject subject = persist(new Subject("S-" + run, "Science " + run, "CORE", false));
+        persist(new SubjectAssignment(subject, gradeClass, year, null));
+        ClassSection section = persist(new ClassSection(gradeClass, persist(new Section("A-" + run, "A", null)), year, "English"));
+        for (int roll = 1; roll <= 2; roll++) {
+            Student student = new Student();
+            student.setAdmissionNumber("ADM-" + run + "-" + roll);
+            student.setFirstName("Student " + roll);
+            persist(student);
+            persist(new Enrollment(student, section, year, roll, "ACTIVE", LocalDate.of(2025, 4, 1)));
+        }
+        Exam exam = new Exam();
+        exam.setAcademicYear(year);
+        exam.setName("Term 1 " + run);
+        persist(exam);
+        return new Fixture(uuid(exam.getId()), uuid(section.getId()), uuid(subject.getId()));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static UUID uuid(Long id) {
+        return new UUID(0L, id);
+    }
+
+    private record Fixture(UUID examId, UUID classSectionId, UUID subjectId) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.GenerateReportCardsRequest;
+import com.school.academic.dto.response.ReportCardJobResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.ReportCardRunRepository;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Report-card jobs against the real schema: status and progress live in report_card_run,
+ * so they read the same from the table as from the service.
+ */
+@TestPropertySource(properties = "academic.report-cards.output-dir=${java.io.tmpdir}/report-card-job-test")
+class ReportCardJobTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private ReportCardService reportCardService;
+    @Autowired
+    private ReportCardRunRepository reportCardRunRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID academicYearId;
+    private UUID classSectionId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> createFixture());
+    }
+
+    @Test
+    @DisplayName("Should record a directory job's progress in the table until it completes")
+    void startDirectoryJob_RecordsProgressInTable() throws Exception {
+        ReportCardJobResponse queued = reportCardService.startDirectoryJob(request(List.of()));
+        assertThat(reportCardRunRepository.findById(queued.getJobId().getLeastSignificantBits())).isPresent();
+
+        ReportCardJobResponse done = awaitFinished(queued.getJobId());
+
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getTotal()).isEqualTo(3);
+        assertThat(done.getRendered()).isEqualTo(3);
+        assertThat(done.getFailed()).isZero();
+        assertThat(done.getStartedAt()).isNotNull();
+        assertThat(done.getFinishedAt()).isNotNull();
+        try (Stream<Path> files = Files.walk(Path.of(done.getOutputDir()))) {
+            assertThat(files.filter(file -> file.toString().endsWith(".pdf"))).hasSize(3);
+        }
+        assertThat(reportCardService.getJobs()).extracting(ReportCardJobResponse::getJobId).contains(queued.getJobId());
+    }
+
+    @Test
+    @DisplayName("Should stream a ZIP job once, for the requested sections, and report unknown jobs as not found")
+    void writeZip_StreamsOnceAndRecordsCompletion() throws Exception {
+        ReportCardJobResponse job = reportCardService.prepareZip(request(List.of(classSectionId)));
+        assertThat(job.getStatus()).isEqualTo("QUEUED");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportCardService.writeZip(job.getJobId(), out);
+
+        int entries = 0;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            while (zip.getNextEntry() != null) {
+                entries++;
+            }
+        }
+        assertThat(entries).isEqualTo(2);
+        assertThat(reportCardService.getJob(job.getJobId()).getStatus()).isEqualTo("COMPLETED");
+        assertThatThrownBy(() -> reportCardService.writeZip(job.getJobId(), new ByteArrayOutputStream()))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("REPORT_CARD_JOB_NOT_PENDING"));
+        assertThatThrownBy(() -> reportCardService.getJob(new UUID(0L, Long.MAX_VALUE)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private ReportCardJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        for (int attempt = 0; attempt < 300; attempt++) {
+            ReportCardJobResponse job = reportCardService.getJob(jobId);
+            if ("COMPLETED".equals(job.getStatus()) || "FAILED".equals(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Report card job " + jobId + " did not finish");
+    }
+
+    private GenerateReportCardsRequest request(List<UUID> classSectionIds) {
+        GenerateReportCardsRequest request = new GenerateReportCardsRequest();
+        request.setAcademicYearId(academicYearId);
+        request.setClassSectionIds(new ArrayList<>(classSectionIds));
+        return request;
+    }
+
+    /**
+     * Two students in section A and one in section B of a class.
+     */
+    private void createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("R-" + run, "Report cards " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 5, null));
+        ClassSection sectionA = persist(new ClassSection(gradeClass, persist(new Section("A-" + run, "A", null)), year, "English"));
+        ClassSection sectionB = persist(new ClassSection(gradeClass, persist(new Section("B-" + run, "B", null)), year, "English"));
+        for (int i = 1; i <= 3; i++) {
+            Student student = new Student();
+            student.setAdmissionNumber("ADM-" + run + "-" + i);
+            student.setFirstName("Student " + i);
+            persist(student);
+            persist(new Enrollment(student, i <= 2 ? sectionA : sectionB, year, i, "ACTIVE", LocalDate.of(2025, 4, 1)));
+        }
+        academicYearId = new UUID(0L, year.getId());
+        classSectionId = new UUID(0L, sectionA.getId());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,141 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.CreateStaffAssignmentRequest;
+import com.school.academic.dto.request.UpdateSubjectAssignmentRequest;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.support.MySqlIntegrationTest;
+import com.school.academic.workload.WorkloadModel;
+import com.school.academic.workload.WorkloadModels;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Teaching-load limit of staff assignments against the real schema: two assignments that each
+ * fit under the weekly maximum but not together cannot both be created, even concurrently
+ * and with a cached workload model that predates both, and a subject's load cannot be raised
+ * past what its teacher can take.
+ */
+class StaffAssignmentWorkloadTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private CurriculumService curriculumService;
+    @Autowired
+    private WorkloadModels workloadModels;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should let only one of two concurrent assignments through when together they overload the teacher")
+    void createStaffAssignment_Concurrent_OnlyOneFitsUnderLimit() throws Exception {
+        Fixture fixture = new TransactionTemplate(transactionManager).execute(status -> createFixture());
+        // Cache a model with no assignments, as a report would have done
+        workloadModels.forAcademicYear(fixture.academicYearId());
+
+        CyclicBarrier start = new CyclicBarrier(2);
+        List<CompletableFuture<String>> runs = new ArrayList<>();
+        for (Long classSectionId : fixture.classSectionIds()) {
+            runs.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await(10, TimeUnit.SECONDS);
+                    curriculumService.createStaffAssignment(request(fixture, classSectionId));
+                    return "CREATED";
+                } catch (BusinessRuleException ex) {
+                    return ex.getCode();
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }));
+        }
+
+        List<String> outcomes = new ArrayList<>();
+        for (CompletableFuture<String> run : runs) {
+            outcomes.add(run.get(30, TimeUnit.SECONDS));
+        }
+        assertThat(outcomes).containsExactlyInAnyOrder("CREATED", "STAFF_OVERLOADED");
+    }
+
+    @Test
+    @DisplayName("Should reject raising a subject's weekly periods beyond what its teacher can take")
+    void updateSubjectAssignment_RaisedLoad_OverloadRejected() {
+        Fixture fixture = new TransactionTemplate(transactionManager).execute(status -> createFixture());
+        curriculumService.createStaffAssignment(request(fixture, fixture.classSectionIds().get(0)));
+        UUID curriculumId = new UUID(0L, fixture.subjectAssignmentId());
+
+        assertThatThrownBy(() -> curriculumService.updateSubjectAssignment(curriculumId, periods(31)))
+                .isInstanceOfSatisfying(BusinessRuleException.class,
+                        ex -> assertThat(ex.getCode()).isEqualTo("STAFF_OVERLOADED"));
+        assertThat(workloadModels.build(fixture.academicYearId()).staffLoad(fixture.staffId()))
+                .get().extracting(WorkloadModel.StaffLoad::periodsPerWeek).isEqualTo(20);
+
+        assertThat(curriculumService.updateSubjectAssignment(curriculumId, periods(30)).getPeriodsPerWeek())
+                .isEqualTo(30);
+    }
+
+    private static UpdateSubjectAssignmentRequest periods(int periodsPerWeek) {
+        UpdateSubjectAssignmentRequest request = new UpdateSubjectAssignmentRequest();
+        request.setPeriodsPerWeek(periodsPerWeek);
+        return request;
+    }
+
+    private static CreateStaffAssignmentRequest request(Fixture fixture, Long classSectionId) {
+        CreateStaffAssignmentRequest request = new CreateStaffAssignmentRequest();
+        request.setStaffId(new UUID(0L, fixture.staffId()));
+        request.setSubjectId(new UUID(0L, fixture.subjectId()));
+        request.setClassSectionId(new UUID(0L, classSectionId));
+        request.setAcademicYearId(new UUID(0L, fixture.academicYearId()));
+        return request;
+    }
+
+    /**
+     * A subject taught 20 periods a week in a class with two sections, and one teacher; the
+     * default limit is 30 periods.
+     */
+    private Fixture createFixture() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear year = persist(new AcademicYear("W-" + run, "Workload " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 6, null));
+        Subject subject = persist(new Subject("M-" + run, "Mathematics " + run, "CORE", false));
+        SubjectAssignment curriculum = new SubjectAssignment(subject, gradeClass, year, null);
+        curriculum.setPeriodsPerWeek(20);
+        persist(curriculum);
+        Staff teacher = new Staff();
+        teacher.setStaffCode("T-" + run);
+        teacher.setFirstName("Teacher");
+        persist(teacher);
+
+        List<Long> classSectionIds = new ArrayList<>();
+        for (String name : List.of("A", "B")) {
+            Section section = persist(new Section(name + "-" + run, name, null));
+            classSectionIds.add(persist(new ClassSection(gradeClass, section, year, "English")).getId());
+        }
+        return new Fixture(year.getId(), subject.getId(), curriculum.getId(), teacher.getId(), classSectionIds);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private record Fixture(Long academicYearId, Long subjectId, Long subjectAssignmentId, Long staffId,
+                           List<Long> classSectionIds) {
+    }
+}
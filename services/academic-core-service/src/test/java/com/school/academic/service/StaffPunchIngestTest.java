@@ -0,0 +1,67 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.Staff;
+import com.school.academic.dto.response.PunchFileIngestResponse;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Punch files against the real schema: punches are appended once and each staff-day
+ * summary is recomputed from all of its punches.
+ */
+class StaffPunchIngestTest extends MySqlIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+    @Autowired
+    private StaffAttendanceService staffAttendanceService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should update a staff-day summary when a later file adds punches to the day")
+    void ingestPunchFile_OverlappingFiles_RecomputeDay() {
+        Staff staff = new TransactionTemplate(transactionManager).execute(status -> {
+            Staff created = new Staff();
+            created.setStaffCode("P-" + UUID.randomUUID().toString().substring(0, 8));
+            created.setFirstName("Punch");
+            entityManager.persist(created);
+            return created;
+        });
+        String code = staff.getStaffCode();
+
+        ingest(code + ",2025-07-01 08:55\n" + code + ",2025-07-01 13:00\n");
+        PunchFileIngestResponse second = ingest(code + ",2025-07-01 13:00\n" + code + ",2025-07-01 16:10\n");
+
+        assertThat(second.getInserted()).isEqualTo(1);
+        assertThat(second.getAlreadyLoaded()).isEqualTo(1);
+        assertThat(staffAttendanceService.getStaffAttendance(DAY, DAY, new UUID(0L, staff.getId())))
+                .singleElement()
+                .satisfies(day -> {
+                    assertThat(day.getFirstIn()).isEqualTo(LocalTime.of(8, 55));
+                    assertThat(day.getLastOut()).isEqualTo(LocalTime.of(16, 10));
+                    assertThat(day.getPunchCount()).isEqualTo(3);
+                    assertThat(day.getWorkedMinutes()).isEqualTo(435L);
+                });
+    }
+
+    private PunchFileIngestResponse ingest(String content) {
+        return staffAttendanceService.ingestPunchFile(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "punches.csv");
+    }
+}
@@ -0,0 +1,177 @@
+package com.school.academic.service;
+
+import com.school.academic.domain.*;
+import com.school.academic.dto.request.StudentProfileBatchRequest;
+import com.school.academic.dto.response.StudentProfileResponse;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.support.MySqlIntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Student 360 profiles against the real schema: the number of statements does not grow
+ * with the number of students, unknown ids are skipped and the batch is capped at 500 ids.
+ */
+class StudentProfileQueryTest extends MySqlIntegrationTest {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private List<UUID> studentIds;
+
+    @BeforeEach
+    void setUp() {
+        studentIds = new TransactionTemplate(transactionManager).execute(status -> createStudents(30));
+    }
+
+    @Test
+    @DisplayName("Should load one or thirty profiles with the same fixed number of statements")
+    void getStudentProfiles_AnyBatchSize_UsesFixedNumberOfStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Warm the cached active-year lookup so it does not count against the first call
+        studentService.getStudentProfiles(batch(studentIds.subList(0, 1)));
+
+        statistics.clear();
+        List<StudentProfileResponse> one = studentService.getStudentProfiles(batch(studentIds.subList(0, 1)));
+        long oneStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<StudentProfileResponse> thirty = studentService.getStudentProfiles(batch(studentIds));
+        long thirtyStatements = statistics.getPrepareStatementCount();
+
+        assertThat(one).hasSize(1);
+        assertThat(thirty).hasSize(30);
+        assertThat(thirty).allSatisfy(profile -> {
+            assertThat(profile.getGuardians()).hasSize(2);
+            assertThat(profile.getEnrollmentHistory()).hasSize(2);
+            assertThat(profile.getCurrentEnrollment()).isNotNull();
+        });
+        // Students, guardians with parents, enrollment history with class sections
+        assertThat(oneStatements).isEqualTo(3);
+        assertThat(thirtyStatements).isEqualTo(oneStatements);
+    }
+
+    @Test
+    @DisplayName("Should skip unknown ids and keep the requested order")
+    void getStudentProfiles_UnknownIds_AreSkipped() {
+        UUID unknown = new UUID(0L, Long.MAX_VALUE - 1);
+        List<UUID> requested = List.of(studentIds.get(2), unknown, studentIds.get(0), studentIds.get(2));
+
+        List<StudentProfileResponse> profiles = studentService.getStudentProfiles(batch(requested));
+
+        assertThat(profiles).extracting(profile -> profile.getStudent().getId())
+                .containsExactly(studentIds.get(2), studentIds.get(0));
+        assertThat(studentService.getStudentProfiles(batch(List.of(unknown)))).isEmpty();
+        assertThatThrownBy(() -> studentService.getStudentProfile(unknown))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should accept 500 ids and reject 501 with 400")
+    void batchEndpoint_MoreThan500Ids_IsRejected() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        mockMvc.perform(post("/api/v1/students/profiles/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(idsJson(500)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/students/profiles/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(idsJson(501)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static StudentProfileBatchRequest batch(List<UUID> ids) {
+        StudentProfileBatchRequest request = new StudentProfileBatchRequest();
+        request.setStudentIds(ids);
+        return request;
+    }
+
+    private static String idsJson(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "\"" + new UUID(0L, 1_000_000_000L + i) + "\"")
+                .collect(Collectors.joining(",", "{\"studentIds\":[", "]}"));
+    }
+
+    /**
+     * Students with two guardians each, enrolled last year and this year in sections that
+     * have a class teacher and a classroom.
+     */
+    private List<UUID> createStudents(int count) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        AcademicYear lastYear = persist(new AcademicYear("P-" + run, "Previous " + run,
+                LocalDate.of(2024, 4, 1), LocalDate.of(2025, 3, 31), false));
+        AcademicYear thisYear = persist(new AcademicYear("C-" + run, "Current " + run,
+                LocalDate.of(2025, 4, 1), LocalDate.of(2026, 3, 31), false));
+        GradeClass gradeClass = persist(new GradeClass("G-" + run, "Grade " + run, 5, null));
+        Section section = persist(new Section("S-" + run, "A", null));
+        Staff teacher = new Staff();
+        teacher.setStaffCode("T-" + run);
+        teacher.setFirstName("Teacher");
+        persist(teacher);
+        Classroom classroom = persist(new Classroom("R-" + run, "Room", 40, null, null));
+
+        ClassSection previous = new ClassSection(gradeClass, section, lastYear, "English");
+        ClassSection current = new ClassSection(gradeClass, section, thisYear, "English");
+        for (ClassSection classSection : List.of(previous, current)) {
+            classSection.setClassTeacher(teacher);
+            classSection.setClassroom(classroom);
+            persist(classSection);
+        }
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setAdmissionNumber(run + "/" + i);
+            student.setFirstName("Student " + i);
+            persist(student);
+            for (String relationship : List.of("Mother", "Father")) {
+                Parent parent = new Parent();
+                parent.setFirstName(relationship + " " + i);
+                persist(parent);
+                persist(new StudentParent(student, parent, relationship, relationship.equals("Mother")));
+            }
+            persist(new Enrollment(student, previous, lastYear, i + 1, "CLOSED", LocalDate.of(2024, 4, 1)));
+            persist(new Enrollment(student, current, thisYear, i + 1, "ACTIVE", LocalDate.of(2025, 4, 1)));
+            ids.add(new UUID(0L, student.getId()));
+        }
+        return ids;
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
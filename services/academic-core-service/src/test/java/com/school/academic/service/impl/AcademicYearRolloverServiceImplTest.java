@@ -0,0 +1,127 @@
+package com.school.academic.service.impl;
+
+import com.school.academic.cache.CacheInvalidationBus;
+import com.school.academic.cache.CacheRegion;
+import com.school.academic.domain.Staff;
+import com.school.academic.dto.request.AcademicYearRolloverRequest;
+import com.school.academic.dto.request.RolloverMappingRequest;
+import com.school.academic.dto.response.AcademicYearRolloverResponse;
+import com.school.academic.exception.BusinessRuleException;
+import com.school.academic.exception.ResourceNotFoundException;
+import com.school.academic.repository.AcademicYearRepository;
+import com.school.academic.repository.AcademicYearRolloverRepository;
+import com.school.academic.repository.ClassroomRepository;
+import com.school.academic.repository.StaffRepository;
+import com.school.academic.workload.WorkloadModel;
+import com.school.academic.workload.WorkloadModels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for rollover validation and remapping: ids are checked before
+ * any statement runs, and remappings reach the copies as old-to-new maps.
+ */
+@ExtendWith(MockitoExtension.class)
+class AcademicYearRolloverServiceImplTest {
+
+    @Mock
+    private AcademicYearRepository academicYearRepository;
+    @Mock
+    private StaffRepository staffRepository;
+    @Mock
+    private ClassroomRepository classroomRepository;
+    @Mock
+    private AcademicYearRolloverRepository rolloverRepository;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Mock
+    private WorkloadModels workloadModels;
+
+    private AcademicYearRolloverServiceImpl rolloverService;
+
+    @BeforeEach
+    void setUp() {
+        rolloverService = new AcademicYearRolloverServiceImpl(academicYearRepository, staffRepository,
+                classroomRepository, rolloverRepository, cacheInvalidationBus, workloadModels);
+        lenient().when(workloadModels.build(anyLong())).thenReturn(WorkloadModel.build(2L, 30, List.of(), List.of()));
+    }
+
+    @Test
+    @DisplayName("Staff remappings reach the class section and staff assignment copies; caches are bumped")
+    void rolloverWithStaffMappings() {
+        when(academicYearRepository.existsById(anyLong())).thenReturn(true);
+        when(staffRepository.findAllById(Set.of(3L))).thenReturn(List.of(new Staff()));
+        when(rolloverRepository.countRows(anyString(), eq(1L))).thenReturn(4L);
+        when(rolloverRepository.copyClassSections(eq(1L), eq(2L), anyMap(), anyMap(), anyString())).thenReturn(2);
+        when(rolloverRepository.copySubjectAssignments(eq(1L), eq(2L), anyString())).thenReturn(4);
+        when(rolloverRepository.copyStaffAssignments(eq(1L), eq(2L), anyMap(), anyString())).thenReturn(1);
+
+        AcademicYearRolloverRequest request = request(1L,
+                new RolloverMappingRequest(id(7L), id(3L)),
+                new RolloverMappingRequest(id(8L), null));
+        AcademicYearRolloverResponse response = rolloverService.rollover(id(2L), request);
+
+        Map<Long, Long> expected = new HashMap<>();
+        expected.put(7L, 3L);
+        expected.put(8L, null);
+        verify(rolloverRepository).copyClassSections(eq(1L), eq(2L), eq(expected), eq(Map.of()), anyString());
+        verify(rolloverRepository).copyStaffAssignments(eq(1L), eq(2L), eq(expected), anyString());
+        verify(cacheInvalidationBus).bump(CacheRegion.STAFF_ASSIGNMENTS);
+
+        assertThat(response.getClassSections().getCreatedCount()).isEqualTo(2);
+        assertThat(response.getClassSections().getSkippedCount()).isEqualTo(2);
+        assertThat(response.getStaffAssignments().getSkippedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Rolling a year into itself is rejected")
+    void sameYear() {
+        assertThatThrownBy(() -> rolloverService.rollover(id(1L), request(1L)))
+                .isInstanceOf(BusinessRuleException.class);
+        verifyNoInteractions(rolloverRepository);
+    }
+
+    @Test
+    @DisplayName("A staff member mapped twice or to unknown staff is rejected before copying")
+    void invalidMappings() {
+        when(academicYearRepository.existsById(anyLong())).thenReturn(true);
+
+        assertThatThrownBy(() -> rolloverService.rollover(id(2L), request(1L,
+                new RolloverMappingRequest(id(7L), id(3L)),
+                new RolloverMappingRequest(id(7L), id(4L)))))
+                .isInstanceOf(BusinessRuleException.class);
+
+        when(staffRepository.findAllById(Set.of(3L))).thenReturn(List.of());
+        assertThatThrownBy(() -> rolloverService.rollover(id(2L), request(1L,
+                new RolloverMappingRequest(id(7L), id(3L)))))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(rolloverRepository);
+    }
+
+    private static AcademicYearRolloverRequest request(long sourceYearId, RolloverMappingRequest... staffMappings) {
+        AcademicYearRolloverRequest request = new AcademicYearRolloverRequest();
+        request.setSourceAcademicYearId(id(sourceYearId));
+        request.setStaffMappings(List.of(staffMappings));
+        return request;
+    }
+
+    private static UUID id(long id) {
+        return new UUID(0L, id);
+    }
+}
@@ -0,0 +1,36 @@
+package com.school.academic.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for StaffField sparse fieldset parsing.
+ */
+class StaffFieldTest {
+
+    @Test
+    @DisplayName("Should always include id and map API names to entity attributes")
+    void parse_SelectedFields() {
+        assertThat(StaffField.parse("firstName, employeeId,designation"))
+                .containsExactly(StaffField.ID, StaffField.FIRST_NAME, StaffField.EMPLOYEE_ID, StaffField.DESIGNATION);
+        assertThat(StaffField.EMPLOYEE_ID.getAttribute()).isEqualTo("staffCode");
+    }
+
+    @Test
+    @DisplayName("Should select every field when fields is blank")
+    void parse_Blank() {
+        assertThat(StaffField.parse(null)).containsExactlyInAnyOrder(StaffField.values());
+        assertThat(StaffField.parse(" ")).hasSize(StaffField.values().length);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields")
+    void parse_UnknownField() {
+        assertThatThrownBy(() -> StaffField.parse("id,salary"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("salary");
+    }
+}
@@ -0,0 +1,68 @@
+package com.school.academic.support;
+
+import com.school.academic.AcademicCoreServiceApplication;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Base class for tests that need the real schema: boots the application against MySQL with
+ * the Flyway migrations applied and Hibernate validating the entities against them.
+ *
+ * The database is a MySQL 8 Testcontainer shared by every test class in the JVM. To run
+ * against an existing server instead, pass {@code -Dit.db.url=jdbc:mysql://host:3306/academic_core}
+ * (plus {@code it.db.username} / {@code it.db.password}). Without Docker or that property the
+ * tests are skipped.
+ */
+@SpringBootTest(classes = AcademicCoreServiceApplication.class, properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.school.academic=INFO"
+})
+public abstract class MySqlIntegrationTest {
+
+    private static final String URL_PARAMS = "useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC"
+            + "&rewriteBatchedStatements=true";
+
+    private static MySQLContainer<?> mysql;
+
+    @BeforeAll
+    static void requireDatabase() {
+        // Runs before the application context is loaded, so no container is started without Docker
+        Assumptions.assumeTrue(System.getProperty("it.db.url") != null
+                || DockerClientFactory.instance().isDockerAvailable(), "No Docker and no it.db.url");
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String url = System.getProperty("it.db.url");
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url + (url.contains("?") ? "&" : "?") + URL_PARAMS);
+            registry.add("spring.datasource.username", () -> System.getProperty("it.db.username", "root"));
+            registry.add("spring.datasource.password", () -> System.getProperty("it.db.password", ""));
+            return;
+        }
+        MySQLContainer<?> container = container();
+        registry.add("spring.datasource.url", () -> container.getJdbcUrl() + "?" + URL_PARAMS);
+        registry.add("spring.datasource.username", container::getUsername);
+        registry.add("spring.datasource.password", container::getPassword);
+    }
+
+    private static synchronized MySQLContainer<?> container() {
+        if (mysql == null) {
+            mysql = new MySQLContainer<>("mysql:8.0.36")
+                    .withDatabaseName("academic_core")
+                    .withUsername("root")
+                    .withPassword("test");
+            // Stopped by the Testcontainers reaper when the JVM exits
+            mysql.start();
+        }
+        return mysql;
+    }
+}
@@ -0,0 +1,112 @@
+package com.school.academic.timetable;
+
+import com.school.academic.timetable.TimetableProblem.Lesson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TimetableSolver.
+ */
+class TimetableSolverTest {
+
+    private final TimetableSolver solver = new TimetableSolver(2, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("Should place every lesson without teacher, section or room clashes")
+    void solve_ProducesClashFreeTimetable() {
+        TimetableProblem problem = schoolWeek();
+
+        Optional<TimetableSolution> solution = solver.solve(problem);
+
+        assertThat(solution).isPresent();
+        assertClashFree(problem, solution.get());
+    }
+
+    @Test
+    @DisplayName("Should keep previous placements that still fit when re-solving")
+    void resolve_KeepsUnaffectedPlacements() {
+        TimetableProblem problem = schoolWeek();
+        TimetableSolution previous = solver.solve(problem).orElseThrow();
+        int[] previousSlots = previous.slots().clone();
+        int[] previousRooms = previous.rooms().clone();
+        // Lesson 0 lost its slot (e.g. the week changed); everything else is still valid
+        previousSlots[0] = -1;
+        previousRooms[0] = -1;
+
+        TimetableSolution resolved = solver.resolve(problem, previousSlots, previousRooms).orElseThrow();
+
+        assertClashFree(problem, resolved);
+        int kept = 0;
+        for (int i = 1; i < previousSlots.length; i++) {
+            if (resolved.slots()[i] == previousSlots[i] && resolved.rooms()[i] == previousRooms[i]) {
+                kept++;
+            }
+        }
+        assertThat(kept).isGreaterThanOrEqualTo(previousSlots.length / 2);
+    }
+
+    @Test
+    @DisplayName("Should give up when a teacher has more periods than free slots allow")
+    void solve_ReturnsEmptyWhenInfeasible() {
+        // Two sections share one teacher and one room, 3 periods each in a 5-slot week
+        List<Lesson> lessons = new ArrayList<>();
+        for (int section = 0; section < 2; section++) {
+            for (int p = 0; p < 3; p++) {
+                lessons.add(new Lesson(0, section, section, new int[]{0}));
+            }
+        }
+        TimetableProblem problem = new TimetableProblem(1, 5, 1, 2, 1, 2, lessons);
+
+        Optional<TimetableSolution> solution = new TimetableSolver(1, Duration.ofMillis(300)).solve(problem);
+
+        assertThat(solution).isEmpty();
+    }
+
+    /**
+     * Five days of six periods; four sections with their own rooms, a shared lab and five teachers.
+     */
+    private static TimetableProblem schoolWeek() {
+        List<Lesson> lessons = new ArrayList<>();
+        int unit = 0;
+        for (int section = 0; section < 4; section++) {
+            int home = section;
+            int[][] subjects = {{0, 6}, {1, 6}, {2, 5}, {3, 5}};
+            for (int[] subject : subjects) {
+                int teacher = (subject[0] + section) % 4;
+                for (int p = 0; p < subject[1]; p++) {
+                    lessons.add(new Lesson(teacher, section, unit, new int[]{home}));
+                }
+                unit++;
+            }
+            // Science practicals in the shared lab with the lab teacher
+            for (int p = 0; p < 2; p++) {
+                lessons.add(new Lesson(4, section, unit, new int[]{4}));
+            }
+            unit++;
+        }
+        return new TimetableProblem(5, 6, 5, 4, 5, unit, lessons);
+    }
+
+    private static void assertClashFree(TimetableProblem problem, TimetableSolution solution) {
+        Set<String> taken = new HashSet<>();
+        for (int i = 0; i < problem.lessons().size(); i++) {
+            Lesson lesson = problem.lessons().get(i);
+            int slot = solution.slots()[i];
+            int room = solution.rooms()[i];
+            assertThat(slot).isBetween(0, problem.slotCount() - 1);
+            assertThat(lesson.rooms()).contains(room);
+            assertThat(taken.add("teacher " + lesson.teacher() + "@" + slot)).isTrue();
+            assertThat(taken.add("section " + lesson.section() + "@" + slot)).isTrue();
+            assertThat(taken.add("room " + room + "@" + slot)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.school.academic.workload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for WorkloadModel.
+ */
+class WorkloadModelTest {
+
+    // [classSectionId, className, sectionName, classTeacherId, firstName, lastName, subjectId, subjectName, periods, sectionSpecific]
+    private static final List<Object[]> CURRICULUM = List.of(
+            new Object[]{1L, "Grade 5", "A", 100L, "Asha", "Rao", 10L, "Maths", 7, false},
+            new Object[]{1L, "Grade 5", "A", 100L, "Asha", "Rao", 11L, "Science", 5, false},
+            new Object[]{1L, "Grade 5", "A", 100L, "Asha", "Rao", 11L, "Science", 6, true},
+            new Object[]{2L, "Grade 5", "B", 101L, "Ravi", null, 10L, "Maths", 7, false},
+            new Object[]{2L, "Grade 5", "B", 101L, "Ravi", null, 11L, "Science", 5, false});
+
+    // [staffId, firstName, lastName, staffCode, classSectionId, subjectId, subjectName]
+    private static final List<Object[]> ASSIGNMENTS = List.of(
+            new Object[]{100L, "Asha", "Rao", "T100", 1L, 10L, "Maths"},
+            new Object[]{102L, "Meera", null, "T102", 1L, 10L, "Maths"},
+            new Object[]{102L, "Meera", null, "T102", 1L, 11L, "Science"},
+            new Object[]{102L, "Meera", null, "T102", 2L, 10L, "Maths"});
+
+    private final WorkloadModel model = WorkloadModel.build(9L, 16, CURRICULUM, ASSIGNMENTS);
+
+    @Test
+    @DisplayName("Should split shared subjects round-robin and flag staff over the limit")
+    void build_SharesPeriodsAndFlagsOverload() {
+        assertThat(model.staffLoad(100L)).get().extracting(WorkloadModel.StaffLoad::periodsPerWeek).isEqualTo(4);
+        // 3 of Maths in 5A, 6 of section-specific Science in 5A, 7 of Maths in 5B
+        assertThat(model.staffLoad(102L)).get().extracting(WorkloadModel.StaffLoad::periodsPerWeek).isEqualTo(16);
+        assertThat(model.staffLoads()).extracting(WorkloadModel.StaffLoad::staffId).containsExactly(102L, 100L);
+        assertThat(model.overloadedStaff()).isEmpty();
+        assertThat(model.projectedPeriods(102L, 2L, 11L)).isEqualTo(21);
+        assertThat(model.projectedPeriods(100L, 1L, 10L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should flag only staff whose load rose above the limit since an earlier model")
+    void overloadedSince_OnlyRaisedLoads() {
+        // Maths goes from 7 to 9 periods in both sections: Meera 4 + 6 + 9, Asha 5
+        List<Object[]> raised = CURRICULUM.stream()
+                .map(row -> row[6].equals(10L) ? new Object[]{row[0], row[1], row[2], row[3], row[4], row[5],
+                        row[6], row[7], 9, row[9]} : row)
+                .toList();
+        WorkloadModel after = WorkloadModel.build(9L, 16, raised, ASSIGNMENTS);
+
+        assertThat(after.overloadedSince(model)).extracting(WorkloadModel.StaffLoad::staffId).containsExactly(102L);
+        assertThat(model.overloadedSince(after)).isEmpty();
+        // Still over the limit, but no higher than before
+        assertThat(after.overloadedSince(after)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report uncovered subjects and class teachers without a subject in their section")
+    void build_ReportsGaps() {
+        assertThat(model.coverageGaps())
+                .extracting(gap -> gap.section().name() + " " + gap.requirement().subjectName())
+                .containsExactly("Grade 5 - B Science");
+        assertThat(model.idleClassTeachers())
+                .extracting(WorkloadModel.Section::classTeacherName)
+                .containsExactly("Ravi");
+    }
+}